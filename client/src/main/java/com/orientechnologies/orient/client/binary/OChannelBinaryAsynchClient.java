@@ -28,6 +28,7 @@ import com.orientechnologies.orient.client.remote.OStorageRemoteNodeSession;
 import com.orientechnologies.orient.client.remote.OStorageRemoteSession;
 import com.orientechnologies.orient.client.remote.message.OError37Response;
 import com.orientechnologies.orient.core.OConstants;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.enterprise.channel.OSocketFactory;
@@ -48,6 +49,7 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 异步通信类
@@ -62,6 +64,22 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   private volatile long lastUse;
   private volatile boolean inUse;
 
+  // MULTIPLEXING: MANY THREADS SEND THEIR REQUESTS ON THE CHANNEL, THE THREAD THAT READS A RESPONSE
+  // HEADER HANDS THE STREAM OVER TO THE THREAD THAT SENT THE REQUEST WITH THAT ID
+  private static final int NO_REQUEST = -1;
+  private final boolean multiplexed;
+  private final int responseTimeout;
+  private final AtomicInteger nextRequestId = new AtomicInteger();
+  private final AtomicInteger users = new AtomicInteger();
+  private final ThreadLocal<Integer> sentRequest = new ThreadLocal<>();
+  private final Object responseMonitor = new Object();
+  private boolean readingHeader;
+  private int streamOwner = NO_REQUEST;
+  private Thread streamOwnerThread;
+  private boolean streamOwnerResponseRead;
+  private byte streamOwnerStatus;
+  private int streamOwnerSessionId;
+
   /*
   连接对象构造方法，socket连接服务器，写入相应信息进数据流
    */
@@ -71,11 +89,26 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
       final OContextConfiguration iConfig,
       final int iProtocolVersion)
       throws IOException {
+    this(remoteHost, remotePort, iConfig, iProtocolVersion, false);
+  }
+
+  /**
+   * @param multiplex if true asks the server to accept many concurrent requests on this channel,
+   *     see {@link #isMultiplexed()}
+   */
+  public OChannelBinaryAsynchClient(
+      final String remoteHost,
+      final int remotePort,
+      final OContextConfiguration iConfig,
+      final int iProtocolVersion,
+      final boolean multiplex)
+      throws IOException {
     super(OSocketFactory.instance(iConfig).createSocket(), iConfig);
     try {
 
       serverURL = remoteHost + ":" + remotePort;
       socketTimeout = iConfig.getValueAsInteger(OGlobalConfiguration.NETWORK_SOCKET_TIMEOUT);
+      responseTimeout = iConfig.getValueAsInteger(OGlobalConfiguration.NETWORK_REQUEST_TIMEOUT);
 
       try {
         socket.connect(new InetSocketAddress(remoteHost, remotePort), getSocketTimeout());
@@ -104,7 +137,29 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
         writeString(OConstants.getVersion());
         writeByte(OChannelBinaryProtocol.ENCODING_DEFAULT);
         writeByte(OChannelBinaryProtocol.ERROR_MESSAGE_JAVA);
-        flush();
+        if (iProtocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_39
+            && srvProtocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_39) {
+          final boolean negotiateCompression =
+              iProtocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_42
+                  && srvProtocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_42;
+          writeByte((byte) (multiplex ? 1 : 0));
+          if (negotiateCompression)
+            writeString(iConfig.getValueAsString(OGlobalConfiguration.NETWORK_BINARY_COMPRESSION));
+          flush();
+          multiplexed = readByte() == 1;
+          if (negotiateCompression) {
+            final String compression = readString();
+            if (compression != null && !compression.isEmpty())
+              // FROM NOW ON BOTH THE PEERS COMPRESS THE DATA THEY SEND
+              enableCompression(
+                  OCompressionFactory.INSTANCE.getCompression(compression, null),
+                  iConfig.getValueAsInteger(
+                      OGlobalConfiguration.NETWORK_BINARY_COMPRESSION_THRESHOLD));
+          }
+        } else {
+          flush();
+          multiplexed = false;
+        }
       } catch (IOException e) {
         throw new ONetworkProtocolException(
             "Cannot read protocol version from remote server "
@@ -182,18 +237,30 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   public byte[] beginResponse(final int iRequesterId, final long iTimeout, final boolean token)
       throws IOException {
     try {
-      // WAIT FOR THE RESPONSE
-      if (iTimeout <= 0) acquireReadLock();
-
-      if (!isConnected()) {
-        releaseReadLock();
-        throw new IOException("Channel is closed");
+      if (multiplexed) {
+        Integer requestId = sentRequest.get();
+        sentRequest.remove();
+        if (requestId == null)
+          throw new IllegalStateException(
+              "No request sent by the current thread on channel " + getServerURL());
+        // WAIT FOR THE STREAM TO BE POSITIONED ON THE RESPONSE
+        awaitResponse(requestId);
+      } else {
+        // WAIT FOR THE RESPONSE
+        if (iTimeout <= 0) acquireReadLock();
+
+        if (!isConnected()) {
+          releaseReadLock();
+          throw new IOException("Channel is closed");
+        }
       }
 
       try {
-        setWaitResponseTimeout();
-        currentStatus = readByte();
-        currentSessionId = readInt();
+        if (!multiplexed) {
+          setWaitResponseTimeout();
+          currentStatus = readByte();
+          currentSessionId = readInt();
+        }
 
         if (debug)
           OLogManager.instance()
@@ -218,7 +285,15 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
       else tokenBytes = null;
 
       currentMessage = readByte();
-      handleStatus(currentStatus, currentSessionId);
+      if (multiplexed && currentStatus == OChannelBinaryProtocol.RESPONSE_STATUS_ERROR) {
+        // THE ERROR IS READ COMPLETELY BEFORE BEING THROWN
+        try {
+          handleStatus(currentStatus, currentSessionId);
+        } catch (RuntimeException e) {
+          responseRead();
+          throw e;
+        }
+      } else handleStatus(currentStatus, currentSessionId);
       return tokenBytes;
     } catch (OLockException e) {
       Thread.currentThread().interrupt();
@@ -232,6 +307,10 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
    *结束响应服务端，释放读取锁
    */
   public void endResponse() throws IOException {
+    if (multiplexed) {
+      releaseStream();
+      return;
+    }
     // WAKE UP ALL THE WAITING THREADS
     try {
       releaseReadLock();
@@ -242,6 +321,127 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     }
   }
 
+  /**
+   * Waits until the stream is positioned on the response of the request, reading the headers of the
+   * responses when no other thread is reading. The header of a response to another request is left
+   * to the thread that sent it, that reads the rest of the response and releases the stream.
+   *
+   * <p>If the response can't be awaited, because of timeout, interruption or failure on reading a
+   * header, the channel is closed: the response would be left unread on the stream, and all the
+   * following responses could not be read anymore.
+   */
+  private void awaitResponse(final int requestId) throws IOException {
+    final long deadline = responseTimeout > 0 ? System.currentTimeMillis() + responseTimeout : 0;
+    while (true) {
+      synchronized (responseMonitor) {
+        while (streamOwner != requestId && (streamOwner != NO_REQUEST || readingHeader)) {
+          if (!isConnected()) throw new IOException("Channel is closed");
+          long wait = 0;
+          if (deadline > 0) {
+            wait = deadline - System.currentTimeMillis();
+            if (wait <= 0) {
+              close();
+              throw new IOException(
+                  "Timeout on waiting the response of request "
+                      + requestId
+                      + " from "
+                      + getServerURL());
+            }
+          }
+          try {
+            responseMonitor.wait(wait);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IOException("Interrupted while waiting the response of request " + requestId);
+          }
+        }
+        if (streamOwner == requestId) {
+          streamOwnerThread = Thread.currentThread();
+          streamOwnerResponseRead = false;
+          currentStatus = streamOwnerStatus;
+          currentSessionId = streamOwnerSessionId;
+          return;
+        }
+        readingHeader = true;
+      }
+
+      final byte status;
+      final int responseRequestId;
+      final int sessionId;
+      try {
+        setWaitResponseTimeout();
+        status = readByte();
+        responseRequestId = readInt();
+        sessionId = readInt();
+      } catch (IOException | RuntimeException e) {
+        synchronized (responseMonitor) {
+          readingHeader = false;
+        }
+        close();
+        throw e;
+      } finally {
+        setReadResponseTimeout();
+      }
+
+      if (debug)
+        OLogManager.instance()
+            .debug(
+                this,
+                "%s - Read response of request %d: %d-%d",
+                socket.getLocalAddress(),
+                responseRequestId,
+                (int) status,
+                sessionId);
+
+      synchronized (responseMonitor) {
+        readingHeader = false;
+        streamOwner = responseRequestId;
+        streamOwnerStatus = status;
+        streamOwnerSessionId = sessionId;
+        responseMonitor.notifyAll();
+      }
+    }
+  }
+
+  /** Releases the stream after the response has been read, so the next header can be read */
+  private void releaseStream() {
+    synchronized (responseMonitor) {
+      if (streamOwnerThread == Thread.currentThread()) {
+        streamOwnerThread = null;
+        streamOwner = NO_REQUEST;
+        responseMonitor.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Marks the response read by the current thread as completely read, so it is not aborted by
+   * {@link #abortResponse()}.
+   */
+  public void responseRead() {
+    if (multiplexed) {
+      synchronized (responseMonitor) {
+        if (streamOwnerThread == Thread.currentThread()) streamOwnerResponseRead = true;
+      }
+    }
+  }
+
+  /**
+   * Called when reading a response failed, before {@link #endResponse()}. On a multiplexed channel
+   * the rest of the response can't be skipped, so the channel is closed unless the response was
+   * completely read: the threads waiting for the other responses are woken up and fail, and the
+   * channel is not shared anymore.
+   */
+  public void abortResponse() {
+    if (!multiplexed) return;
+    final boolean partiallyRead;
+    synchronized (responseMonitor) {
+      partiallyRead = streamOwnerThread == Thread.currentThread() && !streamOwnerResponseRead;
+    }
+    if (partiallyRead) close();
+  }
+
   /**
    * 结束客户端请求，清空缓冲区数据，释放写入锁
    */
@@ -260,6 +460,12 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     } catch (Exception e) {
       // IGNORE IT
     }
+    if (multiplexed) {
+      // WAKE UP THE THREADS WAITING FOR A RESPONSE
+      synchronized (responseMonitor) {
+        responseMonitor.notifyAll();
+      }
+    }
   }
 
   /**
@@ -302,6 +508,11 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   }
 
   public boolean tryLock() {
+    if (multiplexed) {
+      // THE CHANNEL IS SHARED: WAIT FOR THE OTHER THREADS TO FINISH WRITING THEIR REQUESTS
+      acquireWriteLock();
+      return true;
+    }
     return getLockWrite().tryAcquireLock();
   }
 
@@ -424,23 +635,58 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     }
   }
 
-  public void beginRequest(final byte iCommand, final OStorageRemoteSession session)
+  public int beginRequest(final byte iCommand, final OStorageRemoteSession session)
       throws IOException {
     final OStorageRemoteNodeSession nodeSession = session.getServerSession(getServerURL());
-    beginRequest(iCommand, nodeSession);
+    return beginRequest(iCommand, nodeSession);
   }
 
   /**
    *开始客户端请求，将sessionID、命令、token写入输出流
    */
-  public void beginRequest(byte iCommand, OStorageRemoteNodeSession nodeSession)
+  public int beginRequest(byte iCommand, OStorageRemoteNodeSession nodeSession)
       throws IOException {
     if (nodeSession == null)
       throw new OIOException("Invalid session for URL '" + getServerURL() + "'");
 
+    return beginRequest(iCommand, nodeSession.getSessionId(), nodeSession.getToken());
+  }
+
+  /**
+   * Writes the header of a request
+   *
+   * @return the id of the request on a multiplexed channel, the response to the request is read by
+   *     the same thread unless it is passed to {@link #expectResponse(int)}
+   */
+  public int beginRequest(byte iCommand, int sessionId, byte[] token) throws IOException {
     writeByte(iCommand);
-    writeInt(nodeSession.getSessionId());
-    writeBytes(nodeSession.getToken());
+    int requestId = NO_REQUEST;
+    if (multiplexed) {
+      requestId = nextRequestId.updateAndGet(id -> id == Integer.MAX_VALUE ? 0 : id + 1);
+      writeInt(requestId);
+      sentRequest.set(requestId);
+    }
+    writeInt(sessionId);
+    writeBytes(token);
+    return requestId;
+  }
+
+  /**
+   * On a multiplexed channel binds the response of a request to the current thread, that will be
+   * the one reading it
+   *
+   * @param requestId the id returned by {@link #beginRequest(byte, int, byte[])}
+   */
+  public void expectResponse(int requestId) {
+    if (multiplexed) sentRequest.set(requestId);
+  }
+
+  /**
+   * @return true if the channel is shared by many threads, that send requests tagged by id and
+   *     receive the responses in any order
+   */
+  public boolean isMultiplexed() {
+    return multiplexed;
   }
 
   public int getSocketTimeout() {
@@ -462,14 +708,16 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   public void markReturned() {
     markLastUse();
     inUse = false;
+    if (multiplexed) users.decrementAndGet();
   }
 
   public void markInUse() {
     markLastUse();
     inUse = false;
+    if (multiplexed) users.incrementAndGet();
   }
 
   public boolean isInUse() {
-    return inUse;
+    return inUse || users.get() > 0;
   }
 }
@@ -90,25 +90,11 @@ public class ORemoteConnectionManager {
 
     ORemoteConnectionPool pool = connections.get(iServerURL);
     if (pool == null) {
-      int maxPool =
-          clientConfiguration.getValueAsInteger(OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL);
-
       if (clientConfiguration != null) {
-        final Object max =
-            clientConfiguration.getValue(OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL);
-        if (max != null) maxPool = Integer.parseInt(max.toString());
-
         final Object netLockTimeout = clientConfiguration.getValue(NETWORK_LOCK_TIMEOUT);
         if (netLockTimeout != null) localTimeout = Integer.parseInt(netLockTimeout.toString());
       }
-
-      pool = new ORemoteConnectionPool(maxPool);
-      final ORemoteConnectionPool prev = connections.putIfAbsent(iServerURL, pool);
-      if (prev != null) {
-        // ALREADY PRESENT, DESTROY IT AND GET THE ALREADY EXISTENT OBJ
-        pool.getPool().close();
-        pool = prev;
-      }
+      pool = getOrCreatePool(iServerURL, clientConfiguration);
     }
 
     try {
@@ -128,10 +114,59 @@ public class ORemoteConnectionManager {
     return null;
   }
 
+  /**
+   * Acquires the channel shared by all the requests to a server, see {@link
+   * OGlobalConfiguration#CLIENT_CHANNEL_MULTIPLEXING}. The channel is released with {@link
+   * #release(OChannelBinaryAsynchClient)} like the other channels, but it is never exclusive.
+   *
+   * @return the shared channel, or null if multiplexing is disabled or not supported by the server
+   */
+  public OChannelBinaryAsynchClient acquireMultiplexed(
+      String iServerURL, final OContextConfiguration clientConfiguration) {
+    if (clientConfiguration == null
+        || !clientConfiguration.getValueAsBoolean(
+            OGlobalConfiguration.CLIENT_CHANNEL_MULTIPLEXING)) {
+      return null;
+    }
+
+    ORemoteConnectionPool pool = connections.get(iServerURL);
+    if (pool == null) {
+      pool = getOrCreatePool(iServerURL, clientConfiguration);
+    }
+
+    OChannelBinaryAsynchClient ret = pool.acquireMultiplexed(iServerURL, clientConfiguration);
+    if (ret != null) ret.markInUse();
+    return ret;
+  }
+
+  private ORemoteConnectionPool getOrCreatePool(
+      String iServerURL, final OContextConfiguration clientConfiguration) {
+    int maxPool = OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL.getValueAsInteger();
+
+    if (clientConfiguration != null) {
+      final Object max = clientConfiguration.getValue(OGlobalConfiguration.CLIENT_CHANNEL_MAX_POOL);
+      if (max != null) maxPool = Integer.parseInt(max.toString());
+    }
+
+    ORemoteConnectionPool pool = new ORemoteConnectionPool(maxPool);
+    final ORemoteConnectionPool prev = connections.putIfAbsent(iServerURL, pool);
+    if (prev != null) {
+      // ALREADY PRESENT, DESTROY IT AND GET THE ALREADY EXISTENT OBJ
+      pool.getPool().close();
+      pool = prev;
+    }
+    return pool;
+  }
+
   public void release(final OChannelBinaryAsynchClient conn) {
     if (conn == null) return;
 
     conn.markReturned();
+    if (conn.isMultiplexed()) {
+      // SHARED CHANNEL: IT IS NEVER RETURNED TO THE POOL
+      if (!conn.isConnected()) remove(conn);
+      return;
+    }
     final ORemoteConnectionPool pool = connections.get(conn.getServerURL());
     if (pool != null) {
       if (!conn.isConnected()) {
@@ -154,6 +189,17 @@ public class ORemoteConnectionManager {
       throw new IllegalStateException(
           "Connection cannot be released because the pool doesn't exist anymore");
 
+    if (conn.isMultiplexed()) {
+      // OTHER THREADS COULD BE WAITING FOR A RESPONSE: CLOSING THE CHANNEL WAKES THEM UP
+      pool.removeMultiplexed(conn);
+      try {
+        conn.close();
+      } catch (Exception e) {
+        OLogManager.instance().debug(this, "Cannot close connection", e);
+      }
+      return;
+    }
+
     pool.getPool().remove(conn);
 
     try {
@@ -218,7 +264,7 @@ public class ORemoteConnectionManager {
       } catch (Exception e) {
         OLogManager.instance().debug(this, "Cannot close binary channel", e);
       }
-    pool.getPool().close();
+    pool.close();
   }
 
   public ORemoteConnectionPool getPool(String url) {
@@ -14,6 +14,9 @@ public class ORemoteConnectionPool
     implements OResourcePoolListener<String, OChannelBinaryAsynchClient> {
 
   private OResourcePool<String, OChannelBinaryAsynchClient> pool;
+  // CHANNEL SHARED BY ALL THE REQUESTS IF THE SERVER SUPPORTS MULTIPLEXING
+  private volatile OChannelBinaryAsynchClient multiplexed;
+  private volatile boolean multiplexingUnsupported;
 
   public ORemoteConnectionPool(int iMaxResources) {
     pool = new OResourcePool<>(iMaxResources, this);
@@ -21,6 +24,12 @@ public class ORemoteConnectionPool
 
   protected OChannelBinaryAsynchClient createNetworkConnection(
       String serverURL, final OContextConfiguration clientConfiguration) throws OIOException {
+    return createNetworkConnection(serverURL, clientConfiguration, false);
+  }
+
+  protected OChannelBinaryAsynchClient createNetworkConnection(
+      String serverURL, final OContextConfiguration clientConfiguration, boolean multiplex)
+      throws OIOException {
     if (serverURL == null) throw new IllegalArgumentException("server url is null");
 
     // TRY WITH CURRENT URL IF ANY
@@ -36,7 +45,8 @@ public class ORemoteConnectionPool
               remoteHost,
               remotePort,
               clientConfiguration,
-              OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION);
+              OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION,
+              multiplex);
 
       return ch;
 
@@ -81,11 +91,63 @@ public class ORemoteConnectionPool
     return pool.getResource(iServerURL, timeout, clientConfiguration);
   }
 
+  /**
+   * @return the channel shared by all the requests to the server, or null if the server does not
+   *     support multiplexing
+   */
+  public OChannelBinaryAsynchClient acquireMultiplexed(
+      final String iServerURL, final OContextConfiguration clientConfiguration) {
+    if (multiplexingUnsupported) return null;
+
+    OChannelBinaryAsynchClient channel = multiplexed;
+    if (channel == null || !channel.isConnected()) {
+      synchronized (this) {
+        channel = multiplexed;
+        if (channel == null || !channel.isConnected()) {
+          channel = createNetworkConnection(iServerURL, clientConfiguration, true);
+          if (!channel.isMultiplexed()) {
+            OLogManager.instance()
+                .debug(
+                    this,
+                    "Server %s does not support multiplexing, using a channel per request",
+                    iServerURL);
+            multiplexingUnsupported = true;
+            channel.close();
+            return null;
+          }
+          multiplexed = channel;
+        }
+      }
+    }
+    return channel;
+  }
+
+  /** Discards the shared channel, the next request will open a new one */
+  public synchronized void removeMultiplexed(final OChannelBinaryAsynchClient channel) {
+    if (multiplexed == channel) multiplexed = null;
+  }
+
   public void checkIdle(long timeout) {
     for (OChannelBinaryAsynchClient resource : pool.getResources()) {
       if (!resource.isInUse() && resource.getLastUse() + timeout < System.currentTimeMillis()) {
         resource.close();
       }
     }
+    final OChannelBinaryAsynchClient channel = multiplexed;
+    if (channel != null
+        && !channel.isInUse()
+        && channel.getLastUse() + timeout < System.currentTimeMillis()) {
+      removeMultiplexed(channel);
+      channel.close();
+    }
+  }
+
+  public void close() {
+    final OChannelBinaryAsynchClient channel = multiplexed;
+    if (channel != null) {
+      removeMultiplexed(channel);
+      channel.close();
+    }
+    pool.close();
   }
 }
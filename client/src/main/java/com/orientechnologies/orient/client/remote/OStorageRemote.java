@@ -398,9 +398,10 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
     return baseNetworkOperation(
         (network, session) -> {
           // Send The request
+          final int requestId;
           try {
             try {
-              network.beginRequest(request.getCommand(), session);
+              requestId = network.beginRequest(request.getCommand(), session);
               request.write(network, session);
             } finally {
               network.endRequest();
@@ -415,7 +416,9 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
             try {
               beginResponse(network, session);
               response.read(network, session);
+              network.responseRead();
             } finally {
+              network.abortResponse();
               endResponse(network);
             }
             ret = response;
@@ -426,9 +429,12 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
                 () -> {
                   try {
                     try {
+                      network.expectResponse(requestId);
                       beginResponse(network, session);
                       response.read(network, session);
+                      network.responseRead();
                     } finally {
+                      network.abortResponse();
                       endResponse(network);
                     }
                     callback.call(recordId, response);
@@ -485,7 +491,9 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
             if (timeout > 0) network.setSocketTimeout(timeout);
             beginResponse(network, session);
             response.read(network, session);
+            network.responseRead();
           } finally {
+            network.abortResponse();
             endResponse(network);
             if (timeout > 0) network.setSocketTimeout(prev);
           }
@@ -531,7 +539,7 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
 
       do {
         try {
-          network = getNetwork(serverUrl);
+          network = getRequestNetwork(serverUrl);
         } catch (OException e) {
           if (session.isStickToSession()) {
             throw e;
@@ -1177,6 +1185,7 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
     OQueryRequest request =
         new OQueryRequest(
             "sql", query, args, OQueryRequest.QUERY, db.getSerializer(), recordsPerPage);
+    request.setStreaming(OGlobalConfiguration.QUERY_REMOTE_RESULTSET_STREAMING.getValueAsBoolean());
     OQueryResponse response = networkOperation(request, "Error on executing command: " + query);
     ORemoteResultSet rs =
         new ORemoteResultSet(
@@ -1202,6 +1211,7 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
     OQueryRequest request =
         new OQueryRequest(
             "sql", query, args, OQueryRequest.QUERY, db.getSerializer(), recordsPerPage);
+    request.setStreaming(OGlobalConfiguration.QUERY_REMOTE_RESULTSET_STREAMING.getValueAsBoolean());
     OQueryResponse response = networkOperation(request, "Error on executing command: " + query);
 
     ORemoteResultSet rs =
@@ -1401,7 +1411,15 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
     if (recordsPerPage <= 0) {
       recordsPerPage = 100;
     }
-    OQueryNextPageRequest request = new OQueryNextPageRequest(rs.getQueryId(), recordsPerPage);
+    boolean streaming = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_STREAMING.getValueAsBoolean();
+    if (streaming) {
+      recordsPerPage =
+          rs.nextCredit(
+              recordsPerPage,
+              OGlobalConfiguration.QUERY_REMOTE_RESULTSET_MAX_CREDIT.getValueAsInteger());
+    }
+    OQueryNextPageRequest request =
+        new OQueryNextPageRequest(rs.getQueryId(), recordsPerPage, streaming);
     OQueryResponse response =
         networkOperation(request, "Error on fetching next page for statment: " + rs.getQueryId());
 
@@ -1724,9 +1742,8 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
             OReopenRequest request = new OReopenRequest();
 
             try {
-              network.writeByte(request.getCommand());
-              network.writeInt(nodeSession.getSessionId());
-              network.writeBytes(nodeSession.getToken());
+              network.beginRequest(
+                  request.getCommand(), nodeSession.getSessionId(), nodeSession.getToken());
               request.write(network, session);
             } finally {
               endRequest(network);
@@ -1826,9 +1843,7 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
     OOpen37Request request =
         new OOpen37Request(name, session.connectionUserName, session.connectionUserPassword);
     try {
-      network.writeByte(request.getCommand());
-      network.writeInt(nodeSession.getSessionId());
-      network.writeBytes(null);
+      network.beginRequest(request.getCommand(), nodeSession.getSessionId(), null);
       request.write(network, session);
     } finally {
       endRequest(network);
@@ -1838,7 +1853,9 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
     try {
       network.beginResponse(nodeSession.getSessionId(), true);
       response.read(network, session);
+      network.responseRead();
     } finally {
+      network.abortResponse();
       endResponse(network);
       connectionManager.release(network);
     }
@@ -2027,6 +2044,20 @@ public class OStorageRemote implements OStorageProxy, ORemotePushHandler, OStora
     return getNetwork(iCurrentURL, connectionManager, clientConfiguration);
   }
 
+  /**
+   * Acquires the channel for a request: the channel shared by all the requests if multiplexing is
+   * enabled and supported by the server, otherwise an exclusive channel of the pool.
+   */
+  protected OChannelBinaryAsynchClient getRequestNetwork(final String iCurrentURL) {
+    final OChannelBinaryAsynchClient network =
+        connectionManager.acquireMultiplexed(iCurrentURL, clientConfiguration);
+    if (network == null) return getNetwork(iCurrentURL);
+    // WAIT FOR THE OTHER REQUESTS TO BE WRITTEN, AS FOR THE EXCLUSIVE CHANNELS THE LOCK IS RELEASED
+    // BY endRequest()
+    network.tryLock();
+    return network;
+  }
+
   public static OChannelBinaryAsynchClient getNetwork(
       final String iCurrentURL,
       ORemoteConnectionManager connectionManager,
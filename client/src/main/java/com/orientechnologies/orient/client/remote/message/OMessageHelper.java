@@ -3,10 +3,12 @@ package com.orientechnologies.orient.client.remote.message;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.util.OCommonConst;
 import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.client.binary.OChannelBinaryAsynchClient;
 import com.orientechnologies.orient.client.remote.OCollectionNetworkSerializer;
 import com.orientechnologies.orient.client.remote.message.tx.IndexChange;
 import com.orientechnologies.orient.client.remote.message.tx.ORecordOperationRequest;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -14,11 +16,18 @@ import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.exception.OSerializationException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.OPropertyAccess;
+import com.orientechnologies.orient.core.metadata.security.OPropertyEncryption;
+import com.orientechnologies.orient.core.metadata.security.OPropertyEncryptionNone;
+import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkV37;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkV37Client;
 import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
@@ -46,6 +55,16 @@ import java.util.UUID;
 
 public class OMessageHelper {
 
+  /**
+   * @return the protocol version of the server the request is written to, or -1 if the channel is
+   *     not connected to a server
+   */
+  public static int getServerProtocolVersion(OChannelDataOutput network) {
+    if (network instanceof OChannelBinaryAsynchClient)
+      return ((OChannelBinaryAsynchClient) network).getSrvProtocolVersion();
+    return -1;
+  }
+
   public static void writeIdentifiable(
       OChannelDataOutput channel, final OIdentifiable o, ORecordSerializer serializer)
       throws IOException {
@@ -58,6 +77,60 @@ public class OMessageHelper {
     }
   }
 
+  /**
+   * @return true if the record can be sent with the bytes of the storage to a client of the
+   *     protocol version, instead of converting it to the network format. Documents which have
+   *     properties hidden or encrypted for the current user, or link bags stored as trees that the
+   *     client can't resolve, are always converted
+   */
+  public static boolean canWriteStorageFormat(int protocolVersion, final ORecord iRecord) {
+    if (protocolVersion < OChannelBinaryProtocol.PROTOCOL_VERSION_41
+        || !OGlobalConfiguration.NETWORK_BINARY_RECORD_STORAGE_FORMAT.getValueAsBoolean()
+        || !(iRecord instanceof ODocument)) return false;
+
+    final ODocument doc = (ODocument) iRecord;
+    final ORecordSerializer serializer = ORecordInternal.getRecordSerializer(doc);
+    return serializer instanceof ORecordSerializerBinary
+        && !isReadRestricted(doc)
+        && !((ORecordSerializerBinary) serializer).hasTreeRidBag(doc, doc.toStream());
+  }
+
+  private static boolean isReadRestricted(final ODocument doc) {
+    final OPropertyEncryption encryption = ODocumentInternal.getPropertyEncryption(doc);
+    if (encryption != null && !(encryption instanceof OPropertyEncryptionNone)) return true;
+
+    OPropertyAccess access = ODocumentInternal.getPropertyAccess(doc);
+    if (access != null && access.hasFilters()) return true;
+
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    if (db == null) return false;
+    final OImmutableClass clazz = ODocumentInternal.getImmutableSchemaClass(db, doc);
+    if (clazz == null) return false;
+
+    final OSecurityInternal security = db.getSharedContext().getSecurity();
+    if (security.isReadRestrictedBySecurityPolicy(db, "database.class." + clazz.getName()))
+      return true;
+    if (access == null) {
+      // THE DOCUMENT WAS NOT LOADED THROUGH THE DATABASE, CHECK THE POLICIES OF ITS PROPERTIES
+      access = new OPropertyAccess(db, doc, security);
+      return access.hasFilters();
+    }
+    return false;
+  }
+
+  /**
+   * Writes a document with the bytes of the storage, read back by {@link
+   * #readIdentifiable(OChannelDataInput, ORecordSerializer)} whatever serializer is passed.
+   */
+  public static void writeStorageFormatRecord(OChannelDataOutput channel, final ORecord iRecord)
+      throws IOException {
+    channel.writeShort(OChannelBinaryProtocol.RECORD_STORAGE_FORMAT);
+    channel.writeByte(ORecordInternal.getRecordType(iRecord));
+    channel.writeRID(iRecord.getIdentity());
+    channel.writeVersion(iRecord.getVersion());
+    channel.writeBytes(iRecord.toStream());
+  }
+
   public static void writeRecord(
       OChannelDataOutput channel, final ORecord iRecord, ORecordSerializer serializer)
       throws IOException {
@@ -394,6 +467,8 @@ public class OMessageHelper {
 
     if (classId == OChannelBinaryProtocol.RECORD_RID) {
       return network.readRID();
+    } else if (classId == OChannelBinaryProtocol.RECORD_STORAGE_FORMAT) {
+      return readStorageFormatRecord(network);
     } else {
       final ORecord record = readRecordFromBytes(network, serializer);
       return record;
@@ -420,6 +495,24 @@ public class OMessageHelper {
     return record;
   }
 
+  /** The fields are deserialized only when they are accessed. */
+  private static ORecord readStorageFormatRecord(OChannelDataInput network) throws IOException {
+    byte rec = network.readByte();
+    final ORecordId rid = network.readRID();
+    final int version = network.readVersion();
+    final byte[] content = network.readBytes();
+
+    ORecord record =
+        Orient.instance()
+            .getRecordFactoryManager()
+            .newInstance(
+                rec, rid.getClusterId(), ODatabaseRecordThreadLocal.instance().getIfDefined());
+    ORecordInternal.setRecordSerializer(record, ORecordSerializerBinary.INSTANCE);
+    ORecordInternal.fill(record, rid, version, content, false);
+
+    return record;
+  }
+
   private static void writeProjection(OResult item, OChannelDataOutput channel) throws IOException {
     channel.writeByte(OQueryResponse.RECORD_TYPE_PROJECTION);
     OResultSerializerNetwork ser = new OResultSerializerNetwork();
@@ -434,42 +527,72 @@ public class OMessageHelper {
   }
 
   private static void writeVertex(
-      OResult row, OChannelDataOutput channel, ORecordSerializer recordSerializer)
+      OResult row,
+      OChannelDataOutput channel,
+      ORecordSerializer recordSerializer,
+      int protocolVersion)
       throws IOException {
     channel.writeByte(OQueryResponse.RECORD_TYPE_VERTEX);
-    writeDocument(channel, (ODocument) row.getElement().get().getRecord(), recordSerializer);
+    writeDocument(
+        channel, (ODocument) row.getElement().get().getRecord(), recordSerializer, protocolVersion);
   }
 
   private static void writeElement(
-      OResult row, OChannelDataOutput channel, ORecordSerializer recordSerializer)
+      OResult row,
+      OChannelDataOutput channel,
+      ORecordSerializer recordSerializer,
+      int protocolVersion)
       throws IOException {
     channel.writeByte(OQueryResponse.RECORD_TYPE_ELEMENT);
-    writeDocument(channel, (ODocument) row.getElement().get().getRecord(), recordSerializer);
+    writeDocument(
+        channel, (ODocument) row.getElement().get().getRecord(), recordSerializer, protocolVersion);
   }
 
   private static void writeEdge(
-      OResult row, OChannelDataOutput channel, ORecordSerializer recordSerializer)
+      OResult row,
+      OChannelDataOutput channel,
+      ORecordSerializer recordSerializer,
+      int protocolVersion)
       throws IOException {
     channel.writeByte(OQueryResponse.RECORD_TYPE_EDGE);
-    writeDocument(channel, (ODocument) row.getElement().get().getRecord(), recordSerializer);
+    writeDocument(
+        channel, (ODocument) row.getElement().get().getRecord(), recordSerializer, protocolVersion);
   }
 
   private static void writeDocument(
-      OChannelDataOutput channel, ODocument doc, ORecordSerializer serializer) throws IOException {
-    writeIdentifiable(channel, doc, serializer);
+      OChannelDataOutput channel, ODocument doc, ORecordSerializer serializer, int protocolVersion)
+      throws IOException {
+    if (canWriteStorageFormat(protocolVersion, doc)) {
+      writeStorageFormatRecord(channel, doc);
+    } else {
+      writeIdentifiable(channel, doc, serializer);
+    }
   }
 
   public static void writeResult(
       OResult row, OChannelDataOutput channel, ORecordSerializer recordSerializer)
       throws IOException {
+    writeResult(row, channel, recordSerializer, -1);
+  }
+
+  /**
+   * @param protocolVersion the protocol version of the client, the documents are sent with the
+   *     bytes of the storage if the client supports it
+   */
+  public static void writeResult(
+      OResult row,
+      OChannelDataOutput channel,
+      ORecordSerializer recordSerializer,
+      int protocolVersion)
+      throws IOException {
     if (row.isBlob()) {
       writeBlob(row, channel, recordSerializer);
     } else if (row.isVertex()) {
-      writeVertex(row, channel, recordSerializer);
+      writeVertex(row, channel, recordSerializer, protocolVersion);
     } else if (row.isEdge()) {
-      writeEdge(row, channel, recordSerializer);
+      writeEdge(row, channel, recordSerializer, protocolVersion);
     } else if (row.isElement()) {
-      writeElement(row, channel, recordSerializer);
+      writeElement(row, channel, recordSerializer, protocolVersion);
     } else {
       writeProjection(row, channel);
     }
@@ -33,24 +33,45 @@ public final class OQueryNextPageRequest implements OBinaryRequest<OQueryRespons
 
   private String queryId;
   private int recordsPerPage;
+  private boolean streaming;
+  private boolean streamed;
 
   public OQueryNextPageRequest(String queryId, int recordsPerPage) {
     this.queryId = queryId;
     this.recordsPerPage = recordsPerPage;
   }
 
+  /**
+   * @param recordsPerPage the number of results of the page or, if the results are streamed, the
+   *     number of results the server can send (the credit)
+   * @param streaming asks the server to stream the results, if it supports it (protocol 40+)
+   */
+  public OQueryNextPageRequest(String queryId, int recordsPerPage, boolean streaming) {
+    this(queryId, recordsPerPage);
+    this.streaming = streaming;
+  }
+
   public OQueryNextPageRequest() {}
 
   @Override
   public void write(OChannelDataOutput network, OStorageRemoteSession session) throws IOException {
     network.writeString(queryId);
     network.writeInt(recordsPerPage);
+    streamed = false;
+    if (OMessageHelper.getServerProtocolVersion(network)
+        >= OChannelBinaryProtocol.PROTOCOL_VERSION_40) {
+      streamed = streaming;
+      network.writeBoolean(streamed);
+    }
   }
 
   public void read(OChannelDataInput channel, int protocolVersion, ORecordSerializer serializer)
       throws IOException {
     this.queryId = channel.readString();
     this.recordsPerPage = channel.readInt();
+    if (protocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_40) {
+      this.streamed = channel.readBoolean();
+    }
   }
 
   @Override
@@ -65,7 +86,7 @@ public final class OQueryNextPageRequest implements OBinaryRequest<OQueryRespons
 
   @Override
   public OQueryResponse createResponse() {
-    return new OQueryResponse();
+    return new OQueryResponse(streamed);
   }
 
   @Override
@@ -84,4 +105,9 @@ public final class OQueryNextPageRequest implements OBinaryRequest<OQueryRespons
   public int getRecordsPerPage() {
     return recordsPerPage;
   }
+
+  /** @return true if the results are streamed by the server */
+  public boolean isStreamed() {
+    return streamed;
+  }
 }
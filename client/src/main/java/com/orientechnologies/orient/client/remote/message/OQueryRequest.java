@@ -46,6 +46,8 @@ public final class OQueryRequest implements OBinaryRequest<OQueryResponse> {
   private Map<String, Object> params;
   private byte[] paramsBytes;
   private boolean namedParams;
+  private boolean streaming;
+  private boolean streamed;
 
   public OQueryRequest(
       String language,
@@ -107,6 +109,12 @@ public final class OQueryRequest implements OBinaryRequest<OQueryResponse> {
     // params
     network.writeBytes(paramsBytes);
     network.writeBoolean(namedParams);
+    streamed = false;
+    if (OMessageHelper.getServerProtocolVersion(network)
+        >= OChannelBinaryProtocol.PROTOCOL_VERSION_40) {
+      streamed = streaming;
+      network.writeBoolean(streamed);
+    }
   }
 
   public void read(OChannelDataInput channel, int protocolVersion, ORecordSerializer serializer)
@@ -120,6 +128,9 @@ public final class OQueryRequest implements OBinaryRequest<OQueryResponse> {
 
     this.paramsBytes = channel.readBytes();
     this.namedParams = channel.readBoolean();
+    if (protocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_40) {
+      this.streamed = channel.readBoolean();
+    }
     this.serializer = serializer;
   }
 
@@ -135,7 +146,7 @@ public final class OQueryRequest implements OBinaryRequest<OQueryResponse> {
 
   @Override
   public OQueryResponse createResponse() {
-    return new OQueryResponse();
+    return new OQueryResponse(streamed);
   }
 
   @Override
@@ -183,10 +194,27 @@ public final class OQueryRequest implements OBinaryRequest<OQueryResponse> {
     return result;
   }
 
+  /**
+   * @return the number of results per page or, for streamed requests, the number of results the
+   *     server can send (the credit)
+   */
   public int getRecordsPerPage() {
     return recordsPerPage;
   }
 
+  /**
+   * Asks the server to stream the results, if the server supports it (protocol 40+). Only the
+   * results of queries are streamed.
+   */
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
+  /** @return true if the results are streamed by the server */
+  public boolean isStreamed() {
+    return streamed;
+  }
+
   public ORecordSerializer getSerializer() {
     return serializer;
   }
@@ -12,6 +12,7 @@ import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataInput;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataOutput;
+import com.orientechnologies.orient.enterprise.channel.binary.ONetworkProtocolException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -28,6 +29,10 @@ public class OQueryResponse implements OBinaryResponse {
   public static final byte RECORD_TYPE_ELEMENT = 3;
   public static final byte RECORD_TYPE_PROJECTION = 4;
 
+  // FRAMES OF A STREAMED RESPONSE
+  private static final byte STREAM_END = 0;
+  private static final byte STREAM_RESULT = 1;
+
   private String queryId;
   private boolean txChanges;
   private List<OResultInternal> result;
@@ -35,6 +40,7 @@ public class OQueryResponse implements OBinaryResponse {
   private boolean hasNextPage;
   private Map<String, Long> queryStats;
   private boolean reloadMetadata;
+  private boolean streamed;
 
   public OQueryResponse(
       String queryId,
@@ -55,17 +61,35 @@ public class OQueryResponse implements OBinaryResponse {
 
   public OQueryResponse() {}
 
+  /** @param streamed true if the response is read from a request that asked for streaming */
+  public OQueryResponse(boolean streamed) {
+    this.streamed = streamed;
+  }
+
+  /** @param streamed true to write the results in the format of the streamed responses */
+  public void setStreamed(boolean streamed) {
+    this.streamed = streamed;
+  }
+
+  public boolean isStreamed() {
+    return streamed;
+  }
+
   @Override
   public void write(OChannelDataOutput channel, int protocolVersion, ORecordSerializer serializer)
       throws IOException {
     channel.writeString(queryId);
     channel.writeBoolean(txChanges);
     writeExecutionPlan(executionPlan, channel, serializer);
-    // THIS IS A PREFETCHED COLLECTION NOT YET HERE
-    channel.writeInt(0);
-    channel.writeInt(result.size());
-    for (OResult res : result) {
-      OMessageHelper.writeResult(res, channel, serializer);
+    if (streamed) {
+      writeStream(channel, protocolVersion, serializer);
+    } else {
+      // THIS IS A PREFETCHED COLLECTION NOT YET HERE
+      channel.writeInt(0);
+      channel.writeInt(result.size());
+      for (OResult res : result) {
+        OMessageHelper.writeResult(res, channel, serializer, protocolVersion);
+      }
     }
     channel.writeBoolean(hasNextPage);
     writeQueryStats(queryStats, channel);
@@ -77,18 +101,50 @@ public class OQueryResponse implements OBinaryResponse {
     queryId = network.readString();
     txChanges = network.readBoolean();
     executionPlan = readExecutionPlan(network);
-    // THIS IS A PREFETCHED COLLECTION NOT YET HERE
-    int prefetched = network.readInt();
-    int size = network.readInt();
-    this.result = new ArrayList<>(size);
-    while (size-- > 0) {
-      result.add(OMessageHelper.readResult(network));
+    if (streamed) {
+      readStream(network);
+    } else {
+      // THIS IS A PREFETCHED COLLECTION NOT YET HERE
+      int prefetched = network.readInt();
+      int size = network.readInt();
+      this.result = new ArrayList<>(size);
+      while (size-- > 0) {
+        result.add(OMessageHelper.readResult(network));
+      }
     }
     this.hasNextPage = network.readBoolean();
     this.queryStats = readQueryStats(network);
     reloadMetadata = network.readBoolean();
   }
 
+  /**
+   * Writes each result as a frame. The results are collected by the server before the response is
+   * written, up to the credit granted by the client, so an error of the execution is sent as an
+   * error response and the channel is not held while the query runs.
+   */
+  private void writeStream(
+      OChannelDataOutput channel, int protocolVersion, ORecordSerializer serializer)
+      throws IOException {
+    for (OResult res : result) {
+      channel.writeByte(STREAM_RESULT);
+      OMessageHelper.writeResult(res, channel, serializer, protocolVersion);
+    }
+    channel.writeByte(STREAM_END);
+  }
+
+  private void readStream(OChannelDataInput network) throws IOException {
+    this.result = new ArrayList<>();
+    byte frame;
+    while ((frame = network.readByte()) != STREAM_END) {
+      if (frame == STREAM_RESULT) {
+        result.add(OMessageHelper.readResult(network));
+      } else {
+        throw new ONetworkProtocolException(
+            "Invalid frame " + frame + " in the results of query '" + queryId + "'");
+      }
+    }
+  }
+
   private void writeQueryStats(Map<String, Long> queryStats, OChannelDataOutput channel)
       throws IOException {
     if (queryStats == null) {
@@ -25,6 +25,7 @@ import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkV37Client;
 import com.orientechnologies.orient.core.storage.ORawBuffer;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
@@ -34,11 +35,14 @@ import java.io.IOException;
 import java.util.Set;
 
 public final class OReadRecordResponse implements OBinaryResponse {
+  private static final byte RECORD = 1;
+  private static final byte RECORD_STORAGE_FORMAT = 3;
 
   private byte recordType;
   private int version;
   private byte[] record;
   private Set<ORecord> recordsToSend;
+  private boolean storageFormat;
   private ORawBuffer result;
 
   public OReadRecordResponse() {}
@@ -51,10 +55,25 @@ public final class OReadRecordResponse implements OBinaryResponse {
     this.recordsToSend = recordsToSend;
   }
 
+  /**
+   * @param storageFormat true if the record is a document in the format of the storage (see {@link
+   *     OMessageHelper#canWriteStorageFormat(int, ORecord)}), that the client decodes with {@link
+   *     ORecordSerializerBinary}
+   */
+  public OReadRecordResponse(
+      byte recordType,
+      int version,
+      byte[] record,
+      Set<ORecord> recordsToSend,
+      boolean storageFormat) {
+    this(recordType, version, record, recordsToSend);
+    this.storageFormat = storageFormat;
+  }
+
   public void write(OChannelDataOutput network, int protocolVersion, ORecordSerializer serializer)
       throws IOException {
     if (record != null) {
-      network.writeByte((byte) 1);
+      network.writeByte(storageFormat ? RECORD_STORAGE_FORMAT : RECORD);
       if (protocolVersion <= OChannelBinaryProtocol.PROTOCOL_VERSION_27) {
         network.writeBytes(record);
         network.writeVersion(version);
@@ -79,13 +98,15 @@ public final class OReadRecordResponse implements OBinaryResponse {
   @Override
   public void read(OChannelDataInput network, OStorageRemoteSession session) throws IOException {
     ORecordSerializerNetworkV37Client serializer = ORecordSerializerNetworkV37Client.INSTANCE;
-    if (network.readByte() == 0) return;
+    final byte status = network.readByte();
+    if (status == 0) return;
 
     final ORawBuffer buffer;
     final byte type = network.readByte();
     final int recVersion = network.readVersion();
     final byte[] bytes = network.readBytes();
     buffer = new ORawBuffer(bytes, recVersion, type);
+    if (status == RECORD_STORAGE_FORMAT) buffer.recordFormat = ORecordSerializerBinary.INSTANCE;
 
     // TODO: This should not be here, move it in a callback or similar
     final ODatabaseDocument database = ODatabaseRecordThreadLocal.instance().getIfDefined();
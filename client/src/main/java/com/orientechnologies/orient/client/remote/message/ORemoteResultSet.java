@@ -19,6 +19,7 @@ public class ORemoteResultSet implements OResultSet {
   private Optional<OExecutionPlan> executionPlan;
   private Map<String, Long> queryStats;
   private boolean hasNextPage;
+  private int credit;
 
   public ORemoteResultSet(
       ODatabaseDocumentRemote db,
@@ -112,6 +113,21 @@ public class ORemoteResultSet implements OResultSet {
     return queryId;
   }
 
+  /**
+   * Credit-based flow control of streamed results: the number of results the server can stream for
+   * the next page starts from the page size and doubles at each page, up to the maximum credit. A
+   * large result set needs fewer round trips, while the results kept in memory stay bounded.
+   *
+   * @return the number of results to ask for the next page
+   */
+  public int nextCredit(int pageSize, int maxCredit) {
+    if (credit == 0) {
+      credit = pageSize;
+    }
+    credit = (int) Math.min((long) credit * 2, Math.max(pageSize, maxCredit));
+    return credit;
+  }
+
   public void fetched(
       List<OResultInternal> result,
       boolean hasNextPage,
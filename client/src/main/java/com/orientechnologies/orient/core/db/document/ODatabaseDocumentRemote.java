@@ -717,6 +717,7 @@ public class ODatabaseDocumentRemote extends ODatabaseDocumentAbstract {
 
       if (record != null) {
         if (iRecord != null) {
+          ORecordInternal.setRecordSerializer(iRecord, ORecordInternal.getRecordSerializer(record));
           iRecord.fromStream(record.toStream());
           ORecordInternal.setVersion(iRecord, record.getVersion());
           record = iRecord;
@@ -770,7 +771,8 @@ public class ODatabaseDocumentRemote extends ODatabaseDocumentAbstract {
                 .getRecordFactoryManager()
                 .newInstance(recordBuffer.recordType, rid.getClusterId(), this);
 
-      ORecordInternal.setRecordSerializer(iRecord, getSerializer());
+      ORecordInternal.setRecordSerializer(
+          iRecord, recordBuffer.recordFormat != null ? recordBuffer.recordFormat : getSerializer());
       ORecordInternal.fill(iRecord, rid, recordBuffer.version, recordBuffer.buffer, false, this);
 
       if (iRecord instanceof ODocument) ODocumentInternal.checkClass((ODocument) iRecord, this);
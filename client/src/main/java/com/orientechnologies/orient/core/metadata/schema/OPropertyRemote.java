@@ -265,6 +265,23 @@ public class OPropertyRemote extends OPropertyImpl {
     return this;
   }
 
+  public OPropertyImpl setColumnar(final boolean columnar) {
+    getDatabase().checkSecurity(ORule.ResourceGeneric.SCHEMA, ORole.PERMISSION_UPDATE);
+
+    acquireSchemaWriteLock();
+    try {
+      final ODatabaseDocumentInternal database = getDatabase();
+      final String cmd =
+          String.format("alter property %s columnar %s", getFullNameQuoted(), columnar);
+      database.command(cmd).close();
+
+    } finally {
+      releaseSchemaWriteLock();
+    }
+
+    return this;
+  }
+
   public OPropertyImpl setMandatory(final boolean isMandatory) {
     getDatabase().checkSecurity(ORule.ResourceGeneric.SCHEMA, ORole.PERMISSION_UPDATE);
 
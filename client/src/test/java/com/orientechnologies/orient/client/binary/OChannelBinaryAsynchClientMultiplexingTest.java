@@ -0,0 +1,280 @@
+package com.orientechnologies.orient.client.binary;
+
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Talks to a scripted server that answers the requests in the order chosen by the test. */
+public class OChannelBinaryAsynchClientMultiplexingTest {
+  private static final byte COMMAND = OChannelBinaryProtocol.REQUEST_RECORD_LOAD;
+
+  private ServerSocket serverSocket;
+  private ExecutorService executor;
+
+  @Before
+  public void before() throws IOException {
+    serverSocket = new ServerSocket(0);
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void after() throws Exception {
+    executor.shutdownNow();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+    serverSocket.close();
+  }
+
+  @Test
+  public void testOutOfOrderResponses() throws Exception {
+    final int requests = 4;
+    Future<?> server =
+        executor.submit(
+            () -> {
+              try (Socket socket = serverSocket.accept()) {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                Assert.assertTrue(handshake(in, out, OChannelBinaryProtocol.PROTOCOL_VERSION_39));
+
+                List<int[]> received = new ArrayList<>();
+                for (int i = 0; i < requests; i++) {
+                  Assert.assertEquals(COMMAND, in.readByte());
+                  int requestId = in.readInt();
+                  int sessionId = in.readInt();
+                  skipBytes(in);
+                  received.add(new int[] {requestId, sessionId});
+                }
+                // ANSWER IN REVERSE ORDER
+                for (int i = received.size() - 1; i >= 0; i--) {
+                  int[] request = received.get(i);
+                  out.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
+                  out.writeInt(request[0]);
+                  out.writeInt(request[1]);
+                  out.writeByte(COMMAND);
+                  out.writeInt(request[1] * 10);
+                }
+                out.flush();
+                in.read();
+              }
+              return null;
+            });
+
+    OChannelBinaryAsynchClient channel = connect(OChannelBinaryProtocol.PROTOCOL_VERSION_39, 0);
+    try {
+      Assert.assertTrue(channel.isMultiplexed());
+
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < requests; i++) {
+        final int sessionId = i + 1;
+        results.add(
+            executor.submit(
+                () -> {
+                  channel.tryLock();
+                  try {
+                    channel.beginRequest(COMMAND, sessionId, null);
+                  } finally {
+                    channel.endRequest();
+                  }
+                  try {
+                    channel.beginResponse(sessionId, false);
+                    int result = channel.readInt();
+                    channel.responseRead();
+                    return result;
+                  } finally {
+                    channel.abortResponse();
+                    channel.endResponse();
+                  }
+                }));
+      }
+      for (int i = 0; i < requests; i++) {
+        Assert.assertEquals((i + 1) * 10, (int) results.get(i).get(10, TimeUnit.SECONDS));
+      }
+      Assert.assertTrue(channel.isConnected());
+    } finally {
+      channel.close();
+    }
+    server.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testFallbackToOlderServer() throws Exception {
+    Future<?> server =
+        executor.submit(
+            () -> {
+              try (Socket socket = serverSocket.accept()) {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                Assert.assertFalse(handshake(in, out, OChannelBinaryProtocol.PROTOCOL_VERSION_38));
+
+                // NO REQUEST ID ON NOT MULTIPLEXED CONNECTIONS
+                Assert.assertEquals(COMMAND, in.readByte());
+                int sessionId = in.readInt();
+                skipBytes(in);
+                out.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
+                out.writeInt(sessionId);
+                out.writeByte(COMMAND);
+                out.writeInt(sessionId * 10);
+                out.flush();
+                in.read();
+              }
+              return null;
+            });
+
+    OChannelBinaryAsynchClient channel =
+        connect(OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION, 0);
+    try {
+      Assert.assertFalse(channel.isMultiplexed());
+      Assert.assertEquals(
+          OChannelBinaryProtocol.PROTOCOL_VERSION_38, channel.getSrvProtocolVersion());
+
+      Assert.assertTrue(channel.tryLock());
+      try {
+        channel.beginRequest(COMMAND, 7, null);
+      } finally {
+        channel.endRequest();
+      }
+      try {
+        channel.beginResponse(7, false);
+        Assert.assertEquals(70, channel.readInt());
+      } finally {
+        channel.endResponse();
+      }
+    } finally {
+      channel.close();
+    }
+    server.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testTimeoutClosesChannel() throws Exception {
+    Future<?> server =
+        executor.submit(
+            () -> {
+              try (Socket socket = serverSocket.accept()) {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                handshake(in, out, OChannelBinaryProtocol.PROTOCOL_VERSION_39);
+                // NEVER ANSWER
+                while (in.read() != -1) {}
+              }
+              return null;
+            });
+
+    OChannelBinaryAsynchClient channel = connect(OChannelBinaryProtocol.PROTOCOL_VERSION_39, 200);
+    try {
+      channel.tryLock();
+      try {
+        channel.beginRequest(COMMAND, 1, null);
+      } finally {
+        channel.endRequest();
+      }
+      try {
+        channel.beginResponse(1, false);
+        Assert.fail();
+      } catch (IOException e) {
+        // EXPECTED
+      } finally {
+        channel.abortResponse();
+        channel.endResponse();
+      }
+      // A LATE RESPONSE WOULD BE LEFT ON THE STREAM
+      Assert.assertFalse(channel.isConnected());
+    } finally {
+      channel.close();
+    }
+    server.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testPartiallyReadResponseClosesChannel() throws Exception {
+    Future<?> server =
+        executor.submit(
+            () -> {
+              try (Socket socket = serverSocket.accept()) {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                handshake(in, out, OChannelBinaryProtocol.PROTOCOL_VERSION_39);
+                in.readByte();
+                int requestId = in.readInt();
+                int sessionId = in.readInt();
+                skipBytes(in);
+                out.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
+                out.writeInt(requestId);
+                out.writeInt(sessionId);
+                out.writeByte(COMMAND);
+                out.writeInt(10);
+                out.flush();
+                while (in.read() != -1) {}
+              }
+              return null;
+            });
+
+    OChannelBinaryAsynchClient channel = connect(OChannelBinaryProtocol.PROTOCOL_VERSION_39, 0);
+    try {
+      channel.tryLock();
+      try {
+        channel.beginRequest(COMMAND, 1, null);
+      } finally {
+        channel.endRequest();
+      }
+      try {
+        channel.beginResponse(1, false);
+        // THE PAYLOAD IS NOT READ, AS IF ITS DESERIALIZATION FAILED
+      } finally {
+        channel.abortResponse();
+        channel.endResponse();
+      }
+      Assert.assertFalse(channel.isConnected());
+    } finally {
+      channel.close();
+    }
+    server.get(10, TimeUnit.SECONDS);
+  }
+
+  private OChannelBinaryAsynchClient connect(int protocolVersion, int requestTimeout)
+      throws IOException {
+    OContextConfiguration config = new OContextConfiguration();
+    if (requestTimeout > 0)
+      config.setValue(OGlobalConfiguration.NETWORK_REQUEST_TIMEOUT, requestTimeout);
+    return new OChannelBinaryAsynchClient(
+        "127.0.0.1", serverSocket.getLocalPort(), config, protocolVersion, true);
+  }
+
+  /** @return true if the client asked to multiplex the connection, that is always accepted */
+  private static boolean handshake(DataInputStream in, DataOutputStream out, int version)
+      throws IOException {
+    out.writeShort(version);
+    out.flush();
+    Assert.assertEquals(OChannelBinaryProtocol.REQUEST_HANDSHAKE, in.readByte());
+    in.readShort();
+    skipBytes(in);
+    skipBytes(in);
+    in.readByte();
+    in.readByte();
+    if (version < OChannelBinaryProtocol.PROTOCOL_VERSION_39) return false;
+
+    boolean multiplex = in.readByte() == 1;
+    out.writeByte(multiplex ? 1 : 0);
+    out.flush();
+    return multiplex;
+  }
+
+  private static void skipBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length > 0) in.readFully(new byte[length]);
+  }
+}
@@ -1,5 +1,11 @@
 package com.orientechnologies.orient.client.remote.message;
 
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkFactory;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
@@ -52,4 +58,71 @@ public class OQueryResponseTest {
     Assert.assertTrue(newResponse.isReloadMetadata());
     Assert.assertTrue(newResponse.isTxChanges());
   }
+
+  @Test
+  public void testStreamed() throws IOException {
+    List<OResultInternal> results = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      OResultInternal item = new OResultInternal();
+      item.setProperty("counter", i);
+      results.add(item);
+    }
+    OQueryResponse response =
+        new OQueryResponse("query", false, results, Optional.empty(), true, new HashMap<>(), false);
+    response.setStreamed(true);
+
+    MockChannel channel = new MockChannel();
+    response.write(
+        channel,
+        OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION,
+        ORecordSerializerNetworkFactory.INSTANCE.current());
+
+    channel.close();
+
+    OQueryResponse newResponse = new OQueryResponse(true);
+
+    newResponse.read(channel, null);
+    Assert.assertEquals(6, newResponse.getResult().size());
+    for (int i = 0; i < 6; i++) {
+      Assert.assertEquals((Integer) i, newResponse.getResult().get(i).getProperty("counter"));
+    }
+    Assert.assertTrue(newResponse.isHasNextPage());
+  }
+
+  @Test
+  public void testStorageFormatElement() throws IOException {
+    ODocument doc = new ODocument();
+    ORecordInternal.setRecordSerializer(doc, ORecordSerializerBinary.INSTANCE);
+    doc.field("name", "foo");
+    ORecordInternal.setIdentity(doc, new ORecordId(10, 1));
+    List<OResultInternal> results = new ArrayList<>();
+    results.add(new OResultInternal(doc));
+    OQueryResponse response =
+        new OQueryResponse(
+            "query", false, results, Optional.empty(), false, new HashMap<>(), false);
+
+    MockChannel channel = new MockChannel();
+    boolean storageFormat =
+        OGlobalConfiguration.NETWORK_BINARY_RECORD_STORAGE_FORMAT.getValueAsBoolean();
+    OGlobalConfiguration.NETWORK_BINARY_RECORD_STORAGE_FORMAT.setValue(true);
+    try {
+      response.write(
+          channel,
+          OChannelBinaryProtocol.PROTOCOL_VERSION_41,
+          ORecordSerializerNetworkFactory.INSTANCE.current());
+    } finally {
+      OGlobalConfiguration.NETWORK_BINARY_RECORD_STORAGE_FORMAT.setValue(storageFormat);
+    }
+
+    channel.close();
+
+    OQueryResponse newResponse = new OQueryResponse();
+
+    newResponse.read(channel, null);
+    ORecord record = newResponse.getResult().get(0).getRecord().get();
+    Assert.assertTrue(
+        ORecordInternal.getRecordSerializer(record) instanceof ORecordSerializerBinary);
+    Assert.assertEquals(new ORecordId(10, 1), record.getIdentity());
+    Assert.assertEquals("foo", ((ODocument) record).field("name"));
+  }
 }
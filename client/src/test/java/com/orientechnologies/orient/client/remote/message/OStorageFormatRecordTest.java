@@ -0,0 +1,146 @@
+package com.orientechnologies.orient.client.remote.message;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
+import com.orientechnologies.orient.core.metadata.security.OSecurityPolicyImpl;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkFactory;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OStorageFormatRecordTest {
+
+  private OrientDB orientDB;
+  private ODatabaseSession session;
+  private boolean storageFormat;
+
+  @Before
+  public void before() {
+    storageFormat = OGlobalConfiguration.NETWORK_BINARY_RECORD_STORAGE_FORMAT.getValueAsBoolean();
+    OGlobalConfiguration.NETWORK_BINARY_RECORD_STORAGE_FORMAT.setValue(true);
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.execute(
+        "create database test memory users (admin identified by 'admin' role admin, reader"
+            + " identified by 'reader' role reader)");
+    session = orientDB.open("test", "admin", "admin");
+  }
+
+  @After
+  public void after() {
+    try {
+      session.close();
+      orientDB.close();
+    } finally {
+      OGlobalConfiguration.NETWORK_BINARY_RECORD_STORAGE_FORMAT.setValue(storageFormat);
+    }
+  }
+
+  @Test
+  public void testPropertyHiddenByReadPolicy() throws IOException {
+    OClass person = session.createClass("Person");
+    person.createProperty("name", OType.STRING);
+    person.createProperty("secret", OType.STRING);
+
+    OSecurityInternal security = ((ODatabaseInternal) session).getSharedContext().getSecurity();
+    OSecurityPolicyImpl policy = security.createSecurityPolicy(session, "hideSecret");
+    policy.setActive(true);
+    policy.setReadRule("false");
+    security.saveSecurityPolicy(session, policy);
+    security.setSecurityPolicy(
+        session, security.getRole(session, "reader"), "database.class.Person.secret", policy);
+
+    ODocument doc = new ODocument("Person");
+    doc.field("name", "foo");
+    doc.field("secret", "bar");
+    session.save(doc);
+    session.close();
+
+    session = orientDB.open("test", "reader", "reader");
+    ODocument loaded;
+    try (OResultSet rs = session.query("select from Person")) {
+      loaded = (ODocument) rs.next().getElement().get().getRecord();
+    }
+    Assert.assertFalse(
+        OMessageHelper.canWriteStorageFormat(OChannelBinaryProtocol.PROTOCOL_VERSION_41, loaded));
+
+    ODocument received = (ODocument) writeAndRead(loaded);
+    Assert.assertEquals("foo", received.field("name"));
+    Assert.assertFalse(received.containsField("secret"));
+  }
+
+  @Test
+  public void testTreeRidBag() {
+    session.createClass("Holder");
+    ORID embeddedBag = saveWithRidBag();
+
+    final int topThreshold =
+        OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.getValueAsInteger();
+    final int bottomThreshold =
+        OGlobalConfiguration.RID_BAG_SBTREEBONSAI_TO_EMBEDDED_THRESHOLD.getValueAsInteger();
+    OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.setValue(-1);
+    OGlobalConfiguration.RID_BAG_SBTREEBONSAI_TO_EMBEDDED_THRESHOLD.setValue(-1);
+    ORID treeBag;
+    try {
+      treeBag = saveWithRidBag();
+    } finally {
+      OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.setValue(topThreshold);
+      OGlobalConfiguration.RID_BAG_SBTREEBONSAI_TO_EMBEDDED_THRESHOLD.setValue(bottomThreshold);
+    }
+
+    session.getLocalCache().clear();
+    Assert.assertTrue(
+        OMessageHelper.canWriteStorageFormat(
+            OChannelBinaryProtocol.PROTOCOL_VERSION_41, session.load(embeddedBag)));
+    // THE CLIENT CAN'T RESOLVE THE POINTERS TO THE TREE, THE DOCUMENT IS SENT IN NETWORK FORMAT
+    Assert.assertFalse(
+        OMessageHelper.canWriteStorageFormat(
+            OChannelBinaryProtocol.PROTOCOL_VERSION_41, session.load(treeBag)));
+  }
+
+  private ORID saveWithRidBag() {
+    ODocument linked = session.save(new ODocument("Holder"));
+    ORidBag bag = new ORidBag();
+    bag.add(linked);
+    ODocument doc = new ODocument("Holder");
+    doc.field("links", bag);
+    return session.save(doc).getIdentity();
+  }
+
+  private ORecord writeAndRead(ODocument doc) throws IOException {
+    List<OResultInternal> results = new ArrayList<>();
+    results.add(new OResultInternal(doc));
+    OQueryResponse response =
+        new OQueryResponse(
+            "query", false, results, Optional.empty(), false, new HashMap<>(), false);
+
+    MockChannel channel = new MockChannel();
+    response.write(
+        channel,
+        OChannelBinaryProtocol.PROTOCOL_VERSION_41,
+        ORecordSerializerNetworkFactory.INSTANCE.current());
+    channel.close();
+
+    OQueryResponse newResponse = new OQueryResponse();
+    newResponse.read(channel, null);
+    return newResponse.getResult().get(0).getRecord().get();
+  }
+}
@@ -14,6 +14,18 @@ public interface OCLibrary {
   /** Denotes no limit on a resource. */
   int RLIM_INFINITY = 0;
 
+  int PROT_READ = 0x1;
+  int PROT_WRITE = 0x2;
+
+  int MAP_SHARED = 0x01;
+  int MAP_POPULATE = 0x08000;
+
+  /** Number of <code>io_uring_setup</code> system call, the same on all Linux architectures. */
+  long SYS_IO_URING_SETUP = 425;
+
+  /** Number of <code>io_uring_enter</code> system call, the same on all Linux architectures. */
+  long SYS_IO_URING_ENTER = 426;
+
   int fallocate(int fd, int mode, long offset, long len) throws LastErrorException;
 
   int posix_memalign(PointerByReference memptr, NativeLong alignment, NativeLong size)
@@ -22,4 +34,12 @@ public interface OCLibrary {
   int getpagesize() throws LastErrorException;
 
   int pathconf(String path, int name) throws LastErrorException;
+
+  long syscall(long number, long arg1, long arg2, long arg3, long arg4, long arg5, long arg6)
+      throws LastErrorException;
+
+  long mmap(long address, long length, int protection, int flags, int fd, long offset)
+      throws LastErrorException;
+
+  int munmap(long address, long length) throws LastErrorException;
 }
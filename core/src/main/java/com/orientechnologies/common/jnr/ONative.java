@@ -372,6 +372,60 @@ public class ONative {
     }
   }
 
+  /**
+   * Creates io_uring instance.
+   *
+   * @param entries amount of entries of submission queue
+   * @param params address of <code>io_uring_params</code> structure
+   * @return file descriptor of created io_uring instance
+   */
+  public int ioUringSetup(int entries, long params) throws LastErrorException {
+    final long fd = C_LIBRARY.syscall(OCLibrary.SYS_IO_URING_SETUP, entries, params, 0, 0, 0, 0);
+    if (fd < 0) {
+      checkLastError();
+    }
+    return (int) fd;
+  }
+
+  /**
+   * Submits new requests and/or waits for completion of already submitted requests of io_uring
+   * instance.
+   *
+   * @return amount of consumed entries of submission queue
+   */
+  public int ioUringEnter(int fd, int toSubmit, int minComplete, int flags)
+      throws LastErrorException {
+    final long res =
+        C_LIBRARY.syscall(OCLibrary.SYS_IO_URING_ENTER, fd, toSubmit, minComplete, flags, 0, 0);
+    if (res < 0) {
+      checkLastError();
+    }
+    return (int) res;
+  }
+
+  /** Maps region of file into memory in shared read-write mode. */
+  public long mmap(int fd, long offset, long length) throws LastErrorException {
+    final long address =
+        C_LIBRARY.mmap(
+            0,
+            length,
+            OCLibrary.PROT_READ | OCLibrary.PROT_WRITE,
+            OCLibrary.MAP_SHARED | OCLibrary.MAP_POPULATE,
+            fd,
+            offset);
+    if (address == -1) {
+      checkLastError();
+    }
+    return address;
+  }
+
+  public void munmap(long address, long length) throws LastErrorException {
+    final int res = C_LIBRARY.munmap(address, length);
+    if (res == -1) {
+      checkLastError();
+    }
+  }
+
   private long updateMemoryLimit(long memoryLimit, final long newMemoryLimit) {
     if (newMemoryLimit <= 0) {
       return memoryLimit;
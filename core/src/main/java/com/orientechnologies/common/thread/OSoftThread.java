@@ -63,22 +63,30 @@ public abstract class OSoftThread extends Thread implements OService {
     startup();
 
     while (!shutdownFlag && !isInterrupted()) {
-      try {
-        beforeExecution();
-        execute();
-        afterExecution();
-      } catch (Exception e) {
-        if (dumpExceptions) OLogManager.instance().error(this, "Error during thread execution", e);
-      } catch (Error e) {
-        if (dumpExceptions) OLogManager.instance().error(this, "Error during thread execution", e);
-        shutdown();
-        throw e;
-      }
+      executeStep();
     }
 
     shutdown();
   }
 
+  /**
+   * Executes one iteration of the loop of the thread. Can be called by another thread to drive the
+   * loop of a thread that has not been started.
+   */
+  protected void executeStep() {
+    try {
+      beforeExecution();
+      execute();
+      afterExecution();
+    } catch (Exception e) {
+      if (dumpExceptions) OLogManager.instance().error(this, "Error during thread execution", e);
+    } catch (Error e) {
+      if (dumpExceptions) OLogManager.instance().error(this, "Error during thread execution", e);
+      shutdown();
+      throw e;
+    }
+  }
+
   public void setDumpExceptions(final boolean dumpExceptions) {
     this.dumpExceptions = dumpExceptions;
   }
@@ -0,0 +1,45 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.compression.impl;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Compression implementation that uses high compression mode of LZ4 algorithm. Compression is
+ * slower than in {@link OLZ4Compression}, but decompression is as fast and format of compressed
+ * content is the same.
+ */
+public class OHighLZ4Compression extends OLZ4Compression {
+  public static final OHighLZ4Compression INSTANCE = new OHighLZ4Compression();
+  public static final String NAME = "high-lz4";
+
+  private static final LZ4Factory factory = LZ4Factory.fastestInstance();
+
+  @Override
+  protected LZ4Compressor compressor() {
+    return factory.highCompressor();
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+}
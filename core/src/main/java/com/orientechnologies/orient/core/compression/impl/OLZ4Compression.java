@@ -0,0 +1,79 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.compression.impl;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Compression implementation that uses LZ4 algorithm. It is much faster than ZIP both on
+ * compression and decompression, at the price of lower compression ratio. Compressed content is
+ * prefixed by the length of the original content.
+ */
+public class OLZ4Compression extends OAbstractCompression {
+  public static final OLZ4Compression INSTANCE = new OLZ4Compression();
+  public static final String NAME = "lz4";
+
+  private static final LZ4Factory factory = LZ4Factory.fastestInstance();
+
+  @Override
+  public byte[] compress(final byte[] content, final int offset, final int length) {
+    final LZ4Compressor compressor = compressor();
+    final byte[] result = new byte[4 + compressor.maxCompressedLength(length)];
+
+    result[0] = (byte) (length >>> 24);
+    result[1] = (byte) (length >>> 16);
+    result[2] = (byte) (length >>> 8);
+    result[3] = (byte) length;
+
+    final int compressedLength =
+        compressor.compress(content, offset, length, result, 4, result.length - 4);
+
+    final byte[] compressed = new byte[4 + compressedLength];
+    System.arraycopy(result, 0, compressed, 0, compressed.length);
+
+    return compressed;
+  }
+
+  @Override
+  public byte[] uncompress(final byte[] content, final int offset, final int length) {
+    final int uncompressedLength =
+        ((content[offset] & 0xFF) << 24)
+            | ((content[offset + 1] & 0xFF) << 16)
+            | ((content[offset + 2] & 0xFF) << 8)
+            | (content[offset + 3] & 0xFF);
+
+    final byte[] result = new byte[uncompressedLength];
+    final LZ4FastDecompressor decompressor = factory.fastDecompressor();
+    decompressor.decompress(content, offset + 4, result, 0, uncompressedLength);
+
+    return result;
+  }
+
+  protected LZ4Compressor compressor() {
+    return factory.fastCompressor();
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+}
@@ -26,6 +26,7 @@ import com.orientechnologies.common.util.OApi;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.cache.ORecordCacheWeakRefs;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
 import com.orientechnologies.orient.core.engine.local.OEngineLocalPaginated;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.metadata.OMetadataDefault;
@@ -226,6 +227,44 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Boolean.class,
       true),
 
+  STORAGE_USE_IO_URING(
+      "storage.useIOUring",
+      "Use Linux io_uring interface to submit batches of page reads and writes of data files "
+          + "in single system call. If io_uring is not supported by OS, asynchronous file "
+          + "channels are used",
+      Boolean.class,
+      false),
+
+  STORAGE_IO_URING_QUEUE_DEPTH(
+      "storage.ioUring.queueDepth",
+      "Maximum amount of page reads and writes submitted to single io_uring instance at once",
+      Integer.class,
+      256),
+
+  STORAGE_IO_URING_RINGS(
+      "storage.ioUring.rings",
+      "Amount of io_uring instances which are shared by all data files, "
+          + "-1 means amount of CPU cores",
+      Integer.class,
+      -1),
+
+  STORAGE_PAGE_COMPRESSION(
+      "storage.pageCompression",
+      "Name of compression which is used for pages of new data files, like 'lz4' or 'high-lz4'. "
+          + "Compressed pages are stored in the variable size slots of the files, files which "
+          + "already exist keep format and compression they were created with. 'nothing' means "
+          + "that pages are not compressed. Pages of encrypted storages are not compressed",
+      String.class,
+      ONothingCompression.NAME),
+
+  STORAGE_PAGE_COMPRESSION_FILES(
+      "storage.pageCompression.files",
+      "Comma separated list of glob patterns of names of data files which pages are compressed "
+          + "if storage.pageCompression is set. For example 'person*.pcl' selects files of "
+          + "clusters of class Person",
+      String.class,
+      "*.pcl"),
+
   DISK_WRITE_CACHE_SHUTDOWN_TIMEOUT(
       "storage.diskCache.writeCacheShutdownTimeout",
       "Timeout of shutdown of write cache for single task in min.",
@@ -378,6 +417,13 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       10_000),
 
+  STORAGE_ATOMIC_OPERATIONS_OFF_HEAP_CHANGES(
+      "storage.atomicOperations.offHeapChanges",
+      "Indicates whether changes of pages done inside of atomic operation should be kept in direct "
+          + "memory taken from the pool of pages instead of Java heap",
+      Boolean.class,
+      false),
+
   STORAGE_MAKE_FULL_CHECKPOINT_AFTER_CLUSTER_CREATE(
       "storage.makeFullCheckpointAfterClusterCreate",
       "Indicates whether a full checkpoint should be performed, if storage was opened",
@@ -416,6 +462,13 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       256),
 
+  STORAGE_DOUBLE_WRITE_LOG_SHARDS(
+      "storage.doubleWriteLog.shards",
+      "Amount of shards of double write log. Pages are written into shards in parallel, "
+          + "1 means that all pages are written into the single file",
+      Integer.class,
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()))),
+
   @Deprecated
   STORAGE_TRACK_PAGE_OPERATIONS_IN_TX(
       "storage.trackOperationsInTx",
@@ -437,6 +490,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       OPaginatedCluster.getLatestBinaryVersion()),
 
+  STORAGE_CLUSTER_FILL_FACTOR(
+      "storage.cluster.fillFactor",
+      "Percent of the page of cluster which may be filled by inserted records, the rest of the "
+          + "page is kept for the growth of records during updates. "
+          + "Can be changed for the single cluster by ALTER CLUSTER ... FILLFACTOR",
+      Integer.class,
+      100),
+
   STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS(
       "storage.printWALPerformanceStatistics",
       "Periodically prints statistics about WAL performance",
@@ -488,6 +549,27 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Boolean.class,
       true),
 
+  WAL_GROUP_COMMIT(
+      "storage.wal.groupCommit",
+      "Indicates whether commit of transaction should wait till its changes are fsync-ed to WAL. "
+          + "Concurrent commits are grouped, so WAL is fsync-ed once for the whole group",
+      Boolean.class,
+      false),
+
+  WAL_GROUP_COMMIT_TARGET_LATENCY(
+      "storage.wal.groupCommit.targetLatency",
+      "Target 99th percentile of latency of durable commit (in microseconds). "
+          + "Interval during which commits are gathered into a single group is adapted "
+          + "to keep latency of commits below this value",
+      Integer.class,
+      2000),
+
+  WAL_GROUP_COMMIT_MAX_SIZE(
+      "storage.wal.groupCommit.maxSize",
+      "Maximum amount of commits which are fsync-ed to WAL as a single group",
+      Integer.class,
+      256),
+
   WAL_CACHE_SIZE(
       "storage.wal.cacheSize",
       "Maximum size of WAL cache (in amount of WAL pages, each page is 4k) If set to 0, caching will be disabled",
@@ -580,6 +662,16 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       300),
 
+  WAL_CHECKPOINT_TARGET_LAG(
+      "storage.wal.checkpointTargetLag",
+      "Distance between the oldest not flushed change of pages and the end of WAL (in megabytes) "
+          + "which background flush of pages tries to keep. Pages are flushed continuously with "
+          + "the speed of WAL growth, and faster if this distance is exceeded. "
+          + "-1 means half of storage.wal.maxSize, "
+          + "or not limited distance if size of WAL is not limited",
+      Integer.class,
+      -1),
+
   WAL_REPORT_AFTER_OPERATIONS_DURING_RESTORE(
       "storage.wal.reportAfterOperationsDuringRestore",
       "Amount of processed log operations, after which status of data restore procedure will be printed (0 or a negative value, disables the logging)",
@@ -592,6 +684,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  WAL_RESTORE_THREADS(
+      "storage.wal.restore.threads",
+      "Amount of threads which apply changes of pages during restore of data from WAL. "
+          + "Changes of the same page are always applied by the same thread. "
+          + "-1 means amount of CPU cores, 1 means that changes are applied sequentially",
+      Integer.class,
+      -1),
+
   @Deprecated
   WAL_READ_CACHE_SIZE(
       "storage.wal.readCacheSize",
@@ -1009,6 +1109,21 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       1000,
       true),
 
+  NETWORK_EVENT_LOOP(
+      "network.eventLoop",
+      "Serve the connections of a listener with an event loop that waits for the requests of all the idle "
+          + "connections and executes them on a bounded pool of workers, instead of with a thread per connection. "
+          + "Connections of SSL sockets are always served by their own thread",
+      Boolean.class,
+      false),
+
+  NETWORK_EVENT_LOOP_WORKERS(
+      "network.eventLoop.workers",
+      "Maximum number of threads that execute the requests of the connections served by an event loop. When "
+          + "all of them are busy the next requests are left in the socket buffers until a worker is free",
+      Integer.class,
+      64),
+
   NETWORK_SOCKET_BUFFER_SIZE(
       "network.socketBufferSize",
       "TCP/IP Socket buffer size, if 0 use the OS default",
@@ -1090,6 +1205,47 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       26,
       false),
 
+  NETWORK_BINARY_MULTIPLEXING(
+      "network.binary.multiplexing",
+      "Accept the clients that ask to send many concurrent requests on the same connection (protocol 39+). The "
+          + "requests are executed by a pool of workers and the responses are sent as soon as they are ready",
+      Boolean.class,
+      true),
+
+  NETWORK_BINARY_MULTIPLEXING_WORKERS(
+      "network.binary.multiplexing.workers",
+      "Maximum number of threads that execute the requests received on multiplexed connections",
+      Integer.class,
+      64),
+
+  NETWORK_BINARY_RECORD_STORAGE_FORMAT(
+      "network.binary.recordStorageFormat",
+      "Send the documents loaded by the clients (protocol 41+), and the documents returned by their queries, "
+          + "with the bytes read from the storage instead of converting them to the network format. The clients "
+          + "decode the fields when they are accessed",
+      Boolean.class,
+      false),
+
+  NETWORK_BINARY_COMPRESSION(
+      "network.binary.compression",
+      "Compression algorithm (eg. lz4, gzip) that the client asks the server to use on its connections "
+          + "(protocol 42+), in both directions. Empty to send the data uncompressed",
+      String.class,
+      ""),
+
+  NETWORK_BINARY_COMPRESSION_ACCEPTED(
+      "network.binary.compression.accepted",
+      "Accept the clients that ask to compress the data sent on their connections",
+      Boolean.class,
+      true),
+
+  NETWORK_BINARY_COMPRESSION_THRESHOLD(
+      "network.binary.compression.threshold",
+      "Minimum size (in bytes) of the data flushed at once on a compressed connection to compress it, "
+          + "smaller requests and responses are sent as they are",
+      Integer.class,
+      1024),
+
   NETWORK_BINARY_DEBUG(
       "network.binary.debug",
       "Debug mode: print all data incoming on the binary channel",
@@ -1326,6 +1482,21 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  QUERY_REMOTE_RESULTSET_STREAMING(
+      "query.remoteResultSet.streaming",
+      "Stream the results of remote queries: the server sends up to the number of results granted by the "
+          + "client (the credit) as a sequence of frames. The credit starts from the page size and doubles at "
+          + "each page. This has to be set on the client",
+      Boolean.class,
+      false),
+
+  QUERY_REMOTE_RESULTSET_MAX_CREDIT(
+      "query.remoteResultSet.maxCredit",
+      "Maximum number of results that the server can stream to the client before the client asks for more, "
+          + "it bounds the memory used by the client for a streamed query. This has to be set on the client",
+      Integer.class,
+      20000),
+
   QUERY_REMOTE_SEND_EXECUTION_PLAN(
       "query.remoteResultSet.sendExecutionPlan",
       "Send the execution plan details or not. False by default",
@@ -1350,10 +1521,12 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       20000),
 
-  @Deprecated
   QUERY_SCAN_PREFETCH_PAGES(
       "query.scanPrefetchPages",
-      "Pages to prefetch during scan. Setting this value higher makes scans faster, because it reduces the number of I/O operations, though it consumes more memory. (Use 0 to disable)",
+      "Pages to prefetch during scan. Pages are read ahead by a single batch of reads once "
+          + "sequential access of pages of a file is detected. Setting this value higher makes "
+          + "scans faster, because it reduces the number of I/O operations, though it consumes "
+          + "more memory. (Use 0 to disable)",
       Integer.class,
       20),
 
@@ -1380,10 +1553,46 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       "query.maxHeapElementsAllowedPerOp",
       "Maximum number of elements (records) allowed in a single query for memory-intensive operations (eg. ORDER BY in heap). "
           + "If exceeded, the query fails with an OCommandExecutionException. Negative number means no limit."
-          + "This setting is intended as a safety measure against excessive resource consumption from a single query (eg. prevent OutOfMemory)",
+          + "This setting is intended as a safety measure against excessive resource consumption from a single query (eg. prevent OutOfMemory)."
+          + " ORDER BY does not fail if query.orderBy.spillToDisk is enabled",
       Long.class,
       500_000),
 
+  QUERY_ORDER_BY_SPILL_TO_DISK(
+      "query.orderBy.spillToDisk",
+      "If true, when an ORDER BY exceeds query.maxHeapElementsAllowedPerOp elements, the sorted partial results are written to temporary files "
+          + "and merged when the results are returned, instead of failing the query",
+      Boolean.class,
+      true),
+
+  QUERY_BATCH_EXECUTION(
+      "query.batchExecution",
+      "If true, filters on numeric properties, plain projections and aggregations are executed on batches of records "
+          + "in column-major layout instead of one record at a time",
+      Boolean.class,
+      false),
+
+  QUERY_COMPILED_EXPRESSIONS(
+      "query.compiledExpressions",
+      "If true, WHERE conditions and projections are compiled into trees of lambdas before the execution, "
+          + "instead of interpreting the parsed query for each record",
+      Boolean.class,
+      false),
+
+  QUERY_STATISTICS_HISTOGRAM_BUCKETS(
+      "query.statistics.histogramBuckets",
+      "Number of buckets of the histograms built by ANALYZE CLASS on the indexed properties. More buckets give better "
+          + "estimations on skewed data, but take more memory for each index",
+      Integer.class,
+      100),
+
+  QUERY_STATISTICS_REFRESH_RATIO(
+      "query.statistics.refreshRatio",
+      "Fraction of the entries of an index that can be changed after ANALYZE CLASS before the statistics of the index "
+          + "are calculated again in background. Zero disables the refresh",
+      Float.class,
+      0.2f),
+
   QUERY_LIVE_SUPPORT(
       "query.live.support",
       "Enable/Disable the support of live query. (Use false to disable)",
@@ -1986,6 +2195,13 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Boolean.class,
       false),
 
+  CLIENT_CHANNEL_MULTIPLEXING(
+      "client.channel.multiplexing",
+      "Send the concurrent requests to a server on a single shared channel instead of a channel per request, if the "
+          + "server supports it (protocol 39+). Responses are correlated to the requests by id and can arrive in any order",
+      Boolean.class,
+      false),
+
   CLIENT_CHANNEL_IDLE_TIMEOUT(
       "client.channel.idleTimeout", "sockets maximum time idle in seconds", Integer.class, 900),
 
@@ -43,6 +43,7 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.serialization.serializer.OJSONWriter;
 import com.orientechnologies.orient.core.serialization.serializer.record.string.ORecordSerializerJSON;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.orientechnologies.orient.core.storage.cache.OCacheScan;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -186,6 +187,9 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
     }
 
     final Set<ORID> brokenRids = new HashSet<>();
+    // records are browsed as bulk scan, so export does not evict pages of the working set of
+    // other database operations from the disk cache
+    final OCacheScan cacheScan = new OCacheScan();
 
     writer.beginCollection(level, true, "records");
     int exportedClusters = 0;
@@ -223,6 +227,7 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
         ORecord rec = null;
         try {
           ORecordIteratorCluster<ORecord> it = database.browseCluster(clusterName);
+          it.setCacheScan(cacheScan);
 
           for (; it.hasNext(); ) {
 
@@ -289,6 +294,10 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
             + brokenRids.size()
             + " records were detected as broken\n");
 
+    if (cacheScan.getRequests() > 0) {
+      listener.onMessage("Disk cache hit rate during export: " + cacheScan.hitRate() + "%\n");
+    }
+
     writer.beginCollection(level, true, "brokenRids");
 
     boolean firsBrokenRid = true;
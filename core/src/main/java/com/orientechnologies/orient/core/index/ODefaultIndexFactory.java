@@ -21,6 +21,9 @@ import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeSingleValueIndexEngine;
+import com.orientechnologies.orient.core.index.engine.v1.ONormalizedKeyIndexEngine;
+import com.orientechnologies.orient.core.index.engine.v1.ONormalizedKeyMultiValueIndexEngine;
+import com.orientechnologies.orient.core.index.engine.v1.ONormalizedKeySingleValueIndexEngine;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.OStorage;
@@ -48,6 +51,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
   static final String SBTREE_BONSAI_VALUE_CONTAINER = "SBTREEBONSAISET";
   public static final String NONE_VALUE_CONTAINER = "NONE";
   static final String CELL_BTREE_ALGORITHM = "CELL_BTREE";
+  static final String NKBTREE_ALGORITHM = "NKBTREE";
 
   private static final Set<String> TYPES;
   private static final Set<String> ALGORITHMS;
@@ -65,6 +69,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
     final Set<String> algorithms = new HashSet<>();
     algorithms.add(SBTREE_ALGORITHM);
     algorithms.add(CELL_BTREE_ALGORITHM);
+    algorithms.add(NKBTREE_ALGORITHM);
 
     ALGORITHMS = Collections.unmodifiableSet(algorithms);
   }
@@ -194,6 +199,8 @@ public class ODefaultIndexFactory implements OIndexFactory {
         return OSBTreeIndexEngine.VERSION;
       case CELL_BTREE_ALGORITHM:
         return OCellBTreeIndexEngine.VERSION;
+      case NKBTREE_ALGORITHM:
+        return ONormalizedKeyIndexEngine.VERSION;
     }
 
     throw new IllegalStateException("Invalid algorithm name " + algorithm);
@@ -237,6 +244,17 @@ public class ODefaultIndexFactory implements OIndexFactory {
                       indexId, name, (OAbstractPaginatedStorage) storage, version);
             }
             break;
+          case NKBTREE_ALGORITHM:
+            if (multiValue) {
+              indexEngine =
+                  new ONormalizedKeyMultiValueIndexEngine(
+                      indexId, name, (OAbstractPaginatedStorage) storage, version);
+            } else {
+              indexEngine =
+                  new ONormalizedKeySingleValueIndexEngine(
+                      indexId, name, (OAbstractPaginatedStorage) storage, version);
+            }
+            break;
           default:
             throw new IllegalStateException("Invalid name of algorithm :'" + "'");
         }
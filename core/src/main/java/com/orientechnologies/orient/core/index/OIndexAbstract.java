@@ -79,6 +79,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
   private static final OAlwaysGreaterKey ALWAYS_GREATER_KEY = new OAlwaysGreaterKey();
   protected static final String CONFIG_MAP_RID = "mapRid";
   private static final String CONFIG_CLUSTERS = "clusters";
+  private static final String CONFIG_STATISTICS = "statistics";
   protected final String type;
   protected final ODocument metadata;
   protected final OAbstractPaginatedStorage storage;
@@ -96,6 +97,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
   protected Set<String> clustersToIndex = new HashSet<>();
   private String algorithm;
   private volatile OIndexDefinition indexDefinition;
+  private volatile ODocument statistics;
   private final Map<String, String> engineProperties = new HashMap<>();
   protected final int binaryFormatVersion;
 
@@ -298,6 +300,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
       clustersToIndex.addAll(indexMetadata.getClustersToIndex());
       algorithm = indexMetadata.getAlgorithm();
       valueContainerAlgorithm = indexMetadata.getValueContainerAlgorithm();
+      statistics = config.field(CONFIG_STATISTICS);
 
       try {
         indexId = storage.loadIndexEngine(name);
@@ -791,9 +794,29 @@ public abstract class OIndexAbstract implements OIndexInternal {
         type, name, version, indexDefinition, clustersToIndex, algorithm, valueContainerAlgorithm);
     if (metadata != null)
       configuration.document.field(OIndexInternal.METADATA, metadata, OType.EMBEDDED);
+    final ODocument statistics = this.statistics;
+    if (statistics != null)
+      configuration.document.field(CONFIG_STATISTICS, statistics, OType.EMBEDDED);
+    else configuration.document.removeField(CONFIG_STATISTICS);
     return configuration.getDocument();
   }
 
+  /**
+   * @return the statistics calculated by <code>ANALYZE CLASS</code> on the keys of the index, as
+   *     they are stored in its configuration, null if they were never calculated
+   */
+  public ODocument getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Replaces the statistics stored in the configuration of the index. They are persisted with the
+   * next save of the index manager.
+   */
+  public void setStatistics(final ODocument statistics) {
+    this.statistics = statistics;
+  }
+
   public void addTxOperation(IndexTxSnapshot snapshots, final OTransactionIndexChanges changes) {
     acquireSharedLock();
     try {
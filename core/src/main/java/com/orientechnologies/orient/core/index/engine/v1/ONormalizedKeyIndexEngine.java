@@ -0,0 +1,7 @@
+package com.orientechnologies.orient.core.index.engine.v1;
+
+import com.orientechnologies.orient.core.index.engine.OV1IndexEngine;
+
+public interface ONormalizedKeyIndexEngine extends OV1IndexEngine {
+  int VERSION = 1;
+}
@@ -0,0 +1,304 @@
+package com.orientechnologies.orient.core.index.engine.v1;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.index.engine.OMultiValueIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKey;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeyEncoder;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeySerializer;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Not unique index engine that stores the keys normalized by {@link NormalizedKeyEncoder}. Every
+ * entry is a key of the tree made of the normalized key followed by the RID, so all the RIDs of a
+ * key are the entries that start with the normalized key.
+ */
+public final class ONormalizedKeyMultiValueIndexEngine
+    implements OMultiValueIndexEngine, ONormalizedKeyIndexEngine {
+  private static final String DATA_FILE_EXTENSION = ".nkt";
+  private static final String NULL_BUCKET_FILE_EXTENSION = ".nkn";
+  private static final OType[] TREE_KEY_TYPES = new OType[] {OType.BINARY};
+
+  private final OCellBTreeSingleValue<NormalizedKey> sbTree;
+  private final String name;
+  private final int id;
+
+  private volatile OType[] keyTypes;
+
+  public ONormalizedKeyMultiValueIndexEngine(
+      int id, String name, OAbstractPaginatedStorage storage, final int version) {
+    this.id = id;
+    this.name = name;
+
+    if (version != VERSION) {
+      throw new IllegalStateException("Invalid tree version " + version);
+    }
+    this.sbTree =
+        new CellBTreeSingleValueV3<>(
+            name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+  }
+
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public void init(
+      String indexName,
+      String indexType,
+      OIndexDefinition indexDefinition,
+      boolean isAutomatic,
+      ODocument metadata) {}
+
+  @Override
+  public void flush() {}
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void create(
+      OAtomicOperation atomicOperation,
+      @SuppressWarnings("rawtypes") OBinarySerializer valueSerializer,
+      boolean isAutomatic,
+      OType[] keyTypes,
+      boolean nullPointerSupport,
+      @SuppressWarnings("rawtypes") OBinarySerializer keySerializer,
+      int keySize,
+      Map<String, String> engineProperties,
+      OEncryption encryption) {
+    NormalizedKeyEncoder.checkTypes(keyTypes);
+    this.keyTypes = keyTypes;
+    try {
+      sbTree.create(
+          atomicOperation, NormalizedKeySerializer.INSTANCE, TREE_KEY_TYPES, 1, encryption);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during creation of index " + name), e);
+    }
+  }
+
+  @Override
+  public void delete(OAtomicOperation atomicOperation) {
+    try {
+      doClearTree(atomicOperation);
+      sbTree.delete(atomicOperation);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during deletion of index " + name), e);
+    }
+  }
+
+  private void doClearTree(final OAtomicOperation atomicOperation) {
+    try (Stream<NormalizedKey> stream = sbTree.keyStream()) {
+      stream.forEach(
+          (key) -> {
+            try {
+              sbTree.remove(atomicOperation, key);
+            } catch (IOException e) {
+              throw OException.wrapException(
+                  new OIndexException("Error during cleaning of index " + name), e);
+            }
+          });
+    }
+  }
+
+  @Override
+  public void load(
+      final String name,
+      final int keySize,
+      final OType[] keyTypes,
+      @SuppressWarnings("rawtypes") final OBinarySerializer keySerializer,
+      final OEncryption encryption) {
+    this.keyTypes = keyTypes;
+    sbTree.load(name, 1, TREE_KEY_TYPES, NormalizedKeySerializer.INSTANCE, encryption);
+  }
+
+  @Override
+  public boolean remove(final OAtomicOperation atomicOperation, Object key, ORID value) {
+    try {
+      return sbTree.remove(atomicOperation, normalize(key, value)) != null;
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException(
+              "Error during removal of entry with key "
+                  + key
+                  + "and RID "
+                  + value
+                  + " from index "
+                  + name),
+          e);
+    }
+  }
+
+  @Override
+  public void clear(OAtomicOperation atomicOperation) {
+    doClearTree(atomicOperation);
+  }
+
+  @Override
+  public void close() {
+    sbTree.close();
+  }
+
+  @Override
+  public Stream<ORID> get(Object key) {
+    final byte[] prefix = encode(key);
+    //noinspection resource
+    return sbTree
+        .iterateEntriesBetween(
+            new NormalizedKey(prefix),
+            true,
+            ONormalizedKeySingleValueIndexEngine.upperBound(prefix, true),
+            true,
+            true)
+        .map((pair) -> pair.second);
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> stream(ValuesTransformer valuesTransformer) {
+    return mapStream(
+        sbTree.iterateEntriesMajor(
+            ONormalizedKeySingleValueIndexEngine.firstNotNull(), true, true));
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> descStream(ValuesTransformer valuesTransformer) {
+    return mapStream(
+        sbTree.iterateEntriesMajor(
+            ONormalizedKeySingleValueIndexEngine.firstNotNull(), true, false));
+  }
+
+  @Override
+  public Stream<Object> keyStream() {
+    return stream(null).map((pair) -> pair.first);
+  }
+
+  @Override
+  public void put(OAtomicOperation atomicOperation, Object key, ORID value) {
+    try {
+      sbTree.put(atomicOperation, normalize(key, value), value);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException(
+              "Error during insertion of key " + key + " and RID " + value + " to index " + name),
+          e);
+    }
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesBetween(
+      Object rangeFrom,
+      boolean fromInclusive,
+      Object rangeTo,
+      boolean toInclusive,
+      boolean ascSortOrder,
+      ValuesTransformer transformer) {
+    if (rangeFrom == null) {
+      return iterateEntriesMinor(rangeTo, toInclusive, ascSortOrder, transformer);
+    }
+    if (rangeTo == null) {
+      return iterateEntriesMajor(rangeFrom, fromInclusive, ascSortOrder, transformer);
+    }
+    return mapStream(
+        sbTree.iterateEntriesBetween(
+            ONormalizedKeySingleValueIndexEngine.lowerBound(encode(rangeFrom), fromInclusive),
+            fromInclusive,
+            ONormalizedKeySingleValueIndexEngine.upperBound(encode(rangeTo), toInclusive),
+            toInclusive,
+            ascSortOrder));
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesMajor(
+      Object fromKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
+    if (fromKey == null) {
+      return ascSortOrder ? stream(transformer) : descStream(transformer);
+    }
+    return mapStream(
+        sbTree.iterateEntriesMajor(
+            ONormalizedKeySingleValueIndexEngine.lowerBound(encode(fromKey), isInclusive),
+            isInclusive,
+            ascSortOrder));
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesMinor(
+      Object toKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
+    if (toKey == null) {
+      return ascSortOrder ? stream(transformer) : descStream(transformer);
+    }
+    return mapStream(
+        sbTree.iterateEntriesBetween(
+            ONormalizedKeySingleValueIndexEngine.firstNotNull(),
+            true,
+            ONormalizedKeySingleValueIndexEngine.upperBound(encode(toKey), isInclusive),
+            isInclusive,
+            ascSortOrder));
+  }
+
+  private byte[] encode(final Object key) {
+    return NormalizedKeyEncoder.encode(key, keyTypes);
+  }
+
+  private NormalizedKey normalize(final Object key, final ORID rid) {
+    return new NormalizedKey(NormalizedKeyEncoder.encode(key, rid, keyTypes));
+  }
+
+  private static Stream<ORawPair<Object, ORID>> mapStream(
+      final Stream<ORawPair<NormalizedKey, ORID>> stream) {
+    return stream.map(
+        (pair) -> {
+          final byte[] bytes = pair.first.getBytes();
+          final int keyLength = bytes.length - NormalizedKeyEncoder.RID_SIZE;
+          return new ORawPair<>(NormalizedKeyEncoder.decode(bytes, keyLength), pair.second);
+        });
+  }
+
+  @Override
+  public long size(final ValuesTransformer transformer) {
+    return sbTree.size();
+  }
+
+  @Override
+  public boolean hasRangeQuerySupport() {
+    return true;
+  }
+
+  @Override
+  public boolean acquireAtomicExclusiveLock(Object key) {
+    sbTree.acquireAtomicExclusiveLock();
+    return true;
+  }
+
+  @Override
+  public String getIndexNameByKey(Object key) {
+    return name;
+  }
+
+  @Override
+  public void updateUniqueIndexVersion(final Object key) {
+    // not implemented
+  }
+
+  @Override
+  public int getUniqueIndexVersion(final Object key) {
+    return 0; // not implemented
+  }
+}
@@ -0,0 +1,327 @@
+package com.orientechnologies.orient.core.index.engine.v1;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKey;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeyEncoder;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeySerializer;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMap;
+import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMapV0;
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Unique index engine that stores the keys normalized by {@link NormalizedKeyEncoder}, so that the
+ * tree compares them as plain byte strings. The null key is stored in the same tree, before all the
+ * other keys.
+ */
+public final class ONormalizedKeySingleValueIndexEngine
+    implements OSingleValueIndexEngine, ONormalizedKeyIndexEngine {
+  private static final String DATA_FILE_EXTENSION = ".nkt";
+  private static final String NULL_BUCKET_FILE_EXTENSION = ".nkn";
+  private static final OType[] TREE_KEY_TYPES = new OType[] {OType.BINARY};
+
+  private final OCellBTreeSingleValue<NormalizedKey> sbTree;
+  private final OVersionPositionMap versionPositionMap;
+  private final String name;
+  private final int id;
+
+  private volatile OType[] keyTypes;
+
+  public ONormalizedKeySingleValueIndexEngine(
+      int id, String name, OAbstractPaginatedStorage storage, int version) {
+    this.name = name;
+    this.id = id;
+
+    if (version != VERSION) {
+      throw new IllegalStateException("Invalid tree version " + version);
+    }
+    this.sbTree =
+        new CellBTreeSingleValueV3<>(
+            name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+    versionPositionMap =
+        new OVersionPositionMapV0(
+            storage, name, name + DATA_FILE_EXTENSION, OVersionPositionMap.DEF_EXTENSION);
+  }
+
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public void init(
+      String indexName,
+      String indexType,
+      OIndexDefinition indexDefinition,
+      boolean isAutomatic,
+      ODocument metadata) {}
+
+  @Override
+  public void flush() {}
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void create(
+      OAtomicOperation atomicOperation,
+      OBinarySerializer valueSerializer,
+      boolean isAutomatic,
+      OType[] keyTypes,
+      boolean nullPointerSupport,
+      OBinarySerializer keySerializer,
+      int keySize,
+      Map<String, String> engineProperties,
+      OEncryption encryption) {
+    NormalizedKeyEncoder.checkTypes(keyTypes);
+    this.keyTypes = keyTypes;
+    try {
+      sbTree.create(
+          atomicOperation, NormalizedKeySerializer.INSTANCE, TREE_KEY_TYPES, 1, encryption);
+      versionPositionMap.create(atomicOperation);
+    } catch (IOException e) {
+      throw OException.wrapException(new OIndexException("Error of creation of index " + name), e);
+    }
+  }
+
+  @Override
+  public void delete(final OAtomicOperation atomicOperation) {
+    try {
+      doClearTree(atomicOperation);
+      sbTree.delete(atomicOperation);
+      versionPositionMap.delete(atomicOperation);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during deletion of index " + name), e);
+    }
+  }
+
+  private void doClearTree(OAtomicOperation atomicOperation) {
+    try (Stream<NormalizedKey> stream = sbTree.keyStream()) {
+      stream.forEach(
+          (key) -> {
+            try {
+              sbTree.remove(atomicOperation, key);
+            } catch (IOException e) {
+              throw OException.wrapException(new OIndexException("Can not clear index"), e);
+            }
+          });
+    }
+  }
+
+  @Override
+  public void load(
+      String indexName,
+      final int keySize,
+      final OType[] keyTypes,
+      final OBinarySerializer keySerializer,
+      final OEncryption encryption) {
+    this.keyTypes = keyTypes;
+    sbTree.load(indexName, 1, TREE_KEY_TYPES, NormalizedKeySerializer.INSTANCE, encryption);
+    try {
+      versionPositionMap.open();
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during VPM load of index " + indexName), e);
+    }
+  }
+
+  @Override
+  public boolean remove(OAtomicOperation atomicOperation, Object key) {
+    try {
+      return sbTree.remove(atomicOperation, normalize(key)) != null;
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during removal of key " + key + " from index " + name), e);
+    }
+  }
+
+  @Override
+  public void clear(OAtomicOperation atomicOperation) {
+    doClearTree(atomicOperation);
+  }
+
+  @Override
+  public void close() {
+    sbTree.close();
+  }
+
+  @Override
+  public Stream<ORID> get(Object key) {
+    final ORID rid = sbTree.get(normalize(key));
+    if (rid == null) {
+      return Stream.empty();
+    }
+    return Stream.of(rid);
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> stream(ValuesTransformer valuesTransformer) {
+    return mapStream(sbTree.iterateEntriesMajor(firstNotNull(), true, true));
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> descStream(ValuesTransformer valuesTransformer) {
+    return mapStream(sbTree.iterateEntriesMajor(firstNotNull(), true, false));
+  }
+
+  @Override
+  public Stream<Object> keyStream() {
+    return stream(null).map((pair) -> pair.first);
+  }
+
+  @Override
+  public void put(OAtomicOperation atomicOperation, Object key, ORID value) {
+    try {
+      sbTree.put(atomicOperation, normalize(key), value);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during insertion of key " + key + " into index " + name), e);
+    }
+  }
+
+  @Override
+  public boolean validatedPut(
+      OAtomicOperation atomicOperation, Object key, ORID value, Validator<Object, ORID> validator) {
+    try {
+      return sbTree.validatedPut(
+          atomicOperation,
+          normalize(key),
+          value,
+          (normalizedKey, oldValue, newValue) -> validator.validate(key, oldValue, newValue));
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during insertion of key " + key + " into index " + name), e);
+    }
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesBetween(
+      Object rangeFrom,
+      boolean fromInclusive,
+      Object rangeTo,
+      boolean toInclusive,
+      boolean ascSortOrder,
+      ValuesTransformer transformer) {
+    if (rangeFrom == null) {
+      return iterateEntriesMinor(rangeTo, toInclusive, ascSortOrder, transformer);
+    }
+    if (rangeTo == null) {
+      return iterateEntriesMajor(rangeFrom, fromInclusive, ascSortOrder, transformer);
+    }
+    final byte[] from = encode(rangeFrom);
+    final byte[] to = encode(rangeTo);
+    return mapStream(
+        sbTree.iterateEntriesBetween(
+            lowerBound(from, fromInclusive),
+            fromInclusive,
+            upperBound(to, toInclusive),
+            toInclusive,
+            ascSortOrder));
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesMajor(
+      Object fromKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
+    if (fromKey == null) {
+      return ascSortOrder ? stream(transformer) : descStream(transformer);
+    }
+    return mapStream(
+        sbTree.iterateEntriesMajor(
+            lowerBound(encode(fromKey), isInclusive), isInclusive, ascSortOrder));
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesMinor(
+      Object toKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
+    if (toKey == null) {
+      return ascSortOrder ? stream(transformer) : descStream(transformer);
+    }
+    return mapStream(
+        sbTree.iterateEntriesBetween(
+            firstNotNull(),
+            true,
+            upperBound(encode(toKey), isInclusive),
+            isInclusive,
+            ascSortOrder));
+  }
+
+  /** partial keys match all the keys that start with them, see {@link NormalizedKeyEncoder} */
+  static NormalizedKey lowerBound(final byte[] key, final boolean inclusive) {
+    return new NormalizedKey(inclusive ? key : NormalizedKeyEncoder.upperBound(key));
+  }
+
+  static NormalizedKey upperBound(final byte[] key, final boolean inclusive) {
+    return new NormalizedKey(inclusive ? NormalizedKeyEncoder.upperBound(key) : key);
+  }
+
+  static NormalizedKey firstNotNull() {
+    return new NormalizedKey(NormalizedKeyEncoder.FIRST_NOT_NULL);
+  }
+
+  private byte[] encode(final Object key) {
+    return NormalizedKeyEncoder.encode(key, keyTypes);
+  }
+
+  private NormalizedKey normalize(final Object key) {
+    return new NormalizedKey(encode(key));
+  }
+
+  private static Stream<ORawPair<Object, ORID>> mapStream(
+      final Stream<ORawPair<NormalizedKey, ORID>> stream) {
+    return stream.map(
+        (pair) -> {
+          final byte[] bytes = pair.first.getBytes();
+          return new ORawPair<>(NormalizedKeyEncoder.decode(bytes, bytes.length), pair.second);
+        });
+  }
+
+  @Override
+  public long size(final ValuesTransformer transformer) {
+    return sbTree.size();
+  }
+
+  @Override
+  public boolean hasRangeQuerySupport() {
+    return true;
+  }
+
+  @Override
+  public boolean acquireAtomicExclusiveLock(Object key) {
+    sbTree.acquireAtomicExclusiveLock();
+    return true;
+  }
+
+  @Override
+  public String getIndexNameByKey(Object key) {
+    return name;
+  }
+
+  @Override
+  public void updateUniqueIndexVersion(final Object key) {
+    final int keyHash = versionPositionMap.getKeyHash(key);
+    versionPositionMap.updateVersion(keyHash);
+  }
+
+  @Override
+  public int getUniqueIndexVersion(final Object key) {
+    final int keyHash = versionPositionMap.getKeyHash(key);
+    return versionPositionMap.getVersion(keyHash);
+  }
+}
@@ -34,6 +34,7 @@ import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.storage.OPhysicalPosition;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cache.OCacheScan;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -67,6 +68,7 @@ public abstract class OIdentifiableIterator<REC extends OIdentifiable>
   private long currentEntry = ORID.CLUSTER_POS_INVALID;
   private int currentEntryPosition = -1;
   private OPhysicalPosition[] positionsToProcess = null;
+  private OCacheScan cacheScan;
 
   /**
    * Set of RIDs of records which were indicated as broken during cluster iteration. Mainly used
@@ -117,6 +119,23 @@ public abstract class OIdentifiableIterator<REC extends OIdentifiable>
     throw new UnsupportedOperationException("remove");
   }
 
+  public OCacheScan getCacheScan() {
+    return cacheScan;
+  }
+
+  /**
+   * Marks browsing of records as bulk scan, pages loaded by the iterator are placed into the scan
+   * ring of the disk cache, so browsing of the large clusters does not evict pages of the working
+   * set of other operations.
+   *
+   * @param cacheScan scan which gathers hit rate of the disk cache, or <code>null</code> to browse
+   *     records as usual
+   */
+  public OIdentifiableIterator<REC> setCacheScan(final OCacheScan cacheScan) {
+    this.cacheScan = cacheScan;
+    return this;
+  }
+
   /**
    * Tells if the iterator is using the same record for browsing.
    *
@@ -255,6 +274,19 @@ public abstract class OIdentifiableIterator<REC extends OIdentifiable>
       // LIMIT REACHED
       return null;
 
+    if (cacheScan == null) {
+      return doReadCurrentRecord(iRecord, iMovement);
+    }
+
+    final OCacheScan previousScan = cacheScan.activate();
+    try {
+      return doReadCurrentRecord(iRecord, iMovement);
+    } finally {
+      OCacheScan.restore(previousScan);
+    }
+  }
+
+  private ORecord doReadCurrentRecord(ORecord iRecord, final int iMovement) {
     do {
       final boolean moveResult;
       switch (iMovement) {
@@ -656,6 +656,10 @@ public class OClassEmbedded extends OClassImpl {
       if (prop == null)
         throw new OSchemaException(
             "Property '" + iPropertyName + "' not found in class " + name + "'");
+
+      if (prop.isColumnar()) {
+        OPropertyEmbedded.updateColumns(database, this, prop.getName(), prop.getType(), false);
+      }
     } finally {
       releaseSchemaWriteLock();
     }
@@ -63,6 +63,7 @@ public class OImmutableProperty implements OProperty {
   private final OClass owner;
   private final Integer id;
   private final boolean readOnly;
+  private final boolean columnar;
   private final Comparable<Object> minComparable;
   private final Comparable<Object> maxComparable;
   private final Set<OIndex> indexes;
@@ -92,6 +93,7 @@ public class OImmutableProperty implements OProperty {
     this.owner = owner;
     id = property.getId();
     readOnly = property.isReadonly();
+    columnar = property.isColumnar();
     Comparable<Object> minComparable = null;
     if (min != null) {
       if (type.equals(OType.STRING)) {
@@ -317,6 +319,16 @@ public class OImmutableProperty implements OProperty {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public boolean isColumnar() {
+    return columnar;
+  }
+
+  @Override
+  public OProperty setColumnar(boolean columnar) {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public String getMin() {
     return min;
@@ -452,6 +464,8 @@ public class OImmutableProperty implements OProperty {
         return isMandatory();
       case READONLY:
         return isReadonly();
+      case COLUMNAR:
+        return isColumnar();
       case MAX:
         return getMax();
       case DEFAULT:
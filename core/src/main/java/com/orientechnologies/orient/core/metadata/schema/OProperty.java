@@ -44,6 +44,7 @@ public interface OProperty extends Comparable<OProperty> {
     TYPE,
     CUSTOM,
     READONLY,
+    COLUMNAR,
     COLLATE,
     DEFAULT,
     DESCRIPTION
@@ -92,6 +93,18 @@ public interface OProperty extends Comparable<OProperty> {
 
   OProperty setReadonly(boolean iReadonly);
 
+  /**
+   * @return true if the values of the property are also stored in the columns of the clusters of
+   *     the class, so that aggregations over the property do not read whole records
+   */
+  boolean isColumnar();
+
+  /**
+   * Creates or drops the columns of the property in the clusters of the class. Only numeric,
+   * boolean and date properties can be stored in columns.
+   */
+  OProperty setColumnar(boolean columnar);
+
   /**
    * Min behavior depends on the Property OType.
    *
@@ -131,6 +131,17 @@ public class OPropertyAbstractDelegate implements OProperty {
     return this;
   }
 
+  @Override
+  public boolean isColumnar() {
+    return delegate.isColumnar();
+  }
+
+  @Override
+  public OProperty setColumnar(final boolean columnar) {
+    delegate.setColumnar(columnar);
+    return this;
+  }
+
   @Override
   public String getMin() {
     return delegate.getMin();
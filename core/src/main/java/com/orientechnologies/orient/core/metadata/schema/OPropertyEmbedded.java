@@ -4,6 +4,7 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.collate.OCollate;
 import com.orientechnologies.orient.core.collate.ODefaultCollate;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OSchemaException;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
@@ -12,6 +13,9 @@ import com.orientechnologies.orient.core.metadata.security.ORole;
 import com.orientechnologies.orient.core.metadata.security.ORule;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cluster.column.OPropertyColumn;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -43,6 +47,21 @@ public class OPropertyEmbedded extends OPropertyImpl {
     }
     owner.fireDatabaseMigration(database, globalRef.getName(), globalRef.getType());
 
+    if (isColumnar()) {
+      acquireSchemaWriteLock();
+      try {
+        // values of the columns are encoded according to the type of property
+        updateColumns(database, owner, getName(), getType(), false);
+        if (OPropertyColumn.isTypeSupported(type)) {
+          updateColumns(database, owner, getName(), type, true);
+        } else {
+          this.columnar = false;
+        }
+      } finally {
+        releaseSchemaWriteLock();
+      }
+    }
+
     return this;
   }
 
@@ -234,6 +253,79 @@ public class OPropertyEmbedded extends OPropertyImpl {
     return this;
   }
 
+  public OPropertyImpl setColumnar(final boolean columnar) {
+    getDatabase().checkSecurity(ORule.ResourceGeneric.SCHEMA, ORole.PERMISSION_UPDATE);
+
+    acquireSchemaWriteLock();
+    try {
+      setColumnarInternal(columnar);
+    } finally {
+      releaseSchemaWriteLock();
+    }
+
+    return this;
+  }
+
+  protected void setColumnarInternal(final boolean columnar) {
+    final ODatabaseDocumentInternal database = getDatabase();
+    database.checkSecurity(ORule.ResourceGeneric.SCHEMA, ORole.PERMISSION_UPDATE);
+
+    if (columnar) {
+      if (!OPropertyColumn.isTypeSupported(getType())) {
+        throw new OSchemaException(
+            "Values of property '"
+                + getFullName()
+                + "' of type "
+                + getType()
+                + " can not be "
+                + "stored in columns, only numeric, boolean and date properties are supported");
+      }
+
+      if (database.getTransaction().isActive()) {
+        throw new OSchemaException(
+            "Cannot create columns of property '" + getFullName() + "' inside a transaction");
+      }
+    }
+
+    acquireSchemaWriteLock();
+    try {
+      checkEmbedded();
+
+      if (this.columnar == columnar) {
+        return;
+      }
+
+      // columns are filled before the attribute is set, so if they can not be created the
+      // schema is left unchanged
+      updateColumns(database, owner, getName(), getType(), columnar);
+      this.columnar = columnar;
+    } finally {
+      releaseSchemaWriteLock();
+    }
+  }
+
+  /** Creates or removes columns of the property in all clusters of the class. */
+  static void updateColumns(
+      final ODatabaseDocumentInternal database,
+      final OClass owner,
+      final String property,
+      final OType type,
+      final boolean columnar) {
+    final OStorage storage = database.getStorage();
+    if (!(storage instanceof OAbstractPaginatedStorage)) {
+      return;
+    }
+
+    final OAbstractPaginatedStorage paginatedStorage = (OAbstractPaginatedStorage) storage;
+    for (final int clusterId : owner.getClusterIds()) {
+      if (columnar) {
+        paginatedStorage.addPropertyColumn(clusterId, property, type);
+      } else {
+        paginatedStorage.dropPropertyColumn(clusterId, property);
+      }
+    }
+  }
+
   protected void setCustomInternal(final String iName, final String iValue) {
     acquireSchemaWriteLock();
     try {
@@ -66,6 +66,7 @@ public abstract class OPropertyImpl implements OProperty {
   protected String defaultValue;
   protected String regexp;
   protected boolean readonly;
+  protected boolean columnar;
   protected Map<String, String> customFields;
   protected OCollate collate = new ODefaultCollate();
   protected OGlobalProperty globalRef;
@@ -352,6 +353,15 @@ public abstract class OPropertyImpl implements OProperty {
     }
   }
 
+  public boolean isColumnar() {
+    acquireSchemaReadLock();
+    try {
+      return columnar;
+    } finally {
+      releaseSchemaReadLock();
+    }
+  }
+
   public String getMin() {
     acquireSchemaReadLock();
     try {
@@ -446,6 +456,8 @@ public abstract class OPropertyImpl implements OProperty {
         return isMandatory();
       case READONLY:
         return isReadonly();
+      case COLUMNAR:
+        return isColumnar();
       case MAX:
         return getMax();
       case DEFAULT:
@@ -489,6 +501,9 @@ public abstract class OPropertyImpl implements OProperty {
       case READONLY:
         setReadonly(Boolean.parseBoolean(stringValue));
         break;
+      case COLUMNAR:
+        setColumnar(Boolean.parseBoolean(stringValue));
+        break;
       case MAX:
         setMax(stringValue);
         break;
@@ -638,6 +653,7 @@ public abstract class OPropertyImpl implements OProperty {
 
     mandatory = document.containsField("mandatory") ? (Boolean) document.field("mandatory") : false;
     readonly = document.containsField("readonly") ? (Boolean) document.field("readonly") : false;
+    columnar = document.containsField("columnar") ? (Boolean) document.field("columnar") : false;
     notNull = document.containsField("notNull") ? (Boolean) document.field("notNull") : false;
     defaultValue =
         (String) (document.containsField("defaultValue") ? document.field("defaultValue") : null);
@@ -684,6 +700,7 @@ public abstract class OPropertyImpl implements OProperty {
     document.field("globalId", globalRef.getId());
     document.field("mandatory", mandatory);
     document.field("readonly", readonly);
+    document.field("columnar", columnar);
     document.field("notNull", notNull);
     document.field("defaultValue", defaultValue);
 
@@ -781,6 +798,7 @@ public abstract class OPropertyImpl implements OProperty {
     document.field("globalId", globalRef.getId());
     document.field("mandatory", mandatory);
     document.field("readonly", readonly);
+    document.field("columnar", columnar);
     document.field("notNull", notNull);
     document.field("defaultValue", defaultValue);
 
@@ -153,6 +153,19 @@ public class ORecordSerializerBinary implements ORecordSerializer {
     }
   }
 
+  /**
+   * @return true if any of the link bags of the serialized document is stored as a tree, always
+   *     true for the serialization versions that can't tell it without deserialization
+   */
+  public boolean hasTreeRidBag(ODocument reference, final byte[] iSource) {
+    if (iSource == null || iSource.length == 0) return false;
+    final ODocumentSerializer serializer = serializerByVersion[iSource[0]];
+    if (!(serializer instanceof ORecordSerializerBinaryV1)) return true;
+
+    final BytesContainer container = new BytesContainer(iSource).skip(1);
+    return ((ORecordSerializerBinaryV1) serializer).hasTreeRidBag(reference, container);
+  }
+
   @Override
   public boolean getSupportBinaryEvaluate() {
     return true;
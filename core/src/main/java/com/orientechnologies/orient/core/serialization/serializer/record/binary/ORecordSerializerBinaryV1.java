@@ -308,6 +308,39 @@ public class ORecordSerializerBinaryV1 implements ODocumentSerializer {
     }
   }
 
+  /**
+   * Checks the header of the document without deserialization of the values.
+   *
+   * @return true if any of the link bags of the document is stored as a tree, not embedded
+   */
+  public boolean hasTreeRidBag(final ODocument reference, final BytesContainer bytes) {
+    final int headerLength = OVarIntSerializer.readAsInteger(bytes);
+    final int valuesStart = bytes.offset + headerLength;
+    int cumulativeSize = valuesStart;
+    while (bytes.offset < valuesStart) {
+      final int len = OVarIntSerializer.readAsInteger(bytes);
+      final int fieldLength;
+      final OType type;
+      if (len > 0) {
+        bytes.skip(len);
+        Tuple<Integer, OType> pointerAndType = getFieldSizeAndTypeFromCurrentPosition(bytes);
+        fieldLength = pointerAndType.getFirstVal();
+        type = pointerAndType.getSecondVal();
+      } else {
+        final OGlobalProperty prop = getGlobalProperty(reference, len);
+        fieldLength = OVarIntSerializer.readAsInteger(bytes);
+        type = getPropertyTypeFromStream(prop, bytes);
+      }
+
+      // FIRST BYTE OF LINK BAG IS THE CONFIGURATION, EMBEDDED ONES HAVE THE FIRST BIT SET
+      if (type == OType.LINKBAG && fieldLength != 0 && (bytes.bytes[cumulativeSize] & 1) == 0) {
+        return true;
+      }
+      cumulativeSize += fieldLength;
+    }
+    return false;
+  }
+
   public void deserializeWithClassName(final ODocument document, final BytesContainer bytes) {
 
     final String className = readString(bytes);
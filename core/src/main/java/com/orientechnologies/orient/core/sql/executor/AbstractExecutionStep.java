@@ -47,6 +47,11 @@ public abstract class AbstractExecutionStep implements OExecutionStepInternal {
     prev.ifPresent(p -> p.sendTimeout());
   }
 
+  @Override
+  public void sendStop() {
+    prev.ifPresent(p -> p.sendStop());
+  }
+
   private boolean alreadyClosed = false;
 
   @Override
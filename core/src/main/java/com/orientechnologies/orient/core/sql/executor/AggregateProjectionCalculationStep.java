@@ -3,7 +3,6 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
-import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OGroupBy;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
 import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
@@ -13,15 +12,38 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-/** Created by luigidellaquila on 12/07/16. */
+/**
+ * Calculates aggregate projections, grouping the input by the GROUP BY expressions.
+ *
+ * <p>The aggregation can be split in two phases, to be executed on disjoint subsets of the input in
+ * parallel: a {@link Phase#PARTIAL} step returns one result per group, with the group key and the
+ * aggregation contexts still open, a {@link Phase#MERGE} step combines the partial results of the
+ * same group (see {@link AggregationContext#merge(AggregationContext)}) and calculates the final
+ * values.
+ *
+ * <p>Created by luigidellaquila on 12/07/16.
+ */
 public class AggregateProjectionCalculationStep extends ProjectionCalculationStep {
 
+  public enum Phase {
+    /** the input are records, the output are final aggregated values */
+    COMPLETE,
+    /** the input are records, the output are partial aggregations */
+    PARTIAL,
+    /** the input are partial aggregations, the output are final aggregated values */
+    MERGE
+  }
+
+  /** temporary property of the partial results that contains their {@link GroupByKey} */
+  private static final String GROUP_KEY = "$$$GROUP_KEY$$";
+
   private final OGroupBy groupBy;
   private final long timeoutMillis;
   private final long limit;
+  private final Phase phase;
 
   // the key is the GROUP BY key, the value is the (partially) aggregated value
-  private Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
+  private Map<GroupByKey, OResultInternal> aggregateResults = new LinkedHashMap<>();
   private List<OResultInternal> finalResults = null;
 
   private int nextItem = 0;
@@ -34,10 +56,22 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
       OCommandContext ctx,
       long timeoutMillis,
       boolean profilingEnabled) {
+    this(projection, groupBy, limit, ctx, timeoutMillis, Phase.COMPLETE, profilingEnabled);
+  }
+
+  public AggregateProjectionCalculationStep(
+      OProjection projection,
+      OGroupBy groupBy,
+      long limit,
+      OCommandContext ctx,
+      long timeoutMillis,
+      Phase phase,
+      boolean profilingEnabled) {
     super(projection, ctx, profilingEnabled);
     this.groupBy = groupBy;
     this.timeoutMillis = timeoutMillis;
     this.limit = limit;
+    this.phase = phase;
   }
 
   @Override
@@ -83,6 +117,11 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     };
   }
 
+  @Override
+  public OResultBatch syncPullBatch(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    return OResultBatch.fromResultSet(syncPull(ctx, nRecords));
+  }
+
   private void executeAggregation(OCommandContext ctx, int nRecords) {
     long timeoutBegin = System.currentTimeMillis();
     if (!prev.isPresent()) {
@@ -90,19 +129,33 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
           "Cannot execute an aggregation or a GROUP BY without a previous result");
     }
     OExecutionStepInternal prevStep = prev.get();
-    OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
-    while (lastRs.hasNext()) {
-      if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
-        sendTimeout();
+    if (groupBy == null && phase != Phase.MERGE && OResultBatch.isBatchExecutionEnabled(ctx)) {
+      OResultBatch batch = prevStep.syncPullBatch(ctx, nRecords);
+      while (!batch.isEmpty()) {
+        if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+          sendTimeout();
+        }
+        aggregate(batch, ctx);
+        batch = prevStep.syncPullBatch(ctx, nRecords);
       }
-      aggregate(lastRs.next(), ctx);
-      if (!lastRs.hasNext()) {
-        lastRs = prevStep.syncPull(ctx, nRecords);
+    } else {
+      OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
+      while (lastRs.hasNext()) {
+        if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+          sendTimeout();
+        }
+        aggregate(lastRs.next(), ctx);
+        if (!lastRs.hasNext()) {
+          lastRs = prevStep.syncPull(ctx, nRecords);
+        }
       }
     }
     finalResults = new ArrayList<>();
     finalResults.addAll(aggregateResults.values());
     aggregateResults.clear();
+    if (phase == Phase.PARTIAL) {
+      return;
+    }
     for (OResultInternal item : finalResults) {
       if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
         sendTimeout();
@@ -119,13 +172,12 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
   private void aggregate(OResult next, OCommandContext ctx) {
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
-      List<Object> key = new ArrayList<>();
-      if (groupBy != null) {
-        for (OExpression item : groupBy.getItems()) {
-          Object val = item.execute(next, ctx);
-          key.add(val);
-        }
+      if (phase == Phase.MERGE) {
+        mergePartial((OResultInternal) next);
+        return;
       }
+      GroupByKey key =
+          groupBy == null ? GroupByKey.EMPTY : GroupByKey.of(groupBy.getItems(), next, ctx);
       OResultInternal preAggr = aggregateResults.get(key);
       if (preAggr == null) {
         if (limit > 0 && aggregateResults.size() > limit) {
@@ -139,6 +191,9 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
             preAggr.setProperty(alias, proj.execute(next, ctx));
           }
         }
+        if (phase == Phase.PARTIAL) {
+          preAggr.setTemporaryProperty(GROUP_KEY, key);
+        }
         aggregateResults.put(key, preAggr);
       }
 
@@ -160,10 +215,73 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
   }
 
+  /** aggregates a whole batch of records, without GROUP BY all of them belong to the same group */
+  private void aggregate(OResultBatch batch, OCommandContext ctx) {
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      OResultInternal preAggr = aggregateResults.get(GroupByKey.EMPTY);
+      if (preAggr == null) {
+        OResult first = batch.getResult(0);
+        preAggr = new OResultInternal();
+        for (OProjectionItem proj : this.projection.getItems()) {
+          String alias = proj.getProjectionAlias().getStringValue();
+          if (!proj.isAggregate()) {
+            preAggr.setProperty(alias, proj.execute(first, ctx));
+          }
+        }
+        if (phase == Phase.PARTIAL) {
+          preAggr.setTemporaryProperty(GROUP_KEY, GroupByKey.EMPTY);
+        }
+        aggregateResults.put(GroupByKey.EMPTY, preAggr);
+      }
+
+      for (OProjectionItem proj : this.projection.getItems()) {
+        String alias = proj.getProjectionAlias().getStringValue();
+        if (proj.isAggregate()) {
+          AggregationContext aggrCtx = (AggregationContext) preAggr.getTemporaryProperty(alias);
+          if (aggrCtx == null) {
+            aggrCtx = proj.getAggregationContext(ctx);
+            preAggr.setTemporaryProperty(alias, aggrCtx);
+          }
+          aggrCtx.applyBatch(batch, ctx);
+        }
+      }
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private void mergePartial(OResultInternal partial) {
+    GroupByKey key = (GroupByKey) partial.getTemporaryProperty(GROUP_KEY);
+    partial.setTemporaryProperty(GROUP_KEY, null);
+    OResultInternal preAggr = aggregateResults.get(key);
+    if (preAggr == null) {
+      if (limit > 0 && aggregateResults.size() > limit) {
+        return;
+      }
+      aggregateResults.put(key, partial);
+      return;
+    }
+    for (OProjectionItem proj : this.projection.getItems()) {
+      if (proj.isAggregate()) {
+        String alias = proj.getProjectionAlias().getStringValue();
+        AggregationContext aggrCtx = (AggregationContext) preAggr.getTemporaryProperty(alias);
+        aggrCtx.merge((AggregationContext) partial.getTemporaryProperty(alias));
+      }
+    }
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
     String result = spaces + "+ CALCULATE AGGREGATE PROJECTIONS";
+    if (phase == Phase.PARTIAL) {
+      result += " (PARTIAL)";
+    } else if (phase == Phase.MERGE) {
+      result += " (MERGE PARTIAL)";
+    }
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
@@ -185,6 +303,7 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         limit,
         ctx,
         timeoutMillis,
+        phase,
         profilingEnabled);
   }
 
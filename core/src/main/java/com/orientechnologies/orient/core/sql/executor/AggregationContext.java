@@ -8,4 +8,34 @@ public interface AggregationContext {
   public Object getFinalValue();
 
   void apply(OResult next, OCommandContext ctx);
+
+  /**
+   * Applies the aggregation to all the records of the batch, by default one by one
+   *
+   * @param batch the records
+   * @param ctx the query context
+   */
+  default void applyBatch(OResultBatch batch, OCommandContext ctx) {
+    for (int i = 0; i < batch.size(); i++) {
+      apply(batch.getResult(i), ctx);
+    }
+  }
+
+  /**
+   * @return true if the partial aggregations calculated by different contexts on disjoint subsets
+   *     of the input can be combined with {@link #merge(AggregationContext)}
+   */
+  default boolean isMergeable() {
+    return false;
+  }
+
+  /**
+   * Combines with this aggregation the partial aggregation calculated by another context of the
+   * same kind on a different subset of the input
+   *
+   * @param other the context to merge, it cannot be used anymore after this call
+   */
+  default void merge(AggregationContext other) {
+    throw new UnsupportedOperationException("Aggregation cannot be merged: " + this);
+  }
 }
@@ -0,0 +1,406 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordAbstract;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.disk.OLocalPaginatedStorage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts a sequence of results in bounded memory. The results are kept in heap until {@link
+ * #spill()} is invoked, then the buffer is sorted and written to a temporary file (a sorted run).
+ * The sorted output is produced with a k-way merge of all the runs and of the results still in
+ * heap.
+ *
+ * <p>Results are written with the {@link OResultSerializerNetwork}, records together with their
+ * serialized content, so that the merge does not need to load them again. Runs are written in the
+ * storage directory for disk based databases, where the runs left by a crash are deleted when the
+ * storage is opened again, and in the OrientDB temporary directory otherwise.
+ *
+ * <p>The sort is stable: results that are equal for the comparator are returned in insertion order.
+ */
+public class ExternalMergeSort implements AutoCloseable {
+  public static final String RUN_FILE_EXTENSION = ".osr";
+
+  private static final String RUN_FILE_PREFIX = "orderby";
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private static final String ELEMENT = "e";
+  private static final String RECORD_TYPE = "r";
+  private static final String RECORD_VERSION = "v";
+  private static final String RECORD_CONTENT = "b";
+  private static final String CONTENT = "c";
+  private static final String TEMPORARY = "t";
+
+  private final Comparator<OResult> comparator;
+  private final ODatabaseDocumentInternal db;
+  private final OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+
+  private List<OResult> buffer = new ArrayList<>();
+  private final List<Path> runs = new ArrayList<>();
+  private final List<RunReader> readers = new ArrayList<>();
+  private Path directory;
+
+  public ExternalMergeSort(Comparator<OResult> comparator, ODatabaseDocumentInternal db) {
+    this.comparator = comparator;
+    this.db = db;
+  }
+
+  public void add(OResult item) {
+    buffer.add(item);
+  }
+
+  /** @return the number of results currently kept in heap */
+  public int bufferedSize() {
+    return buffer.size();
+  }
+
+  /** @return the number of sorted runs written to disk so far */
+  public int getRunsCount() {
+    return runs.size();
+  }
+
+  /** sorts the results currently kept in heap and moves them to a new sorted run on disk */
+  public void spill() {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    buffer.sort(comparator);
+    Path run = null;
+    try {
+      run = Files.createTempFile(getDirectory(), RUN_FILE_PREFIX, RUN_FILE_EXTENSION);
+      runs.add(run);
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+        for (OResult item : buffer) {
+          BytesContainer bytes = new BytesContainer();
+          serializer.serialize(toSpillable(item), bytes);
+          out.writeInt(bytes.offset);
+          out.write(bytes.bytes, 0, bytes.offset);
+        }
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Cannot write sorted run to file " + run), e);
+    }
+    buffer = new ArrayList<>();
+  }
+
+  /** @return the sorted results, the sort buffer cannot be used anymore after this call */
+  public Iterator<OResult> sorted() {
+    buffer.sort(comparator);
+    if (runs.isEmpty()) {
+      return buffer.iterator();
+    }
+
+    PriorityQueue<MergeSource> queue =
+        new PriorityQueue<>(
+            runs.size() + 1,
+            (a, b) -> {
+              int result = comparator.compare(a.current, b.current);
+              return result != 0 ? result : Integer.compare(a.index, b.index);
+            });
+    for (Path run : runs) {
+      RunReader reader = new RunReader(readers.size(), run);
+      readers.add(reader);
+      if (reader.advance()) {
+        queue.add(reader);
+      }
+    }
+    // the results in heap are the last ones received, they go after the runs in case of ties
+    MergeSource inHeap = new HeapSource(runs.size(), buffer.iterator());
+    if (inHeap.advance()) {
+      queue.add(inHeap);
+    }
+
+    return new Iterator<OResult>() {
+      @Override
+      public boolean hasNext() {
+        return !queue.isEmpty();
+      }
+
+      @Override
+      public OResult next() {
+        MergeSource source = queue.poll();
+        if (source == null) {
+          throw new NoSuchElementException();
+        }
+        OResult result = source.current;
+        if (source.advance()) {
+          queue.add(source);
+        }
+        return result;
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    for (RunReader reader : readers) {
+      reader.close();
+    }
+    readers.clear();
+    for (Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (IOException e) {
+        OLogManager.instance().warn(this, "Cannot delete sorted run file %s", e, run);
+      }
+    }
+    runs.clear();
+    buffer = new ArrayList<>();
+  }
+
+  /**
+   * Checks if a result can be written to a sorted run and read back without losing information, ie.
+   * it does not contain records that are not persistent yet or values that are not supported by the
+   * {@link OResultSerializerNetwork}
+   */
+  public static boolean isSpillable(OResult item) {
+    if (item.isElement()) {
+      ORID rid = item.getIdentity().orElse(null);
+      if (rid == null || !rid.isPersistent()) {
+        return false;
+      }
+      ORecord record = item.getRecord().orElse(null);
+      if (record != null && record.isDirty()) {
+        return false;
+      }
+    } else {
+      for (String name : item.getPropertyNames()) {
+        if (!isSpillableValue(item.getProperty(name))) {
+          return false;
+        }
+      }
+    }
+    if (item instanceof OResultInternal) {
+      OResultInternal internal = (OResultInternal) item;
+      for (String name : internal.getTemporaryProperties()) {
+        if (!isSpillableValue(internal.getTemporaryProperty(name))) {
+          return false;
+        }
+      }
+    }
+    for (String key : item.getMetadataKeys()) {
+      if (!isSpillableValue(item.getMetadata(key))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSpillableValue(Object value) {
+    if (value == null) {
+      return true;
+    }
+    if (value instanceof OResult) {
+      return isSpillable((OResult) value);
+    }
+    if (value instanceof OIdentifiable) {
+      return ((OIdentifiable) value).getIdentity().isPersistent();
+    }
+    if (value instanceof Collection) {
+      for (Object o : (Collection<?>) value) {
+        if (!isSpillableValue(o)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (value instanceof Map) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        if (!(entry.getKey() instanceof String) || !isSpillableValue(entry.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return OType.getTypeByValue(value) != null;
+  }
+
+  private OResultInternal toSpillable(OResult item) {
+    if (!isSpillable(item)) {
+      throw new OCommandExecutionException(
+          "Cannot write to disk the result " + item + " of an ORDER BY");
+    }
+    OResultInternal spillable = new OResultInternal();
+    if (item.isElement()) {
+      ORecord record = item.getRecord().get();
+      spillable.setProperty(ELEMENT, record.getIdentity());
+      spillable.setProperty(RECORD_TYPE, ORecordInternal.getRecordType(record));
+      spillable.setProperty(RECORD_VERSION, record.getVersion());
+      spillable.setProperty(RECORD_CONTENT, ((ORecordAbstract) record).toStream());
+    } else {
+      OResultInternal content = new OResultInternal();
+      for (String name : item.getPropertyNames()) {
+        content.setProperty(name, item.getProperty(name));
+      }
+      spillable.setProperty(CONTENT, content);
+    }
+    if (item instanceof OResultInternal
+        && !((OResultInternal) item).getTemporaryProperties().isEmpty()) {
+      OResultInternal internal = (OResultInternal) item;
+      OResultInternal temporary = new OResultInternal();
+      for (String name : internal.getTemporaryProperties()) {
+        temporary.setProperty(name, internal.getTemporaryProperty(name));
+      }
+      spillable.setProperty(TEMPORARY, temporary);
+    }
+    for (String key : item.getMetadataKeys()) {
+      spillable.setMetadata(key, item.getMetadata(key));
+    }
+    return spillable;
+  }
+
+  /** @return the result read from a sorted run */
+  private OResultInternal fromSpillable(OResultInternal spillable) {
+    OResultInternal result;
+    ORID rid = spillable.getProperty(ELEMENT);
+    if (rid != null) {
+      byte recordType = spillable.<Number>getProperty(RECORD_TYPE).byteValue();
+      ORecord record =
+          Orient.instance()
+              .getRecordFactoryManager()
+              .newInstance(recordType, rid.getClusterId(), db);
+      ORecordInternal.fill(
+          record,
+          rid,
+          spillable.<Number>getProperty(RECORD_VERSION).intValue(),
+          spillable.getProperty(RECORD_CONTENT),
+          false,
+          db);
+      result = new OResultInternal(record);
+    } else {
+      result = new OResultInternal();
+      OResult content = spillable.getProperty(CONTENT);
+      for (String name : content.getPropertyNames()) {
+        result.setProperty(name, content.getProperty(name));
+      }
+    }
+    OResult temporary = spillable.getProperty(TEMPORARY);
+    if (temporary != null) {
+      for (String name : temporary.getPropertyNames()) {
+        result.setTemporaryProperty(name, temporary.getProperty(name));
+      }
+    }
+    for (String key : spillable.getMetadataKeys()) {
+      result.setMetadata(key, spillable.getMetadata(key));
+    }
+    return result;
+  }
+
+  private Path getDirectory() throws IOException {
+    if (directory == null) {
+      OStorage storage = db.getStorage().getUnderlying();
+      if (storage instanceof OLocalPaginatedStorage) {
+        directory = ((OLocalPaginatedStorage) storage).getStoragePath();
+      } else {
+        directory = Paths.get(Orient.getTempPath());
+        Files.createDirectories(directory);
+      }
+    }
+    return directory;
+  }
+
+  private abstract static class MergeSource {
+    protected final int index;
+    protected OResult current;
+
+    private MergeSource(int index) {
+      this.index = index;
+    }
+
+    /** moves to the next result of the source, returns false if there are no more results */
+    protected abstract boolean advance();
+  }
+
+  private static class HeapSource extends MergeSource {
+    private final Iterator<OResult> iterator;
+
+    private HeapSource(int index, Iterator<OResult> iterator) {
+      super(index);
+      this.iterator = iterator;
+    }
+
+    @Override
+    protected boolean advance() {
+      current = iterator.hasNext() ? iterator.next() : null;
+      return current != null;
+    }
+  }
+
+  private class RunReader extends MergeSource {
+    private final Path file;
+    private DataInputStream in;
+
+    private RunReader(int index, Path file) {
+      super(index);
+      this.file = file;
+    }
+
+    @Override
+    protected boolean advance() {
+      try {
+        if (in == null) {
+          in =
+              new DataInputStream(
+                  new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_SIZE));
+        }
+        int size;
+        try {
+          size = in.readInt();
+        } catch (EOFException e) {
+          current = null;
+          close();
+          return false;
+        }
+        byte[] bytes = new byte[size];
+        in.readFully(bytes);
+        current = fromSpillable(serializer.deserialize(new BytesContainer(bytes)));
+        return true;
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new OCommandExecutionException("Cannot read sorted run from file " + file), e);
+      }
+    }
+
+    private void close() {
+      if (in != null) {
+        try {
+          in.close();
+        } catch (IOException e) {
+          OLogManager.instance().warn(this, "Cannot close sorted run file %s", e, file);
+        }
+        in = null;
+      }
+    }
+  }
+}
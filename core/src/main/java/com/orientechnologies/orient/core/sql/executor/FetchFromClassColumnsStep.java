@@ -0,0 +1,204 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
+import com.orientechnologies.orient.core.storage.cluster.column.OPropertyColumnBatch;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Fetches values of the properties of the records of a class (including subclasses) from the
+ * property columns of its clusters instead of the records themselves. Results contain only
+ * requested properties and are not bound to the records, so this step is used only if nothing else
+ * is needed from the records, like in case of aggregation over the properties stored in columns.
+ */
+public class FetchFromClassColumnsStep extends AbstractExecutionStep {
+  private final String className;
+  private final int[] clusterIds;
+  private final String[] properties;
+
+  private int clusterIndex = 0;
+  private long page = 0;
+  private OPropertyColumnBatch batch;
+  private int row = 0;
+
+  private long cost = 0;
+
+  /**
+   * @param className the class name
+   * @param clusterIds clusters of the class, all of them should have columns of the properties
+   * @param properties properties to fetch
+   * @param ctx the query context
+   * @param profilingEnabled true to enable the profiling of the execution (for SQL PROFILE)
+   */
+  public FetchFromClassColumnsStep(
+      String className,
+      int[] clusterIds,
+      String[] properties,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.className = className;
+    this.clusterIds = clusterIds;
+    this.properties = properties;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    return new OResultSet() {
+      private int nFetched = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (timedOut) {
+          throw new OTimeoutException("Command execution timeout");
+        }
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          return nFetched < nRecords && fetchNextBatch(ctx);
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        if (nFetched % 100 == 0 && OExecutionThreadLocal.isInterruptCurrentOperation()) {
+          throw new OCommandInterruptedException("The command has been interrupted");
+        }
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          OResultInternal result = new OResultInternal();
+          for (int i = 0; i < properties.length; i++) {
+            result.setProperty(properties[i], batch.getValue(row, i));
+          }
+          row++;
+          nFetched++;
+          ctx.setVariable("$current", result);
+          return result;
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+      }
+
+      @Override
+      public void close() {}
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  /** Returns the values read from the columns as they are, without building a result per record */
+  @Override
+  public OResultBatch syncPullBatch(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (timedOut) {
+      throw new OTimeoutException("Command execution timeout");
+    }
+    if (OExecutionThreadLocal.isInterruptCurrentOperation()) {
+      throw new OCommandInterruptedException("The command has been interrupted");
+    }
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      Object[][] values = new Object[properties.length][0];
+      int size = 0;
+      while (size < nRecords && fetchNextBatch(ctx)) {
+        int count = Math.min(nRecords - size, batch.size() - row);
+        for (int i = 0; i < properties.length; i++) {
+          if (values[i].length < size + count) {
+            values[i] = Arrays.copyOf(values[i], size + count);
+          }
+          for (int j = 0; j < count; j++) {
+            values[i][size + j] = batch.getValue(row + j, i);
+          }
+        }
+        row += count;
+        size += count;
+      }
+
+      Map<String, OResultBatch.Column> columns = new LinkedHashMap<>();
+      for (int i = 0; i < properties.length; i++) {
+        columns.put(properties[i], OResultBatch.Column.of(values[i], size));
+      }
+      return new OResultBatch(size, columns);
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  /** @return true if there is a not returned row in the current batch */
+  private boolean fetchNextBatch(OCommandContext ctx) {
+    OAbstractPaginatedStorage storage =
+        (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) ctx.getDatabase()).getStorage();
+
+    while (batch == null || row >= batch.size()) {
+      if (clusterIndex >= clusterIds.length) {
+        return false;
+      }
+
+      batch = storage.readPropertyColumns(clusterIds[clusterIndex], properties, page);
+      row = 0;
+      if (batch == null) {
+        clusterIndex++;
+        page = 0;
+      } else {
+        page++;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void reset() {
+    clusterIndex = 0;
+    page = 0;
+    batch = null;
+    row = 0;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result =
+        spaces + "+ FETCH FROM COLUMNS OF CLASS " + className + " " + Arrays.toString(properties);
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    return result;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    // columns can be created and removed, and they do not contain changes of active transaction
+    return false;
+  }
+}
@@ -15,6 +15,11 @@ public class FilterStep extends AbstractExecutionStep {
 
   private OResultSet prevResult = null;
 
+  private OExpressionCompiler.CompiledCondition condition;
+  private OBatchFilter batchFilter;
+  private OResultBatch currentBatch = null;
+  private int nextInBatch = 0;
+
   private long cost;
 
   public FilterStep(
@@ -30,6 +35,9 @@ public class FilterStep extends AbstractExecutionStep {
       throw new IllegalStateException("filter step requires a previous step");
     }
     OExecutionStepInternal prevStep = prev.get();
+    if (getBatchFilter(ctx).isVectorized()) {
+      return syncPullFromBatches(ctx, nRecords);
+    }
 
     return new OResultSet() {
       public boolean finished = false;
@@ -61,7 +69,7 @@ public class FilterStep extends AbstractExecutionStep {
           nextItem = prevResult.next();
           long begin = profilingEnabled ? System.nanoTime() : 0;
           try {
-            if (whereClause.matchesFilters(nextItem, ctx)) {
+            if (getCondition(ctx).evaluate(nextItem, ctx)) {
               break;
             }
 
@@ -128,6 +136,81 @@ public class FilterStep extends AbstractExecutionStep {
     };
   }
 
+  /**
+   * pulls the records from the upstream in batches, if the filter can be evaluated on the columns
+   * of the batches, and returns them one by one
+   */
+  private OResultSet syncPullFromBatches(OCommandContext ctx, int nRecords) {
+    OInternalResultSet result = new OInternalResultSet();
+    int fetched = 0;
+    while (fetched < nRecords) {
+      if (currentBatch == null || nextInBatch >= currentBatch.size()) {
+        currentBatch = syncPullBatch(ctx, nRecords);
+        nextInBatch = 0;
+        if (currentBatch.isEmpty()) {
+          break;
+        }
+      }
+      result.add(currentBatch.getResult(nextInBatch++));
+      fetched++;
+    }
+    return result;
+  }
+
+  @Override
+  public OResultBatch syncPullBatch(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!prev.isPresent()) {
+      throw new IllegalStateException("filter step requires a previous step");
+    }
+    OBatchFilter filter = getBatchFilter(ctx);
+    if (!filter.isVectorized()) {
+      return OResultBatch.fromResultSet(syncPull(ctx, nRecords));
+    }
+    long timeoutBegin = System.currentTimeMillis();
+    while (true) {
+      OResultBatch batch = prev.get().syncPullBatch(ctx, nRecords);
+      if (batch.isEmpty()) {
+        return batch;
+      }
+      long begin = profilingEnabled ? System.nanoTime() : 0;
+      try {
+        batch = filter.filter(batch, ctx);
+      } finally {
+        if (profilingEnabled) {
+          cost += (System.nanoTime() - begin);
+        }
+      }
+      if (!batch.isEmpty()) {
+        return batch;
+      }
+      if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+        sendTimeout();
+      }
+    }
+  }
+
+  private OExpressionCompiler.CompiledCondition getCondition(OCommandContext ctx) {
+    if (condition == null) {
+      if (OExpressionCompiler.isEnabled(ctx)) {
+        condition = OExpressionCompiler.compile(whereClause, ctx);
+      } else {
+        condition = whereClause::matchesFilters;
+      }
+    }
+    return condition;
+  }
+
+  private OBatchFilter getBatchFilter(OCommandContext ctx) {
+    if (batchFilter == null) {
+      if (OResultBatch.isBatchExecutionEnabled(ctx)) {
+        batchFilter = OBatchFilter.compile(whereClause, ctx);
+      } else {
+        batchFilter = OBatchFilter.rowByRow(whereClause, ctx);
+      }
+    }
+    return batchFilter;
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     StringBuilder result = new StringBuilder();
@@ -0,0 +1,56 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Key of a group in a GROUP BY, ie. the values of the GROUP BY expressions calculated on a record.
+ * Equality is the same of a list of the same values, the hash code is calculated only once.
+ */
+public final class GroupByKey {
+  /** the key of the only group of an aggregation without GROUP BY */
+  public static final GroupByKey EMPTY = new GroupByKey(new Object[0]);
+
+  private final Object[] values;
+  private final int hash;
+
+  private GroupByKey(Object[] values) {
+    this.values = values;
+    this.hash = Arrays.hashCode(values);
+  }
+
+  public static GroupByKey of(List<OExpression> items, OResult record, OCommandContext ctx) {
+    if (items.isEmpty()) {
+      return EMPTY;
+    }
+    Object[] values = new Object[items.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = items.get(i).execute(record, ctx);
+    }
+    return new GroupByKey(values);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GroupByKey)) {
+      return false;
+    }
+    GroupByKey that = (GroupByKey) o;
+    return hash == that.hash && Arrays.equals(values, that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+}
@@ -0,0 +1,345 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OLocalResultSet;
+import com.orientechnologies.orient.core.sql.parser.OProjection;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Joins the records of the previous step (the probe side) with the results of a query that does not
+ * depend on them (the build side) on an equality condition. The build side is executed only once
+ * and its results are indexed by the value of the join key, then every record of the probe side is
+ * matched with a lookup instead of executing the query again.
+ *
+ * <p>Keys are hashed only when the equality of the condition is an exact match, ie. for strings,
+ * integers, booleans and RIDs; other values are compared one by one with the build results, with
+ * the same semantics of the original condition.
+ */
+public class HashJoinStep extends AbstractExecutionStep {
+
+  public enum JoinType {
+    /**
+     * one result for each match, the match is saved in a property of the result (MATCH patterns)
+     */
+    INNER,
+    /** one result for each probe record, the list of matches is saved in its metadata (LET) */
+    GROUP
+  }
+
+  private final OSelectStatement buildQuery;
+  private final OProjection buildProjection;
+  private final OBinaryCondition joinCondition;
+  private final boolean buildOnLeft;
+  private final String targetName;
+  private final JoinType joinType;
+
+  private List<BuildEntry> entries;
+  private Map<Object, List<OResult>> index;
+  private OCollate indexCollate;
+  private Class<?> indexKeyType;
+
+  private OResultSet upstream;
+  private Iterator<OResult> currentMatches;
+  private OResult currentProbe;
+
+  /**
+   * @param buildQuery the query that returns the build side, without the join condition
+   * @param buildProjection the projection of the build side, it is calculated after the join key
+   *     (optional)
+   * @param joinCondition the equality condition, one side is calculated on the build results, the
+   *     other one on the probe records ($parent.$current for LET, $matched for MATCH)
+   * @param buildOnLeft true if the build side is the left operand of the join condition
+   * @param targetName the property (INNER) or the metadata (GROUP) where the matches are saved
+   */
+  public HashJoinStep(
+      OSelectStatement buildQuery,
+      OProjection buildProjection,
+      OBinaryCondition joinCondition,
+      boolean buildOnLeft,
+      String targetName,
+      JoinType joinType,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.buildQuery = buildQuery;
+    this.buildProjection = buildProjection;
+    this.joinCondition = joinCondition;
+    this.buildOnLeft = buildOnLeft;
+    this.targetName = targetName;
+    this.joinType = joinType;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!getPrev().isPresent()) {
+      throw new OCommandExecutionException("Cannot execute a hash join without a probe side");
+    }
+    build(ctx);
+    return new OResultSet() {
+      private int localCount = 0;
+      private OResult nextResult;
+
+      @Override
+      public boolean hasNext() {
+        if (localCount >= nRecords) {
+          return false;
+        }
+        if (nextResult == null) {
+          nextResult = fetchNext(ctx, nRecords);
+        }
+        return nextResult != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        OResult result = nextResult;
+        nextResult = null;
+        localCount++;
+        if (joinType == JoinType.INNER) {
+          ctx.setVariable("$matched", result);
+        }
+        return result;
+      }
+
+      @Override
+      public void close() {}
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private OResult fetchNext(OCommandContext ctx, int nRecords) {
+    while (true) {
+      if (currentMatches != null && currentMatches.hasNext()) {
+        OResultInternal result = new OResultInternal();
+        for (String prop : currentProbe.getPropertyNames()) {
+          result.setProperty(prop, currentProbe.getProperty(prop));
+        }
+        result.setProperty(targetName, currentMatches.next());
+        return result;
+      }
+      if (upstream == null || !upstream.hasNext()) {
+        upstream = getPrev().get().syncPull(ctx, nRecords);
+      }
+      if (!upstream.hasNext()) {
+        return null;
+      }
+      OResult probe = upstream.next();
+      if (probe == null) {
+        continue;
+      }
+      if (joinType == JoinType.GROUP) {
+        ((OResultInternal) probe).setMetadata(targetName, new ArrayList<>(probe(probe, ctx)));
+        return probe;
+      }
+      currentProbe = probe;
+      currentMatches = probe(probe, ctx).iterator();
+    }
+  }
+
+  private List<OResult> probe(OResult probe, OCommandContext ctx) {
+    OExpression probeExpression = buildOnLeft ? joinCondition.getRight() : joinCondition.getLeft();
+    Object key;
+    if (joinType == JoinType.GROUP) {
+      // same context of a subquery executed in a LET, so that $parent is the current context
+      OBasicCommandContext subCtx = new OBasicCommandContext();
+      subCtx.setDatabase(ctx.getDatabase());
+      subCtx.setParentWithoutOverridingChild(ctx);
+      key = probeExpression.execute((OResult) null, subCtx);
+    } else {
+      ctx.setVariable("$matched", probe);
+      key = probeExpression.execute((OResult) null, ctx);
+    }
+    if (key == null) {
+      return Collections.emptyList();
+    }
+
+    if (index != null) {
+      Object transformed = indexCollate == null ? key : indexCollate.transform(key);
+      if (transformed == null) {
+        return Collections.emptyList();
+      }
+      if (keyType(transformed) == indexKeyType) {
+        List<OResult> matches = index.get(hashKey(transformed));
+        return matches == null ? Collections.emptyList() : matches;
+      }
+    }
+
+    List<OResult> matches = new ArrayList<>();
+    for (BuildEntry entry : entries) {
+      Object probeKey = entry.collate == null ? key : entry.collate.transform(key);
+      boolean match =
+          buildOnLeft
+              ? joinCondition.getOperator().execute(entry.key, probeKey)
+              : joinCondition.getOperator().execute(probeKey, entry.key);
+      if (match) {
+        matches.add(entry.result);
+      }
+    }
+    return matches;
+  }
+
+  private void build(OCommandContext ctx) {
+    if (entries != null) {
+      return;
+    }
+    OBasicCommandContext subCtx = new OBasicCommandContext();
+    subCtx.setDatabase(ctx.getDatabase());
+    subCtx.setParentWithoutOverridingChild(ctx);
+    OInternalExecutionPlan buildPlan;
+    if (buildQuery.toString().contains("?")) {
+      // with positional parameters, you cannot know if a parameter has the same ordinal as the one
+      // cached
+      buildPlan = buildQuery.createExecutionPlanNoCache(subCtx, profilingEnabled);
+    } else {
+      buildPlan = buildQuery.createExecutionPlan(subCtx, profilingEnabled);
+    }
+
+    OExpression buildExpression = buildOnLeft ? joinCondition.getLeft() : joinCondition.getRight();
+    entries = new ArrayList<>();
+    Map<Object, List<OResult>> hashed = new HashMap<>();
+    boolean hashable = true;
+    boolean first = true;
+    OLocalResultSet rs = new OLocalResultSet(buildPlan);
+    try {
+      while (rs.hasNext()) {
+        OResult item = rs.next();
+        OCollate collate = joinCondition.getLeft().getCollate(item, subCtx);
+        if (collate == null) {
+          collate = joinCondition.getRight().getCollate(item, subCtx);
+        }
+        Object key = buildExpression.execute(item, subCtx);
+        if (key != null && collate != null) {
+          key = collate.transform(key);
+        }
+        if (key == null) {
+          // null is never equal to anything
+          continue;
+        }
+        if (buildProjection != null) {
+          subCtx.setVariable("$current", item);
+          item = buildProjection.calculateSingle(subCtx, item);
+        }
+        entries.add(new BuildEntry(key, collate, item));
+
+        if (!hashable) {
+          continue;
+        }
+        Class<?> type = keyType(key);
+        if (first) {
+          indexKeyType = type;
+          indexCollate = collate;
+          first = false;
+        }
+        if (type == null || type != indexKeyType || !sameCollate(collate, indexCollate)) {
+          hashable = false;
+          continue;
+        }
+        hashed.computeIfAbsent(hashKey(key), k -> new ArrayList<>()).add(item);
+      }
+    } finally {
+      rs.close();
+    }
+    index = hashable ? hashed : null;
+  }
+
+  private static boolean sameCollate(OCollate a, OCollate b) {
+    if (a == null || b == null) {
+      return a == b;
+    }
+    return a.getName().equals(b.getName());
+  }
+
+  /**
+   * @return the class of values that are equal to the key only if they have the same hash key, null
+   *     if the key can be equal to values that are not exactly of the same type
+   */
+  private static Class<?> keyType(Object key) {
+    if (key instanceof String) {
+      return String.class;
+    }
+    if (key instanceof Integer || key instanceof Long) {
+      return Long.class;
+    }
+    if (key instanceof Boolean) {
+      return Boolean.class;
+    }
+    if (key instanceof ORID) {
+      return ORID.class;
+    }
+    if (key instanceof ORecord && ((ORecord) key).getIdentity().isPersistent()) {
+      return ORID.class;
+    }
+    return null;
+  }
+
+  private static Object hashKey(Object key) {
+    if (key instanceof Integer) {
+      return ((Integer) key).longValue();
+    }
+    if (key instanceof OIdentifiable) {
+      return ((OIdentifiable) key).getIdentity();
+    }
+    return key;
+  }
+
+  /** @return the operand of the join condition that is calculated on the build results */
+  OExpression getBuildKey() {
+    return buildOnLeft ? joinCondition.getLeft() : joinCondition.getRight();
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    return spaces
+        + (joinType == JoinType.GROUP ? "+ LET (hash join)\n" : "+ HASH JOIN\n")
+        + spaces
+        + "  "
+        + targetName
+        + " = ("
+        + buildQuery
+        + ") ON ("
+        + joinCondition
+        + ")"
+        + (buildProjection == null ? "" : "\n" + spaces + "  projection: " + buildProjection);
+  }
+
+  private static class BuildEntry {
+    private final Object key;
+    private final OCollate collate;
+    private final OResult result;
+
+    private BuildEntry(Object key, OCollate collate, OResult result) {
+      this.key = key;
+      this.collate = collate;
+      this.result = result;
+    }
+  }
+}
@@ -0,0 +1,233 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.parser.OInCondition;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Filters the records with a <code>x IN (SELECT ...)</code> condition, where the subquery does not
+ * depend on the current record and is already calculated in a global LET. The values returned by
+ * the subquery are put in a hash set once, then each record is checked with a lookup instead of a
+ * scan of the subquery results.
+ *
+ * <p>The lookup is used only when it is guaranteed to give the same result of the IN condition:
+ * numbers are widened (integers to Long, decimals to Double) as {@link
+ * OType#castComparableNumber(Number, Number)} does, and a value whose type differs from the type of
+ * the subquery results (eg. a string compared with numbers) is checked evaluating the condition
+ * itself.
+ */
+public class HashSemiJoinStep extends AbstractExecutionStep {
+  private final OInCondition condition;
+  private final String varName;
+
+  private boolean inited = false;
+  private Set<Object> values;
+  private Class<?> valuesType;
+
+  private OResultSet prevResult;
+
+  /**
+   * @param condition the IN condition, its right operand is the global LET variable
+   * @param varName the name of the global LET variable that contains the subquery results
+   */
+  public HashSemiJoinStep(
+      OInCondition condition, String varName, OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.condition = condition;
+    this.varName = varName;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!getPrev().isPresent()) {
+      throw new IllegalStateException("semi-join step requires a previous step");
+    }
+    init(ctx);
+    OExecutionStepInternal prevStep = getPrev().get();
+    return new OResultSet() {
+      private boolean finished = false;
+      private OResult nextItem;
+      private int fetched = 0;
+
+      private void fetchNextItem() {
+        nextItem = null;
+        while (!finished) {
+          if (prevResult == null || !prevResult.hasNext()) {
+            prevResult = prevStep.syncPull(ctx, nRecords);
+            if (!prevResult.hasNext()) {
+              finished = true;
+              return;
+            }
+          }
+          OResult item = prevResult.next();
+          if (matches(item, ctx)) {
+            nextItem = item;
+            return;
+          }
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        if (fetched >= nRecords) {
+          return false;
+        }
+        if (nextItem == null) {
+          fetchNextItem();
+        }
+        return nextItem != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        OResult result = nextItem;
+        nextItem = null;
+        fetched++;
+        return result;
+      }
+
+      @Override
+      public void close() {
+        HashSemiJoinStep.this.close();
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private boolean matches(OResult item, OCommandContext ctx) {
+    if (values != null) {
+      Object left = condition.evaluateLeft(item, ctx);
+      if (left == null) {
+        return false;
+      }
+      if (values.isEmpty()) {
+        return false;
+      }
+      if (keyType(left) == valuesType) {
+        return values.contains(hashKey(left));
+      }
+    }
+    return condition.evaluate(item, ctx);
+  }
+
+  private void init(OCommandContext ctx) {
+    if (inited) {
+      return;
+    }
+    inited = true;
+    Object subQueryResult = ctx.getVariable(varName);
+    if (!(subQueryResult instanceof List)) {
+      return;
+    }
+    Set<Object> result = new HashSet<>();
+    Class<?> type = null;
+    for (Object o : (List<?>) subQueryResult) {
+      if (!(o instanceof OResult)) {
+        return;
+      }
+      OResult row = (OResult) o;
+      if (row.isElement()) {
+        ORID rid = row.getIdentity().orElse(null);
+        if (rid == null || !rid.isPersistent() || (type != null && type != ORID.class)) {
+          return;
+        }
+        type = ORID.class;
+        result.add(rid);
+        continue;
+      }
+      // a projection is compared using the value of its only property
+      Set<String> names = row.getPropertyNames();
+      if (names.isEmpty()) {
+        continue;
+      }
+      if (names.size() > 1) {
+        return;
+      }
+      String name = names.iterator().next();
+      Object value = row.getProperty(name);
+      if (value == null) {
+        continue;
+      }
+      Class<?> valueType = keyType(value);
+      if (valueType == null
+          || (type != null && type != valueType)
+          || (name.startsWith("@") && !(value instanceof ORID))) {
+        // values of different types can not share the same lookup
+        return;
+      }
+      type = valueType;
+      result.add(hashKey(value));
+    }
+    values = result;
+    valuesType = type;
+  }
+
+  /**
+   * @return the class of the values that are equal to the value only if they have the same hash
+   *     key, null if the value can be equal only to values converted to its type
+   */
+  private static Class<?> keyType(Object value) {
+    if (value instanceof String) {
+      return String.class;
+    }
+    if (value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte) {
+      return Long.class;
+    }
+    if (value instanceof Double || value instanceof Float) {
+      return Double.class;
+    }
+    if (value instanceof Boolean) {
+      return Boolean.class;
+    }
+    if (value instanceof ORID) {
+      return ORID.class;
+    }
+    if (value instanceof ORecord && ((ORecord) value).getIdentity().isPersistent()) {
+      return ORID.class;
+    }
+    return null;
+  }
+
+  private static Object hashKey(Object value) {
+    if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return ((Number) value).longValue();
+    }
+    if (value instanceof Float) {
+      return ((Float) value).doubleValue();
+    }
+    if (value instanceof OIdentifiable) {
+      return ((OIdentifiable) value).getIdentity();
+    }
+    return value;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    return spaces + "+ HASH SEMI-JOIN\n" + spaces + "  " + condition;
+  }
+}
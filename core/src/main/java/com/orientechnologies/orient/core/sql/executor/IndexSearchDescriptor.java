@@ -7,6 +7,11 @@ import com.orientechnologies.orient.core.sql.parser.OAndBlock;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
 import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
 
 /** Created by luigidellaquila on 26/07/16. */
 public class IndexSearchDescriptor {
@@ -41,15 +46,70 @@ public class IndexSearchDescriptor {
       range = op.isRangeOperator();
     }
 
-    long val =
-        stats.getIndexStats(
-            indexName, size, range, additionalRangeCondition != null, ctx.getDatabase());
+    long val = estimateFromStatistics(stats.getIndexStatistics(idx), range, ctx);
     if (val == -1) {
-      // TODO query the index!
+      val =
+          stats.getIndexStats(
+              indexName, size, range, additionalRangeCondition != null, ctx.getDatabase());
     }
     if (val >= 0) {
       return val > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) val;
     }
     return Integer.MAX_VALUE;
   }
+
+  /**
+   * estimates the number of entries returned by the index lookup, using the histogram of the first
+   * indexed field when the value of the condition is known at planning time
+   *
+   * @return the estimation, -1 if the statistics are not available or cannot be used for this key
+   *     condition
+   */
+  private long estimateFromStatistics(
+      OIndexStatistics statistics, boolean range, OCommandContext ctx) {
+    if (statistics == null) {
+      return -1;
+    }
+    int size = keyCondition.getSubBlocks().size();
+    OBooleanExpression first = keyCondition.getSubBlocks().get(0);
+    if (!(first instanceof OBinaryCondition)) {
+      return -1;
+    }
+    OBinaryCondition condition = (OBinaryCondition) first;
+    if (!condition.getLeft().isBaseIdentifier()) {
+      return -1;
+    }
+    Object value = null;
+    if (condition.getRight().isEarlyCalculated(ctx)) {
+      value = condition.getRight().execute((OResult) null, ctx);
+    }
+    OBinaryCompareOperator op = condition.getOperator();
+    if (op instanceof OEqualsCompareOperator) {
+      // with a range on the last field, only the equality on the previous ones is selective
+      return statistics.estimateEquals(idx, range ? size - 1 : size, value);
+    }
+    if (size > 1 || !op.isRangeOperator() || value == null) {
+      return -1;
+    }
+    Object from = null;
+    Object to = null;
+    if (op instanceof OGtOperator || op instanceof OGeOperator) {
+      from = value;
+    } else if (op instanceof OLtOperator || op instanceof OLeOperator) {
+      to = value;
+    } else {
+      return -1;
+    }
+    if (additionalRangeCondition != null
+        && additionalRangeCondition.getRight().isEarlyCalculated(ctx)) {
+      Object other = additionalRangeCondition.getRight().execute((OResult) null, ctx);
+      OBinaryCompareOperator otherOp = additionalRangeCondition.getOperator();
+      if (otherOp instanceof OGtOperator || otherOp instanceof OGeOperator) {
+        from = other;
+      } else if (otherOp instanceof OLtOperator || otherOp instanceof OLeOperator) {
+        to = other;
+      }
+    }
+    return statistics.estimateRange(idx, from, to);
+  }
 }
@@ -3,12 +3,15 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.parser.OLimit;
+import java.util.Map;
+import java.util.Optional;
 
 /** Created by luigidellaquila on 08/07/16. */
 public class LimitExecutionStep extends AbstractExecutionStep {
   private final OLimit limit;
 
   private int loaded = 0;
+  private boolean stopped = false;
 
   public LimitExecutionStep(OLimit limit, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
@@ -27,9 +30,62 @@ public class LimitExecutionStep extends AbstractExecutionStep {
     int nextBlockSize = Math.min(nRecords, limitVal - loaded);
     OResultSet result = prev.get().syncPull(ctx, nextBlockSize);
     loaded += nextBlockSize;
+    if (loaded >= limitVal) {
+      return stopAfterLast(result, nextBlockSize);
+    }
     return result;
   }
 
+  /**
+   * @return the last block of the results, that notifies the previous steps that no more records
+   *     will be pulled once all of them have been consumed
+   */
+  private OResultSet stopAfterLast(OResultSet block, int size) {
+    return new OResultSet() {
+      private int consumed = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (consumed < size && block.hasNext()) {
+          return true;
+        }
+        stop();
+        return false;
+      }
+
+      @Override
+      public OResult next() {
+        OResult result = block.next();
+        if (++consumed == size) {
+          stop();
+        }
+        return result;
+      }
+
+      private void stop() {
+        if (!stopped) {
+          stopped = true;
+          prev.ifPresent(p -> p.sendStop());
+        }
+      }
+
+      @Override
+      public void close() {
+        block.close();
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return block.getExecutionPlan();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return block.getQueryStats();
+      }
+    };
+  }
+
   @Override
   public void sendTimeout() {}
 
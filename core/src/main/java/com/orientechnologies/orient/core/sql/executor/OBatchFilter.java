@@ -0,0 +1,298 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBaseExpression;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.ONotBlock;
+import com.orientechnologies.orient.core.sql.parser.OOrBlock;
+import com.orientechnologies.orient.core.sql.parser.OParenthesisBlock;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Evaluates a WHERE condition on a whole {@link OResultBatch}.
+ *
+ * <p>Comparisons of a property with a number (or an input parameter) are evaluated on the primitive
+ * values of the column of the property, if all its values are numbers of the same type. Any other
+ * condition, and the rows where the property is null, are evaluated row by row. AND, OR and NOT are
+ * evaluated only on the rows that can still change the result, so each condition is evaluated on
+ * the same rows as in the row by row execution.
+ */
+public class OBatchFilter {
+
+  private abstract static class Node {
+    /**
+     * @param active the rows to evaluate, the other rows are not matched
+     * @return the matched rows
+     */
+    abstract boolean[] evaluate(OResultBatch batch, boolean[] active, OCommandContext ctx);
+  }
+
+  private static class RowNode extends Node {
+    final OExpressionCompiler.CompiledCondition condition;
+
+    private RowNode(OExpressionCompiler.CompiledCondition condition) {
+      this.condition = condition;
+    }
+
+    @Override
+    boolean[] evaluate(OResultBatch batch, boolean[] active, OCommandContext ctx) {
+      boolean[] result = new boolean[active.length];
+      for (int i = 0; i < active.length; i++) {
+        result[i] = active[i] && condition.evaluate(batch.getResult(i), ctx);
+      }
+      return result;
+    }
+  }
+
+  private static class AndNode extends Node {
+    private final List<Node> children;
+
+    private AndNode(List<Node> children) {
+      this.children = children;
+    }
+
+    @Override
+    boolean[] evaluate(OResultBatch batch, boolean[] active, OCommandContext ctx) {
+      boolean[] result = active;
+      for (Node child : children) {
+        result = child.evaluate(batch, result, ctx);
+      }
+      return result == active ? active.clone() : result;
+    }
+  }
+
+  private static class OrNode extends Node {
+    private final List<Node> children;
+
+    private OrNode(List<Node> children) {
+      this.children = children;
+    }
+
+    @Override
+    boolean[] evaluate(OResultBatch batch, boolean[] active, OCommandContext ctx) {
+      boolean[] result = new boolean[active.length];
+      boolean[] remaining = active.clone();
+      for (Node child : children) {
+        boolean[] matched = child.evaluate(batch, remaining, ctx);
+        for (int i = 0; i < matched.length; i++) {
+          if (matched[i]) {
+            result[i] = true;
+            remaining[i] = false;
+          }
+        }
+      }
+      return result;
+    }
+  }
+
+  private static class NotNode extends Node {
+    private final Node child;
+
+    private NotNode(Node child) {
+      this.child = child;
+    }
+
+    @Override
+    boolean[] evaluate(OResultBatch batch, boolean[] active, OCommandContext ctx) {
+      boolean[] result = child.evaluate(batch, active, ctx);
+      for (int i = 0; i < result.length; i++) {
+        result[i] = active[i] && !result[i];
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Compares the values of a property with a number of type Integer, Long or Double. The values of
+   * the column and the number are converted to the same type by {@link
+   * OType#castComparableNumber(Number, Number)}, as the comparison operators do, and then compared
+   * as primitives.
+   */
+  private static class CompareNode extends RowNode {
+    private final OExpression property;
+    private final OExpressionCompiler.Comparison operator;
+    private final Number value;
+
+    private CompareNode(
+        OExpressionCompiler.CompiledCondition condition,
+        OExpression property,
+        OExpressionCompiler.Comparison operator,
+        Number value) {
+      super(condition);
+      this.property = property;
+      this.operator = operator;
+      this.value = value;
+    }
+
+    @Override
+    boolean[] evaluate(OResultBatch batch, boolean[] active, OCommandContext ctx) {
+      OResultBatch.Column column = batch.getColumn(property, ctx);
+      if (column == null || column.getType() == OResultBatch.ColumnType.OBJECT) {
+        return super.evaluate(batch, active, ctx);
+      }
+      // all the values of the column have the same type, so they are converted in the same way
+      Number sample;
+      if (column.getType() == OResultBatch.ColumnType.DOUBLE) {
+        sample = 0d;
+      } else if (column.getType() == OResultBatch.ColumnType.LONG) {
+        sample = 0L;
+      } else {
+        sample = 0;
+      }
+      Number[] couple = OType.castComparableNumber(sample, value);
+      boolean asDouble = couple[0] instanceof Double;
+      long longConstant = couple[1].longValue();
+      double doubleConstant = couple[1].doubleValue();
+
+      boolean[] result = new boolean[active.length];
+      for (int i = 0; i < active.length; i++) {
+        if (!active[i]) {
+          continue;
+        }
+        int row = batch.rowIndex(i);
+        if (column.isNull(row)) {
+          result[i] = condition.evaluate(batch.getResult(i), ctx);
+          continue;
+        }
+        int comparison;
+        if (column.getType() == OResultBatch.ColumnType.DOUBLE) {
+          comparison = Double.compare(column.getDouble(row), doubleConstant);
+        } else if (asDouble) {
+          comparison = Double.compare((double) column.getLong(row), doubleConstant);
+        } else {
+          comparison = Long.compare(column.getLong(row), longConstant);
+        }
+        result[i] = operator.matches(comparison);
+      }
+      return result;
+    }
+  }
+
+  private final Node root;
+  private final boolean vectorized;
+
+  private OBatchFilter(Node root, boolean vectorized) {
+    this.root = root;
+    this.vectorized = vectorized;
+  }
+
+  /**
+   * @param whereClause the condition
+   * @param ctx the query context, used to calculate the values of the input parameters
+   * @return the filter
+   */
+  public static OBatchFilter compile(OWhereClause whereClause, OCommandContext ctx) {
+    if (whereClause.getBaseExpression() == null) {
+      return new OBatchFilter(new AndNode(new ArrayList<>()), false);
+    }
+    if (whereClause.toString().contains("$")) {
+      // context variables (eg. $current) are set by the upstream for each record, they are not
+      // available when the conditions are evaluated on a whole batch
+      return rowByRow(whereClause, ctx);
+    }
+    boolean[] vectorized = new boolean[1];
+    Node root = compile(whereClause.getBaseExpression(), ctx, vectorized);
+    return new OBatchFilter(root, vectorized[0]);
+  }
+
+  /** @return a filter that evaluates the condition row by row */
+  public static OBatchFilter rowByRow(OWhereClause whereClause, OCommandContext ctx) {
+    if (whereClause.getBaseExpression() == null) {
+      return new OBatchFilter(new AndNode(new ArrayList<>()), false);
+    }
+    return new OBatchFilter(new RowNode(compileRow(whereClause.getBaseExpression(), ctx)), false);
+  }
+
+  private static Node compile(
+      OBooleanExpression expression, OCommandContext ctx, boolean[] vectorized) {
+    if (expression instanceof OAndBlock && ((OAndBlock) expression).getSubBlocks() != null) {
+      List<Node> children = new ArrayList<>();
+      for (OBooleanExpression sub : ((OAndBlock) expression).getSubBlocks()) {
+        children.add(compile(sub, ctx, vectorized));
+      }
+      return new AndNode(children);
+    }
+    if (expression instanceof OOrBlock && ((OOrBlock) expression).getSubBlocks() != null) {
+      List<Node> children = new ArrayList<>();
+      for (OBooleanExpression sub : ((OOrBlock) expression).getSubBlocks()) {
+        children.add(compile(sub, ctx, vectorized));
+      }
+      return new OrNode(children);
+    }
+    if (expression instanceof ONotBlock && ((ONotBlock) expression).getSub() != null) {
+      Node child = compile(((ONotBlock) expression).getSub(), ctx, vectorized);
+      return ((ONotBlock) expression).isNegate() ? new NotNode(child) : child;
+    }
+    if (expression instanceof OParenthesisBlock
+        && ((OParenthesisBlock) expression).getSubElement() != null) {
+      return compile(((OParenthesisBlock) expression).getSubElement(), ctx, vectorized);
+    }
+    if (expression instanceof OBinaryCondition) {
+      Node node = compileComparison((OBinaryCondition) expression, ctx);
+      if (node != null) {
+        vectorized[0] = true;
+        return node;
+      }
+    }
+    return new RowNode(compileRow(expression, ctx));
+  }
+
+  private static OExpressionCompiler.CompiledCondition compileRow(
+      OBooleanExpression expression, OCommandContext ctx) {
+    if (OExpressionCompiler.isEnabled(ctx)) {
+      return OExpressionCompiler.compile(expression, ctx);
+    }
+    return expression::evaluate;
+  }
+
+  private static Node compileComparison(OBinaryCondition condition, OCommandContext ctx) {
+    OExpressionCompiler.Comparison operator =
+        OExpressionCompiler.Comparison.of(condition.getOperator());
+    OExpression left = condition.getLeft();
+    OExpression right = condition.getRight();
+    if (operator == null
+        || left == null
+        || right == null
+        || !left.isBaseIdentifier()
+        || left.getDefaultAlias().getStringValue().startsWith("$")
+        || !(right.getMathExpression() instanceof OBaseExpression)
+        || !((OBaseExpression) right.getMathExpression()).isNumberOrInputParameter()) {
+      return null;
+    }
+    Object value = right.execute((OResult) null, ctx);
+    if (!(value instanceof Integer || value instanceof Long || value instanceof Double)) {
+      return null;
+    }
+    return new CompareNode(compileRow(condition, ctx), left, operator, (Number) value);
+  }
+
+  /**
+   * @return true if at least one condition is evaluated on the columns, otherwise the filter is
+   *     evaluated row by row and there is no gain in executing it on batches
+   */
+  public boolean isVectorized() {
+    return vectorized;
+  }
+
+  /** @return the rows of the batch that match the condition */
+  public OResultBatch filter(OResultBatch batch, OCommandContext ctx) {
+    boolean[] all = new boolean[batch.size()];
+    Arrays.fill(all, true);
+    boolean[] matched = root.evaluate(batch, all, ctx);
+    int[] selected = new int[matched.length];
+    int count = 0;
+    for (int i = 0; i < matched.length; i++) {
+      if (matched[i]) {
+        selected[count++] = i;
+      }
+    }
+    return count == batch.size() ? batch : batch.select(selected, count);
+  }
+}
@@ -25,14 +25,36 @@ import java.util.List;
  * nResults records ONLY if current step cannot produce any more records (eg. the upstream does not
  * have any more records)
  *
+ * <p>Steps can also exchange records in batches, see {@link #syncPullBatch(OCommandContext, int)}.
+ * A step is pulled either by rows or by batches, never in both ways in the same execution.
+ *
  * @author Luigi Dell'Aquila l.dellaquila - at - orientdb.com
  */
 public interface OExecutionStepInternal extends OExecutionStep {
 
   OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException;
 
+  /**
+   * Batch variant of {@link #syncPull(OCommandContext, int)}: returns at most nRecords records in
+   * column-major layout. The returned batch can be empty ONLY if current step cannot produce any
+   * more records.
+   *
+   * <p>Steps that can process whole batches (eg. filtering on primitive values of the columns)
+   * override this method, by default the records are pulled one by one and returned in a batch
+   * backed by them.
+   */
+  default OResultBatch syncPullBatch(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    return OResultBatch.fromResultSet(syncPull(ctx, nRecords));
+  }
+
   void sendTimeout();
 
+  /**
+   * Notifies the step that no more records will be pulled from it, eg. because a LIMIT has been
+   * reached, so that it can stop producing them before the execution plan is closed.
+   */
+  default void sendStop() {}
+
   void setPrevious(OExecutionStepInternal step);
 
   void setNext(OExecutionStepInternal step);
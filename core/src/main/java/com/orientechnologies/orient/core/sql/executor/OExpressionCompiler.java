@@ -0,0 +1,360 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBaseExpression;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
+import com.orientechnologies.orient.core.sql.parser.OMathExpression;
+import com.orientechnologies.orient.core.sql.parser.ONeOperator;
+import com.orientechnologies.orient.core.sql.parser.ONeqOperator;
+import com.orientechnologies.orient.core.sql.parser.ONotBlock;
+import com.orientechnologies.orient.core.sql.parser.OOrBlock;
+import com.orientechnologies.orient.core.sql.parser.OParenthesisBlock;
+import com.orientechnologies.orient.core.sql.parser.OProjection;
+import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
+import java.util.List;
+
+/**
+ * Compiles the expressions of the SQL AST into trees of lambdas, that are evaluated on each record
+ * instead of interpreting the AST.
+ *
+ * <p>The compiled trees do less work per record than the AST:
+ *
+ * <ul>
+ *   <li>expressions made only of literals are calculated once, at compile time
+ *   <li>plain property names are resolved once, the values are read from the record without looking
+ *       for context variables, metadata and temporary properties first
+ *   <li>comparisons between Integer, Long and Double values are executed without looking for the
+ *       collate of the property (the collates leave numbers unchanged)
+ *   <li>AND, OR, NOT and parenthesis are flattened into the lambdas of their operands
+ * </ul>
+ *
+ * Any other expression is delegated to the AST, so the result is always the same of the interpreted
+ * execution. The compiled trees keep references to the AST they were compiled from, so they have to
+ * be compiled again for each copy of the AST.
+ */
+public final class OExpressionCompiler {
+
+  /** A compiled {@link OExpression} */
+  @FunctionalInterface
+  public interface CompiledExpression {
+    Object execute(OResult record, OCommandContext ctx);
+  }
+
+  /** A compiled {@link OBooleanExpression} */
+  @FunctionalInterface
+  public interface CompiledCondition {
+    boolean evaluate(OResult record, OCommandContext ctx);
+  }
+
+  /** A compiled {@link OProjection} */
+  @FunctionalInterface
+  public interface CompiledProjection {
+    OResult calculate(OResult record, OCommandContext ctx);
+  }
+
+  /**
+   * Comparison of two numbers, as the result of {@link Long#compare(long, long)} or {@link
+   * Double#compare(double, double)}
+   */
+  enum Comparison {
+    EQ,
+    NE,
+    LT,
+    LE,
+    GT,
+    GE;
+
+    /** @return the comparison executed by the operator, or null if it is not a comparison */
+    static Comparison of(OBinaryCompareOperator operator) {
+      if (operator instanceof OEqualsCompareOperator) {
+        return EQ;
+      }
+      if (operator instanceof ONeOperator || operator instanceof ONeqOperator) {
+        return NE;
+      }
+      if (operator instanceof OLtOperator) {
+        return LT;
+      }
+      if (operator instanceof OLeOperator) {
+        return LE;
+      }
+      if (operator instanceof OGtOperator) {
+        return GT;
+      }
+      if (operator instanceof OGeOperator) {
+        return GE;
+      }
+      return null;
+    }
+
+    boolean matches(int comparison) {
+      switch (this) {
+        case EQ:
+          return comparison == 0;
+        case NE:
+          return comparison != 0;
+        case LT:
+          return comparison < 0;
+        case LE:
+          return comparison <= 0;
+        case GT:
+          return comparison > 0;
+        default:
+          return comparison >= 0;
+      }
+    }
+  }
+
+  private static final CompiledCondition ALWAYS_TRUE = (record, ctx) -> true;
+
+  private OExpressionCompiler() {}
+
+  /** @return true if the expressions have to be compiled (see query.compiledExpressions) */
+  public static boolean isEnabled(OCommandContext ctx) {
+    return ctx.getDatabase() != null
+        && ctx.getDatabase()
+            .getConfiguration()
+            .getValueAsBoolean(OGlobalConfiguration.QUERY_COMPILED_EXPRESSIONS);
+  }
+
+  /**
+   * @param whereClause the condition
+   * @param ctx the context, used only to calculate the literal expressions
+   * @return the compiled condition
+   */
+  public static CompiledCondition compile(OWhereClause whereClause, OCommandContext ctx) {
+    if (whereClause.getBaseExpression() == null) {
+      return ALWAYS_TRUE;
+    }
+    return compile(whereClause.getBaseExpression(), ctx);
+  }
+
+  public static CompiledCondition compile(OBooleanExpression expression, OCommandContext ctx) {
+    if (expression instanceof OAndBlock && ((OAndBlock) expression).getSubBlocks() != null) {
+      CompiledCondition[] operands = compileAll(((OAndBlock) expression).getSubBlocks(), ctx);
+      if (operands.length == 1) {
+        return operands[0];
+      }
+      return (record, context) -> {
+        for (CompiledCondition operand : operands) {
+          if (!operand.evaluate(record, context)) {
+            return false;
+          }
+        }
+        return true;
+      };
+    }
+    if (expression instanceof OOrBlock && ((OOrBlock) expression).getSubBlocks() != null) {
+      CompiledCondition[] operands = compileAll(((OOrBlock) expression).getSubBlocks(), ctx);
+      if (operands.length == 1) {
+        return operands[0];
+      }
+      return (record, context) -> {
+        for (CompiledCondition operand : operands) {
+          if (operand.evaluate(record, context)) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+    if (expression instanceof ONotBlock) {
+      ONotBlock not = (ONotBlock) expression;
+      if (not.getSub() == null) {
+        return ALWAYS_TRUE;
+      }
+      CompiledCondition operand = compile(not.getSub(), ctx);
+      if (!not.isNegate()) {
+        return operand;
+      }
+      return (record, context) -> !operand.evaluate(record, context);
+    }
+    if (expression instanceof OParenthesisBlock
+        && ((OParenthesisBlock) expression).getSubElement() != null) {
+      return compile(((OParenthesisBlock) expression).getSubElement(), ctx);
+    }
+    if (expression instanceof OBinaryCondition) {
+      return compileComparison((OBinaryCondition) expression, ctx);
+    }
+    return expression::evaluate;
+  }
+
+  private static CompiledCondition[] compileAll(
+      List<OBooleanExpression> expressions, OCommandContext ctx) {
+    CompiledCondition[] result = new CompiledCondition[expressions.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = compile(expressions.get(i), ctx);
+    }
+    return result;
+  }
+
+  private static CompiledCondition compileComparison(
+      OBinaryCondition condition, OCommandContext ctx) {
+    OExpression left = condition.getLeft();
+    OExpression right = condition.getRight();
+    OBinaryCompareOperator operator = condition.getOperator();
+    if (left == null || right == null || left.isFunctionAny() || left.isFunctionAll()) {
+      return condition::evaluate;
+    }
+    CompiledExpression leftValue = compile(left, ctx);
+    CompiledExpression rightValue = compile(right, ctx);
+    Comparison comparison = Comparison.of(operator);
+
+    return (record, context) -> {
+      Object leftVal = leftValue.execute(record, context);
+      Object rightVal = rightValue.execute(record, context);
+      if (comparison != null && isPrimitiveNumber(leftVal) && isPrimitiveNumber(rightVal)) {
+        Number[] couple = OType.castComparableNumber((Number) leftVal, (Number) rightVal);
+        return operator.execute(couple[0], couple[1]);
+      }
+      OCollate collate = left.getCollate(record, context);
+      if (collate == null) {
+        collate = right.getCollate(record, context);
+      }
+      if (collate != null) {
+        leftVal = collate.transform(leftVal);
+        rightVal = collate.transform(rightVal);
+      }
+      return operator.execute(leftVal, rightVal);
+    };
+  }
+
+  private static boolean isPrimitiveNumber(Object value) {
+    return value instanceof Integer || value instanceof Long || value instanceof Double;
+  }
+
+  /**
+   * @param expression the expression
+   * @param ctx the context, used only to calculate the literal expressions
+   * @return the compiled expression
+   */
+  public static CompiledExpression compile(OExpression expression, OCommandContext ctx) {
+    if (expression.isLiteral()) {
+      try {
+        Object value = expression.execute((OResult) null, ctx);
+        return (record, context) -> value;
+      } catch (RuntimeException e) {
+        // eg. a division by zero, it has to fail only if the expression is evaluated
+        return expression::execute;
+      }
+    }
+
+    if (expression.isBaseIdentifier()) {
+      String name = expression.getDefaultAlias().getStringValue();
+      if (isPlainProperty(name)) {
+        return compileProperty(name, expression::execute);
+      }
+    }
+
+    OMathExpression math = expression.getMathExpression();
+    if (math != null
+        && math.getClass() == OMathExpression.class
+        && math.getChildExpressions() != null
+        && math.getOperators() != null
+        && math.getChildExpressions().size() == 2
+        && math.getOperators().size() == 1) {
+      CompiledExpression leftValue = compile(math.getChildExpressions().get(0), ctx);
+      CompiledExpression rightValue = compile(math.getChildExpressions().get(1), ctx);
+      OMathExpression.Operator operator = math.getOperators().get(0);
+      return (record, context) ->
+          operator.apply(leftValue.execute(record, context), rightValue.execute(record, context));
+    }
+    return expression::execute;
+  }
+
+  private static CompiledExpression compile(OMathExpression expression, OCommandContext ctx) {
+    if (expression.isLiteral()) {
+      try {
+        Object value = expression.execute((OResult) null, ctx);
+        return (record, context) -> value;
+      } catch (RuntimeException e) {
+        return expression::execute;
+      }
+    }
+    if (expression instanceof OBaseExpression && expression.isBaseIdentifier()) {
+      String name =
+          ((OBaseExpression) expression)
+              .getIdentifier()
+              .getSuffix()
+              .getIdentifier()
+              .getStringValue();
+      if (isPlainProperty(name)) {
+        return compileProperty(name, expression::execute);
+      }
+    }
+    return expression::execute;
+  }
+
+  /** @return false for context variables and record attributes (eg. $current, @rid) */
+  private static boolean isPlainProperty(String name) {
+    return !name.startsWith("$") && !name.startsWith("@");
+  }
+
+  /**
+   * @param name the property name
+   * @param fallback the interpreted expression, for metadata and temporary properties, that are
+   *     looked up after the properties of the record like {@link
+   *     com.orientechnologies.orient.core.sql.parser.OSuffixIdentifier#execute(OResult,
+   *     OCommandContext)} does
+   */
+  private static CompiledExpression compileProperty(String name, CompiledExpression fallback) {
+    return (record, context) -> {
+      if (record != null && record.hasProperty(name)) {
+        return record.getProperty(name);
+      }
+      return fallback.execute(record, context);
+    };
+  }
+
+  /**
+   * @param projection the projection
+   * @param ctx the context, used only to calculate the literal expressions
+   * @return the compiled projection, or null if the projection has items that cannot be compiled
+   *     (*, exclusions, nested projections)
+   */
+  public static CompiledProjection compile(OProjection projection, OCommandContext ctx) {
+    List<OProjectionItem> items = projection.getItems();
+    if (items == null || items.isEmpty() || projection.isExpand()) {
+      return null;
+    }
+    String[] aliases = new String[items.size()];
+    CompiledExpression[] values = new CompiledExpression[items.size()];
+    for (int i = 0; i < aliases.length; i++) {
+      OProjectionItem item = items.get(i);
+      if (item.isAll()
+          || item.isExclude()
+          || item.getNestedProjection() != null
+          || item.getExpression() == null) {
+        return null;
+      }
+      aliases[i] = item.getProjectionAliasAsString();
+      values[i] = compile(item.getExpression(), ctx);
+    }
+
+    return (record, context) -> {
+      OResultInternal result = new OResultInternal();
+      for (int i = 0; i < aliases.length; i++) {
+        result.setProperty(aliases[i], items.get(i).convert(values[i].execute(record, context)));
+      }
+      for (String key : record.getMetadataKeys()) {
+        if (!result.getMetadataKeys().contains(key)) {
+          result.setMetadata(key, record.getMetadata(key));
+        }
+      }
+      return result;
+    };
+  }
+}
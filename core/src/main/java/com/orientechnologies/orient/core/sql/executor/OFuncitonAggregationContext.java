@@ -2,6 +2,10 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMax;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMin;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionSum;
+import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionCount;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +18,7 @@ import java.util.List;
 public class OFuncitonAggregationContext implements AggregationContext {
   private OSQLFunction aggregateFunction;
   private List<OExpression> params;
+  private List<Object> mergedPartials;
 
   public OFuncitonAggregationContext(OSQLFunction function, List<OExpression> params) {
     this.aggregateFunction = function;
@@ -25,7 +30,15 @@ public class OFuncitonAggregationContext implements AggregationContext {
 
   @Override
   public Object getFinalValue() {
-    return aggregateFunction.getResult();
+    if (mergedPartials == null) {
+      return aggregateFunction.getResult();
+    }
+    List<Object> partials = new ArrayList<>(mergedPartials.size() + 1);
+    partials.add(aggregateFunction.getResult());
+    partials.addAll(mergedPartials);
+    // partial MIN/MAX on null values are null
+    partials.removeIf(x -> x == null);
+    return partials.isEmpty() ? null : aggregateFunction.mergeDistributedResult(partials);
   }
 
   @Override
@@ -36,4 +49,156 @@ public class OFuncitonAggregationContext implements AggregationContext {
     }
     aggregateFunction.execute(next, null, null, paramValues.toArray(), ctx);
   }
+
+  /**
+   * COUNT, and SUM, MIN and MAX of numbers of the same type, are calculated on the values of the
+   * column of the parameter, then the partial result of the batch is applied to the function as a
+   * single value. Other aggregations are applied to the records one by one.
+   */
+  @Override
+  public void applyBatch(OResultBatch batch, OCommandContext ctx) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    if (params.size() == 1) {
+      OExpression param = params.get(0);
+      if (aggregateFunction instanceof OSQLFunctionCount) {
+        if ("*".equals(param.toString())) {
+          addToCount(batch.size());
+          return;
+        }
+        OResultBatch.Column column = batch.getColumn(param, ctx);
+        if (column != null) {
+          long count = 0;
+          for (int i = 0; i < batch.size(); i++) {
+            if (!column.isNull(batch.rowIndex(i))) {
+              count++;
+            }
+          }
+          addToCount(count);
+          return;
+        }
+      } else if (aggregateFunction instanceof OSQLFunctionSum
+          || aggregateFunction instanceof OSQLFunctionMin
+          || aggregateFunction instanceof OSQLFunctionMax) {
+        OResultBatch.Column column = batch.getColumn(param, ctx);
+        if (column != null && column.getType() != OResultBatch.ColumnType.OBJECT) {
+          Object partial =
+              aggregateFunction instanceof OSQLFunctionSum
+                  ? sum(batch, column)
+                  : minOrMax(batch, column, aggregateFunction instanceof OSQLFunctionMin);
+          if (partial != null) {
+            aggregateFunction.execute(null, null, null, new Object[] {partial}, ctx);
+          }
+          return;
+        }
+      }
+    }
+    AggregationContext.super.applyBatch(batch, ctx);
+  }
+
+  private void addToCount(long count) {
+    aggregateFunction.setResult(((Number) aggregateFunction.getResult()).longValue() + count);
+  }
+
+  /**
+   * @return the sum of the not null values, with the same types that {@link
+   *     com.orientechnologies.orient.core.metadata.schema.OType#increment(Number, Number)} returns
+   *     when the values are summed one by one, or null if all the values are null
+   */
+  private static Number sum(OResultBatch batch, OResultBatch.Column column) {
+    boolean found = false;
+    if (column.getType() == OResultBatch.ColumnType.DOUBLE) {
+      double sum = 0;
+      for (int i = 0; i < batch.size(); i++) {
+        int row = batch.rowIndex(i);
+        if (!column.isNull(row)) {
+          sum = found ? sum + column.getDouble(row) : column.getDouble(row);
+          found = true;
+        }
+      }
+      return found ? (Number) sum : null;
+    }
+
+    // integers are upgraded to long when the sum of two positive values overflows
+    boolean isLong = column.getType() == OResultBatch.ColumnType.LONG;
+    int intSum = 0;
+    long longSum = 0;
+    for (int i = 0; i < batch.size(); i++) {
+      int row = batch.rowIndex(i);
+      if (column.isNull(row)) {
+        continue;
+      }
+      long value = column.getLong(row);
+      if (!found) {
+        intSum = (int) value;
+        longSum = value;
+        found = true;
+      } else if (isLong) {
+        longSum += value;
+      } else {
+        int sum = intSum + (int) value;
+        if (sum < 0 && intSum > 0 && value > 0) {
+          isLong = true;
+          longSum = sum;
+        } else {
+          intSum = sum;
+        }
+      }
+    }
+    if (!found) {
+      return null;
+    }
+    return isLong ? (Number) longSum : (Number) intSum;
+  }
+
+  /** @return the minimum (or maximum) of the not null values, or null if all the values are null */
+  private static Object minOrMax(OResultBatch batch, OResultBatch.Column column, boolean min) {
+    int result = -1;
+    for (int i = 0; i < batch.size(); i++) {
+      int row = batch.rowIndex(i);
+      if (column.isNull(row)) {
+        continue;
+      }
+      if (result < 0) {
+        result = row;
+        continue;
+      }
+      int comparison =
+          column.getType() == OResultBatch.ColumnType.DOUBLE
+              ? Double.compare(column.getDouble(row), column.getDouble(result))
+              : Long.compare(column.getLong(row), column.getLong(result));
+      if (min ? comparison < 0 : comparison > 0) {
+        result = row;
+      }
+    }
+    return result < 0 ? null : column.getValue(result);
+  }
+
+  /**
+   * Only the functions whose partial results can be combined with {@link
+   * OSQLFunction#mergeDistributedResult(List)} are mergeable
+   */
+  @Override
+  public boolean isMergeable() {
+    return aggregateFunction instanceof OSQLFunctionCount
+        || aggregateFunction instanceof OSQLFunctionSum
+        || aggregateFunction instanceof OSQLFunctionMin
+        || aggregateFunction instanceof OSQLFunctionMax;
+  }
+
+  @Override
+  public void merge(AggregationContext other) {
+    if (!isMergeable() || !(other instanceof OFuncitonAggregationContext)) {
+      AggregationContext.super.merge(other);
+    }
+    if (mergedPartials == null) {
+      mergedPartials = new ArrayList<>();
+    }
+    OFuncitonAggregationContext otherCtx = (OFuncitonAggregationContext) other;
+    mergedPartials.add(otherCtx.aggregateFunction.getResult());
+    if (otherCtx.mergedPartials != null) {
+      mergedPartials.addAll(otherCtx.mergedPartials);
+    }
+  }
 }
@@ -0,0 +1,486 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexDefinitionMultiValue;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Statistics about the keys of an index, calculated by <code>ANALYZE CLASS</code> and used by the
+ * query planners to estimate how many records are returned by an index lookup.
+ *
+ * <p>It contains the number of distinct keys (and of distinct values of the first indexed field),
+ * calculated with a HyperLogLog sketch, and, for indexes that support ordered iterations, an
+ * equi-depth histogram on the first indexed field. Equal values are never split between two
+ * buckets, so that a very frequent value ends up in a bucket of its own and the estimations are
+ * still accurate on skewed data.
+ *
+ * <p>The statistics are a snapshot: estimations are scaled by the current size of the index, so
+ * they follow the growth of the data without scanning the index again, and they are calculated
+ * again when the number of entries changed by the committed transactions exceeds a fraction of the
+ * entries of the snapshot (see {@link #addModifications(long, float)}). They are stored in the
+ * configuration of the index (see {@link #toStream()}), so that they survive the restart of the
+ * database, and they are bound to the index they were calculated on: an index dropped and created
+ * again with the same name, or with a different definition, does not use them (see {@link
+ * #isValidFor(OIndex)}).
+ */
+public class OIndexStatistics {
+
+  private static final String ENTRIES = "entries";
+  private static final String DISTINCT_KEYS = "distinctKeys";
+  private static final String DISTINCT_FIRST_VALUES = "distinctFirstValues";
+  private static final String CREATED = "created";
+  private static final String BOUNDS = "bounds";
+  private static final String BUCKET_ENTRIES = "bucketEntries";
+  private static final String BUCKET_DISTINCT = "bucketDistinct";
+
+  private final int indexId;
+  private final OIndexDefinition definition;
+  private final long entries;
+  private final long distinctKeys;
+  private final long distinctFirstValues;
+  private final long created;
+
+  /** entries changed by the transactions committed after the statistics were calculated */
+  private final AtomicLong modifications = new AtomicLong();
+
+  /** upper bounds (inclusive) of the histogram buckets, null if the index is not ordered */
+  private final Object[] bounds;
+
+  private final long[] bucketEntries;
+  private final long[] bucketDistinct;
+
+  private OIndexStatistics(
+      OIndex index,
+      long entries,
+      long distinctKeys,
+      long distinctFirstValues,
+      long created,
+      Object[] bounds,
+      long[] bucketEntries,
+      long[] bucketDistinct) {
+    this.indexId = index.getIndexId();
+    this.definition = index.getDefinition();
+    this.entries = entries;
+    this.distinctKeys = distinctKeys;
+    this.distinctFirstValues = distinctFirstValues;
+    this.created = created;
+    this.bounds = bounds;
+    this.bucketEntries = bucketEntries;
+    this.bucketDistinct = bucketDistinct;
+  }
+
+  /**
+   * scans the index and calculates its statistics
+   *
+   * @param index the index
+   * @param buckets the maximum number of buckets of the histogram
+   */
+  public static OIndexStatistics build(OIndex index, int buckets) {
+    boolean ordered = index.supportsOrderedIterations();
+    long depth = Math.max(1, index.getInternal().size() / Math.max(1, buckets));
+
+    HyperLogLog keySketch = new HyperLogLog();
+    HyperLogLog firstValueSketch = new HyperLogLog();
+    List<Object> bounds = new ArrayList<>();
+    List<Long> bucketEntries = new ArrayList<>();
+    List<Long> bucketDistinct = new ArrayList<>();
+
+    long entries = 0;
+    Object last = null;
+    long currentEntries = 0;
+    long currentDistinct = 0;
+    try (Stream<ORawPair<Object, ORID>> stream = index.getInternal().stream()) {
+      Iterator<ORawPair<Object, ORID>> iterator = stream.iterator();
+      while (iterator.hasNext()) {
+        Object key = iterator.next().first;
+        if (key == null) {
+          continue;
+        }
+        entries++;
+        keySketch.add(key);
+        Object first = firstValue(key);
+        firstValueSketch.add(first);
+        if (!ordered) {
+          continue;
+        }
+        boolean newValue = last == null || compare(first, last) != 0;
+        if (newValue && currentEntries >= depth) {
+          bounds.add(last);
+          bucketEntries.add(currentEntries);
+          bucketDistinct.add(currentDistinct);
+          currentEntries = 0;
+          currentDistinct = 0;
+        }
+        if (newValue) {
+          currentDistinct++;
+        }
+        currentEntries++;
+        last = first;
+      }
+    }
+    if (currentEntries > 0) {
+      bounds.add(last);
+      bucketEntries.add(currentEntries);
+      bucketDistinct.add(currentDistinct);
+    }
+
+    long distinctFirstValues = Math.max(1, Math.min(entries, firstValueSketch.estimate()));
+    long distinctKeys = Math.max(distinctFirstValues, Math.min(entries, keySketch.estimate()));
+    long created = System.currentTimeMillis();
+    if (!ordered) {
+      return new OIndexStatistics(
+          index, entries, distinctKeys, distinctFirstValues, created, null, null, null);
+    }
+    return new OIndexStatistics(
+        index,
+        entries,
+        distinctKeys,
+        distinctFirstValues,
+        created,
+        bounds.toArray(),
+        bucketEntries.stream().mapToLong(Long::longValue).toArray(),
+        bucketDistinct.stream().mapToLong(Long::longValue).toArray());
+  }
+
+  /**
+   * reads the statistics stored in the configuration of an index
+   *
+   * @param index the index the statistics were calculated on
+   * @param document the statistics, as returned by {@link #toStream()}
+   * @return the statistics, null if the document does not contain valid statistics
+   */
+  public static OIndexStatistics fromStream(OIndex index, ODocument document) {
+    Long entries = document.field(ENTRIES, OType.LONG);
+    Long distinctKeys = document.field(DISTINCT_KEYS, OType.LONG);
+    Long distinctFirstValues = document.field(DISTINCT_FIRST_VALUES, OType.LONG);
+    Long created = document.field(CREATED, OType.LONG);
+    if (entries == null || distinctKeys == null || distinctFirstValues == null || created == null) {
+      return null;
+    }
+    List<Object> bounds = document.field(BOUNDS, OType.EMBEDDEDLIST);
+    if (bounds == null) {
+      return new OIndexStatistics(
+          index, entries, distinctKeys, distinctFirstValues, created, null, null, null);
+    }
+    List<Number> bucketEntries = document.field(BUCKET_ENTRIES, OType.EMBEDDEDLIST);
+    List<Number> bucketDistinct = document.field(BUCKET_DISTINCT, OType.EMBEDDEDLIST);
+    if (bucketEntries == null
+        || bucketDistinct == null
+        || bucketEntries.size() != bounds.size()
+        || bucketDistinct.size() != bounds.size()) {
+      return null;
+    }
+    return new OIndexStatistics(
+        index,
+        entries,
+        distinctKeys,
+        distinctFirstValues,
+        created,
+        bounds.toArray(),
+        bucketEntries.stream().mapToLong(Number::longValue).toArray(),
+        bucketDistinct.stream().mapToLong(Number::longValue).toArray());
+  }
+
+  /** @return the statistics as they are stored in the configuration of the index */
+  public ODocument toStream() {
+    ODocument document = new ODocument();
+    document.field(ENTRIES, entries);
+    document.field(DISTINCT_KEYS, distinctKeys);
+    document.field(DISTINCT_FIRST_VALUES, distinctFirstValues);
+    document.field(CREATED, created);
+    if (bounds != null) {
+      document.field(BOUNDS, Arrays.asList(bounds), OType.EMBEDDEDLIST);
+      document.field(BUCKET_ENTRIES, toList(bucketEntries), OType.EMBEDDEDLIST);
+      document.field(BUCKET_DISTINCT, toList(bucketDistinct), OType.EMBEDDEDLIST);
+    }
+    return document;
+  }
+
+  private static List<Long> toList(long[] values) {
+    List<Long> result = new ArrayList<>(values.length);
+    for (long value : values) {
+      result.add(value);
+    }
+    return result;
+  }
+
+  /**
+   * counts the entries changed by a committed transaction
+   *
+   * @param count the number of entries put in or removed from the index
+   * @param refreshRatio the fraction of the entries of the snapshot that can change before the
+   *     statistics have to be calculated again, zero or less to never calculate them again
+   * @return true only for the change that exceeds the fraction, so that the statistics are
+   *     calculated again once
+   */
+  public boolean addModifications(long count, float refreshRatio) {
+    if (count <= 0 || refreshRatio <= 0) {
+      return false;
+    }
+    long threshold = Math.max(1L, (long) (entries * (double) refreshRatio));
+    long total = modifications.addAndGet(count);
+    return total >= threshold && total - count < threshold;
+  }
+
+  /**
+   * @param index an index with the same name of the one these statistics were calculated on
+   * @return true if it is still the same index, with the same definition
+   */
+  public boolean isValidFor(OIndex index) {
+    return index != null
+        && index.getIndexId() == indexId
+        && Objects.equals(definition, index.getDefinition());
+  }
+
+  /** @return the name of the class of the index these statistics were calculated on */
+  public String getClassName() {
+    return definition == null ? null : definition.getClassName();
+  }
+
+  /**
+   * estimates the number of entries returned by an index lookup with an equality condition on the
+   * first indexed fields
+   *
+   * @param index the index these statistics were calculated on
+   * @param matchingFields the number of indexed fields in the condition
+   * @param firstValue the value of the first indexed field, null if it is not known at planning
+   *     time
+   * @return the estimated number of entries, at least one
+   */
+  public long estimateEquals(OIndex index, int matchingFields, Object firstValue) {
+    if (entries == 0) {
+      return 1;
+    }
+    double result = entries / (double) distinctFirstValues;
+    if (firstValue != null && bounds != null) {
+      Object first = toFirstValue(index, firstValue);
+      int bucket = first == null ? -1 : findBucket(first);
+      if (bucket >= 0) {
+        result = bucketEntries[bucket] / (double) bucketDistinct[bucket];
+      }
+    }
+    int nFields = index.getDefinition().getFields().size();
+    if (nFields > 1 && matchingFields >= nFields) {
+      result = result * distinctFirstValues / distinctKeys;
+    }
+    return scale(index, result);
+  }
+
+  /**
+   * estimates the number of entries returned by an index lookup with a range condition on the first
+   * indexed field
+   *
+   * @param from the lower bound, null if the range has no lower bound
+   * @param to the upper bound, null if the range has no upper bound
+   * @return the estimated number of entries, at least one; -1 if the index has no histogram or the
+   *     bounds cannot be compared with the indexed values
+   */
+  public long estimateRange(OIndex index, Object from, Object to) {
+    if (bounds == null) {
+      return -1;
+    }
+    if (bounds.length == 0) {
+      return 1;
+    }
+    Object fromValue = from == null ? null : toFirstValue(index, from);
+    Object toValue = to == null ? null : toFirstValue(index, to);
+    if ((from != null && fromValue == null) || (to != null && toValue == null)) {
+      return -1;
+    }
+    try {
+      double result = 0;
+      for (int i = 0; i < bounds.length; i++) {
+        Object lower = i == 0 ? null : bounds[i - 1];
+        Object upper = bounds[i];
+        if (fromValue != null && compare(upper, fromValue) < 0) {
+          continue;
+        }
+        if (toValue != null && lower != null && compare(lower, toValue) >= 0) {
+          break;
+        }
+        double fraction = 1.0;
+        if (fromValue != null && (lower == null || compare(lower, fromValue) < 0)) {
+          fraction -= position(lower, upper, fromValue);
+        }
+        if (toValue != null && compare(upper, toValue) > 0) {
+          fraction -= 1.0 - position(lower, upper, toValue);
+        }
+        result += bucketEntries[i] * Math.max(fraction, 1.0 / bucketDistinct[i]);
+      }
+      return scale(index, result);
+    } catch (RuntimeException e) {
+      return -1;
+    }
+  }
+
+  private static int compare(Object a, Object b) {
+    return ODefaultComparator.INSTANCE.compare(a, b);
+  }
+
+  /**
+   * @return the relative position of a value in a bucket (0 = lower bound, 1 = upper bound),
+   *     interpolated for numbers and dates, 0.5 for other types
+   */
+  private static double position(Object lower, Object upper, Object value) {
+    Double low = toDouble(lower);
+    Double high = toDouble(upper);
+    Double val = toDouble(value);
+    if (low == null || high == null || val == null || high <= low) {
+      return 0.5;
+    }
+    return Math.min(1.0, Math.max(0.0, (val - low) / (high - low)));
+  }
+
+  private static Double toDouble(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    if (value instanceof Date) {
+      return (double) ((Date) value).getTime();
+    }
+    return null;
+  }
+
+  private int findBucket(Object value) {
+    try {
+      int low = 0;
+      int high = bounds.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        int cmp = compare(bounds[mid], value);
+        if (cmp < 0) {
+          low = mid + 1;
+        } else if (cmp > 0) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return low < bounds.length ? low : -1;
+    } catch (RuntimeException e) {
+      return -1;
+    }
+  }
+
+  private long scale(OIndex index, double estimation) {
+    long size = index.getInternal().size();
+    if (entries > 0 && size != entries) {
+      estimation = estimation * size / entries;
+    }
+    return Math.max(1L, Math.round(estimation));
+  }
+
+  /** @return the value as it is stored in the first field of the index keys, null if unknown */
+  private static Object toFirstValue(OIndex index, Object value) {
+    try {
+      OIndexDefinition definition = index.getDefinition();
+      Object key;
+      if (definition instanceof OIndexDefinitionMultiValue) {
+        key = ((OIndexDefinitionMultiValue) definition).createSingleValue(value);
+      } else {
+        List<Object> params = new ArrayList<>();
+        params.add(value);
+        key = definition.createValue(params);
+      }
+      OCollate collate = definition.getCollate();
+      if (key != null && collate != null) {
+        key = collate.transform(key);
+      }
+      return key == null ? null : firstValue(key);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static Object firstValue(Object key) {
+    if (key instanceof OCompositeKey) {
+      List<Object> keys = ((OCompositeKey) key).getKeys();
+      return keys.isEmpty() ? null : keys.get(0);
+    }
+    return key;
+  }
+
+  /** @return the number of entries of the index when the statistics were calculated */
+  public long getEntries() {
+    return entries;
+  }
+
+  /** @return the estimated number of distinct keys */
+  public long getDistinctKeys() {
+    return distinctKeys;
+  }
+
+  /** @return the estimated number of distinct values of the first indexed field */
+  public long getDistinctFirstValues() {
+    return distinctFirstValues;
+  }
+
+  /** @return the number of buckets of the histogram, 0 if the index does not have one */
+  public int getBuckets() {
+    return bounds == null ? 0 : bounds.length;
+  }
+
+  /** @return the time when the statistics were calculated */
+  public long getCreated() {
+    return created;
+  }
+
+  /** a HyperLogLog sketch with 2^12 registers (about 1.6% standard error) */
+  private static class HyperLogLog {
+    private static final int P = 12;
+    private static final int M = 1 << P;
+    private final byte[] registers = new byte[M];
+
+    private void add(Object value) {
+      long hash = mix(value == null ? 0 : value.hashCode());
+      int register = (int) (hash >>> (64 - P));
+      byte rank = (byte) (Long.numberOfLeadingZeros((hash << P) | (1L << (P - 1))) + 1);
+      if (rank > registers[register]) {
+        registers[register] = rank;
+      }
+    }
+
+    private long estimate() {
+      double sum = 0;
+      int zeros = 0;
+      for (byte register : registers) {
+        sum += 1.0 / (1L << register);
+        if (register == 0) {
+          zeros++;
+        }
+      }
+      double alpha = 0.7213 / (1 + 1.079 / M);
+      double estimate = alpha * M * M / sum;
+      if (estimate <= 2.5 * M && zeros > 0) {
+        // linear counting for small cardinalities
+        estimate = M * Math.log((double) M / zeros);
+      }
+      return Math.round(estimate);
+    }
+
+    /** finalizer of MurmurHash3, spreads the bits of the hash code on the whole long */
+    private static long mix(long hash) {
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      hash *= 0xc4ceb53fe1a5f24aL;
+      hash ^= hash >>> 33;
+      return hash;
+    }
+  }
+}
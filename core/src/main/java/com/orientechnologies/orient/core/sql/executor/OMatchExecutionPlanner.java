@@ -125,14 +125,27 @@ public class OMatchExecutionPlanner {
 
     addPrefetchSteps(result, aliasesToPrefetch, context, enableProfiling);
 
-    if (subPatterns.size() > 1) {
+    List<Pattern> productPatterns = new ArrayList<>(subPatterns);
+    List<HashJoinStep> hashJoins = createHashJoins(productPatterns, context, enableProfiling);
+    if (productPatterns.size() > 1) {
       CartesianProductStep step = new CartesianProductStep(context, enableProfiling);
-      for (Pattern subPattern : subPatterns) {
+      for (Pattern subPattern : productPatterns) {
         step.addSubPlan(
             createPlanForPattern(
                 subPattern, context, estimatedRootEntries, aliasesToPrefetch, enableProfiling));
       }
       result.chain(step);
+    } else if (!hashJoins.isEmpty()) {
+      OInternalExecutionPlan plan =
+          createPlanForPattern(
+              productPatterns.get(0),
+              context,
+              estimatedRootEntries,
+              aliasesToPrefetch,
+              enableProfiling);
+      for (OExecutionStep step : plan.getSteps()) {
+        result.chain((OExecutionStepInternal) step);
+      }
     } else {
       OInternalExecutionPlan plan =
           createPlanForPattern(
@@ -142,6 +155,10 @@ public class OMatchExecutionPlanner {
       }
     }
 
+    for (HashJoinStep hashJoin : hashJoins) {
+      result.chain(hashJoin);
+    }
+
     manageNotPatterns(result, pattern, notMatchExpressions, context, enableProfiling);
 
     if (foundOptional) {
@@ -203,6 +220,80 @@ public class OMatchExecutionPlanner {
     return result;
   }
 
+  /**
+   * Disjoint patterns made of a single node that depends on the rest of the pattern only with an
+   * equality condition on a $matched alias, eg. <code>{class: Person, as: p, where: (name =
+   * $matched.q.name)}</code>, are matched with a hash join on the results of the other patterns
+   * instead of being part of the cartesian product.
+   *
+   * @param productPatterns the disjoint patterns, the ones that are matched with a hash join are
+   *     removed from the list
+   * @return the hash join steps, in the order they have to be executed
+   */
+  private List<HashJoinStep> createHashJoins(
+      List<Pattern> productPatterns, OCommandContext context, boolean profilingEnabled) {
+    List<HashJoinStep> result = new ArrayList<>();
+    if (productPatterns.size() < 2) {
+      return result;
+    }
+    Map<Pattern, HashJoinStep> candidates = new LinkedHashMap<>();
+    Map<Pattern, String> dependencies = new HashMap<>();
+    Set<String> availableAliases = new HashSet<>();
+    for (Pattern subPattern : productPatterns) {
+      HashJoinStep join = null;
+      if (subPattern.aliasToNode.size() == 1 && subPattern.getNumOfEdges() == 0) {
+        PatternNode node = subPattern.aliasToNode.values().iterator().next();
+        OWhereClause filter = aliasFilters.get(node.alias);
+        List<String> involvedAliases =
+            filter == null || filter.getBaseExpression() == null
+                ? null
+                : filter.getBaseExpression().getMatchPatternInvolvedAliases();
+        if (!node.isOptionalNode()
+            && involvedAliases != null
+            && new HashSet<>(involvedAliases).size() == 1
+            && !involvedAliases.contains(node.alias)) {
+          OSelectStatement select =
+              createSelectStatement(
+                  aliasClasses.get(node.alias),
+                  aliasClusters.get(node.alias),
+                  aliasRids.get(node.alias),
+                  filter);
+          join =
+              OSelectExecutionPlanner.createHashJoin(
+                  select,
+                  "$matched",
+                  node.alias,
+                  HashJoinStep.JoinType.INNER,
+                  context,
+                  profilingEnabled);
+          if (join != null) {
+            candidates.put(subPattern, join);
+            dependencies.put(subPattern, involvedAliases.get(0));
+          }
+        }
+      }
+      if (join == null) {
+        availableAliases.addAll(subPattern.aliasToNode.keySet());
+      }
+    }
+
+    boolean progress = true;
+    while (progress) {
+      progress = false;
+      for (Map.Entry<Pattern, HashJoinStep> candidate : candidates.entrySet()) {
+        Pattern subPattern = candidate.getKey();
+        if (productPatterns.contains(subPattern)
+            && availableAliases.contains(dependencies.get(subPattern))) {
+          result.add(candidate.getValue());
+          productPatterns.remove(subPattern);
+          availableAliases.addAll(subPattern.aliasToNode.keySet());
+          progress = true;
+        }
+      }
+    }
+    return result;
+  }
+
   private boolean dependsOnExecutionContext(String key) {
     OWhereClause filter = aliasFilters.get(key);
     if (filter == null) {
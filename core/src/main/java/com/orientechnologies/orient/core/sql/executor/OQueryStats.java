@@ -1,8 +1,20 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OMetadataUpdateListener;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexAbstract;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.tx.OTransactionIndexChanges;
+import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -13,10 +25,12 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * @author Luigi Dell'Aquila
  */
-public class OQueryStats {
+public class OQueryStats implements OMetadataUpdateListener {
 
   public Map<String, Long> stats = new ConcurrentHashMap<>();
 
+  private final Map<String, OIndexStatistics> indexStatistics = new ConcurrentHashMap<>();
+
   public static OQueryStats get(ODatabaseDocumentInternal db) {
     return db.getSharedContext().getQueryStats();
   }
@@ -44,6 +58,118 @@ public class OQueryStats {
     return -1;
   }
 
+  /**
+   * @return the statistics calculated by ANALYZE CLASS on an index, null if not available or if
+   *     they were calculated on a different index with the same name
+   */
+  public OIndexStatistics getIndexStatistics(OIndex index) {
+    OIndexStatistics result = indexStatistics.get(index.getName());
+    if (result != null && !result.isValidFor(index)) {
+      indexStatistics.remove(index.getName(), result);
+      result = null;
+    }
+    if (result == null) {
+      result = loadIndexStatistics(index);
+    }
+    return result;
+  }
+
+  /** reads the statistics stored in the configuration of the index by a previous ANALYZE CLASS */
+  private OIndexStatistics loadIndexStatistics(OIndex index) {
+    OIndexInternal internal = index.getInternal();
+    if (!(internal instanceof OIndexAbstract)) {
+      return null;
+    }
+    ODocument stored = ((OIndexAbstract) internal).getStatistics();
+    OIndexStatistics result = stored == null ? null : OIndexStatistics.fromStream(index, stored);
+    if (result == null) {
+      return null;
+    }
+    OIndexStatistics previous = indexStatistics.putIfAbsent(index.getName(), result);
+    return previous == null ? result : previous;
+  }
+
+  /**
+   * replaces the statistics of an index, also in the configuration of the index: they are persisted
+   * with the next save of the index manager
+   */
+  public void pushIndexStatistics(OIndex index, OIndexStatistics statistics) {
+    if (statistics == null) {
+      indexStatistics.remove(index.getName());
+    } else {
+      indexStatistics.put(index.getName(), statistics);
+    }
+    OIndexInternal internal = index.getInternal();
+    if (internal instanceof OIndexAbstract) {
+      ((OIndexAbstract) internal).setStatistics(statistics == null ? null : statistics.toStream());
+    }
+  }
+
+  /**
+   * counts the index entries changed by a committed transaction and calculates again, in
+   * background, the statistics of the indexes with too many changes
+   */
+  public void onIndexChanges(
+      ODatabaseDocumentInternal db, Collection<OTransactionIndexChanges> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    float refreshRatio =
+        db.getConfiguration().getValueAsFloat(OGlobalConfiguration.QUERY_STATISTICS_REFRESH_RATIO);
+    for (OTransactionIndexChanges indexChanges : changes) {
+      OIndexInternal index = indexChanges.getAssociatedIndex();
+      OIndexStatistics statistics = index == null ? null : getIndexStatistics(index);
+      if (statistics == null) {
+        continue;
+      }
+      long count = indexChanges.nullKeyChanges.size();
+      for (OTransactionIndexChangesPerKey changesPerKey : indexChanges.changesPerKey.values()) {
+        count += changesPerKey.size();
+      }
+      if (indexChanges.cleared) {
+        count += Math.max(1, statistics.getEntries());
+      }
+      if (statistics.addModifications(count, refreshRatio)) {
+        refreshIndexStatistics(db, index.getName());
+      }
+    }
+  }
+
+  private void refreshIndexStatistics(ODatabaseDocumentInternal db, String indexName) {
+    try {
+      db.getSharedContext()
+          .getOrientDB()
+          .executeNoAuthorization(
+              db.getName(),
+              session -> {
+                try {
+                  ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) session;
+                  OIndexManagerAbstract indexManager =
+                      database.getMetadata().getIndexManagerInternal();
+                  OIndex index = indexManager.getIndex(database, indexName);
+                  if (index != null) {
+                    int buckets =
+                        database
+                            .getConfiguration()
+                            .getValueAsInteger(
+                                OGlobalConfiguration.QUERY_STATISTICS_HISTOGRAM_BUCKETS);
+                    pushIndexStatistics(index, OIndexStatistics.build(index, buckets));
+                    indexManager.save();
+                    // the cached plans were chosen with the old statistics
+                    database.getSharedContext().getExecutionPlanCache().invalidate();
+                  }
+                } catch (RuntimeException e) {
+                  OLogManager.instance()
+                      .warn(this, "Cannot calculate the statistics of index '%s'", e, indexName);
+                }
+                return null;
+              });
+    } catch (RuntimeException e) {
+      OLogManager.instance()
+          .warn(this, "Cannot calculate the statistics of index '%s'", e, indexName);
+    }
+  }
+
   public void pushIndexStats(
       String indexName, int params, boolean range, boolean additionalRange, Long value) {
     String key =
@@ -98,6 +224,33 @@ public class OQueryStats {
     pushValue(key, value);
   }
 
+  @Override
+  public void onSchemaUpdate(String database, OSchemaShared schema) {
+    indexStatistics
+        .values()
+        .removeIf(
+            statistics ->
+                statistics.getClassName() != null
+                    && !schema.existsClass(statistics.getClassName()));
+  }
+
+  @Override
+  public void onIndexManagerUpdate(String database, OIndexManagerAbstract indexManager) {
+    // dropped, or dropped and created again with the same name
+    indexStatistics
+        .entrySet()
+        .removeIf(entry -> !entry.getValue().isValidFor(indexManager.getRawIndex(entry.getKey())));
+  }
+
+  @Override
+  public void onFunctionLibraryUpdate(String database) {}
+
+  @Override
+  public void onSequenceLibraryUpdate(String database) {}
+
+  @Override
+  public void onStorageConfigurationUpdate(String database, OStorageConfiguration update) {}
+
   private void pushValue(String key, Long value) {
     if (value == null) {
       return;
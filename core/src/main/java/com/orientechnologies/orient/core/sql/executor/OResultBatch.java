@@ -0,0 +1,338 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A batch of results in column-major layout, exchanged by the steps that support batch execution
+ * (see {@link OExecutionStepInternal#syncPullBatch(OCommandContext, int)}).
+ *
+ * <p>Values of a property are kept in a {@link Column}, numeric values of the same type are kept in
+ * arrays of primitives. A batch can be backed by the rows it was built from: in this case the
+ * columns are extracted from the rows only when a step asks for them, and {@link #getResult(int)}
+ * returns the rows as they are. Batches built from columns materialize the rows only on request.
+ *
+ * <p>Filtering does not copy the columns: the filtered batch shares them with its source and keeps
+ * the indexes of the selected rows. Columns are always indexed by the position of the row in the
+ * source, see {@link #rowIndex(int)}.
+ */
+public class OResultBatch {
+
+  public enum ColumnType {
+    /** all the values are Integer (or null), kept as longs */
+    INTEGER,
+    /** all the values are Long (or null) */
+    LONG,
+    /** all the values are Double (or null) */
+    DOUBLE,
+    /** values of any other type, or of mixed types */
+    OBJECT
+  }
+
+  /** Values of a single property for all the rows of a batch */
+  public static final class Column {
+    private final ColumnType type;
+    private final long[] longs;
+    private final double[] doubles;
+    private final Object[] values;
+    private final boolean[] nulls;
+
+    private Column(
+        ColumnType type, long[] longs, double[] doubles, Object[] values, boolean[] nulls) {
+      this.type = type;
+      this.longs = longs;
+      this.doubles = doubles;
+      this.values = values;
+      this.nulls = nulls;
+    }
+
+    /**
+     * @param values values of the rows, the array is kept by the column if they are not all numbers
+     *     of the same type
+     * @param size number of rows
+     * @return the column of the values
+     */
+    public static Column of(Object[] values, int size) {
+      Class<?> valueClass = null;
+      for (int i = 0; i < size; i++) {
+        Object value = values[i];
+        if (value == null) {
+          continue;
+        }
+        if (valueClass == null) {
+          valueClass = value.getClass();
+        } else if (valueClass != value.getClass()) {
+          valueClass = Object.class;
+          break;
+        }
+      }
+
+      ColumnType type;
+      if (valueClass == Integer.class) {
+        type = ColumnType.INTEGER;
+      } else if (valueClass == Long.class) {
+        type = ColumnType.LONG;
+      } else if (valueClass == Double.class) {
+        type = ColumnType.DOUBLE;
+      } else {
+        type = ColumnType.OBJECT;
+      }
+      if (type == ColumnType.OBJECT) {
+        boolean[] nulls = new boolean[size];
+        for (int i = 0; i < size; i++) {
+          nulls[i] = values[i] == null;
+        }
+        return new Column(type, null, null, values, nulls);
+      }
+
+      boolean[] nulls = new boolean[size];
+      long[] longs = type == ColumnType.DOUBLE ? null : new long[size];
+      double[] doubles = type == ColumnType.DOUBLE ? new double[size] : null;
+      for (int i = 0; i < size; i++) {
+        Object value = values[i];
+        if (value == null) {
+          nulls[i] = true;
+        } else if (doubles != null) {
+          doubles[i] = (Double) value;
+        } else {
+          longs[i] = ((Number) value).longValue();
+        }
+      }
+      return new Column(type, longs, doubles, null, nulls);
+    }
+
+    public ColumnType getType() {
+      return type;
+    }
+
+    public boolean isNull(int row) {
+      return nulls[row];
+    }
+
+    /** @return the value of an {@link ColumnType#INTEGER} or {@link ColumnType#LONG} column */
+    public long getLong(int row) {
+      return longs[row];
+    }
+
+    /** @return the value of a {@link ColumnType#DOUBLE} column */
+    public double getDouble(int row) {
+      return doubles[row];
+    }
+
+    /** @return the value of the row, boxed to its original type */
+    public Object getValue(int row) {
+      if (nulls[row]) {
+        return null;
+      }
+      switch (type) {
+        case INTEGER:
+          return (int) longs[row];
+        case LONG:
+          return longs[row];
+        case DOUBLE:
+          return doubles[row];
+        default:
+          return values[row];
+      }
+    }
+
+    /**
+     * @return a column with the values of this column transformed by the function, columns of
+     *     numbers are returned as they are
+     */
+    public Column map(Function<Object, Object> function) {
+      if (type != ColumnType.OBJECT) {
+        return this;
+      }
+      Object[] result = new Object[values.length];
+      for (int i = 0; i < values.length; i++) {
+        result[i] = function.apply(values[i]);
+      }
+      return of(result, result.length);
+    }
+  }
+
+  private final int rowCount;
+  private final OResult[] rows;
+  private final OResultBatch metadataSource;
+  private final Map<String, Column> columns;
+  private final OResult[] materialized;
+  private final int[] selection;
+  private final int size;
+
+  private OResultBatch(
+      int rowCount,
+      OResult[] rows,
+      OResultBatch metadataSource,
+      Map<String, Column> columns,
+      OResult[] materialized,
+      int[] selection,
+      int size) {
+    this.rowCount = rowCount;
+    this.rows = rows;
+    this.metadataSource = metadataSource;
+    this.columns = columns;
+    this.materialized = materialized;
+    this.selection = selection;
+    this.size = size;
+  }
+
+  /**
+   * Creates a batch from columns of values
+   *
+   * @param rowCount number of rows
+   * @param columns the columns by property name, in the order of the properties of the results
+   */
+  public OResultBatch(int rowCount, Map<String, Column> columns) {
+    this(rowCount, null, null, new LinkedHashMap<>(columns), new OResult[rowCount], null, rowCount);
+  }
+
+  /** @return a batch backed by the rows */
+  public static OResultBatch fromRows(List<OResult> rows) {
+    OResult[] array = rows.toArray(new OResult[0]);
+    return new OResultBatch(
+        array.length, array, null, new LinkedHashMap<>(), null, null, array.length);
+  }
+
+  /** @return a batch backed by all the remaining rows of the result set */
+  public static OResultBatch fromResultSet(OResultSet resultSet) {
+    List<OResult> rows = new ArrayList<>();
+    while (resultSet.hasNext()) {
+      rows.add(resultSet.next());
+    }
+    return fromRows(rows);
+  }
+
+  /** @return true if the steps can be executed on batches (see query.batchExecution) */
+  public static boolean isBatchExecutionEnabled(OCommandContext ctx) {
+    return ctx.getDatabase() != null
+        && ctx.getDatabase()
+            .getConfiguration()
+            .getValueAsBoolean(OGlobalConfiguration.QUERY_BATCH_EXECUTION);
+  }
+
+  /** @return the number of (selected) rows of the batch */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @param i index of the row in the batch, from 0 to {@link #size()}
+   * @return index of the row in the columns of the batch
+   */
+  public int rowIndex(int i) {
+    return selection == null ? i : selection[i];
+  }
+
+  /**
+   * @param i index of the row in the batch, from 0 to {@link #size()}
+   * @return the row as a result, the rows of batches built from columns are materialized once
+   */
+  public OResult getResult(int i) {
+    int index = rowIndex(i);
+    if (rows != null) {
+      return rows[index];
+    }
+    OResult result = materialized[index];
+    if (result == null) {
+      OResultInternal row = new OResultInternal();
+      for (Map.Entry<String, Column> column : columns.entrySet()) {
+        row.setProperty(column.getKey(), column.getValue().getValue(index));
+      }
+      if (metadataSource != null && metadataSource.rows != null) {
+        OResult source = metadataSource.rows[index];
+        for (String key : source.getMetadataKeys()) {
+          row.setMetadata(key, source.getMetadata(key));
+        }
+      }
+      materialized[index] = row;
+      result = row;
+    }
+    return result;
+  }
+
+  /** @return the identity of the row, if the row is a record */
+  public ORID getRid(int i) {
+    if (rows != null) {
+      return rows[rowIndex(i)].getIdentity().orElse(null);
+    }
+    return null;
+  }
+
+  /**
+   * @param expression the expression to evaluate on the rows
+   * @param ctx the query context
+   * @return the values of the expression for the rows of the batch, or null if it is not a plain
+   *     property access, which has to be evaluated on each row
+   */
+  public Column getColumn(OExpression expression, OCommandContext ctx) {
+    if (!expression.isBaseIdentifier()) {
+      return null;
+    }
+    String name = expression.getDefaultAlias().getStringValue();
+    if (name.startsWith("$")) {
+      // context variables and metadata
+      return null;
+    }
+    Column column = columns.get(name);
+    if (column == null) {
+      Object[] values = new Object[rowCount];
+      if (rows != null) {
+        for (int i = 0; i < size; i++) {
+          int index = rowIndex(i);
+          values[index] = expression.execute(rows[index], ctx);
+        }
+      }
+      column = Column.of(values, rowCount);
+      columns.put(name, column);
+    }
+    return column;
+  }
+
+  /**
+   * @param selected indexes of the selected rows in this batch, in ascending order
+   * @param count number of selected rows
+   * @return a batch with the selected rows, sharing the columns of this batch
+   */
+  public OResultBatch select(int[] selected, int count) {
+    int[] newSelection = new int[count];
+    for (int i = 0; i < count; i++) {
+      newSelection[i] = rowIndex(selected[i]);
+    }
+    return new OResultBatch(
+        rowCount,
+        rows,
+        metadataSource,
+        new LinkedHashMap<>(columns),
+        materialized,
+        newSelection,
+        count);
+  }
+
+  /**
+   * @param newColumns columns calculated from the columns of this batch
+   * @return a batch with the same rows of this batch, whose results contain only the new columns
+   *     (and the metadata of the rows of this batch)
+   */
+  public OResultBatch withColumns(Map<String, Column> newColumns) {
+    return new OResultBatch(
+        rowCount,
+        null,
+        rows != null ? this : metadataSource,
+        new LinkedHashMap<>(newColumns),
+        new OResult[rowCount],
+        selection,
+        size);
+  }
+}
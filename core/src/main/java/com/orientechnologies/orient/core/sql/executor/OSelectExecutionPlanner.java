@@ -23,8 +23,10 @@ import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.metadata.schema.OView;
 import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
+import com.orientechnologies.orient.core.metadata.security.OSecurityShared;
 import com.orientechnologies.orient.core.sql.OCommandExecutorSQLAbstract;
 import com.orientechnologies.orient.core.sql.parser.*;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -33,6 +35,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -73,6 +76,7 @@ public class OSelectExecutionPlanner {
     info.skip = this.statement.getSkip();
     info.limit = this.statement.getLimit();
     info.lockRecord = this.statement.getLockRecord();
+    info.parallel = Boolean.TRUE.equals(this.statement.getParallel());
     info.timeout = this.statement.getTimeout() == null ? null : this.statement.getTimeout().copy();
     if (info.timeout == null
         && ctx.getDatabase().getConfiguration().getValueAsLong(OGlobalConfiguration.COMMAND_TIMEOUT)
@@ -816,7 +820,7 @@ public class OSelectExecutionPlanner {
       OCommandContext ctx,
       boolean profilingEnabled) {
     if (!info.projectionsCalculated && info.projection != null) {
-      if (info.preAggregateProjection != null) {
+      if (info.preAggregateProjection != null && info.aggregateProjection == null) {
         result.chain(
             new ProjectionCalculationStep(info.preAggregateProjection, ctx, profilingEnabled));
       }
@@ -828,14 +832,30 @@ public class OSelectExecutionPlanner {
             aggregationLimit += info.skip.getValue(ctx);
           }
         }
-        result.chain(
-            new AggregateProjectionCalculationStep(
-                info.aggregateProjection,
-                info.groupBy,
-                aggregationLimit,
-                ctx,
-                info.timeout != null ? info.timeout.getVal().longValue() : -1,
-                profilingEnabled));
+        if (handlePartialAggregationInParallelSubPlans(result, info, ctx, profilingEnabled)) {
+          result.chain(
+              new AggregateProjectionCalculationStep(
+                  info.aggregateProjection,
+                  info.groupBy,
+                  aggregationLimit,
+                  ctx,
+                  info.timeout != null ? info.timeout.getVal().longValue() : -1,
+                  AggregateProjectionCalculationStep.Phase.MERGE,
+                  profilingEnabled));
+        } else {
+          if (info.preAggregateProjection != null) {
+            result.chain(
+                new ProjectionCalculationStep(info.preAggregateProjection, ctx, profilingEnabled));
+          }
+          result.chain(
+              new AggregateProjectionCalculationStep(
+                  info.aggregateProjection,
+                  info.groupBy,
+                  aggregationLimit,
+                  ctx,
+                  info.timeout != null ? info.timeout.getVal().longValue() : -1,
+                  profilingEnabled));
+        }
         if (isCountOnly(info) && info.groupBy == null) {
           result.chain(
               new GuaranteeEmptyCountStep(
@@ -848,6 +868,62 @@ public class OSelectExecutionPlanner {
     }
   }
 
+  /**
+   * If the records are fetched by a concurrent {@link ParallelExecStep}, and nothing has to be
+   * executed on the fetched records before the aggregation, the aggregation is partially calculated
+   * by each sub-plan. Only aggregations that can be merged are allowed.
+   *
+   * @return true if the partial aggregation was added to the sub-plans, the caller has to chain a
+   *     step that merges the partial results
+   */
+  private static boolean handlePartialAggregationInParallelSubPlans(
+      OSelectExecutionPlan result,
+      QueryPlanningInfo info,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    List<OExecutionStep> steps = result.getSteps();
+    if (steps.isEmpty() || !(steps.get(steps.size() - 1) instanceof ParallelExecStep)) {
+      return false;
+    }
+    ParallelExecStep parallel = (ParallelExecStep) steps.get(steps.size() - 1);
+    if (!parallel.isConcurrent()) {
+      return false;
+    }
+    for (OExecutionPlan subPlan : parallel.getSubExecutionPlans()) {
+      if (!(subPlan instanceof OSelectExecutionPlan)) {
+        return false;
+      }
+    }
+    for (OProjectionItem item : info.aggregateProjection.getItems()) {
+      try {
+        if (item.isAggregate() && !item.getAggregationContext(ctx).isMergeable()) {
+          return false;
+        }
+      } catch (RuntimeException e) {
+        return false;
+      }
+    }
+
+    for (OExecutionPlan subPlan : parallel.getSubExecutionPlans()) {
+      OSelectExecutionPlan partialPlan = (OSelectExecutionPlan) subPlan;
+      if (info.preAggregateProjection != null) {
+        partialPlan.chain(
+            new ProjectionCalculationStep(
+                info.preAggregateProjection.copy(), ctx, profilingEnabled));
+      }
+      partialPlan.chain(
+          new AggregateProjectionCalculationStep(
+              info.aggregateProjection.copy(),
+              info.groupBy == null ? null : info.groupBy.copy(),
+              -1,
+              ctx,
+              info.timeout != null ? info.timeout.getVal().longValue() : -1,
+              AggregateProjectionCalculationStep.Phase.PARTIAL,
+              profilingEnabled));
+    }
+    return true;
+  }
+
   protected static void optimizeQuery(QueryPlanningInfo info, OCommandContext ctx) {
     splitLet(info, ctx);
     rewriteIndexChainsAsSubqueries(info, ctx);
@@ -1751,7 +1827,8 @@ public class OSelectExecutionPlanner {
                 new LetExpressionStep(
                     item.getVarName(), item.getExpression(), ctx, profilingEnabled));
           } else {
-            plan.chain(new LetQueryStep(item.getVarName(), item.getQuery(), ctx, profilingEnabled));
+            plan.chain(
+                createLetQueryStep(item.getVarName(), item.getQuery(), ctx, profilingEnabled));
           }
         }
       } else {
@@ -1766,7 +1843,7 @@ public class OSelectExecutionPlanner {
                       profilingEnabled));
             } else {
               shardedPlan.chain(
-                  new LetQueryStep(
+                  createLetQueryStep(
                       item.getVarName().copy(), item.getQuery().copy(), ctx, profilingEnabled));
             }
           }
@@ -1775,6 +1852,183 @@ public class OSelectExecutionPlanner {
     }
   }
 
+  /**
+   * a LET subquery that depends on the current record only with an equality condition, eg. <code>
+   * SELECT FROM Foo WHERE bar = $parent.$current.baz</code>, is executed only once as the build
+   * side of a hash join, other subqueries are executed for each record. When the join key is
+   * indexed the subquery is kept, as an index lookup for each record is cheaper than a full scan.
+   */
+  private static AbstractExecutionStep createLetQueryStep(
+      OIdentifier varName, OStatement query, OCommandContext ctx, boolean profilingEnabled) {
+    if (query instanceof OSelectStatement) {
+      OSelectStatement select = (OSelectStatement) query;
+      if (isSimpleProjection(select)
+          && select.getGroupBy() == null
+          && select.getSkip() == null
+          && select.getLimit() == null
+          && select.getUnwind() == null
+          && select.getLetClause() == null
+          && select.getFetchPlan() == null
+          && select.getLockRecord() == null
+          && select.getWhereClause() != null) {
+        HashJoinStep join =
+            createHashJoin(
+                select,
+                "$parent",
+                varName.getStringValue(),
+                HashJoinStep.JoinType.GROUP,
+                ctx,
+                profilingEnabled);
+        if (join != null && !isJoinKeyIndexed(select, join, ctx)) {
+          return join;
+        }
+      }
+    }
+    return new LetQueryStep(varName, query, ctx, profilingEnabled);
+  }
+
+  /**
+   * @return true if the query reads a class that has an index whose first field is the key of the
+   *     build side of the join
+   */
+  private static boolean isJoinKeyIndexed(
+      OSelectStatement select, HashJoinStep join, OCommandContext ctx) {
+    OFromClause target = select.getTarget();
+    if (target == null
+        || target.getItem() == null
+        || target.getItem().getIdentifier() == null
+        || !join.getBuildKey().isBaseIdentifier()) {
+      return false;
+    }
+    OClass clazz =
+        getSchemaFromContext(ctx).getClass(target.getItem().getIdentifier().getStringValue());
+    if (clazz == null) {
+      return false;
+    }
+    String key = join.getBuildKey().getDefaultAlias().getStringValue();
+    for (OIndex index : clazz.getIndexes()) {
+      List<String> fields = index.getDefinition().getFields();
+      if (!fields.isEmpty() && fields.get(0).equals(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Creates a hash join from a query whose WHERE condition contains exactly one equality between an
+   * expression calculated on the records and a reference to a variable (eg. $parent or $matched),
+   * and no other reference to the variable.
+   *
+   * @return the hash join step, null if the query does not have this shape
+   */
+  static HashJoinStep createHashJoin(
+      OSelectStatement query,
+      String probeVariable,
+      String targetName,
+      HashJoinStep.JoinType joinType,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    List<OAndBlock> flattened = query.getWhereClause().flatten();
+    if (flattened.size() != 1) {
+      return null;
+    }
+    OBinaryCondition joinCondition = null;
+    boolean buildOnLeft = false;
+    OAndBlock remaining = new OAndBlock(-1);
+    for (OBooleanExpression exp : flattened.get(0).getSubBlocks()) {
+      if (joinCondition == null
+          && exp instanceof OBinaryCondition
+          && ((OBinaryCondition) exp).getOperator() instanceof OEqualsCompareOperator) {
+        OBinaryCondition condition = (OBinaryCondition) exp;
+        if (isVariableReference(condition.getRight(), probeVariable)
+            && isJoinKey(condition.getLeft(), probeVariable)) {
+          joinCondition = condition;
+          buildOnLeft = true;
+          continue;
+        }
+        if (isVariableReference(condition.getLeft(), probeVariable)
+            && isJoinKey(condition.getRight(), probeVariable)) {
+          joinCondition = condition;
+          buildOnLeft = false;
+          continue;
+        }
+      }
+      remaining.addSubBlock(exp);
+    }
+    if (joinCondition == null) {
+      return null;
+    }
+
+    OSelectStatement buildQuery = query.copy();
+    OProjection buildProjection = buildQuery.getProjection();
+    buildQuery.setProjection(null);
+    if (remaining.getSubBlocks().isEmpty()) {
+      buildQuery.setWhereClause(null);
+    } else {
+      OOrBlock or = new OOrBlock(-1);
+      or.addSubBlock(remaining);
+      OWhereClause where = new OWhereClause(-1);
+      where.setBaseExpression(or);
+      buildQuery.setWhereClause(where);
+    }
+    if (buildQuery.refersToParent()
+        || buildQuery.toString().toLowerCase(Locale.ENGLISH).contains(probeVariable)) {
+      return null;
+    }
+    return new HashJoinStep(
+        buildQuery,
+        buildProjection,
+        joinCondition,
+        buildOnLeft,
+        targetName,
+        joinType,
+        ctx,
+        profilingEnabled);
+  }
+
+  /**
+   * @return true if the query has no projection or only projects fields, so that the projection can
+   *     be calculated on the records of the build side of a hash join
+   */
+  private static boolean isSimpleProjection(OSelectStatement select) {
+    OProjection projection = select.getProjection();
+    if (projection == null) {
+      return true;
+    }
+    if (projection.isDistinct() || projection.getItems() == null || select.getOrderBy() != null) {
+      return false;
+    }
+    for (OProjectionItem item : projection.getItems()) {
+      if (item.getNestedProjection() != null
+          || item.isAll()
+          || item.getExpression() == null
+          || !item.getExpression().isBaseIdentifier()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isJoinKey(OExpression exp, String probeVariable) {
+    return !exp.refersToParent()
+        && !exp.isFunctionAny()
+        && !exp.isFunctionAll()
+        && !exp.toString().toLowerCase(Locale.ENGLISH).contains(probeVariable);
+  }
+
+  /** @return true if the expression is a variable with optional modifiers, eg. $parent.$current */
+  private static boolean isVariableReference(OExpression exp, String varName) {
+    if (!(exp.getMathExpression() instanceof OBaseExpression)) {
+      return false;
+    }
+    OBaseIdentifier identifier = ((OBaseExpression) exp.getMathExpression()).getIdentifier();
+    return identifier != null
+        && identifier.getSuffix() != null
+        && identifier.getSuffix().getIdentifier() != null
+        && identifier.getSuffix().getIdentifier().getStringValue().equalsIgnoreCase(varName);
+  }
+
   private List<OLetItem> sortLet(List<OLetItem> items, OLetClause letClause) {
     if (letClause == null) {
       return items;
@@ -1808,12 +2062,21 @@ public class OSelectExecutionPlanner {
       boolean profilingEnabled) {
     if (info.whereClause != null) {
       if (info.distributedPlanCreated) {
-        plan.chain(
-            new FilterStep(
-                info.whereClause,
-                ctx,
-                this.info.timeout != null ? this.info.timeout.getVal().longValue() : -1,
-                profilingEnabled));
+        List<OInCondition> semiJoins = new ArrayList<>();
+        OWhereClause where = extractSemiJoins(info, semiJoins);
+        if (where != null) {
+          plan.chain(
+              new FilterStep(
+                  where,
+                  ctx,
+                  this.info.timeout != null ? this.info.timeout.getVal().longValue() : -1,
+                  profilingEnabled));
+        }
+        for (OInCondition condition : semiJoins) {
+          plan.chain(
+              new HashSemiJoinStep(
+                  condition, getSubQueryVariable(condition, info), ctx, profilingEnabled));
+        }
       } else {
         for (OSelectExecutionPlan shardedPlan : info.distributedFetchExecutionPlans.values()) {
           shardedPlan.chain(
@@ -1827,6 +2090,73 @@ public class OSelectExecutionPlanner {
     }
   }
 
+  /**
+   * removes from the WHERE condition the top level <code>x IN (SELECT ...)</code> conditions whose
+   * subquery is calculated once in a global LET, so that they can be executed as hash semi-joins
+   *
+   * @param info the query planning information
+   * @param semiJoins the list where the extracted conditions are added
+   * @return the remaining part of the WHERE condition, null if nothing remains
+   */
+  private static OWhereClause extractSemiJoins(
+      QueryPlanningInfo info, List<OInCondition> semiJoins) {
+    if (info.globalLetClause == null) {
+      return info.whereClause;
+    }
+    List<OAndBlock> flattened = info.whereClause.flatten();
+    if (flattened.size() != 1) {
+      return info.whereClause;
+    }
+    OAndBlock remaining = new OAndBlock(-1);
+    for (OBooleanExpression exp : flattened.get(0).getSubBlocks()) {
+      if (exp instanceof OInCondition && getSubQueryVariable((OInCondition) exp, info) != null) {
+        semiJoins.add((OInCondition) exp);
+      } else {
+        remaining.addSubBlock(exp);
+      }
+    }
+    if (semiJoins.isEmpty()) {
+      return info.whereClause;
+    }
+    if (remaining.getSubBlocks().isEmpty()) {
+      return null;
+    }
+    OOrBlock or = new OOrBlock(-1);
+    or.addSubBlock(remaining);
+    OWhereClause result = new OWhereClause(-1);
+    result.setBaseExpression(or);
+    return result;
+  }
+
+  /**
+   * @return the name of the global LET variable that contains the subquery results of a <code>
+   *     x IN (SELECT ...)</code> condition, null if the right operand is not a global LET query
+   */
+  private static String getSubQueryVariable(OInCondition condition, QueryPlanningInfo info) {
+    if (condition.getLeft() == null
+        || condition.getLeft().isFunctionAny()
+        || condition.getLeft().isFunctionAll()
+        || condition.getRightStatement() != null
+        || condition.getRightParam() != null
+        || !(condition.getRightMathExpression() instanceof OBaseExpression)) {
+      return null;
+    }
+    OBaseExpression right = (OBaseExpression) condition.getRightMathExpression();
+    if (right.getModifier() != null
+        || right.getIdentifier() == null
+        || right.getIdentifier().getSuffix() == null
+        || right.getIdentifier().getSuffix().getIdentifier() == null) {
+      return null;
+    }
+    String varName = right.getIdentifier().getSuffix().getIdentifier().getStringValue();
+    for (OLetItem item : info.globalLetClause.getItems()) {
+      if (item.getQuery() != null && item.getVarName().getStringValue().equals(varName)) {
+        return varName;
+      }
+    }
+    return null;
+  }
+
   public static void handleOrderBy(
       OSelectExecutionPlan plan,
       QueryPlanningInfo info,
@@ -1914,6 +2244,25 @@ public class OSelectExecutionPlanner {
     String className = identifier.getStringValue();
     OSchema schema = getSchemaFromContext(ctx);
 
+    if (orderByRidAsc == null
+        && from == info.target
+        && info.serverToClusters.size() == 1
+        && schema.getClass(className) != null
+        && handleClassAsTargetWithColumns(
+            plan, className, filterClusters, info, ctx, profilingEnabled)) {
+      return;
+    }
+
+    if (orderByRidAsc == null
+        && from == info.target
+        && info.serverToClusters.size() == 1
+        && isConcurrentExecutionAllowed(info)
+        && schema.getClass(className) != null
+        && handleClassAsTargetWithConcurrentScan(
+            plan, className, filterClusters, info, ctx, profilingEnabled)) {
+      return;
+    }
+
     AbstractExecutionStep fetcher;
     if (schema.getClass(className) != null) {
       fetcher =
@@ -1933,6 +2282,150 @@ public class OSelectExecutionPlanner {
     plan.chain(fetcher);
   }
 
+  /**
+   * splits the scan of a class in one sub-plan per cluster, to be executed concurrently. If no LET
+   * is defined, the WHERE condition is evaluated by the sub-plans as well
+   *
+   * @return true if the fetch steps were added to the plan, false if the class has less than two
+   *     clusters
+   */
+  private boolean handleClassAsTargetWithConcurrentScan(
+      OSelectExecutionPlan plan,
+      String className,
+      Set<String> filterClusters,
+      QueryPlanningInfo info,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OClass clazz = getSchemaFromContext(ctx).getClass(className);
+    List<Integer> clusterIds = new ArrayList<>();
+    for (int clusterId : clazz.getPolymorphicClusterIds()) {
+      if (clusterId >= 0
+          && (filterClusters == null
+              || filterClusters.contains(db.getClusterNameById(clusterId)))) {
+        clusterIds.add(clusterId);
+      }
+    }
+    if (clusterIds.size() < 2) {
+      return false;
+    }
+
+    boolean filterInSubPlans = info.whereClause != null && info.perRecordLetClause == null;
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (Integer clusterId : clusterIds) {
+      OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
+      subPlan.chain(new FetchFromClusterExecutionStep(clusterId, info, ctx, profilingEnabled));
+      subPlans.add(subPlan);
+    }
+    // records created in current tx; with an active tx the sub-plans are executed sequentially
+    OSelectExecutionPlan txPlan = new OSelectExecutionPlan(ctx);
+    txPlan.chain(new FetchTemporaryFromTxStep(ctx, className, profilingEnabled));
+    subPlans.add(txPlan);
+
+    if (filterInSubPlans) {
+      for (OInternalExecutionPlan subPlan : subPlans) {
+        ((OSelectExecutionPlan) subPlan)
+            .chain(
+                new FilterStep(
+                    info.whereClause.copy(),
+                    ctx,
+                    this.info.timeout != null ? this.info.timeout.getVal().longValue() : -1,
+                    profilingEnabled));
+      }
+      info.whereClause = null;
+    }
+    plan.chain(
+        new ParallelExecStep(
+            subPlans,
+            ctx,
+            true,
+            info.timeout != null ? info.timeout.getVal().longValue() : -1,
+            profilingEnabled));
+    return true;
+  }
+
+  /**
+   * reads the properties from the property columns of the class clusters instead of the records, if
+   * the query is an aggregation over properties that are stored in columns and nothing else is
+   * needed from the records
+   *
+   * @return true if the fetch step was added to the plan
+   */
+  private boolean handleClassAsTargetWithColumns(
+      OSelectExecutionPlan plan,
+      String className,
+      Set<String> filterClusters,
+      QueryPlanningInfo info,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    if (info.aggregateProjection == null
+        || info.preAggregateProjection == null
+        || info.distinct
+        || info.expand
+        || info.whereClause != null
+        || info.flattenedWhereClause != null
+        || info.ridRangeConditions != null
+        || info.globalLetClause != null
+        || info.perRecordLetClause != null
+        || info.unwind != null
+        || info.lockRecord != null) {
+      return false;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db.getTransaction().isActive() || !(db.getStorage() instanceof OAbstractPaginatedStorage)) {
+      return false;
+    }
+    OClass clazz = getSchemaFromContext(ctx).getClass(className);
+    if (clazz.isSubClassOf(OSecurityShared.RESTRICTED_CLASSNAME)
+        || securityPoliciesExistForClass(new OIdentifier(className), ctx)) {
+      return false;
+    }
+
+    Set<String> properties = new LinkedHashSet<>();
+    for (OProjectionItem item : info.preAggregateProjection.getItems()) {
+      OExpression expression = item.getExpression();
+      if (expression == null || !expression.isBaseIdentifier()) {
+        return false;
+      }
+      String name = expression.getDefaultAlias().getStringValue();
+      OProperty property = clazz.getProperty(name);
+      if (property == null || !property.getName().equals(name)) {
+        return false;
+      }
+      properties.add(name);
+    }
+
+    OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage();
+    List<Integer> clusterIds = new ArrayList<>();
+    for (int clusterId : clazz.getPolymorphicClusterIds()) {
+      if (clusterId >= 0
+          && (filterClusters == null
+              || filterClusters.contains(db.getClusterNameById(clusterId)))) {
+        if (!storage.hasPropertyColumns(clusterId, properties)) {
+          return false;
+        }
+        clusterIds.add(clusterId);
+      }
+    }
+
+    plan.chain(
+        new FetchFromClassColumnsStep(
+            className,
+            clusterIds.stream().mapToInt(Integer::intValue).toArray(),
+            properties.toArray(new String[0]),
+            ctx,
+            profilingEnabled));
+    return true;
+  }
+
+  /**
+   * true if the sub-plans of a {@link ParallelExecStep} can be executed on multiple threads, ie.
+   * the statement requires it (PARALLEL) and the order of the results is not relevant
+   */
+  private static boolean isConcurrentExecutionAllowed(QueryPlanningInfo info) {
+    return info.parallel && info.orderBy == null;
+  }
+
   private boolean handleClassAsTargetWithIndexedFunction(
       OSelectExecutionPlan plan,
       Set<String> filterClusters,
@@ -2108,7 +2601,13 @@ public class OSelectExecutionPlanner {
     if (indexedFunctionsFound) {
       if (resultSubPlans.size()
           > 1) { // if resultSubPlans.size() == 1 the step was already chained (see above)
-        plan.chain(new ParallelExecStep(resultSubPlans, ctx, profilingEnabled));
+        plan.chain(
+            new ParallelExecStep(
+                resultSubPlans,
+                ctx,
+                isConcurrentExecutionAllowed(info),
+                info.timeout != null ? info.timeout.getVal().longValue() : -1,
+                profilingEnabled));
         plan.chain(new FilterByClustersStep(filterClusters, ctx, profilingEnabled));
         plan.chain(new DistinctExecutionStep(ctx, profilingEnabled));
       }
@@ -2293,7 +2792,13 @@ public class OSelectExecutionPlanner {
       subclassPlans.add(subPlan);
     }
     if (subclassPlans.size() > 0) {
-      plan.chain(new ParallelExecStep(subclassPlans, ctx, profilingEnabled));
+      plan.chain(
+          new ParallelExecStep(
+              subclassPlans,
+              ctx,
+              isConcurrentExecutionAllowed(info),
+              info.timeout != null ? info.timeout.getVal().longValue() : -1,
+              profilingEnabled));
       return true;
     }
     return false;
@@ -2361,7 +2866,13 @@ public class OSelectExecutionPlanner {
         subclassPlans.add(subPlan);
       }
       if (subclassPlans.size() > 0) {
-        result.add(new ParallelExecStep(subclassPlans, ctx, profilingEnabled));
+        result.add(
+            new ParallelExecStep(
+                subclassPlans,
+                ctx,
+                isConcurrentExecutionAllowed(info),
+                info.timeout != null ? info.timeout.getVal().longValue() : -1,
+                profilingEnabled));
       }
     }
     return result.size() == 0 ? null : result;
@@ -2584,7 +3095,12 @@ public class OSelectExecutionPlanner {
       }
       subPlans.add(subPlan);
     }
-    return new ParallelExecStep(subPlans, ctx, profilingEnabled);
+    return new ParallelExecStep(
+        subPlans,
+        ctx,
+        isConcurrentExecutionAllowed(info),
+        info.timeout != null ? info.timeout.getVal().longValue() : -1,
+        profilingEnabled);
   }
 
   /**
@@ -3,15 +3,27 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 
-/** Created by luigidellaquila on 11/07/16. */
+/**
+ * Sorts the results of the previous step. With a LIMIT only the first elements are kept in a
+ * bounded heap, otherwise the sort is delegated to an {@link ExternalMergeSort} that can move
+ * sorted runs to disk when {@link OGlobalConfiguration#QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP} is
+ * exceeded.
+ *
+ * <p>Created by luigidellaquila on 11/07/16.
+ */
 public class OrderByStep extends AbstractExecutionStep {
   private final OOrderBy orderBy;
   private final long timeoutMillis;
@@ -19,7 +31,8 @@ public class OrderByStep extends AbstractExecutionStep {
 
   private long cost = 0;
 
-  private List<OResult> cachedResult = null;
+  private Iterator<OResult> sortedResults = null;
+  private ExternalMergeSort sorter;
   private int nextElement = 0;
 
   public OrderByStep(
@@ -44,37 +57,33 @@ public class OrderByStep extends AbstractExecutionStep {
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
-    if (cachedResult == null) {
-      cachedResult = new ArrayList<>();
+    if (sortedResults == null) {
+      sortedResults = Collections.emptyIterator();
       prev.ifPresent(p -> init(p, ctx));
     }
 
     return new OResultSet() {
       private int currentBatchReturned = 0;
-      private int offset = nextElement;
 
       @Override
       public boolean hasNext() {
         if (currentBatchReturned >= nRecords) {
           return false;
         }
-        if (cachedResult.size() <= nextElement) {
+        if (maxResults != null && nextElement >= maxResults) {
           return false;
         }
-        return true;
+        return sortedResults.hasNext();
       }
 
       @Override
       public OResult next() {
         long begin = profilingEnabled ? System.nanoTime() : 0;
         try {
-          if (currentBatchReturned >= nRecords) {
+          if (!hasNext()) {
             throw new IllegalStateException();
           }
-          if (cachedResult.size() <= nextElement) {
-            throw new IllegalStateException();
-          }
-          OResult result = cachedResult.get(offset + currentBatchReturned);
+          OResult result = sortedResults.next();
           nextElement++;
           currentBatchReturned++;
           return result;
@@ -103,10 +112,30 @@ public class OrderByStep extends AbstractExecutionStep {
   }
 
   private void init(OExecutionStepInternal p, OCommandContext ctx) {
-    long timeoutBegin = System.currentTimeMillis();
     final long maxElementsAllowed =
         OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
-    boolean sorted = true;
+    if (maxResults != null && (maxElementsAllowed < 0 || maxResults <= maxElementsAllowed)) {
+      initTopN(p, ctx);
+    } else {
+      initFullSort(p, ctx, maxElementsAllowed);
+    }
+  }
+
+  /**
+   * keeps only the first maxResults elements in a bounded heap, the head of the heap is the element
+   * that would be returned last
+   */
+  private void initTopN(OExecutionStepInternal p, OCommandContext ctx) {
+    long timeoutBegin = System.currentTimeMillis();
+    Comparator<Object[]> comparator =
+        (a, b) -> {
+          int result = orderBy.compare((OResult) a[0], (OResult) b[0], ctx);
+          // on ties keep the insertion order, as a stable sort does
+          return result != 0 ? result : Long.compare((Long) a[1], (Long) b[1]);
+        };
+    PriorityQueue<Object[]> heap =
+        new PriorityQueue<>(Math.min(Math.max(maxResults, 1), 1024) + 1, comparator.reversed());
+    long received = 0;
     do {
       OResultSet lastBatch = p.syncPull(ctx, 100);
       if (!lastBatch.hasNext()) {
@@ -116,32 +145,21 @@ public class OrderByStep extends AbstractExecutionStep {
         if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
           sendTimeout();
         }
-
         if (this.timedOut) {
           break;
         }
         OResult item = lastBatch.next();
         long begin = profilingEnabled ? System.nanoTime() : 0;
         try {
-          cachedResult.add(item);
-          if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size()) {
-            this.cachedResult.clear();
-            throw new OCommandExecutionException(
-                "Limit of allowed elements for in-heap ORDER BY in a single query exceeded ("
-                    + maxElementsAllowed
-                    + ") . You can set "
-                    + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
-                    + " to increase this limit");
+          if (maxResults == 0) {
+            continue;
           }
-          sorted = false;
-          // compact, only at twice as the buffer, to avoid to do it at each add
-          if (this.maxResults != null) {
-            long compactThreshold = 2L * maxResults;
-            if (compactThreshold < cachedResult.size()) {
-              cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-              cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-              sorted = true;
-            }
+          Object[] entry = new Object[] {item, received++};
+          if (heap.size() < maxResults) {
+            heap.add(entry);
+          } else if (comparator.compare(entry, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(entry);
           }
         } finally {
           if (profilingEnabled) {
@@ -149,28 +167,75 @@ public class OrderByStep extends AbstractExecutionStep {
           }
         }
       }
-      if (timedOut) {
+    } while (!timedOut);
+
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      List<Object[]> entries = new ArrayList<>(heap);
+      entries.sort(comparator);
+      List<OResult> result = new ArrayList<>(entries.size());
+      for (Object[] entry : entries) {
+        result.add((OResult) entry[0]);
+      }
+      sortedResults = result.iterator();
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private void initFullSort(
+      OExecutionStepInternal p, OCommandContext ctx, long maxElementsAllowed) {
+    long timeoutBegin = System.currentTimeMillis();
+    final boolean spillToDisk =
+        ctx.getDatabase() != null
+            && ctx.getDatabase()
+                .getConfiguration()
+                .getValueAsBoolean(OGlobalConfiguration.QUERY_ORDER_BY_SPILL_TO_DISK);
+    sorter =
+        new ExternalMergeSort(
+            (a, b) -> orderBy.compare(a, b, ctx), (ODatabaseDocumentInternal) ctx.getDatabase());
+    do {
+      OResultSet lastBatch = p.syncPull(ctx, 100);
+      if (!lastBatch.hasNext()) {
         break;
       }
-      long begin = profilingEnabled ? System.nanoTime() : 0;
-      try {
-        // compact at each batch, if needed
-        if (!sorted && this.maxResults != null && maxResults < cachedResult.size()) {
-          cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-          cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-          sorted = true;
+      while (lastBatch.hasNext()) {
+        if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+          sendTimeout();
         }
-      } finally {
-        if (profilingEnabled) {
-          cost += (System.nanoTime() - begin);
+
+        if (this.timedOut) {
+          break;
+        }
+        OResult item = lastBatch.next();
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          if (maxElementsAllowed >= 0 && maxElementsAllowed <= sorter.bufferedSize()) {
+            if (!spillToDisk) {
+              sorter.close();
+              throw new OCommandExecutionException(
+                  "Limit of allowed elements for in-heap ORDER BY in a single query exceeded ("
+                      + maxElementsAllowed
+                      + ") . You can set "
+                      + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
+                      + " to increase this limit");
+            }
+            sorter.spill();
+          }
+          sorter.add(item);
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
         }
       }
-    } while (true);
+    } while (!timedOut);
+
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
-      if (!sorted) {
-        cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-      }
+      sortedResults = sorter.sorted();
     } finally {
       if (profilingEnabled) {
         cost += (System.nanoTime() - begin);
@@ -178,6 +243,14 @@ public class OrderByStep extends AbstractExecutionStep {
     }
   }
 
+  @Override
+  public void close() {
+    if (sorter != null) {
+      sorter.close();
+    }
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = OExecutionStepInternal.getIndent(depth, indent) + "+ " + orderBy;
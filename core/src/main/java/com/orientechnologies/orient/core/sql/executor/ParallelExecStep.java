@@ -1,30 +1,121 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
-/** @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com) */
+/**
+ * Executes a list of sub-plans and returns the union of their results.
+ *
+ * <p>By default the sub-plans are consumed one after the other on the caller thread. When the step
+ * is created as <i>concurrent</i> (eg. <code>SELECT ... PARALLEL</code>) and the query runs on an
+ * embedded database outside of a transaction, each sub-plan is executed on a bounded pool of worker
+ * threads, with its own database session, and the results are exchanged through a blocking queue of
+ * {@link OGlobalConfiguration#QUERY_PARALLEL_RESULT_QUEUE_SIZE} elements. In this case the order of
+ * the results is not guaranteed.
+ *
+ * <p>The pool is shared by all the queries: when no result is received, the caller thread executes
+ * itself the sub-plans that no worker has started yet, so a query always makes progress even if the
+ * workers are busy with other queries.
+ *
+ * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
+ */
 public class ParallelExecStep extends AbstractExecutionStep {
+  private static final int SUB_PLAN_BATCH_SIZE = 100;
+  private static final long QUEUE_POLL_TIMEOUT_MS = 100;
+
+  /** marks the end of the results of a single sub-plan in the result queue */
+  private static final OResult END_OF_SUB_PLAN = new OResultInternal();
+
+  /** set on worker threads, nested parallel steps are executed sequentially to avoid starvation */
+  private static final ThreadLocal<Boolean> insideWorker = new ThreadLocal<>();
+
+  private static final ExecutorService executor =
+      OThreadPoolExecutors.newScalingThreadPool(
+          "OrientDB Parallel Query",
+          0,
+          Runtime.getRuntime().availableProcessors(),
+          100,
+          1,
+          TimeUnit.MINUTES);
+
   private final List<OInternalExecutionPlan> subExecutionPlans;
+  private final boolean concurrent;
+  private final long timeoutMillis;
 
   private int current = 0;
   private OResultSet currentResultSet = null;
 
+  private Boolean concurrentExecution = null;
+  private BlockingQueue<OResult> resultQueue;
+  private List<SubPlanTask> tasks;
+  private int pendingSubPlans;
+  private OResult nextResult;
+  private long timeoutBegin;
+  // sub-plan executed by the caller thread, because no worker started it
+  private OInternalExecutionPlan localPlan;
+  private OResultSet localResultSet;
+  private volatile boolean cancelled = false;
+  private volatile Throwable failure;
+
+  public ParallelExecStep(
+      List<OInternalExecutionPlan> subExecuitonPlans,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    this(subExecuitonPlans, ctx, false, -1, profilingEnabled);
+  }
+
+  /**
+   * @param subExecuitonPlans the plans to be executed
+   * @param ctx the query context
+   * @param concurrent true to allow the execution of the sub-plans on multiple threads, if the
+   *     context permits it
+   * @param timeoutMillis the maximum time (in ms) to wait for the results of the sub-plans executed
+   *     on multiple threads, -1 for no timeout
+   * @param profilingEnabled true to enable the profiling of the execution
+   */
   public ParallelExecStep(
       List<OInternalExecutionPlan> subExecuitonPlans,
       OCommandContext ctx,
+      boolean concurrent,
+      long timeoutMillis,
       boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
+    this.concurrent = concurrent;
+    this.timeoutMillis = timeoutMillis;
   }
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (concurrentExecution == null) {
+      concurrentExecution = canExecuteConcurrently(ctx);
+      if (concurrentExecution) {
+        startSubPlans(ctx);
+      }
+    }
+    if (concurrentExecution) {
+      return concurrentResultSet(nRecords);
+    }
     return new OResultSet() {
       private int localCount = 0;
 
@@ -72,6 +163,283 @@ public class ParallelExecStep extends AbstractExecutionStep {
     };
   }
 
+  private OResultSet concurrentResultSet(int nRecords) {
+    return new OResultSet() {
+      private int localCount = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (localCount >= nRecords) {
+          return false;
+        }
+        if (nextResult == null) {
+          nextResult = takeNext();
+        }
+        return nextResult != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        OResult result = nextResult;
+        nextResult = null;
+        localCount++;
+        return result;
+      }
+
+      @Override
+      public void close() {}
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private boolean canExecuteConcurrently(OCommandContext ctx) {
+    if (!concurrent || subExecutionPlans.size() < 2 || Boolean.TRUE.equals(insideWorker.get())) {
+      return false;
+    }
+    if (!(ctx.getDatabase() instanceof ODatabaseDocumentInternal)) {
+      return false;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db.isRemote() || db.getTransaction().isActive()) {
+      // sessions opened by the workers would not see the changes of the current transaction
+      return false;
+    }
+    // the sub-plans are copied for each worker, the same requirement of the plan cache applies
+    return canBeCached();
+  }
+
+  private void startSubPlans(OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    int queueSize =
+        db.getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE);
+    resultQueue = new ArrayBlockingQueue<>(Math.max(queueSize, 1));
+    tasks = new ArrayList<>(subExecutionPlans.size());
+    pendingSubPlans = subExecutionPlans.size();
+    timeoutBegin = System.currentTimeMillis();
+    for (OInternalExecutionPlan subPlan : subExecutionPlans) {
+      // the copy re-activates the current session on this thread, so it has to be done here
+      ODatabaseDocumentInternal workerDb = db.copy();
+      OBasicCommandContext workerCtx = new OBasicCommandContext();
+      workerCtx.setParentWithoutOverridingChild(ctx);
+      workerCtx.setDatabase(workerDb);
+      workerCtx.setInputParameters(ctx.getInputParameters());
+      SubPlanTask task = new SubPlanTask(subPlan, workerDb, subPlan.copy(workerCtx));
+      tasks.add(task);
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException e) {
+        // the pool is saturated, the sub-plan is left to the caller thread
+      }
+    }
+  }
+
+  private void executeSubPlan(ODatabaseDocumentInternal db, OInternalExecutionPlan plan) {
+    insideWorker.set(true);
+    try {
+      db.activateOnCurrentThread();
+      while (!cancelled) {
+        OResultSet partial = plan.fetchNext(SUB_PLAN_BATCH_SIZE);
+        if (!partial.hasNext()) {
+          break;
+        }
+        while (!cancelled && partial.hasNext()) {
+          enqueue(partial.next());
+        }
+        partial.close();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancelled = true;
+    } catch (Throwable e) {
+      // errors too, or the consumer would take the missing results as the end of the sub-plan
+      if (failure == null) {
+        failure = e;
+      }
+      cancelled = true;
+    } finally {
+      try {
+        plan.close();
+        db.close();
+      } finally {
+        ODatabaseRecordThreadLocal.instance().remove();
+        insideWorker.remove();
+        enqueueEnd();
+      }
+    }
+  }
+
+  private void enqueue(OResult result) throws InterruptedException {
+    while (!cancelled) {
+      if (resultQueue.offer(result, QUEUE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    }
+  }
+
+  private void enqueueEnd() {
+    try {
+      while (!resultQueue.offer(END_OF_SUB_PLAN, QUEUE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        if (cancelled) {
+          // nobody is consuming the queue anymore
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private OResult takeNext() {
+    while (true) {
+      checkFailure();
+      if (timedOut) {
+        throw new OTimeoutException("Command execution timeout");
+      }
+      if (cancelled) {
+        return null;
+      }
+      OResult result = nextLocalResult();
+      if (result != null) {
+        return result;
+      }
+      if (pendingSubPlans == 0) {
+        return null;
+      }
+
+      long wait = QUEUE_POLL_TIMEOUT_MS;
+      if (timeoutMillis > 0) {
+        long remaining = timeoutBegin + timeoutMillis - System.currentTimeMillis();
+        if (remaining < 0) {
+          sendTimeout();
+          throw new OTimeoutException("Command execution timeout");
+        }
+        wait = Math.min(wait, remaining);
+      }
+      try {
+        result = resultQueue.poll(wait, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        cancelSubPlans();
+        throw OException.wrapException(
+            new OCommandInterruptedException("Parallel execution has been interrupted"), e);
+      }
+      if (result == END_OF_SUB_PLAN) {
+        pendingSubPlans--;
+      } else if (result != null) {
+        return result;
+      } else {
+        startLocalSubPlan();
+      }
+    }
+  }
+
+  /** takes on the caller thread the first sub-plan that has not been started by a worker */
+  private void startLocalSubPlan() {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    for (SubPlanTask task : tasks) {
+      if (task.claim(db)) {
+        localPlan = task.subPlan;
+        return;
+      }
+    }
+  }
+
+  /** @return the next result of the sub-plan executed by the caller thread, null if none */
+  private OResult nextLocalResult() {
+    while (localPlan != null) {
+      if (localResultSet == null) {
+        localResultSet = localPlan.fetchNext(SUB_PLAN_BATCH_SIZE);
+        if (!localResultSet.hasNext()) {
+          closeLocalSubPlan();
+          pendingSubPlans--;
+          continue;
+        }
+      }
+      if (localResultSet.hasNext()) {
+        return localResultSet.next();
+      }
+      localResultSet.close();
+      localResultSet = null;
+    }
+    return null;
+  }
+
+  private void closeLocalSubPlan() {
+    if (localResultSet != null) {
+      localResultSet.close();
+      localResultSet = null;
+    }
+    if (localPlan != null) {
+      localPlan.close();
+      localPlan = null;
+    }
+  }
+
+  private void checkFailure() {
+    Throwable e = failure;
+    if (e != null) {
+      cancelSubPlans();
+      if (e instanceof OException) {
+        throw (OException) e;
+      }
+      if (e instanceof Error) {
+        throw (Error) e;
+      }
+      throw OException.wrapException(
+          new OCommandExecutionException("Error on executing parallel query"), e);
+    }
+  }
+
+  private void cancelSubPlans() {
+    cancelled = true;
+    if (resultQueue != null) {
+      // unblock the workers waiting for free space in the queue
+      resultQueue.clear();
+    }
+    // the workers are not interrupted, they could be doing I/O on the storage files: they check the
+    // flag, release their database session and terminate on their own
+  }
+
+  @Override
+  public void sendTimeout() {
+    cancelSubPlans();
+    super.sendTimeout();
+  }
+
+  @Override
+  public void sendStop() {
+    // the consumer could never close the result set, the workers would wait for it otherwise
+    cancelSubPlans();
+    super.sendStop();
+  }
+
+  @Override
+  public void close() {
+    cancelSubPlans();
+    if (tasks != null) {
+      // the sessions of the sub-plans rejected by the pool would never be released
+      ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+      for (SubPlanTask task : tasks) {
+        task.claim(db);
+      }
+    }
+    closeLocalSubPlan();
+    super.close();
+  }
+
   void fetchNext(OCommandContext ctx, int nRecords) {
     do {
       if (current >= subExecutionPlans.size()) {
@@ -177,7 +545,7 @@ public class ParallelExecStep extends AbstractExecutionStep {
 
   private String head(int depth, int indent, int nItems) {
     String ind = OExecutionStepInternal.getIndent(depth, indent);
-    return ind + "+ PARALLEL";
+    return ind + (concurrent ? "+ PARALLEL (CONCURRENT)" : "+ PARALLEL");
   }
 
   private String foot(int[] blockSizes) {
@@ -200,6 +568,11 @@ public class ParallelExecStep extends AbstractExecutionStep {
     return "| " + p;
   }
 
+  /** @return true if the sub-plans can be executed on multiple threads */
+  public boolean isConcurrent() {
+    return concurrent;
+  }
+
   public List<OExecutionPlan> getSubExecutionPlans() {
     return (List) subExecutionPlans;
   }
@@ -219,6 +592,55 @@ public class ParallelExecStep extends AbstractExecutionStep {
     return new ParallelExecStep(
         subExecutionPlans.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()),
         ctx,
+        concurrent,
+        timeoutMillis,
         profilingEnabled);
   }
+
+  /**
+   * a sub-plan submitted to the pool, executed by a worker or, if no worker has started it yet, by
+   * the caller thread
+   */
+  private final class SubPlanTask implements Runnable {
+    private final OInternalExecutionPlan subPlan;
+    private final ODatabaseDocumentInternal workerDb;
+    private final OInternalExecutionPlan workerPlan;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private SubPlanTask(
+        OInternalExecutionPlan subPlan,
+        ODatabaseDocumentInternal workerDb,
+        OInternalExecutionPlan workerPlan) {
+      this.subPlan = subPlan;
+      this.workerDb = workerDb;
+      this.workerPlan = workerPlan;
+    }
+
+    @Override
+    public void run() {
+      if (started.compareAndSet(false, true)) {
+        executeSubPlan(workerDb, workerPlan);
+      }
+    }
+
+    /**
+     * prevents the workers from starting the task and releases its session
+     *
+     * @param db the session of the caller thread, active again on return
+     * @return false if the task has already been started
+     */
+    private boolean claim(ODatabaseDocumentInternal db) {
+      if (!started.compareAndSet(false, true)) {
+        return false;
+      }
+      workerDb.activateOnCurrentThread();
+      try {
+        workerPlan.close();
+        workerDb.close();
+      } finally {
+        db.activateOnCurrentThread();
+      }
+      return true;
+    }
+  }
 }
@@ -3,6 +3,8 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
+import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -12,6 +14,9 @@ public class ProjectionCalculationStep extends AbstractExecutionStep {
 
   protected long cost = 0;
 
+  private OExpressionCompiler.CompiledProjection compiledProjection;
+  private boolean compiled = false;
+
   public ProjectionCalculationStep(
       OProjection projection, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
@@ -58,9 +63,59 @@ public class ProjectionCalculationStep extends AbstractExecutionStep {
     };
   }
 
+  /**
+   * If the projections are plain properties, the columns of the batches of the upstream are
+   * returned with the aliases of the projections, without calculating the results
+   */
+  @Override
+  public OResultBatch syncPullBatch(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!prev.isPresent()) {
+      throw new IllegalStateException("Cannot calculate projections without a previous source");
+    }
+    if (!OResultBatch.isBatchExecutionEnabled(ctx) || !isPlainProjection()) {
+      return OResultBatch.fromResultSet(syncPull(ctx, nRecords));
+    }
+
+    OResultBatch batch = prev.get().syncPullBatch(ctx, nRecords);
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      Map<String, OResultBatch.Column> columns = new LinkedHashMap<>();
+      for (OProjectionItem item : projection.getItems()) {
+        OResultBatch.Column column = batch.getColumn(item.getExpression(), ctx);
+        columns.put(item.getProjectionAliasAsString(), column.map(item::convert));
+      }
+      return batch.withColumns(columns);
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private boolean isPlainProjection() {
+    if (projection.getItems() == null || projection.getItems().isEmpty()) {
+      return false;
+    }
+    for (OProjectionItem item : projection.getItems()) {
+      if (item.isAll()
+          || item.isExclude()
+          || item.getNestedProjection() != null
+          || item.getExpression() == null
+          || !item.getExpression().isBaseIdentifier()
+          || item.getExpression().getDefaultAlias().getStringValue().startsWith("$")) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private OResult calculateProjections(OCommandContext ctx, OResult next) {
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
+      OExpressionCompiler.CompiledProjection calculator = getCompiledProjection(ctx);
+      if (calculator != null) {
+        return calculator.calculate(next, ctx);
+      }
       return this.projection.calculateSingle(ctx, next);
     } finally {
       if (profilingEnabled) {
@@ -69,6 +124,16 @@ public class ProjectionCalculationStep extends AbstractExecutionStep {
     }
   }
 
+  private OExpressionCompiler.CompiledProjection getCompiledProjection(OCommandContext ctx) {
+    if (!compiled) {
+      if (OExpressionCompiler.isEnabled(ctx)) {
+        compiledProjection = OExpressionCompiler.compile(projection, ctx);
+      }
+      compiled = true;
+    }
+    return compiledProjection;
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
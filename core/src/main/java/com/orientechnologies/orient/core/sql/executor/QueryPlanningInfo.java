@@ -51,6 +51,9 @@ public class QueryPlanningInfo {
   protected OAndBlock ridRangeConditions;
   protected OStorage.LOCKING_STRATEGY lockRecord;
 
+  /** true if the statement allows the execution of independent sub-plans on multiple threads */
+  protected boolean parallel = false;
+
   public QueryPlanningInfo copy() {
     // TODO check what has to be copied and what can be just referenced as it is
     QueryPlanningInfo result = new QueryPlanningInfo();
@@ -81,6 +84,7 @@ public class QueryPlanningInfo {
     result.ridRangeConditions = this.ridRangeConditions;
 
     result.lockRecord = this.lockRecord;
+    result.parallel = this.parallel;
     return result;
   }
 }
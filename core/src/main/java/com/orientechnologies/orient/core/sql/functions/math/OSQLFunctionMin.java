@@ -112,14 +112,22 @@ public class OSQLFunctionMin extends OSQLFunctionMathAbstract {
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
     Comparable<Object> context = null;
     for (Object iParameter : resultsToMerge) {
-      final Comparable<Object> value = (Comparable<Object>) iParameter;
+      Comparable<Object> value = (Comparable<Object>) iParameter;
 
       if (context == null)
         // FIRST TIME
         context = value;
-      else if (context.compareTo(value) > 0)
-        // BIGGER
-        context = value;
+      else {
+        // PARTIAL RESULTS CAN BE NUMBERS OF DIFFERENT TYPES
+        if (context instanceof Number && value instanceof Number) {
+          final Number[] casted = OType.castComparableNumber((Number) context, (Number) value);
+          context = (Comparable<Object>) (Object) casted[0];
+          value = (Comparable<Object>) (Object) casted[1];
+        }
+        if (context.compareTo(value) > 0)
+          // SMALLER
+          context = value;
+      }
     }
     return context;
   }
@@ -11,6 +11,7 @@ import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.storage.OCluster;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +27,13 @@ public class OAlterClusterStatement extends ODDLStatement {
   protected OIdentifier attributeName;
   protected OExpression attributeValue;
 
+  /**
+   * <code>ALTER CLUSTER &lt;name&gt; COMPACT</code>: moves the records towards the beginning of the
+   * cluster and reclaims the empty pages at its end. It runs only on request, it can be scheduled
+   * with the database scheduler
+   */
+  protected boolean compact = false;
+
   public OAlterClusterStatement(int id) {
     super(id);
   }
@@ -41,6 +49,10 @@ public class OAlterClusterStatement extends ODDLStatement {
     if (starred) {
       builder.append("*");
     }
+    if (compact) {
+      builder.append(" COMPACT");
+      return;
+    }
     builder.append(" ");
     attributeName.toString(params, builder);
     builder.append(" ");
@@ -54,6 +66,10 @@ public class OAlterClusterStatement extends ODDLStatement {
     if (starred) {
       builder.append("*");
     }
+    if (compact) {
+      builder.append(" COMPACT");
+      return;
+    }
     builder.append(" ");
     attributeName.toGenericStatement(builder);
     builder.append(" ");
@@ -67,6 +83,7 @@ public class OAlterClusterStatement extends ODDLStatement {
     result.attributeName = attributeName == null ? null : attributeName.copy();
     result.starred = starred;
     result.attributeValue = attributeValue == null ? null : attributeValue.copy();
+    result.compact = compact;
     return result;
   }
 
@@ -74,6 +91,9 @@ public class OAlterClusterStatement extends ODDLStatement {
   public OResultSet executeDDL(OCommandContext ctx) {
     OInternalResultSet result = new OInternalResultSet();
     List<Integer> clustersToUpdate = getClusters(ctx);
+    if (compact) {
+      return compact(ctx, clustersToUpdate);
+    }
 
     Object finalValue = attributeValue.execute((OIdentifiable) null, ctx);
 
@@ -101,6 +121,26 @@ public class OAlterClusterStatement extends ODDLStatement {
     return result;
   }
 
+  private OResultSet compact(OCommandContext ctx, List<Integer> clusters) {
+    final OStorage storage =
+        ((ODatabaseDocumentInternal) ctx.getDatabase()).getStorage().getUnderlying();
+    if (!(storage instanceof OAbstractPaginatedStorage)) {
+      throw new OCommandExecutionException(
+          "Compaction of clusters is not supported by storage " + storage.getName());
+    }
+
+    OInternalResultSet result = new OInternalResultSet();
+    for (final int clusterId : clusters) {
+      final long moved = ((OAbstractPaginatedStorage) storage).compactCluster(clusterId);
+
+      OResultInternal resultItem = new OResultInternal();
+      resultItem.setProperty("cluster", storage.getClusterName(clusterId));
+      resultItem.setProperty("movedRecords", moved);
+      result.add(resultItem);
+    }
+    return result;
+  }
+
   private List<OCluster.ATTRIBUTES> noDeprecatedValues(final OCluster.ATTRIBUTES[] values) {
     return Arrays.stream(values)
         .filter(
@@ -151,6 +191,7 @@ public class OAlterClusterStatement extends ODDLStatement {
     OAlterClusterStatement that = (OAlterClusterStatement) o;
 
     if (starred != that.starred) return false;
+    if (compact != that.compact) return false;
     if (name != null ? !name.equals(that.name) : that.name != null) return false;
     if (attributeName != null
         ? !attributeName.equals(that.attributeName)
@@ -167,6 +208,7 @@ public class OAlterClusterStatement extends ODDLStatement {
     int result = name != null ? name.hashCode() : 0;
     result = 31 * result + (attributeName != null ? attributeName.hashCode() : 0);
     result = 31 * result + (starred ? 1 : 0);
+    result = 31 * result + (compact ? 1 : 0);
     result = 31 * result + (attributeValue != null ? attributeValue.hashCode() : 0);
     return result;
   }
@@ -25,6 +25,8 @@ public class OAlterPropertyStatement extends ODDLStatement {
   OIdentifier customPropertyName;
   OExpression customPropertyValue;
 
+  Boolean columnar;
+
   OIdentifier settingName;
   public OExpression settingValue;
 
@@ -64,6 +66,14 @@ public class OAlterPropertyStatement extends ODDLStatement {
       result.setProperty("customAttribute", customPropertyName.getStringValue());
       result.setProperty("oldValue", oldValue != null ? oldValue.toString() : null);
       result.setProperty("newValue", finalValue != null ? finalValue.toString() : null);
+    } else if (columnar != null) {
+      boolean oldValue = property.isColumnar();
+      property.setColumnar(columnar);
+
+      result.setProperty("operation", "alter property");
+      result.setProperty("attribute", "columnar");
+      result.setProperty("oldValue", Boolean.toString(oldValue));
+      result.setProperty("newValue", columnar.toString());
     } else {
       String setting = settingName.getStringValue();
       boolean isCollate = setting.equalsIgnoreCase("collate");
@@ -124,6 +134,9 @@ public class OAlterPropertyStatement extends ODDLStatement {
       customPropertyName.toString(params, builder);
       builder.append(" = ");
       customPropertyValue.toString(params, builder);
+    } else if (columnar != null) {
+      builder.append(" COLUMNAR ");
+      builder.append(columnar ? "TRUE" : "FALSE");
     } else {
       builder.append(" ");
       settingName.toString(params, builder);
@@ -143,6 +156,9 @@ public class OAlterPropertyStatement extends ODDLStatement {
       customPropertyName.toGenericStatement(builder);
       builder.append(" = ");
       customPropertyValue.toGenericStatement(builder);
+    } else if (columnar != null) {
+      builder.append(" COLUMNAR ");
+      builder.append(columnar ? "TRUE" : "FALSE");
     } else {
       builder.append(" ");
       settingName.toGenericStatement(builder);
@@ -158,6 +174,7 @@ public class OAlterPropertyStatement extends ODDLStatement {
     result.propertyName = propertyName == null ? null : propertyName.copy();
     result.customPropertyName = customPropertyName == null ? null : customPropertyName.copy();
     result.customPropertyValue = customPropertyValue == null ? null : customPropertyValue.copy();
+    result.columnar = columnar;
     result.settingName = settingName == null ? null : settingName.copy();
     result.settingValue = settingValue == null ? null : settingValue.copy();
     return result;
@@ -180,6 +197,7 @@ public class OAlterPropertyStatement extends ODDLStatement {
     if (customPropertyValue != null
         ? !customPropertyValue.equals(that.customPropertyValue)
         : that.customPropertyValue != null) return false;
+    if (columnar != null ? !columnar.equals(that.columnar) : that.columnar != null) return false;
     if (settingName != null ? !settingName.equals(that.settingName) : that.settingName != null)
       return false;
     if (settingValue != null ? !settingValue.equals(that.settingValue) : that.settingValue != null)
@@ -194,6 +212,7 @@ public class OAlterPropertyStatement extends ODDLStatement {
     result = 31 * result + (propertyName != null ? propertyName.hashCode() : 0);
     result = 31 * result + (customPropertyName != null ? customPropertyName.hashCode() : 0);
     result = 31 * result + (customPropertyValue != null ? customPropertyValue.hashCode() : 0);
+    result = 31 * result + (columnar != null ? columnar.hashCode() : 0);
     result = 31 * result + (settingName != null ? settingName.hashCode() : 0);
     result = 31 * result + (settingValue != null ? settingValue.hashCode() : 0);
     return result;
@@ -0,0 +1,107 @@
+/* Generated By:JJTree: Do not edit this line. OAnalyzeClassStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.sql.executor.OIndexStatistics;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OQueryStats;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.Map;
+
+/**
+ * <code>ANALYZE CLASS &lt;name&gt;</code>: calculates the statistics (number of distinct keys and
+ * histograms) of the indexes of a class, that are used by the query planners to choose the indexes
+ * and the order of evaluation of MATCH patterns.
+ */
+public class OAnalyzeClassStatement extends OSimpleExecStatement {
+
+  protected OIdentifier className;
+
+  public OAnalyzeClassStatement(int id) {
+    super(id);
+  }
+
+  public OAnalyzeClassStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override
+  public OResultSet executeSimple(OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OClass clazz =
+        db.getMetadata().getImmutableSchemaSnapshot().getClass(className.getStringValue());
+    if (clazz == null) {
+      throw new OCommandExecutionException("Class not found: " + className);
+    }
+    int buckets =
+        db.getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_HISTOGRAM_BUCKETS);
+    OQueryStats stats = OQueryStats.get(db);
+
+    OInternalResultSet rs = new OInternalResultSet();
+    for (OIndex index : clazz.getIndexes()) {
+      if (index.getType().equals(OClass.INDEX_TYPE.FULLTEXT.name())
+          || !index.getInternal().canBeUsedInEqualityOperators()) {
+        continue;
+      }
+      OIndexStatistics statistics = OIndexStatistics.build(index, buckets);
+      stats.pushIndexStatistics(index, statistics);
+
+      OResultInternal result = new OResultInternal();
+      result.setProperty("operation", "analyze class");
+      result.setProperty("className", clazz.getName());
+      result.setProperty("indexName", index.getName());
+      result.setProperty("entries", statistics.getEntries());
+      result.setProperty("distinctKeys", statistics.getDistinctKeys());
+      result.setProperty("distinctFirstValues", statistics.getDistinctFirstValues());
+      result.setProperty("buckets", statistics.getBuckets());
+      rs.add(result);
+    }
+    // the statistics are stored in the configuration of the indexes
+    db.getMetadata().getIndexManagerInternal().save();
+    // the cached plans were chosen without these statistics
+    db.getSharedContext().getExecutionPlanCache().invalidate();
+    return rs;
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("ANALYZE CLASS ");
+    className.toString(params, builder);
+  }
+
+  @Override
+  public void toGenericStatement(StringBuilder builder) {
+    builder.append("ANALYZE CLASS ");
+    className.toGenericStatement(builder);
+  }
+
+  @Override
+  public OAnalyzeClassStatement copy() {
+    OAnalyzeClassStatement result = new OAnalyzeClassStatement(-1);
+    result.className = className == null ? null : className.copy();
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    OAnalyzeClassStatement that = (OAnalyzeClassStatement) o;
+
+    return className != null ? className.equals(that.className) : that.className == null;
+  }
+
+  @Override
+  public int hashCode() {
+    return className != null ? className.hashCode() : 0;
+  }
+}
@@ -236,6 +236,14 @@ public class OBaseExpression extends OMathExpression {
     return identifier.executeIndexedFunctionAfterIndexSearch(target, context, operator, right);
   }
 
+  @Override
+  public boolean isLiteral() {
+    return (number != null || string != null)
+        && identifier == null
+        && inputParam == null
+        && modifier == null;
+  }
+
   @Override
   public boolean isBaseIdentifier() {
     return identifier != null && modifier == null && identifier.isBaseIdentifier();
@@ -381,6 +389,11 @@ public class OBaseExpression extends OMathExpression {
     return modifier;
   }
 
+  /** @return true if this is a number or an input parameter, without modifiers */
+  public boolean isNumberOrInputParameter() {
+    return (number != null || inputParam != null) && modifier == null;
+  }
+
   public List<String> getMatchPatternInvolvedAliases() {
     if (this.identifier != null && this.identifier.toString().equals("$matched")) {
       if (modifier != null && modifier.suffix != null && modifier.suffix.identifier != null) {
@@ -92,6 +92,8 @@ public class OCreatePropertyAttributeStatement extends SimpleNode {
         internalProp.setCollate("" + attrValue);
       } else if (attrName.equalsIgnoreCase("regexp")) {
         internalProp.setRegexp("" + attrValue);
+      } else if (attrName.equalsIgnoreCase("columnar")) {
+        internalProp.setColumnar((boolean) attrValue);
       } else {
         throw new OCommandExecutionException("Invalid attribute definition: '" + attrName + "'");
       }
@@ -133,6 +133,14 @@ public class OExpression extends SimpleNode {
     return value;
   }
 
+  /**
+   * @return true if the expression is made only of literal numbers and strings, so its value does
+   *     not depend on the record, the context or the input parameters
+   */
+  public boolean isLiteral() {
+    return !isNull && rid == null && mathExpression != null && mathExpression.isLiteral();
+  }
+
   public boolean isBaseIdentifier() {
     if (mathExpression != null) {
       return mathExpression.isBaseIdentifier();
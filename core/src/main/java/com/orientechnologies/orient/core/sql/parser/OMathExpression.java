@@ -1021,6 +1021,19 @@ public class OMathExpression extends SimpleNode {
     return false;
   }
 
+  /** @return true if the expression is made only of literal numbers and strings */
+  public boolean isLiteral() {
+    if (childExpressions == null || operators == null || childExpressions.isEmpty()) {
+      return false;
+    }
+    for (OMathExpression child : childExpressions) {
+      if (!child.isLiteral()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public boolean isBaseIdentifier() {
     if (this.childExpressions != null) {
       if (childExpressions.size() == 1) {
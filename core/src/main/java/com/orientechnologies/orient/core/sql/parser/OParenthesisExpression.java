@@ -101,6 +101,11 @@ public class OParenthesisExpression extends OMathExpression {
     return true;
   }
 
+  @Override
+  public boolean isLiteral() {
+    return statement == null && expression != null && expression.isLiteral();
+  }
+
   @Override
   public boolean isEarlyCalculated(OCommandContext ctx) {
     // TODO implement query execution and early calculation;
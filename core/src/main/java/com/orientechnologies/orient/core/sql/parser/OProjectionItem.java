@@ -62,6 +62,10 @@ public class OProjectionItem extends SimpleNode {
     this.all = all;
   }
 
+  public boolean isExclude() {
+    return exclude;
+  }
+
   public OIdentifier getAlias() {
     return alias;
   }
@@ -337,6 +341,10 @@ public class OProjectionItem extends SimpleNode {
     }
   }
 
+  public ONestedProjection getNestedProjection() {
+    return nestedProjection;
+  }
+
   public void setNestedProjection(ONestedProjection nestedProjection) {
     this.nestedProjection = nestedProjection;
   }
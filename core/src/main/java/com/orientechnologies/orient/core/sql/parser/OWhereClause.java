@@ -15,6 +15,8 @@ import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OPropertyIndexDefinition;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.executor.OIndexStatistics;
+import com.orientechnologies.orient.core.sql.executor.OQueryStats;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import java.util.ArrayList;
@@ -123,13 +125,17 @@ public class OWhereClause extends SimpleNode {
             }
           }
           if (nMatchingKeys > 0) {
-            long newCount = estimateFromIndex(index, conditions, nMatchingKeys);
+            long newCount = estimateFromIndex(index, conditions, nMatchingKeys, ctx);
             if (newCount < conditionEstimation) {
               conditionEstimation = newCount;
             }
           }
         }
       }
+      long rangeEstimation = estimateRangeFromStatistics(condition, indexes, ctx);
+      if (rangeEstimation < conditionEstimation) {
+        conditionEstimation = rangeEstimation;
+      }
       if (conditionEstimation > count) {
         return count;
       }
@@ -139,12 +145,18 @@ public class OWhereClause extends SimpleNode {
   }
 
   private static long estimateFromIndex(
-      OIndex index, Map<String, Object> conditions, int nMatchingKeys) {
+      OIndex index, Map<String, Object> conditions, int nMatchingKeys, OCommandContext ctx) {
     if (nMatchingKeys < 1) {
       throw new IllegalArgumentException("Cannot estimate from an index with zero keys");
     }
     OIndexDefinition definition = index.getDefinition();
     List<String> definitionFields = definition.getFields();
+    OIndexStatistics statistics = getIndexStatistics(index, ctx);
+    if (statistics != null) {
+      // cheaper than counting the keys, and it does not depend on a specific value being frequent
+      return statistics.estimateEquals(
+          index, nMatchingKeys, conditions.get(definitionFields.get(0)));
+    }
     Object key = null;
     if (definition instanceof OPropertyIndexDefinition) {
       key = convert(conditions.get(definitionFields.get(0)), definition.getTypes()[0]);
@@ -200,7 +212,7 @@ public class OWhereClause extends SimpleNode {
           }
         }
         if (nMatchingKeys > 0) {
-          long newCount = estimateFromIndex(index, conditions, nMatchingKeys);
+          long newCount = estimateFromIndex(index, conditions, nMatchingKeys, ctx);
           if (newCount >= 0 && newCount <= conditionEstimation) {
             conditionEstimation = newCount;
             bestIndex = index;
@@ -248,6 +260,57 @@ public class OWhereClause extends SimpleNode {
     return null;
   }
 
+  private static OIndexStatistics getIndexStatistics(OIndex index, OCommandContext ctx) {
+    if (!(ctx.getDatabase() instanceof ODatabaseDocumentInternal)) {
+      return null;
+    }
+    return OQueryStats.get((ODatabaseDocumentInternal) ctx.getDatabase()).getIndexStatistics(index);
+  }
+
+  /**
+   * estimates the records returned by the range conditions on the first field of the indexes that
+   * have statistics
+   *
+   * @return the estimation, Long.MAX_VALUE if there are no such conditions or statistics
+   */
+  private static long estimateRangeFromStatistics(
+      OAndBlock condition, Set<OIndex> indexes, OCommandContext ctx) {
+    long result = Long.MAX_VALUE;
+    for (OIndex index : indexes) {
+      OIndexStatistics statistics = getIndexStatistics(index, ctx);
+      if (statistics == null) {
+        continue;
+      }
+      String field = index.getDefinition().getFields().get(0);
+      Object from = null;
+      Object to = null;
+      for (OBooleanExpression expression : condition.subBlocks) {
+        if (!(expression instanceof OBinaryCondition)) {
+          continue;
+        }
+        OBinaryCondition b = (OBinaryCondition) expression;
+        if (!b.left.isBaseIdentifier()
+            || !b.left.toString().equals(field)
+            || !b.right.isEarlyCalculated(ctx)) {
+          continue;
+        }
+        if (b.operator instanceof OGtOperator || b.operator instanceof OGeOperator) {
+          from = b.right.execute((OResult) null, ctx);
+        } else if (b.operator instanceof OLtOperator || b.operator instanceof OLeOperator) {
+          to = b.right.execute((OResult) null, ctx);
+        }
+      }
+      if (from == null && to == null) {
+        continue;
+      }
+      long estimation = statistics.estimateRange(index, from, to);
+      if (estimation >= 0 && estimation < result) {
+        result = estimation;
+      }
+    }
+    return result;
+  }
+
   private static Object convert(Object o, OType oType) {
     return OType.convert(o, oType.getDefaultJavaType());
   }
@@ -28,7 +28,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(271);
+        jj_consume_token(274);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -226,6 +226,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -300,7 +303,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:;
+          case 274:;
             break;
           default:
             jj_la1[2] = jj_gen;
@@ -627,6 +630,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case REBUILD:
           token = jj_consume_token(REBUILD);
           break;
+        case ANALYZE:
+          token = jj_consume_token(ANALYZE);
+          break;
+        case COMPACT:
+          token = jj_consume_token(COMPACT);
+          break;
+        case COLUMNAR:
+          token = jj_consume_token(COLUMNAR);
+          break;
         case ID:
           token = jj_consume_token(ID);
           break;
@@ -1135,6 +1147,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -1207,7 +1222,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 274:
             result = ExpressionStatement();
             break;
           default:
@@ -1355,6 +1370,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                             case REBUILD:
                               result = RebuildIndexStatement();
                               break;
+                            case ANALYZE:
+                              result = AnalyzeClassStatement();
+                              break;
                             default:
                               jj_la1[14] = jj_gen;
                               if (jj_2_44(2)) {
@@ -1825,6 +1843,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -1898,7 +1919,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 274:
           jjtn000.projection = Projection();
           break;
         default:
@@ -2159,6 +2180,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -2757,7 +2781,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 274:
           jjtn000.rid = Rid();
           break;
         case LBRACKET:
@@ -2766,7 +2790,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 274:
               lastRid = Rid();
               jjtn000.addRid(lastRid);
               label_5:
@@ -2906,6 +2930,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -3251,6 +3278,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -3487,6 +3517,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -3560,7 +3593,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 271:
+            case 274:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -3785,6 +3818,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -3858,7 +3894,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 271:
+            case 274:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -4426,6 +4462,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -5076,6 +5115,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -5376,6 +5418,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -5788,6 +5833,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -5860,7 +5908,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 274:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
             case BANG:
               jj_consume_token(BANG);
@@ -6323,6 +6371,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -6449,6 +6500,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -6521,7 +6575,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 274:
           lastExpression = Expression();
           jjtn000.addParam(lastExpression);
           label_21:
@@ -6648,6 +6702,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -6720,7 +6777,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 274:
           lastExpression = Expression();
           jjtn000.addParam(lastExpression);
           label_22:
@@ -7480,6 +7537,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -7552,7 +7612,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 274:
             jjtn000.expression = Expression();
             break;
           case INSERT:
@@ -7670,6 +7730,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -7982,7 +8045,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 274:
           lastRid = Rid();
           jjtn000.addRid(lastRid);
           break;
@@ -8148,6 +8211,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           case COLLATE:
                           case ENGINE:
                           case REBUILD:
+                          case ANALYZE:
+                          case COMPACT:
+                          case COLUMNAR:
                           case ID:
                           case DATABASE:
                           case OPTIMIZE:
@@ -8361,6 +8427,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -8508,8 +8577,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 272:
-          jj_consume_token(272);
+        case 275:
+          jj_consume_token(275);
           builder.append("__@recordmap@___");
           break;
         default:
@@ -8895,6 +8964,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -8967,7 +9039,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 274:
           if (jj_2_113(2147483647)) {
             jjtn000.sub = ConditionBlock();
           } else if (jj_2_114(2147483647)) {
@@ -9821,6 +9893,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10321,6 +10396,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -10523,6 +10601,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -10928,6 +11009,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10987,7 +11071,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 274:
           lastItem = new OOrderByItem();
           jjtn000.addItem(lastItem);
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11048,6 +11132,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -11119,7 +11206,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 274:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11225,6 +11312,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -11296,7 +11386,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 274:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11414,6 +11504,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -11473,7 +11566,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 274:
             lastItem = new OOrderByItem();
             jjtn000.addItem(lastItem);
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11534,6 +11627,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COLLATE:
               case ENGINE:
               case REBUILD:
+              case ANALYZE:
+              case COMPACT:
+              case COLUMNAR:
               case ID:
               case DATABASE:
               case OPTIMIZE:
@@ -11605,7 +11701,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 271:
+              case 274:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -11711,6 +11807,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COLLATE:
               case ENGINE:
               case REBUILD:
+              case ANALYZE:
+              case COMPACT:
+              case COLUMNAR:
               case ID:
               case DATABASE:
               case OPTIMIZE:
@@ -11782,7 +11881,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 271:
+              case 274:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -12409,6 +12508,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -12481,7 +12583,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 274:
           lastExpression = Expression();
           jjtn000.add(lastExpression);
           label_35:
@@ -12609,6 +12711,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -12780,6 +12885,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13060,6 +13168,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13178,6 +13289,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -13326,6 +13440,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COLLATE:
               case ENGINE:
               case REBUILD:
+              case ANALYZE:
+              case COMPACT:
+              case COLUMNAR:
               case ID:
               case DATABASE:
               case OPTIMIZE:
@@ -13999,6 +14116,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -14250,6 +14370,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -14439,6 +14562,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -14626,6 +14752,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -14813,6 +14942,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -15009,6 +15141,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -15203,6 +15338,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -15496,6 +15634,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15620,7 +15761,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 274:
           jjtn000.record = Rid();
           break;
         case LBRACKET:
@@ -15630,7 +15771,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 274:
               lastRecord = Rid();
               jjtn000.addRecord(lastRecord);
               label_43:
@@ -15707,7 +15848,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 274:
           jjtn000.rid = Rid();
           break;
         case LPAREN:
@@ -15782,6 +15923,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -15917,6 +16061,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COLLATE:
               case ENGINE:
               case REBUILD:
+              case ANALYZE:
+              case COMPACT:
+              case COLUMNAR:
               case ID:
               case DATABASE:
               case OPTIMIZE:
@@ -16302,6 +16449,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -16452,6 +16602,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -16582,6 +16735,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -16750,6 +16906,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -16879,6 +17038,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -17035,6 +17197,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -17092,8 +17257,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case QUOTED_IDENTIFIER:
               jjtn000.identifierValue = Identifier();
               break;
-            case 273:
-              jj_consume_token(273);
+            case 276:
+              jj_consume_token(276);
               jjtn000.customString = "round-robin";
               break;
             case RID_STRING:
@@ -17170,6 +17335,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -17298,6 +17466,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -17428,6 +17599,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -17607,6 +17781,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -17877,6 +18054,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -18072,6 +18252,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
         jjtn000.customPropertyValue = Expression();
+      } else if (jj_2_157(2)) {
+        jj_consume_token(COLUMNAR);
+        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case TRUE:
+            jj_consume_token(TRUE);
+            jjtn000.columnar = Boolean.TRUE;
+            break;
+          case FALSE:
+            jj_consume_token(FALSE);
+            jjtn000.columnar = Boolean.FALSE;
+            break;
+          default:
+            jj_la1[342] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+        }
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case TO:
@@ -18131,6 +18327,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -18190,7 +18389,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.settingValue = Expression();
             break;
           default:
-            jj_la1[342] = jj_gen;
+            jj_la1[343] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -18249,7 +18448,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[343] = jj_gen;
+          jj_la1[344] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18258,7 +18457,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.force = true;
           break;
         default:
-          jj_la1[344] = jj_gen;
+          jj_la1[345] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18309,7 +18508,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_158(4)) {
+      if (jj_2_159(4)) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case IF:
             jj_consume_token(IF);
@@ -18318,7 +18517,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.ifNotExists = true;
             break;
           default:
-            jj_la1[345] = jj_gen;
+            jj_la1[346] = jj_gen;
             ;
         }
         jj_consume_token(ON);
@@ -18382,6 +18581,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -18449,7 +18651,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.addProperty(lastProperty);
             break;
           default:
-            jj_la1[346] = jj_gen;
+            jj_la1[347] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -18466,13 +18668,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 lastProperty.byValue = true;
                 break;
               default:
-                jj_la1[347] = jj_gen;
+                jj_la1[348] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           default:
-            jj_la1[348] = jj_gen;
+            jj_la1[349] = jj_gen;
             ;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18481,7 +18683,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             lastProperty.collate = Identifier();
             break;
           default:
-            jj_la1[349] = jj_gen;
+            jj_la1[350] = jj_gen;
             ;
         }
         label_49:
@@ -18490,7 +18692,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COMMA:;
               break;
             default:
-              jj_la1[350] = jj_gen;
+              jj_la1[351] = jj_gen;
               break label_49;
           }
           jj_consume_token(COMMA);
@@ -18552,6 +18754,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -18619,7 +18824,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.addProperty(lastProperty);
               break;
             default:
-              jj_la1[351] = jj_gen;
+              jj_la1[352] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -18636,13 +18841,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   lastProperty.byValue = true;
                   break;
                 default:
-                  jj_la1[352] = jj_gen;
+                  jj_la1[353] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[353] = jj_gen;
+              jj_la1[354] = jj_gen;
               ;
           }
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18651,7 +18856,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               lastProperty.collate = Identifier();
               break;
             default:
-              jj_la1[354] = jj_gen;
+              jj_la1[355] = jj_gen;
               ;
           }
         }
@@ -18716,6 +18921,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -18771,7 +18979,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_157(3)) {
+            if (jj_2_158(3)) {
               jj_consume_token(IF);
               jj_consume_token(NOT);
               jj_consume_token(EXISTS);
@@ -18836,6 +19044,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COLLATE:
                 case ENGINE:
                 case REBUILD:
+                case ANALYZE:
+                case COMPACT:
+                case COLUMNAR:
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
@@ -18894,19 +19105,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.type = Identifier();
                   break;
                 default:
-                  jj_la1[355] = jj_gen;
+                  jj_la1[356] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[356] = jj_gen;
+            jj_la1[357] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
       }
-      if (jj_2_161(2)) {
+      if (jj_2_162(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18967,6 +19178,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -19022,7 +19236,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_159(2)) {
+            if (jj_2_160(2)) {
               jj_consume_token(METADATA);
               jjtn000.metadata = Json();
             } else {
@@ -19084,6 +19298,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COLLATE:
                 case ENGINE:
                 case REBUILD:
+                case ANALYZE:
+                case COMPACT:
+                case COLUMNAR:
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
@@ -19147,7 +19364,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[357] = jj_gen;
+                        jj_la1[358] = jj_gen;
                         break label_50;
                     }
                     jj_consume_token(COMMA);
@@ -19160,19 +19377,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.metadata = Json();
                       break;
                     default:
-                      jj_la1[358] = jj_gen;
+                      jj_la1[359] = jj_gen;
                       ;
                   }
                   break;
                 default:
-                  jj_la1[359] = jj_gen;
+                  jj_la1[360] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[360] = jj_gen;
+            jj_la1[361] = jj_gen;
             ;
         }
       } else {
@@ -19234,6 +19451,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -19289,7 +19509,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_160(2)) {
+            if (jj_2_161(2)) {
               jj_consume_token(METADATA);
               jjtn000.metadata = Json();
             } else {
@@ -19351,6 +19571,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COLLATE:
                 case ENGINE:
                 case REBUILD:
+                case ANALYZE:
+                case COMPACT:
+                case COLUMNAR:
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
@@ -19414,7 +19637,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[361] = jj_gen;
+                        jj_la1[362] = jj_gen;
                         break label_51;
                     }
                     jj_consume_token(COMMA);
@@ -19427,19 +19650,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.metadata = Json();
                       break;
                     default:
-                      jj_la1[362] = jj_gen;
+                      jj_la1[363] = jj_gen;
                       ;
                   }
                   break;
                 default:
-                  jj_la1[363] = jj_gen;
+                  jj_la1[364] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[364] = jj_gen;
+            jj_la1[365] = jj_gen;
             ;
         }
       }
@@ -19545,6 +19768,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -19600,7 +19826,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 272:
+        case 275:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19608,7 +19834,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.all = true;
           break;
         default:
-          jj_la1[365] = jj_gen;
+          jj_la1[366] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19647,6 +19873,51 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
+  public final OAnalyzeClassStatement AnalyzeClassStatement() throws ParseException {
+    /*@bgen(jjtree) AnalyzeClassStatement */
+    OAnalyzeClassStatement jjtn000 = new OAnalyzeClassStatement(JJTANALYZECLASSSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(ANALYZE);
+      jj_consume_token(CLASS);
+      jjtn000.className = Identifier();
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   public final ODropIndexStatement DropIndexStatement() throws ParseException {
     /*@bgen(jjtree) DropIndexStatement */
     ODropIndexStatement jjtn000 = new ODropIndexStatement(JJTDROPINDEXSTATEMENT);
@@ -19714,6 +19985,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -19769,7 +20043,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 272:
+        case 275:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19777,7 +20051,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.all = true;
           break;
         default:
-          jj_la1[366] = jj_gen;
+          jj_la1[367] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19788,7 +20062,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[367] = jj_gen;
+          jj_la1[368] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19844,7 +20118,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.blob = true;
           break;
         default:
-          jj_la1[368] = jj_gen;
+          jj_la1[369] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19857,7 +20131,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[369] = jj_gen;
+          jj_la1[370] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -19866,7 +20140,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.id = Integer();
           break;
         default:
-          jj_la1[370] = jj_gen;
+          jj_la1[371] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19920,11 +20194,138 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.starred = true;
           break;
         default:
-          jj_la1[371] = jj_gen;
+          jj_la1[372] = jj_gen;
           ;
       }
-      jjtn000.attributeName = Identifier();
-      jjtn000.attributeValue = Expression();
+      if (jj_2_163(2147483647)) {
+        jj_consume_token(COMPACT);
+        jjtn000.compact = true;
+      } else {
+        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case TO:
+          case VALUE:
+          case VALUES:
+          case SET:
+          case ADD:
+          case PUT:
+          case MERGE:
+          case CONTENT:
+          case REMOVE:
+          case ORDER:
+          case GROUP:
+          case OFFSET:
+          case RECORD:
+          case CACHE:
+          case CYCLE:
+          case NOLIMIT:
+          case NOCYCLE:
+          case LUCENE:
+          case NEAR:
+          case WITHIN:
+          case MINDEPTH:
+          case CLASS:
+          case SUPERCLASS:
+          case CLASSES:
+          case SUPERCLASSES:
+          case VIEW:
+          case UPDATABLE:
+          case EXCEPTION:
+          case PROFILE:
+          case STORAGE:
+          case ON:
+          case OFF:
+          case TRUNCATE:
+          case FIND:
+          case REFERENCES:
+          case EXTENDS:
+          case CLUSTERS:
+          case ABSTRACT:
+          case ALTER:
+          case NAME:
+          case SHORTNAME:
+          case OVERSIZE:
+          case STRICTMODE:
+          case ADDCLUSTER:
+          case REMOVECLUSTER:
+          case CUSTOM:
+          case CLUSTERSELECTION:
+          case DESCRIPTION:
+          case ENCRYPTION:
+          case DROP:
+          case PROPERTY:
+          case FORCE:
+          case METADATA:
+          case INDEX:
+          case COLLATE:
+          case ENGINE:
+          case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
+          case ID:
+          case DATABASE:
+          case OPTIMIZE:
+          case LINK:
+          case TYPE:
+          case INVERSE:
+          case EXPLAIN:
+          case GRANT:
+          case REVOKE:
+          case READ:
+          case EXECUTE:
+          case ALL:
+          case NONE:
+          case FUNCTION:
+          case PARAMETERS:
+          case IDEMPOTENT:
+          case LANGUAGE:
+          case BEGIN:
+          case COMMIT:
+          case ROLLBACK:
+          case IF:
+          case ELSE:
+          case CONTINUE:
+          case FAIL:
+          case ISOLATION:
+          case SLEEP:
+          case CONSOLE:
+          case BLOB:
+          case SHARED:
+          case DEFAULT_:
+          case SEQUENCE:
+          case START:
+          case OPTIONAL:
+          case COUNT:
+          case HA:
+          case STATUS:
+          case SERVER:
+          case SYNC:
+          case EXISTS:
+          case MOVE:
+          case DEPTH_ALIAS:
+          case PATH_ALIAS:
+          case IDENTIFIED:
+          case ROLE:
+          case USER:
+          case USERS:
+          case RID:
+          case SECURITY:
+          case POLICY:
+          case DEFAULTCLUSTER:
+          case SYSTEM:
+          case IN:
+          case KEY:
+          case IDENTIFIER:
+          case QUOTED_IDENTIFIER:
+            jjtn000.attributeName = Identifier();
+            jjtn000.attributeValue = Expression();
+            break;
+          default:
+            jj_la1[373] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+        }
+      }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
@@ -20027,6 +20428,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -20089,7 +20493,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.id = Integer();
           break;
         default:
-          jj_la1[372] = jj_gen;
+          jj_la1[374] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20100,7 +20504,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[373] = jj_gen;
+          jj_la1[375] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20147,7 +20551,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_162(3)) {
+      if (jj_2_164(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -20211,6 +20615,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -20270,7 +20677,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.settingValue = Expression();
             break;
           default:
-            jj_la1[374] = jj_gen;
+            jj_la1[376] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -20371,7 +20778,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case MINUS:;
             break;
           default:
-            jj_la1[375] = jj_gen;
+            jj_la1[377] = jj_gen;
             break label_52;
         }
         lastOption = CommandLineOption();
@@ -20485,6 +20892,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -20546,7 +20956,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.sourceRecordAttr = RecordAttribute();
           break;
         default:
-          jj_la1[376] = jj_gen;
+          jj_la1[378] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20611,6 +21021,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -20672,7 +21085,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.destRecordAttr = RecordAttribute();
           break;
         default:
-          jj_la1[377] = jj_gen;
+          jj_la1[379] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20682,7 +21095,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.inverse = true;
           break;
         default:
-          jj_la1[378] = jj_gen;
+          jj_la1[380] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20845,7 +21258,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = "NONE";
           break;
         default:
-          jj_la1[379] = jj_gen;
+          jj_la1[381] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20887,7 +21300,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = Permission();
           break;
         default:
-          jj_la1[380] = jj_gen;
+          jj_la1[382] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20953,7 +21366,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = Permission();
           break;
         default:
-          jj_la1[381] = jj_gen;
+          jj_la1[383] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21023,7 +21436,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[382] = jj_gen;
+                jj_la1[384] = jj_gen;
                 break label_53;
             }
             jj_consume_token(COMMA);
@@ -21033,7 +21446,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[383] = jj_gen;
+          jj_la1[385] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -21049,13 +21462,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.idempotent = false;
               break;
             default:
-              jj_la1[384] = jj_gen;
+              jj_la1[386] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[385] = jj_gen;
+          jj_la1[387] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -21064,7 +21477,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.language = Identifier();
           break;
         default:
-          jj_la1[386] = jj_gen;
+          jj_la1[388] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21176,6 +21589,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -21242,7 +21658,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[387] = jj_gen;
+          jj_la1[389] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21307,6 +21723,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -21425,6 +21844,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COLLATE:
                 case ENGINE:
                 case REBUILD:
+                case ANALYZE:
+                case COMPACT:
+                case COLUMNAR:
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
@@ -21488,7 +21910,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[388] = jj_gen;
+                        jj_la1[390] = jj_gen;
                         break label_54;
                     }
                     jj_consume_token(COMMA);
@@ -21497,19 +21919,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   }
                   break;
                 default:
-                  jj_la1[389] = jj_gen;
+                  jj_la1[391] = jj_gen;
                   ;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[390] = jj_gen;
+              jj_la1[392] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[391] = jj_gen;
+          jj_la1[393] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21616,6 +22038,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -21678,7 +22103,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[392] = jj_gen;
+          jj_la1[394] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21789,6 +22214,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -21855,7 +22283,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[393] = jj_gen;
+          jj_la1[395] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21920,6 +22348,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -22038,6 +22469,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COLLATE:
                 case ENGINE:
                 case REBUILD:
+                case ANALYZE:
+                case COMPACT:
+                case COLUMNAR:
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
@@ -22101,7 +22535,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[394] = jj_gen;
+                        jj_la1[396] = jj_gen;
                         break label_55;
                     }
                     jj_consume_token(COMMA);
@@ -22110,19 +22544,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   }
                   break;
                 default:
-                  jj_la1[395] = jj_gen;
+                  jj_la1[397] = jj_gen;
                   ;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[396] = jj_gen;
+              jj_la1[398] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[397] = jj_gen;
+          jj_la1[399] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22245,7 +22679,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     null));
             break;
           default:
-            jj_la1[398] = jj_gen;
+            jj_la1[400] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -22254,7 +22688,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case REMOVE:;
             break;
           default:
-            jj_la1[399] = jj_gen;
+            jj_la1[401] = jj_gen;
             break label_56;
         }
       }
@@ -22335,7 +22769,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     null));
             break;
           default:
-            jj_la1[400] = jj_gen;
+            jj_la1[402] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -22344,7 +22778,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case REMOVE:;
             break;
           default:
-            jj_la1[401] = jj_gen;
+            jj_la1[403] = jj_gen;
             break label_57;
         }
       }
@@ -22393,9 +22827,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_163(2147483647)) {
+      if (jj_2_165(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_164(2147483647)) {
+      } else if (jj_2_166(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -22450,7 +22884,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.isolation = Identifier();
           break;
         default:
-          jj_la1[402] = jj_gen;
+          jj_la1[404] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22529,6 +22963,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case ALTER:
                       case DROP:
                       case REBUILD:
+                      case ANALYZE:
                       case OPTIMIZE:
                       case EXPLAIN:
                       case GRANT:
@@ -22543,7 +22978,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case MOVE:;
                         break;
                       default:
-                        jj_la1[403] = jj_gen;
+                        jj_la1[405] = jj_gen;
                         break label_58;
                     }
                   }
@@ -22561,13 +22996,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           jjtn000.elseFail = true;
                           break;
                         default:
-                          jj_la1[404] = jj_gen;
+                          jj_la1[406] = jj_gen;
                           jj_consume_token(-1);
                           throw new ParseException();
                       }
                       break;
                     default:
-                      jj_la1[405] = jj_gen;
+                      jj_la1[407] = jj_gen;
                       ;
                   }
                   break;
@@ -22583,24 +23018,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.elseFail = true;
                       break;
                     default:
-                      jj_la1[406] = jj_gen;
+                      jj_la1[408] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
                   break;
                 default:
-                  jj_la1[407] = jj_gen;
+                  jj_la1[409] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[408] = jj_gen;
+              jj_la1[410] = jj_gen;
               ;
           }
           break;
         default:
-          jj_la1[409] = jj_gen;
+          jj_la1[411] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22728,6 +23163,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -22800,11 +23238,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 274:
           jjtn000.expression = Expression();
           break;
         default:
-          jj_la1[410] = jj_gen;
+          jj_la1[412] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22926,6 +23364,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -23000,13 +23441,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:;
+          case 274:;
             break;
           default:
-            jj_la1[411] = jj_gen;
+            jj_la1[413] = jj_gen;
             break label_59;
         }
-        if (jj_2_165(2147483647)) {
+        if (jj_2_167(2147483647)) {
           last = StatementSemicolon();
           jjtn000.statements.add(last);
         } else {
@@ -23027,7 +23468,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[412] = jj_gen;
+              jj_la1[414] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -23178,7 +23619,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[413] = jj_gen;
+          jj_la1[415] = jj_gen;
           ;
       }
       jj_consume_token(TYPE);
@@ -23204,7 +23645,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case START:;
             break;
           default:
-            jj_la1[414] = jj_gen;
+            jj_la1[416] = jj_gen;
             break label_60;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -23232,7 +23673,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.cyclic = false;
                 break;
               default:
-                jj_la1[415] = jj_gen;
+                jj_la1[417] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -23250,7 +23691,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.positive = false;
             break;
           default:
-            jj_la1[416] = jj_gen;
+            jj_la1[418] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23314,7 +23755,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case START:;
             break;
           default:
-            jj_la1[417] = jj_gen;
+            jj_la1[419] = jj_gen;
             break label_61;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -23342,7 +23783,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.cyclic = false;
                 break;
               default:
-                jj_la1[418] = jj_gen;
+                jj_la1[420] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -23364,7 +23805,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.turnLimitOff = true;
             break;
           default:
-            jj_la1[419] = jj_gen;
+            jj_la1[421] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23422,7 +23863,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[420] = jj_gen;
+          jj_la1[422] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -23473,53 +23914,53 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       label_62:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 274:
-          case 275:
-          case 276:
           case 277:
           case 278:
           case 279:
-          case 280:;
+          case 280:
+          case 281:
+          case 282:
+          case 283:;
             break;
           default:
-            jj_la1[421] = jj_gen;
+            jj_la1[423] = jj_gen;
             break label_62;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 274:
-            token = jj_consume_token(274);
+          case 277:
+            token = jj_consume_token(277);
             jjtn000.servers = true;
             break;
-          case 275:
-            token = jj_consume_token(275);
+          case 278:
+            token = jj_consume_token(278);
             jjtn000.db = true;
             break;
-          case 276:
-            token = jj_consume_token(276);
+          case 279:
+            token = jj_consume_token(279);
             jjtn000.latency = true;
             break;
-          case 277:
-            token = jj_consume_token(277);
+          case 280:
+            token = jj_consume_token(280);
             jjtn000.messages = true;
             break;
-          case 278:
-            token = jj_consume_token(278);
+          case 281:
+            token = jj_consume_token(281);
             jjtn000.locks = true;
             break;
-          case 279:
-            token = jj_consume_token(279);
+          case 282:
+            token = jj_consume_token(282);
             jjtn000.servers = true;
             jjtn000.db = true;
             jjtn000.latency = true;
             jjtn000.messages = true;
             jjtn000.locks = true;
             break;
-          case 280:
-            token = jj_consume_token(280);
+          case 283:
+            token = jj_consume_token(283);
             jjtn000.outputText = true;
             break;
           default:
-            jj_la1[422] = jj_gen;
+            jj_la1[424] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23598,24 +24039,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       label_63:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 281:
-          case 282:;
+          case 284:
+          case 285:;
             break;
           default:
-            jj_la1[423] = jj_gen;
+            jj_la1[425] = jj_gen;
             break label_63;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 281:
-            jj_consume_token(281);
+          case 284:
+            jj_consume_token(284);
             jjtn000.force = true;
             break;
-          case 282:
-            jj_consume_token(282);
+          case 285:
+            jj_consume_token(285);
             jjtn000.full = true;
             break;
           default:
-            jj_la1[424] = jj_gen;
+            jj_la1[426] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23647,25 +24088,25 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 283:
-        case 284:
+        case 286:
+        case 287:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-            case 283:
-              jj_consume_token(283);
+            case 286:
+              jj_consume_token(286);
               jjtn000.modeFull = true;
               break;
-            case 284:
-              jj_consume_token(284);
+            case 287:
+              jj_consume_token(287);
               jjtn000.modeMerge = true;
               break;
             default:
-              jj_la1[425] = jj_gen;
+              jj_la1[427] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[426] = jj_gen;
+          jj_la1[428] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -23838,6 +24279,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -23912,13 +24356,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:;
+          case 274:;
             break;
           default:
-            jj_la1[427] = jj_gen;
+            jj_la1[429] = jj_gen;
             break label_64;
         }
-        if (jj_2_166(2147483647)) {
+        if (jj_2_168(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.statements.add(lastStatement);
         } else {
@@ -23939,7 +24383,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[428] = jj_gen;
+              jj_la1[430] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -24065,6 +24509,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
+          case COMPACT:
+          case COLUMNAR:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -24139,13 +24586,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:;
+          case 274:;
             break;
           default:
-            jj_la1[429] = jj_gen;
+            jj_la1[431] = jj_gen;
             break label_65;
         }
-        if (jj_2_167(2147483647)) {
+        if (jj_2_169(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.statements.add(lastStatement);
         } else {
@@ -24166,7 +24613,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[430] = jj_gen;
+              jj_la1[432] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -24277,6 +24724,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -24391,7 +24841,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.identifier = new OIdentifier(token.image);
           break;
         default:
-          jj_la1[431] = jj_gen;
+          jj_la1[433] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -24401,7 +24851,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.next = SecurityResourceSegment();
           break;
         default:
-          jj_la1[432] = jj_gen;
+          jj_la1[434] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24501,7 +24951,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(RPAREN);
               break;
             default:
-              jj_la1[433] = jj_gen;
+              jj_la1[435] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -24511,7 +24961,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[434] = jj_gen;
+                jj_la1[436] = jj_gen;
                 break label_66;
             }
             jj_consume_token(COMMA);
@@ -24561,14 +25011,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jj_consume_token(RPAREN);
                 break;
               default:
-                jj_la1[435] = jj_gen;
+                jj_la1[437] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[436] = jj_gen;
+          jj_la1[438] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24669,7 +25119,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jj_consume_token(RPAREN);
                 break;
               default:
-                jj_la1[437] = jj_gen;
+                jj_la1[439] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -24679,7 +25129,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COMMA:;
                   break;
                 default:
-                  jj_la1[438] = jj_gen;
+                  jj_la1[440] = jj_gen;
                   break label_68;
               }
               jj_consume_token(COMMA);
@@ -24729,7 +25179,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jj_consume_token(RPAREN);
                   break;
                 default:
-                  jj_la1[439] = jj_gen;
+                  jj_la1[441] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -24765,7 +25215,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.removeExecute = true;
                 break;
               default:
-                jj_la1[440] = jj_gen;
+                jj_la1[442] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -24775,7 +25225,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COMMA:;
                   break;
                 default:
-                  jj_la1[441] = jj_gen;
+                  jj_la1[443] = jj_gen;
                   break label_69;
               }
               jj_consume_token(COMMA);
@@ -24807,14 +25257,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.removeExecute = true;
                   break;
                 default:
-                  jj_la1[442] = jj_gen;
+                  jj_la1[444] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[443] = jj_gen;
+            jj_la1[445] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -24823,7 +25273,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case REMOVE:;
             break;
           default:
-            jj_la1[444] = jj_gen;
+            jj_la1[446] = jj_gen;
             break label_67;
         }
       }
@@ -24928,6 +25378,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -24990,7 +25443,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[445] = jj_gen;
+          jj_la1[447] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25054,6 +25507,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -25120,7 +25576,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[446] = jj_gen;
+          jj_la1[448] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25185,6 +25641,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
+            case COMPACT:
+            case COLUMNAR:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -25303,6 +25762,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case COLLATE:
                 case ENGINE:
                 case REBUILD:
+                case ANALYZE:
+                case COMPACT:
+                case COLUMNAR:
                 case ID:
                 case DATABASE:
                 case OPTIMIZE:
@@ -25366,7 +25828,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case COMMA:;
                         break;
                       default:
-                        jj_la1[447] = jj_gen;
+                        jj_la1[449] = jj_gen;
                         break label_70;
                     }
                     jj_consume_token(COMMA);
@@ -25375,19 +25837,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   }
                   break;
                 default:
-                  jj_la1[448] = jj_gen;
+                  jj_la1[450] = jj_gen;
                   ;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[449] = jj_gen;
+              jj_la1[451] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[450] = jj_gen;
+          jj_la1[452] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -25493,6 +25955,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -25555,7 +26020,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[451] = jj_gen;
+          jj_la1[453] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25568,7 +26033,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[452] = jj_gen;
+          jj_la1[454] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -25583,7 +26048,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case COMMA:;
                 break;
               default:
-                jj_la1[453] = jj_gen;
+                jj_la1[455] = jj_gen;
                 break label_71;
             }
             jj_consume_token(COMMA);
@@ -25593,7 +26058,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[454] = jj_gen;
+          jj_la1[456] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -25601,7 +26066,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.config = Json();
           break;
         default:
-          jj_la1[455] = jj_gen;
+          jj_la1[457] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -25706,6 +26171,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
+        case COMPACT:
+        case COLUMNAR:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -25768,7 +26236,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[456] = jj_gen;
+          jj_la1[458] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25779,7 +26247,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[457] = jj_gen;
+          jj_la1[459] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -27821,270 +28289,267 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(INSTANCEOF)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_448()) {
-      jj_scanpos = xsp;
-      if (jj_3R_449()) {
-        jj_scanpos = xsp;
-        if (jj_3R_450()) return true;
-      }
+  private boolean jj_2_168(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return !jj_3_168();
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(167, xla);
     }
-    return false;
-  }
-
-  private boolean jj_3R_441() {
-    if (jj_3R_160()) return true;
-    return false;
   }
 
-  private boolean jj_3_130() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
+  private boolean jj_2_169(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return !jj_3_169();
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(168, xla);
+    }
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_160()) return true;
-    if (jj_3R_440()) return true;
+  private boolean jj_3R_217() {
+    if (jj_3R_161()) return true;
+    if (jj_3R_446()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_130()) {
       jj_scanpos = xsp;
-      if (jj_3R_441()) return true;
+      if (jj_3R_447()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_160()) return true;
-    if (jj_3R_438()) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_214() {
+    if (jj_3R_161()) return true;
+    if (jj_3R_444()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
+  private boolean jj_3R_569() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
+  private boolean jj_3R_396() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_563()) jj_scanpos = xsp;
-    if (jj_3R_435()) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_569()) jj_scanpos = xsp;
+    if (jj_3R_441()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_3R_438()) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_395() {
+    if (jj_3R_444()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_182() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_389()) {
+    if (jj_3R_395()) {
       jj_scanpos = xsp;
-      if (jj_3R_390()) return true;
+      if (jj_3R_396()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_841() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_834() {
+  private boolean jj_3R_840() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_690() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_834()) {
+    if (jj_3R_840()) {
       jj_scanpos = xsp;
-      if (jj_3R_835()) return true;
+      if (jj_3R_841()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_440() {
+  private boolean jj_3R_446() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_698() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_696() {
+  private boolean jj_3R_702() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_695() {
+  private boolean jj_3R_701() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
+  private boolean jj_3R_700() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_699() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
+  private boolean jj_3R_697() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_696() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_695() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_694() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_692() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_691() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
-    if (jj_3R_696()) return true;
+  private boolean jj_3R_609() {
+    if (jj_3R_702()) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
-    if (jj_3R_695()) return true;
+  private boolean jj_3R_608() {
+    if (jj_3R_701()) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
-    if (jj_3R_694()) return true;
+  private boolean jj_3R_607() {
+    if (jj_3R_700()) return true;
     return false;
   }
 
-  private boolean jj_3R_600() {
-    if (jj_3R_693()) return true;
+  private boolean jj_3R_606() {
+    if (jj_3R_699()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
-    if (jj_3R_684()) return true;
+  private boolean jj_3R_597() {
+    if (jj_3R_690()) return true;
     return false;
   }
 
-  private boolean jj_3R_599() {
-    if (jj_3R_692()) return true;
+  private boolean jj_3R_605() {
+    if (jj_3R_698()) return true;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_691()) return true;
+  private boolean jj_3R_604() {
+    if (jj_3R_697()) return true;
     return false;
   }
 
-  private boolean jj_3R_597() {
-    if (jj_3R_690()) return true;
+  private boolean jj_3R_603() {
+    if (jj_3R_696()) return true;
     return false;
   }
 
-  private boolean jj_3R_596() {
-    if (jj_3R_689()) return true;
+  private boolean jj_3R_602() {
+    if (jj_3R_695()) return true;
     return false;
   }
 
-  private boolean jj_3R_595() {
-    if (jj_3R_688()) return true;
+  private boolean jj_3R_601() {
+    if (jj_3R_694()) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_3R_687()) return true;
+  private boolean jj_3R_600() {
+    if (jj_3R_693()) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
-    if (jj_3R_686()) return true;
+  private boolean jj_3R_599() {
+    if (jj_3R_692()) return true;
     return false;
   }
 
-  private boolean jj_3R_592() {
-    if (jj_3R_685()) return true;
+  private boolean jj_3R_598() {
+    if (jj_3R_691()) return true;
     return false;
   }
 
   private boolean jj_3_129() {
-    if (jj_3R_221()) return true;
+    if (jj_3R_222()) return true;
     return false;
   }
 
   private boolean jj_3_128() {
-    if (jj_3R_220()) return true;
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3R_438() {
+  private boolean jj_3R_444() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_591()) {
+    if (jj_3R_597()) {
       jj_scanpos = xsp;
-      if (jj_3R_592()) {
+      if (jj_3R_598()) {
         jj_scanpos = xsp;
-        if (jj_3R_593()) {
+        if (jj_3R_599()) {
           jj_scanpos = xsp;
-          if (jj_3R_594()) {
+          if (jj_3R_600()) {
             jj_scanpos = xsp;
-            if (jj_3R_595()) {
+            if (jj_3R_601()) {
               jj_scanpos = xsp;
-              if (jj_3R_596()) {
+              if (jj_3R_602()) {
                 jj_scanpos = xsp;
-                if (jj_3R_597()) {
+                if (jj_3R_603()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_598()) {
+                  if (jj_3R_604()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_599()) {
+                    if (jj_3R_605()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_600()) {
+                      if (jj_3R_606()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_601()) {
+                        if (jj_3R_607()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_602()) {
+                          if (jj_3R_608()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_603()) return true;
+                            if (jj_3R_609()) return true;
                           }
                         }
                       }
@@ -28101,196 +28566,196 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_127() {
-    if (jj_3R_219()) return true;
+    if (jj_3R_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_434() {
+  private boolean jj_3R_440() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_432() {
-    if (jj_3R_221()) return true;
+  private boolean jj_3R_438() {
+    if (jj_3R_222()) return true;
     return false;
   }
 
   private boolean jj_3_125() {
-    if (jj_3R_217()) return true;
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
+  private boolean jj_3R_439() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3_126() {
-    if (jj_3R_218()) return true;
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_431() {
-    if (jj_3R_220()) return true;
+  private boolean jj_3R_437() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
   private boolean jj_3_124() {
-    if (jj_3R_216()) return true;
+    if (jj_3R_217()) return true;
     return false;
   }
 
   private boolean jj_3_123() {
-    if (jj_3R_215()) return true;
+    if (jj_3R_216()) return true;
     return false;
   }
 
   private boolean jj_3_122() {
-    if (jj_3R_214()) return true;
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3R_436() {
+    if (jj_3R_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_3R_217()) return true;
+  private boolean jj_3R_434() {
+    if (jj_3R_218()) return true;
     return false;
   }
 
   private boolean jj_3_121() {
-    if (jj_3R_213()) return true;
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3R_435() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3R_433() {
+    if (jj_3R_217()) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3R_432() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
   private boolean jj_3_119() {
-    if (jj_3R_211()) return true;
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_120() {
-    if (jj_3R_212()) return true;
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3R_431() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
   private boolean jj_3_118() {
-    if (jj_3R_210()) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3R_430() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
   private boolean jj_3_117() {
-    if (jj_3R_209()) return true;
+    if (jj_3R_210()) return true;
     return false;
   }
 
   private boolean jj_3_116() {
-    if (jj_3R_208()) return true;
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_422() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_115() {
-    if (jj_3R_207()) return true;
+    if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_3R_212()) return true;
+  private boolean jj_3R_429() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_420() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_419() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3R_425() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_418() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3R_424() {
+    if (jj_3R_208()) return true;
     return false;
   }
 
   private boolean jj_3_114() {
-    if (jj_3R_206()) return true;
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
+  private boolean jj_3R_206() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_418()) {
+    if (jj_3R_424()) {
       jj_scanpos = xsp;
-      if (jj_3R_419()) {
+      if (jj_3R_425()) {
         jj_scanpos = xsp;
-        if (jj_3R_420()) {
+        if (jj_3R_426()) {
           jj_scanpos = xsp;
-          if (jj_3R_421()) {
+          if (jj_3R_427()) {
             jj_scanpos = xsp;
-            if (jj_3R_422()) {
+            if (jj_3R_428()) {
               jj_scanpos = xsp;
-              if (jj_3R_423()) {
+              if (jj_3R_429()) {
                 jj_scanpos = xsp;
-                if (jj_3R_424()) {
+                if (jj_3R_430()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_425()) {
+                  if (jj_3R_431()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_426()) {
+                    if (jj_3R_432()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_427()) {
+                      if (jj_3R_433()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_428()) {
+                        if (jj_3R_434()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_429()) {
+                          if (jj_3R_435()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_430()) {
+                            if (jj_3R_436()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_431()) {
+                              if (jj_3R_437()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_432()) {
+                                if (jj_3R_438()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_433()) {
+                                  if (jj_3R_439()) {
                                     jj_scanpos = xsp;
-                                    if (jj_3R_434()) return true;
+                                    if (jj_3R_440()) return true;
                                   }
                                 }
                               }
@@ -28311,96 +28776,96 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_113() {
-    if (jj_3R_205()) return true;
+    if (jj_3R_206()) return true;
     return false;
   }
 
   private boolean jj_3_112() {
-    if (jj_3R_206()) return true;
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
+  private boolean jj_3R_207() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_111() {
-    if (jj_3R_205()) return true;
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_821() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3R_827() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_820() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3R_826() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3R_825() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_672() {
+  private boolean jj_3R_678() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_820()) {
+    if (jj_3R_826()) {
       jj_scanpos = xsp;
-      if (jj_3R_821()) return true;
+      if (jj_3R_827()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_818() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3R_824() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
+  private boolean jj_3R_677() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_818()) {
+    if (jj_3R_824()) {
       jj_scanpos = xsp;
-      if (jj_3R_819()) return true;
+      if (jj_3R_825()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_567() {
+  private boolean jj_3R_573() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_671()) {
+    if (jj_3R_677()) {
       jj_scanpos = xsp;
-      if (jj_3R_672()) return true;
+      if (jj_3R_678()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_568() {
+  private boolean jj_3R_574() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_567()) return true;
+    if (jj_3R_573()) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
+  private boolean jj_3R_401() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_394()) return true;
+    if (jj_3R_400()) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_3R_567()) return true;
+  private boolean jj_3R_400() {
+    if (jj_3R_573()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_568()) {
+      if (jj_3R_574()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28408,12 +28873,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_183() {
-    if (jj_3R_394()) return true;
+  private boolean jj_3R_184() {
+    if (jj_3R_400()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_395()) {
+      if (jj_3R_401()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28421,89 +28886,89 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_477() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_483() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
+  private boolean jj_3R_557() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_550() {
+  private boolean jj_3R_556() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
+  private boolean jj_3R_555() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_368() {
+  private boolean jj_3R_374() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_549()) {
+    if (jj_3R_555()) {
       jj_scanpos = xsp;
-      if (jj_3R_550()) {
+      if (jj_3R_556()) {
         jj_scanpos = xsp;
-        if (jj_3R_551()) return true;
+        if (jj_3R_557()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_367() {
+  private boolean jj_3R_373() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_548()) return true;
+    if (jj_3R_554()) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
+  private boolean jj_3R_167() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_367()) {
+    if (jj_3R_373()) {
       jj_scanpos = xsp;
-      if (jj_3R_368()) return true;
+      if (jj_3R_374()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_813() {
+  private boolean jj_3R_819() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_812() {
+  private boolean jj_3R_818() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_661() {
+  private boolean jj_3R_667() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_812()) {
+    if (jj_3R_818()) {
       jj_scanpos = xsp;
-      if (jj_3R_813()) return true;
+      if (jj_3R_819()) return true;
     }
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_660() {
-    if (jj_scan_token(272)) return true;
+  private boolean jj_3R_666() {
+    if (jj_scan_token(275)) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
+  private boolean jj_3R_554() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_660()) jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
+    if (jj_3R_666()) jj_scanpos = xsp;
+    if (jj_3R_171()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_661()) {
+      if (jj_3R_667()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28511,18 +28976,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1017() {
+  private boolean jj_3R_1023() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_914() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_920() {
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1017()) {
+      if (jj_3R_1023()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28530,182 +28995,182 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_764() {
+  private boolean jj_3R_770() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_763() {
+  private boolean jj_3R_769() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_914()) jj_scanpos = xsp;
+    if (jj_3R_920()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
   private boolean jj_3_107() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_372() {
+  private boolean jj_3R_378() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_371() {
+  private boolean jj_3R_377() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
   private boolean jj_3_106() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
+  private boolean jj_3R_173() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_371()) {
+    if (jj_3R_377()) {
       jj_scanpos = xsp;
-      if (jj_3R_372()) return true;
+      if (jj_3R_378()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_767() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_773() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
   private boolean jj_3_105() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_772() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_628() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_634() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_767()) jj_scanpos = xsp;
+    if (jj_3R_773()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_765() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_771() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
   private boolean jj_3_110() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_766()) jj_scanpos = xsp;
+    if (jj_3R_772()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_627() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_633() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
   private boolean jj_3_109() {
-    if (jj_3R_166()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_632() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_765()) jj_scanpos = xsp;
+    if (jj_3R_771()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_625() {
-    if (jj_3R_764()) return true;
+  private boolean jj_3R_631() {
+    if (jj_3R_770()) return true;
     return false;
   }
 
-  private boolean jj_3R_624() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_630() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_913() {
-    if (jj_3R_560()) return true;
+  private boolean jj_3R_919() {
+    if (jj_3R_566()) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
-    if (jj_3R_763()) return true;
+  private boolean jj_3R_629() {
+    if (jj_3R_769()) return true;
     return false;
   }
 
-  private boolean jj_3R_762() {
+  private boolean jj_3R_768() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_912()) {
+    if (jj_3R_918()) {
       jj_scanpos = xsp;
-      if (jj_3R_913()) return true;
+      if (jj_3R_919()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_912() {
+  private boolean jj_3R_918() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_559()) return true;
+    if (jj_3R_565()) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_628() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_645() {
+  private boolean jj_3R_651() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_644()) return true;
+    if (jj_3R_650()) return true;
     return false;
   }
 
-  private boolean jj_3R_761() {
-    if (jj_3R_560()) return true;
+  private boolean jj_3R_767() {
+    if (jj_3R_566()) return true;
     return false;
   }
 
-  private boolean jj_3R_760() {
-    if (jj_3R_559()) return true;
+  private boolean jj_3R_766() {
+    if (jj_3R_565()) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
+  private boolean jj_3R_765() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
+  private boolean jj_3R_627() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_760()) {
+    if (jj_3R_766()) {
       jj_scanpos = xsp;
-      if (jj_3R_761()) return true;
+      if (jj_3R_767()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_762()) {
+      if (jj_3R_768()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28716,11 +29181,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
 
   private boolean jj_3_108() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_759()) {
+      if (jj_3R_765()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28729,35 +29194,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_620() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_626() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
+  private boolean jj_3R_478() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_620()) {
+    if (jj_3R_626()) {
       jj_scanpos = xsp;
       if (jj_3_108()) {
         jj_scanpos = xsp;
-        if (jj_3R_621()) {
+        if (jj_3R_627()) {
           jj_scanpos = xsp;
-          if (jj_3R_622()) {
+          if (jj_3R_628()) {
             jj_scanpos = xsp;
-            if (jj_3R_623()) {
+            if (jj_3R_629()) {
               jj_scanpos = xsp;
-              if (jj_3R_624()) {
+              if (jj_3R_630()) {
                 jj_scanpos = xsp;
-                if (jj_3R_625()) {
+                if (jj_3R_631()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_626()) {
+                  if (jj_3R_632()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_627()) {
+                    if (jj_3R_633()) {
                       jj_scanpos = xsp;
                       if (jj_3_110()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_628()) return true;
+                        if (jj_3R_634()) return true;
                       }
                     }
                   }
@@ -28772,46 +29237,46 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_104() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_796() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_795() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_644() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_650() {
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_789()) {
+    if (jj_3R_795()) {
       jj_scanpos = xsp;
-      if (jj_3R_790()) return true;
+      if (jj_3R_796()) return true;
     }
     return false;
   }
 
   private boolean jj_3_103() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_539() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_644()) return true;
+    if (jj_3R_650()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_645()) {
+      if (jj_3R_651()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28819,247 +29284,279 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_263() {
-    if (jj_3R_472()) return true;
+  private boolean jj_3R_266() {
+    if (jj_3R_478()) return true;
     return false;
   }
 
-  private boolean jj_3R_588() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_594() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
   private boolean jj_3_102() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_587() {
+  private boolean jj_3R_593() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
-    if (jj_3R_604()) return true;
+  private boolean jj_3R_592() {
+    if (jj_3R_610()) return true;
     return false;
   }
 
   private boolean jj_3_101() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_585() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_591() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_412() {
+  private boolean jj_3R_418() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_586()) {
+    if (jj_3R_592()) {
       jj_scanpos = xsp;
-      if (jj_3R_587()) return true;
+      if (jj_3R_593()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_588()) jj_scanpos = xsp;
+    if (jj_3R_594()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_584() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_590() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_417() {
+    if (jj_3R_176()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_585()) jj_scanpos = xsp;
+    if (jj_3R_591()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_583()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_589()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_584()) jj_scanpos = xsp;
+    if (jj_3R_590()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_409() {
-    if (jj_3R_499()) return true;
+  private boolean jj_3R_415() {
+    if (jj_3R_505()) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
+  private boolean jj_3R_75() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_204() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_409()) {
+    if (jj_3R_415()) {
       jj_scanpos = xsp;
-      if (jj_3R_410()) {
+      if (jj_3R_416()) {
         jj_scanpos = xsp;
-        if (jj_3R_411()) {
+        if (jj_3R_417()) {
           jj_scanpos = xsp;
-          if (jj_3R_412()) return true;
+          if (jj_3R_418()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_413() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_408() {
-    if (jj_3R_314()) return true;
+  private boolean jj_3R_414() {
+    if (jj_3R_319()) return true;
     return false;
   }
 
   private boolean jj_3_100() {
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     return false;
   }
 
   private boolean jj_3_99() {
-    if (jj_3R_203()) return true;
+    if (jj_3R_204()) return true;
     return false;
   }
 
   private boolean jj_3_98() {
-    if (jj_3R_202()) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
+  private boolean jj_3R_203() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_100()) {
       jj_scanpos = xsp;
-      if (jj_3R_407()) {
+      if (jj_3R_413()) {
         jj_scanpos = xsp;
-        if (jj_3R_408()) return true;
+        if (jj_3R_414()) return true;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+  private boolean jj_3R_412() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
+  private boolean jj_3R_411() {
     if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_202()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_200() {
+  private boolean jj_3R_201() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
+  private boolean jj_3R_200() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_202() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_405()) {
+    if (jj_3R_411()) {
       jj_scanpos = xsp;
-      if (jj_3R_406()) return true;
+      if (jj_3R_412()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_198() {
+  private boolean jj_3R_199() {
     if (jj_scan_token(NULL_COALESCING)) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_198() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
+  private boolean jj_3R_197() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_196() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_195() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_194() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_193() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_1063() {
+    if (jj_scan_token(EXECUTE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1062() {
+    if (jj_scan_token(DELETE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1061() {
+    if (jj_scan_token(AFTER)) return true;
+    if (jj_scan_token(UPDATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_192() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_1060() {
+    if (jj_scan_token(BEFORE)) return true;
+    if (jj_scan_token(UPDATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_191() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
+  private boolean jj_3R_1059() {
+    if (jj_scan_token(READ)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_190() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
+  private boolean jj_3R_1058() {
+    if (jj_scan_token(CREATE)) return true;
+    return false;
+  }
+
   private boolean jj_3_97() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_189()) {
+    if (jj_3R_190()) {
       jj_scanpos = xsp;
-      if (jj_3R_190()) {
+      if (jj_3R_191()) {
         jj_scanpos = xsp;
-        if (jj_3R_191()) {
+        if (jj_3R_192()) {
           jj_scanpos = xsp;
-          if (jj_3R_192()) {
+          if (jj_3R_193()) {
             jj_scanpos = xsp;
-            if (jj_3R_193()) {
+            if (jj_3R_194()) {
               jj_scanpos = xsp;
-              if (jj_3R_194()) {
+              if (jj_3R_195()) {
                 jj_scanpos = xsp;
-                if (jj_3R_195()) {
+                if (jj_3R_196()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_196()) {
+                  if (jj_3R_197()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_197()) {
+                    if (jj_3R_198()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_198()) {
+                      if (jj_3R_199()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_199()) {
+                        if (jj_3R_200()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_200()) return true;
+                          if (jj_3R_201()) return true;
                         }
                       }
                     }
@@ -29071,90 +29568,25 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
     }
-    if (jj_3R_201()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1057() {
-    if (jj_scan_token(EXECUTE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1056() {
-    if (jj_scan_token(DELETE)) return true;
-    return false;
-  }
-
-  private boolean jj_3_96() {
-    if (jj_3R_188()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_188() {
-    if (jj_3R_201()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_97()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_1055() {
-    if (jj_scan_token(AFTER)) return true;
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3_95() {
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1054() {
-    if (jj_scan_token(BEFORE)) return true;
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1053() {
-    if (jj_scan_token(READ)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1052() {
-    if (jj_scan_token(CREATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_582() {
-    if (jj_3R_238()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_581() {
-    if (jj_3R_188()) return true;
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_1008() {
+  private boolean jj_3R_1014() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1052()) {
+    if (jj_3R_1058()) {
       jj_scanpos = xsp;
-      if (jj_3R_1053()) {
+      if (jj_3R_1059()) {
         jj_scanpos = xsp;
-        if (jj_3R_1054()) {
+        if (jj_3R_1060()) {
           jj_scanpos = xsp;
-          if (jj_3R_1055()) {
+          if (jj_3R_1061()) {
             jj_scanpos = xsp;
-            if (jj_3R_1056()) {
+            if (jj_3R_1062()) {
               jj_scanpos = xsp;
-              if (jj_3R_1057()) return true;
+              if (jj_3R_1063()) return true;
             }
           }
         }
@@ -29163,139 +29595,124 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_580() {
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_579() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1007() {
+  private boolean jj_3R_1013() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1006() {
+  private boolean jj_3R_1012() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_577() {
-    if (jj_scan_token(NULL)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1005() {
+  private boolean jj_3R_1011() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1004() {
+  private boolean jj_3R_1010() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1003() {
-    if (jj_scan_token(READ)) return true;
+  private boolean jj_3_96() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_403() {
+  private boolean jj_3R_189() {
+    if (jj_3R_202()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_577()) {
-      jj_scanpos = xsp;
-      if (jj_3R_578()) {
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_97()) {
         jj_scanpos = xsp;
-        if (jj_3R_579()) {
-          jj_scanpos = xsp;
-          if (jj_3R_580()) {
-            jj_scanpos = xsp;
-            if (jj_3R_581()) {
-              jj_scanpos = xsp;
-              if (jj_3R_582()) return true;
-            }
-          }
-        }
+        break;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_1002() {
+  private boolean jj_3R_1009() {
+    if (jj_scan_token(READ)) return true;
+    return false;
+  }
+
+  private boolean jj_3_95() {
+    if (jj_3R_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1008() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1051() {
+  private boolean jj_3R_1057() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_404() {
-    if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_403()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1050() {
+  private boolean jj_3R_1056() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1049() {
+  private boolean jj_3R_588() {
+    if (jj_3R_241()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1055() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1048() {
+  private boolean jj_3R_1054() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_587() {
+    if (jj_3R_189()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_879() {
     if (jj_scan_token(REMOVE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1002()) {
+    if (jj_3R_1008()) {
       jj_scanpos = xsp;
-      if (jj_3R_1003()) {
+      if (jj_3R_1009()) {
         jj_scanpos = xsp;
-        if (jj_3R_1004()) {
+        if (jj_3R_1010()) {
           jj_scanpos = xsp;
-          if (jj_3R_1005()) {
+          if (jj_3R_1011()) {
             jj_scanpos = xsp;
-            if (jj_3R_1006()) {
+            if (jj_3R_1012()) {
               jj_scanpos = xsp;
-              if (jj_3R_1007()) return true;
+              if (jj_3R_1013()) return true;
             }
           }
         }
@@ -29303,7 +29720,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1008()) {
+      if (jj_3R_1014()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29311,63 +29728,59 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1047() {
+  private boolean jj_3R_1053() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1046() {
+  private boolean jj_3R_586() {
+    if (jj_3R_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1052() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_94() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3R_585() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
-    if (jj_3R_403()) return true;
-    Token xsp;
-    if (jj_3R_404()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_404()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_584() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_93() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_583() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_1001() {
+  private boolean jj_3R_1007() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1046()) {
+    if (jj_3R_1052()) {
       jj_scanpos = xsp;
-      if (jj_3R_1047()) {
+      if (jj_3R_1053()) {
         jj_scanpos = xsp;
-        if (jj_3R_1048()) {
+        if (jj_3R_1054()) {
           jj_scanpos = xsp;
-          if (jj_3R_1049()) {
+          if (jj_3R_1055()) {
             jj_scanpos = xsp;
-            if (jj_3R_1050()) {
+            if (jj_3R_1056()) {
               jj_scanpos = xsp;
-              if (jj_3R_1051()) return true;
+              if (jj_3R_1057()) return true;
             }
           }
         }
@@ -29376,142 +29789,139 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1000() {
+  private boolean jj_3R_1006() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_348() {
-    if (jj_3R_238()) return true;
+  private boolean jj_3R_409() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_583()) {
+      jj_scanpos = xsp;
+      if (jj_3R_584()) {
+        jj_scanpos = xsp;
+        if (jj_3R_585()) {
+          jj_scanpos = xsp;
+          if (jj_3R_586()) {
+            jj_scanpos = xsp;
+            if (jj_3R_587()) {
+              jj_scanpos = xsp;
+              if (jj_3R_588()) return true;
+            }
+          }
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_999() {
+  private boolean jj_3R_1005() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_998() {
+  private boolean jj_3R_1004() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_3R_188()) return true;
-    return false;
-  }
-
-  private boolean jj_3_92() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_410() {
+    if (jj_scan_token(SC_OR)) return true;
+    if (jj_3R_409()) return true;
     return false;
   }
 
-  private boolean jj_3R_997() {
+  private boolean jj_3R_1003() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_346() {
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_996() {
+  private boolean jj_3R_1002() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_995() {
+  private boolean jj_3R_1001() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_343() {
-    if (jj_scan_token(NULL)) return true;
-    return false;
-  }
-
-  private boolean jj_3_91() {
-    if (jj_3R_186()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_342() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_94() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_188() {
+    if (jj_3R_409()) return true;
+    Token xsp;
+    if (jj_3R_410()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_410()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3_93() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
+  private boolean jj_3R_742() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_872()) {
+    if (jj_3R_878()) {
       jj_scanpos = xsp;
-      if (jj_3R_873()) return true;
+      if (jj_3R_879()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_878() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_995()) {
+    if (jj_3R_1001()) {
       jj_scanpos = xsp;
-      if (jj_3R_996()) {
+      if (jj_3R_1002()) {
         jj_scanpos = xsp;
-        if (jj_3R_997()) {
+        if (jj_3R_1003()) {
           jj_scanpos = xsp;
-          if (jj_3R_998()) {
+          if (jj_3R_1004()) {
             jj_scanpos = xsp;
-            if (jj_3R_999()) {
+            if (jj_3R_1005()) {
               jj_scanpos = xsp;
-              if (jj_3R_1000()) return true;
+              if (jj_3R_1006()) return true;
             }
           }
         }
@@ -29519,7 +29929,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1001()) {
+      if (jj_3R_1007()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29527,54 +29937,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_88() {
-    if (jj_3R_183()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_160() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_342()) {
-      jj_scanpos = xsp;
-      if (jj_3R_343()) {
-        jj_scanpos = xsp;
-        if (jj_3R_344()) {
-          jj_scanpos = xsp;
-          if (jj_3R_345()) {
-            jj_scanpos = xsp;
-            if (jj_3R_346()) {
-              jj_scanpos = xsp;
-              if (jj_3R_347()) {
-                jj_scanpos = xsp;
-                if (jj_3R_348()) return true;
-              }
-            }
-          }
-        }
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3_87() {
-    if (jj_3R_182()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_402() {
-    if (jj_3R_186()) return true;
-    return false;
-  }
-
-  private boolean jj_3_86() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_354() {
+    if (jj_3R_241()) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_353() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
@@ -29582,12 +29951,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
-    if (jj_3R_736()) return true;
+    if (jj_3R_742()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_736()) {
+      if (jj_3R_742()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29595,111 +29964,129 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_994() {
-    if (jj_scan_token(EXECUTE)) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3_92() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
+  private boolean jj_3R_1000() {
+    if (jj_scan_token(EXECUTE)) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_184()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_352() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_993() {
+  private boolean jj_3R_999() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_575() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_351() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_992() {
+  private boolean jj_3R_998() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_991() {
+  private boolean jj_3R_350() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_997() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_349() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_990() {
+  private boolean jj_3_91() {
+    if (jj_3R_187()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_996() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
-    if (jj_3R_181()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_989() {
+  private boolean jj_3R_995() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_870() {
-    if (jj_scan_token(EXECUTE)) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_348() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_871() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3_89() {
+    if (jj_3R_185()) return true;
+    return false;
+  }
+
+  private boolean jj_3_90() {
+    if (jj_3R_186()) return true;
+    return false;
+  }
+
+  private boolean jj_3_88() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_161() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_989()) {
+    if (jj_3R_348()) {
       jj_scanpos = xsp;
-      if (jj_3R_990()) {
+      if (jj_3R_349()) {
         jj_scanpos = xsp;
-        if (jj_3R_991()) {
+        if (jj_3R_350()) {
           jj_scanpos = xsp;
-          if (jj_3R_992()) {
+          if (jj_3R_351()) {
             jj_scanpos = xsp;
-            if (jj_3R_993()) {
+            if (jj_3R_352()) {
               jj_scanpos = xsp;
-              if (jj_3R_994()) return true;
+              if (jj_3R_353()) {
+                jj_scanpos = xsp;
+                if (jj_3R_354()) return true;
+              }
             }
           }
         }
@@ -29708,122 +30095,146 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3_87() {
+    if (jj_3R_183()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_408() {
+    if (jj_3R_187()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_876() {
+    if (jj_scan_token(EXECUTE)) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_184()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_877() {
+    if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_573()) {
+    if (jj_3R_995()) {
       jj_scanpos = xsp;
-      if (jj_3R_574()) {
+      if (jj_3R_996()) {
         jj_scanpos = xsp;
-        if (jj_3R_575()) {
+        if (jj_3R_997()) {
           jj_scanpos = xsp;
-          if (jj_3R_576()) return true;
+          if (jj_3R_998()) {
+            jj_scanpos = xsp;
+            if (jj_3R_999()) {
+              jj_scanpos = xsp;
+              if (jj_3R_1000()) return true;
+            }
+          }
         }
       }
     }
-    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3_86() {
+    if (jj_3R_182()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_407() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_875() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_582() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_874() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_406() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_873() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3R_581() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_872() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_865() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  private boolean jj_3R_580() {
     if (jj_3R_183()) return true;
-    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_399()) {
-      jj_scanpos = xsp;
-      if (jj_3R_400()) {
-        jj_scanpos = xsp;
-        if (jj_3R_401()) return true;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_402()) jj_scanpos = xsp;
+  private boolean jj_3R_871() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_184()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_579() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
+  private boolean jj_3R_741() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_865()) {
+    if (jj_3R_871()) {
       jj_scanpos = xsp;
-      if (jj_3R_866()) {
+      if (jj_3R_872()) {
         jj_scanpos = xsp;
-        if (jj_3R_867()) {
+        if (jj_3R_873()) {
           jj_scanpos = xsp;
-          if (jj_3R_868()) {
+          if (jj_3R_874()) {
             jj_scanpos = xsp;
-            if (jj_3R_869()) {
+            if (jj_3R_875()) {
               jj_scanpos = xsp;
-              if (jj_3R_870()) return true;
+              if (jj_3R_876()) return true;
             }
           }
         }
@@ -29831,7 +30242,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_871()) {
+      if (jj_3R_877()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29839,247 +30250,254 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_680() {
-    if (jj_3R_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3_83() {
-    if (jj_3R_178()) return true;
-    return false;
-  }
-
   private boolean jj_3R_93() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_735()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_82() {
-    if (jj_3R_170()) return true;
+    if (jj_3R_741()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_583() {
+  private boolean jj_3R_405() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_680()) {
+    if (jj_3R_579()) {
       jj_scanpos = xsp;
-      if (jj_3R_681()) return true;
+      if (jj_3R_580()) {
+        jj_scanpos = xsp;
+        if (jj_3R_581()) {
+          jj_scanpos = xsp;
+          if (jj_3R_582()) return true;
+        }
+      }
     }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
+  private boolean jj_3R_912() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_755()) return true;
+    if (jj_3R_761()) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3R_911() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
-    if (jj_scan_token(CONTAINSVALUE)) return true;
+  private boolean jj_3R_567() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_388() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_85() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_903() {
-    if (jj_scan_token(CONTAINSKEY)) return true;
+  private boolean jj_3R_910() {
+    if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_909() {
+    if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_902() {
-    if (jj_scan_token(CONTAINSANY)) return true;
+  private boolean jj_3_84() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_908() {
+    if (jj_scan_token(CONTAINSANY)) return true;
     return false;
   }
 
-  private boolean jj_3R_901() {
-    if (jj_scan_token(CONTAINSALL)) return true;
+  private boolean jj_3R_187() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_405()) {
+      jj_scanpos = xsp;
+      if (jj_3R_406()) {
+        jj_scanpos = xsp;
+        if (jj_3R_407()) return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_408()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_907() {
+    if (jj_scan_token(CONTAINSALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_900() {
+  private boolean jj_3R_906() {
     if (jj_scan_token(CONTAINS)) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
+  private boolean jj_3R_905() {
     if (jj_scan_token(EDGE)) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_687() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_386()) {
-      jj_scanpos = xsp;
-      if (jj_3R_387()) {
-        jj_scanpos = xsp;
-        if (jj_3R_388()) return true;
-      }
-    }
+  private boolean jj_3R_904() {
+    if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_898() {
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_686() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_897() {
+  private boolean jj_3R_903() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_896() {
-    if (jj_scan_token(SELECT)) return true;
+  private boolean jj_3_83() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_902() {
+    if (jj_scan_token(SELECT)) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
+  private boolean jj_3R_901() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_894() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_589() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_686()) {
+      jj_scanpos = xsp;
+      if (jj_3R_687()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_900() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_893() {
+  private boolean jj_3R_899() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_892() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_394() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_898() {
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_891() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_897() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_383()) {
-      jj_scanpos = xsp;
-      if (jj_3R_384()) {
-        jj_scanpos = xsp;
-        if (jj_3R_385()) return true;
-      }
-    }
+  private boolean jj_3R_393() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_890() {
+  private boolean jj_3R_896() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_398() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_81() {
+    if (jj_3R_178()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_392() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3_80() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_181() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_572()) {
+    xsp = jj_scanpos;
+    if (jj_3R_392()) {
+      jj_scanpos = xsp;
+      if (jj_3R_393()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_394()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_755() {
+  private boolean jj_3R_761() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_890()) {
+    if (jj_3R_896()) {
       jj_scanpos = xsp;
-      if (jj_3R_891()) {
+      if (jj_3R_897()) {
         jj_scanpos = xsp;
-        if (jj_3R_892()) {
+        if (jj_3R_898()) {
           jj_scanpos = xsp;
-          if (jj_3R_893()) {
+          if (jj_3R_899()) {
             jj_scanpos = xsp;
-            if (jj_3R_894()) {
+            if (jj_3R_900()) {
               jj_scanpos = xsp;
-              if (jj_3R_895()) {
+              if (jj_3R_901()) {
                 jj_scanpos = xsp;
-                if (jj_3R_896()) {
+                if (jj_3R_902()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_897()) {
+                  if (jj_3R_903()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_898()) {
+                    if (jj_3R_904()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_899()) {
+                      if (jj_3R_905()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_900()) {
+                        if (jj_3R_906()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_901()) {
+                          if (jj_3R_907()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_902()) {
+                            if (jj_3R_908()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_903()) {
+                              if (jj_3R_909()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_904()) {
+                                if (jj_3R_910()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_905()) return true;
+                                  if (jj_3R_911()) return true;
                                 }
                               }
                             }
@@ -30096,81 +30514,94 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_906()) jj_scanpos = xsp;
+    if (jj_3R_912()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_185() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_398()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_391() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3_167() {
+  private boolean jj_3R_390() {
+    if (jj_scan_token(THIS)) return true;
+    return false;
+  }
+
+  private boolean jj_3_169() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_3R_160()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_561()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_389() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_1074() {
-    if (jj_3R_1015()) return true;
+  private boolean jj_3R_1080() {
+    if (jj_3R_1021()) return true;
     return false;
   }
 
-  private boolean jj_3R_1073() {
-    if (jj_3R_1016()) return true;
+  private boolean jj_3R_1079() {
+    if (jj_3R_1022()) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_scan_token(DISTINCT)) return true;
+  private boolean jj_3R_578() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1072() {
-    if (jj_3R_326()) return true;
+  private boolean jj_3R_1078() {
+    if (jj_3R_332()) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_180() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_389()) {
+      jj_scanpos = xsp;
+      if (jj_3R_390()) {
+        jj_scanpos = xsp;
+        if (jj_3R_391()) return true;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_1071() {
+  private boolean jj_3R_404() {
+    if (jj_3R_161()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_578()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_1077() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_1062() {
+  private boolean jj_3R_1068() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1071()) {
+    if (jj_3R_1077()) {
       jj_scanpos = xsp;
-      if (jj_3R_1072()) {
+      if (jj_3R_1078()) {
         jj_scanpos = xsp;
-        if (jj_3R_1073()) {
+        if (jj_3R_1079()) {
           jj_scanpos = xsp;
-          if (jj_3R_1074()) {
+          if (jj_3R_1080()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
+            if (jj_scan_token(201)) return true;
           }
         }
       }
@@ -30178,85 +30609,95 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_1021() {
+    if (jj_scan_token(WHILE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_184()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_379()) {
-      jj_scanpos = xsp;
-      if (jj_3R_380()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1068()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
+    if (jj_scan_token(RBRACE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_186() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_381()) jj_scanpos = xsp;
+    if (jj_3R_404()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1015() {
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_387() {
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1062()) {
+      if (jj_3R_567()) {
         jj_scanpos = xsp;
         break;
       }
     }
-    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_166() {
+  private boolean jj_3_168() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_1078() {
-    if (jj_3R_1015()) return true;
+  private boolean jj_3R_1084() {
+    if (jj_3R_1021()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
+  private boolean jj_3R_386() {
+    if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_1077() {
-    if (jj_3R_1016()) return true;
+  private boolean jj_3R_1083() {
+    if (jj_3R_1022()) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_385() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1076() {
-    if (jj_3R_326()) return true;
+  private boolean jj_3R_1082() {
+    if (jj_3R_332()) return true;
     return false;
   }
 
-  private boolean jj_3R_1075() {
+  private boolean jj_3R_1081() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_1063() {
+  private boolean jj_3R_1069() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1075()) {
+    if (jj_3R_1081()) {
       jj_scanpos = xsp;
-      if (jj_3R_1076()) {
+      if (jj_3R_1082()) {
         jj_scanpos = xsp;
-        if (jj_3R_1077()) {
+        if (jj_3R_1083()) {
           jj_scanpos = xsp;
-          if (jj_3R_1078()) {
+          if (jj_3R_1084()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
+            if (jj_scan_token(201)) return true;
           }
         }
       }
@@ -30264,28 +30705,32 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_566() {
-    if (jj_scan_token(ELLIPSIS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_565() {
-    if (jj_scan_token(RANGE)) return true;
+  private boolean jj_3R_177() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_385()) {
+      jj_scanpos = xsp;
+      if (jj_3R_386()) return true;
+    }
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_387()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1016() {
+  private boolean jj_3R_1022() {
     if (jj_scan_token(FOREACH)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(IN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1063()) {
+      if (jj_3R_1069()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30294,74 +30739,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_3R_564()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_565()) {
-      jj_scanpos = xsp;
-      if (jj_3R_566()) return true;
-    }
-    if (jj_3R_564()) return true;
+  private boolean jj_3R_179() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
-    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
+  private boolean jj_3R_564() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_572() {
+    if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
   private boolean jj_3R_121() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_525() {
-    if (jj_scan_token(284)) return true;
+  private boolean jj_3R_571() {
+    if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
+  private boolean jj_3R_531() {
+    if (jj_scan_token(287)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_318() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_524()) {
+    if (jj_3R_530()) {
       jj_scanpos = xsp;
-      if (jj_3R_525()) return true;
+      if (jj_3R_531()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_524() {
-    if (jj_scan_token(283)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_391() {
-    if (jj_scan_token(INTEGER_RANGE)) return true;
+  private boolean jj_3R_530() {
+    if (jj_scan_token(286)) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
+  private boolean jj_3R_399() {
+    if (jj_3R_570()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_391()) {
+    if (jj_3R_571()) {
       jj_scanpos = xsp;
-      if (jj_3R_392()) {
-        jj_scanpos = xsp;
-        if (jj_3R_393()) return true;
-      }
+      if (jj_3R_572()) return true;
     }
-    return false;
-  }
-
-  private boolean jj_3R_397() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_396()) return true;
+    if (jj_3R_570()) return true;
     return false;
   }
 
@@ -30369,53 +30805,40 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_313()) jj_scanpos = xsp;
+    if (jj_3R_318()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_scan_token(282)) return true;
-    return false;
-  }
-
-  private boolean jj_3_79() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_398() {
+    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_184() {
-    if (jj_3R_396()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_397()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_529() {
+    if (jj_scan_token(285)) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
+  private boolean jj_3R_317() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_522()) {
+    if (jj_3R_528()) {
       jj_scanpos = xsp;
-      if (jj_3R_523()) return true;
+      if (jj_3R_529()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_522() {
-    if (jj_scan_token(281)) return true;
+  private boolean jj_3R_528() {
+    if (jj_scan_token(284)) return true;
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_397() {
+    if (jj_scan_token(INTEGER_RANGE)) return true;
     return false;
   }
 
@@ -30426,7 +30849,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_312()) {
+      if (jj_3R_317()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30434,123 +30857,117 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_183() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_397()) {
+      jj_scanpos = xsp;
+      if (jj_3R_398()) {
+        jj_scanpos = xsp;
+        if (jj_3R_399()) return true;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_403() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_402()) return true;
     return false;
   }
 
-  private boolean jj_3R_669() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_117() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(SERVER)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3_76() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_527() {
+    if (jj_scan_token(283)) return true;
     return false;
   }
 
-  private boolean jj_3_75() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_564() {
+  private boolean jj_3R_185() {
+    if (jj_3R_402()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_669()) {
-      jj_scanpos = xsp;
-      if (jj_3R_670()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_403()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_117() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_521() {
-    if (jj_scan_token(280)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_571() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_570() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_526() {
+    if (jj_scan_token(282)) return true;
     return false;
   }
 
-  private boolean jj_3R_520() {
-    if (jj_scan_token(279)) return true;
+  private boolean jj_3R_525() {
+    if (jj_scan_token(281)) return true;
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_524() {
+    if (jj_scan_token(280)) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_scan_token(278)) return true;
+  private boolean jj_3R_676() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
-    if (jj_scan_token(277)) return true;
+  private boolean jj_3R_523() {
+    if (jj_scan_token(279)) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
-    if (jj_scan_token(276)) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_396() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_569()) {
-      jj_scanpos = xsp;
-      if (jj_3R_570()) {
-        jj_scanpos = xsp;
-        if (jj_3R_571()) return true;
-      }
-    }
+  private boolean jj_3R_522() {
+    if (jj_scan_token(278)) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_scan_token(275)) return true;
+  private boolean jj_3R_675() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
+  private boolean jj_3R_316() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_515()) {
+    if (jj_3R_521()) {
       jj_scanpos = xsp;
-      if (jj_3R_516()) {
+      if (jj_3R_522()) {
         jj_scanpos = xsp;
-        if (jj_3R_517()) {
+        if (jj_3R_523()) {
           jj_scanpos = xsp;
-          if (jj_3R_518()) {
+          if (jj_3R_524()) {
             jj_scanpos = xsp;
-            if (jj_3R_519()) {
+            if (jj_3R_525()) {
               jj_scanpos = xsp;
-              if (jj_3R_520()) {
+              if (jj_3R_526()) {
                 jj_scanpos = xsp;
-                if (jj_3R_521()) return true;
+                if (jj_3R_527()) return true;
               }
             }
           }
@@ -30560,39 +30977,33 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_515() {
-    if (jj_scan_token(274)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_951() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_521() {
+    if (jj_scan_token(277)) return true;
     return false;
   }
 
-  private boolean jj_3R_817() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3_76() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_816() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3_75() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_950() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3R_570() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_675()) {
+      jj_scanpos = xsp;
+      if (jj_3R_676()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_815() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_950()) jj_scanpos = xsp;
-    if (jj_3R_160()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_951()) jj_scanpos = xsp;
+  private boolean jj_3R_577() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
@@ -30602,7 +31013,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_311()) {
+      if (jj_3R_316()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30610,147 +31021,179 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_576() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_814() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_575() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
+  private boolean jj_3R_750() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
+  private boolean jj_3R_402() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_814()) {
+    if (jj_3R_575()) {
       jj_scanpos = xsp;
-      if (jj_3R_815()) return true;
+      if (jj_3R_576()) {
+        jj_scanpos = xsp;
+        if (jj_3R_577()) return true;
+      }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_816()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_817()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_757() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_173()) return true;
     return false;
   }
 
   private boolean jj_3R_108() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_744()) jj_scanpos = xsp;
+    if (jj_3R_750()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_888() {
+  private boolean jj_3R_957() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_823() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_822() {
+    if (jj_3R_563()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_894() {
     if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_887() {
+  private boolean jj_3R_956() {
+    if (jj_scan_token(BANG)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_893() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_1012() {
+  private boolean jj_3R_1018() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_886() {
+  private boolean jj_3R_892() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_885() {
+  private boolean jj_3R_821() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_956()) jj_scanpos = xsp;
+    if (jj_3R_161()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_957()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_764() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_174()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_891() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1011() {
+  private boolean jj_3R_1017() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_820() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_669() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_820()) {
+      jj_scanpos = xsp;
+      if (jj_3R_821()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_822()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_823()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_763() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_663()) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_884() {
+  private boolean jj_3R_890() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1011()) {
+    if (jj_3R_1017()) {
       jj_scanpos = xsp;
-      if (jj_3R_1012()) return true;
+      if (jj_3R_1018()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_883() {
+  private boolean jj_3R_889() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
+  private boolean jj_3R_888() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_557() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_663()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_664()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3R_749() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_881()) {
+    if (jj_3R_887()) {
       jj_scanpos = xsp;
-      if (jj_3R_882()) {
+      if (jj_3R_888()) {
         jj_scanpos = xsp;
-        if (jj_3R_883()) {
+        if (jj_3R_889()) {
           jj_scanpos = xsp;
-          if (jj_3R_884()) {
+          if (jj_3R_890()) {
             jj_scanpos = xsp;
-            if (jj_3R_885()) {
+            if (jj_3R_891()) {
               jj_scanpos = xsp;
-              if (jj_3R_886()) {
+              if (jj_3R_892()) {
                 jj_scanpos = xsp;
-                if (jj_3R_887()) {
+                if (jj_3R_893()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_888()) return true;
+                  if (jj_3R_894()) return true;
                 }
               }
             }
@@ -30761,36 +31204,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_881() {
+  private boolean jj_3R_887() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_375() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_558()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_374() {
-    if (jj_3R_557()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3R_670() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_669()) return true;
     return false;
   }
 
   private boolean jj_3R_106() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_743()) {
+      if (jj_3R_749()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30798,125 +31231,115 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_173() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_373()) jj_scanpos = xsp;
-    if (jj_3R_160()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_374()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_375()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_880() {
+  private boolean jj_3R_886() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_1010() {
+  private boolean jj_3R_1016() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_173()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_879() {
+  private boolean jj_3R_885() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_878() {
+  private boolean jj_3R_884() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1009() {
+  private boolean jj_3R_1015() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_563() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_669()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_758()) {
+      if (jj_3R_670()) {
         jj_scanpos = xsp;
         break;
       }
     }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_616() {
-    if (jj_3R_173()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_757()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_381() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_564()) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_616()) {
-      jj_scanpos = xsp;
-      if (jj_3R_617()) return true;
-    }
+  private boolean jj_3R_380() {
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_877() {
+  private boolean jj_3R_379() {
+    if (jj_scan_token(BANG)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_883() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1009()) {
+    if (jj_3R_1015()) {
       jj_scanpos = xsp;
-      if (jj_3R_1010()) return true;
+      if (jj_3R_1016()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_876() {
+  private boolean jj_3R_882() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_881() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
+  private boolean jj_3R_174() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_379()) jj_scanpos = xsp;
+    if (jj_3R_161()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_380()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_381()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_744() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_874()) {
+    if (jj_3R_880()) {
       jj_scanpos = xsp;
-      if (jj_3R_875()) {
+      if (jj_3R_881()) {
         jj_scanpos = xsp;
-        if (jj_3R_876()) {
+        if (jj_3R_882()) {
           jj_scanpos = xsp;
-          if (jj_3R_877()) {
+          if (jj_3R_883()) {
             jj_scanpos = xsp;
-            if (jj_3R_878()) {
+            if (jj_3R_884()) {
               jj_scanpos = xsp;
-              if (jj_3R_879()) {
+              if (jj_3R_885()) {
                 jj_scanpos = xsp;
-                if (jj_3R_880()) return true;
+                if (jj_3R_886()) return true;
               }
             }
           }
@@ -30926,74 +31349,73 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_874() {
+  private boolean jj_3R_880() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_666() {
-    if (jj_scan_token(SKIP2)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_668() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3_74() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_665() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_623() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_174()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_764()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_667() {
-    if (jj_scan_token(LIMIT)) return true;
+  private boolean jj_3R_622() {
+    if (jj_3R_174()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_763()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_737() {
+  private boolean jj_3R_743() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
-    if (jj_scan_token(COLON)) return true;
+  private boolean jj_3R_473() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_665()) {
+    if (jj_3R_622()) {
       jj_scanpos = xsp;
-      if (jj_3R_666()) {
-        jj_scanpos = xsp;
-        if (jj_3R_667()) {
-          jj_scanpos = xsp;
-          if (jj_3R_668()) return true;
-        }
-      }
+      if (jj_3R_623()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_468() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
   private boolean jj_3R_95() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_737()) jj_scanpos = xsp;
+    if (jj_3R_743()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_738()) {
+      if (jj_3R_744()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31001,112 +31423,120 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_559() {
-    if (jj_scan_token(HOOK)) return true;
+  private boolean jj_3R_672() {
+    if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_3R_560()) return true;
+  private boolean jj_3R_674() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_3R_559()) return true;
+  private boolean jj_3R_671() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1070() {
+  private boolean jj_3R_673() {
+    if (jj_scan_token(LIMIT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1076() {
     if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
+  private boolean jj_3R_331() {
     if (jj_scan_token(CONSOLE)) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1061() {
+  private boolean jj_3R_1067() {
     if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
+  private boolean jj_3R_566() {
+    if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_377()) {
+    if (jj_3R_671()) {
       jj_scanpos = xsp;
-      if (jj_3R_378()) return true;
+      if (jj_3R_672()) {
+        jj_scanpos = xsp;
+        if (jj_3R_673()) {
+          jj_scanpos = xsp;
+          if (jj_3R_674()) return true;
+        }
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_scan_token(SLEEP)) return true;
-    if (jj_3R_72()) return true;
-    return false;
-  }
-
-  private boolean jj_3_165() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_474() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_262() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_330() {
+    if (jj_scan_token(SLEEP)) return true;
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3_167() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_911() {
-    if (jj_3R_1016()) return true;
+  private boolean jj_3R_917() {
+    if (jj_3R_1022()) return true;
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_565() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_916() {
+    if (jj_3R_1021()) return true;
     return false;
   }
 
-  private boolean jj_3R_910() {
-    if (jj_3R_1015()) return true;
+  private boolean jj_3R_915() {
+    if (jj_3R_332()) return true;
     return false;
   }
 
-  private boolean jj_3R_909() {
-    if (jj_3R_326()) return true;
+  private boolean jj_3R_384() {
+    if (jj_3R_566()) return true;
     return false;
   }
 
-  private boolean jj_3R_258() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_383() {
+    if (jj_3R_565()) return true;
     return false;
   }
 
-  private boolean jj_3R_756() {
+  private boolean jj_3R_762() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_908()) {
+    if (jj_3R_914()) {
       jj_scanpos = xsp;
-      if (jj_3R_909()) {
+      if (jj_3R_915()) {
         jj_scanpos = xsp;
-        if (jj_3R_910()) {
+        if (jj_3R_916()) {
           jj_scanpos = xsp;
-          if (jj_3R_911()) {
+          if (jj_3R_917()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
+            if (jj_scan_token(201)) return true;
           }
         }
       }
@@ -31114,29 +31544,31 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_908() {
+  private boolean jj_3R_914() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_176() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_468()) jj_scanpos = xsp;
+    if (jj_3R_383()) {
+      jj_scanpos = xsp;
+      if (jj_3R_384()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_326() {
+  private boolean jj_3R_332() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_756()) {
+      if (jj_3R_762()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31145,334 +31577,374 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_99() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_257()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_258()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_259()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_260()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_261()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_262()) jj_scanpos = xsp;
+  private boolean jj_3R_538() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_265() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_264() {
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_741() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3R_263() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_262() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1069() {
-    if (jj_scan_token(CONTINUE)) return true;
+  private boolean jj_3R_261() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_260() {
+    if (jj_3R_171()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_474()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_323() {
+  private boolean jj_3R_1075() {
+    if (jj_scan_token(CONTINUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_329() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_532()) jj_scanpos = xsp;
+    if (jj_3R_538()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1060() {
+  private boolean jj_3R_1066() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1059() {
+  private boolean jj_3R_1065() {
     if (jj_scan_token(AND)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1069()) {
+    if (jj_3R_1075()) {
       jj_scanpos = xsp;
-      if (jj_3R_1070()) return true;
+      if (jj_3R_1076()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1014() {
+  private boolean jj_3R_1020() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1060()) {
+    if (jj_3R_1066()) {
       jj_scanpos = xsp;
-      if (jj_3R_1061()) return true;
+      if (jj_3R_1067()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_322() {
+  private boolean jj_3R_328() {
     if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
-    if (jj_scan_token(MOVE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_472()) return true;
-    if (jj_scan_token(TO)) return true;
+  private boolean jj_3R_99() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_739()) {
-      jj_scanpos = xsp;
-      if (jj_3R_740()) return true;
-    }
+    if (jj_3R_260()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_741()) jj_scanpos = xsp;
+    if (jj_3R_261()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_161()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_161()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_742()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_73() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_262()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_263()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_264()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_265()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_1064() {
+    if (jj_3R_79()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_1058() {
-    if (jj_3R_79()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_748() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_747() {
+    if (jj_3R_479()) return true;
     return false;
   }
 
-  private boolean jj_3R_1013() {
+  private boolean jj_3R_1019() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    if (jj_3R_1058()) return true;
+    if (jj_3R_1064()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1058()) {
+      if (jj_3R_1064()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RBRACE)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1059()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_256() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3_71() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_255() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_467()) return true;
+    if (jj_3R_1065()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_746() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_745() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_907() {
+  private boolean jj_3R_913() {
     if (jj_scan_token(ELSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1013()) {
+    if (jj_3R_1019()) {
       jj_scanpos = xsp;
-      if (jj_3R_1014()) return true;
+      if (jj_3R_1020()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_537() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_72()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_907()) jj_scanpos = xsp;
+    if (jj_3R_913()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_253() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_320() {
+    if (jj_scan_token(MOVE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_478()) return true;
+    if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_466()) jj_scanpos = xsp;
+    if (jj_3R_745()) {
+      jj_scanpos = xsp;
+      if (jj_3R_746()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_747()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_748()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_321() {
+  private boolean jj_3_73() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3_72() {
+    if (jj_3R_173()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_327() {
     if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_531()) jj_scanpos = xsp;
+    if (jj_3R_537()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_164() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_472() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3_166() {
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_536() {
     if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3_163() {
-    if (jj_3R_239()) return true;
+  private boolean jj_3R_259() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_71() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_253()) {
-      jj_scanpos = xsp;
-      if (jj_3R_254()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_255()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_256()) jj_scanpos = xsp;
+  private boolean jj_3R_258() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_98() {
+  private boolean jj_3R_257() {
+    if (jj_3R_173()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_96() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_3R_238()) return true;
+  private boolean jj_3_165() {
+    if (jj_3R_242()) return true;
     return false;
   }
 
-  private boolean jj_3R_320() {
+  private boolean jj_3R_326() {
     if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_530()) jj_scanpos = xsp;
+    if (jj_3R_536()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_615() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_621() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
+  private boolean jj_3R_256() {
+    if (jj_3R_171()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_472()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_620() {
     if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_369() {
-    if (jj_scan_token(CONTENT)) return true;
+  private boolean jj_3R_471() {
+    if (jj_scan_token(LET)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_555()) {
+    if (jj_3R_620()) {
       jj_scanpos = xsp;
-      if (jj_3R_556()) return true;
+      if (jj_3R_621()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_562() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
-    if (jj_scan_token(LET)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(EQ)) return true;
+  private boolean jj_3R_97() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) {
+    if (jj_3R_256()) {
       jj_scanpos = xsp;
-      if (jj_3R_615()) return true;
+      if (jj_3R_257()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_258()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_259()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_662() {
+  private boolean jj_3R_98() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_561() {
+    if (jj_3R_241()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_375() {
+    if (jj_scan_token(CONTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_561()) {
+      jj_scanpos = xsp;
+      if (jj_3R_562()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_560() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_668() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_77() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(ROLE)) return true;
     return false;
   }
 
   private boolean jj_3_70() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_554()) {
+      if (jj_3R_560()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31480,14 +31952,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_553() {
+  private boolean jj_3R_559() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_662()) {
+      if (jj_3R_668()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31496,40 +31968,81 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_552() {
+  private boolean jj_3R_870() {
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_761()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_558() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_77() {
+  private boolean jj_3R_740() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_869()) {
+      jj_scanpos = xsp;
+      if (jj_3R_870()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_869() {
+    if (jj_scan_token(SET)) return true;
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_761()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_172() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_92() {
     if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
     if (jj_scan_token(ROLE)) return true;
+    if (jj_3R_171()) return true;
+    Token xsp;
+    if (jj_3R_740()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_740()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_1051() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_864() {
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_755()) return true;
+  private boolean jj_3R_91() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3_69() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_171()) {
+      if (jj_3R_172()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31537,10 +32050,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_552()) {
+      if (jj_3R_558()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31548,7 +32061,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_553()) {
+      if (jj_3R_559()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31556,113 +32069,105 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_734() {
+  private boolean jj_3R_994() {
+    if (jj_3R_171()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_863()) {
-      jj_scanpos = xsp;
-      if (jj_3R_864()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1051()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_863() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_755()) return true;
-    return false;
-  }
-
   private boolean jj_3_67() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
+  private boolean jj_3R_828() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_92() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(ROLE)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_168() {
     Token xsp;
-    if (jj_3R_734()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_734()) {
+    xsp = jj_scanpos;
+    if (jj_3_69()) {
+      jj_scanpos = xsp;
+      if (jj_3_70()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_375()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_868() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_69()) {
-      jj_scanpos = xsp;
-      if (jj_3_70()) {
-        jj_scanpos = xsp;
-        if (jj_3R_369()) return true;
-      }
-    }
+    if (jj_3R_994()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_170() {
+    if (jj_3R_376()) return true;
     return false;
   }
 
   private boolean jj_3R_169() {
-    if (jj_3R_370()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_168() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_867() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3_66() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_1045() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_685() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_739() {
+    if (jj_scan_token(ROLE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_867()) {
+      jj_scanpos = xsp;
+      if (jj_3R_868()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_91() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_738() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_988() {
-    if (jj_3R_170()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1045()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_737() {
+    if (jj_3R_610()) return true;
     return false;
   }
 
-  private boolean jj_3R_966() {
-    if (jj_3R_370()) return true;
+  private boolean jj_3R_972() {
+    if (jj_3R_376()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_736() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -31670,297 +32175,290 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_168()) {
+    if (jj_3R_169()) {
       jj_scanpos = xsp;
-      if (jj_3R_169()) return true;
+      if (jj_3R_170()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_965() {
-    if (jj_3R_158()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_862() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_988()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_971() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
+  private boolean jj_3R_830() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_965()) {
+    if (jj_3R_971()) {
       jj_scanpos = xsp;
-      if (jj_3R_966()) return true;
+      if (jj_3R_972()) return true;
     }
     return false;
   }
 
   private boolean jj_3_65() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3_64() {
-    if (jj_3R_166()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
+  private boolean jj_3R_829() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_922() {
+  private boolean jj_3R_928() {
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_861() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_90() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(IDENTIFIED)) return true;
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_736()) {
+      jj_scanpos = xsp;
+      if (jj_3R_737()) {
+        jj_scanpos = xsp;
+        if (jj_3R_738()) return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_739()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3R_684() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_823()) jj_scanpos = xsp;
+    if (jj_3R_829()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_824()) {
+    if (jj_3R_830()) {
       jj_scanpos = xsp;
       if (jj_3_68()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_675() {
-    if (jj_3R_172()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_733() {
-    if (jj_scan_token(ROLE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_861()) {
-      jj_scanpos = xsp;
-      if (jj_3R_862()) return true;
-    }
+  private boolean jj_3R_681() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_674() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_680() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_822()) jj_scanpos = xsp;
+    if (jj_3R_828()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_677() {
+  private boolean jj_3R_683() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_467()) return true;
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_682() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_679() {
     if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_731() {
-    if (jj_3R_604()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_673() {
-    if (jj_3R_166()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_730() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_90() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_78() {
+    if (jj_scan_token(EXISTS)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
     if (jj_scan_token(USER)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(IDENTIFIED)) return true;
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_730()) {
-      jj_scanpos = xsp;
-      if (jj_3R_731()) {
-        jj_scanpos = xsp;
-        if (jj_3R_732()) return true;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_733()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_314() {
+  private boolean jj_3R_319() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_673()) {
+    if (jj_3R_679()) {
       jj_scanpos = xsp;
-      if (jj_3R_674()) {
+      if (jj_3R_680()) {
         jj_scanpos = xsp;
-        if (jj_3R_675()) return true;
+        if (jj_3R_681()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_676()) jj_scanpos = xsp;
+    if (jj_3R_682()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_677()) jj_scanpos = xsp;
+    if (jj_3R_683()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_678()) jj_scanpos = xsp;
+    if (jj_3R_684()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_679()) jj_scanpos = xsp;
+    if (jj_3R_685()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_770() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_776() {
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_784() {
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_922()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_921() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_928()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_78() {
-    if (jj_scan_token(EXISTS)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(USER)) return true;
+  private boolean jj_3R_927() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_782() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_921()) jj_scanpos = xsp;
+    if (jj_3R_927()) jj_scanpos = xsp;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_920() {
+  private boolean jj_3R_926() {
     if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_917() {
+  private boolean jj_3R_923() {
     if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_919() {
+  private boolean jj_3R_925() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_916() {
+  private boolean jj_3R_76() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(USER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_922() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_918() {
+  private boolean jj_3R_924() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
+  private boolean jj_3R_492() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  private boolean jj_3R_915() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_921() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
+  private boolean jj_3R_735() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_866() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_865() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_785() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_778()) return true;
+    if (jj_3R_784()) return true;
     return false;
   }
 
-  private boolean jj_3R_768() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_734() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_915()) jj_scanpos = xsp;
+    if (jj_3R_865()) {
+      jj_scanpos = xsp;
+      if (jj_3R_866()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_864() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_774() {
+    if (jj_3R_171()) return true;
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_916()) {
+    if (jj_3R_921()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_922()) {
       jj_scanpos = xsp;
-      if (jj_3R_917()) {
+      if (jj_3R_923()) {
         jj_scanpos = xsp;
-        if (jj_3R_918()) {
+        if (jj_3R_924()) {
           jj_scanpos = xsp;
-          if (jj_3R_919()) {
+          if (jj_3R_925()) {
             jj_scanpos = xsp;
-            if (jj_3R_920()) return true;
+            if (jj_3R_926()) return true;
           }
         }
       }
     }
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_777() {
+  private boolean jj_3R_783() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_776()) return true;
+    if (jj_3R_782()) return true;
     return false;
   }
 
-  private boolean jj_3R_76() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(USER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_633() {
+  private boolean jj_3R_639() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_778()) return true;
+    if (jj_3R_784()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_779()) {
+      if (jj_3R_785()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31968,64 +32466,53 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_775() {
+  private boolean jj_3R_781() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_774() {
-    if (jj_scan_token(INCREMENT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_729() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_860() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_733() {
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_171()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_864()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_780() {
+    if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_773() {
+  private boolean jj_3R_779() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_772() {
+  private boolean jj_3R_778() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_859()) {
-      jj_scanpos = xsp;
-      if (jj_3R_860()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_632() {
+  private boolean jj_3R_638() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_774()) {
+    if (jj_3R_780()) {
       jj_scanpos = xsp;
-      if (jj_3R_775()) return true;
+      if (jj_3R_781()) return true;
     }
-    if (jj_3R_776()) return true;
+    if (jj_3R_782()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_777()) {
+      if (jj_3R_783()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32033,63 +32520,66 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_858() {
+  private boolean jj_3R_777() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_776()) return true;
     return false;
   }
 
-  private boolean jj_3R_771() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_770()) return true;
+  private boolean jj_3R_89() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_3R_610()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_733()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_734()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_735()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_485() {
+  private boolean jj_3R_491() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_631() {
+  private boolean jj_3R_637() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_772()) {
+    if (jj_3R_778()) {
       jj_scanpos = xsp;
-      if (jj_3R_773()) return true;
+      if (jj_3R_779()) return true;
     }
-    if (jj_3R_238()) return true;
+    if (jj_3R_241()) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_170()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_858()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_775() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_774()) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_768()) return true;
+  private boolean jj_3R_535() {
+    if (jj_3R_649()) return true;
     return false;
   }
 
-  private boolean jj_3R_630() {
+  private boolean jj_3R_534() {
+    if (jj_scan_token(POLICY)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_636() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_770()) return true;
+    if (jj_3R_776()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_771()) {
+      if (jj_3R_777()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32097,13 +32587,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_635() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_768()) return true;
+    if (jj_3R_774()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_769()) {
+      if (jj_3R_775()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32111,33 +32601,33 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_89() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_3R_604()) return true;
+  private boolean jj_3R_325() {
+    if (jj_scan_token(REVOKE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_727()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_728()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_729()) jj_scanpos = xsp;
+    if (jj_3R_534()) {
+      jj_scanpos = xsp;
+      if (jj_3R_535()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_761()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
+  private boolean jj_3R_479() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_629()) {
+    if (jj_3R_635()) {
       jj_scanpos = xsp;
-      if (jj_3R_630()) {
+      if (jj_3R_636()) {
         jj_scanpos = xsp;
-        if (jj_3R_631()) {
+        if (jj_3R_637()) {
           jj_scanpos = xsp;
-          if (jj_3R_632()) {
+          if (jj_3R_638()) {
             jj_scanpos = xsp;
-            if (jj_3R_633()) return true;
+            if (jj_3R_639()) return true;
           }
         }
       }
@@ -32145,665 +32635,690 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_491() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_533() {
+    if (jj_3R_649()) return true;
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_3R_643()) return true;
+  private boolean jj_3R_497() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
-    if (jj_3R_483()) return true;
+  private boolean jj_3R_532() {
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
-    if (jj_scan_token(AFTER)) return true;
+  private boolean jj_3R_280() {
+    if (jj_3R_489()) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_481() {
+    if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_496() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_scan_token(POLICY)) return true;
+  private boolean jj_3R_279() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
+  private boolean jj_3R_495() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_488() {
+  private boolean jj_3R_494() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_493() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
-    if (jj_scan_token(LOCK)) return true;
+  private boolean jj_3R_324() {
+    if (jj_scan_token(GRANT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_488()) {
+    if (jj_3R_532()) {
       jj_scanpos = xsp;
-      if (jj_3R_489()) {
-        jj_scanpos = xsp;
-        if (jj_3R_490()) {
-          jj_scanpos = xsp;
-          if (jj_3R_491()) return true;
-        }
-      }
+      if (jj_3R_533()) return true;
     }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_761()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
-    if (jj_scan_token(REVOKE)) return true;
+  private boolean jj_3R_278() {
+    if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_528()) {
+    if (jj_3R_494()) {
       jj_scanpos = xsp;
-      if (jj_3R_529()) return true;
+      if (jj_3R_495()) {
+        jj_scanpos = xsp;
+        if (jj_3R_496()) {
+          jj_scanpos = xsp;
+          if (jj_3R_497()) return true;
+        }
+      }
     }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_755()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_274() {
+  private boolean jj_3R_277() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
+  private boolean jj_3R_490() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
+  private boolean jj_3R_794() {
+    if (jj_scan_token(NONE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_276() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_484()) {
+    if (jj_3R_490()) {
       jj_scanpos = xsp;
-      if (jj_3R_485()) {
+      if (jj_3R_491()) {
         jj_scanpos = xsp;
-        if (jj_3R_486()) return true;
+        if (jj_3R_492()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_487()) jj_scanpos = xsp;
+    if (jj_3R_493()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_3R_643()) return true;
+  private boolean jj_3R_793() {
+    if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_272() {
+  private boolean jj_3R_792() {
+    if (jj_scan_token(EXECUTE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_275() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3R_791() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_274() {
+    if (jj_3R_479()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_790() {
+    if (jj_scan_token(UPDATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_789() {
+    if (jj_scan_token(READ)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_788() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
   private boolean jj_3R_101() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_266()) return true;
     Token xsp;
-    if (jj_3R_271()) return true;
+    if (jj_3R_274()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_271()) {
+      if (jj_3R_274()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_272()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_273()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_274()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_275()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_276()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_277()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_278()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_279()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_280()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_318() {
-    if (jj_scan_token(GRANT)) return true;
+  private boolean jj_3R_649() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_526()) {
+    if (jj_3R_788()) {
       jj_scanpos = xsp;
-      if (jj_3R_527()) return true;
+      if (jj_3R_789()) {
+        jj_scanpos = xsp;
+        if (jj_3R_790()) {
+          jj_scanpos = xsp;
+          if (jj_3R_791()) {
+            jj_scanpos = xsp;
+            if (jj_3R_792()) {
+              jj_scanpos = xsp;
+              if (jj_3R_793()) {
+                jj_scanpos = xsp;
+                if (jj_3R_794()) return true;
+              }
+            }
+          }
+        }
+      }
     }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_755()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_270() {
-    if (jj_3R_483()) return true;
+  private boolean jj_3R_273() {
+    if (jj_3R_489()) return true;
     return false;
   }
 
-  private boolean jj_3R_269() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_272() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_482() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
+  private boolean jj_3R_487() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
+  private boolean jj_3R_486() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
-    if (jj_scan_token(NONE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_479() {
+  private boolean jj_3R_485() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
-    if (jj_scan_token(ALL)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_478() {
+  private boolean jj_3R_484() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_786() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_158() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
+  private boolean jj_3R_480() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
-    if (jj_scan_token(DELETE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_268() {
+  private boolean jj_3R_271() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_478()) {
+    if (jj_3R_484()) {
       jj_scanpos = xsp;
-      if (jj_3R_479()) {
+      if (jj_3R_485()) {
         jj_scanpos = xsp;
-        if (jj_3R_480()) {
+        if (jj_3R_486()) {
           jj_scanpos = xsp;
-          if (jj_3R_481()) return true;
+          if (jj_3R_487()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_784() {
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_267() {
+  private boolean jj_3R_270() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
+  private boolean jj_3R_269() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_474()) {
+    if (jj_3R_480()) {
       jj_scanpos = xsp;
-      if (jj_3R_475()) return true;
+      if (jj_3R_481()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_476()) jj_scanpos = xsp;
+    if (jj_3R_482()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_783() {
-    if (jj_scan_token(READ)) return true;
+  private boolean jj_3R_470() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_731() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_265() {
+  private boolean jj_3R_732() {
+    if (jj_scan_token(INVERSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_268() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_643() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_782()) {
-      jj_scanpos = xsp;
-      if (jj_3R_783()) {
-        jj_scanpos = xsp;
-        if (jj_3R_784()) {
-          jj_scanpos = xsp;
-          if (jj_3R_785()) {
-            jj_scanpos = xsp;
-            if (jj_3R_786()) {
-              jj_scanpos = xsp;
-              if (jj_3R_787()) {
-                jj_scanpos = xsp;
-                if (jj_3R_788()) return true;
-              }
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3R_267() {
+    if (jj_3R_479()) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3R_730() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_729() {
+    if (jj_3R_179()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_728() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3R_100() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_266()) return true;
     Token xsp;
-    if (jj_3R_264()) return true;
+    if (jj_3R_267()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_264()) {
+      if (jj_3R_267()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_265()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_266()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_267()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_268()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_269()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_270()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_271()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_272()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_273()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_366() {
-    if (jj_3R_471()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_365() {
-    if (jj_3R_482()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_364() {
-    if (jj_scan_token(WHERE)) return true;
+  private boolean jj_3R_372() {
     if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_363() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_371() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_464() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_370() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_725() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_369() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
-    if (jj_scan_token(INVERSE)) return true;
+  private boolean jj_3R_88() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(LINK)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(TYPE)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(DOT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_728()) {
+      jj_scanpos = xsp;
+      if (jj_3R_729()) return true;
+    }
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(DOT)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_730()) {
+      jj_scanpos = xsp;
+      if (jj_3R_731()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_732()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_724() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_760() {
+    if (jj_3R_895()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
+  private boolean jj_3R_166() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_363()) jj_scanpos = xsp;
+    if (jj_3R_369()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_364()) jj_scanpos = xsp;
+    if (jj_3R_370()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_365()) jj_scanpos = xsp;
+    if (jj_3R_371()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_366()) jj_scanpos = xsp;
+    if (jj_3R_372()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_723() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_365() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_364() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_359() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_363() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_358() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_323() {
+    if (jj_scan_token(OPTIMIZE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_760()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_357() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+  private boolean jj_3R_895() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
+  private boolean jj_3R_164() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_357()) jj_scanpos = xsp;
+    if (jj_3R_363()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
+    if (jj_3R_364()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_359()) jj_scanpos = xsp;
+    if (jj_3R_365()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_88() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(LINK)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(DOT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_722()) {
-      jj_scanpos = xsp;
-      if (jj_3R_723()) return true;
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(DOT)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_724()) {
-      jj_scanpos = xsp;
-      if (jj_3R_725()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_726()) jj_scanpos = xsp;
+  private boolean jj_3R_368() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_754() {
-    if (jj_3R_889()) return true;
+  private boolean jj_3R_759() {
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_362() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_367() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_361() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_366() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_360() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+  private boolean jj_3_164() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
-    if (jj_scan_token(OPTIMIZE)) return true;
+  private boolean jj_3R_116() {
+    if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_754()) {
-        jj_scanpos = xsp;
-        break;
-      }
+    xsp = jj_scanpos;
+    if (jj_3_164()) {
+      jj_scanpos = xsp;
+      if (jj_3R_759()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_889() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_757() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
+  private boolean jj_3R_756() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_758() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3_163() {
+    if (jj_scan_token(COMPACT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_165() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_360()) jj_scanpos = xsp;
+    if (jj_3R_366()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_361()) jj_scanpos = xsp;
+    if (jj_3R_367()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_362()) jj_scanpos = xsp;
+    if (jj_3R_368()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_753() {
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_115() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_756()) {
+      jj_scanpos = xsp;
+      if (jj_3R_757()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_758()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_356() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_315() {
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_362() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_354() {
+  private boolean jj_3R_314() {
+    if (jj_scan_token(COMPACT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_361() {
+    if (jj_3R_488()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_360() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
+  private boolean jj_3R_359() {
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3_162() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_313() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
+  private boolean jj_3R_358() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_114() {
     if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_162()) {
+    if (jj_3R_313()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_314()) {
       jj_scanpos = xsp;
-      if (jj_3R_753()) return true;
+      if (jj_3R_315()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_751() {
+  private boolean jj_3R_727() {
+    if (jj_scan_token(ID)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_750() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_352() {
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_752() {
+  private boolean jj_3R_726() {
     if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_115() {
-    if (jj_scan_token(DROP)) return true;
+  private boolean jj_3R_255() {
+    if (jj_scan_token(BLOB)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_750()) {
-      jj_scanpos = xsp;
-      if (jj_3R_751()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_752()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_659() {
+  private boolean jj_3R_665() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_163() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_352()) jj_scanpos = xsp;
+    if (jj_3R_358()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_353()) jj_scanpos = xsp;
+    if (jj_3R_359()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_354()) jj_scanpos = xsp;
+    if (jj_3R_360()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_355()) jj_scanpos = xsp;
+    if (jj_3R_361()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_356()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_310() {
-    if (jj_scan_token(STAR)) return true;
+    if (jj_3R_362()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_351() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_357() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_553() {
+    if (jj_3R_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_659()) {
+      if (jj_3R_665()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32811,195 +33326,198 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_114() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_87() {
+    if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_310()) jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+    if (jj_scan_token(262)) {
+      jj_scanpos = xsp;
+      if (jj_3R_255()) return true;
+    }
+    if (jj_3R_171()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_726()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_727()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_721() {
-    if (jj_scan_token(ID)) return true;
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_754() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
+  private boolean jj_3R_755() {
     if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_350() {
+  private boolean jj_3R_356() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_547()) jj_scanpos = xsp;
+    if (jj_3R_553()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_252() {
-    if (jj_scan_token(BLOB)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_349() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_753() {
+    if (jj_3R_554()) return true;
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_355() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_113() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(259)) {
+    if (jj_3R_753()) {
       jj_scanpos = xsp;
-      if (jj_3R_252()) return true;
+      if (jj_3R_754()) return true;
     }
-    if (jj_3R_170()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_720()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_721()) jj_scanpos = xsp;
+    if (jj_3R_755()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_62() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_63() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_748() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_62() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_749() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_322() {
+    if (jj_scan_token(ANALYZE)) return true;
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3_61() {
-    if (jj_3R_163()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_162() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_349()) {
+    if (jj_3R_355()) {
       jj_scanpos = xsp;
-      if (jj_3R_350()) return true;
+      if (jj_3R_356()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_351()) jj_scanpos = xsp;
+    if (jj_3R_357()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_747() {
-    if (jj_3R_548()) return true;
+  private boolean jj_3R_752() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
   private boolean jj_3_60() {
-    if (jj_3R_162()) return true;
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_254() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3_59() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_751() {
+    if (jj_3R_554()) return true;
     return false;
   }
 
-  private boolean jj_3R_250() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_59() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_253() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_113() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_747()) {
-      jj_scanpos = xsp;
-      if (jj_3R_748()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
+  private boolean jj_3R_1050() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_241()) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_1049() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_252() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_745() {
-    if (jj_3R_548()) return true;
+  private boolean jj_3R_251() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_321() {
+    if (jj_scan_token(REBUILD)) return true;
+    if (jj_scan_token(INDEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_751()) {
+      jj_scanpos = xsp;
+      if (jj_3R_752()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_1044() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
+  private boolean jj_3R_250() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_1043() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_993() {
+    if (jj_3R_171()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1049()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_1050()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_82() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_247()) {
+    if (jj_3R_250()) {
       jj_scanpos = xsp;
-      if (jj_3R_248()) {
+      if (jj_3R_251()) {
         jj_scanpos = xsp;
-        if (jj_3R_249()) {
+        if (jj_3R_252()) {
           jj_scanpos = xsp;
-          if (jj_3R_250()) {
+          if (jj_3R_253()) {
             jj_scanpos = xsp;
-            if (jj_3R_251()) return true;
+            if (jj_3R_254()) return true;
           }
         }
       }
@@ -33007,101 +33525,96 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_705() {
+  private boolean jj_3R_711() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_704() {
+  private boolean jj_3R_710() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
-    if (jj_scan_token(REBUILD)) return true;
-    if (jj_scan_token(INDEX)) return true;
+  private boolean jj_3_161() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_241()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_863() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_745()) {
+    if (jj_3_161()) {
       jj_scanpos = xsp;
-      if (jj_3R_746()) return true;
+      if (jj_3R_993()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_707() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_1048() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_241()) return true;
     return false;
   }
 
-  private boolean jj_3R_703() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_1047() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_706() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_713() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_987() {
-    if (jj_3R_170()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1043()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_1044()) jj_scanpos = xsp;
+  private boolean jj_3R_709() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3_160() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
+  private boolean jj_3R_712() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_857() {
+  private boolean jj_3R_725() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_160()) {
-      jj_scanpos = xsp;
-      if (jj_3R_987()) return true;
-    }
+    if (jj_3R_863()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1042() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1041() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_992() {
+    if (jj_3R_171()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1047()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_1048()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_702() {
+  private boolean jj_3R_708() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_701() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_707() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
+  private boolean jj_3R_706() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
@@ -33110,293 +33623,287 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_703()) jj_scanpos = xsp;
-    if (jj_3R_263()) return true;
+    if (jj_3R_709()) jj_scanpos = xsp;
+    if (jj_3R_266()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_704()) jj_scanpos = xsp;
+    if (jj_3R_710()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_705()) jj_scanpos = xsp;
+    if (jj_3R_711()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_706()) jj_scanpos = xsp;
+    if (jj_3R_712()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_707()) jj_scanpos = xsp;
+    if (jj_3R_713()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_699() {
+  private boolean jj_3R_705() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_857()) jj_scanpos = xsp;
+  private boolean jj_3_160() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_241()) return true;
     return false;
   }
 
-  private boolean jj_3R_986() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_862() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1041()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
     xsp = jj_scanpos;
-    if (jj_3R_1042()) jj_scanpos = xsp;
+    if (jj_3_160()) {
+      jj_scanpos = xsp;
+      if (jj_3R_992()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_964() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_970() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_963() {
-    if (jj_3R_651()) return true;
+  private boolean jj_3R_969() {
+    if (jj_3R_657()) return true;
     return false;
   }
 
-  private boolean jj_3_159() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
+  private boolean jj_3R_968() {
+    if (jj_3R_542()) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
+  private boolean jj_3R_967() {
+    if (jj_3R_541()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_80() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_266()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_159()) {
-      jj_scanpos = xsp;
-      if (jj_3R_986()) return true;
-    }
+    if (jj_3R_705()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_706()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_707()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_708()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_162() {
+    if (jj_scan_token(ENGINE)) return true;
+    if (jj_3R_171()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_862()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_966() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_962() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_861() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_961() {
-    if (jj_3R_535()) return true;
+  private boolean jj_3R_1042() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_80() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_699()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_700()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_701()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_702()) jj_scanpos = xsp;
+  private boolean jj_3_158() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_960() {
-    if (jj_3R_534()) return true;
+  private boolean jj_3R_1041() {
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_1036() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_1046() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1035() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_991() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_959() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1035()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1036()) jj_scanpos = xsp;
+  private boolean jj_3R_1045() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3_161() {
-    if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_724() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_856()) jj_scanpos = xsp;
+    if (jj_3_158()) {
+      jj_scanpos = xsp;
+      if (jj_3R_861()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_855() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_965() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_161()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1041()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1042()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_157() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_990() {
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1045()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1046()) return true;
+    }
     return false;
   }
 
   private boolean jj_3_58() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3R_1040() {
-    if (jj_scan_token(VALUE)) return true;
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_1034() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_964() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_985() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_989() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
   private boolean jj_3R_1039() {
-    if (jj_scan_token(KEY)) return true;
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
+  private boolean jj_3R_963() {
+    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_157()) {
-      jj_scanpos = xsp;
-      if (jj_3R_855()) return true;
-    }
+    if (jj_3R_1040()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_958() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_988() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1033() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3_57() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_161()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1039()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_984() {
-    if (jj_scan_token(BY)) return true;
+  private boolean jj_3R_860() {
+    if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1039()) {
+    if (jj_3R_988()) {
       jj_scanpos = xsp;
-      if (jj_3R_1040()) return true;
+      if (jj_3R_989()) return true;
     }
-    return false;
-  }
-
-  private boolean jj_3R_957() {
-    if (jj_3R_160()) return true;
-    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1034()) jj_scanpos = xsp;
+    if (jj_3R_990()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_991()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_983() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_1038() {
+    if (jj_scan_token(NOT)) return true;
+    if (jj_3R_689()) return true;
     return false;
   }
 
-  private boolean jj_3_57() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_160()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1033()) jj_scanpos = xsp;
+  private boolean jj_3R_1037() {
+    if (jj_3R_689()) return true;
     return false;
   }
 
-  private boolean jj_3R_1032() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_3R_683()) return true;
+  private boolean jj_3R_987() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1031() {
-    if (jj_3R_683()) return true;
+  private boolean jj_3R_859() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_982() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_986() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_956() {
+  private boolean jj_3R_962() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1031()) {
+    if (jj_3R_1037()) {
       jj_scanpos = xsp;
-      if (jj_3R_1032()) return true;
+      if (jj_3R_1038()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_854() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_858() {
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_982()) {
+    if (jj_3R_986()) {
       jj_scanpos = xsp;
-      if (jj_3R_983()) return true;
+      if (jj_3R_987()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_984()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_985()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_981() {
-    if (jj_scan_token(VALUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_853() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_980() {
-    if (jj_scan_token(KEY)) return true;
+  private boolean jj_3R_240() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
+  private boolean jj_3R_596() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_683()) return true;
+    if (jj_3R_689()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_956()) {
+      if (jj_3R_962()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33405,101 +33912,92 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     xsp = jj_scanpos;
     if (jj_3_57()) {
       jj_scanpos = xsp;
-      if (jj_3R_957()) return true;
+      if (jj_3R_963()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_958()) jj_scanpos = xsp;
+    if (jj_3R_964()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_959()) {
+      if (jj_3R_965()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_960()) jj_scanpos = xsp;
+    if (jj_3R_966()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_961()) jj_scanpos = xsp;
+    if (jj_3R_967()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_962()) jj_scanpos = xsp;
+    if (jj_3R_968()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_963()) jj_scanpos = xsp;
+    if (jj_3R_969()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_964()) jj_scanpos = xsp;
+    if (jj_3R_970()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_852() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_980()) {
-      jj_scanpos = xsp;
-      if (jj_3R_981()) return true;
-    }
+  private boolean jj_3R_1035() {
+    if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_1029() {
-    if (jj_scan_token(BREADTH_FIRST)) return true;
+  private boolean jj_3R_1034() {
+    if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_1028() {
-    if (jj_scan_token(DEPTH_FIRST)) return true;
+  private boolean jj_3R_239() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_238() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_955() {
+  private boolean jj_3R_961() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1028()) {
+    if (jj_3R_1034()) {
       jj_scanpos = xsp;
-      if (jj_3R_1029()) return true;
+      if (jj_3R_1035()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_954() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_960() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_953() {
+  private boolean jj_3R_959() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_477()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_236() {
-    if (jj_3R_170()) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_1027() {
+  private boolean jj_3R_1033() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_825()) return true;
+    if (jj_3R_831()) return true;
     return false;
   }
 
-  private boolean jj_3R_952() {
+  private boolean jj_3R_958() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
-    if (jj_3R_825()) return true;
+  private boolean jj_3R_688() {
+    if (jj_3R_831()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1027()) {
+      if (jj_3R_1033()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33507,319 +34005,333 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_653() {
-    if (jj_3R_651()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_235() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_652() {
-    if (jj_3R_482()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_589() {
-    if (jj_scan_token(TRAVERSE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_682()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_952()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_953()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_954()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_955()) jj_scanpos = xsp;
+  private boolean jj_3R_659() {
+    if (jj_3R_657()) return true;
     return false;
   }
 
-  private boolean jj_3_158() {
+  private boolean jj_3_159() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_235()) jj_scanpos = xsp;
+    if (jj_3R_238()) jj_scanpos = xsp;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_236()) {
+    if (jj_3R_239()) {
       jj_scanpos = xsp;
-      if (jj_3R_237()) return true;
+      if (jj_3R_240()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_852()) jj_scanpos = xsp;
+    if (jj_3R_858()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_853()) jj_scanpos = xsp;
+    if (jj_3R_859()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_854()) {
+      if (jj_3R_860()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_170()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_543() {
-    if (jj_scan_token(DEFAULT_)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_338() {
-    if (jj_scan_token(NOCACHE)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_658() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
   private boolean jj_3R_86() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_548()) return true;
+    if (jj_3R_554()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_158()) {
+    if (jj_3_159()) {
       jj_scanpos = xsp;
-      if (jj_3R_718()) return true;
+      if (jj_3R_724()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_161()) {
+    if (jj_3_162()) {
       jj_scanpos = xsp;
-      if (jj_3R_719()) return true;
+      if (jj_3R_725()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_337() {
+  private boolean jj_3R_595() {
+    if (jj_scan_token(TRAVERSE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_688()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_266()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_958()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_959()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_960()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_961()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_549() {
+    if (jj_scan_token(DEFAULT_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_312() {
+    if (jj_scan_token(FORCE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_344() {
+    if (jj_scan_token(NOCACHE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_548() {
+    if (jj_scan_token(SHARED)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_311() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_343() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_541() {
+  private boolean jj_3R_547() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_540() {
+  private boolean jj_3R_237() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_546() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_309() {
-    if (jj_scan_token(FORCE)) return true;
+  private boolean jj_3R_236() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_310() {
+    if (jj_3R_171()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_1038() {
-    if (jj_3R_651()) return true;
+  private boolean jj_3R_112() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_171()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_311()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_312()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_538() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_1044() {
+    if (jj_3R_657()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_544() {
+    if (jj_3R_488()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_653()) jj_scanpos = xsp;
+    if (jj_3R_659()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_336() {
+  private boolean jj_3R_342() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_540()) {
+    if (jj_3R_546()) {
       jj_scanpos = xsp;
-      if (jj_3R_541()) {
+      if (jj_3R_547()) {
         jj_scanpos = xsp;
-        if (jj_3R_542()) {
+        if (jj_3R_548()) {
           jj_scanpos = xsp;
-          if (jj_3R_543()) return true;
+          if (jj_3R_549()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_335() {
-    if (jj_3R_483()) return true;
+  private boolean jj_3R_341() {
+    if (jj_3R_489()) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
+  private boolean jj_3R_339() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_537()) {
+    if (jj_3R_543()) {
       jj_scanpos = xsp;
-      if (jj_3R_538()) return true;
+      if (jj_3R_544()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_537() {
-    if (jj_3R_651()) return true;
+  private boolean jj_3R_543() {
+    if (jj_3R_657()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_652()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_334() {
-    if (jj_3R_539()) return true;
+    if (jj_3R_658()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1037() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_340() {
+    if (jj_3R_545()) return true;
     return false;
   }
 
-  private boolean jj_3R_307() {
-    if (jj_3R_170()) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_1043() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_112() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3_157() {
+    if (jj_scan_token(COLUMNAR)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_308()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_309()) jj_scanpos = xsp;
+    if (jj_3R_236()) {
+      jj_scanpos = xsp;
+      if (jj_3R_237()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_332() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_338() {
+    if (jj_3R_542()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
-    if (jj_3R_535()) return true;
+  private boolean jj_3R_337() {
+    if (jj_3R_541()) return true;
     return false;
   }
 
-  private boolean jj_3R_330() {
-    if (jj_3R_534()) return true;
+  private boolean jj_3R_336() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
   private boolean jj_3_156() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
+  private boolean jj_3R_335() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_334() {
+    if (jj_3R_539()) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_333() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_968() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_974() {
+    if (jj_3R_488()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1038()) jj_scanpos = xsp;
+    if (jj_3R_1044()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_159() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_327()) jj_scanpos = xsp;
+    if (jj_3R_333()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_266()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_328()) jj_scanpos = xsp;
+    if (jj_3R_334()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_329()) jj_scanpos = xsp;
+    if (jj_3R_335()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_330()) jj_scanpos = xsp;
+    if (jj_3R_336()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_331()) jj_scanpos = xsp;
+    if (jj_3R_337()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_332()) jj_scanpos = xsp;
+    if (jj_3R_338()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_333()) jj_scanpos = xsp;
+    if (jj_3R_339()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_334()) jj_scanpos = xsp;
+    if (jj_3R_340()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_335()) jj_scanpos = xsp;
+    if (jj_3R_341()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_336()) jj_scanpos = xsp;
+    if (jj_3R_342()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_337()) jj_scanpos = xsp;
+    if (jj_3R_343()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_338()) jj_scanpos = xsp;
+    if (jj_3R_344()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_967() {
-    if (jj_3R_651()) return true;
+  private boolean jj_3R_973() {
+    if (jj_3R_657()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1037()) jj_scanpos = xsp;
+    if (jj_3R_1043()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_828() {
+  private boolean jj_3R_834() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_967()) {
+    if (jj_3R_973()) {
       jj_scanpos = xsp;
-      if (jj_3R_968()) return true;
+      if (jj_3R_974()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_972() {
+  private boolean jj_3R_978() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_971() {
+  private boolean jj_3R_977() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_833() {
+  private boolean jj_3R_839() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
@@ -33827,88 +34339,91 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_111() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_156()) {
       jj_scanpos = xsp;
-      if (jj_3R_307()) return true;
+      if (jj_3_157()) {
+        jj_scanpos = xsp;
+        if (jj_3R_310()) return true;
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_832() {
+  private boolean jj_3R_838() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_970() {
+  private boolean jj_3R_976() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_969() {
+  private boolean jj_3R_975() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_979() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_985() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_837() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_969()) {
+    if (jj_3R_975()) {
       jj_scanpos = xsp;
-      if (jj_3R_970()) {
+      if (jj_3R_976()) {
         jj_scanpos = xsp;
-        if (jj_3R_971()) {
+        if (jj_3R_977()) {
           jj_scanpos = xsp;
-          if (jj_3R_972()) return true;
+          if (jj_3R_978()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_830() {
-    if (jj_3R_483()) return true;
+  private boolean jj_3R_836() {
+    if (jj_3R_489()) return true;
     return false;
   }
 
-  private boolean jj_3R_829() {
-    if (jj_3R_539()) return true;
+  private boolean jj_3R_835() {
+    if (jj_3R_545()) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
+  private boolean jj_3R_723() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
+  private boolean jj_3R_857() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_850()) return true;
+    if (jj_3R_856()) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_721() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_716() {
+  private boolean jj_3R_722() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_850()) return true;
+    if (jj_3R_856()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_851()) {
+      if (jj_3R_857()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33917,118 +34432,118 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_850() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_856() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_979()) jj_scanpos = xsp;
+    if (jj_3R_985()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_827() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_833() {
+    if (jj_3R_542()) return true;
     return false;
   }
 
   private boolean jj_3_155() {
-    if (jj_3R_234()) return true;
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_826() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_832() {
+    if (jj_3R_539()) return true;
     return false;
   }
 
   private boolean jj_3_56() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_370() {
+  private boolean jj_3R_376() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_467()) return true;
+    if (jj_3R_473()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_826()) jj_scanpos = xsp;
+    if (jj_3R_832()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_827()) jj_scanpos = xsp;
+    if (jj_3R_833()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_828()) jj_scanpos = xsp;
+    if (jj_3R_834()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_829()) jj_scanpos = xsp;
+    if (jj_3R_835()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_830()) jj_scanpos = xsp;
+    if (jj_3R_836()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_831()) jj_scanpos = xsp;
+    if (jj_3R_837()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_832()) jj_scanpos = xsp;
+    if (jj_3R_838()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_833()) jj_scanpos = xsp;
+    if (jj_3R_839()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_55() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_423() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_3R_590()) return true;
+  private boolean jj_3R_422() {
+    if (jj_3R_596()) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
-    if (jj_3R_589()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_595()) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
-    if (jj_3R_370()) return true;
+  private boolean jj_3R_420() {
+    if (jj_3R_376()) return true;
     return false;
   }
 
   private boolean jj_3R_85() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_155()) jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_715()) jj_scanpos = xsp;
+    if (jj_3R_721()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_716()) jj_scanpos = xsp;
+    if (jj_3R_722()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_717()) jj_scanpos = xsp;
+    if (jj_3R_723()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_419() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
+  private boolean jj_3R_205() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_413()) {
+    if (jj_3R_419()) {
       jj_scanpos = xsp;
-      if (jj_3R_414()) {
+      if (jj_3R_420()) {
         jj_scanpos = xsp;
-        if (jj_3R_415()) {
+        if (jj_3R_421()) {
           jj_scanpos = xsp;
-          if (jj_3R_416()) {
+          if (jj_3R_422()) {
             jj_scanpos = xsp;
-            if (jj_3R_417()) return true;
+            if (jj_3R_423()) return true;
           }
         }
       }
@@ -34036,14 +34551,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_234() {
+  private boolean jj_3R_235() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_306() {
+  private boolean jj_3R_309() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
@@ -34052,10 +34567,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_110() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_306()) jj_scanpos = xsp;
+    if (jj_3R_309()) jj_scanpos = xsp;
     return false;
   }
 
@@ -34065,12 +34580,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_54() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_469() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
@@ -34079,12 +34594,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_305() {
+  private boolean jj_3R_308() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
+  private boolean jj_3R_307() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
@@ -34095,18 +34610,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_303() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_306() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_246() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_302() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_305() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -34115,18 +34630,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_156() {
+  private boolean jj_3R_157() {
     if (jj_3R_121()) return true;
     return false;
   }
 
-  private boolean jj_3R_245() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_248() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_512() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_518() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -34140,156 +34655,156 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(CLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_302()) {
+    if (jj_3R_305()) {
       jj_scanpos = xsp;
-      if (jj_3R_303()) return true;
+      if (jj_3R_306()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_304()) jj_scanpos = xsp;
+    if (jj_3R_307()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_305()) jj_scanpos = xsp;
+    if (jj_3R_308()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_244() {
-    if (jj_3R_464()) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_470()) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_156() {
     if (jj_3R_120()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
+  private boolean jj_3R_155() {
     if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_520() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
+  private boolean jj_3R_304() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
+  private boolean jj_3R_519() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_153() {
+  private boolean jj_3R_154() {
     if (jj_3R_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_517() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
+  private boolean jj_3R_153() {
     if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_3R_326()) return true;
+  private boolean jj_3R_152() {
+    if (jj_3R_332()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_3R_325()) return true;
+  private boolean jj_3R_151() {
+    if (jj_3R_331()) return true;
     return false;
   }
 
-  private boolean jj_3R_510() {
-    if (jj_3R_604()) return true;
+  private boolean jj_3R_516() {
+    if (jj_3R_610()) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_150() {
+    if (jj_3R_330()) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
+  private boolean jj_3R_303() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_513()) {
+    if (jj_3R_519()) {
       jj_scanpos = xsp;
-      if (jj_3R_514()) return true;
+      if (jj_3R_520()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_scan_token(273)) return true;
+  private boolean jj_3R_515() {
+    if (jj_scan_token(276)) return true;
     return false;
   }
 
-  private boolean jj_3R_148() {
-    if (jj_3R_323()) return true;
+  private boolean jj_3R_149() {
+    if (jj_3R_329()) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_302() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_512()) {
+    if (jj_3R_518()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_508() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_514() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_322()) return true;
+  private boolean jj_3R_148() {
+    if (jj_3R_328()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_147() {
+    if (jj_3R_327()) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
-    if (jj_3R_320()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_319()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_325()) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_301() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_511()) {
+    if (jj_3R_517()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_3R_318()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_324()) return true;
     return false;
   }
 
-  private boolean jj_3R_507() {
+  private boolean jj_3R_513() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
@@ -34299,12 +34814,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_142() {
-    if (jj_3R_317()) return true;
+  private boolean jj_3R_143() {
+    if (jj_3R_323()) return true;
     return false;
   }
 
-  private boolean jj_3R_506() {
+  private boolean jj_3R_512() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
@@ -34319,26 +34834,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_43() {
-    if (jj_3R_112()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_297() {
+  private boolean jj_3R_300() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_508()) {
+    if (jj_3R_514()) {
       jj_scanpos = xsp;
-      if (jj_3R_509()) {
+      if (jj_3R_515()) {
         jj_scanpos = xsp;
-        if (jj_3R_510()) return true;
+        if (jj_3R_516()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_141() {
+  private boolean jj_3_43() {
+    if (jj_3R_112()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_142() {
     if (jj_3R_114()) return true;
     return false;
   }
@@ -34353,52 +34868,57 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_322()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_316()) return true;
+  private boolean jj_3_41() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3R_140() {
+    if (jj_3R_321()) return true;
     return false;
   }
 
-  private boolean jj_3R_505() {
+  private boolean jj_3R_511() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_3R_112()) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_510() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_3R_111()) return true;
+  private boolean jj_3R_139() {
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
+  private boolean jj_3R_299() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_506()) {
+    if (jj_3R_512()) {
       jj_scanpos = xsp;
-      if (jj_3R_507()) return true;
+      if (jj_3R_513()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_138() {
+    if (jj_3R_111()) return true;
+    return false;
+  }
+
   private boolean jj_3_38() {
     if (jj_3R_107()) return true;
     return false;
@@ -34409,18 +34929,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_503() {
+  private boolean jj_3R_509() {
     if (jj_3R_72()) return true;
     return false;
   }
 
+  private boolean jj_3R_508() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
   private boolean jj_3R_136() {
     if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_298() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_171()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
@@ -34429,14 +34957,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_295() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_170()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
   private boolean jj_3_39() {
     if (jj_3R_108()) return true;
     return false;
@@ -34457,50 +34977,50 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_106()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_501() {
+  private boolean jj_3R_507() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_294() {
+  private boolean jj_3R_297() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_504()) {
+    if (jj_3R_510()) {
       jj_scanpos = xsp;
-      if (jj_3R_505()) return true;
+      if (jj_3R_511()) return true;
     }
     return false;
   }
 
+  private boolean jj_3_33() {
+    if (jj_3R_102()) return true;
+    return false;
+  }
+
   private boolean jj_3R_134() {
     if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_500() {
+  private boolean jj_3R_506() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_104()) return true;
+  private boolean jj_3R_646() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_133() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
@@ -34514,22 +35034,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_100()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_293() {
+  private boolean jj_3R_296() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_502()) {
+    if (jj_3R_508()) {
       jj_scanpos = xsp;
-      if (jj_3R_503()) return true;
+      if (jj_3R_509()) return true;
     }
     return false;
   }
 
+  private boolean jj_3_31() {
+    if (jj_3R_100()) return true;
+    return false;
+  }
+
   private boolean jj_3R_131() {
     if (jj_3R_102()) return true;
     return false;
@@ -34541,7 +35061,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3R_130() {
-    if (jj_3R_315()) return true;
+    if (jj_3R_320()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_504() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
@@ -34555,11 +35080,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_498() {
-    if (jj_scan_token(NULL)) return true;
-    return false;
-  }
-
   private boolean jj_3_28() {
     if (jj_3R_97()) return true;
     return false;
@@ -34575,28 +35095,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_3R_99()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_292() {
+  private boolean jj_3R_295() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_500()) {
+    if (jj_3R_506()) {
       jj_scanpos = xsp;
-      if (jj_3R_501()) return true;
+      if (jj_3R_507()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_497() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_127() {
+    if (jj_3R_99()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_503() {
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_640()) {
+      if (jj_3R_646()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34609,14 +35129,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_294() {
+    if (jj_scan_token(OVERSIZE)) return true;
+    if (jj_3R_505()) return true;
     return false;
   }
 
-  private boolean jj_3R_291() {
-    if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_499()) return true;
+  private boolean jj_3R_125() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
@@ -34625,18 +35145,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_502() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3_26() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_495() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_501() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -34645,13 +35165,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_645() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_639() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3_24() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
@@ -34660,37 +35180,37 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_494() {
+  private boolean jj_3R_500() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_638()) {
+    if (jj_3R_644()) {
       jj_scanpos = xsp;
-      if (jj_3R_639()) return true;
+      if (jj_3R_645()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_638() {
+  private boolean jj_3R_644() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_91()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_290() {
+  private boolean jj_3R_293() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_497()) {
+    if (jj_3R_503()) {
       jj_scanpos = xsp;
-      if (jj_3R_498()) return true;
+      if (jj_3R_504()) return true;
     }
     return false;
   }
 
+  private boolean jj_3_22() {
+    if (jj_3R_91()) return true;
+    return false;
+  }
+
   private boolean jj_3_21() {
     if (jj_3R_90()) return true;
     return false;
@@ -34701,8 +35221,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_499() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -34721,24 +35241,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_85()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_289() {
+  private boolean jj_3R_292() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_494()) jj_scanpos = xsp;
+    if (jj_3R_500()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_495()) {
+    if (jj_3R_501()) {
       jj_scanpos = xsp;
-      if (jj_3R_496()) return true;
+      if (jj_3R_502()) return true;
     }
     return false;
   }
 
+  private boolean jj_3_16() {
+    if (jj_3R_85()) return true;
+    return false;
+  }
+
   private boolean jj_3_15() {
     if (jj_3R_84()) return true;
     return false;
@@ -34749,35 +35269,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_314()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_288() {
+  private boolean jj_3R_291() {
     if (jj_scan_token(SHORTNAME)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_493()) {
+    if (jj_3R_499()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_123() {
+    if (jj_3R_319()) return true;
+    return false;
+  }
+
   private boolean jj_3_13() {
     if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_81()) return true;
+  private boolean jj_3R_290() {
+    if (jj_scan_token(NAME)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
-    if (jj_scan_token(NAME)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3_12() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
@@ -34787,43 +35307,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3R_122() {
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     return false;
   }
 
   private boolean jj_3R_107() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_287()) {
+    if (jj_3R_290()) {
       jj_scanpos = xsp;
-      if (jj_3R_288()) {
+      if (jj_3R_291()) {
         jj_scanpos = xsp;
-        if (jj_3R_289()) {
+        if (jj_3R_292()) {
           jj_scanpos = xsp;
-          if (jj_3R_290()) {
+          if (jj_3R_293()) {
             jj_scanpos = xsp;
-            if (jj_3R_291()) {
+            if (jj_3R_294()) {
               jj_scanpos = xsp;
-              if (jj_3R_292()) {
+              if (jj_3R_295()) {
                 jj_scanpos = xsp;
-                if (jj_3R_293()) {
+                if (jj_3R_296()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_294()) {
+                  if (jj_3R_297()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_295()) {
+                    if (jj_3R_298()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_296()) {
+                      if (jj_3R_299()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_297()) {
+                        if (jj_3R_300()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_298()) {
+                          if (jj_3R_301()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_299()) {
+                            if (jj_3R_302()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_300()) return true;
+                              if (jj_3R_303()) return true;
                             }
                           }
                         }
@@ -34838,7 +35358,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_301()) jj_scanpos = xsp;
+    if (jj_3R_304()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_720() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_241()) return true;
     return false;
   }
 
@@ -34919,17 +35445,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                             jj_scanpos = xsp;
                                                                             if (jj_3R_140()) {
                                                                               jj_scanpos = xsp;
-                                                                              if (jj_3_44()) {
+                                                                              if (jj_3R_141()) {
                                                                                 jj_scanpos = xsp;
-                                                                                if (jj_3R_141()) {
+                                                                                if (jj_3_44()) {
                                                                                   jj_scanpos = xsp;
-                                                                                  if (jj_3_46()) {
+                                                                                  if (jj_3R_142()) {
                                                                                     jj_scanpos =
                                                                                         xsp;
-                                                                                    if (jj_3_47()) {
+                                                                                    if (jj_3_46()) {
                                                                                       jj_scanpos =
                                                                                           xsp;
-                                                                                      if (jj_3R_142()) {
+                                                                                      if (jj_3_47()) {
                                                                                         jj_scanpos =
                                                                                             xsp;
                                                                                         if (jj_3R_143()) {
@@ -34971,8 +35497,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                 if (jj_3R_155()) {
                                                                                                                   jj_scanpos =
                                                                                                                       xsp;
-                                                                                                                  if (jj_3R_156())
-                                                                                                                    return true;
+                                                                                                                  if (jj_3R_156()) {
+                                                                                                                    jj_scanpos =
+                                                                                                                        xsp;
+                                                                                                                    if (jj_3R_157())
+                                                                                                                      return true;
+                                                                                                                  }
                                                                                                                 }
                                                                                                               }
                                                                                                             }
@@ -35031,19 +35561,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_714() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_238()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_713() {
+  private boolean jj_3R_719() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
+  private boolean jj_3R_855() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_72()) return true;
+    return false;
+  }
+
   private boolean jj_3_10() {
     if (jj_3R_79()) return true;
     return false;
@@ -35054,51 +35584,40 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     xsp = jj_scanpos;
     if (jj_3_53()) {
       jj_scanpos = xsp;
-      if (jj_3R_244()) {
+      if (jj_3R_247()) {
         jj_scanpos = xsp;
-        if (jj_3R_245()) {
+        if (jj_3R_248()) {
           jj_scanpos = xsp;
-          if (jj_3R_246()) return true;
+          if (jj_3R_249()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_854() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_72()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_242() {
-    if (jj_3R_463()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_245() {
+    if (jj_3R_469()) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
+  private boolean jj_3R_718() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_3R_79()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_710() {
+  private boolean jj_3R_716() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_3R_72()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_849()) {
+      if (jj_3R_855()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35106,7 +35625,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_711() {
+  private boolean jj_3R_717() {
     if (jj_scan_token(CLUSTERS)) return true;
     if (jj_3R_72()) return true;
     return false;
@@ -35115,37 +35634,42 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_84() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_713()) jj_scanpos = xsp;
+    if (jj_3R_719()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_714()) jj_scanpos = xsp;
+    if (jj_3R_720()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_244() {
+    if (jj_3R_79()) return true;
     return false;
   }
 
   private boolean jj_3R_73() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_241()) {
+    if (jj_3R_244()) {
       jj_scanpos = xsp;
-      if (jj_3R_242()) return true;
+      if (jj_3R_245()) return true;
     }
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_709() {
+  private boolean jj_3R_715() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_848()) {
+      if (jj_3R_854()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35153,28 +35677,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_239() {
+  private boolean jj_3R_242() {
     if (jj_3R_79()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(198)) jj_scanpos = xsp;
+    if (jj_scan_token(201)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_708() {
+  private boolean jj_3R_714() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_657() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_663() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_656() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_662() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
@@ -35188,26 +35712,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_76()) return true;
-    return false;
-  }
-
   private boolean jj_3R_83() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_708()) jj_scanpos = xsp;
+    if (jj_3R_714()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_709()) jj_scanpos = xsp;
+    if (jj_3R_715()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_710()) jj_scanpos = xsp;
+    if (jj_3R_716()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_711()) jj_scanpos = xsp;
+    if (jj_3R_717()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_712()) jj_scanpos = xsp;
+    if (jj_3R_718()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_7() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
@@ -35226,64 +35750,54 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_546() {
+  private boolean jj_3R_552() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_656()) {
+    if (jj_3R_662()) {
       jj_scanpos = xsp;
-      if (jj_3R_657()) return true;
+      if (jj_3R_663()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_642() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_551() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_648() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
+  private boolean jj_3R_643() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_641() {
-    if (jj_3R_72()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_641()) {
-      jj_scanpos = xsp;
-      if (jj_3R_642()) return true;
-    }
+  private boolean jj_3R_647() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_341() {
+  private boolean jj_3R_347() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_544()) {
+    if (jj_3R_550()) {
       jj_scanpos = xsp;
-      if (jj_3R_545()) return true;
+      if (jj_3R_551()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_546()) {
+      if (jj_3R_552()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35292,17 +35806,27 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_243() {
+  private boolean jj_3R_505() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_647()) {
+      jj_scanpos = xsp;
+      if (jj_3R_648()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_246() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_492() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_498() {
+    if (jj_3R_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_637()) {
+      if (jj_3R_643()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35310,63 +35834,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_340() {
+  private boolean jj_3R_346() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_79()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
+  private boolean jj_3R_345() {
+    if (jj_3R_175()) return true;
+    return false;
+  }
+
   private boolean jj_3R_74() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_243()) jj_scanpos = xsp;
+    if (jj_3R_246()) jj_scanpos = xsp;
     if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
-    if (jj_3R_174()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_159() {
+  private boolean jj_3R_160() {
     if (jj_scan_token(FIND)) return true;
     if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_339()) {
+    if (jj_3R_345()) {
       jj_scanpos = xsp;
-      if (jj_3R_340()) return true;
+      if (jj_3R_346()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_341()) jj_scanpos = xsp;
+    if (jj_3R_347()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_240() {
+  private boolean jj_3R_243() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
+  private boolean jj_3R_289() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_492()) jj_scanpos = xsp;
+    if (jj_3R_498()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_288() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
   private boolean jj_3R_72() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_240()) jj_scanpos = xsp;
+    if (jj_3R_243()) jj_scanpos = xsp;
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
@@ -35376,24 +35900,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_285()) {
+    if (jj_3R_288()) {
       jj_scanpos = xsp;
-      if (jj_3R_286()) return true;
+      if (jj_3R_289()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_283() {
+  private boolean jj_3R_286() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_285() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_284() {
+  private boolean jj_3R_287() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
@@ -35403,26 +35927,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_282()) {
+    if (jj_3R_285()) {
       jj_scanpos = xsp;
-      if (jj_3R_283()) return true;
+      if (jj_3R_286()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_284()) jj_scanpos = xsp;
+    if (jj_3R_287()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_284() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
+  private boolean jj_3R_283() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
+  private boolean jj_3R_282() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
@@ -35430,16 +35954,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private boolean jj_3R_103() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_280()) jj_scanpos = xsp;
+    if (jj_3R_283()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_281()) jj_scanpos = xsp;
+    if (jj_3R_284()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
@@ -35449,215 +35973,227 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_278()) {
+    if (jj_3R_281()) {
       jj_scanpos = xsp;
-      if (jj_3R_279()) return true;
+      if (jj_3R_282()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_619() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_468() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_461() {
+  private boolean jj_3R_467() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_613()) jj_scanpos = xsp;
+    if (jj_3R_619()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
+  private boolean jj_3R_234() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_461()) {
+    if (jj_3R_467()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(222)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_462()) jj_scanpos = xsp;
+    if (jj_3R_468()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_612() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_460() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_466() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_465() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_612()) jj_scanpos = xsp;
+    if (jj_3R_618()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
+  private boolean jj_3R_233() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_459()) {
+    if (jj_3R_465()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(222)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_460()) jj_scanpos = xsp;
+    if (jj_3R_466()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_611() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_617() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_464() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_463() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_611()) jj_scanpos = xsp;
+    if (jj_3R_617()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_232() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_457()) {
+    if (jj_3R_463()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(222)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_458()) jj_scanpos = xsp;
+    if (jj_3R_464()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_616() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
+  private boolean jj_3R_461() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_610()) jj_scanpos = xsp;
+    if (jj_3R_616()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3R_231() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_455()) {
+    if (jj_3R_461()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(222)) return true;
     }
-    if (jj_3R_454()) return true;
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_1087() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_1093() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_1084() {
+  private boolean jj_3R_1090() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1087()) jj_scanpos = xsp;
+    if (jj_3R_1093()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1079() {
+  private boolean jj_3R_1085() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1084()) {
+    if (jj_3R_1090()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(222)) return true;
     }
-    if (jj_3R_454()) return true;
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_608() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_614() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
+  private boolean jj_3R_459() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_608()) jj_scanpos = xsp;
+    if (jj_3R_614()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
+  private boolean jj_3R_230() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_453()) {
+    if (jj_3R_459()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(222)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_454()) return true;
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_978() {
+  private boolean jj_3R_984() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_847() {
+  private boolean jj_3R_853() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_977() {
+  private boolean jj_3R_983() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_846() {
+  private boolean jj_3R_852() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
+  private boolean jj_3R_851() {
+    if (jj_scan_token(OPTIONAL)) return true;
+    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_983()) {
+      jj_scanpos = xsp;
+      if (jj_3R_984()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_171() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(260)) {
+    if (jj_scan_token(263)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(246)) {
+      if (jj_scan_token(249)) {
         jj_scanpos = xsp;
         if (jj_scan_token(28)) {
           jj_scanpos = xsp;
@@ -35673,7 +36209,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     jj_scanpos = xsp;
                     if (jj_scan_token(39)) {
                       jj_scanpos = xsp;
-                      if (jj_scan_token(257)) {
+                      if (jj_scan_token(260)) {
                         jj_scanpos = xsp;
                         if (jj_scan_token(45)) {
                           jj_scanpos = xsp;
@@ -35928,43 +36464,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                       xsp;
                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                      59)) {
+                                                                                                                                                                                      143)) {
                                                                                                                                                                                     jj_scanpos =
                                                                                                                                                                                         xsp;
                                                                                                                                                                                     if (jj_scan_token(
-                                                                                                                                                                                        60)) {
+                                                                                                                                                                                        144)) {
                                                                                                                                                                                       jj_scanpos =
                                                                                                                                                                                           xsp;
                                                                                                                                                                                       if (jj_scan_token(
-                                                                                                                                                                                          62)) {
+                                                                                                                                                                                          145)) {
                                                                                                                                                                                         jj_scanpos =
                                                                                                                                                                                             xsp;
                                                                                                                                                                                         if (jj_scan_token(
-                                                                                                                                                                                            63)) {
+                                                                                                                                                                                            59)) {
                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                               xsp;
                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                              143)) {
+                                                                                                                                                                                              60)) {
                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                 xsp;
                                                                                                                                                                                             if (jj_scan_token(
-                                                                                                                                                                                                144)) {
+                                                                                                                                                                                                62)) {
                                                                                                                                                                                               jj_scanpos =
                                                                                                                                                                                                   xsp;
                                                                                                                                                                                               if (jj_scan_token(
-                                                                                                                                                                                                  145)) {
+                                                                                                                                                                                                  63)) {
                                                                                                                                                                                                 jj_scanpos =
                                                                                                                                                                                                     xsp;
                                                                                                                                                                                                 if (jj_scan_token(
-                                                                                                                                                                                                    147)) {
+                                                                                                                                                                                                    146)) {
                                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                                       xsp;
                                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                                      148)) {
+                                                                                                                                                                                                      147)) {
                                                                                                                                                                                                     jj_scanpos =
                                                                                                                                                                                                         xsp;
                                                                                                                                                                                                     if (jj_scan_token(
-                                                                                                                                                                                                        149)) {
+                                                                                                                                                                                                        148)) {
                                                                                                                                                                                                       jj_scanpos =
                                                                                                                                                                                                           xsp;
                                                                                                                                                                                                       if (jj_scan_token(
@@ -35976,15 +36512,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                                               xsp;
                                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                                              153)) {
+                                                                                                                                                                                                              152)) {
                                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                                 xsp;
                                                                                                                                                                                                             if (jj_scan_token(
-                                                                                                                                                                                                                154)) {
+                                                                                                                                                                                                                153)) {
                                                                                                                                                                                                               jj_scanpos =
                                                                                                                                                                                                                   xsp;
                                                                                                                                                                                                               if (jj_scan_token(
-                                                                                                                                                                                                                  155)) {
+                                                                                                                                                                                                                  154)) {
                                                                                                                                                                                                                 jj_scanpos =
                                                                                                                                                                                                                     xsp;
                                                                                                                                                                                                                 if (jj_scan_token(
@@ -36008,24 +36544,39 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                                           jj_scanpos =
                                                                                                                                                                                                                               xsp;
                                                                                                                                                                                                                           if (jj_scan_token(
-                                                                                                                                                                                                                              163)) {
+                                                                                                                                                                                                                              161)) {
                                                                                                                                                                                                                             jj_scanpos =
                                                                                                                                                                                                                                 xsp;
                                                                                                                                                                                                                             if (jj_scan_token(
-                                                                                                                                                                                                                                161)) {
+                                                                                                                                                                                                                                162)) {
                                                                                                                                                                                                                               jj_scanpos =
                                                                                                                                                                                                                                   xsp;
                                                                                                                                                                                                                               if (jj_scan_token(
-                                                                                                                                                                                                                                  162)) {
+                                                                                                                                                                                                                                  163)) {
                                                                                                                                                                                                                                 jj_scanpos =
                                                                                                                                                                                                                                     xsp;
                                                                                                                                                                                                                                 if (jj_scan_token(
-                                                                                                                                                                                                                                    164)) {
+                                                                                                                                                                                                                                    166)) {
                                                                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                                                                       xsp;
                                                                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                                                                      261))
-                                                                                                                                                                                                                                    return true;
+                                                                                                                                                                                                                                      164)) {
+                                                                                                                                                                                                                                    jj_scanpos =
+                                                                                                                                                                                                                                        xsp;
+                                                                                                                                                                                                                                    if (jj_scan_token(
+                                                                                                                                                                                                                                        165)) {
+                                                                                                                                                                                                                                      jj_scanpos =
+                                                                                                                                                                                                                                          xsp;
+                                                                                                                                                                                                                                      if (jj_scan_token(
+                                                                                                                                                                                                                                          167)) {
+                                                                                                                                                                                                                                        jj_scanpos =
+                                                                                                                                                                                                                                            xsp;
+                                                                                                                                                                                                                                        if (jj_scan_token(
+                                                                                                                                                                                                                                            264))
+                                                                                                                                                                                                                                          return true;
+                                                                                                                                                                                                                                      }
+                                                                                                                                                                                                                                    }
+                                                                                                                                                                                                                                  }
                                                                                                                                                                                                                                 }
                                                                                                                                                                                                                               }
                                                                                                                                                                                                                             }
@@ -36140,160 +36691,148 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_845() {
-    if (jj_scan_token(OPTIONAL)) return true;
+  private boolean jj_3R_850() {
+    if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_977()) {
-      jj_scanpos = xsp;
-      if (jj_3R_978()) return true;
-    }
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_844() {
-    if (jj_scan_token(MAXDEPTH)) return true;
+  private boolean jj_3R_849() {
+    if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_72()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_483()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_604() {
+  private boolean jj_3R_610() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(187)) {
+    if (jj_scan_token(190)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(168)) return true;
+      if (jj_scan_token(171)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_843() {
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_477()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_842() {
+  private boolean jj_3R_848() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_483()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_976() {
+  private boolean jj_3R_982() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_841() {
+  private boolean jj_3R_847() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_975() {
+  private boolean jj_3R_981() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_840() {
+  private boolean jj_3R_846() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_974() {
+  private boolean jj_3_3() {
+    if (jj_3R_73()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_980() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_973() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_979() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_845() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_975()) {
+    if (jj_3R_981()) {
       jj_scanpos = xsp;
-      if (jj_3R_976()) return true;
+      if (jj_3R_982()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_844() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_973()) {
+    if (jj_3R_979()) {
       jj_scanpos = xsp;
-      if (jj_3R_974()) return true;
+      if (jj_3R_980()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_843() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_698() {
+  private boolean jj_3R_704() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_697()) return true;
+    if (jj_3R_703()) return true;
     return false;
   }
 
-  private boolean jj_3R_836() {
+  private boolean jj_3R_842() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_697() {
+  private boolean jj_3R_703() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_836()) {
+    if (jj_3R_842()) {
       jj_scanpos = xsp;
-      if (jj_3R_837()) {
+      if (jj_3R_843()) {
         jj_scanpos = xsp;
-        if (jj_3R_838()) {
+        if (jj_3R_844()) {
           jj_scanpos = xsp;
-          if (jj_3R_839()) {
+          if (jj_3R_845()) {
             jj_scanpos = xsp;
-            if (jj_3R_840()) {
+            if (jj_3R_846()) {
               jj_scanpos = xsp;
-              if (jj_3R_841()) {
+              if (jj_3R_847()) {
                 jj_scanpos = xsp;
-                if (jj_3R_842()) {
+                if (jj_3R_848()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_843()) {
+                  if (jj_3R_849()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_844()) {
+                    if (jj_3R_850()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_845()) {
+                      if (jj_3R_851()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_846()) {
+                        if (jj_3R_852()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_847()) return true;
+                          if (jj_3R_853()) return true;
                         }
                       }
                     }
@@ -36308,12 +36847,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_609() {
-    if (jj_3R_697()) return true;
+  private boolean jj_3R_615() {
+    if (jj_3R_703()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_698()) {
+      if (jj_3R_704()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36321,25 +36860,49 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_376() {
+  private boolean jj_3_154() {
+    if (jj_3R_234()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_382() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(167)) {
+    if (jj_scan_token(170)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(168)) return true;
+      if (jj_scan_token(171)) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_154() {
+  private boolean jj_3_153() {
     if (jj_3R_233()) return true;
     return false;
   }
 
+  private boolean jj_3_152() {
+    if (jj_3R_232()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_460() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_615()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1087() {
+    if (jj_3R_460()) return true;
+    return false;
+  }
+
   private boolean jj_3_2() {
     if (jj_3R_72()) return true;
     if (jj_scan_token(COLON)) return true;
@@ -36348,215 +36911,191 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_1() {
-    if (jj_scan_token(271)) return true;
+    if (jj_scan_token(274)) return true;
     if (jj_3R_72()) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3_153() {
-    if (jj_3R_232()) return true;
-    return false;
-  }
-
-  private boolean jj_3_152() {
-    if (jj_3R_231()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_454() {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_609()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_613() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_1081() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_612() {
+    if (jj_3R_233()) return true;
     return false;
   }
 
-  private boolean jj_3R_607() {
-    if (jj_3R_233()) return true;
+  private boolean jj_3R_611() {
+    if (jj_3R_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_175() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_1()) {
       jj_scanpos = xsp;
       if (jj_3_2()) {
         jj_scanpos = xsp;
-        if (jj_3R_376()) return true;
+        if (jj_3R_382()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_232()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_605() {
-    if (jj_3R_231()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_451() {
+  private boolean jj_3R_457() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_605()) {
+    if (jj_3R_611()) {
       jj_scanpos = xsp;
-      if (jj_3R_606()) {
+      if (jj_3R_612()) {
         jj_scanpos = xsp;
-        if (jj_3R_607()) return true;
+        if (jj_3R_613()) return true;
       }
     }
     return false;
   }
 
   private boolean jj_3_151() {
-    if (jj_3R_226()) return true;
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
+  private boolean jj_3R_228() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_451()) return true;
+    if (jj_3R_457()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_451()) {
+      if (jj_3R_457()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1081()) jj_scanpos = xsp;
+    if (jj_3R_1087()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1083() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_1089() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_1082() {
-    if (jj_3R_226()) return true;
+  private boolean jj_3R_1088() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
+  private boolean jj_3R_229() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_452()) return true;
+    if (jj_3R_458()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1082()) {
+      if (jj_3R_1088()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1083()) jj_scanpos = xsp;
+    if (jj_3R_1089()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1086() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_1092() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_452() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_458() {
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1086()) jj_scanpos = xsp;
+    if (jj_3R_1092()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1085() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_1091() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_1080() {
+  private boolean jj_3R_1086() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1085()) jj_scanpos = xsp;
+    if (jj_3R_1091()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_150() {
-    if (jj_3R_230()) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_462() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
   private boolean jj_3_149() {
-    if (jj_3R_229()) return true;
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_1068() {
-    if (jj_3R_1080()) return true;
+  private boolean jj_3R_1074() {
+    if (jj_3R_1086()) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_227() {
+    if (jj_3R_186()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_456()) jj_scanpos = xsp;
+    if (jj_3R_462()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1067() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3R_1073() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_1066() {
-    if (jj_3R_1079()) return true;
+  private boolean jj_3R_1072() {
+    if (jj_3R_1085()) return true;
     return false;
   }
 
-  private boolean jj_3R_1065() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3R_1071() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
   private boolean jj_3_148() {
-    if (jj_3R_228()) return true;
+    if (jj_3R_229()) return true;
     return false;
   }
 
   private boolean jj_3_147() {
-    if (jj_3R_227()) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
   private boolean jj_3_146() {
-    if (jj_3R_226()) return true;
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_1030() {
+  private boolean jj_3R_1036() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_146()) {
@@ -36565,13 +37104,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         jj_scanpos = xsp;
         if (jj_3_148()) {
           jj_scanpos = xsp;
-          if (jj_3R_1065()) {
+          if (jj_3R_1071()) {
             jj_scanpos = xsp;
-            if (jj_3R_1066()) {
+            if (jj_3R_1072()) {
               jj_scanpos = xsp;
-              if (jj_3R_1067()) {
+              if (jj_3R_1073()) {
                 jj_scanpos = xsp;
-                if (jj_3R_1068()) return true;
+                if (jj_3R_1074()) return true;
               }
             }
           }
@@ -36581,22 +37120,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1026() {
+  private boolean jj_3R_1032() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_949() {
+  private boolean jj_3R_955() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_689() {
+    if (jj_3R_460()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1030()) {
+      if (jj_3R_1036()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36604,83 +37143,83 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_948() {
-    if (jj_3R_604()) return true;
+  private boolean jj_3R_954() {
+    if (jj_3R_610()) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
+  private boolean jj_3R_953() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_946() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_952() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_811() {
+  private boolean jj_3R_817() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_946()) {
+    if (jj_3R_952()) {
       jj_scanpos = xsp;
-      if (jj_3R_947()) {
+      if (jj_3R_953()) {
         jj_scanpos = xsp;
-        if (jj_3R_948()) {
+        if (jj_3R_954()) {
           jj_scanpos = xsp;
-          if (jj_3R_949()) return true;
+          if (jj_3R_955()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_810() {
+  private boolean jj_3R_816() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_944() {
+  private boolean jj_3R_950() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
-    if (jj_3R_604()) return true;
+  private boolean jj_3R_815() {
+    if (jj_3R_610()) return true;
     return false;
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_814() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_813() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
+  private boolean jj_3R_664() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_807()) {
+    if (jj_3R_813()) {
       jj_scanpos = xsp;
-      if (jj_3R_808()) {
+      if (jj_3R_814()) {
         jj_scanpos = xsp;
-        if (jj_3R_809()) {
+        if (jj_3R_815()) {
           jj_scanpos = xsp;
-          if (jj_3R_810()) return true;
+          if (jj_3R_816()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_811()) {
+      if (jj_3R_817()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36689,73 +37228,73 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_145() {
-    if (jj_3R_186()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
+  private boolean jj_3R_241() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_658()) jj_scanpos = xsp;
+    if (jj_3R_664()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1064() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_1070() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_825() {
-    if (jj_3R_583()) return true;
+  private boolean jj_3R_831() {
+    if (jj_3R_589()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1064()) jj_scanpos = xsp;
+    if (jj_3R_1070()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_945() {
+  private boolean jj_3R_951() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1026()) jj_scanpos = xsp;
+    if (jj_3R_1032()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1025() {
+  private boolean jj_3R_1031() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_1024() {
+  private boolean jj_3R_1030() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_943() {
+  private boolean jj_3R_949() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1024()) {
+    if (jj_3R_1030()) {
       jj_scanpos = xsp;
-      if (jj_3R_1025()) return true;
+      if (jj_3R_1031()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
+  private boolean jj_3R_812() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_943()) jj_scanpos = xsp;
-    if (jj_3R_170()) return true;
+    if (jj_3R_949()) jj_scanpos = xsp;
+    if (jj_3R_171()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_944()) jj_scanpos = xsp;
+    if (jj_3R_950()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_945()) {
+      if (jj_3R_951()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36763,35 +37302,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_811() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_654() {
+  private boolean jj_3R_660() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_805()) {
+    if (jj_3R_811()) {
       jj_scanpos = xsp;
-      if (jj_3R_806()) return true;
+      if (jj_3R_812()) return true;
     }
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
-    if (jj_3R_654()) return true;
+  private boolean jj_3R_661() {
+    if (jj_3R_660()) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
+  private boolean jj_3R_545() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_654()) return true;
+    if (jj_3R_660()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_655()) {
+      if (jj_3R_661()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36799,18 +37338,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_562() {
+  private boolean jj_3R_568() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_388() {
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_562()) {
+      if (jj_3R_568()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36818,179 +37357,179 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_177() {
+  private boolean jj_3R_178() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_382()) jj_scanpos = xsp;
+    if (jj_3R_388()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
+  private boolean jj_3R_475() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_781() {
+  private boolean jj_3R_787() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
+  private boolean jj_3R_476() {
     if (jj_scan_token(WAIT)) return true;
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
+  private boolean jj_3R_642() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_780()) {
+    if (jj_3R_786()) {
       jj_scanpos = xsp;
-      if (jj_3R_781()) return true;
+      if (jj_3R_787()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_780() {
+  private boolean jj_3R_786() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
+  private boolean jj_3R_489() {
     if (jj_scan_token(TIMEOUT)) return true;
     if (jj_3R_72()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_636()) jj_scanpos = xsp;
+    if (jj_3R_642()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_625() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_618() {
+  private boolean jj_3R_624() {
     if (jj_3R_72()) return true;
     return false;
   }
-
-  private boolean jj_3R_942() {
-    if (jj_3R_175()) return true;
+
+  private boolean jj_3R_948() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_941() {
+  private boolean jj_3R_947() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
+  private boolean jj_3R_477() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_618()) {
+    if (jj_3R_624()) {
       jj_scanpos = xsp;
-      if (jj_3R_619()) return true;
+      if (jj_3R_625()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_940() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_946() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_939() {
+  private boolean jj_3R_945() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
+  private boolean jj_3R_810() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_941()) {
+    if (jj_3R_947()) {
       jj_scanpos = xsp;
-      if (jj_3R_942()) return true;
+      if (jj_3R_948()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1023() {
+  private boolean jj_3R_1029() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_803() {
+  private boolean jj_3R_809() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_939()) {
+    if (jj_3R_945()) {
       jj_scanpos = xsp;
-      if (jj_3R_940()) return true;
+      if (jj_3R_946()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_651() {
+  private boolean jj_3R_657() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_803()) {
+    if (jj_3R_809()) {
       jj_scanpos = xsp;
-      if (jj_3R_804()) return true;
+      if (jj_3R_810()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_635() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_641() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
+  private boolean jj_3R_640() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_1020() {
+  private boolean jj_3R_1026() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
+  private boolean jj_3R_488() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_634()) {
+    if (jj_3R_640()) {
       jj_scanpos = xsp;
-      if (jj_3R_635()) return true;
+      if (jj_3R_641()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_650() {
+  private boolean jj_3R_656() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_646() {
+  private boolean jj_3R_652() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
+  private boolean jj_3R_542() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_650()) {
+      if (jj_3R_656()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36998,63 +37537,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1021() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_1027() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_936() {
+  private boolean jj_3R_942() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_935() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_944() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_938() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_941() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_1022() {
+  private boolean jj_3R_1028() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_937() {
+  private boolean jj_3R_943() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1022()) {
+    if (jj_3R_1028()) {
       jj_scanpos = xsp;
-      if (jj_3R_1023()) return true;
+      if (jj_3R_1029()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_928() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_940() {
+    if (jj_3R_171()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1027()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_934() {
-    if (jj_3R_170()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1021()) jj_scanpos = xsp;
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
+  private boolean jj_3R_540() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_646()) {
+      if (jj_3R_652()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37062,238 +37601,238 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1018() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_1024() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_931() {
+  private boolean jj_3R_937() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_930() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_939() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_933() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_936() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_1019() {
+  private boolean jj_3R_1025() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_932() {
+  private boolean jj_3R_938() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1019()) {
+    if (jj_3R_1025()) {
       jj_scanpos = xsp;
-      if (jj_3R_1020()) return true;
+      if (jj_3R_1026()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_808() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_934()) {
+    if (jj_3R_940()) {
       jj_scanpos = xsp;
-      if (jj_3R_935()) {
+      if (jj_3R_941()) {
         jj_scanpos = xsp;
-        if (jj_3R_936()) return true;
+        if (jj_3R_942()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_937()) jj_scanpos = xsp;
+    if (jj_3R_943()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_938()) jj_scanpos = xsp;
+    if (jj_3R_944()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_925() {
+  private boolean jj_3R_931() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_929() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_935() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1018()) jj_scanpos = xsp;
+    if (jj_3R_1024()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_807() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_929()) {
+    if (jj_3R_935()) {
       jj_scanpos = xsp;
-      if (jj_3R_930()) {
+      if (jj_3R_936()) {
         jj_scanpos = xsp;
-        if (jj_3R_931()) return true;
+        if (jj_3R_937()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_932()) jj_scanpos = xsp;
+    if (jj_3R_938()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_933()) jj_scanpos = xsp;
+    if (jj_3R_939()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_649() {
+  private boolean jj_3R_655() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_801()) {
+    if (jj_3R_807()) {
       jj_scanpos = xsp;
-      if (jj_3R_802()) return true;
+      if (jj_3R_808()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_926() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_932() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_804() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_797() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_803() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
+  private boolean jj_3R_806() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_805() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_927()) {
+    if (jj_3R_933()) {
       jj_scanpos = xsp;
-      if (jj_3R_928()) return true;
+      if (jj_3R_934()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_927() {
+  private boolean jj_3R_933() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_802() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_926()) jj_scanpos = xsp;
+    if (jj_3R_932()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_923() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_929() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
+  private boolean jj_3R_799() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_792() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_798() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_795() {
+  private boolean jj_3R_801() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
+  private boolean jj_3R_800() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_924()) {
+    if (jj_3R_930()) {
       jj_scanpos = xsp;
-      if (jj_3R_925()) return true;
+      if (jj_3R_931()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_924() {
+  private boolean jj_3R_930() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
+  private boolean jj_3R_654() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_796()) {
+    if (jj_3R_802()) {
       jj_scanpos = xsp;
-      if (jj_3R_797()) {
+      if (jj_3R_803()) {
         jj_scanpos = xsp;
-        if (jj_3R_798()) return true;
+        if (jj_3R_804()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_799()) jj_scanpos = xsp;
+    if (jj_3R_805()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_800()) jj_scanpos = xsp;
+    if (jj_3R_806()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_797() {
+    if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_923()) jj_scanpos = xsp;
+    if (jj_3R_929()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_647() {
+  private boolean jj_3R_653() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_791()) {
+    if (jj_3R_797()) {
       jj_scanpos = xsp;
-      if (jj_3R_792()) {
+      if (jj_3R_798()) {
         jj_scanpos = xsp;
-        if (jj_3R_793()) return true;
+        if (jj_3R_799()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_794()) jj_scanpos = xsp;
+    if (jj_3R_800()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_795()) jj_scanpos = xsp;
+    if (jj_3R_801()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_535() {
+  private boolean jj_3R_541() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_647()) {
+    if (jj_3R_653()) {
       jj_scanpos = xsp;
-      if (jj_3R_648()) return true;
+      if (jj_3R_654()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_649()) {
+      if (jj_3R_655()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37302,137 +37841,137 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   }
 
   private boolean jj_3_144() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_453() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
+  private boolean jj_3R_452() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
-    if (jj_3R_604()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_610()) return true;
     return false;
   }
 
-  private boolean jj_3R_444() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_450() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_143() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_221() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_444()) {
+    if (jj_3R_450()) {
       jj_scanpos = xsp;
-      if (jj_3R_445()) {
+      if (jj_3R_451()) {
         jj_scanpos = xsp;
-        if (jj_3R_446()) {
+        if (jj_3R_452()) {
           jj_scanpos = xsp;
-          if (jj_3R_447()) return true;
+          if (jj_3R_453()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_449() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_220() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_142() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_141() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_448() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_219() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_142()) {
       jj_scanpos = xsp;
-      if (jj_3R_443()) return true;
+      if (jj_3R_449()) return true;
     }
     return false;
   }
 
   private boolean jj_3_140() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_137() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_218() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_140()) {
       jj_scanpos = xsp;
-      if (jj_3R_442()) return true;
+      if (jj_3R_448()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_437() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3R_443() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_3R_370()) return true;
+  private boolean jj_3R_226() {
+    if (jj_3R_376()) return true;
     return false;
   }
 
   private boolean jj_3_139() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_175()) return true;
+    if (jj_3R_176()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_225() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
@@ -37440,54 +37979,54 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) {
+    if (jj_3R_225()) {
       jj_scanpos = xsp;
-      if (jj_3R_225()) return true;
+      if (jj_3R_226()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_134() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_213() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_435()) return true;
+    if (jj_3R_441()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_138()) {
       jj_scanpos = xsp;
       if (jj_3_139()) {
         jj_scanpos = xsp;
-        if (jj_3R_437()) return true;
+        if (jj_3R_443()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_3R_370()) return true;
+  private boolean jj_3R_224() {
+    if (jj_3R_376()) return true;
     return false;
   }
 
   private boolean jj_3_136() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_175()) return true;
+    if (jj_3R_176()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_436() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3R_442() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_223() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
@@ -37495,119 +38034,146 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_222()) {
+    if (jj_3R_223()) {
       jj_scanpos = xsp;
-      if (jj_3R_223()) return true;
+      if (jj_3R_224()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_133() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_160()) return true;
-    if (jj_3R_435()) return true;
+  private boolean jj_3R_212() {
+    if (jj_3R_161()) return true;
+    if (jj_3R_441()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_135()) {
       jj_scanpos = xsp;
       if (jj_3_136()) {
         jj_scanpos = xsp;
-        if (jj_3R_436()) return true;
+        if (jj_3R_442()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_435() {
+  private boolean jj_3R_441() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_445() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_132() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_132()) {
       jj_scanpos = xsp;
-      if (jj_3R_439()) return true;
+      if (jj_3R_445()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_210() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_211() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
+  private boolean jj_3R_456() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_449() {
-    if (jj_3R_604()) return true;
+  private boolean jj_3R_455() {
+    if (jj_3R_610()) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_454() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_215() {
+    if (jj_3R_161()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
   private boolean jj_3_131() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_222() {
+    if (jj_3R_161()) return true;
+    if (jj_scan_token(INSTANCEOF)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_454()) {
+      jj_scanpos = xsp;
+      if (jj_3R_455()) {
+        jj_scanpos = xsp;
+        if (jj_3R_456()) return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_447() {
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3_130() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_184()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
@@ -37622,7 +38188,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  private final int[] jj_la1 = new int[458];
+  private final int[] jj_la1 = new int[460];
   private static int[] jj_la1_0;
   private static int[] jj_la1_1;
   private static int[] jj_la1_2;
@@ -37990,6 +38556,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x0,
           0xfc400000,
           0x0,
           0x0,
@@ -38021,6 +38588,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xfc400000,
+          0xfc400000,
           0x0,
           0xfc400000,
           0x0,
@@ -38454,6 +39022,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x0,
           0xd8802183,
           0x0,
           0x0,
@@ -38485,6 +39054,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xd8802183,
+          0xd8802183,
           0x0,
           0xd8802183,
           0x0,
@@ -38918,6 +39488,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x1,
+          0x0,
           0xff7ffce0,
           0x0,
           0x0,
@@ -38949,6 +39520,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xff7ffce0,
+          0xff7ffce0,
           0x0,
           0xff7ffce0,
           0x0,
@@ -39054,9 +39626,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8000,
-          0x1840000,
-          0x400000,
+          0x18000,
+          0xc200000,
+          0x2000000,
           0x0,
           0x0,
           0x0,
@@ -39067,7 +39639,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x10000000,
+          0x80000000,
           0x0,
           0x0,
           0x0,
@@ -39083,7 +39655,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x10000000,
+          0x80000000,
           0x0,
           0x0,
           0x0,
@@ -39141,7 +39713,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0xffffffff,
           0x0,
           0x0,
-          0x10000000,
+          0x80000000,
           0x0,
           0x0,
           0x0,
@@ -39151,7 +39723,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0xffffffff,
           0x0,
           0x0,
-          0x10000000,
+          0x80000000,
           0x0,
           0x0,
           0x0,
@@ -39382,6 +39954,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x0,
           0xffffffff,
           0x0,
           0x400,
@@ -39410,22 +39983,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x10000,
+          0x80000,
           0x0,
           0xffffffff,
+          0xffffffff,
           0x0,
           0xffffffff,
           0x0,
           0xffffffff,
           0xffffffff,
-          0x200000,
-          0x1e000000,
-          0x1e000000,
-          0x1e000000,
+          0x1000000,
+          0xf0000000,
+          0xf0000000,
+          0xf0000000,
+          0x0,
+          0x0,
           0x0,
-          0x40000000,
           0x0,
-          0x80000000,
           0x0,
           0xffffffff,
           0x0,
@@ -39443,7 +40017,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1c48100,
+          0xe218100,
           0x0,
           0x0,
           0x0,
@@ -39473,16 +40047,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xffffffff,
           0x0,
-          0x6000000,
+          0x30000000,
           0x0,
-          0x6000000,
+          0x30000000,
           0x0,
-          0x6000000,
+          0x30000000,
           0x0,
-          0x6000000,
-          0x6000000,
+          0x30000000,
+          0x30000000,
           0x0,
-          0x6000000,
+          0x30000000,
           0x0,
           0x0,
           0xffffffff,
@@ -39507,19 +40081,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xffffffff,
-          0x1000010,
+          0x8000080,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
-          0x2000000,
+          0x10000000,
           0x0,
-          0x61e,
+          0x30f0,
           0x0,
           0x0,
           0x0,
@@ -39531,11 +40105,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x3000,
+          0x18000,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
           0x0,
@@ -39547,12 +40121,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x3000,
+          0x18000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
           0x0,
@@ -39584,7 +40158,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
@@ -39595,27 +40169,27 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
-          0x3000,
+          0x18000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x20000,
-          0xfeffffff,
+          0x100000,
+          0xf7ffffff,
           0x0,
           0x0,
-          0x3000,
+          0x18000,
           0x0,
           0x0,
           0x0,
@@ -39631,7 +40205,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
@@ -39652,34 +40226,34 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0x40000,
+          0x200000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
           0x0,
@@ -39690,9 +40264,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
           0x0,
@@ -39702,10 +40276,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
@@ -39713,41 +40287,41 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
@@ -39758,18 +40332,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
-          0xfefbffff,
+          0xf7ffffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
@@ -39780,151 +40354,153 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xc010000,
-          0xfefbffff,
+          0x60080000,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xc010000,
-          0xfefbffff,
+          0x60080000,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
-          0x10,
+          0x80,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x10,
+          0x80,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0x10,
+          0xf7dfffff,
+          0x80,
           0x0,
-          0x10,
-          0xfefbffff,
+          0x80,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
-          0x10,
           0x0,
-          0x10,
-          0xfefbffff,
+          0xf7dfffff,
+          0x80,
+          0x0,
+          0x80,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0x10,
-          0x800,
-          0x10,
+          0xf7dfffff,
+          0xf7dfffff,
+          0xf7dfffff,
+          0xf7dfffff,
+          0x80,
+          0x4000,
+          0x80,
           0x0,
           0x0,
-          0xfefbffff,
-          0x10,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
+          0x80,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2,
           0x0,
+          0x4,
+          0x8,
+          0xf7dfffff,
           0x0,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
-          0x1,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x100,
-          0x208061e,
-          0xc0,
+          0x800,
+          0x104030f0,
+          0x600,
           0x0,
-          0xc0,
-          0xc0,
-          0x20,
+          0x600,
+          0x600,
+          0x100,
           0x0,
-          0xfeffffff,
+          0xf7ffffff,
           0xffffffff,
-          0x1000010,
-          0x10,
-          0x8000,
+          0x8000080,
+          0x80,
+          0x40000,
           0x0,
-          0x8000,
-          0x8000,
+          0x40000,
+          0x40000,
           0x0,
-          0x8000,
-          0x10,
+          0x40000,
+          0x80,
           0x0,
           0x0,
           0x0,
@@ -39932,10 +40508,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xffffffff,
-          0x1000010,
+          0x8000080,
           0xffffffff,
-          0x1000010,
-          0xfefbffff,
+          0x8000080,
+          0xf7dfffff,
           0x0,
           0x0,
           0x0,
@@ -39949,137 +40525,36 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
-          0xfefbffff,
-          0x10,
+          0xf7dfffff,
+          0xf7dfffff,
           0x0,
-          0x80000000,
+          0xf7dfffff,
+          0x80,
           0x0,
-          0xfefbffff,
-          0x10,
+          0x0,
+          0x0,
+          0xf7dfffff,
+          0x80,
         };
   }
 
   private static void jj_la1_init_5() {
     jj_la1_5 =
         new int[] {
-          0x180,
-          0x0,
-          0xcc22017f,
-          0x0,
-          0x8000100,
-          0x1f,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xcc22017f,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xcc22017f,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x7f,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x20000,
-          0x20000,
-          0x0,
-          0x1f,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x1f,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xcc22017f,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
+          0xc00,
           0x0,
+          0x61100bff,
           0x0,
+          0x40000800,
+          0xff,
           0x0,
-          0xcc22017f,
           0x0,
           0x0,
           0x0,
+          0x61100bff,
           0x0,
           0x0,
           0x0,
@@ -40095,12 +40570,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x61100bff,
           0x0,
           0x0,
           0x0,
@@ -40116,14 +40591,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x3ff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
@@ -40133,107 +40607,77 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x30020000,
-          0x1f,
           0x0,
-          0xcc22017f,
           0x0,
-          0xcc22017f,
-          0x20,
           0x0,
           0x0,
           0x0,
-          0xc0000000,
           0x0,
           0x0,
-          0xc0000000,
           0x0,
           0x0,
-          0xcc22017f,
-          0xc000100,
-          0xc22017f,
           0x0,
+          0x100000,
+          0x100000,
           0x0,
+          0xff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x20000,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
+          0xff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
-          0xc0000000,
           0x0,
+          0x61100bff,
           0x0,
           0x0,
           0x0,
-          0xc00011f,
           0x0,
-          0xc22017f,
           0x0,
-          0xc22017f,
-          0xc000100,
           0x0,
-          0x2005f,
           0x0,
           0x0,
           0x0,
+          0x61100bff,
           0x0,
-          0x2005f,
           0x0,
           0x0,
           0x0,
-          0x2005f,
           0x0,
           0x0,
-          0x2005f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x2005f,
           0x0,
           0x0,
           0x0,
-          0x2005f,
           0x0,
           0x0,
-          0x20000,
-          0x20000,
-          0x20000,
           0x0,
-          0x20000,
           0x0,
           0x0,
+          0xff,
           0x0,
-          0xcc22017f,
-          0x1f,
-          0x20000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1f,
-          0xc00015f,
           0x0,
-          0xc00015f,
-          0xc00015f,
           0x0,
           0x0,
           0x0,
@@ -40244,262 +40688,262 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1,
-          0x2001f,
           0x0,
-          0xc0000000,
-          0x1,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
-          0x1f,
+          0xff,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
+          0xff,
           0x0,
           0x0,
           0x0,
-          0x2001f,
           0x0,
           0x0,
-          0x20000,
-          0x20000,
-          0x20000,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
+          0x61100bff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x80100000,
+          0xff,
           0x0,
+          0x61100bff,
           0x0,
+          0x61100bff,
+          0x100,
           0x0,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
           0x0,
-          0x1f,
-          0xc0000000,
-          0x2001f,
-          0x2001f,
-          0xc0000000,
-          0x800011f,
-          0x1f,
-          0x1f,
-          0x2001f,
-          0x8,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x61100bff,
+          0x60000800,
+          0x61100bff,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
-          0x5f,
           0x0,
+          0x100000,
           0x0,
           0x0,
+          0xff,
           0x0,
-          0x5f,
           0x0,
+          0xff,
           0x0,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
-          0x1f,
-          0x1f,
-          0x1f,
           0x0,
+          0x61100bff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x2001f,
           0x0,
-          0x1f,
+          0x600008ff,
           0x0,
-          0x5f,
-          0x5f,
+          0x61100bff,
           0x0,
+          0x61100bff,
+          0x60000800,
           0x0,
-          0x4,
-          0x4,
+          0x1002ff,
           0x0,
           0x0,
-          0xc0000000,
           0x0,
           0x0,
-          0x800011f,
+          0x1002ff,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
-          0x1f,
-          0x800011f,
           0x0,
-          0x1f,
-          0x1f,
+          0x1002ff,
           0x0,
           0x0,
+          0x1002ff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x1002ff,
           0x0,
           0x0,
           0x0,
+          0x1002ff,
           0x0,
           0x0,
+          0x100000,
+          0x100000,
+          0x100000,
           0x0,
+          0x100000,
           0x0,
-          0xcc22017f,
-          0xcc22017f,
           0x0,
           0x0,
+          0x61100bff,
+          0xff,
+          0x100000,
           0x0,
-          0xc0000000,
           0x0,
           0x0,
-          0xc0000000,
           0x0,
+          0xff,
+          0x60000aff,
           0x0,
+          0x60000aff,
+          0x60000aff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
-          0xcc22017f,
           0x0,
-          0x1f,
           0x0,
           0x0,
+          0x8,
+          0x1000ff,
           0x0,
           0x0,
+          0x8,
+          0xff,
           0x0,
+          0xff,
           0x0,
+          0xff,
           0x0,
+          0xff,
           0x0,
           0x0,
+          0xff,
           0x0,
           0x0,
+          0xff,
           0x0,
           0x0,
-          0x1f,
-          0x800011f,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
+          0x1000ff,
           0x0,
           0x0,
+          0x100000,
+          0x100000,
+          0x100000,
+          0xff,
           0x0,
-          0x1f,
+          0xff,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_6() {
-    jj_la1_6 =
-        new int[] {
           0x0,
-          0x4,
-          0x600c0055,
-          0x40,
           0x0,
           0x0,
-          0x20000000,
-          0x20000000,
           0x0,
-          0x40,
-          0x600c0015,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xff,
           0x0,
           0x0,
+          0xff,
           0x0,
+          0xff,
           0x0,
+          0x1000ff,
+          0x1000ff,
           0x0,
+          0x400008ff,
+          0xff,
+          0xff,
+          0x1000ff,
+          0x40,
           0x0,
+          0xff,
           0x0,
           0x0,
           0x0,
+          0xff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xff,
           0x0,
           0x0,
-          0x600d0015,
           0x0,
+          0x2ff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2ff,
           0x0,
           0x0,
           0x0,
+          0xff,
+          0xff,
           0x0,
           0x0,
+          0xff,
+          0xff,
           0x0,
           0x0,
+          0xff,
+          0xff,
+          0xff,
+          0xff,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x40000010,
           0x0,
           0x0,
+          0xff,
+          0x1000ff,
           0x0,
+          0xff,
           0x0,
+          0x2ff,
+          0x2ff,
           0x0,
-          0x80,
-          0x4,
-          0x80000,
-          0x80000,
           0x0,
-          0x80,
-          0x80000,
+          0x20,
+          0x20,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x400008ff,
           0x0,
+          0xff,
+          0xff,
+          0x1,
+          0xff,
+          0x400008ff,
           0x0,
+          0xff,
+          0xff,
+          0x1,
           0x0,
           0x0,
           0x0,
@@ -40508,13 +40952,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x20000004,
-          0x20000014,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x61100bff,
+          0x61100bff,
           0x0,
           0x0,
           0x0,
@@ -40530,9 +40973,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x600d0015,
+          0x61100bff,
           0x0,
+          0x61100bff,
           0x0,
+          0xff,
           0x0,
           0x0,
           0x0,
@@ -40540,39 +40985,42 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x600d0015,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x80,
+          0xff,
+          0x400008ff,
           0x0,
+          0xff,
+          0xff,
+          0x1,
+          0xff,
           0x0,
-          0x80,
-          0x80,
           0x0,
-          0x110,
-          0x1000,
-          0x110,
-          0x1000,
+          0x4,
           0x0,
+          0xff,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_6() {
+    jj_la1_6 =
+        new int[] {
           0x0,
+          0x20,
+          0x6002ae,
+          0x200,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1,
           0x0,
-          0x80,
-          0x80,
-          0x80,
-          0x80,
-          0x80,
-          0xc0004,
+          0x200,
+          0x6000ae,
           0x0,
           0x0,
           0x0,
@@ -40582,376 +41030,356 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1,
           0x0,
           0x0,
           0x0,
-          0xc0000,
           0x0,
-          0x80,
-          0x80,
           0x0,
-          0x10000,
-          0x80000,
           0x0,
-          0x80,
-          0x10000,
-          0x40000000,
-          0x600d0015,
-          0x80000,
           0x0,
-          0x80,
           0x0,
-          0xc0000,
           0x0,
-          0x80,
-          0x600c0015,
-          0x80,
-          0x600c0015,
           0x0,
-          0x40000000,
-          0x10,
-          0x100,
           0x0,
-          0x4,
-          0x1000000,
+          0x6800ae,
           0x0,
-          0x4,
-          0xf0000000,
-          0x600c0015,
           0x0,
-          0x600c0010,
-          0x80,
-          0x1,
-          0x80,
-          0xc0000,
-          0x80080,
-          0x80080,
-          0x20000004,
-          0x10,
-          0xc0001,
           0x0,
           0x0,
-          0x80,
           0x0,
           0x0,
-          0x20000100,
-          0x20000100,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x600c0015,
           0x0,
-          0x2f0f000,
-          0x3000,
           0x0,
-          0x2f0f000,
           0x0,
           0x0,
-          0x600c0011,
           0x0,
-          0x600c0011,
-          0xc0000,
-          0x110,
-          0x20000004,
+          0x400,
+          0x80,
           0x0,
           0x0,
           0x0,
-          0x110,
-          0x20000004,
           0x0,
           0x0,
+          0x400,
+          0x20,
+          0x400000,
+          0x400000,
           0x0,
-          0x20000005,
-          0x80,
-          0x110,
-          0x20000004,
+          0x400,
+          0x400000,
           0x0,
           0x0,
           0x0,
-          0x110,
-          0x20000004,
           0x0,
           0x0,
           0x0,
-          0x20000005,
-          0x80,
-          0x80,
-          0x200c0000,
-          0x200c0000,
-          0x200c0000,
           0x0,
-          0x200c0000,
           0x0,
           0x0,
-          0x80,
-          0x600c0015,
-          0x40000010,
-          0x60000000,
-          0x10,
-          0x40000000,
-          0x100,
-          0x40000000,
-          0x40000010,
           0x0,
-          0x80,
           0x0,
           0x0,
-          0x28004100,
-          0x4000,
-          0x100,
-          0x4,
-          0x4,
-          0x4,
-          0x4,
-          0x28004000,
-          0x4,
-          0x80,
           0x0,
-          0x20000000,
           0x0,
           0x0,
+          0x400,
+          0x20,
+          0xa0,
           0x0,
           0x0,
-          0x28000000,
           0x0,
-          0x28000000,
           0x0,
-          0x28000000,
           0x0,
-          0x28000000,
-          0x4,
           0x0,
-          0x28000000,
-          0x4,
           0x0,
-          0x28000000,
-          0x4,
           0x0,
           0x0,
           0x0,
-          0x20000000,
           0x0,
-          0x80,
-          0x20000004,
-          0x20000014,
-          0x20000005,
           0x0,
-          0x80,
           0x0,
-          0x10,
           0x0,
-          0x80,
           0x0,
-          0x80,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x6800ae,
           0x0,
           0x0,
-          0x30000000,
-          0x30000000,
           0x0,
-          0x80,
           0x0,
           0x0,
-          0x20000000,
-          0x20000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x20000000,
+          0x6800ae,
           0x0,
           0x0,
-          0xc0000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x1,
+          0x400,
+          0x400,
           0x0,
           0x0,
+          0x400,
+          0x400,
           0x0,
+          0x880,
+          0x8000,
+          0x880,
+          0x8000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
           0x0,
+          0x8,
           0x0,
+          0x400,
+          0x400,
+          0x400,
+          0x400,
+          0x400,
+          0x600020,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
           0x0,
           0x0,
           0x0,
-          0x80,
           0x0,
           0x0,
+          0x8,
           0x0,
-          0x40000000,
-          0x40000000,
           0x0,
           0x0,
+          0x600000,
           0x0,
+          0x400,
+          0x400,
           0x0,
-          0x40000000,
-          0x20000000,
+          0x80000,
+          0x400000,
           0x0,
+          0x400,
+          0x80000,
           0x0,
-          0x20000000,
+          0x6800ae,
+          0x400000,
           0x0,
+          0x400,
           0x0,
+          0x600001,
           0x0,
+          0x400,
+          0x6000ae,
+          0x400,
+          0x6000ae,
           0x0,
           0x0,
+          0x80,
+          0x800,
+          0x6,
+          0x20,
+          0x8000000,
+          0x6,
+          0x20,
+          0x80000000,
+          0x6000ae,
           0x0,
+          0x600080,
+          0x400,
+          0x8,
+          0x400,
+          0x600000,
+          0x400400,
+          0x400400,
+          0x20,
           0x80,
+          0x600008,
           0x0,
           0x0,
+          0x400,
           0x0,
           0x0,
-          0xc0000,
-          0x80,
+          0x800,
+          0x800,
           0x0,
-          0x10,
           0x0,
-          0xc0000,
-          0xc0000,
-          0x80,
           0x0,
-          0x10,
           0x0,
+          0x6000ae,
+          0x6,
+          0x17878000,
+          0x18000,
           0x0,
+          0x17878000,
           0x0,
           0x0,
+          0x600088,
           0x0,
+          0x600088,
+          0x600000,
+          0x880,
+          0x20,
           0x0,
           0x0,
           0x0,
+          0x880,
+          0x20,
           0x0,
           0x0,
-          0x4,
           0x0,
+          0x28,
+          0x400,
+          0x880,
+          0x20,
           0x0,
-          0x600c0015,
-          0x600c0055,
-          0x40,
           0x0,
           0x0,
+          0x880,
+          0x20,
           0x0,
           0x0,
           0x0,
+          0x28,
+          0x400,
+          0x400,
+          0x600000,
+          0x600000,
+          0x600000,
           0x0,
+          0x600000,
           0x0,
           0x0,
+          0x400,
+          0x6000ae,
+          0x80,
           0x0,
+          0x80,
           0x0,
+          0x800,
           0x0,
+          0x80,
           0x0,
+          0x400,
           0x0,
           0x0,
-          0x600c0055,
-          0x40,
-          0x600c0055,
-          0x40,
-          0x40000000,
-          0x100,
+          0x40020800,
+          0x20000,
+          0x800,
+          0x20,
+          0x20,
+          0x20,
+          0x20,
+          0x40020000,
+          0x20,
+          0x400,
           0x0,
-          0x80,
           0x0,
           0x0,
+          0x6,
           0x0,
-          0x80,
           0x0,
+          0x40000000,
           0x0,
-          0x80,
+          0x40000000,
           0x0,
+          0x40000000,
           0x0,
+          0x40000000,
+          0x20,
           0x0,
-          0xc0000,
-          0xc0000,
-          0x80,
+          0x40000000,
+          0x20,
           0x0,
-          0x10,
+          0x40000000,
+          0x20,
           0x0,
-          0xc0000,
           0x0,
-          0x80,
           0x0,
-          0x4,
-          0xc0000,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_7() {
-    jj_la1_7 =
-        new int[] {
           0x0,
+          0x400,
+          0x20,
+          0xa0,
+          0x28,
           0x0,
-          0x400000,
+          0x400,
           0x0,
+          0x80,
           0x0,
-          0x400000,
+          0x400,
           0x0,
+          0x400,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
+          0x80000000,
+          0x80000000,
           0x0,
+          0x400,
           0x0,
+          0x6,
           0x0,
           0x0,
+          0x6,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x600000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x400,
+          0x8,
           0x0,
+          0x6,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x400,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x400,
           0x0,
           0x0,
           0x0,
+          0x400,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
@@ -40966,64 +41394,100 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x400,
           0x0,
+          0x6,
           0x0,
           0x0,
+          0x600000,
+          0x400,
           0x0,
+          0x80,
           0x0,
+          0x600000,
+          0x600000,
+          0x400,
           0x0,
+          0x80,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x20,
           0x0,
           0x0,
+          0x6000ae,
+          0x6002ae,
+          0x200,
           0x0,
           0x0,
-          0x400000,
+          0x6,
           0x0,
           0x0,
+          0x6,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x6002ae,
+          0x200,
+          0x6002ae,
+          0x200,
           0x0,
+          0x800,
           0x0,
+          0x400,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x400,
           0x0,
           0x0,
+          0x400,
           0x0,
           0x0,
           0x0,
+          0x600000,
+          0x600000,
+          0x400,
           0x0,
+          0x80,
           0x0,
+          0x600000,
           0x0,
+          0x400,
           0x0,
+          0x20,
+          0x600000,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_7() {
+    jj_la1_7 =
+        new int[] {
           0x0,
           0x0,
+          0x2000003,
           0x0,
           0x0,
-          0x3c0,
+          0x2000000,
+          0x1,
+          0x1,
           0x0,
           0x0,
+          0x2000003,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41043,15 +41507,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x2000003,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41061,17 +41524,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x2000002,
           0x0,
           0x0,
           0x0,
-          0x180000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
+          0x1000000,
           0x0,
           0x0,
           0x0,
@@ -41081,10 +41541,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x6003f,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41094,52 +41551,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
+          0x1,
+          0x1,
           0x0,
+          0x2000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x600000,
           0x0,
-          0x20800000,
           0x0,
-          0x200000,
-          0x20e00000,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
+          0x2000000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x2000003,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x2000003,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41150,18 +41598,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
+          0x1e00,
           0x0,
           0x0,
           0x0,
+          0x2000000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41173,186 +41617,324 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
+          0x2000000,
           0x0,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
+          0x2000000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
+          0x2,
+          0x2000003,
           0x0,
           0x0,
           0x0,
+          0xc00000,
           0x0,
+          0x2000000,
           0x0,
+          0x2000003,
           0x0,
+          0x2000003,
           0x0,
+          0x2,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
+          0x3001ff,
+          0x2000003,
           0x0,
-          0x400000,
-          0x400000,
-          0x400000,
-          0x400000,
+          0x2000003,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
+          0x1,
           0x0,
           0x0,
-          0x400000,
+          0x2000000,
           0x0,
           0x0,
+          0x2000000,
           0x0,
-          0x400000,
+          0x1,
+          0x1,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x3000003,
           0x0,
+          0x4000000,
           0x0,
+          0x1000000,
+          0x7000000,
+          0x2000000,
           0x0,
-          0x400000,
-          0x400000,
+          0x2000003,
           0x0,
+          0x2000003,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
+          0x2000001,
           0x0,
-          0x400000,
-          0x400000,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
           0x0,
+          0x2000001,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
+          0x2000001,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
+          0x2000001,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000001,
           0x0,
           0x0,
           0x0,
+          0x2000001,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
+          0x1,
+          0x1,
+          0x1,
           0x0,
-          0x400000,
-          0x400000,
+          0x1,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
+          0x2000003,
+          0x2000002,
+          0x3,
           0x0,
+          0x2,
           0x0,
+          0x2,
+          0x2000002,
+          0x2000000,
           0x0,
+          0x2000000,
+          0x2000000,
+          0x1,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x1,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
+          0x2000001,
           0x0,
           0x0,
           0x0,
+          0x2000000,
+          0x1,
+          0x2000000,
+          0x1,
+          0x2000000,
+          0x1,
+          0x2000000,
+          0x1,
           0x0,
+          0x2000000,
+          0x1,
           0x0,
+          0x2000000,
+          0x1,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000001,
           0x0,
           0x0,
+          0x1,
+          0x1,
+          0x1,
+          0x2000000,
           0x0,
+          0x2000000,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x7cc00000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000000,
+          0x1,
+          0x1,
+          0x2000000,
           0x0,
+          0x2000000,
           0x0,
+          0x2000001,
+          0x2000001,
           0x0,
+          0x2000000,
+          0x2000000,
+          0x2000000,
+          0x2000001,
           0x0,
           0x0,
+          0x2000000,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
+          0x2000000,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
+          0x2000000,
+          0x0,
+          0x0,
+          0x0,
+          0x2000000,
           0x0,
-          0x400000,
+          0x0,
+          0x0,
+          0x0,
+          0x2000000,
+          0x0,
+          0x0,
+          0x0,
+          0x2000000,
+          0x2000000,
+          0x0,
+          0x0,
+          0x2000000,
+          0x2000000,
+          0x0,
+          0x0,
+          0x2000000,
+          0x2000000,
+          0x2000002,
+          0x2000002,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x2,
+          0x2000000,
+          0x2000001,
+          0x0,
+          0x2000000,
+          0x1,
+          0x2000000,
+          0x2000000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x2000000,
+          0x0,
+          0x2000000,
+          0x2000000,
+          0x0,
+          0x2000000,
+          0x2000000,
+          0x0,
+          0x2000000,
+          0x2000000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x2000003,
+          0x2000003,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x2000003,
+          0x0,
+          0x2000003,
+          0x0,
+          0xe6000002,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x2000000,
+          0x2000000,
+          0x0,
+          0x2000000,
+          0x2000000,
+          0x0,
+          0x2000000,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x2000000,
           0x0,
         };
   }
@@ -41362,15 +41944,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
           0x0,
           0x0,
@@ -41391,7 +41973,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
           0x0,
           0x0,
@@ -41408,7 +41990,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
           0x0,
@@ -41437,10 +42019,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8000,
-          0x8000,
+          0x40000,
+          0x40000,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
           0x0,
@@ -41451,14 +42033,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
           0x0,
           0x0,
@@ -41468,7 +42050,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
           0x0,
           0x0,
@@ -41486,8 +42068,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8,
-          0xc32,
+          0x40,
+          0x6190,
           0x0,
           0x0,
           0x0,
@@ -41502,20 +42084,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8,
+          0x40,
           0x0,
-          0xc00,
+          0x6000,
           0x0,
           0x0,
-          0x8,
-          0x32,
+          0x40,
+          0x190,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
           0x0,
@@ -41525,17 +42107,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
           0x0,
           0x0,
@@ -41546,64 +42128,66 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x40000,
+          0x6040,
           0x8000,
-          0xc08,
-          0x1000,
-          0x32,
-          0xc00,
+          0x190,
+          0x6000,
           0x0,
-          0x32,
-          0x10000,
+          0x190,
+          0x80000,
           0x0,
           0x0,
-          0x380,
-          0x3c0,
+          0x1c00,
+          0x1e00,
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
+          0x1,
           0x0,
           0x0,
+          0x1,
+          0x190,
           0x0,
+          0x190,
           0x0,
-          0x32,
+          0x190,
           0x0,
-          0x32,
           0x0,
-          0x32,
+          0x40190,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
+          0x40190,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x40190,
           0x0,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
+          0x40190,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x40190,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
           0x0,
@@ -41612,20 +42196,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x40190,
+          0x190,
           0x0,
           0x0,
-          0x8032,
-          0x32,
           0x0,
           0x0,
           0x0,
+          0x190,
+          0x190,
           0x0,
+          0x190,
+          0x190,
           0x0,
-          0x32,
-          0x32,
           0x0,
-          0x32,
-          0x32,
           0x0,
           0x0,
           0x0,
@@ -41634,110 +42218,110 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x6040,
+          0x190,
+          0x6000,
           0x0,
+          0x6040,
+          0x190,
           0x0,
-          0xc08,
-          0x32,
-          0xc00,
+          0x190,
           0x0,
-          0xc08,
-          0x32,
+          0x190,
           0x0,
-          0x32,
+          0x190,
           0x0,
-          0x32,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
+          0x190,
           0x0,
           0x0,
-          0x32,
+          0x40000,
+          0x40000,
+          0x40000,
+          0x6190,
           0x0,
+          0x6190,
           0x0,
-          0x8000,
-          0x8000,
-          0x8000,
-          0xc32,
-          0x0,
-          0xc32,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x40,
           0x0,
-          0x8,
           0x0,
           0x0,
           0x0,
+          0x190,
           0x0,
-          0x32,
           0x0,
+          0x190,
           0x0,
-          0x32,
+          0x190,
           0x0,
-          0x32,
+          0x190,
+          0x190,
           0x0,
-          0x32,
-          0x32,
+          0x100190,
+          0x190,
+          0x190,
+          0x190,
           0x0,
-          0x20032,
-          0x32,
-          0x32,
-          0x32,
           0x0,
+          0x190,
           0x0,
-          0x32,
           0x0,
           0x0,
+          0x190,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x2,
+          0x190,
+          0x10,
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x2,
+          0x190,
+          0x10,
           0x0,
           0x0,
-          0x32,
-          0x32,
+          0x190,
+          0x190,
           0x0,
           0x0,
-          0x32,
-          0x32,
+          0x190,
+          0x190,
           0x0,
           0x0,
-          0x32,
-          0x32,
-          0x10032,
-          0x10032,
+          0x190,
+          0x190,
+          0x80190,
+          0x80190,
           0x0,
-          0x8,
+          0x40,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x190,
+          0x190,
           0x0,
-          0x32,
+          0x190,
           0x0,
-          0x32,
-          0x32,
+          0x190,
+          0x190,
           0x0,
           0x0,
           0x0,
@@ -41747,16 +42331,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
-          0x32,
-          0x32,
+          0x190,
+          0x190,
           0x0,
-          0x32,
-          0x32,
+          0x190,
+          0x190,
           0x0,
-          0x32,
-          0x32,
+          0x190,
+          0x190,
           0x0,
           0x0,
           0x0,
@@ -41770,8 +42354,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
-          0x8032,
+          0x40190,
+          0x40190,
           0x0,
           0x0,
           0x0,
@@ -41781,17 +42365,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1fc0000,
-          0x1fc0000,
-          0x6000000,
-          0x6000000,
-          0x18000000,
-          0x18000000,
-          0x8032,
+          0xfe00000,
+          0xfe00000,
+          0x30000000,
+          0x30000000,
+          0xc0000000,
+          0xc0000000,
+          0x40190,
           0x0,
-          0x8032,
+          0x40190,
           0x0,
-          0x3a,
+          0x1d3,
           0x0,
           0x0,
           0x0,
@@ -41805,23 +42389,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x32,
+          0x190,
+          0x190,
           0x0,
-          0x32,
-          0x32,
+          0x190,
+          0x190,
           0x0,
-          0x32,
+          0x190,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x190,
           0x0,
         };
   }
 
-  private final JJCalls[] jj_2_rtns = new JJCalls[167];
+  private final JJCalls[] jj_2_rtns = new JJCalls[169];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -41831,7 +42415,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 458; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -41842,7 +42426,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 458; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -41852,7 +42436,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 458; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -41863,7 +42447,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 458; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -41980,12 +42564,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[285];
+    boolean[] la1tokens = new boolean[288];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 458; i++) {
+    for (int i = 0; i < 460; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1 << j)) != 0) {
@@ -42018,7 +42602,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
     }
-    for (int i = 0; i < 285; i++) {
+    for (int i = 0; i < 288; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -42043,7 +42627,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 167; i++) {
+    for (int i = 0; i < 169; i++) {
       try {
         JJCalls p = jj_2_rtns[i];
         do {
@@ -42552,6 +43136,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case 166:
                 jj_3_167();
                 break;
+              case 167:
+                jj_3_168();
+                break;
+              case 168:
+                jj_3_169();
+                break;
             }
           }
           p = p.next;
@@ -213,323 +213,329 @@ public interface OrientSqlConstants {
   /** RegularExpression Id. */
   int REBUILD = 111;
   /** RegularExpression Id. */
-  int ID = 112;
+  int ANALYZE = 112;
   /** RegularExpression Id. */
-  int DATABASE = 113;
+  int COMPACT = 113;
   /** RegularExpression Id. */
-  int OPTIMIZE = 114;
+  int COLUMNAR = 114;
   /** RegularExpression Id. */
-  int LINK = 115;
+  int ID = 115;
   /** RegularExpression Id. */
-  int TYPE = 116;
+  int DATABASE = 116;
   /** RegularExpression Id. */
-  int INVERSE = 117;
+  int OPTIMIZE = 117;
   /** RegularExpression Id. */
-  int EXPLAIN = 118;
+  int LINK = 118;
   /** RegularExpression Id. */
-  int GRANT = 119;
+  int TYPE = 119;
   /** RegularExpression Id. */
-  int REVOKE = 120;
+  int INVERSE = 120;
   /** RegularExpression Id. */
-  int READ = 121;
+  int EXPLAIN = 121;
   /** RegularExpression Id. */
-  int EXECUTE = 122;
+  int GRANT = 122;
   /** RegularExpression Id. */
-  int ALL = 123;
+  int REVOKE = 123;
   /** RegularExpression Id. */
-  int NONE = 124;
+  int READ = 124;
   /** RegularExpression Id. */
-  int FUNCTION = 125;
+  int EXECUTE = 125;
   /** RegularExpression Id. */
-  int PARAMETERS = 126;
+  int ALL = 126;
   /** RegularExpression Id. */
-  int IDEMPOTENT = 127;
+  int NONE = 127;
   /** RegularExpression Id. */
-  int LANGUAGE = 128;
+  int FUNCTION = 128;
   /** RegularExpression Id. */
-  int BEGIN = 129;
+  int PARAMETERS = 129;
   /** RegularExpression Id. */
-  int COMMIT = 130;
+  int IDEMPOTENT = 130;
   /** RegularExpression Id. */
-  int ROLLBACK = 131;
+  int LANGUAGE = 131;
   /** RegularExpression Id. */
-  int IF = 132;
+  int BEGIN = 132;
   /** RegularExpression Id. */
-  int ELSE = 133;
+  int COMMIT = 133;
   /** RegularExpression Id. */
-  int CONTINUE = 134;
+  int ROLLBACK = 134;
   /** RegularExpression Id. */
-  int FAIL = 135;
+  int IF = 135;
   /** RegularExpression Id. */
-  int ISOLATION = 136;
+  int ELSE = 136;
   /** RegularExpression Id. */
-  int SLEEP = 137;
+  int CONTINUE = 137;
   /** RegularExpression Id. */
-  int CONSOLE = 138;
+  int FAIL = 138;
   /** RegularExpression Id. */
-  int BLOB = 139;
+  int ISOLATION = 139;
   /** RegularExpression Id. */
-  int SHARED = 140;
+  int SLEEP = 140;
   /** RegularExpression Id. */
-  int DEFAULT_ = 141;
+  int CONSOLE = 141;
   /** RegularExpression Id. */
-  int SEQUENCE = 142;
+  int BLOB = 142;
   /** RegularExpression Id. */
-  int START = 143;
+  int SHARED = 143;
   /** RegularExpression Id. */
-  int OPTIONAL = 144;
+  int DEFAULT_ = 144;
   /** RegularExpression Id. */
-  int COUNT = 145;
+  int SEQUENCE = 145;
   /** RegularExpression Id. */
-  int DISTINCT = 146;
+  int START = 146;
   /** RegularExpression Id. */
-  int HA = 147;
+  int OPTIONAL = 147;
   /** RegularExpression Id. */
-  int STATUS = 148;
+  int COUNT = 148;
   /** RegularExpression Id. */
-  int SERVER = 149;
+  int DISTINCT = 149;
   /** RegularExpression Id. */
-  int SYNC = 150;
+  int HA = 150;
   /** RegularExpression Id. */
-  int EXISTS = 151;
+  int STATUS = 151;
   /** RegularExpression Id. */
-  int FOREACH = 152;
+  int SERVER = 152;
   /** RegularExpression Id. */
-  int MOVE = 153;
+  int SYNC = 153;
   /** RegularExpression Id. */
-  int DEPTH_ALIAS = 154;
+  int EXISTS = 154;
   /** RegularExpression Id. */
-  int PATH_ALIAS = 155;
+  int FOREACH = 155;
   /** RegularExpression Id. */
-  int IDENTIFIED = 156;
+  int MOVE = 156;
   /** RegularExpression Id. */
-  int ROLE = 157;
+  int DEPTH_ALIAS = 157;
   /** RegularExpression Id. */
-  int USER = 158;
+  int PATH_ALIAS = 158;
   /** RegularExpression Id. */
-  int USERS = 159;
+  int IDENTIFIED = 159;
   /** RegularExpression Id. */
-  int RID = 160;
+  int ROLE = 160;
   /** RegularExpression Id. */
-  int SECURITY = 161;
+  int USER = 161;
   /** RegularExpression Id. */
-  int POLICY = 162;
+  int USERS = 162;
   /** RegularExpression Id. */
-  int DEFAULTCLUSTER = 163;
+  int RID = 163;
   /** RegularExpression Id. */
-  int SYSTEM = 164;
+  int SECURITY = 164;
   /** RegularExpression Id. */
-  int THIS = 165;
+  int POLICY = 165;
   /** RegularExpression Id. */
-  int RECORD_ATTRIBUTE = 166;
+  int DEFAULTCLUSTER = 166;
   /** RegularExpression Id. */
-  int RID_ATTR = 167;
+  int SYSTEM = 167;
   /** RegularExpression Id. */
-  int RID_STRING = 168;
+  int THIS = 168;
   /** RegularExpression Id. */
-  int CLASS_ATTR = 169;
+  int RECORD_ATTRIBUTE = 169;
   /** RegularExpression Id. */
-  int VERSION_ATTR = 170;
+  int RID_ATTR = 170;
   /** RegularExpression Id. */
-  int SIZE_ATTR = 171;
+  int RID_STRING = 171;
   /** RegularExpression Id. */
-  int TYPE_ATTR = 172;
+  int CLASS_ATTR = 172;
   /** RegularExpression Id. */
-  int RAW_ATTR = 173;
+  int VERSION_ATTR = 173;
   /** RegularExpression Id. */
-  int RID_ID_ATTR = 174;
+  int SIZE_ATTR = 174;
   /** RegularExpression Id. */
-  int RID_POS_ATTR = 175;
+  int TYPE_ATTR = 175;
   /** RegularExpression Id. */
-  int FIELDS_ATTR = 176;
+  int RAW_ATTR = 176;
   /** RegularExpression Id. */
-  int INTEGER_LITERAL = 177;
+  int RID_ID_ATTR = 177;
   /** RegularExpression Id. */
-  int DECIMAL_LITERAL = 178;
+  int RID_POS_ATTR = 178;
   /** RegularExpression Id. */
-  int HEX_LITERAL = 179;
+  int FIELDS_ATTR = 179;
   /** RegularExpression Id. */
-  int OCTAL_LITERAL = 180;
+  int INTEGER_LITERAL = 180;
   /** RegularExpression Id. */
-  int FLOATING_POINT_LITERAL = 181;
+  int DECIMAL_LITERAL = 181;
   /** RegularExpression Id. */
-  int DECIMAL_FLOATING_POINT_LITERAL = 182;
+  int HEX_LITERAL = 182;
   /** RegularExpression Id. */
-  int DECIMAL_EXPONENT = 183;
+  int OCTAL_LITERAL = 183;
   /** RegularExpression Id. */
-  int HEXADECIMAL_FLOATING_POINT_LITERAL = 184;
+  int FLOATING_POINT_LITERAL = 184;
   /** RegularExpression Id. */
-  int HEXADECIMAL_EXPONENT = 185;
+  int DECIMAL_FLOATING_POINT_LITERAL = 185;
   /** RegularExpression Id. */
-  int CHARACTER_LITERAL = 186;
+  int DECIMAL_EXPONENT = 186;
   /** RegularExpression Id. */
-  int STRING_LITERAL = 187;
+  int HEXADECIMAL_FLOATING_POINT_LITERAL = 187;
   /** RegularExpression Id. */
-  int INTEGER_RANGE = 188;
+  int HEXADECIMAL_EXPONENT = 188;
   /** RegularExpression Id. */
-  int ELLIPSIS_INTEGER_RANGE = 189;
+  int CHARACTER_LITERAL = 189;
   /** RegularExpression Id. */
-  int TRUE = 190;
+  int STRING_LITERAL = 190;
   /** RegularExpression Id. */
-  int FALSE = 191;
+  int INTEGER_RANGE = 191;
   /** RegularExpression Id. */
-  int LPAREN = 192;
+  int ELLIPSIS_INTEGER_RANGE = 192;
   /** RegularExpression Id. */
-  int RPAREN = 193;
+  int TRUE = 193;
   /** RegularExpression Id. */
-  int LBRACE = 194;
+  int FALSE = 194;
   /** RegularExpression Id. */
-  int RBRACE = 195;
+  int LPAREN = 195;
   /** RegularExpression Id. */
-  int LBRACKET = 196;
+  int RPAREN = 196;
   /** RegularExpression Id. */
-  int RBRACKET = 197;
+  int LBRACE = 197;
   /** RegularExpression Id. */
-  int SEMICOLON = 198;
+  int RBRACE = 198;
   /** RegularExpression Id. */
-  int COMMA = 199;
+  int LBRACKET = 199;
   /** RegularExpression Id. */
-  int DOT = 200;
+  int RBRACKET = 200;
   /** RegularExpression Id. */
-  int AT = 201;
+  int SEMICOLON = 201;
   /** RegularExpression Id. */
-  int DOLLAR = 202;
+  int COMMA = 202;
   /** RegularExpression Id. */
-  int BACKTICK = 203;
+  int DOT = 203;
   /** RegularExpression Id. */
-  int EQ = 204;
+  int AT = 204;
   /** RegularExpression Id. */
-  int EQEQ = 205;
+  int DOLLAR = 205;
   /** RegularExpression Id. */
-  int LT = 206;
+  int BACKTICK = 206;
   /** RegularExpression Id. */
-  int GT = 207;
+  int EQ = 207;
   /** RegularExpression Id. */
-  int BANG = 208;
+  int EQEQ = 208;
   /** RegularExpression Id. */
-  int TILDE = 209;
+  int LT = 209;
   /** RegularExpression Id. */
-  int HOOK = 210;
+  int GT = 210;
   /** RegularExpression Id. */
-  int COLON = 211;
+  int BANG = 211;
   /** RegularExpression Id. */
-  int LE = 212;
+  int TILDE = 212;
   /** RegularExpression Id. */
-  int GE = 213;
+  int HOOK = 213;
   /** RegularExpression Id. */
-  int NE = 214;
+  int COLON = 214;
   /** RegularExpression Id. */
-  int NEQ = 215;
+  int LE = 215;
   /** RegularExpression Id. */
-  int SC_OR = 216;
+  int GE = 216;
   /** RegularExpression Id. */
-  int SC_AND = 217;
+  int NE = 217;
   /** RegularExpression Id. */
-  int INCR = 218;
+  int NEQ = 218;
   /** RegularExpression Id. */
-  int DECR = 219;
+  int SC_OR = 219;
   /** RegularExpression Id. */
-  int PLUS = 220;
+  int SC_AND = 220;
   /** RegularExpression Id. */
-  int MINUS = 221;
+  int INCR = 221;
   /** RegularExpression Id. */
-  int STAR = 222;
+  int DECR = 222;
   /** RegularExpression Id. */
-  int SLASH = 223;
+  int PLUS = 223;
   /** RegularExpression Id. */
-  int BIT_AND = 224;
+  int MINUS = 224;
   /** RegularExpression Id. */
-  int NULL_COALESCING = 225;
+  int STAR = 225;
   /** RegularExpression Id. */
-  int BIT_OR = 226;
+  int SLASH = 226;
   /** RegularExpression Id. */
-  int XOR = 227;
+  int BIT_AND = 227;
   /** RegularExpression Id. */
-  int REM = 228;
+  int NULL_COALESCING = 228;
   /** RegularExpression Id. */
-  int LSHIFT = 229;
+  int BIT_OR = 229;
   /** RegularExpression Id. */
-  int PLUSASSIGN = 230;
+  int XOR = 230;
   /** RegularExpression Id. */
-  int MINUSASSIGN = 231;
+  int REM = 231;
   /** RegularExpression Id. */
-  int STARASSIGN = 232;
+  int LSHIFT = 232;
   /** RegularExpression Id. */
-  int SLASHASSIGN = 233;
+  int PLUSASSIGN = 233;
   /** RegularExpression Id. */
-  int ANDASSIGN = 234;
+  int MINUSASSIGN = 234;
   /** RegularExpression Id. */
-  int ORASSIGN = 235;
+  int STARASSIGN = 235;
   /** RegularExpression Id. */
-  int XORASSIGN = 236;
+  int SLASHASSIGN = 236;
   /** RegularExpression Id. */
-  int REMASSIGN = 237;
+  int ANDASSIGN = 237;
   /** RegularExpression Id. */
-  int LSHIFTASSIGN = 238;
+  int ORASSIGN = 238;
   /** RegularExpression Id. */
-  int RSIGNEDSHIFTASSIGN = 239;
+  int XORASSIGN = 239;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFTASSIGN = 240;
+  int REMASSIGN = 240;
   /** RegularExpression Id. */
-  int RSHIFT = 241;
+  int LSHIFTASSIGN = 241;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFT = 242;
+  int RSIGNEDSHIFTASSIGN = 242;
   /** RegularExpression Id. */
-  int ELLIPSIS = 243;
+  int RUNSIGNEDSHIFTASSIGN = 243;
   /** RegularExpression Id. */
-  int RANGE = 244;
+  int RSHIFT = 244;
   /** RegularExpression Id. */
-  int NOT = 245;
+  int RUNSIGNEDSHIFT = 245;
   /** RegularExpression Id. */
-  int IN = 246;
+  int ELLIPSIS = 246;
   /** RegularExpression Id. */
-  int LIKE = 247;
+  int RANGE = 247;
   /** RegularExpression Id. */
-  int IS = 248;
+  int NOT = 248;
   /** RegularExpression Id. */
-  int BETWEEN = 249;
+  int IN = 249;
   /** RegularExpression Id. */
-  int CONTAINS = 250;
+  int LIKE = 250;
   /** RegularExpression Id. */
-  int CONTAINSALL = 251;
+  int IS = 251;
   /** RegularExpression Id. */
-  int CONTAINSANY = 252;
+  int BETWEEN = 252;
   /** RegularExpression Id. */
-  int CONTAINSKEY = 253;
+  int CONTAINS = 253;
   /** RegularExpression Id. */
-  int CONTAINSVALUE = 254;
+  int CONTAINSALL = 254;
   /** RegularExpression Id. */
-  int CONTAINSTEXT = 255;
+  int CONTAINSANY = 255;
   /** RegularExpression Id. */
-  int MATCHES = 256;
+  int CONTAINSKEY = 256;
   /** RegularExpression Id. */
-  int KEY = 257;
+  int CONTAINSVALUE = 257;
   /** RegularExpression Id. */
-  int INSTANCEOF = 258;
+  int CONTAINSTEXT = 258;
   /** RegularExpression Id. */
-  int CLUSTER = 259;
+  int MATCHES = 259;
   /** RegularExpression Id. */
-  int IDENTIFIER = 260;
+  int KEY = 260;
   /** RegularExpression Id. */
-  int QUOTED_IDENTIFIER = 261;
+  int INSTANCEOF = 261;
   /** RegularExpression Id. */
-  int INDEX_COLON = 262;
+  int CLUSTER = 262;
   /** RegularExpression Id. */
-  int INDEXVALUES_IDENTIFIER = 263;
+  int IDENTIFIER = 263;
   /** RegularExpression Id. */
-  int INDEXVALUESASC_IDENTIFIER = 264;
+  int QUOTED_IDENTIFIER = 264;
   /** RegularExpression Id. */
-  int INDEXVALUESDESC_IDENTIFIER = 265;
+  int INDEX_COLON = 265;
   /** RegularExpression Id. */
-  int CLUSTER_IDENTIFIER = 266;
+  int INDEXVALUES_IDENTIFIER = 266;
   /** RegularExpression Id. */
-  int CLUSTER_NUMBER_IDENTIFIER = 267;
+  int INDEXVALUESASC_IDENTIFIER = 267;
   /** RegularExpression Id. */
-  int METADATA_IDENTIFIER = 268;
+  int INDEXVALUESDESC_IDENTIFIER = 268;
   /** RegularExpression Id. */
-  int LETTER = 269;
+  int CLUSTER_IDENTIFIER = 269;
   /** RegularExpression Id. */
-  int PART_LETTER = 270;
+  int CLUSTER_NUMBER_IDENTIFIER = 270;
+  /** RegularExpression Id. */
+  int METADATA_IDENTIFIER = 271;
+  /** RegularExpression Id. */
+  int LETTER = 272;
+  /** RegularExpression Id. */
+  int PART_LETTER = 273;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -652,6 +658,9 @@ public interface OrientSqlConstants {
     "<COLLATE>",
     "<ENGINE>",
     "<REBUILD>",
+    "<ANALYZE>",
+    "<COMPACT>",
+    "<COLUMNAR>",
     "<ID>",
     "<DATABASE>",
     "<OPTIMIZE>",
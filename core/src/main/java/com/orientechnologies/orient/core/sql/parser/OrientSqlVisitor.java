@@ -318,6 +318,8 @@ public interface OrientSqlVisitor {
 
   public Object visit(ORebuildIndexStatement node, Object data);
 
+  public Object visit(OAnalyzeClassStatement node, Object data);
+
   public Object visit(ODropIndexStatement node, Object data);
 
   public Object visit(OCreateClusterStatement node, Object data);
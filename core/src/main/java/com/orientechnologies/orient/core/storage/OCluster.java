@@ -33,7 +33,8 @@ public interface OCluster {
     CONFLICTSTRATEGY,
     STATUS,
     @Deprecated
-    ENCRYPTION
+    ENCRYPTION,
+    FILLFACTOR
   }
 
   void configure(int iId, String iClusterName) throws IOException;
@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.storage;
 
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
 import com.orientechnologies.orient.core.type.OBuffer;
 import java.io.IOException;
 import java.io.ObjectInput;
@@ -29,6 +30,8 @@ import java.io.ObjectOutput;
 public class ORawBuffer extends OBuffer {
   public int version;
   public byte recordType;
+  /** Format of the buffer if it is not the format of the database that reads it, otherwise null. */
+  public ORecordSerializer recordFormat;
 
   /** Constructor used by serialization. */
   public ORawBuffer() {
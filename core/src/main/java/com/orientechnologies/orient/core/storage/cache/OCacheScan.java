@@ -0,0 +1,100 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulk scan of the data, like browsing of the whole cluster or export of database. Pages which are
+ * loaded by the thread while scan is active are placed into the small scan ring of the read cache
+ * instead of the main cache space, so they do not evict pages of the working set of other
+ * operations. Scan also gathers hit rate of the read cache for the pages requested by it.
+ *
+ * <p>Usage:
+ *
+ * <pre>
+ *   final OCacheScan previous = scan.activate();
+ *   try {
+ *     ...
+ *   } finally {
+ *     OCacheScan.restore(previous);
+ *   }
+ * </pre>
+ */
+public final class OCacheScan {
+  private static final ThreadLocal<OCacheScan> ACTIVE_SCAN = new ThreadLocal<>();
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+
+  /** @return scan which is active in the current thread or <code>null</code> if there is none. */
+  public static OCacheScan active() {
+    return ACTIVE_SCAN.get();
+  }
+
+  /**
+   * Makes this scan active in the current thread.
+   *
+   * @return scan which was active before, it should be passed to {@link #restore(OCacheScan)} once
+   *     scan is finished
+   */
+  public OCacheScan activate() {
+    final OCacheScan previous = ACTIVE_SCAN.get();
+    ACTIVE_SCAN.set(this);
+    return previous;
+  }
+
+  /** Restores scan which was active in the current thread before the call of {@link #activate()} */
+  public static void restore(final OCacheScan previous) {
+    if (previous == null) {
+      ACTIVE_SCAN.remove();
+    } else {
+      ACTIVE_SCAN.set(previous);
+    }
+  }
+
+  public void onRequest(final boolean hit) {
+    requests.increment();
+
+    if (hit) {
+      hits.increment();
+    }
+  }
+
+  /** @return amount of pages requested from read cache during the scan */
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  /** @return amount of pages requested during the scan which were found in read cache */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /** @return hit rate of read cache in percents, or -1 if no pages were requested */
+  public int hitRate() {
+    final long reqSum = requests.sum();
+    if (reqSum == 0) {
+      return -1;
+    }
+
+    return (int) ((hits.sum() * 100) / reqSum);
+  }
+}
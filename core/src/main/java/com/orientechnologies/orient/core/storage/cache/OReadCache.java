@@ -58,6 +58,12 @@ public interface OReadCache {
       long fileId, long pageIndex, OWriteCache writeCache, boolean verifyChecksums)
       throws IOException;
 
+  /**
+   * Hints cache that pages of the file are going to be read, so cache may load them in advance.
+   * Does nothing by default.
+   */
+  default void readAhead(long fileId, long startPageIndex, int pageCount, OWriteCache writeCache) {}
+
   OCacheEntry silentLoadForRead(
       final long extFileId,
       final int pageIndex,
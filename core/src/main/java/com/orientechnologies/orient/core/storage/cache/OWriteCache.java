@@ -94,6 +94,31 @@ public interface OWriteCache {
       long fileId, long startPageIndex, OModifiableBoolean cacheHit, boolean verifyChecksums)
       throws IOException;
 
+  /**
+   * Loads pages which follow each other in the file. Implementations read pages which are not
+   * cached by a single batch of reads.
+   *
+   * @return pointers to the loaded pages, <code>null</code> is used for pages which are absent in
+   *     the file. Readers referrer of each returned pointer is incremented.
+   */
+  default OCachePointer[] loadPages(
+      long fileId, long startPageIndex, int pageCount, boolean verifyChecksums) throws IOException {
+    final OCachePointer[] pointers = new OCachePointer[pageCount];
+    try {
+      for (int i = 0; i < pageCount; i++) {
+        pointers[i] = load(fileId, startPageIndex + i, new OModifiableBoolean(), verifyChecksums);
+      }
+    } catch (final IOException | RuntimeException e) {
+      for (final OCachePointer pointer : pointers) {
+        if (pointer != null) {
+          pointer.decrementReadersReferrer();
+        }
+      }
+      throw e;
+    }
+    return pointers;
+  }
+
   void flush(long fileId);
 
   void flush();
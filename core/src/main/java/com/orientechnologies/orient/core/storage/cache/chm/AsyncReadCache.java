@@ -12,6 +12,7 @@ import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OCacheScan;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.BoundedBuffer;
@@ -67,15 +68,32 @@ public final class AsyncReadCache implements OReadCache {
 
   private final OByteBufferPool bufferPool;
 
+  /** Read-ahead of pages of sequentially read files, or <code>null</code> if it is disabled. */
+  private final ReadAhead readAhead;
+
   public AsyncReadCache(
       final OByteBufferPool bufferPool,
       final long maxCacheSizeInBytes,
       final int pageSize,
       final boolean trackHitRate) {
+    this(bufferPool, maxCacheSizeInBytes, pageSize, trackHitRate, 0);
+  }
+
+  /**
+   * @param readAheadPages maximum amount of pages which are loaded in advance during sequential
+   *     read of the file, 0 means that read-ahead is disabled
+   */
+  public AsyncReadCache(
+      final OByteBufferPool bufferPool,
+      final long maxCacheSizeInBytes,
+      final int pageSize,
+      final boolean trackHitRate,
+      final int readAheadPages) {
     evictionLock.lock();
     try {
       this.pageSize = pageSize;
       this.bufferPool = bufferPool;
+      this.readAhead = readAheadPages > 0 ? new ReadAhead(this, readAheadPages) : null;
 
       this.trackHitRate = trackHitRate;
       this.maxCacheSize = (int) (maxCacheSizeInBytes / pageSize);
@@ -107,7 +125,8 @@ public final class AsyncReadCache implements OReadCache {
       final OWriteCache writeCache,
       final boolean verifyChecksums,
       final OLogSequenceNumber startLSN) {
-    final OCacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    final OCacheEntry cacheEntry =
+        doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, null);
 
     if (cacheEntry != null) {
       cacheEntry.acquireExclusiveLock();
@@ -123,7 +142,102 @@ public final class AsyncReadCache implements OReadCache {
       final long pageIndex,
       final OWriteCache writeCache,
       final boolean verifyChecksums) {
-    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    if (readAhead != null) {
+      readAhead.onLoad(
+          OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId),
+          (int) pageIndex,
+          writeCache);
+    }
+
+    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, OCacheScan.active());
+  }
+
+  @Override
+  public final void readAhead(
+      final long fileId,
+      final long startPageIndex,
+      final int pageCount,
+      final OWriteCache writeCache) {
+    if (readAhead != null) {
+      readAhead.readAhead(
+          OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId),
+          (int) startPageIndex,
+          pageCount,
+          writeCache);
+    }
+  }
+
+  /**
+   * Loads pages of the file by a single batch of reads and adds them to the cache, pages which are
+   * already cached are skipped. Called by read-ahead in background thread.
+   *
+   * @param version version of the file fetched before the start of read-ahead, pages are not added
+   *     if file was changed after that
+   * @param scan whether read-ahead was started by the bulk scan, in such case pages are added to
+   *     the scan ring
+   */
+  void loadAhead(
+      final long fileId,
+      int startPageIndex,
+      final int pageCount,
+      final OWriteCache writeCache,
+      final long version,
+      final boolean scan)
+      throws IOException {
+    int endPageIndex =
+        (int) Math.min(startPageIndex + (long) pageCount, writeCache.getFilledUpTo(fileId));
+    while (startPageIndex < endPageIndex && data.containsKey(new PageKey(fileId, startPageIndex))) {
+      startPageIndex++;
+    }
+    while (endPageIndex > startPageIndex
+        && data.containsKey(new PageKey(fileId, endPageIndex - 1))) {
+      endPageIndex--;
+    }
+    if (startPageIndex >= endPageIndex) {
+      return;
+    }
+
+    final OCachePointer[] pointers =
+        writeCache.loadPages(fileId, startPageIndex, endPageIndex - startPageIndex, true);
+    boolean added = false;
+    for (int i = 0; i < pointers.length; i++) {
+      final OCachePointer pointer = pointers[i];
+      if (pointer == null) {
+        continue;
+      }
+
+      final OCacheEntry[] addedEntry = new OCacheEntry[1];
+      data.compute(
+          new PageKey(fileId, startPageIndex + i),
+          (page, entry) -> {
+            if (entry == null && readAhead.isNotChanged(fileId, version)) {
+              cacheSize.incrementAndGet();
+              addedEntry[0] =
+                  new OCacheEntryImpl(page.getFileId(), page.getPageIndex(), pointer, true, this);
+              return addedEntry[0];
+            }
+            return entry;
+          });
+
+      if (addedEntry[0] == null) {
+        pointer.decrementReadersReferrer();
+      } else {
+        if (scan) {
+          afterWrite(() -> policy.onScanAdd(addedEntry[0]));
+        } else {
+          afterWrite(() -> policy.onPrefetch(addedEntry[0]));
+        }
+        added = true;
+      }
+    }
+
+    if (added) {
+      try {
+        writeCache.checkCacheOverflow();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
   }
 
   @Override
@@ -184,11 +298,17 @@ public final class AsyncReadCache implements OReadCache {
     }
   }
 
+  /**
+   * @param scan bulk scan which is active in the current thread, pages loaded by the scan are added
+   *     to the scan ring, and access of the pages by the scan does not change their position in the
+   *     eviction policy
+   */
   private OCacheEntry doLoad(
       final long extFileId,
       final int pageIndex,
       final OWriteCache writeCache,
-      final boolean verifyChecksums) {
+      final boolean verifyChecksums,
+      final OCacheScan scan) {
     final long fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), extFileId);
     final PageKey pageKey = new PageKey(fileId, pageIndex);
 
@@ -205,7 +325,7 @@ public final class AsyncReadCache implements OReadCache {
 
       if (cacheEntry != null) {
         if (cacheEntry.acquireEntry()) {
-          afterRead(cacheEntry);
+          afterRead(cacheEntry, scan);
 
           if (trackHitRate) {
             hits.increment();
@@ -254,9 +374,16 @@ public final class AsyncReadCache implements OReadCache {
               hits.increment();
             }
 
-            afterRead(cacheEntry);
+            afterRead(cacheEntry, scan);
           } else {
-            afterAdd(cacheEntry);
+            if (scan == null) {
+              afterAdd(cacheEntry);
+            } else {
+              scan.onRequest(false);
+
+              final OCacheEntry scanEntry = cacheEntry;
+              afterWrite(() -> policy.onScanAdd(scanEntry));
+            }
 
             try {
               writeCache.checkCacheOverflow();
@@ -324,14 +451,23 @@ public final class AsyncReadCache implements OReadCache {
         cacheEntry.clearAllocationFlag();
       }
 
-      data.compute(
-          pageKey,
-          (page, entry) -> {
-            writeCache.store(
-                cacheEntry.getFileId(), cacheEntry.getPageIndex(), cacheEntry.getCachePointer());
-            return entry; // may be absent if page in pinned pages, in such case we use map as
-            // virtual lock
-          });
+      if (readAhead != null) {
+        readAhead.startChange(cacheEntry.getFileId());
+      }
+      try {
+        data.compute(
+            pageKey,
+            (page, entry) -> {
+              writeCache.store(
+                  cacheEntry.getFileId(), cacheEntry.getPageIndex(), cacheEntry.getCachePointer());
+              return entry; // may be absent if page in pinned pages, in such case we use map as
+              // virtual lock
+            });
+      } finally {
+        if (readAhead != null) {
+          readAhead.endChange(cacheEntry.getFileId());
+        }
+      }
     }
 
     // We need to release exclusive lock from cache pointer after we put it into the write cache so
@@ -361,8 +497,20 @@ public final class AsyncReadCache implements OReadCache {
       long fileId, final OWriteCache writeCache, final OLogSequenceNumber startLSN)
       throws IOException {
     fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
-    final int newPageIndex = writeCache.allocateNewPage(fileId);
-    final OCacheEntry cacheEntry = addNewPagePointerToTheCache(fileId, newPageIndex);
+
+    // read-ahead should not load the page before it is added to the cache
+    if (readAhead != null) {
+      readAhead.startChange(fileId);
+    }
+    final OCacheEntry cacheEntry;
+    try {
+      final int newPageIndex = writeCache.allocateNewPage(fileId);
+      cacheEntry = addNewPagePointerToTheCache(fileId, newPageIndex);
+    } finally {
+      if (readAhead != null) {
+        readAhead.endChange(fileId);
+      }
+    }
 
     cacheEntry.acquireExclusiveLock();
     cacheEntry.markAllocated();
@@ -370,7 +518,12 @@ public final class AsyncReadCache implements OReadCache {
     return cacheEntry;
   }
 
-  private void afterRead(final OCacheEntry entry) {
+  private void afterRead(final OCacheEntry entry, final OCacheScan scan) {
+    if (scan != null) {
+      scan.onRequest(true);
+      return;
+    }
+
     final boolean bufferOverflow = readBuffer.offer(entry) == Buffer.FULL;
 
     if (drainStatus.get().shouldBeDrained(bufferOverflow)) {
@@ -566,6 +719,11 @@ public final class AsyncReadCache implements OReadCache {
   }
 
   private void clearFile(final long fileId, final int filledUpTo, final OWriteCache writeCache) {
+    if (readAhead != null) {
+      readAhead.removeFile(fileId);
+      readAhead.startChange(fileId);
+    }
+
     evictionLock.lock();
     try {
       emptyBuffers();
@@ -596,6 +754,10 @@ public final class AsyncReadCache implements OReadCache {
       }
     } finally {
       evictionLock.unlock();
+
+      if (readAhead != null) {
+        readAhead.endChange(fileId);
+      }
     }
   }
 
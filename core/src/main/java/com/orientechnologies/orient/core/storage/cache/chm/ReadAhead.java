@@ -0,0 +1,201 @@
+package com.orientechnologies.orient.core.storage.cache.chm;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.cache.OCacheScan;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Read-ahead of pages of the files which are read sequentially. Read-ahead is started either if
+ * cache detects that pages of the file are requested one after another or if it is explicitly
+ * requested by the reader. Pages are loaded from write cache in background thread by a single batch
+ * of reads.
+ *
+ * <p>Pages loaded in background may be stale if page is changed while they are loaded, so changes
+ * of pages are tracked by the versions of the files, and loaded pages are added to the cache only
+ * if version of the file was not changed since the start of read-ahead.
+ */
+final class ReadAhead {
+  /** Amount of pages requested one after another after which access is treated as sequential. */
+  private static final int SEQUENTIAL_THRESHOLD = 3;
+
+  private static final int N_CPU = Runtime.getRuntime().availableProcessors();
+  private static final int MAX_PENDING_TASKS = 2 * N_CPU;
+
+  /** Maximum amount of files which sequential reads are tracked by a single thread. */
+  private static final int MAX_SCANS_PER_THREAD = 16;
+
+  private static final int STRIPES = 64;
+  private static final int STRIPES_MASK = STRIPES - 1;
+
+  private static final ExecutorService executor =
+      OThreadPoolExecutors.newScalingThreadPool(
+          "OrientDB Read Ahead",
+          OStorageAbstract.storageThreadGroup,
+          0,
+          N_CPU,
+          MAX_PENDING_TASKS,
+          60,
+          TimeUnit.SECONDS);
+
+  private final AsyncReadCache readCache;
+  private final int pages;
+
+  private final ThreadLocal<ThreadScans> threadScans = ThreadLocal.withInitial(ThreadScans::new);
+
+  /** Incremented on each removal of file, so threads drop the state of the removed files. */
+  private final AtomicLong removals = new AtomicLong();
+
+  private final AtomicInteger pendingTasks = new AtomicInteger();
+
+  private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+  private final AtomicIntegerArray changesInProgress = new AtomicIntegerArray(STRIPES);
+
+  ReadAhead(final AsyncReadCache readCache, final int pages) {
+    this.readCache = readCache;
+    this.pages = pages;
+  }
+
+  /** Registers request of the page and starts read-ahead if pages of file are read sequentially. */
+  void onLoad(final long fileId, final int pageIndex, final OWriteCache writeCache) {
+    // state of the scans is kept per thread, so concurrent readers do not contend on the same
+    // fields, only the read of the epoch of removed files is shared between them
+    final ThreadScans threadScans = this.threadScans.get();
+    final long removalEpoch = removals.get();
+    if (threadScans.removalEpoch != removalEpoch) {
+      threadScans.scans.clear();
+      threadScans.removalEpoch = removalEpoch;
+    }
+
+    SequentialScan scan = threadScans.scans.get(fileId);
+    if (scan == null) {
+      if (threadScans.scans.size() >= MAX_SCANS_PER_THREAD) {
+        threadScans.scans.clear();
+      }
+      scan = new SequentialScan();
+      threadScans.scans.put(fileId, scan);
+    }
+
+    final int lastPage = scan.lastPage;
+    if (pageIndex == lastPage) {
+      return;
+    }
+
+    scan.lastPage = pageIndex;
+    if (pageIndex != lastPage + 1) {
+      scan.sequentialPages = 0;
+      scan.readAheadEnd = 0;
+      return;
+    }
+
+    final int sequentialPages = ++scan.sequentialPages;
+
+    // next portion of pages is loaded once half of the previous one is read
+    final int readAheadEnd = scan.readAheadEnd;
+    if (sequentialPages < SEQUENTIAL_THRESHOLD || pageIndex + pages / 2 < readAheadEnd) {
+      return;
+    }
+
+    final int start = Math.max(pageIndex + 1, readAheadEnd);
+    final int end = pageIndex + 1 + pages;
+    scan.readAheadEnd = end;
+
+    schedule(fileId, start, end - start, writeCache);
+  }
+
+  /** Starts read-ahead of the given range of pages, but not more than configured limit. */
+  void readAhead(
+      final long fileId, final int startPageIndex, final int pageCount, OWriteCache writeCache) {
+    if (pageCount > 0) {
+      schedule(fileId, startPageIndex, Math.min(pageCount, pages), writeCache);
+    }
+  }
+
+  /** Should be called before the change of page, so stale pages are not added to the cache. */
+  void startChange(final long fileId) {
+    final int stripe = stripe(fileId);
+    changesInProgress.incrementAndGet(stripe);
+    versions.incrementAndGet(stripe);
+  }
+
+  void endChange(final long fileId) {
+    final int stripe = stripe(fileId);
+    versions.incrementAndGet(stripe);
+    changesInProgress.decrementAndGet(stripe);
+  }
+
+  /** Should be called once file is truncated, closed or deleted. */
+  void removeFile(final long fileId) {
+    removals.incrementAndGet();
+  }
+
+  /**
+   * @return <code>true</code> if pages of the file were not changed since the moment when given
+   *     version was fetched
+   */
+  boolean isNotChanged(final long fileId, final long version) {
+    final int stripe = stripe(fileId);
+    return changesInProgress.get(stripe) == 0 && versions.get(stripe) == version;
+  }
+
+  private void schedule(
+      final long fileId, final int startPageIndex, final int pageCount, OWriteCache writeCache) {
+    if (pendingTasks.incrementAndGet() > MAX_PENDING_TASKS) {
+      pendingTasks.decrementAndGet();
+      return;
+    }
+
+    final boolean scan = OCacheScan.active() != null;
+    final int stripe = stripe(fileId);
+    final long version = versions.get(stripe);
+    if (changesInProgress.get(stripe) > 0) {
+      pendingTasks.decrementAndGet();
+      return;
+    }
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              readCache.loadAhead(fileId, startPageIndex, pageCount, writeCache, version, scan);
+            } catch (final Exception e) {
+              // file may be closed or deleted in the meantime, read-ahead is only a hint
+              OLogManager.instance()
+                  .debugNoDb(this, "Error during read-ahead of pages of file %d", e, fileId);
+            } finally {
+              pendingTasks.decrementAndGet();
+            }
+          });
+    } catch (final RejectedExecutionException e) {
+      pendingTasks.decrementAndGet();
+    }
+  }
+
+  private static int stripe(final long fileId) {
+    final int hash = Long.hashCode(fileId);
+    return (hash ^ (hash >>> 16)) & STRIPES_MASK;
+  }
+
+  /** Scans of the files which are read by a single thread. */
+  private static final class ThreadScans {
+    private final HashMap<Long, SequentialScan> scans = new HashMap<>();
+    private long removalEpoch;
+  }
+
+  private static final class SequentialScan {
+    private int lastPage = -2;
+    private int sequentialPages;
+
+    /** End (exclusive) of the range of pages which are already loaded by read-ahead. */
+    private int readAheadEnd;
+  }
+}
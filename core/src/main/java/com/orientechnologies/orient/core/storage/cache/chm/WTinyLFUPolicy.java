@@ -6,10 +6,17 @@ import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
-/** Window TinyLFU eviction policy https://arxiv.org/pdf/1512.00727.pdf. */
+/**
+ * Window TinyLFU eviction policy https://arxiv.org/pdf/1512.00727.pdf.
+ *
+ * <p>Pages loaded by bulk scans are placed into the scan ring which is carved out of eden. Pages in
+ * the scan ring are evicted only by other scan pages, so scans never evict pages of eden or of the
+ * main space. Page is moved from the scan ring to eden once it is accessed by a regular operation.
+ */
 final class WTinyLFUPolicy {
   private static final int EDEN_PERCENT = 20;
   private static final int PROBATIONARY_PERCENT = 20;
+  private static final int SCAN_PERCENT = 25;
 
   private volatile int maxSize;
   private final ConcurrentHashMap<PageKey, OCacheEntry> data;
@@ -20,8 +27,10 @@ final class WTinyLFUPolicy {
   private final LRUList eden = new LRUList();
   private final LRUList probation = new LRUList();
   private final LRUList protection = new LRUList();
+  private final LRUList scan = new LRUList();
 
   private int maxEdenSize;
+  private int maxScanSize;
   private int maxProtectedSize;
   private int maxSecondLevelSize;
 
@@ -35,7 +44,7 @@ final class WTinyLFUPolicy {
   }
 
   public void setMaxSize(final int maxSize) {
-    if (eden.size() + protection.size() + probation.size() > maxSize) {
+    if (eden.size() + protection.size() + probation.size() + scan.size() > maxSize) {
       throw new IllegalStateException(
           "Can set maximum cache size to "
               + maxSize
@@ -69,6 +78,11 @@ final class WTinyLFUPolicy {
         protection.moveToTheTail(cacheEntry);
       } else if (eden.contains(cacheEntry)) {
         eden.moveToTheTail(cacheEntry);
+      } else if (scan.contains(cacheEntry)) {
+        scan.remove(cacheEntry);
+        eden.moveToTheTail(cacheEntry);
+
+        purgeEden();
       }
     }
 
@@ -80,10 +94,63 @@ final class WTinyLFUPolicy {
   void onAdd(final OCacheEntry cacheEntry) {
     admittor.increment(PageKey.hashCode(cacheEntry.getFileId(), (int) cacheEntry.getPageIndex()));
 
+    addToEden(cacheEntry);
+  }
+
+  /**
+   * Adds page which was loaded by read-ahead. Such page was not requested yet, so its frequency is
+   * not incremented and it is admitted into the main space only if it is accessed while it is in
+   * eden.
+   */
+  void onPrefetch(final OCacheEntry cacheEntry) {
+    addToEden(cacheEntry);
+  }
+
+  /**
+   * Adds page which was loaded by the bulk scan. Such page is placed into the scan ring, and if
+   * ring is full, the least recently added page of the ring is evicted. If size of the cache is too
+   * small to have the scan ring, page is added to eden.
+   */
+  void onScanAdd(final OCacheEntry cacheEntry) {
+    if (maxScanSize == 0) {
+      addToEden(cacheEntry);
+      return;
+    }
+
+    if (cacheEntry.isAlive()) {
+      assert !eden.contains(cacheEntry);
+      assert !probation.contains(cacheEntry);
+      assert !protection.contains(cacheEntry);
+      assert !scan.contains(cacheEntry);
+
+      scan.moveToTheTail(cacheEntry);
+
+      purgeScan();
+    }
+  }
+
+  private void purgeScan() {
+    // pages which are in use are moved to the tail of the ring, so the amount of attempts is
+    // limited to avoid spinning when all pages of the ring are in use
+    int attempts = scan.size();
+    while (scan.size() > maxScanSize && attempts > 0) {
+      final OCacheEntry candidate = scan.poll();
+      assert candidate != null;
+
+      if (!evict(candidate)) {
+        scan.moveToTheTail(candidate);
+      }
+
+      attempts--;
+    }
+  }
+
+  private void addToEden(final OCacheEntry cacheEntry) {
     if (cacheEntry.isAlive()) {
       assert !eden.contains(cacheEntry);
       assert !probation.contains(cacheEntry);
       assert !protection.contains(cacheEntry);
+      assert !scan.contains(cacheEntry);
 
       eden.moveToTheTail(cacheEntry);
 
@@ -117,38 +184,11 @@ final class WTinyLFUPolicy {
           probation.poll();
           probation.moveToTheTail(candidate);
 
-          if (victim.freeze()) {
-            final boolean removed =
-                data.remove(new PageKey(victim.getFileId(), (int) victim.getPageIndex()), victim);
-            victim.makeDead();
-
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
-
-            final OCachePointer pointer = victim.getCachePointer();
-
-            pointer.decrementReadersReferrer();
-            victim.clearCachePointer();
-          } else {
+          if (!evict(victim)) {
             eden.moveToTheTail(victim);
           }
         } else {
-          if (candidate.freeze()) {
-            final boolean removed =
-                data.remove(
-                    new PageKey(candidate.getFileId(), (int) candidate.getPageIndex()), candidate);
-            candidate.makeDead();
-
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
-
-            final OCachePointer pointer = candidate.getCachePointer();
-
-            pointer.decrementReadersReferrer();
-            candidate.clearCachePointer();
-          } else {
+          if (!evict(candidate)) {
             eden.moveToTheTail(candidate);
           }
         }
@@ -158,6 +198,32 @@ final class WTinyLFUPolicy {
     assert protection.size() <= maxProtectedSize;
   }
 
+  /**
+   * Removes page from the cache if it is not in use.
+   *
+   * @return <code>true</code> if page was removed
+   */
+  private boolean evict(final OCacheEntry entry) {
+    if (!entry.freeze()) {
+      return false;
+    }
+
+    final boolean removed =
+        data.remove(new PageKey(entry.getFileId(), (int) entry.getPageIndex()), entry);
+    entry.makeDead();
+
+    if (removed) {
+      cacheSize.decrementAndGet();
+    }
+
+    final OCachePointer pointer = entry.getCachePointer();
+
+    pointer.decrementReadersReferrer();
+    entry.clearCachePointer();
+
+    return true;
+  }
+
   void onRemove(final OCacheEntry cacheEntry) {
     assert cacheEntry.isFrozen();
 
@@ -167,6 +233,8 @@ final class WTinyLFUPolicy {
       protection.remove(cacheEntry);
     } else if (eden.contains(cacheEntry)) {
       eden.remove(cacheEntry);
+    } else if (scan.contains(cacheEntry)) {
+      scan.remove(cacheEntry);
     }
 
     cacheEntry.makeDead();
@@ -177,9 +245,12 @@ final class WTinyLFUPolicy {
   }
 
   private void calculateMaxSizes() {
-    maxEdenSize = maxSize * EDEN_PERCENT / 100;
-    maxProtectedSize = maxSize - maxEdenSize - (maxSize - maxEdenSize) * PROBATIONARY_PERCENT / 100;
-    maxSecondLevelSize = maxSize - maxEdenSize;
+    final int windowSize = maxSize * EDEN_PERCENT / 100;
+
+    maxScanSize = windowSize * SCAN_PERCENT / 100;
+    maxEdenSize = windowSize - maxScanSize;
+    maxProtectedSize = maxSize - windowSize - (maxSize - windowSize) * PROBATIONARY_PERCENT / 100;
+    maxSecondLevelSize = maxSize - windowSize;
   }
 
   Iterator<OCacheEntry> eden() {
@@ -194,8 +265,12 @@ final class WTinyLFUPolicy {
     return probation.iterator();
   }
 
+  Iterator<OCacheEntry> scan() {
+    return scan.iterator();
+  }
+
   void assertSize() {
-    assert eden.size() + probation.size() + protection.size() == cacheSize.get()
+    assert eden.size() + probation.size() + protection.size() + scan.size() == cacheSize.get()
         && data.size() == cacheSize.get()
         && cacheSize.get() <= maxSize;
   }
@@ -204,7 +279,8 @@ final class WTinyLFUPolicy {
     for (final OCacheEntry cacheEntry : data.values()) {
       assert eden.contains(cacheEntry)
           || protection.contains(cacheEntry)
-          || probation.contains(cacheEntry);
+          || probation.contains(cacheEntry)
+          || scan.contains(cacheEntry);
     }
 
     int counter = 0;
@@ -226,6 +302,12 @@ final class WTinyLFUPolicy {
       counter++;
     }
 
+    for (final OCacheEntry cacheEntry : scan) {
+      assert data.get(new PageKey(cacheEntry.getFileId(), (int) cacheEntry.getPageIndex()))
+          == cacheEntry;
+      counter++;
+    }
+
     assert counter == data.size();
   }
 }
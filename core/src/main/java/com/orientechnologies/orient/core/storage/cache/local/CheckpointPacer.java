@@ -0,0 +1,140 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+/**
+ * Calculates amount of dirty pages which should be flushed during each cycle of background flush of
+ * write cache, so WAL segments can be truncated continuously instead of flushing of pages in bursts
+ * once WAL becomes too big.
+ *
+ * <p>Distance between the oldest not flushed change of the pages and the end of WAL (checkpoint
+ * lag) grows with the speed of WAL growth. To keep lag stable the same part of dirty pages should
+ * be flushed as part of lag which was added to WAL since the previous flush cycle. If lag exceeds
+ * its target value, amount of flushed pages is increased proportionally, and if WAL does not grow
+ * at all, pages of not active segments are still flushed at the minimum pace.
+ *
+ * <p>This class is not thread safe and supposed to be used by the single flush thread, only metrics
+ * may be read by other threads.
+ */
+final class CheckpointPacer {
+  /** Weight of the last measurement in averaged speed of WAL growth and pages flush. */
+  private static final double SMOOTHING = 0.2;
+
+  private final long targetLag;
+  private final int minPages;
+  private final int maxPages;
+
+  private long lastTs = -1;
+  private long lastLoggedBytes;
+  private long flushedPages;
+
+  private double walGrowthRate;
+  private double flushRate;
+
+  private volatile long lag;
+  private volatile long lagSegments;
+  private volatile long reportedWalGrowthRate;
+  private volatile long reportedFlushRate;
+
+  /**
+   * @param targetLag checkpoint lag in bytes which should not be exceeded, or -1 if lag is not
+   *     limited
+   * @param minPages amount of pages which is flushed if WAL does not grow
+   * @param maxPages maximum amount of pages which may be flushed during single flush cycle
+   */
+  CheckpointPacer(final long targetLag, final int minPages, final int maxPages) {
+    this.targetLag = targetLag;
+    this.minPages = minPages;
+    this.maxPages = maxPages;
+  }
+
+  /**
+   * @param now current time in nanoseconds
+   * @param loggedBytes amount of bytes logged into WAL since it was opened
+   * @param walSize current size of WAL in bytes
+   * @param beginSegment first segment of WAL
+   * @param endSegment active segment of WAL
+   * @param oldestDirtySegment segment of the oldest not flushed change of pages, or -1 if there are
+   *     no dirty pages
+   * @param dirtyPages amount of dirty pages
+   * @return amount of pages which should be flushed during current flush cycle
+   */
+  int pagesToFlush(
+      final long now,
+      final long loggedBytes,
+      final long walSize,
+      final long beginSegment,
+      final long endSegment,
+      final long oldestDirtySegment,
+      final int dirtyPages) {
+    long growth = 0;
+    if (lastTs >= 0 && now > lastTs) {
+      growth = Math.max(0, loggedBytes - lastLoggedBytes);
+
+      final double interval = (now - lastTs) / 1_000_000_000.0;
+      walGrowthRate = walGrowthRate * (1 - SMOOTHING) + growth / interval * SMOOTHING;
+      flushRate = flushRate * (1 - SMOOTHING) + flushedPages / interval * SMOOTHING;
+
+      reportedWalGrowthRate = (long) walGrowthRate;
+      reportedFlushRate = (long) flushRate;
+    }
+
+    lastTs = now;
+    lastLoggedBytes = loggedBytes;
+    flushedPages = 0;
+
+    if (oldestDirtySegment < 0 || dirtyPages == 0) {
+      lag = 0;
+      lagSegments = 0;
+      return 0;
+    }
+
+    // segments are assumed to be of the same size
+    final long segments = Math.max(1, endSegment - beginSegment + 1);
+    final long currentLag =
+        walSize * Math.min(segments, Math.max(1, endSegment - oldestDirtySegment + 1)) / segments;
+
+    lag = currentLag;
+    lagSegments = Math.max(0, endSegment - oldestDirtySegment);
+
+    // changes of active segment can not be removed from WAL anyway
+    if (oldestDirtySegment >= endSegment) {
+      return 0;
+    }
+
+    double pages = currentLag > 0 ? (double) dirtyPages * growth / currentLag : dirtyPages;
+    if (targetLag > 0 && currentLag > targetLag) {
+      pages *= (double) currentLag / targetLag;
+    }
+
+    return (int) Math.min(maxPages, Math.max(minPages, Math.ceil(pages)));
+  }
+
+  /** Registers pages which were flushed during current flush cycle. */
+  void flushed(final int pages) {
+    flushedPages += pages;
+  }
+
+  /** @return <code>true</code> if checkpoint lag exceeds its target value */
+  boolean isBehind() {
+    return targetLag > 0 && lag > targetLag;
+  }
+
+  /** @return distance in bytes between the oldest not flushed change of pages and end of WAL */
+  long getLag() {
+    return lag;
+  }
+
+  /** @return amount of WAL segments which can not be truncated because of not flushed pages */
+  long getLagSegments() {
+    return lagSegments;
+  }
+
+  /** @return averaged speed of WAL growth in bytes per second */
+  long getWALGrowthRate() {
+    return reportedWalGrowthRate;
+  }
+
+  /** @return averaged speed of flush of pages in pages per second */
+  long getFlushRate() {
+    return reportedFlushRate;
+  }
+}
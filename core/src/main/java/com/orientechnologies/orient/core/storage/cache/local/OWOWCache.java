@@ -40,6 +40,9 @@ import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.OQuarto;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.exception.OInvalidStorageEncryptionKeyException;
@@ -52,9 +55,11 @@ import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.local.aoc.CompressedFile;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLog;
 import com.orientechnologies.orient.core.storage.fs.AsyncFile;
 import com.orientechnologies.orient.core.storage.fs.IOResult;
+import com.orientechnologies.orient.core.storage.fs.IOUring;
 import com.orientechnologies.orient.core.storage.fs.OFile;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.MetaDataRecord;
@@ -70,8 +75,10 @@ import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileStore;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.security.InvalidAlgorithmParameterException;
@@ -373,6 +380,9 @@ public final class OWOWCache extends OAbstractWriteCache
 
   private final int chunkSize;
 
+  /** Calculates amount of pages which are flushed to keep WAL truncated continuously. */
+  private final CheckpointPacer checkpointPacer;
+
   private final long pagesFlushInterval;
   private volatile boolean stopFlush;
   private volatile Future<?> flushFuture;
@@ -391,6 +401,18 @@ public final class OWOWCache extends OAbstractWriteCache
    */
   private final DoubleWriteLog doubleWriteLog;
 
+  /**
+   * io_uring backend which is used to read and write batches of pages, or <code>null</code> if
+   * asynchronous file channels are used.
+   */
+  private final IOUring ioUring = IOUring.instance();
+
+  /** Compression of pages of new data files, or <code>null</code> if pages are not compressed. */
+  private final OCompression pageCompression;
+
+  /** Patterns of names of data files which pages are compressed. */
+  private final List<PathMatcher> pageCompressionFiles = new ArrayList<>();
+
   private boolean closed;
 
   public OWOWCache(
@@ -410,6 +432,98 @@ public final class OWOWCache extends OAbstractWriteCache
       final byte[] iv,
       final byte[] aesKey,
       final boolean callFsync) {
+    this(
+        pageSize,
+        bufferPool,
+        writeAheadLog,
+        doubleWriteLog,
+        pagesFlushInterval,
+        shutdownTimeout,
+        exclusiveWriteCacheMaxSize,
+        storagePath,
+        storageName,
+        stringSerializer,
+        files,
+        id,
+        checksumMode,
+        iv,
+        aesKey,
+        callFsync,
+        null,
+        null);
+  }
+
+  /**
+   * @param pageCompression name of compression of pages of new data files, or <code>null</code> if
+   *     pages are not compressed
+   * @param pageCompressionFiles comma separated glob patterns of names of data files which pages
+   *     are compressed
+   */
+  public OWOWCache(
+      final int pageSize,
+      final OByteBufferPool bufferPool,
+      final OWriteAheadLog writeAheadLog,
+      final DoubleWriteLog doubleWriteLog,
+      final long pagesFlushInterval,
+      final int shutdownTimeout,
+      final long exclusiveWriteCacheMaxSize,
+      final Path storagePath,
+      final String storageName,
+      final OBinarySerializer<String> stringSerializer,
+      final OClosableLinkedContainer<Long, OFile> files,
+      final int id,
+      final OChecksumMode checksumMode,
+      final byte[] iv,
+      final byte[] aesKey,
+      final boolean callFsync,
+      final String pageCompression,
+      final String pageCompressionFiles) {
+    this(
+        pageSize,
+        bufferPool,
+        writeAheadLog,
+        doubleWriteLog,
+        pagesFlushInterval,
+        shutdownTimeout,
+        exclusiveWriteCacheMaxSize,
+        storagePath,
+        storageName,
+        stringSerializer,
+        files,
+        id,
+        checksumMode,
+        iv,
+        aesKey,
+        callFsync,
+        pageCompression,
+        pageCompressionFiles,
+        -1);
+  }
+
+  /**
+   * @param checkpointTargetLag distance in bytes between the oldest not flushed change of pages and
+   *     the end of WAL which background flush of pages tries to keep, or -1 if it is not limited
+   */
+  public OWOWCache(
+      final int pageSize,
+      final OByteBufferPool bufferPool,
+      final OWriteAheadLog writeAheadLog,
+      final DoubleWriteLog doubleWriteLog,
+      final long pagesFlushInterval,
+      final int shutdownTimeout,
+      final long exclusiveWriteCacheMaxSize,
+      final Path storagePath,
+      final String storageName,
+      final OBinarySerializer<String> stringSerializer,
+      final OClosableLinkedContainer<Long, OFile> files,
+      final int id,
+      final OChecksumMode checksumMode,
+      final byte[] iv,
+      final byte[] aesKey,
+      final boolean callFsync,
+      final String pageCompression,
+      final String pageCompressionFiles,
+      final long checkpointTargetLag) {
 
     if (aesKey != null && aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32) {
       throw new OInvalidStorageEncryptionKeyException(
@@ -426,6 +540,31 @@ public final class OWOWCache extends OAbstractWriteCache
     this.aesKey = aesKey;
     this.callFsync = callFsync;
 
+    if (pageCompression == null
+        || pageCompression.isEmpty()
+        || ONothingCompression.NAME.equals(pageCompression)) {
+      this.pageCompression = null;
+    } else if (aesKey != null) {
+      // encrypted pages can not be compressed
+      OLogManager.instance()
+          .warnNoDb(this, "Pages of encrypted storage %s will not be compressed", storageName);
+      this.pageCompression = null;
+    } else if (!CompressedFile.isSupported(pageSize)) {
+      OLogManager.instance().warnNoDb(this, "Pages of size %d can not be compressed", pageSize);
+      this.pageCompression = null;
+    } else {
+      this.pageCompression = OCompressionFactory.INSTANCE.getCompression(pageCompression, null);
+
+      if (pageCompressionFiles != null) {
+        for (final String pattern : pageCompressionFiles.split(",")) {
+          if (!pattern.trim().isEmpty()) {
+            this.pageCompressionFiles.add(
+                FileSystems.getDefault().getPathMatcher("glob:" + pattern.trim()));
+          }
+        }
+      }
+    }
+
     filesLock.acquireWriteLock();
     try {
       this.closed = true;
@@ -433,6 +572,8 @@ public final class OWOWCache extends OAbstractWriteCache
       this.id = id;
       this.files = files;
       this.chunkSize = CHUNK_SIZE / pageSize;
+      this.checkpointPacer =
+          new CheckpointPacer(checkpointTargetLag, Math.max(1, chunkSize / 16), chunkSize);
 
       this.pageSize = pageSize;
       this.writeAheadLog = writeAheadLog;
@@ -1093,6 +1234,54 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  @Override
+  public OCachePointer[] loadPages(
+      final long fileId,
+      final long startPageIndex,
+      final int pageCount,
+      final boolean verifyChecksums)
+      throws IOException {
+    final int intId = extractFileId(fileId);
+    filesLock.acquireReadLock();
+    try {
+      checkForClose();
+
+      final PageKey[] pageKeys = new PageKey[pageCount];
+      for (int i = 0; i < pageCount; i++) {
+        pageKeys[i] = new PageKey(intId, startPageIndex + i);
+      }
+
+      final OCachePointer[] pointers = new OCachePointer[pageCount];
+      final Lock[] pageLocks = lockManager.acquireSharedLocksInBatch(pageKeys);
+      try {
+        for (int i = 0; i < pageCount; i++) {
+          final OCachePointer pagePointer = writeCachePages.get(pageKeys[i]);
+          if (pagePointer != null) {
+            pagePointer.incrementReadersReferrer();
+            pointers[i] = pagePointer;
+          }
+        }
+
+        loadFileContent(intId, startPageIndex, pointers, verifyChecksums);
+      } catch (final IOException | RuntimeException e) {
+        for (final OCachePointer pointer : pointers) {
+          if (pointer != null) {
+            pointer.decrementReadersReferrer();
+          }
+        }
+        throw e;
+      } finally {
+        for (final Lock pageLock : pageLocks) {
+          pageLock.unlock();
+        }
+      }
+
+      return pointers;
+    } finally {
+      filesLock.releaseReadLock();
+    }
+  }
+
   @Override
   public int allocateNewPage(final long fileId) throws IOException {
     filesLock.acquireReadLock();
@@ -1187,6 +1376,26 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  /** @return distance in bytes between the oldest not flushed change of pages and end of WAL */
+  public long getCheckpointLag() {
+    return checkpointPacer.getLag();
+  }
+
+  /** @return amount of WAL segments which can not be truncated because of not flushed pages */
+  public long getCheckpointLagSegments() {
+    return checkpointPacer.getLagSegments();
+  }
+
+  /** @return averaged speed of WAL growth in bytes per second */
+  public long getWALGrowthRate() {
+    return checkpointPacer.getWALGrowthRate();
+  }
+
+  /** @return averaged speed of flush of pages to keep WAL truncated, in pages per second */
+  public long getCheckpointFlushRate() {
+    return checkpointPacer.getFlushRate();
+  }
+
   @Override
   public long getExclusiveWriteCachePagesSize() {
     return exclusiveWriteCacheSize.get();
@@ -1857,7 +2066,32 @@ public final class OWOWCache extends OAbstractWriteCache
 
   private OFile createFileInstance(final String fileName, final int fileId) {
     final String internalFileName = createInternalFileName(fileName, fileId);
-    return new AsyncFile(storagePath.resolve(internalFileName), pageSize);
+    return createFileInstance(storagePath.resolve(internalFileName));
+  }
+
+  /**
+   * Files which were created with compression of pages are always opened as compressed files, new
+   * files are compressed if their names match one of the configured patterns.
+   */
+  private OFile createFileInstance(final Path path) {
+    try {
+      if (CompressedFile.isCompressed(path)) {
+        return new CompressedFile(path, pageSize, pageCompression);
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(new OStorageException("Can not open file " + path), e);
+    }
+
+    if (pageCompression != null && !Files.exists(path)) {
+      final Path fileName = path.getFileName();
+      for (final PathMatcher matcher : pageCompressionFiles) {
+        if (matcher.matches(fileName)) {
+          return new CompressedFile(path, pageSize, pageCompression);
+        }
+      }
+    }
+
+    return new AsyncFile(path, pageSize, ioUring);
   }
 
   private static String createInternalFileName(final String fileName, final int fileId) {
@@ -1940,7 +2174,7 @@ public final class OWOWCache extends OAbstractWriteCache
 
         if (files.get(externalId) == null) {
           final Path path = storagePath.resolve(idFileNameMap.get((nameIdEntry.getValue())));
-          final AsyncFile file = new AsyncFile(path, pageSize);
+          final OFile file = createFileInstance(path);
 
           if (file.exists()) {
             file.open();
@@ -2007,7 +2241,7 @@ public final class OWOWCache extends OAbstractWriteCache
 
         if (files.get(externalId) == null) {
           final Path path = storagePath.resolve(idFileNameMap.get((nameIdEntry.getValue())));
-          final AsyncFile file = new AsyncFile(path, pageSize);
+          final OFile file = createFileInstance(path);
 
           if (file.exists()) {
             file.open();
@@ -2081,7 +2315,7 @@ public final class OWOWCache extends OAbstractWriteCache
 
         if (files.get(externalId) == null) {
           final OFile fileClassic =
-              new AsyncFile(storagePath.resolve(nameIdEntry.getKey()), pageSize);
+              createFileInstance(storagePath.resolve(nameIdEntry.getKey()));
 
           if (fileClassic.exists()) {
             fileClassic.open();
@@ -2331,39 +2565,14 @@ public final class OWOWCache extends OAbstractWriteCache
         // if page is not stored in the file may be page is stored in double write log
         if (fileClassic.getFileSize() >= pageEndPosition) {
           OPointer pointer = bufferPool.acquireDirect(true, Intention.LOAD_PAGE_FROM_DISK);
-          ByteBuffer buffer = pointer.getNativeByteBuffer();
+          final ByteBuffer buffer = pointer.getNativeByteBuffer();
 
           assert buffer.position() == 0;
           assert buffer.order() == ByteOrder.nativeOrder();
 
           fileClassic.read(pagePosition, buffer, false);
 
-          if (verifyChecksums
-              && (checksumMode == OChecksumMode.StoreAndVerify
-                  || checksumMode == OChecksumMode.StoreAndThrow
-                  || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
-            // if page is broken inside of data file we check double write log
-            if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
-              final OPointer doubleWritePointer =
-                  doubleWriteLog.loadPage(internalFileId, (int) pageIndex, bufferPool);
-
-              if (doubleWritePointer == null) {
-                assertPageIsBroken(pageIndex, fileId, pointer);
-              } else {
-                bufferPool.release(pointer);
-
-                buffer = doubleWritePointer.getNativeByteBuffer();
-                assert buffer.position() == 0;
-                pointer = doubleWritePointer;
-
-                if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
-                  assertPageIsBroken(pageIndex, fileId, pointer);
-                }
-              }
-            }
-          }
-
-          buffer.position(0);
+          pointer = verifyLoadedPage(pointer, buffer, internalFileId, pageIndex, verifyChecksums);
           return new OCachePointer(pointer, bufferPool, fileId, (int) pageIndex);
         } else {
           final OPointer pointer =
@@ -2392,6 +2601,124 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  /**
+   * Loads pages which are not cached by write cache and are stored in the file by a single batch of
+   * reads. Pages which are not stored in the file are skipped.
+   */
+  private void loadFileContent(
+      final int internalFileId,
+      final long startPageIndex,
+      final OCachePointer[] pointers,
+      final boolean verifyChecksums)
+      throws IOException {
+    final long fileId = composeFileId(id, internalFileId);
+    try {
+      final OClosableEntry<Long, OFile> entry = files.acquire(fileId);
+      try {
+        final OFile fileClassic = entry.get();
+        if (fileClassic == null) {
+          throw new IllegalArgumentException(
+              "File with id " + internalFileId + " not found in WOW Cache");
+        }
+
+        final long fileSize = fileClassic.getFileSize();
+        final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>(pointers.length);
+        final List<OPointer> loadedPointers = new ArrayList<>(pointers.length);
+        final List<Integer> loadedIndexes = new ArrayList<>(pointers.length);
+
+        try {
+          for (int i = 0; i < pointers.length; i++) {
+            final long pagePosition = (startPageIndex + i) * pageSize;
+            if (pointers[i] != null || pagePosition + pageSize > fileSize) {
+              continue;
+            }
+
+            final OPointer pointer = bufferPool.acquireDirect(true, Intention.LOAD_PAGE_FROM_DISK);
+            loadedPointers.add(pointer);
+            loadedIndexes.add(i);
+            buffers.add(new ORawPair<>(pagePosition, pointer.getNativeByteBuffer()));
+          }
+
+          if (!buffers.isEmpty()) {
+            fileClassic.read(buffers, false);
+          }
+
+          for (int n = 0; n < loadedIndexes.size(); n++) {
+            final long pageIndex = startPageIndex + loadedIndexes.get(n);
+            // pointer is released during verification if page is broken
+            final OPointer loadedPointer = loadedPointers.set(n, null);
+            final OPointer pointer =
+                verifyLoadedPage(
+                    loadedPointer,
+                    buffers.get(n).second,
+                    internalFileId,
+                    pageIndex,
+                    verifyChecksums);
+
+            final OCachePointer cachePointer =
+                new OCachePointer(pointer, bufferPool, fileId, (int) pageIndex);
+            cachePointer.incrementReadersReferrer();
+            pointers[loadedIndexes.get(n)] = cachePointer;
+          }
+        } finally {
+          for (final OPointer pointer : loadedPointers) {
+            if (pointer != null) {
+              bufferPool.release(pointer);
+            }
+          }
+        }
+      } finally {
+        files.release(entry);
+      }
+    } catch (final InterruptedException e) {
+      throw OException.wrapException(new OStorageException("Data load was interrupted"), e);
+    }
+  }
+
+  /**
+   * Verifies checksum of the page which was read from the file and decrypts it. If page is broken
+   * inside of data file, its copy from double write log is used.
+   *
+   * @return pointer which contains content of the page
+   */
+  private OPointer verifyLoadedPage(
+      OPointer pointer,
+      ByteBuffer buffer,
+      final int internalFileId,
+      final long pageIndex,
+      final boolean verifyChecksums)
+      throws IOException {
+    if (verifyChecksums
+        && (checksumMode == OChecksumMode.StoreAndVerify
+            || checksumMode == OChecksumMode.StoreAndThrow
+            || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
+      final long fileId = composeFileId(id, internalFileId);
+
+      // if page is broken inside of data file we check double write log
+      if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
+        final OPointer doubleWritePointer =
+            doubleWriteLog.loadPage(internalFileId, (int) pageIndex, bufferPool);
+
+        if (doubleWritePointer == null) {
+          assertPageIsBroken(pageIndex, fileId, pointer);
+        } else {
+          bufferPool.release(pointer);
+
+          buffer = doubleWritePointer.getNativeByteBuffer();
+          assert buffer.position() == 0;
+          pointer = doubleWritePointer;
+
+          if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
+            assertPageIsBroken(pageIndex, fileId, pointer);
+          }
+        }
+      }
+    }
+
+    buffer.position(0);
+    return pointer;
+  }
+
   private void assertPageIsBroken(long pageIndex, long fileId, OPointer pointer) {
     final String message =
         "Magic number verification failed for page `"
@@ -2852,21 +3179,32 @@ public final class OWOWCache extends OAbstractWriteCache
 
           final OLogSequenceNumber begin = writeAheadLog.begin();
           final OLogSequenceNumber end = writeAheadLog.end();
-          final long segments = end.getSegment() - begin.getSegment() + 1;
 
-          if (segments > 1) {
+          // changes of active segment can not be truncated, so no need to check them
+          long oldestDirtySegment = end.getSegment();
+          if (end.getSegment() > begin.getSegment()) {
             convertSharedDirtyPagesToLocal();
 
-            Map.Entry<Long, TreeSet<PageKey>> firstSegment = localDirtyPagesBySegment.firstEntry();
-            if (firstSegment != null) {
-              final long firstSegmentIndex = firstSegment.getKey();
-              if (firstSegmentIndex < end.getSegment()) {
-                flushWriteCacheFromMinLSN(firstSegmentIndex, firstSegmentIndex + 1, chunkSize);
-              }
-            }
+            final Map.Entry<Long, TreeSet<PageKey>> firstSegment =
+                localDirtyPagesBySegment.firstEntry();
+            oldestDirtySegment = firstSegment != null ? firstSegment.getKey() : -1;
+          }
 
-            firstSegment = localDirtyPagesBySegment.firstEntry();
-            if (firstSegment != null && firstSegment.getKey() < end.getSegment()) {
+          final int pagesToFlush =
+              checkpointPacer.pagesToFlush(
+                  System.nanoTime(),
+                  writeAheadLog.loggedBytes(),
+                  writeAheadLog.size(),
+                  begin.getSegment(),
+                  end.getSegment(),
+                  oldestDirtySegment,
+                  localDirtyPages.size() + dirtyPages.size());
+
+          if (pagesToFlush > 0) {
+            checkpointPacer.flushed(
+                flushWriteCacheFromMinLSN(oldestDirtySegment, end.getSegment(), pagesToFlush));
+
+            if (checkpointPacer.isBehind()) {
               flushInterval = 1;
             }
           }
@@ -2949,7 +3287,7 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
-  private void flushWriteCacheFromMinLSN(
+  private int flushWriteCacheFromMinLSN(
       final long segStart, final long segEnd, final int pagesFlushLimit)
       throws InterruptedException, IOException {
     // first we try to find page which contains the oldest not flushed changes
@@ -3097,6 +3435,8 @@ public final class OWOWCache extends OAbstractWriteCache
       throw new IllegalStateException(
           "Copied pages (" + copiedPages + " ) != flushed pages (" + flushedPages + ")");
     }
+
+    return flushedPages;
   }
 
   private int flushPages(
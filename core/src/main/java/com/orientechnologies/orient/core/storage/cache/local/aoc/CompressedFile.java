@@ -0,0 +1,962 @@
+package com.orientechnologies.orient.core.storage.cache.local.aoc;
+
+import com.orientechnologies.common.concur.lock.ScalableRWLock;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.fs.IOResult;
+import com.orientechnologies.orient.core.storage.fs.OFile;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * File which stores compressed pages. Every page is compressed on write and is stored as a record
+ * of variable size which is appended to the current segment of the file. Location of the latest
+ * version of each page is kept in {@link FileMap}, and {@link FileSegment}s track amount of space
+ * which is still occupied by the latest versions of the pages, so segments which contain only stale
+ * pages are reused and segments which contain mostly stale pages are compacted.
+ *
+ * <p>Space of the stale version of the page is reused only after the new version is fsync-ed, so
+ * the last durable version of each page is always present in the file. Each record contains index
+ * of the page, sequence number of the write and checksums, so if file was not closed correctly its
+ * map is restored by scan of all segments, partially written records are ignored and the latest
+ * version of each page wins. Once file is closed correctly, map of pages is stored at the end of
+ * the file, so scan is not needed.
+ */
+public final class CompressedFile implements OFile {
+  /** Size of the unit of allocation of space inside of the file. */
+  static final int UNIT_SIZE = 1024;
+
+  /** Amount of units in single segment. */
+  static final int SEGMENT_SIZE = 4 * 1024;
+
+  private static final long SEGMENT_BYTES = (long) SEGMENT_SIZE * UNIT_SIZE;
+
+  /** Segments are compacted only if file contains at least this amount of segments. */
+  private static final int MIN_SEGMENTS_TO_COMPACT = 4;
+
+  /** Maximum amount of segments compacted at once. */
+  private static final int SEGMENTS_TO_COMPACT = 4;
+
+  private static final long MAGIC = 0x4F43_5041_4745_3031L;
+  private static final int FORMAT_VERSION = 1;
+  private static final int STATE_MAGIC = 0x4F435354;
+  private static final int RECORD_MAGIC = 0x4F435047;
+
+  /** Header of the file consists of immutable part and of the state which is changed on close. */
+  private static final int STATE_OFFSET = HEADER_SIZE / 2;
+
+  private static final int RECORD_HEADER_SIZE = 32;
+  private static final int RECORD_PAYLOAD_CRC_OFFSET = 24;
+  private static final int RECORD_HEADER_CRC_OFFSET = 28;
+
+  private static final byte COMPRESSED_FLAG = 1;
+
+  private final ScalableRWLock lock = new ScalableRWLock();
+
+  /** Guards allocation of space, map of the pages and segments. */
+  private final Object allocationLock = new Object();
+
+  private final AtomicLong dirtyCounter = new AtomicLong();
+  private final Object flushSemaphore = new Object();
+
+  private volatile Path osFile;
+  private final int pageSize;
+  private OCompression compression;
+
+  private FileChannel channel;
+
+  private volatile FileMap fileMap = new FileMap();
+  private final List<FileSegment> segments = new ArrayList<>();
+  private final ArrayDeque<FileSegment> freeSegments = new ArrayDeque<>();
+
+  /** Segments which do not contain live pages, but can be reused only after the next fsync. */
+  private List<FileSegment> pendingSegments = new ArrayList<>();
+
+  private FileSegment activeSegment;
+  private long liveUnits;
+  private long sequence;
+
+  /**
+   * @param compression compression of the pages of new file, if file already exists compression
+   *     which is stored in the file is used
+   */
+  public CompressedFile(final Path osFile, final int pageSize, final OCompression compression) {
+    if (!isSupported(pageSize)) {
+      throw new IllegalArgumentException("Page size " + pageSize + " is too big for compression");
+    }
+
+    this.osFile = osFile;
+    this.pageSize = pageSize;
+    this.compression = compression;
+  }
+
+  /** @return <code>true</code> if pages of given size may be stored in compressed file */
+  public static boolean isSupported(final int pageSize) {
+    return units(pageSize) <= FileMap.MAX_PAGE_SIZE;
+  }
+
+  /** @return <code>true</code> if file exists and contains compressed pages */
+  public static boolean isCompressed(final Path path) throws IOException {
+    if (!Files.exists(path)) {
+      return false;
+    }
+
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_SIZE) {
+        return false;
+      }
+
+      final ByteBuffer buffer = ByteBuffer.allocate(8);
+      readFully(channel, buffer, 0);
+      return buffer.getLong(0) == MAGIC;
+    }
+  }
+
+  @Override
+  public void create() throws IOException {
+    lock.exclusiveLock();
+    try {
+      if (channel != null) {
+        throw new OStorageException("File " + osFile + " is already opened.");
+      }
+
+      Files.createFile(osFile);
+      doCreate();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void doCreate() throws IOException {
+    if (compression == null) {
+      throw new OStorageException("Compression of pages of file " + osFile + " is not set");
+    }
+
+    channel = FileChannel.open(osFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    final byte[] compressionName = compression.name().getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer header = ByteBuffer.allocate(STATE_OFFSET);
+    header.putLong(MAGIC);
+    header.putInt(FORMAT_VERSION);
+    header.putInt(pageSize);
+    header.putInt(UNIT_SIZE);
+    header.putInt(SEGMENT_SIZE);
+    header.putShort((short) compressionName.length);
+    header.put(compressionName);
+    header.putInt(STATE_OFFSET - 4, crc(header.array(), 0, STATE_OFFSET - 4));
+
+    header.rewind();
+    writeFully(channel, header, 0);
+    writeState(false, 0, 0);
+
+    channel.force(true);
+  }
+
+  @Override
+  public void open() {
+    lock.exclusiveLock();
+    try {
+      doOpen();
+    } catch (final IOException e) {
+      throw OException.wrapException(new OStorageException("Can not open file " + osFile), e);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void doOpen() throws IOException {
+    if (channel != null) {
+      throw new OStorageException("File " + osFile + " is already opened.");
+    }
+
+    channel = FileChannel.open(osFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    readFully(channel, header, 0);
+    readHeader(header);
+
+    if (!loadMap(header)) {
+      scan();
+    }
+
+    // map which is stored in the file is not valid anymore once pages are changed
+    writeState(false, 0, 0);
+    channel.force(true);
+  }
+
+  private void readHeader(final ByteBuffer header) {
+    if (header.getLong(0) != MAGIC
+        || header.getInt(STATE_OFFSET - 4) != crc(header.array(), 0, STATE_OFFSET - 4)) {
+      throw new OStorageException("File " + osFile + " is not a file of compressed pages");
+    }
+
+    if (header.getInt(8) != FORMAT_VERSION) {
+      throw new OStorageException(
+          "Unsupported version " + header.getInt(8) + " of file of compressed pages " + osFile);
+    }
+
+    if (header.getInt(12) != pageSize
+        || header.getInt(16) != UNIT_SIZE
+        || header.getInt(20) != SEGMENT_SIZE) {
+      throw new OStorageException(
+          "Page size of file " + osFile + " is " + header.getInt(12) + " but not " + pageSize);
+    }
+
+    final int nameLength = header.getShort(24);
+    final String compressionName =
+        new String(header.array(), 26, nameLength, StandardCharsets.UTF_8);
+    if (compression == null || !compression.name().equals(compressionName)) {
+      compression = OCompressionFactory.INSTANCE.getCompression(compressionName, null);
+    }
+  }
+
+  /** Loads map of pages which was stored on close of the file. */
+  private boolean loadMap(final ByteBuffer header) throws IOException {
+    if (header.getInt(STATE_OFFSET) != STATE_MAGIC
+        || header.get(STATE_OFFSET + 4) == 0
+        || header.getInt(STATE_OFFSET + 20) != crc(header.array(), STATE_OFFSET, 20)) {
+      return false;
+    }
+
+    final long mapPosition = header.getLong(STATE_OFFSET + 8);
+    final int mapLength = header.getInt(STATE_OFFSET + 16);
+    if (mapPosition < HEADER_SIZE || mapLength < 16 || mapPosition + mapLength > channel.size()) {
+      return false;
+    }
+
+    final ByteBuffer map = ByteBuffer.allocate(mapLength);
+    readFully(channel, map, mapPosition);
+    if (map.getInt(mapLength - 4) != crc(map.array(), 0, mapLength - 4)) {
+      return false;
+    }
+
+    map.rewind();
+    sequence = map.getLong();
+    final int pages = map.getInt();
+
+    final int segmentCount = (int) ((mapPosition - HEADER_SIZE) / SEGMENT_BYTES);
+    for (int i = 0; i < segmentCount; i++) {
+      segments.add(new FileSegment(i, SEGMENT_SIZE));
+    }
+
+    final FileMap fileMap = new FileMap();
+    for (int i = 0; i < pages; i++) {
+      fileMap.allocateNewPage();
+
+      final int position = map.getInt();
+      final int units = map.getInt();
+      final int version = map.getInt();
+      if (position >= 0) {
+        fileMap.setMapping(i, position, units, FileMap.DATA_PAGE, version);
+        segments.get(position / SEGMENT_SIZE).addLive(units);
+        liveUnits += units;
+      }
+    }
+
+    for (final FileSegment segment : segments) {
+      if (segment.getLive() == 0) {
+        freeSegments.add(segment);
+      }
+    }
+
+    this.fileMap = fileMap;
+    channel.truncate(mapPosition);
+
+    return true;
+  }
+
+  /** Restores map of pages from the records stored in the file. */
+  private void scan() throws IOException {
+    final long dataSize = Math.max(0, channel.size() - HEADER_SIZE);
+    final int segmentCount = (int) ((dataSize + SEGMENT_BYTES - 1) / SEGMENT_BYTES);
+
+    int pages = 0;
+    int[] positions = new int[1024];
+    int[] sizes = new int[1024];
+    long[] sequences = new long[1024];
+
+    final ByteBuffer buffer = ByteBuffer.allocate((int) SEGMENT_BYTES);
+    for (int segmentIndex = 0; segmentIndex < segmentCount; segmentIndex++) {
+      segments.add(new FileSegment(segmentIndex, SEGMENT_SIZE));
+
+      buffer.clear();
+      final long segmentPosition = HEADER_SIZE + segmentIndex * SEGMENT_BYTES;
+      final int segmentUnits =
+          (int) (Math.min(SEGMENT_BYTES, channel.size() - segmentPosition) / UNIT_SIZE);
+      buffer.limit(segmentUnits * UNIT_SIZE);
+      readFully(channel, buffer, segmentPosition);
+
+      int unit = 0;
+      while (unit < segmentUnits) {
+        final int units = validRecordUnits(buffer, unit * UNIT_SIZE, segmentUnits - unit);
+        if (units == 0) {
+          unit++;
+          continue;
+        }
+
+        final int pageIndex = buffer.getInt(unit * UNIT_SIZE + 4);
+        final long recordSequence = buffer.getLong(unit * UNIT_SIZE + 8);
+        if (pageIndex >= positions.length) {
+          final int newLength = Math.max(positions.length * 2, pageIndex + 1);
+          positions = Arrays.copyOf(positions, newLength);
+          sizes = Arrays.copyOf(sizes, newLength);
+          sequences = Arrays.copyOf(sequences, newLength);
+        }
+
+        if (recordSequence > sequences[pageIndex]) {
+          pages = Math.max(pages, pageIndex + 1);
+          positions[pageIndex] = segmentIndex * SEGMENT_SIZE + unit;
+          sizes[pageIndex] = units;
+          sequences[pageIndex] = recordSequence;
+        }
+
+        sequence = Math.max(sequence, recordSequence);
+        unit += units;
+      }
+    }
+
+    final FileMap fileMap = new FileMap();
+    for (int i = 0; i < pages; i++) {
+      fileMap.allocateNewPage();
+
+      if (sizes[i] > 0) {
+        fileMap.setMapping(i, positions[i], sizes[i], FileMap.DATA_PAGE, version(sequences[i]));
+        segments.get(positions[i] / SEGMENT_SIZE).addLive(sizes[i]);
+        liveUnits += sizes[i];
+      }
+    }
+
+    for (final FileSegment segment : segments) {
+      if (segment.getLive() == 0) {
+        freeSegments.add(segment);
+      }
+    }
+
+    this.fileMap = fileMap;
+  }
+
+  /**
+   * @return amount of units occupied by the record which starts at given offset of the buffer, or 0
+   *     if there is no valid record at this offset
+   */
+  private int validRecordUnits(final ByteBuffer buffer, final int offset, final int maxUnits) {
+    if (buffer.getInt(offset) != RECORD_MAGIC
+        || buffer.getInt(offset + RECORD_HEADER_CRC_OFFSET)
+            != crc(buffer.array(), offset, RECORD_HEADER_CRC_OFFSET)) {
+      return 0;
+    }
+
+    final int payloadLength = buffer.getInt(offset + 16);
+    if (payloadLength <= 0 || payloadLength > pageSize || buffer.getInt(offset + 4) < 0) {
+      return 0;
+    }
+
+    final int units = units(payloadLength);
+    if (units > maxUnits
+        || buffer.getInt(offset + RECORD_PAYLOAD_CRC_OFFSET)
+            != crc(buffer.array(), offset + RECORD_HEADER_SIZE, payloadLength)) {
+      return 0;
+    }
+
+    return units;
+  }
+
+  @Override
+  public long getFileSize() {
+    return (long) fileMap.getSize() * pageSize;
+  }
+
+  @Override
+  public String getName() {
+    return osFile.getFileName().toString();
+  }
+
+  @Override
+  public boolean isOpen() {
+    lock.sharedLock();
+    try {
+      return channel != null;
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public boolean exists() {
+    return Files.exists(osFile);
+  }
+
+  @Override
+  public long allocateSpace(final int size) {
+    assert size % pageSize == 0;
+
+    synchronized (allocationLock) {
+      final FileMap fileMap = this.fileMap;
+      final long allocated = (long) fileMap.getSize() * pageSize;
+      for (int i = 0; i < size / pageSize; i++) {
+        fileMap.allocateNewPage();
+      }
+
+      return allocated;
+    }
+  }
+
+  @Override
+  public void shrink(final long size) throws IOException {
+    if (size != 0) {
+      throw new UnsupportedOperationException("File of compressed pages can be only truncated");
+    }
+
+    lock.exclusiveLock();
+    try {
+      checkForClose();
+
+      synchronized (allocationLock) {
+        fileMap = new FileMap();
+        segments.clear();
+        freeSegments.clear();
+        pendingSegments.clear();
+        activeSegment = null;
+        liveUnits = 0;
+      }
+
+      channel.truncate(HEADER_SIZE);
+      dirtyCounter.incrementAndGet();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void read(final long offset, final ByteBuffer buffer, final boolean throwOnEof)
+      throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+      checkPosition(offset);
+
+      doRead(offset, buffer, throwOnEof);
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public void read(final List<ORawPair<Long, ByteBuffer>> buffers, final boolean throwOnEof)
+      throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        checkPosition(pair.first);
+      }
+
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        doRead(pair.first, pair.second, throwOnEof);
+      }
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  private void doRead(final long offset, final ByteBuffer buffer, final boolean throwOnEof)
+      throws IOException {
+    assert offset % pageSize == 0;
+
+    final int firstPage = (int) (offset / pageSize);
+    for (int read = 0; read < buffer.limit(); read += pageSize) {
+      final byte[] page = readPage(firstPage + read / pageSize);
+      if (page == null) {
+        if (throwOnEof) {
+          throw new EOFException("End of file " + osFile + " is reached.");
+        }
+
+        break;
+      }
+
+      buffer.position(read);
+      buffer.put(page, 0, Math.min(pageSize, buffer.limit() - read));
+    }
+  }
+
+  /** @return content of the page or <code>null</code> if page was never written */
+  private byte[] readPage(final int pageIndex) throws IOException {
+    while (true) {
+      final FileMap fileMap = this.fileMap;
+      final int[] mapping = fileMap.mappingData(pageIndex);
+      if (mapping == null || mapping[0] < 0) {
+        return null;
+      }
+
+      final ByteBuffer record = ByteBuffer.allocate(mapping[1] * UNIT_SIZE);
+      readFully(channel, record, unitPosition(mapping[0]));
+
+      // page was moved in the meantime and its space may be already reused
+      if (!Arrays.equals(mapping, fileMap.mappingData(pageIndex))) {
+        continue;
+      }
+
+      if (validRecordUnits(record, 0, mapping[1]) != mapping[1] || record.getInt(4) != pageIndex) {
+        throw new OStorageException(
+            "Page " + pageIndex + " of file " + osFile + " is broken and can not be read");
+      }
+
+      final int payloadLength = record.getInt(16);
+      if ((record.get(20) & COMPRESSED_FLAG) == 0) {
+        return Arrays.copyOfRange(
+            record.array(), RECORD_HEADER_SIZE, RECORD_HEADER_SIZE + pageSize);
+      }
+
+      final byte[] page = compression.uncompress(record.array(), RECORD_HEADER_SIZE, payloadLength);
+      if (page.length != pageSize) {
+        throw new OStorageException(
+            "Page " + pageIndex + " of file " + osFile + " is broken and can not be read");
+      }
+
+      return page;
+    }
+  }
+
+  @Override
+  public void write(final long offset, final ByteBuffer buffer) throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+      checkPosition(offset);
+      checkPosition(offset + buffer.limit() - 1);
+
+      doWrite(offset, buffer);
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public IOResult write(final List<ORawPair<Long, ByteBuffer>> buffers) throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        checkPosition(pair.first);
+        checkPosition(pair.first + pair.second.limit() - 1);
+      }
+
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        doWrite(pair.first, pair.second);
+      }
+    } finally {
+      lock.sharedUnlock();
+    }
+
+    return () -> {};
+  }
+
+  private void doWrite(final long offset, final ByteBuffer buffer) throws IOException {
+    if (offset % pageSize != 0 || buffer.limit() % pageSize != 0) {
+      throw new OStorageException(
+          "Only whole pages can be written into file of compressed pages " + osFile);
+    }
+
+    final int firstPage = (int) (offset / pageSize);
+    final byte[] page = new byte[pageSize];
+    for (int written = 0; written < buffer.limit(); written += pageSize) {
+      buffer.position(written);
+      buffer.get(page);
+
+      writePage(firstPage + written / pageSize, page);
+    }
+
+    dirtyCounter.incrementAndGet();
+  }
+
+  private void writePage(final int pageIndex, final byte[] page) throws IOException {
+    final byte[] compressed = compression.compress(page);
+
+    // page is stored as is if compression does not save at least one unit
+    final boolean isCompressed = units(compressed.length) < units(pageSize);
+    final byte[] payload = isCompressed ? compressed : page;
+
+    final ByteBuffer record = ByteBuffer.allocate(units(payload.length) * UNIT_SIZE);
+    record.putInt(0, RECORD_MAGIC);
+    record.putInt(4, pageIndex);
+    record.putInt(16, payload.length);
+    record.put(20, isCompressed ? COMPRESSED_FLAG : 0);
+    record.putInt(RECORD_PAYLOAD_CRC_OFFSET, crc(payload, 0, payload.length));
+    record.position(RECORD_HEADER_SIZE);
+    record.put(payload);
+
+    synchronized (allocationLock) {
+      appendRecord(pageIndex, record);
+    }
+  }
+
+  /** Assigns new sequence number to the record of the page and appends it to the file. */
+  private void appendRecord(final int pageIndex, final ByteBuffer record) throws IOException {
+    final long recordSequence = ++sequence;
+    record.putLong(8, recordSequence);
+    record.putInt(RECORD_HEADER_CRC_OFFSET, crc(record.array(), 0, RECORD_HEADER_CRC_OFFSET));
+
+    final int units = record.capacity() / UNIT_SIZE;
+    final int position = allocate(units);
+    liveUnits += units;
+    try {
+      record.rewind();
+      writeFully(channel, record, unitPosition(position));
+    } catch (final IOException | RuntimeException e) {
+      release(position, units);
+      throw e;
+    }
+
+    final int[] previous = fileMap.mappingData(pageIndex);
+    fileMap.setMapping(pageIndex, position, units, FileMap.DATA_PAGE, version(recordSequence));
+
+    if (previous != null && previous[0] >= 0) {
+      release(previous[0], previous[1]);
+    }
+  }
+
+  private int allocate(final int units) {
+    if (activeSegment != null) {
+      final int position = activeSegment.allocate(units);
+      if (position >= 0) {
+        return position;
+      }
+
+      activeSegment.close();
+      if (activeSegment.getLive() == 0) {
+        pendingSegments.add(activeSegment);
+      }
+    }
+
+    activeSegment = freeSegments.poll();
+    if (activeSegment == null) {
+      activeSegment = new FileSegment(segments.size(), SEGMENT_SIZE);
+      segments.add(activeSegment);
+    } else {
+      activeSegment.reset();
+    }
+
+    return activeSegment.allocate(units);
+  }
+
+  private void release(final int position, final int units) {
+    final FileSegment segment = segments.get(position / SEGMENT_SIZE);
+    segment.removeLive(units);
+    liveUnits -= units;
+    if (segment != activeSegment && segment.getLive() == 0) {
+      pendingSegments.add(segment);
+    }
+  }
+
+  @Override
+  public void synch() {
+    lock.sharedLock();
+    try {
+      doSynch();
+      compact();
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during compaction of file " + osFile), e);
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  private void doSynch() {
+    synchronized (flushSemaphore) {
+      final List<FileSegment> released;
+      synchronized (allocationLock) {
+        released = pendingSegments;
+        pendingSegments = new ArrayList<>();
+      }
+
+      final long dirtyCounterValue = dirtyCounter.get();
+      if (dirtyCounterValue > 0 || !released.isEmpty()) {
+        try {
+          channel.force(false);
+        } catch (final IOException e) {
+          OLogManager.instance()
+              .warn(
+                  this,
+                  "Error during flush of file %s. Data may be lost in case of power failure",
+                  e,
+                  getName());
+        }
+
+        dirtyCounter.addAndGet(-dirtyCounterValue);
+      }
+
+      // stale pages are durably replaced by the new versions, so space may be reused
+      synchronized (allocationLock) {
+        for (final FileSegment segment : released) {
+          if (segment.getLive() == 0 && segment != activeSegment) {
+            freeSegments.add(segment);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Moves live pages out of the segments which contain mostly stale pages, space of those segments
+   * is reused after the next fsync.
+   */
+  private void compact() throws IOException {
+    final Set<Integer> compacted = new HashSet<>();
+    synchronized (allocationLock) {
+      final long usedUnits = (long) (segments.size() - freeSegments.size()) * SEGMENT_SIZE;
+      if (segments.size() < MIN_SEGMENTS_TO_COMPACT || usedUnits - liveUnits <= liveUnits) {
+        return;
+      }
+
+      final List<FileSegment> candidates = new ArrayList<>();
+      for (final FileSegment segment : segments) {
+        if (segment != activeSegment && segment.getLive() > 0) {
+          candidates.add(segment);
+        }
+      }
+
+      candidates.sort((first, second) -> Integer.compare(first.getLive(), second.getLive()));
+      for (int i = 0; i < Math.min(SEGMENTS_TO_COMPACT, candidates.size()); i++) {
+        compacted.add(candidates.get(i).getSegmentIndex());
+      }
+    }
+
+    final FileMap fileMap = this.fileMap;
+    for (int pageIndex = 0; pageIndex < fileMap.getSize(); pageIndex++) {
+      synchronized (allocationLock) {
+        final int[] mapping = fileMap.mappingData(pageIndex);
+        if (mapping == null || mapping[0] < 0 || !compacted.contains(mapping[0] / SEGMENT_SIZE)) {
+          continue;
+        }
+
+        final ByteBuffer record = ByteBuffer.allocate(mapping[1] * UNIT_SIZE);
+        readFully(channel, record, unitPosition(mapping[0]));
+        appendRecord(pageIndex, record);
+      }
+    }
+
+    if (!compacted.isEmpty()) {
+      dirtyCounter.incrementAndGet();
+    }
+  }
+
+  @Override
+  public void close() {
+    lock.exclusiveLock();
+    try {
+      if (channel == null) {
+        return;
+      }
+
+      doSynch();
+      storeMap();
+      closeChannel();
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during closing the file " + osFile), e);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  /** Stores map of pages at the end of the file, so file is not scanned on the next open. */
+  private void storeMap() throws IOException {
+    final FileMap fileMap = this.fileMap;
+    final int pages = fileMap.getSize();
+
+    final ByteBuffer map = ByteBuffer.allocate(8 + 4 + pages * 12 + 4);
+    map.putLong(sequence);
+    map.putInt(pages);
+    for (int i = 0; i < pages; i++) {
+      final int[] mapping = fileMap.mappingData(i);
+      map.putInt(mapping[0]);
+      map.putInt(mapping[1]);
+      map.putInt(mapping[3]);
+    }
+    map.putInt(crc(map.array(), 0, map.capacity() - 4));
+
+    final long mapPosition = HEADER_SIZE + segments.size() * SEGMENT_BYTES;
+    map.rewind();
+    writeFully(channel, map, mapPosition);
+    channel.force(true);
+
+    writeState(true, mapPosition, map.capacity());
+    channel.force(true);
+  }
+
+  private void writeState(final boolean closed, final long mapPosition, final int mapLength)
+      throws IOException {
+    final ByteBuffer state = ByteBuffer.allocate(24);
+    state.putInt(STATE_MAGIC);
+    state.put((byte) (closed ? 1 : 0));
+    state.position(8);
+    state.putLong(mapPosition);
+    state.putInt(mapLength);
+    state.putInt(crc(state.array(), 0, 20));
+
+    state.rewind();
+    writeFully(channel, state, STATE_OFFSET);
+  }
+
+  @Override
+  public void delete() throws IOException {
+    lock.exclusiveLock();
+    try {
+      closeChannel();
+
+      Files.delete(osFile);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void renameTo(final Path newFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      doSynch();
+      storeMap();
+      closeChannel();
+
+      //noinspection NonAtomicOperationOnVolatileField
+      osFile = Files.move(osFile, newFile);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  /**
+   * Replaces content of the file. New content may be either file of compressed pages or a file in
+   * the format of {@link com.orientechnologies.orient.core.storage.fs.AsyncFile}, in the last case
+   * pages are compressed during the copy.
+   */
+  @Override
+  public void replaceContentWith(final Path newContentFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      closeChannel();
+
+      if (isCompressed(newContentFile)) {
+        Files.copy(newContentFile, osFile, StandardCopyOption.REPLACE_EXISTING);
+        doOpen();
+        return;
+      }
+
+      Files.delete(osFile);
+      Files.createFile(osFile);
+      doCreate();
+
+      try (final FileChannel source = FileChannel.open(newContentFile, StandardOpenOption.READ)) {
+        final int pages = (int) (Math.max(0, source.size() - HEADER_SIZE) / pageSize);
+        final ByteBuffer page = ByteBuffer.allocate(pageSize);
+
+        for (int pageIndex = 0; pageIndex < pages; pageIndex++) {
+          page.clear();
+          readFully(source, page, HEADER_SIZE + (long) pageIndex * pageSize);
+
+          synchronized (allocationLock) {
+            fileMap.allocateNewPage();
+          }
+          writePage(pageIndex, page.array());
+        }
+      }
+
+      dirtyCounter.incrementAndGet();
+      doSynch();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void closeChannel() throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+
+    synchronized (allocationLock) {
+      fileMap = new FileMap();
+      segments.clear();
+      freeSegments.clear();
+      pendingSegments.clear();
+      activeSegment = null;
+      liveUnits = 0;
+    }
+  }
+
+  private void checkPosition(final long offset) {
+    final long fileSize = getFileSize();
+    if (offset < 0 || offset >= fileSize) {
+      throw new OStorageException(
+          "You are going to access region outside of allocated file position. File size = "
+              + fileSize
+              + ", requested position "
+              + offset);
+    }
+  }
+
+  private void checkForClose() {
+    if (channel == null) {
+      throw new OStorageException("File " + osFile + " is closed");
+    }
+  }
+
+  private static int units(final int payloadLength) {
+    return (RECORD_HEADER_SIZE + payloadLength + UNIT_SIZE - 1) / UNIT_SIZE;
+  }
+
+  private static long unitPosition(final int unit) {
+    return HEADER_SIZE + (long) unit * UNIT_SIZE;
+  }
+
+  private static int version(final long sequence) {
+    return (int) (sequence & FileMap.MAX_PAGE_VERSION);
+  }
+
+  private static int crc(final byte[] data, final int offset, final int length) {
+    final CRC32 crc32 = new CRC32();
+    crc32.update(data, offset, length);
+    return (int) crc32.getValue();
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read == -1) {
+        throw new EOFException("Unexpected end of file is reached");
+      }
+
+      position += read;
+    }
+  }
+
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+}
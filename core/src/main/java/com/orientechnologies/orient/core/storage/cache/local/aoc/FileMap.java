@@ -5,8 +5,8 @@ import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public final class FileMap {
-  private static final int MAX_PAGE_SIZE = (1 << 7) - 1;
-  private static final int MAX_PAGE_VERSION = (1 << (3 * 8)) - 1;
+  static final int MAX_PAGE_SIZE = (1 << 7) - 1;
+  static final int MAX_PAGE_VERSION = (1 << (3 * 8)) - 1;
 
   public static final byte DATA_PAGE = 0;
   public static final byte DELTA_PAGE = 1;
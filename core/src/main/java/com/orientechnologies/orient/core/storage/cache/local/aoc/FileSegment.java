@@ -1,10 +1,74 @@
 package com.orientechnologies.orient.core.storage.cache.local.aoc;
 
+/**
+ * Segment of the file with variable size pages. Pages are appended to the segment one after
+ * another, and space of the page becomes dead once new version of the page is written into another
+ * place. Segment may be reused once all of its pages are dead.
+ */
 public final class FileSegment {
   private final int segmentIndex;
-  private int freeSpace;
+  private final int size;
 
-  public FileSegment(int segmentIndex) {
+  /** Amount of units allocated inside of the segment. */
+  private int allocated;
+
+  /** Amount of units occupied by the pages which are still live. */
+  private int live;
+
+  public FileSegment(final int segmentIndex, final int size) {
     this.segmentIndex = segmentIndex;
+    this.size = size;
+  }
+
+  public int getSegmentIndex() {
+    return segmentIndex;
+  }
+
+  /**
+   * Allocates space for the page inside of the segment.
+   *
+   * @return index of the first allocated unit inside of the file, or -1 if there is not enough free
+   *     space in the segment
+   */
+  public int allocate(final int units) {
+    if (size - allocated < units) {
+      return -1;
+    }
+
+    final int position = segmentIndex * size + allocated;
+    allocated += units;
+    live += units;
+
+    return position;
+  }
+
+  /** Registers page which is already stored in the segment, used during load of the file. */
+  public void addLive(final int units) {
+    live += units;
+    allocated = size;
+  }
+
+  public void removeLive(final int units) {
+    live -= units;
+    assert live >= 0;
+  }
+
+  /** Prepares segment to be reused once all of its pages are dead. */
+  public void reset() {
+    assert live == 0;
+    allocated = 0;
+  }
+
+  /** Marks the rest of the segment as used, so no pages are appended to it anymore. */
+  public void close() {
+    allocated = size;
+  }
+
+  public int getLive() {
+    return live;
+  }
+
+  public int getFreeSpace() {
+    return size - allocated;
   }
 }
@@ -0,0 +1,160 @@
+package com.orientechnologies.orient.core.storage.cache.local.doublewritelog;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.log.OLogManager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Double write log which keeps using the segments written by another implementation of the log,
+ * e.g. when amount of shards of the log was changed and storage was not closed correctly before.
+ *
+ * <p>Pages are written only to the current log. Segments of the previous log are opened only if
+ * they are present on disk, they are used during restore together with segments of the current log
+ * and removed by the first truncation of the log which happens outside of the restore mode, the
+ * same way as the segments which the current log finds on disk on open. If the same page is present
+ * in both logs, the copy from the log whose segments were modified last before the storage was
+ * opened is used.
+ */
+public class DoubleWriteLogMigration implements DoubleWriteLog {
+  private final DoubleWriteLog current;
+  private final String currentExtension;
+
+  private final DoubleWriteLog previous;
+  private final String previousExtension;
+
+  private volatile boolean previousOpened;
+  private boolean previousIsNewer;
+  private volatile boolean restoreMode;
+
+  public DoubleWriteLogMigration(
+      final DoubleWriteLog current,
+      final String currentExtension,
+      final DoubleWriteLog previous,
+      final String previousExtension) {
+    this.current = current;
+    this.currentExtension = currentExtension;
+    this.previous = previous;
+    this.previousExtension = previousExtension;
+  }
+
+  @Override
+  public void open(final String storageName, final Path storagePath, final int pageSize)
+      throws IOException {
+    // both logs create new segments on open, so segments are compared before that
+    final long currentModified = lastModified(storagePath, currentExtension);
+    final long previousModified = lastModified(storagePath, previousExtension);
+
+    current.open(storageName, storagePath, pageSize);
+
+    if (previousModified >= 0) {
+      previous.open(storageName, storagePath, pageSize);
+      previousOpened = true;
+      previousIsNewer = previousModified > currentModified;
+
+      OLogManager.instance()
+          .info(
+              this,
+              "DWL:%s: segments of double write log with extension %s are found, they will be used"
+                  + " to restore pages and removed once they are not needed",
+              storageName,
+              previousExtension);
+    }
+  }
+
+  /** @return time of the latest modification of the segments, or -1 if there are no segments */
+  private static long lastModified(final Path storagePath, final String extension)
+      throws IOException {
+    long lastModified = -1;
+    try (final Stream<Path> stream = Files.list(storagePath)) {
+      final Iterator<Path> iterator =
+          stream.filter(path -> path.toString().endsWith(extension)).iterator();
+      while (iterator.hasNext()) {
+        lastModified =
+            Math.max(lastModified, Files.getLastModifiedTime(iterator.next()).toMillis());
+      }
+    }
+
+    return lastModified;
+  }
+
+  @Override
+  public boolean write(final ByteBuffer[] buffers, final int[] fileId, final int[] pageIndex)
+      throws IOException {
+    return current.write(buffers, fileId, pageIndex);
+  }
+
+  @Override
+  public void truncate() throws IOException {
+    current.truncate();
+
+    // segments of the previous log are removed together with the tail segments of the current one
+    if (previousOpened && !restoreMode) {
+      previous.close();
+      previousOpened = false;
+    }
+  }
+
+  @Override
+  public OPointer loadPage(final int fileId, final int pageIndex, final OByteBufferPool bufferPool)
+      throws IOException {
+    if (!previousOpened) {
+      return current.loadPage(fileId, pageIndex, bufferPool);
+    }
+
+    final DoubleWriteLog first = previousIsNewer ? previous : current;
+    final DoubleWriteLog second = previousIsNewer ? current : previous;
+
+    final OPointer pointer = first.loadPage(fileId, pageIndex, bufferPool);
+    if (pointer != null) {
+      return pointer;
+    }
+
+    return second.loadPage(fileId, pageIndex, bufferPool);
+  }
+
+  @Override
+  public void restoreModeOn() throws IOException {
+    current.restoreModeOn();
+    if (previousOpened) {
+      previous.restoreModeOn();
+    }
+
+    restoreMode = true;
+  }
+
+  @Override
+  public void restoreModeOff() {
+    current.restoreModeOff();
+    if (previousOpened) {
+      previous.restoreModeOff();
+    }
+
+    restoreMode = false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    current.close();
+
+    if (previousOpened) {
+      previous.close();
+      previousOpened = false;
+    }
+  }
+
+  @Override
+  public void startCheckpoint() throws IOException {
+    current.startCheckpoint();
+  }
+
+  @Override
+  public void endCheckpoint() {
+    current.endCheckpoint();
+  }
+}
@@ -0,0 +1,803 @@
+package com.orientechnologies.orient.core.storage.cache.local.doublewritelog;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import net.jpountz.xxhash.XXHash64;
+import net.jpountz.xxhash.XXHashFactory;
+
+/**
+ * Double write log which is split on several shards. Each shard is a separate file which has its
+ * own lock, so chunks of pages passed to the single {@link #write(ByteBuffer[], int[], int[])} call
+ * are distributed between shards and compressed and written by several threads in parallel.
+ *
+ * <p>Segments of the log are switched for all shards at once, so segment consists of one file per
+ * shard. Chunks of pages written to the single shard during one call are stored as a batch which is
+ * aligned to the block size of the disk. Batch contains sequence number of the write call and
+ * checksum of its content, each chunk of pages inside of the batch has its own checksum too, so
+ * torn batches are skipped during restore. Because the same page may be written into different
+ * shards by different calls, during restore the copy of the page which was written by the latest
+ * call (segment and sequence number of the batch) is used.
+ */
+public class DoubleWriteLogSharded implements DoubleWriteLog {
+
+  /** Stands for "double write log, sharded" */
+  public static final String EXTENSION = ".dwls";
+
+  private static final ODirectMemoryAllocator ALLOCATOR = ODirectMemoryAllocator.instance();
+
+  private static final int XX_HASH_LEN = 8;
+  private static final int SEQUENCE_LEN = 8;
+  private static final int RECORDS_LEN = 4;
+  private static final int BATCH_SIZE_LEN = 4;
+
+  private static final int BATCH_HEADER_SIZE =
+      XX_HASH_LEN + SEQUENCE_LEN + RECORDS_LEN + BATCH_SIZE_LEN;
+
+  private static final int FILE_ID_LEN = 4;
+  private static final int START_PAGE_INDEX_LEN = 4;
+  private static final int CHUNK_SIZE_LEN = 4;
+  private static final int COMPRESSED_SIZE_LEN = 4;
+
+  private static final int METADATA_SIZE =
+      XX_HASH_LEN + FILE_ID_LEN + START_PAGE_INDEX_LEN + CHUNK_SIZE_LEN + COMPRESSED_SIZE_LEN;
+
+  private static final long XX_HASH_SEED = 0x5A2B17C3E9L;
+  private static final XXHash64 XX_HASH;
+
+  private static final LZ4Compressor LZ_4_COMPRESSOR;
+  private static final LZ4FastDecompressor LZ_4_DECOMPRESSOR;
+
+  static {
+    final XXHashFactory hashFactory = XXHashFactory.fastestInstance();
+    XX_HASH = hashFactory.hash64();
+
+    final LZ4Factory factory = LZ4Factory.fastestInstance();
+    LZ_4_COMPRESSOR = factory.fastCompressor();
+    LZ_4_DECOMPRESSOR = factory.fastDecompressor();
+  }
+
+  private final long maxSegSize;
+  private final int shardsCount;
+
+  private Path storagePath;
+  private String storageName;
+
+  private int pageSize;
+  private int blockSize;
+
+  private Shard[] shards;
+  private ExecutorService executor;
+
+  private long currentSegment;
+  private final AtomicLong currentSegmentSize = new AtomicLong();
+
+  private final TreeSet<Long> tailSegments = new TreeSet<>();
+  private long tailSize;
+  /** segments found on open may be split on more shards than the current amount of shards */
+  private int tailShards;
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  private volatile boolean restoreMode;
+
+  private int checkpointCounter;
+
+  private Map<ORawPair<Integer, Integer>, PageLocation> pageMap = new HashMap<>();
+
+  /**
+   * Switch of segments, truncation and restore take exclusive lock, writes of the pages take shared
+   * lock and are synchronized between each other only by locks of the shards.
+   */
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public DoubleWriteLogSharded(final long maxSegSize, final int shardsCount) {
+    if (shardsCount < 1) {
+      throw new IllegalArgumentException("Amount of shards should be positive");
+    }
+
+    this.maxSegSize = maxSegSize;
+    this.shardsCount = shardsCount;
+  }
+
+  @Override
+  public void open(final String storageName, final Path storagePath, final int pageSize)
+      throws IOException {
+    lock.writeLock().lock();
+    try {
+      this.pageSize = pageSize;
+      this.storagePath = storagePath;
+      this.storageName = storageName;
+
+      tailSegments.clear();
+      tailShards = shardsCount;
+      pageMap = new HashMap<>();
+
+      try (final Stream<Path> stream = Files.list(storagePath)) {
+        stream
+            .filter(DoubleWriteLogSharded::fileFilter)
+            .forEach(
+                path -> {
+                  final long[] segmentShard = parseSegmentName(path);
+                  if (segmentShard != null) {
+                    tailSegments.add(segmentShard[0]);
+                    tailShards = Math.max(tailShards, (int) segmentShard[1] + 1);
+                  }
+                });
+      }
+
+      currentSegment = tailSegments.isEmpty() ? 0 : tailSegments.last() + 1;
+      tailSize = calculateLogSize();
+
+      shards = new Shard[shardsCount];
+      for (int i = 0; i < shardsCount; i++) {
+        shards[i] = new Shard(i);
+        shards[i].file = createLogFile(currentSegment, i);
+      }
+      currentSegmentSize.set(0);
+
+      blockSize = OIOUtils.calculateBlockSize(storagePath.toAbsolutePath().toString());
+      if (blockSize == -1) {
+        blockSize = DoubleWriteLogGL.DEFAULT_BLOCK_SIZE;
+      }
+
+      if (shardsCount > 1) {
+        executor =
+            OThreadPoolExecutors.newFixedThreadPool(
+                "OrientDB Double Write Log (" + storageName + ")",
+                OStorageAbstract.storageThreadGroup,
+                shardsCount - 1);
+      }
+
+      OLogManager.instance()
+          .info(
+              this,
+              "DWL:%s: block size = %d bytes, maximum segment size = %d MB, shards = %d",
+              storageName,
+              blockSize,
+              maxSegSize / 1024 / 1024,
+              shardsCount);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** @return segment and shard of the file, or <code>null</code> if name of file is not valid */
+  private long[] parseSegmentName(final Path path) {
+    final String name = path.getFileName().toString();
+    if (!name.startsWith(storageName + "_")) {
+      return null;
+    }
+
+    final String suffix =
+        name.substring(storageName.length() + 1, name.length() - EXTENSION.length());
+    final int separator = suffix.indexOf('_');
+    if (separator < 0) {
+      return null;
+    }
+
+    try {
+      return new long[] {
+        Long.parseLong(suffix.substring(0, separator)),
+        Long.parseLong(suffix.substring(separator + 1))
+      };
+    } catch (final NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private FileChannel createLogFile(final long segment, final int shard) throws IOException {
+    return FileChannel.open(
+        storagePath.resolve(generateSegmentName(segment, shard)),
+        StandardOpenOption.WRITE,
+        StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.SYNC);
+  }
+
+  private String generateSegmentName(final long segment, final int shard) {
+    return storageName + "_" + segment + "_" + shard + EXTENSION;
+  }
+
+  private static boolean fileFilter(final Path path) {
+    return path.toString().endsWith(EXTENSION);
+  }
+
+  @Override
+  public boolean write(final ByteBuffer[] buffers, final int[] fileIds, final int[] pageIndexes)
+      throws IOException {
+    switchSegmentIfNeeded();
+
+    lock.readLock().lock();
+    try {
+      final long batchSequence = sequence.getAndIncrement();
+      final int[][] distribution = distribute(buffers);
+
+      final List<Future<Void>> futures = new ArrayList<>(distribution.length - 1);
+      for (int i = 1; i < distribution.length; i++) {
+        final Shard shard = shards[i];
+        final int[] chunks = distribution[i];
+
+        futures.add(
+            executor.submit(
+                () -> {
+                  shard.write(chunks, buffers, fileIds, pageIndexes, batchSequence);
+                  return null;
+                }));
+      }
+
+      IOException error = null;
+      try {
+        shards[0].write(distribution[0], buffers, fileIds, pageIndexes, batchSequence);
+      } catch (final IOException e) {
+        error = e;
+      }
+
+      for (final Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (final InterruptedException e) {
+          throw OException.wrapException(
+              new OInterruptedException("Write to the double write log was interrupted"), e);
+        } catch (final ExecutionException e) {
+          if (error == null) {
+            if (e.getCause() instanceof IOException) {
+              error = (IOException) e.getCause();
+            } else {
+              throw OException.wrapException(
+                  new OStorageException(
+                      "Error during write to the double write log of storage " + storageName),
+                  e.getCause());
+            }
+          }
+        }
+      }
+
+      if (error != null) {
+        throw error;
+      }
+
+      // we can not truncate log in restore mode because we remove all restore information
+      return !restoreMode
+          && tailSize + currentSegmentSize.get() >= maxSegSize
+          && !tailSegments.isEmpty();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void switchSegmentIfNeeded() throws IOException {
+    if (currentSegmentSize.get() < maxSegSize) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      assert checkpointCounter >= 0;
+
+      if (checkpointCounter == 0 && currentSegmentSize.get() >= maxSegSize) {
+        addNewSegment();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Distributes chunks between shards so that each shard receives about the same amount of data.
+   *
+   * @return indexes of chunks for each of shards which will be used by current write
+   */
+  private int[][] distribute(final ByteBuffer[] buffers) {
+    final int shards = Math.max(1, Math.min(shardsCount, buffers.length));
+
+    @SuppressWarnings("unchecked")
+    final List<Integer>[] chunks = new List[shards];
+    final long[] sizes = new long[shards];
+    for (int i = 0; i < shards; i++) {
+      chunks[i] = new ArrayList<>();
+    }
+
+    for (int i = 0; i < buffers.length; i++) {
+      int shard = 0;
+      for (int n = 1; n < shards; n++) {
+        if (sizes[n] < sizes[shard]) {
+          shard = n;
+        }
+      }
+
+      chunks[shard].add(i);
+      sizes[shard] += buffers[i].limit();
+    }
+
+    final int[][] distribution = new int[shards][];
+    for (int i = 0; i < shards; i++) {
+      distribution[i] = chunks[i].stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    return distribution;
+  }
+
+  private void addNewSegment() throws IOException {
+    for (final Shard shard : shards) {
+      shard.file.close();
+    }
+
+    tailSegments.add(currentSegment);
+    tailSize += currentSegmentSize.getAndSet(0);
+
+    currentSegment++;
+
+    for (final Shard shard : shards) {
+      shard.file = createLogFile(currentSegment, shard.index);
+      shard.position = 0;
+    }
+  }
+
+  @Override
+  public void truncate() throws IOException {
+    lock.writeLock().lock();
+    try {
+      if (restoreMode) {
+        return;
+      }
+
+      for (final long segment : tailSegments) {
+        for (int i = 0; i < tailShards; i++) {
+          final String segmentName = generateSegmentName(segment, i);
+          try {
+            Files.deleteIfExists(storagePath.resolve(segmentName));
+          } catch (final IOException e) {
+            OLogManager.instance()
+                .errorNoDb(
+                    this,
+                    "Can not delete segment of double write log - %s in storage %s",
+                    e,
+                    segmentName,
+                    storageName);
+          }
+        }
+      }
+
+      tailSegments.clear();
+      tailShards = shardsCount;
+      tailSize = 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private long calculateLogSize() throws IOException {
+    try (final Stream<Path> stream = Files.list(storagePath)) {
+      return stream
+          .filter(DoubleWriteLogSharded::fileFilter)
+          .mapToLong(
+              path -> {
+                try {
+                  return Files.size(path);
+                } catch (IOException e) {
+                  throw OException.wrapException(
+                      new OStorageException(
+                          "Can not calculate size of file " + path.toAbsolutePath()),
+                      e);
+                }
+              })
+          .sum();
+    }
+  }
+
+  @Override
+  public OPointer loadPage(final int fileId, final int pageIndex, final OByteBufferPool bufferPool)
+      throws IOException {
+    if (!restoreMode) {
+      return null;
+    }
+
+    lock.readLock().lock();
+    try {
+      if (!restoreMode) {
+        return null;
+      }
+
+      final PageLocation location = pageMap.get(new ORawPair<>(fileId, pageIndex));
+      if (location == null) {
+        return null;
+      }
+
+      final Path segmentPath =
+          storagePath.resolve(generateSegmentName(location.segment, location.shard));
+      if (!Files.exists(segmentPath)) {
+        return null;
+      }
+
+      try (final FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+        final ByteBuffer record = readRecord(channel, location.position);
+        if (record == null) {
+          return null;
+        }
+
+        final int storedFileId = record.getInt(XX_HASH_LEN);
+        final int storedPageIndex = record.getInt(XX_HASH_LEN + FILE_ID_LEN);
+        final int pages = record.getInt(XX_HASH_LEN + FILE_ID_LEN + START_PAGE_INDEX_LEN);
+
+        if (storedFileId != fileId
+            || pageIndex < storedPageIndex
+            || pageIndex >= storedPageIndex + pages) {
+          return null;
+        }
+
+        final ByteBuffer pagesBuffer =
+            ByteBuffer.allocate(pages * pageSize).order(ByteOrder.nativeOrder());
+        LZ_4_DECOMPRESSOR.decompress(record, METADATA_SIZE, pagesBuffer, 0, pagesBuffer.capacity());
+
+        final int pagePosition = (pageIndex - storedPageIndex) * pageSize;
+        pagesBuffer.position(pagePosition);
+        pagesBuffer.limit(pagePosition + pageSize);
+
+        final OPointer pointer = bufferPool.acquireDirect(false, Intention.LOAD_WAL_PAGE);
+        final ByteBuffer pageBuffer = pointer.getNativeByteBuffer();
+        assert pageBuffer.position() == 0;
+        pageBuffer.put(pagesBuffer);
+
+        pageBuffer.rewind();
+
+        return pointer;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Reads chunk of pages stored at given position and validates its checksum.
+   *
+   * @return content of the chunk including its metadata, or <code>null</code> if chunk is broken
+   */
+  private static ByteBuffer readRecord(final FileChannel channel, final long position)
+      throws IOException {
+    final long channelSize = channel.size();
+    if (channelSize - position < METADATA_SIZE) {
+      return null;
+    }
+
+    final ByteBuffer metadataBuffer =
+        ByteBuffer.allocate(METADATA_SIZE).order(ByteOrder.nativeOrder());
+    OIOUtils.readByteBuffer(metadataBuffer, channel, position, true);
+
+    final int pages = metadataBuffer.getInt(XX_HASH_LEN + FILE_ID_LEN + START_PAGE_INDEX_LEN);
+    final int compressedLen =
+        metadataBuffer.getInt(XX_HASH_LEN + FILE_ID_LEN + START_PAGE_INDEX_LEN + CHUNK_SIZE_LEN);
+
+    if (pages < 0 || compressedLen < 0 || channelSize - position - METADATA_SIZE < compressedLen) {
+      return null;
+    }
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(METADATA_SIZE + compressedLen).order(ByteOrder.nativeOrder());
+    OIOUtils.readByteBuffer(buffer, channel, position, true);
+    buffer.rewind();
+
+    if (XX_HASH.hash(buffer, XX_HASH_LEN, buffer.capacity() - XX_HASH_LEN, XX_HASH_SEED)
+        != buffer.getLong(0)) {
+      return null;
+    }
+
+    return buffer;
+  }
+
+  @Override
+  public void restoreModeOn() throws IOException {
+    lock.writeLock().lock();
+    try {
+      if (restoreMode) {
+        return;
+      }
+
+      final Map<ORawPair<Integer, Integer>, PageLocation> pageMap = new HashMap<>();
+
+      final List<Path> segments = new ArrayList<>();
+      try (final Stream<Path> stream = Files.list(storagePath)) {
+        stream.filter(DoubleWriteLogSharded::fileFilter).forEach(segments::add);
+      }
+
+      for (final Path segment : segments) {
+        final long[] segmentShard = parseSegmentName(segment);
+        if (segmentShard == null) {
+          continue;
+        }
+
+        try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+          scanSegment(channel, segment, segmentShard[0], (int) segmentShard[1], pageMap);
+        }
+      }
+
+      this.pageMap = pageMap;
+      restoreMode = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Reads all batches of the shard file till the first broken one. */
+  private void scanSegment(
+      final FileChannel channel,
+      final Path path,
+      final long segment,
+      final int shard,
+      final Map<ORawPair<Integer, Integer>, PageLocation> pageMap)
+      throws IOException {
+    final long fileSize = channel.size();
+    long position = 0;
+
+    while (fileSize - position >= BATCH_HEADER_SIZE) {
+      final ByteBuffer header =
+          ByteBuffer.allocate(BATCH_HEADER_SIZE).order(ByteOrder.nativeOrder());
+      OIOUtils.readByteBuffer(header, channel, position, true);
+
+      final long batchSequence = header.getLong(XX_HASH_LEN);
+      final int records = header.getInt(XX_HASH_LEN + SEQUENCE_LEN);
+      final int batchSize = header.getInt(XX_HASH_LEN + SEQUENCE_LEN + RECORDS_LEN);
+
+      if (records < 0 || batchSize < BATCH_HEADER_SIZE || position + batchSize > fileSize) {
+        warnBrokenBatch(path, position);
+        return;
+      }
+
+      final ByteBuffer batch = ByteBuffer.allocate(batchSize).order(ByteOrder.nativeOrder());
+      OIOUtils.readByteBuffer(batch, channel, position, true);
+      batch.rewind();
+
+      if (XX_HASH.hash(batch, XX_HASH_LEN, batchSize - XX_HASH_LEN, XX_HASH_SEED)
+          != header.getLong(0)) {
+        warnBrokenBatch(path, position);
+        return;
+      }
+
+      int recordPosition = BATCH_HEADER_SIZE;
+      for (int i = 0; i < records; i++) {
+        final int fileId = batch.getInt(recordPosition + XX_HASH_LEN);
+        final int pageIndex = batch.getInt(recordPosition + XX_HASH_LEN + FILE_ID_LEN);
+        final int pages =
+            batch.getInt(recordPosition + XX_HASH_LEN + FILE_ID_LEN + START_PAGE_INDEX_LEN);
+        final int compressedLen =
+            batch.getInt(
+                recordPosition + XX_HASH_LEN + FILE_ID_LEN + START_PAGE_INDEX_LEN + CHUNK_SIZE_LEN);
+
+        final PageLocation location =
+            new PageLocation(segment, batchSequence, shard, position + recordPosition);
+        for (int n = 0; n < pages; n++) {
+          pageMap.merge(
+              new ORawPair<>(fileId, pageIndex + n),
+              location,
+              (oldLocation, newLocation) ->
+                  oldLocation.isOlderThan(newLocation) ? newLocation : oldLocation);
+        }
+
+        recordPosition += METADATA_SIZE + compressedLen;
+      }
+
+      position += alignToBlock(batchSize);
+    }
+  }
+
+  private void warnBrokenBatch(final Path path, final long position) {
+    OLogManager.instance()
+        .warnNoDb(
+            this,
+            "DWL segment %s is broken starting from position %d, the rest of segment will not be"
+                + " used during restore",
+            path,
+            position);
+  }
+
+  private long alignToBlock(final long size) {
+    return ((size + blockSize - 1) / blockSize) * blockSize;
+  }
+
+  @Override
+  public void restoreModeOff() {
+    lock.writeLock().lock();
+    try {
+      pageMap = new HashMap<>();
+      restoreMode = false;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      if (executor != null) {
+        executor.shutdown();
+      }
+
+      for (final Shard shard : shards) {
+        shard.file.close();
+      }
+
+      try (final Stream<Path> stream = Files.list(storagePath)) {
+        stream
+            .filter(DoubleWriteLogSharded::fileFilter)
+            .forEach(
+                path -> {
+                  try {
+                    Files.delete(path);
+                  } catch (IOException e) {
+                    throw new OStorageException(
+                        "Can not delete file " + path.toString() + " in storage " + storageName);
+                  }
+                });
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void startCheckpoint() throws IOException {
+    lock.writeLock().lock();
+    try {
+      addNewSegment();
+
+      checkpointCounter++;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void endCheckpoint() {
+    lock.writeLock().lock();
+    try {
+      checkpointCounter--;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private final class Shard {
+    private final int index;
+    private final Lock lock = new ReentrantLock();
+
+    private FileChannel file;
+    private long position;
+
+    private Shard(final int index) {
+      this.index = index;
+    }
+
+    /** Compresses chunks of pages and writes them to the file of the shard as a single batch. */
+    private void write(
+        final int[] chunks,
+        final ByteBuffer[] buffers,
+        final int[] fileIds,
+        final int[] pageIndexes,
+        final long batchSequence)
+        throws IOException {
+      int sizeToAllocate = BATCH_HEADER_SIZE;
+      for (final int chunk : chunks) {
+        sizeToAllocate +=
+            METADATA_SIZE + LZ_4_COMPRESSOR.maxCompressedLength(buffers[chunk].limit());
+      }
+
+      final OPointer batchPointer =
+          ALLOCATOR.allocate(sizeToAllocate, false, Intention.DWL_ALLOCATE_CHUNK);
+      try {
+        final ByteBuffer batch = batchPointer.getNativeByteBuffer();
+        assert batch.position() == 0;
+
+        int recordPosition = BATCH_HEADER_SIZE;
+        for (final int chunk : chunks) {
+          final ByteBuffer buffer = buffers[chunk];
+
+          final int compressedSize =
+              LZ_4_COMPRESSOR.compress(
+                  buffer,
+                  0,
+                  buffer.limit(),
+                  batch,
+                  recordPosition + METADATA_SIZE,
+                  batch.capacity() - recordPosition - METADATA_SIZE);
+
+          batch.putInt(recordPosition + XX_HASH_LEN, fileIds[chunk]);
+          batch.putInt(recordPosition + XX_HASH_LEN + FILE_ID_LEN, pageIndexes[chunk]);
+          batch.putInt(
+              recordPosition + XX_HASH_LEN + FILE_ID_LEN + START_PAGE_INDEX_LEN,
+              buffer.limit() / pageSize);
+          batch.putInt(
+              recordPosition + XX_HASH_LEN + FILE_ID_LEN + START_PAGE_INDEX_LEN + CHUNK_SIZE_LEN,
+              compressedSize);
+
+          batch.putLong(
+              recordPosition,
+              XX_HASH.hash(
+                  batch,
+                  recordPosition + XX_HASH_LEN,
+                  METADATA_SIZE - XX_HASH_LEN + compressedSize,
+                  XX_HASH_SEED));
+
+          recordPosition += METADATA_SIZE + compressedSize;
+        }
+
+        final int batchSize = recordPosition;
+        batch.putLong(XX_HASH_LEN, batchSequence);
+        batch.putInt(XX_HASH_LEN + SEQUENCE_LEN, chunks.length);
+        batch.putInt(XX_HASH_LEN + SEQUENCE_LEN + RECORDS_LEN, batchSize);
+        batch.putLong(0, XX_HASH.hash(batch, XX_HASH_LEN, batchSize - XX_HASH_LEN, XX_HASH_SEED));
+
+        batch.position(0);
+        batch.limit(batchSize);
+
+        lock.lock();
+        try {
+          OIOUtils.writeByteBuffer(batch, file, position);
+
+          final long alignedSize = alignToBlock(batchSize);
+          position += alignedSize;
+          currentSegmentSize.addAndGet(alignedSize);
+        } finally {
+          lock.unlock();
+        }
+      } finally {
+        ALLOCATOR.deallocate(batchPointer);
+      }
+    }
+  }
+
+  /** Position of the latest copy of the page inside of the log. */
+  private static final class PageLocation {
+    private final long segment;
+    private final long sequence;
+    private final int shard;
+    private final long position;
+
+    private PageLocation(
+        final long segment, final long sequence, final int shard, final long position) {
+      this.segment = segment;
+      this.sequence = sequence;
+      this.shard = shard;
+      this.position = position;
+    }
+
+    private boolean isOlderThan(final PageLocation other) {
+      if (segment != other.segment) {
+        return segment < other.segment;
+      }
+
+      return sequence < other.sequence;
+    }
+  }
+}
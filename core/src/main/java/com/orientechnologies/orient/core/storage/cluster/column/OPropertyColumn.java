@@ -0,0 +1,290 @@
+package com.orientechnologies.orient.core.storage.cluster.column;
+
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * Values of the single property of the records of the single cluster stored by cluster positions.
+ * Values of the scalar types are encoded as <code>long</code>, so they can be read by aggregation
+ * without deserialization of the records.
+ *
+ * <p>Column shares lock with the cluster, so column is always consistent with the cluster during
+ * commit of the transaction and readers which hold the read lock of the column see the same state
+ * of all columns of the cluster.
+ */
+public final class OPropertyColumn extends ODurableComponent {
+  public static final String DEF_EXTENSION = ".pcol";
+
+  private static final int STATE_ENTRY_INDEX = 0;
+
+  private final int clusterId;
+  private final String property;
+
+  private volatile OType type;
+  private volatile boolean filled;
+  private long fileId;
+
+  public OPropertyColumn(
+      final OAbstractPaginatedStorage storage,
+      final String name,
+      final String clusterLockName,
+      final int clusterId,
+      final String property) {
+    super(storage, name, DEF_EXTENSION, clusterLockName);
+    this.clusterId = clusterId;
+    this.property = property;
+  }
+
+  public static boolean isTypeSupported(final OType type) {
+    switch (type) {
+      case BOOLEAN:
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case DATE:
+      case DATETIME:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public int getClusterId() {
+    return clusterId;
+  }
+
+  public String getProperty() {
+    return property;
+  }
+
+  public OType getType() {
+    return type;
+  }
+
+  /** @return <code>true</code> if column contains values of all records of the cluster */
+  public boolean isFilled() {
+    return filled;
+  }
+
+  /** Marks column as one which contains values of all records of the cluster. */
+  public void markFilled(final OAtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try (final OCacheEntry stateEntry =
+              loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, true)) {
+            new OPropertyColumnState(stateEntry).setFilled(true);
+            filled = true;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  public void create(final OAtomicOperation atomicOperation, final OType type) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            fileId = addFile(atomicOperation, getFullName());
+            try (final OCacheEntry stateEntry = addPage(atomicOperation, fileId)) {
+              assert stateEntry.getPageIndex() == STATE_ENTRY_INDEX;
+              final OPropertyColumnState state = new OPropertyColumnState(stateEntry);
+              state.setType(type);
+              state.setFilled(false);
+            }
+
+            this.type = type;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  public void open() throws IOException {
+    acquireExclusiveLock();
+    try {
+      final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+      fileId = openFile(atomicOperation, getFullName());
+
+      try (final OCacheEntry stateEntry =
+          loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX)) {
+        final OPropertyColumnState state = new OPropertyColumnState(stateEntry);
+        type = state.getType();
+        filled = state.isFilled();
+      }
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  public void close(final boolean flush) {
+    acquireExclusiveLock();
+    try {
+      readCache.closeFile(fileId, flush, writeCache);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  public void delete(final OAtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            deleteFile(atomicOperation, fileId);
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /** Stores value of the property of the record which is placed at the passed cluster position. */
+  public void put(
+      final OAtomicOperation atomicOperation, final long clusterPosition, final Object value) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final long pageIndex = pageIndex(clusterPosition);
+            while (getFilledUpTo(atomicOperation, fileId) <= pageIndex) {
+              try (final OCacheEntry cacheEntry = addPage(atomicOperation, fileId)) {
+                new OPropertyColumnPage(cacheEntry).init();
+              }
+            }
+
+            final Object converted = convert(value);
+            try (final OCacheEntry cacheEntry =
+                loadPageForWrite(atomicOperation, fileId, pageIndex, true)) {
+              new OPropertyColumnPage(cacheEntry)
+                  .setValue(
+                      slot(clusterPosition),
+                      converted == null ? OPropertyColumnPage.NULL : OPropertyColumnPage.VALUE,
+                      converted == null ? 0 : encode(converted));
+            }
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /** Marks record placed at the passed cluster position as removed. */
+  public void remove(final OAtomicOperation atomicOperation, final long clusterPosition) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final long pageIndex = pageIndex(clusterPosition);
+            if (getFilledUpTo(atomicOperation, fileId) <= pageIndex) {
+              return;
+            }
+
+            try (final OCacheEntry cacheEntry =
+                loadPageForWrite(atomicOperation, fileId, pageIndex, true)) {
+              new OPropertyColumnPage(cacheEntry)
+                  .setValue(slot(clusterPosition), OPropertyColumnPage.ABSENT, 0);
+            }
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /**
+   * Reads flags and encoded values of the positions covered by the passed page of column. Caller is
+   * responsible to hold read lock of the column.
+   *
+   * @param page index of the page of column, the first page covers positions starting from 0
+   * @return <code>false</code> if there is no such page in the column
+   */
+  public boolean readPage(final long page, final byte[] flags, final long[] values)
+      throws IOException {
+    acquireSharedLock();
+    try {
+      final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+      final long pageIndex = page + 1;
+      if (getFilledUpTo(atomicOperation, fileId) <= pageIndex) {
+        return false;
+      }
+
+      try (final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+        new OPropertyColumnPage(cacheEntry).read(flags, values);
+      }
+      return true;
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  /** @return value of the property restored from its encoded form */
+  public Object decode(final long value) {
+    switch (type) {
+      case BOOLEAN:
+        return value != 0;
+      case BYTE:
+        return (byte) value;
+      case SHORT:
+        return (short) value;
+      case INTEGER:
+        return (int) value;
+      case FLOAT:
+        return (float) Double.longBitsToDouble(value);
+      case DOUBLE:
+        return Double.longBitsToDouble(value);
+      case DATE:
+      case DATETIME:
+        return new Date(value);
+      default:
+        return value;
+    }
+  }
+
+  private Object convert(final Object value) {
+    if (value == null) {
+      return null;
+    }
+
+    try {
+      return OType.convert(value, type.getDefaultJavaType());
+    } catch (RuntimeException e) {
+      // value which does not match type of the property is not a subject of aggregation
+      return null;
+    }
+  }
+
+  private long encode(final Object value) {
+    switch (type) {
+      case BOOLEAN:
+        return ((Boolean) value) ? 1 : 0;
+      case FLOAT:
+      case DOUBLE:
+        return Double.doubleToRawLongBits(((Number) value).doubleValue());
+      case DATE:
+      case DATETIME:
+        return ((Date) value).getTime();
+      default:
+        return ((Number) value).longValue();
+    }
+  }
+
+  private static long pageIndex(final long clusterPosition) {
+    return clusterPosition / OPropertyColumnPage.SLOTS + 1;
+  }
+
+  private static int slot(final long clusterPosition) {
+    return (int) (clusterPosition % OPropertyColumnPage.SLOTS);
+  }
+}
@@ -0,0 +1,36 @@
+package com.orientechnologies.orient.core.storage.cluster.column;
+
+/**
+ * Values of several property columns of the same cluster read from the single page of columns. Only
+ * positions of existing records are included.
+ */
+public final class OPropertyColumnBatch {
+  private final long[] positions;
+  private final Object[][] values;
+  private final int size;
+
+  OPropertyColumnBatch(final long[] positions, final Object[][] values, final int size) {
+    this.positions = positions;
+    this.values = values;
+    this.size = size;
+  }
+
+  /** @return amount of records in the batch */
+  public int size() {
+    return size;
+  }
+
+  /** @return cluster position of the record */
+  public long getPosition(final int row) {
+    return positions[row];
+  }
+
+  /**
+   * @param row index of the record in the batch
+   * @param column index of the property in the list of properties passed to read the batch
+   * @return value of the property, or <code>null</code> if record does not have it
+   */
+  public Object getValue(final int row, final int column) {
+    return values[column][row];
+  }
+}
@@ -0,0 +1,66 @@
+package com.orientechnologies.orient.core.storage.cluster.column;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+
+/**
+ * Page of the property column. Page contains values of the property for the fixed range of cluster
+ * positions. Each position is presented by the flag, which shows whether record exists and has not
+ * null value, and by the value itself encoded as <code>long</code>.
+ */
+public final class OPropertyColumnPage extends ODurablePage {
+  /** Record is absent in the cluster. */
+  public static final byte ABSENT = 0;
+  /** Record exists but value of the property is <code>null</code>. */
+  public static final byte NULL = 1;
+  /** Record exists and has value of the property. */
+  public static final byte VALUE = 2;
+
+  private static final int FLAGS_OFFSET = NEXT_FREE_POSITION;
+
+  /** Amount of cluster positions covered by the single page. */
+  public static final int SLOTS =
+      (MAX_PAGE_SIZE_BYTES - FLAGS_OFFSET)
+          / (OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE);
+
+  private static final int VALUES_OFFSET = FLAGS_OFFSET + SLOTS;
+
+  public OPropertyColumnPage(final OCacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  public void init() {
+    setBinaryValue(FLAGS_OFFSET, new byte[SLOTS]);
+  }
+
+  public void setValue(final int slot, final byte flag, final long value) {
+    setByteValue(FLAGS_OFFSET + slot, flag);
+    if (flag == VALUE) {
+      setLongValue(VALUES_OFFSET + slot * OLongSerializer.LONG_SIZE, value);
+    }
+  }
+
+  public byte getFlag(final int slot) {
+    return getByteValue(FLAGS_OFFSET + slot);
+  }
+
+  public long getValue(final int slot) {
+    return getLongValue(VALUES_OFFSET + slot * OLongSerializer.LONG_SIZE);
+  }
+
+  /**
+   * Reads flags and values of all positions of the page, values are read only for the positions
+   * which have {@link #VALUE} flag.
+   */
+  public void read(final byte[] flags, final long[] values) {
+    System.arraycopy(getBinaryValue(FLAGS_OFFSET, SLOTS), 0, flags, 0, SLOTS);
+
+    for (int i = 0; i < SLOTS; i++) {
+      if (flags[i] == VALUE) {
+        values[i] = getLongValue(VALUES_OFFSET + i * OLongSerializer.LONG_SIZE);
+      }
+    }
+  }
+}
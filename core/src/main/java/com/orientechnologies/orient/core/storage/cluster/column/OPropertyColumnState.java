@@ -0,0 +1,35 @@
+package com.orientechnologies.orient.core.storage.cluster.column;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+
+/**
+ * First page of the property column, it keeps type of the values stored in the column and whether
+ * column already contains values of all records of the cluster.
+ */
+public final class OPropertyColumnState extends ODurablePage {
+  private static final int TYPE_OFFSET = NEXT_FREE_POSITION;
+  private static final int FILLED_OFFSET = TYPE_OFFSET + OByteSerializer.BYTE_SIZE;
+
+  public OPropertyColumnState(final OCacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  public void setType(final OType type) {
+    setByteValue(TYPE_OFFSET, (byte) type.getId());
+  }
+
+  public OType getType() {
+    return OType.getById(getByteValue(TYPE_OFFSET));
+  }
+
+  public void setFilled(final boolean filled) {
+    setByteValue(FILLED_OFFSET, filled ? (byte) 1 : 0);
+  }
+
+  public boolean isFilled() {
+    return getByteValue(FILLED_OFFSET) != 0;
+  }
+}
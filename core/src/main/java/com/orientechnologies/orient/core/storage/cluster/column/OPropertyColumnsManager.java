@@ -0,0 +1,272 @@
+package com.orientechnologies.orient.core.storage.cluster.column;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Keeps property columns of all clusters of storage. Columns are stored in the files named as
+ * <code>column_[cluster id]_[property name].pcol</code> and are found by their names once storage
+ * is opened.
+ */
+public final class OPropertyColumnsManager {
+  public static final String FILE_NAME_PREFIX = "column_";
+
+  private final OAbstractPaginatedStorage storage;
+
+  private final ConcurrentHashMap<Integer, Map<String, OPropertyColumn>> columns =
+      new ConcurrentHashMap<>();
+
+  public OPropertyColumnsManager(final OAbstractPaginatedStorage storage) {
+    this.storage = storage;
+  }
+
+  /**
+   * Opens columns of all clusters.
+   *
+   * @param clusters provides cluster by its id, or <code>null</code> if cluster does not exist
+   */
+  public void load(final IntFunction<OPaginatedCluster> clusters) throws IOException {
+    final OWriteCache writeCache = storage.getWriteCache();
+
+    for (final String fileName : writeCache.files().keySet()) {
+      if (!fileName.startsWith(FILE_NAME_PREFIX)
+          || !fileName.endsWith(OPropertyColumn.DEF_EXTENSION)) {
+        continue;
+      }
+
+      final String name =
+          fileName.substring(0, fileName.length() - OPropertyColumn.DEF_EXTENSION.length());
+      final int separator = name.indexOf('_', FILE_NAME_PREFIX.length());
+      if (separator < 0) {
+        continue;
+      }
+
+      final int clusterId = Integer.parseInt(name.substring(FILE_NAME_PREFIX.length(), separator));
+      final OPaginatedCluster cluster = clusters.apply(clusterId);
+      if (cluster == null) {
+        OLogManager.instance()
+            .warn(this, "Column '%s' belongs to absent cluster %d and is ignored", name, clusterId);
+        continue;
+      }
+
+      final OPropertyColumn column =
+          new OPropertyColumn(
+              storage, name, cluster.getLockName(), clusterId, name.substring(separator + 1));
+      column.open();
+      add(column);
+    }
+  }
+
+  /**
+   * Creates file of the new column, column is not used by storage till it is added by {@link
+   * #add(OPropertyColumn)}.
+   */
+  public OPropertyColumn create(
+      final OAtomicOperation atomicOperation,
+      final OPaginatedCluster cluster,
+      final String property,
+      final OType type) {
+    if (!OPropertyColumn.isTypeSupported(type)) {
+      throw new IllegalArgumentException(
+          "Type " + type + " of property '" + property + "' can not be stored in column");
+    }
+
+    final OPropertyColumn column =
+        new OPropertyColumn(
+            storage,
+            FILE_NAME_PREFIX + cluster.getId() + "_" + property,
+            cluster.getLockName(),
+            cluster.getId(),
+            property);
+    column.create(atomicOperation, type);
+    return column;
+  }
+
+  public void add(final OPropertyColumn column) {
+    columns
+        .computeIfAbsent(column.getClusterId(), id -> new ConcurrentHashMap<>())
+        .put(column.getProperty(), column);
+  }
+
+  public OPropertyColumn get(final int clusterId, final String property) {
+    final Map<String, OPropertyColumn> clusterColumns = columns.get(clusterId);
+    if (clusterColumns == null) {
+      return null;
+    }
+
+    return clusterColumns.get(property);
+  }
+
+  public Collection<OPropertyColumn> get(final int clusterId) {
+    final Map<String, OPropertyColumn> clusterColumns = columns.get(clusterId);
+    if (clusterColumns == null) {
+      return Collections.emptyList();
+    }
+
+    return clusterColumns.values();
+  }
+
+  public OPropertyColumn remove(final int clusterId, final String property) {
+    final Map<String, OPropertyColumn> clusterColumns = columns.get(clusterId);
+    if (clusterColumns == null) {
+      return null;
+    }
+
+    return clusterColumns.remove(property);
+  }
+
+  public List<OPropertyColumn> remove(final int clusterId) {
+    final Map<String, OPropertyColumn> clusterColumns = columns.remove(clusterId);
+    if (clusterColumns == null) {
+      return Collections.emptyList();
+    }
+
+    return new ArrayList<>(clusterColumns.values());
+  }
+
+  /**
+   * Stores values of properties of created or updated record. Content of the record is read only if
+   * cluster has columns, records which are not documents have no values.
+   */
+  public void recordChanged(
+      final OAtomicOperation atomicOperation,
+      final int clusterId,
+      final long clusterPosition,
+      final byte recordType,
+      final byte[] content) {
+    final Collection<OPropertyColumn> clusterColumns = get(clusterId);
+    if (clusterColumns.isEmpty()) {
+      return;
+    }
+
+    ODocument document = null;
+    if (recordType == ODocument.RECORD_TYPE) {
+      document = new ODocument();
+      ORecordInternal.fill(document, new ORecordId(clusterId, clusterPosition), 0, content, false);
+    }
+
+    for (final OPropertyColumn column : clusterColumns) {
+      column.put(
+          atomicOperation,
+          clusterPosition,
+          document != null ? document.rawField(column.getProperty()) : null);
+    }
+  }
+
+  public void recordDeleted(
+      final OAtomicOperation atomicOperation, final int clusterId, final long clusterPosition) {
+    for (final OPropertyColumn column : get(clusterId)) {
+      column.remove(atomicOperation, clusterPosition);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if all passed properties of the cluster have columns which contain
+   *     values of all records
+   */
+  public boolean hasFilledColumns(final int clusterId, final Collection<String> properties) {
+    for (final String property : properties) {
+      final OPropertyColumn column = get(clusterId, property);
+      if (column == null || !column.isFilled()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Reads values of passed properties of the records covered by the single page of columns.
+   *
+   * @param properties properties to read, at least one property should be passed
+   * @param page index of the page, page <code>n</code> covers positions starting from <code>
+   *     n * {@link OPropertyColumnPage#SLOTS}</code>
+   * @return values of properties, or <code>null</code> if there are no pages starting from the
+   *     passed one or some of the properties do not have filled columns
+   */
+  public OPropertyColumnBatch read(final int clusterId, final String[] properties, final long page)
+      throws IOException {
+    if (properties.length == 0) {
+      throw new IllegalArgumentException("At least one property should be read");
+    }
+
+    final OPropertyColumn[] readColumns = new OPropertyColumn[properties.length];
+    for (int i = 0; i < properties.length; i++) {
+      readColumns[i] = get(clusterId, properties[i]);
+      if (readColumns[i] == null || !readColumns[i].isFilled()) {
+        return null;
+      }
+    }
+
+    final int slots = OPropertyColumnPage.SLOTS;
+    final byte[] rowFlags = new byte[slots];
+    final byte[] flags = new byte[slots];
+    final long[] values = new long[slots];
+
+    // all columns of the cluster share the same lock, so they are read in consistent state
+    final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+    atomicOperationsManager.acquireReadLock(readColumns[0]);
+    try {
+      // records are present in all columns, so the first one defines rows of the batch
+      if (!readColumns[0].readPage(page, rowFlags, values)) {
+        return null;
+      }
+
+      final long[] positions = new long[slots];
+      final Object[][] result = new Object[properties.length][slots];
+
+      int size = 0;
+      for (int slot = 0; slot < slots; slot++) {
+        if (rowFlags[slot] != OPropertyColumnPage.ABSENT) {
+          positions[size] = page * slots + slot;
+          if (rowFlags[slot] == OPropertyColumnPage.VALUE) {
+            result[0][size] = readColumns[0].decode(values[slot]);
+          }
+          size++;
+        }
+      }
+
+      for (int i = 1; i < readColumns.length; i++) {
+        final OPropertyColumn column = readColumns[i];
+        if (!column.readPage(page, flags, values)) {
+          continue;
+        }
+
+        int row = 0;
+        for (int slot = 0; slot < slots; slot++) {
+          if (rowFlags[slot] != OPropertyColumnPage.ABSENT) {
+            if (flags[slot] == OPropertyColumnPage.VALUE) {
+              result[i][row] = column.decode(values[slot]);
+            }
+            row++;
+          }
+        }
+      }
+
+      return new OPropertyColumnBatch(positions, result, size);
+    } finally {
+      atomicOperationsManager.releaseReadLock(readColumns[0]);
+    }
+  }
+
+  /** Forgets about all columns, files of columns are closed by storage. */
+  public void clear() {
+    columns.clear();
+  }
+}
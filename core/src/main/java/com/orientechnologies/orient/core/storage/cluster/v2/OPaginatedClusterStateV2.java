@@ -34,6 +34,9 @@ public final class OPaginatedClusterStateV2 extends ODurablePage {
   private static final int FILE_SIZE_OFFSET = SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
   private static final int FREE_LIST_OFFSET = FILE_SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
 
+  /** Free list is not used by this version of cluster, so its first entry keeps fill factor. */
+  private static final int FILL_FACTOR_OFFSET = FREE_LIST_OFFSET;
+
   public OPaginatedClusterStateV2(OCacheEntry cacheEntry) {
     super(cacheEntry);
   }
@@ -62,6 +65,15 @@ public final class OPaginatedClusterStateV2 extends ODurablePage {
     return getIntValue(FILE_SIZE_OFFSET);
   }
 
+  /** @param fillFactor fill factor of the pages in percents, or 0 if default one is used */
+  public void setFillFactor(int fillFactor) {
+    setIntValue(FILL_FACTOR_OFFSET, fillFactor);
+  }
+
+  public int getFillFactor() {
+    return getIntValue(FILL_FACTOR_OFFSET);
+  }
+
   public void setFreeListPage(int index, int pageIndex) {
     final int pageOffset = FREE_LIST_OFFSET + index * OIntegerSerializer.INT_SIZE;
     setIntValue(pageOffset, pageIndex);
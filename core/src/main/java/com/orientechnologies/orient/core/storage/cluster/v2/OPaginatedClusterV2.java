@@ -23,6 +23,7 @@ import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.config.OStorageClusterConfiguration;
 import com.orientechnologies.orient.core.config.OStoragePaginatedClusterConfiguration;
 import com.orientechnologies.orient.core.conflict.ORecordConflictStrategy;
@@ -71,10 +72,18 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   private static final int PAGE_INDEX_OFFSET = 16;
   private static final int RECORD_POSITION_MASK = 0xFFFF;
 
+  // record type + record size + first record flag + next page pointer + entry header inside of page
+  private static final int RECORD_OVERHEAD =
+      2 * OByteSerializer.BYTE_SIZE
+          + OIntegerSerializer.INT_SIZE
+          + OLongSerializer.LONG_SIZE
+          + 5 * OIntegerSerializer.INT_SIZE;
+
   private final boolean systemCluster;
   private final OClusterPositionMapV2 clusterPositionMap;
   private final FreeSpaceMap freeSpaceMap;
   private final String storageName;
+  private final int defaultFillFactor;
 
   private volatile int id;
   private long fileId;
@@ -101,6 +110,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     clusterPositionMap = new OClusterPositionMapV2(storage, getName(), getFullName(), cpmExtension);
     freeSpaceMap = new FreeSpaceMap(storage, name, fsmExtension, getFullName());
     storageName = storage.getName();
+    defaultFillFactor = OGlobalConfiguration.STORAGE_CLUSTER_FILL_FACTOR.getValueAsInteger();
   }
 
   @Override
@@ -218,7 +228,17 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
                       storageName);
 
               freeSpaceMap.create(atomicOperation);
-              final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+
+              // pages after the end of the cluster are reused by allocation of the new pages
+              final long filledUpTo;
+              try (final OCacheEntry stateEntry =
+                  loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX)) {
+                filledUpTo =
+                    Math.min(
+                        getFilledUpTo(atomicOperation, fileId),
+                        new OPaginatedClusterStateV2(stateEntry).getFileSize() + 1);
+              }
+
               for (int pageIndex = 0; pageIndex < filledUpTo; pageIndex++) {
 
                 try (final OCacheEntry cacheEntry =
@@ -345,6 +365,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         operation -> {
           acquireExclusiveLock();
           try {
+            final int reservedSpace = calculateReservedSpace(atomicOperation);
             final int[] result =
                 serializeRecord(
                     content,
@@ -353,7 +374,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
                     recordVersion,
                     -1,
                     atomicOperation,
-                    entrySize -> findNewPageToWrite(atomicOperation, entrySize),
+                    entrySize -> findNewPageToWrite(atomicOperation, entrySize, reservedSpace),
                     page -> {
                       final OCacheEntry cacheEntry = page.getCacheEntry();
                       try {
@@ -390,9 +411,18 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
   private OClusterPage findNewPageToWrite(
       final OAtomicOperation atomicOperation, final int entrySize) {
+    return findNewPageToWrite(atomicOperation, entrySize, 0);
+  }
+
+  /**
+   * @param reservedSpace space which should be left free inside of the page after the record is
+   *     written, it is used only if record fits into the single page
+   */
+  private OClusterPage findNewPageToWrite(
+      final OAtomicOperation atomicOperation, final int entrySize, final int reservedSpace) {
     final OClusterPage page;
     try {
-      final int nextPageToWrite = findNextFreePageIndexToWrite(entrySize);
+      final int nextPageToWrite = findNextFreePageIndexToWrite(entrySize, reservedSpace);
 
       final OCacheEntry cacheEntry;
       boolean isNew;
@@ -569,7 +599,8 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     return new ORawPair<>(chunk, written);
   }
 
-  private int findNextFreePageIndexToWrite(int bytesToWrite) throws IOException {
+  private int findNextFreePageIndexToWrite(int bytesToWrite, final int reservedSpace)
+      throws IOException {
     if (bytesToWrite > MAX_ENTRY_SIZE) {
       bytesToWrite = MAX_ENTRY_SIZE;
     }
@@ -588,7 +619,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     }
 
     int chunkSize = calculateChunkSize(bytesToWrite);
-    pageIndex = freeSpaceMap.findFreePage(chunkSize);
+    pageIndex = freeSpaceMap.findFreePage(chunkSize + reservedSpace);
 
     if (pageIndex < 0 && bytesToWrite > MAX_ENTRY_SIZE / 2) {
       final int halfChunkSize = calculateChunkSize(bytesToWrite / 2);
@@ -1205,6 +1236,270 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     }
   }
 
+  /** @return fill factor of the pages of cluster in percents */
+  public int getFillFactor() throws IOException {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        return readFillFactor(atomicOperationsManager.getCurrentOperation());
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * Sets part of the page in percents which is filled by new records, the rest of the page is left
+   * for the growth of records during updates. Fill factor is not applied to the records which are
+   * bigger than single page.
+   */
+  public void setFillFactor(final OAtomicOperation atomicOperation, final int fillFactor) {
+    if (fillFactor < 1 || fillFactor > 100) {
+      throw new IllegalArgumentException(
+          "Fill factor should be in range from 1 to 100, but passed value is " + fillFactor);
+    }
+
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try (final OCacheEntry stateEntry =
+              loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, true)) {
+            new OPaginatedClusterStateV2(stateEntry).setFillFactor(fillFactor);
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  private int readFillFactor(final OAtomicOperation atomicOperation) throws IOException {
+    try (final OCacheEntry stateEntry =
+        loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX)) {
+      return fillFactor(new OPaginatedClusterStateV2(stateEntry));
+    }
+  }
+
+  private int fillFactor(final OPaginatedClusterStateV2 clusterState) {
+    final int fillFactor = clusterState.getFillFactor();
+    if (fillFactor > 0 && fillFactor <= 100) {
+      return fillFactor;
+    }
+
+    if (defaultFillFactor > 0 && defaultFillFactor <= 100) {
+      return defaultFillFactor;
+    }
+
+    return 100;
+  }
+
+  private int calculateReservedSpace(final OAtomicOperation atomicOperation) throws IOException {
+    return reservedSpace(readFillFactor(atomicOperation));
+  }
+
+  private static int reservedSpace(final int fillFactor) {
+    return OClusterPage.MAX_RECORD_SIZE * (100 - fillFactor) / 100;
+  }
+
+  /**
+   * Moves records which follow passed position to the free space of the pages located closer to the
+   * beginning of the cluster. Only records which are split between several pages or which are
+   * located after the pages needed to keep all records of cluster with current fill factor are
+   * moved. Positions of records are not changed.
+   *
+   * @param lastPosition position after which records are processed, or -1 to start from the first
+   *     record
+   * @return position of the last processed record and amount of moved records, or <code>null
+   *     </code> if there are no records after passed position
+   */
+  public ORawPair<Long, Integer> compact(
+      final OAtomicOperation atomicOperation, final long lastPosition) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            final OClusterPositionMapV2.OClusterPositionEntry[] positions =
+                clusterPositionMap.higherPositionsEntries(lastPosition, atomicOperation);
+            if (positions.length == 0) {
+              return null;
+            }
+
+            final int reservedSpace;
+            final long densePages;
+            try (final OCacheEntry stateEntry =
+                loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX)) {
+              final OPaginatedClusterStateV2 clusterState =
+                  new OPaginatedClusterStateV2(stateEntry);
+              reservedSpace = reservedSpace(fillFactor(clusterState));
+
+              final long dataSize =
+                  clusterState.getRecordsSize() + (long) clusterState.getSize() * RECORD_OVERHEAD;
+              densePages = dataSize / (OClusterPage.MAX_RECORD_SIZE - reservedSpace) + 1;
+            }
+
+            int moved = 0;
+            for (final OClusterPositionMapV2.OClusterPositionEntry position : positions) {
+              if (relocateRecord(position, densePages, reservedSpace, atomicOperation)) {
+                moved++;
+              }
+            }
+
+            return new ORawPair<>(positions[positions.length - 1].getPosition(), moved);
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  private boolean relocateRecord(
+      final OClusterPositionMapV2.OClusterPositionEntry position,
+      final long densePages,
+      final int reservedSpace,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    final long clusterPosition = position.getPosition();
+    final ORawBuffer record =
+        internalReadRecord(
+            clusterPosition, position.getPage(), position.getOffset(), atomicOperation);
+    if (record == null) {
+      return false;
+    }
+
+    final int entrySize = calculateClusterEntrySize(record.buffer.length);
+    // records which do not fit into the single page are split anyway
+    if (entrySize > MAX_ENTRY_SIZE
+        || entrySize >= ODurablePage.MAX_PAGE_SIZE_BYTES - FreeSpaceMap.NORMALIZATION_INTERVAL) {
+      return false;
+    }
+
+    int chunks = 0;
+    long lastPage = 0;
+
+    long pageIndex = position.getPage();
+    int recordPosition = position.getOffset();
+    long nextPagePointer;
+    do {
+      try (final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+        final OClusterPage page = new OClusterPage(cacheEntry);
+        nextPagePointer = page.getRecordLongValue(recordPosition, -OLongSerializer.LONG_SIZE);
+      }
+
+      chunks++;
+      lastPage = Math.max(lastPage, pageIndex);
+
+      pageIndex = getPageIndex(nextPagePointer);
+      recordPosition = getRecordPosition(nextPagePointer);
+    } while (nextPagePointer >= 0);
+
+    if (chunks == 1 && lastPage <= densePages) {
+      return false;
+    }
+
+    final int targetPage = freeSpaceMap.findFreePage(calculateChunkSize(entrySize) + reservedSpace);
+    if (targetPage < 0 || targetPage >= lastPage) {
+      return false;
+    }
+
+    deleteRecordChunks(position.getPage(), position.getOffset(), atomicOperation);
+
+    final int[] result =
+        serializeRecord(
+            record.buffer,
+            entrySize,
+            record.recordType,
+            record.version,
+            -1,
+            atomicOperation,
+            size -> findNewPageToWrite(atomicOperation, size, reservedSpace),
+            page -> {
+              final OCacheEntry cacheEntry = page.getCacheEntry();
+              try {
+                cacheEntry.close();
+              } catch (final IOException e) {
+                throw OException.wrapException(
+                    new OPaginatedClusterException(
+                        "Can not move record with rid " + new ORecordId(id, clusterPosition), this),
+                    e);
+              }
+            });
+    assert result[2] == 0;
+
+    clusterPositionMap.update(
+        clusterPosition,
+        new OClusterPositionMapBucket.PositionEntry(result[0], result[1]),
+        atomicOperation);
+    return true;
+  }
+
+  private void deleteRecordChunks(
+      long pageIndex, int recordPosition, final OAtomicOperation atomicOperation)
+      throws IOException {
+    long nextPagePointer;
+    do {
+      final int maxRecordSize;
+      try (final OCacheEntry cacheEntry =
+          loadPageForWrite(atomicOperation, fileId, pageIndex, true)) {
+        final OClusterPage page = new OClusterPage(cacheEntry);
+        final byte[] content = page.deleteRecord(recordPosition, true);
+        assert content != null;
+
+        atomicOperation.addDeletedRecordPosition(id, cacheEntry.getPageIndex(), recordPosition);
+        maxRecordSize = page.getMaxRecordSize();
+        nextPagePointer =
+            OLongSerializer.INSTANCE.deserializeNative(
+                content, content.length - OLongSerializer.LONG_SIZE);
+      }
+
+      freeSpaceMap.updatePageFreeSpace(atomicOperation, (int) pageIndex, maxRecordSize);
+
+      pageIndex = getPageIndex(nextPagePointer);
+      recordPosition = getRecordPosition(nextPagePointer);
+    } while (nextPagePointer >= 0);
+  }
+
+  /**
+   * Removes empty pages from the end of the cluster. Pages are not removed from the file but they
+   * are reused once cluster needs new pages.
+   *
+   * @return amount of removed pages
+   */
+  public int reclaimTailPages(final OAtomicOperation atomicOperation) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try (final OCacheEntry stateEntry =
+              loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, true)) {
+            final OPaginatedClusterStateV2 clusterState = new OPaginatedClusterStateV2(stateEntry);
+            final int initialFileSize = clusterState.getFileSize();
+
+            int fileSize = initialFileSize;
+            while (fileSize > 0) {
+              try (final OCacheEntry cacheEntry =
+                  loadPageForRead(atomicOperation, fileId, fileSize)) {
+                if (new OClusterPage(cacheEntry).getRecordsCount() > 0) {
+                  break;
+                }
+              }
+
+              freeSpaceMap.updatePageFreeSpace(atomicOperation, fileSize, 0);
+              fileSize--;
+            }
+
+            if (fileSize != initialFileSize) {
+              clusterState.setFileSize(fileSize);
+            }
+
+            return initialFileSize - fileSize;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
   @Override
   public OPhysicalPosition[] higherPositions(final OPhysicalPosition position) throws IOException {
     atomicOperationsManager.acquireReadLock(this);
@@ -1214,6 +1509,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
         final long[] clusterPositions =
             clusterPositionMap.higherPositions(position.clusterPosition, atomicOperation);
+        readAheadRecords(clusterPositions, atomicOperation);
         return convertToPhysicalPositions(clusterPositions);
       } finally {
         releaseSharedLock();
@@ -1232,6 +1528,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
         final long[] clusterPositions =
             clusterPositionMap.ceilingPositions(position.clusterPosition, atomicOperation);
+        readAheadRecords(clusterPositions, atomicOperation);
         return convertToPhysicalPositions(clusterPositions);
       } finally {
         releaseSharedLock();
@@ -1424,6 +1721,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
       paginatedClusterState.setSize(0);
       paginatedClusterState.setRecordsSize(0);
       paginatedClusterState.setFileSize(0);
+      paginatedClusterState.setFillFactor(0);
     } finally {
       stateEntry.close();
       ;
@@ -1541,6 +1839,36 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     return "plocal cluster: " + getName();
   }
 
+  /**
+   * Hints read cache to load in advance data pages of the records which are going to be browsed.
+   * Records are appended to the cluster, so pages of the records which follow each other are
+   * usually stored one after another.
+   */
+  private void readAheadRecords(
+      final long[] clusterPositions, final OAtomicOperation atomicOperation) throws IOException {
+    if (clusterPositions.length < 2) {
+      return;
+    }
+
+    final OClusterPositionMapBucket.PositionEntry first =
+        clusterPositionMap.get(clusterPositions[0], atomicOperation);
+    final OClusterPositionMapBucket.PositionEntry last =
+        clusterPositionMap.get(clusterPositions[clusterPositions.length - 1], atomicOperation);
+    if (first != null && last != null) {
+      readAheadPages(first.getPageIndex(), last.getPageIndex());
+    }
+  }
+
+  private void readAheadPages(final long firstPageIndex, final long lastPageIndex) {
+    if (lastPageIndex > firstPageIndex) {
+      readCache.readAhead(
+          fileId,
+          firstPageIndex,
+          (int) Math.min(lastPageIndex - firstPageIndex + 1, Integer.MAX_VALUE),
+          writeCache);
+    }
+  }
+
   @Override
   public OClusterBrowsePage nextPage(final long lastPosition) throws IOException {
     atomicOperationsManager.acquireReadLock(this);
@@ -1552,6 +1880,9 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         final OClusterPositionMapV2.OClusterPositionEntry[] nextPositions =
             clusterPositionMap.higherPositionsEntries(lastPosition, atomicOperation);
         if (nextPositions.length > 0) {
+          readAheadPages(
+              nextPositions[0].getPage(), nextPositions[nextPositions.length - 1].getPage());
+
           final long newLastPosition = nextPositions[nextPositions.length - 1].getPosition();
           final List<OClusterBrowseEntry> nexv = new ArrayList<>(nextPositions.length);
           for (final OClusterPositionMapV2.OClusterPositionEntry pos : nextPositions) {
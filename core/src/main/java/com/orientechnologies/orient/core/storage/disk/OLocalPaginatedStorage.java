@@ -30,8 +30,11 @@ import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.parser.OSystemVariableResolver;
+import com.orientechnologies.common.profiler.OAbstractProfiler.OProfilerHookValue;
+import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.common.serialization.types.OStringSerializer;
 import com.orientechnologies.orient.core.OConstants;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.compression.impl.OZIPCompressionUtil;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
@@ -39,13 +42,17 @@ import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.engine.local.OEngineLocalPaginated;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
+import com.orientechnologies.orient.core.sql.executor.ExternalMergeSort;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLog;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLogGL;
+import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLogMigration;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLogNoOP;
+import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLogSharded;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMap;
+import com.orientechnologies.orient.core.storage.cluster.column.OPropertyColumn;
 import com.orientechnologies.orient.core.storage.cluster.v2.FreeSpaceMap;
 import com.orientechnologies.orient.core.storage.config.OClusterBasedStorageConfiguration;
 import com.orientechnologies.orient.core.storage.fs.OFile;
@@ -112,6 +119,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     OHashTableIndexEngine.TREE_FILE_EXTENSION,
     OHashTableIndexEngine.NULL_BUCKET_FILE_EXTENSION,
     OClusterPositionMap.DEF_EXTENSION,
+    OPropertyColumn.DEF_EXTENSION,
     OSBTreeIndexEngine.DATA_FILE_EXTENSION,
     OIndexRIDContainer.INDEX_FILE_EXTENSION,
     OSBTreeCollectionManagerShared.FILE_EXTENSION,
@@ -123,12 +131,18 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     OCellBTreeMultiValueIndexEngine.DATA_FILE_EXTENSION,
     OCellBTreeMultiValueIndexEngine.M_CONTAINER_EXTENSION,
     DoubleWriteLogGL.EXTENSION,
+    DoubleWriteLogSharded.EXTENSION,
     FreeSpaceMap.DEF_EXTENSION,
-    OVersionPositionMap.DEF_EXTENSION
+    OVersionPositionMap.DEF_EXTENSION,
+    ExternalMergeSort.RUN_FILE_EXTENSION
   };
 
   private static final int ONE_KB = 1024;
 
+  private static final String[] CHECKPOINT_METRICS = {
+    "lag", "lagSegments", "walGrowthRate", "flushRate"
+  };
+
   private final int deleteMaxRetries;
   private final int deleteWaitTime;
 
@@ -275,7 +289,13 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
                   OZIPCompressionUtil.compressDirectory(
                       storagePath.toString(),
                       zos,
-                      new String[] {".fl", ".lock", DoubleWriteLogGL.EXTENSION},
+                      new String[] {
+                        ".fl",
+                        ".lock",
+                        DoubleWriteLogGL.EXTENSION,
+                        DoubleWriteLogSharded.EXTENSION,
+                        ExternalMergeSort.RUN_FILE_EXTENSION
+                      },
                       iOutput);
               startupMetadata.addFileToArchive(zos, "dirty.fl");
               names.add("dirty.fl");
@@ -506,7 +526,10 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
         contextConfiguration.getValueAsBoolean(
             OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
         contextConfiguration.getValueAsInteger(
-            OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+            OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL),
+        contextConfiguration.getValueAsInteger(
+            OGlobalConfiguration.WAL_GROUP_COMMIT_TARGET_LATENCY),
+        contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_SIZE));
   }
 
   @Override
@@ -516,10 +539,21 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       startupMetadata.create(OConstants.getVersion());
       startupMetadata.makeDirty(OConstants.getVersion());
     }
+    deleteSortedRuns();
 
     return new OStartupMetadata(startupMetadata.getLastTxId(), startupMetadata.getTxMetadata());
   }
 
+  /** deletes the sorted runs of ORDER BY left in the storage directory by a crash */
+  private void deleteSortedRuns() throws IOException {
+    try (final DirectoryStream<Path> runs =
+        Files.newDirectoryStream(storagePath, "*" + ExternalMergeSort.RUN_FILE_EXTENSION)) {
+      for (final Path run : runs) {
+        Files.deleteIfExists(run);
+      }
+    }
+  }
+
   @Override
   protected void initConfiguration(
       OAtomicOperation atomicOperation, final OContextConfiguration contextConfiguration)
@@ -553,6 +587,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       fuzzyCheckpointTask.cancel(false);
     }
 
+    unregisterCheckpointProfilerHooks();
+
     return params;
   }
 
@@ -775,7 +811,10 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
             contextConfiguration.getValueAsBoolean(
                 OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
             contextConfiguration.getValueAsInteger(
-                OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+                OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL),
+            contextConfiguration.getValueAsInteger(
+                OGlobalConfiguration.WAL_GROUP_COMMIT_TARGET_LATENCY),
+            contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_SIZE));
     writeAheadLog.addCheckpointListener(this);
 
     final int pageSize =
@@ -790,7 +829,26 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
 
     final DoubleWriteLog doubleWriteLog;
     if (contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_USE_DOUBLE_WRITE_LOG)) {
-      doubleWriteLog = new DoubleWriteLogGL(doubleWriteLogMaxSegSize);
+      final int shards =
+          contextConfiguration.getValueAsInteger(
+              OGlobalConfiguration.STORAGE_DOUBLE_WRITE_LOG_SHARDS);
+      // segments of the other implementation are left on disk if storage was not closed correctly
+      // before the amount of shards was changed, they are still needed to restore torn pages
+      if (shards > 1) {
+        doubleWriteLog =
+            new DoubleWriteLogMigration(
+                new DoubleWriteLogSharded(doubleWriteLogMaxSegSize, shards),
+                DoubleWriteLogSharded.EXTENSION,
+                new DoubleWriteLogGL(doubleWriteLogMaxSegSize),
+                DoubleWriteLogGL.EXTENSION);
+      } else {
+        doubleWriteLog =
+            new DoubleWriteLogMigration(
+                new DoubleWriteLogGL(doubleWriteLogMaxSegSize),
+                DoubleWriteLogGL.EXTENSION,
+                new DoubleWriteLogSharded(doubleWriteLogMaxSegSize, 1),
+                DoubleWriteLogSharded.EXTENSION);
+      }
     } else {
       doubleWriteLog = new DoubleWriteLogNoOP();
     }
@@ -814,13 +872,82 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
                 OGlobalConfiguration.STORAGE_CHECKSUM_MODE, OChecksumMode.class),
             iv,
             aesKey,
-            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC));
+            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC),
+            contextConfiguration.getValueAsString(OGlobalConfiguration.STORAGE_PAGE_COMPRESSION),
+            contextConfiguration.getValueAsString(
+                OGlobalConfiguration.STORAGE_PAGE_COMPRESSION_FILES),
+            checkpointTargetLag(contextConfiguration));
 
     wowCache.loadRegisteredFiles();
     wowCache.addBackgroundExceptionListener(this);
     wowCache.addPageIsBrokenListener(this);
 
     writeCache = wowCache;
+
+    registerCheckpointProfilerHooks(wowCache);
+  }
+
+  private static long checkpointTargetLag(final OContextConfiguration contextConfiguration) {
+    final long targetLag =
+        contextConfiguration.getValueAsLong(OGlobalConfiguration.WAL_CHECKPOINT_TARGET_LAG);
+    if (targetLag >= 0) {
+      return targetLag * 1024 * 1024;
+    }
+
+    final long walMaxSize = contextConfiguration.getValueAsLong(OGlobalConfiguration.WAL_MAX_SIZE);
+    if (walMaxSize > 0) {
+      return walMaxSize * 1024 * 1024 / 2;
+    }
+
+    return -1;
+  }
+
+  private void registerCheckpointProfilerHooks(final OWOWCache wowCache) {
+    registerCheckpointProfilerHook(
+        CHECKPOINT_METRICS[0],
+        "Distance in bytes between the oldest not flushed change of pages and the end of WAL",
+        OProfiler.METRIC_TYPE.SIZE,
+        wowCache::getCheckpointLag);
+    registerCheckpointProfilerHook(
+        CHECKPOINT_METRICS[1],
+        "Number of WAL segments which can not be truncated because of not flushed pages",
+        OProfiler.METRIC_TYPE.COUNTER,
+        wowCache::getCheckpointLagSegments);
+    registerCheckpointProfilerHook(
+        CHECKPOINT_METRICS[2],
+        "Speed of WAL growth in bytes per second",
+        OProfiler.METRIC_TYPE.STAT,
+        wowCache::getWALGrowthRate);
+    registerCheckpointProfilerHook(
+        CHECKPOINT_METRICS[3],
+        "Speed of flush of pages to keep WAL truncated, in pages per second",
+        OProfiler.METRIC_TYPE.STAT,
+        wowCache::getCheckpointFlushRate);
+  }
+
+  private void registerCheckpointProfilerHook(
+      final String metric,
+      final String description,
+      final OProfiler.METRIC_TYPE type,
+      final OProfilerHookValue hookValue) {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    if (profiler != null) {
+      profiler.registerHookValue(
+          "db." + name + ".checkpoint." + metric,
+          description,
+          type,
+          hookValue,
+          "db.*.checkpoint." + metric);
+    }
+  }
+
+  private void unregisterCheckpointProfilerHooks() {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    if (profiler != null) {
+      for (final String metric : CHECKPOINT_METRICS) {
+        profiler.unregisterHookValue("db." + name + ".checkpoint." + metric);
+      }
+    }
   }
 
   public static boolean exists(final Path path) {
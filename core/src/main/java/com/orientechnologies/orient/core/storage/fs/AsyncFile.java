@@ -3,6 +3,8 @@ package com.orientechnologies.orient.core.storage.fs;
 import com.orientechnologies.common.concur.lock.OInterruptedException;
 import com.orientechnologies.common.concur.lock.ScalableRWLock;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.jnr.LastErrorException;
+import com.orientechnologies.common.jnr.ONative;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -15,6 +17,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -33,9 +36,20 @@ public final class AsyncFile implements OFile {
 
   private final int pageSize;
 
+  /** io_uring backend which is used for batches of reads and writes, or <code>null</code>. */
+  private final IOUring ioUring;
+
+  /** Descriptor of the file which is used by io_uring backend. */
+  private int fd = -1;
+
   public AsyncFile(final Path osFile, final int pageSize) {
+    this(osFile, pageSize, null);
+  }
+
+  public AsyncFile(final Path osFile, final int pageSize, final IOUring ioUring) {
     this.osFile = osFile;
     this.pageSize = pageSize;
+    this.ioUring = ioUring;
   }
 
   @Override
@@ -127,6 +141,16 @@ public final class AsyncFile implements OFile {
     fileChannel =
         AsynchronousFileChannel.open(osFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
 
+    if (ioUring != null) {
+      try {
+        fd = ONative.instance().open(osFile.toString(), ONative.O_RDWR);
+      } catch (final LastErrorException e) {
+        fileChannel.close();
+        fileChannel = null;
+        throw new IOException("Can not open file " + osFile + " for io_uring", e);
+      }
+    }
+
     initSize();
   }
 
@@ -190,6 +214,29 @@ public final class AsyncFile implements OFile {
 
   @Override
   public IOResult write(List<ORawPair<Long, ByteBuffer>> buffers) {
+    final long[] offsets = new long[buffers.size()];
+    final ByteBuffer[] byteBuffers = new ByteBuffer[buffers.size()];
+    if (ioUring != null && !ioUring.isClosed() && toArrays(buffers, offsets, byteBuffers)) {
+      lock.sharedLock();
+      try {
+        checkForClose();
+        for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+          checkPosition(pair.first);
+          checkPosition(pair.first + pair.second.limit() - 1);
+        }
+
+        ioUring.write(fd, offsets, byteBuffers);
+      } catch (final IOException e) {
+        throw OException.wrapException(
+            new OStorageException("Error during write operation to the file " + osFile), e);
+      } finally {
+        dirtyCounter.incrementAndGet();
+        lock.sharedUnlock();
+      }
+
+      return () -> {};
+    }
+
     final CountDownLatch latch = new CountDownLatch(buffers.size());
     final AsyncIOResult asyncIOResult = new AsyncIOResult(latch);
 
@@ -220,36 +267,101 @@ public final class AsyncFile implements OFile {
       checkForClose();
       checkPosition(offset);
 
-      int read = 0;
-      do {
-        buffer.position(read);
-        final Future<Integer> readFuture = fileChannel.read(buffer, offset + HEADER_SIZE + read);
-        final int bytesRead;
+      doRead(offset, buffer, throwOnEof, 0);
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public void read(List<ORawPair<Long, ByteBuffer>> buffers, boolean throwOnEof)
+      throws IOException {
+    final long[] offsets = new long[buffers.size()];
+    final ByteBuffer[] byteBuffers = new ByteBuffer[buffers.size()];
+    final boolean useIOUring =
+        ioUring != null && !ioUring.isClosed() && toArrays(buffers, offsets, byteBuffers);
+
+    lock.sharedLock();
+    try {
+      checkForClose();
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        checkPosition(pair.first);
+      }
+
+      if (useIOUring) {
+        ioUring.read(fd, offsets, byteBuffers, throwOnEof);
+        return;
+      }
+
+      // start all reads at once, so device may serve them in parallel
+      final List<Future<Integer>> readFutures = new ArrayList<>(buffers.size());
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        pair.second.position(0);
+        readFutures.add(fileChannel.read(pair.second, pair.first + HEADER_SIZE));
+      }
+
+      Throwable error = null;
+      final int[] bytesRead = new int[buffers.size()];
+      for (int i = 0; i < readFutures.size(); i++) {
         try {
-          bytesRead = readFuture.get();
-        } catch (InterruptedException e) {
-          throw OException.wrapException(
-              new OInterruptedException("File write was interrupted"), e);
-        } catch (ExecutionException e) {
-          throw OException.wrapException(
-              new OStorageException("Error during read operation from the file " + osFile), e);
+          bytesRead[i] = readFutures.get(i).get();
+        } catch (InterruptedException | ExecutionException e) {
+          if (error == null) {
+            error = e;
+          }
         }
+      }
+
+      if (error instanceof InterruptedException) {
+        throw OException.wrapException(
+            new OInterruptedException("File read was interrupted"), error);
+      } else if (error != null) {
+        throw OException.wrapException(
+            new OStorageException("Error during read operation from the file " + osFile), error);
+      }
 
-        if (bytesRead == -1) {
+      for (int i = 0; i < bytesRead.length; i++) {
+        final ORawPair<Long, ByteBuffer> pair = buffers.get(i);
+        if (bytesRead[i] == -1) {
           if (throwOnEof) {
             throw new EOFException("End of file " + osFile + " is reached.");
           }
-
-          break;
+        } else if (bytesRead[i] < pair.second.limit()) {
+          doRead(pair.first, pair.second, throwOnEof, bytesRead[i]);
         }
-
-        read += bytesRead;
-      } while (read < buffer.limit());
+      }
     } finally {
       lock.sharedUnlock();
     }
   }
 
+  private void doRead(long offset, ByteBuffer buffer, boolean throwOnEof, int read)
+      throws IOException {
+    do {
+      buffer.position(read);
+      final Future<Integer> readFuture = fileChannel.read(buffer, offset + HEADER_SIZE + read);
+      final int bytesRead;
+      try {
+        bytesRead = readFuture.get();
+      } catch (InterruptedException e) {
+        throw OException.wrapException(new OInterruptedException("File write was interrupted"), e);
+      } catch (ExecutionException e) {
+        throw OException.wrapException(
+            new OStorageException("Error during read operation from the file " + osFile), e);
+      }
+
+      if (bytesRead == -1) {
+        if (throwOnEof) {
+          throw new EOFException("End of file " + osFile + " is reached.");
+        }
+
+        break;
+      }
+
+      read += bytesRead;
+    } while (read < buffer.limit());
+  }
+
   @Override
   public long allocateSpace(int size) {
     return this.size.getAndAdd(size);
@@ -318,6 +430,16 @@ public final class AsyncFile implements OFile {
       fileChannel.close();
       fileChannel = null;
     }
+
+    if (fd >= 0) {
+      try {
+        ONative.instance().close(fd);
+      } catch (final LastErrorException e) {
+        throw new IOException("Can not close file " + osFile, e);
+      } finally {
+        fd = -1;
+      }
+    }
   }
 
   @Override
@@ -372,6 +494,24 @@ public final class AsyncFile implements OFile {
     }
   }
 
+  /**
+   * Splits batch on offsets in the file and buffers.
+   *
+   * @return <code>true</code> if batch can be processed by io_uring backend
+   */
+  private static boolean toArrays(
+      final List<ORawPair<Long, ByteBuffer>> buffers,
+      final long[] offsets,
+      final ByteBuffer[] byteBuffers) {
+    for (int i = 0; i < offsets.length; i++) {
+      final ORawPair<Long, ByteBuffer> pair = buffers.get(i);
+      offsets[i] = pair.first + HEADER_SIZE;
+      byteBuffers[i] = pair.second;
+    }
+
+    return IOUring.isSupported(byteBuffers);
+  }
+
   private void checkForClose() {
     if (fileChannel == null) {
       throw new OStorageException("File " + osFile + " is closed");
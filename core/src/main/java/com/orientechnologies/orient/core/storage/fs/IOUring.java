@@ -0,0 +1,576 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.kenai.jffi.Platform;
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.jnr.LastErrorException;
+import com.orientechnologies.common.jnr.ONative;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.shutdown.OShutdownHandler;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import sun.misc.Unsafe;
+
+/**
+ * Page IO on top of Linux io_uring interface. Batch of page reads or writes is placed in the
+ * submission queue of a ring and is passed to the kernel by a single system call, so device
+ * receives all requests of the batch at once instead of one request per system call.
+ *
+ * <p>Rings are shared by all files, each batch occupies a single ring till all its requests are
+ * completed, short reads and writes are resubmitted. Only direct buffers can be used. If a batch
+ * fails, its ring is returned to the pool only once all requests of the batch are completed,
+ * otherwise the ring is closed and replaced by a new one. Rings are closed on engine shutdown.
+ *
+ * @see OGlobalConfiguration#STORAGE_USE_IO_URING
+ */
+public final class IOUring {
+  private static final long IORING_OFF_SQ_RING = 0;
+  private static final long IORING_OFF_CQ_RING = 0x8000000L;
+  private static final long IORING_OFF_SQES = 0x10000000L;
+
+  private static final int IORING_ENTER_GETEVENTS = 1;
+
+  /** Added in kernel 5.7, so <code>IORING_OP_READ</code> and <code>IORING_OP_WRITE</code> work. */
+  private static final int IORING_FEAT_FAST_POLL = 1 << 5;
+
+  private static final byte IORING_OP_READ = 22;
+  private static final byte IORING_OP_WRITE = 23;
+
+  private static final int PARAMS_SIZE = 120;
+  private static final int SQE_SIZE = 64;
+  private static final int CQE_SIZE = 16;
+
+  private static final int EINTR = 4;
+  private static final int EAGAIN = 11;
+  private static final int EBUSY = 16;
+
+  private static final Unsafe unsafe;
+  private static final long BUFFER_ADDRESS_OFFSET;
+
+  static {
+    unsafe =
+        (Unsafe)
+            AccessController.doPrivileged(
+                (PrivilegedAction<Object>)
+                    () -> {
+                      try {
+                        Field f = Unsafe.class.getDeclaredField("theUnsafe");
+                        f.setAccessible(true);
+                        return f.get(null);
+                      } catch (NoSuchFieldException | IllegalAccessException e) {
+                        return null;
+                      }
+                    });
+
+    long addressOffset = -1;
+    if (unsafe != null) {
+      try {
+        addressOffset = unsafe.objectFieldOffset(Buffer.class.getDeclaredField("address"));
+      } catch (NoSuchFieldException e) {
+        addressOffset = -1;
+      }
+    }
+    BUFFER_ADDRESS_OFFSET = addressOffset;
+  }
+
+  private static volatile IOUring instance;
+  private static volatile boolean initialized;
+
+  /** Closes rings once storages are closed, shared instance is created again after startup. */
+  private static final OShutdownHandler shutdownHandler =
+      new OShutdownHandler() {
+        @Override
+        public void shutdown() {
+          shutdownInstance();
+        }
+
+        @Override
+        public int getPriority() {
+          return SHUTDOWN_ENGINES_PRIORITY + 1;
+        }
+      };
+
+  static {
+    Orient.instance()
+        .registerOrientStartupListener(() -> Orient.instance().addShutdownHandler(shutdownHandler));
+    Orient.instance().addShutdownHandler(shutdownHandler);
+  }
+
+  private final ArrayBlockingQueue<Ring> rings;
+  private final int queueDepth;
+
+  /** Amount of rings which are not closed, rings in use included. */
+  private final AtomicInteger ringsCount;
+
+  private volatile boolean closed;
+
+  private IOUring(final ArrayBlockingQueue<Ring> rings, final int queueDepth) {
+    this.rings = rings;
+    this.queueDepth = queueDepth;
+    this.ringsCount = new AtomicInteger(rings.size());
+  }
+
+  /**
+   * @return shared instance of io_uring backend or <code>null</code> if usage of io_uring is
+   *     switched off or is not supported by OS.
+   */
+  public static IOUring instance() {
+    if (initialized) {
+      return instance;
+    }
+
+    synchronized (IOUring.class) {
+      if (initialized) {
+        return instance;
+      }
+
+      if (OGlobalConfiguration.STORAGE_USE_IO_URING.getValueAsBoolean()) {
+        int ringsCount = OGlobalConfiguration.STORAGE_IO_URING_RINGS.getValueAsInteger();
+        if (ringsCount <= 0) {
+          ringsCount = Runtime.getRuntime().availableProcessors();
+        }
+
+        instance =
+            create(
+                ringsCount, OGlobalConfiguration.STORAGE_IO_URING_QUEUE_DEPTH.getValueAsInteger());
+        if (instance == null) {
+          OLogManager.instance()
+              .warnNoDb(
+                  IOUring.class,
+                  "io_uring is not supported by OS, asynchronous file channels will be used");
+        } else {
+          OLogManager.instance()
+              .infoNoDb(IOUring.class, "%d io_uring instances are used for page IO", ringsCount);
+        }
+      }
+
+      initialized = true;
+    }
+
+    return instance;
+  }
+
+  /**
+   * Creates io_uring backend.
+   *
+   * @param ringsCount amount of rings, maximum amount of batches which are processed concurrently
+   * @param queueDepth maximum amount of requests passed to the kernel by a single ring at once
+   * @return created backend or <code>null</code> if io_uring is not supported by OS
+   */
+  static IOUring create(final int ringsCount, final int queueDepth) {
+    if (unsafe == null
+        || BUFFER_ADDRESS_OFFSET < 0
+        || Platform.getPlatform().getOS() != Platform.OS.LINUX
+        || Platform.getPlatform().addressSize() != 64) {
+      return null;
+    }
+
+    final ArrayBlockingQueue<Ring> rings = new ArrayBlockingQueue<>(ringsCount);
+    try {
+      for (int i = 0; i < ringsCount; i++) {
+        final Ring ring = Ring.create(queueDepth);
+        if (ring == null) {
+          break;
+        }
+        rings.add(ring);
+      }
+    } catch (LastErrorException e) {
+      OLogManager.instance().warnNoDb(IOUring.class, "Can not create io_uring instance", e);
+    } catch (UnsatisfiedLinkError | RuntimeException e) {
+      OLogManager.instance().warnNoDb(IOUring.class, "Can not call native functions", e);
+    }
+
+    if (rings.size() < ringsCount) {
+      for (final Ring ring : rings) {
+        ring.close();
+      }
+      return null;
+    }
+
+    return new IOUring(rings, queueDepth);
+  }
+
+  private static void shutdownInstance() {
+    synchronized (IOUring.class) {
+      if (instance != null) {
+        instance.close();
+        instance = null;
+      }
+      initialized = false;
+    }
+  }
+
+  /**
+   * Releases all rings, waiting for the batches which are in progress. Backend can not be used
+   * after this call.
+   */
+  void close() {
+    closed = true;
+    try {
+      while (ringsCount.get() > 0) {
+        final Ring ring = rings.poll(100, TimeUnit.MILLISECONDS);
+        if (ring != null) {
+          ring.close();
+          ringsCount.decrementAndGet();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      OLogManager.instance().warnNoDb(this, "Closing of io_uring instances was interrupted");
+    }
+  }
+
+  /** @return <code>true</code> if backend is closed and files should use their channels */
+  boolean isClosed() {
+    return closed;
+  }
+
+  /** @return <code>true</code> if all buffers of the batch can be passed to the kernel directly */
+  static boolean isSupported(final ByteBuffer[] buffers) {
+    for (final ByteBuffer buffer : buffers) {
+      if (!buffer.isDirect()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Writes content of the buffers from zero position till their limits at the given file offsets
+   * and waits till all writes are completed.
+   */
+  void write(final int fd, final long[] offsets, final ByteBuffer[] buffers) throws IOException {
+    execute(fd, IORING_OP_WRITE, offsets, buffers, false);
+  }
+
+  /**
+   * Reads file content at the given offsets into the buffers from zero position till their limits
+   * and waits till all reads are completed. Position of each buffer is set to the amount of read
+   * bytes.
+   */
+  void read(
+      final int fd, final long[] offsets, final ByteBuffer[] buffers, final boolean throwOnEof)
+      throws IOException {
+    execute(fd, IORING_OP_READ, offsets, buffers, throwOnEof);
+  }
+
+  private void execute(
+      final int fd,
+      final byte opcode,
+      final long[] offsets,
+      final ByteBuffer[] buffers,
+      final boolean throwOnEof)
+      throws IOException {
+    final Ring ring = acquireRing();
+    try {
+      ring.execute(fd, opcode, offsets, buffers, throwOnEof);
+    } finally {
+      if (ring.isBroken()) {
+        replaceRing(ring);
+      } else {
+        rings.add(ring);
+      }
+    }
+  }
+
+  private Ring acquireRing() throws IOException {
+    try {
+      while (true) {
+        if (closed || ringsCount.get() == 0) {
+          throw new IOException("io_uring backend is closed");
+        }
+
+        final Ring ring = rings.poll(100, TimeUnit.MILLISECONDS);
+        if (ring != null) {
+          return ring;
+        }
+      }
+    } catch (InterruptedException e) {
+      throw OException.wrapException(
+          new OInterruptedException("Waiting for io_uring instance was interrupted"), e);
+    }
+  }
+
+  /**
+   * Ring which may still have requests in flight or completions which are not reaped can not be
+   * used by the next batch, so it is closed and a new ring is created in its place.
+   */
+  private void replaceRing(final Ring ring) {
+    try {
+      ring.close();
+    } catch (RuntimeException e) {
+      OLogManager.instance().warnNoDb(this, "Can not close io_uring instance", e);
+    }
+
+    Ring replacement = null;
+    if (!closed) {
+      try {
+        replacement = Ring.create(queueDepth);
+      } catch (RuntimeException e) {
+        OLogManager.instance().warnNoDb(this, "Can not create io_uring instance", e);
+      }
+    }
+
+    if (replacement != null) {
+      rings.add(replacement);
+    } else {
+      ringsCount.decrementAndGet();
+    }
+  }
+
+  private static final class Ring {
+    private final int ringFd;
+    private final int entries;
+
+    private final long sqRing;
+    private final long sqRingSize;
+    private final long cqRing;
+    private final long cqRingSize;
+    private final long sqes;
+
+    private final long sqTail;
+    private final int sqMask;
+    private final long sqArray;
+
+    private final long cqHead;
+    private final long cqTail;
+    private final int cqMask;
+    private final long cqes;
+
+    /** Requests of the failed batch could not be completed, ring can not be reused. */
+    private boolean broken;
+
+    private Ring(final int ringFd, final long params) {
+      final ONative nativeLib = ONative.instance();
+
+      this.ringFd = ringFd;
+      this.entries = unsafe.getInt(params);
+      final int cqEntries = unsafe.getInt(params + 4);
+
+      final long sqOff = params + 40;
+      final long cqOff = params + 80;
+
+      sqRingSize = unsafe.getInt(sqOff + 24) + entries * 4L;
+      cqRingSize = unsafe.getInt(cqOff + 20) + cqEntries * (long) CQE_SIZE;
+
+      sqRing = nativeLib.mmap(ringFd, IORING_OFF_SQ_RING, sqRingSize);
+      cqRing = nativeLib.mmap(ringFd, IORING_OFF_CQ_RING, cqRingSize);
+      sqes = nativeLib.mmap(ringFd, IORING_OFF_SQES, entries * (long) SQE_SIZE);
+
+      sqTail = sqRing + unsafe.getInt(sqOff + 4);
+      sqMask = unsafe.getInt(sqRing + unsafe.getInt(sqOff + 8));
+      sqArray = sqRing + unsafe.getInt(sqOff + 24);
+
+      cqHead = cqRing + unsafe.getInt(cqOff);
+      cqTail = cqRing + unsafe.getInt(cqOff + 4);
+      cqMask = unsafe.getInt(cqRing + unsafe.getInt(cqOff + 8));
+      cqes = cqRing + unsafe.getInt(cqOff + 20);
+    }
+
+    private static Ring create(final int queueDepth) {
+      final ONative nativeLib = ONative.instance();
+      final long params = unsafe.allocateMemory(PARAMS_SIZE);
+      try {
+        unsafe.setMemory(params, PARAMS_SIZE, (byte) 0);
+
+        final int ringFd = nativeLib.ioUringSetup(queueDepth, params);
+        if ((unsafe.getInt(params + 20) & IORING_FEAT_FAST_POLL) == 0) {
+          nativeLib.close(ringFd);
+          return null;
+        }
+
+        try {
+          return new Ring(ringFd, params);
+        } catch (LastErrorException e) {
+          nativeLib.close(ringFd);
+          throw e;
+        }
+      } finally {
+        unsafe.freeMemory(params);
+      }
+    }
+
+    private void execute(
+        final int fd,
+        final byte opcode,
+        final long[] offsets,
+        final ByteBuffer[] buffers,
+        final boolean throwOnEof)
+        throws IOException {
+      final int count = buffers.length;
+      final int[] done = new int[count];
+
+      // requests with short reads or writes, each request is resubmitted only once it is completed
+      // so queue never contains more than count items
+      final int[] retries = new int[count];
+      int retriesHead = 0;
+      int retriesSize = 0;
+
+      int next = 0;
+      int inFlight = 0;
+      int notSubmitted = 0;
+
+      int errorCode = 0;
+      boolean eof = false;
+
+      try {
+        while (inFlight > 0 || (errorCode == 0 && (next < count || retriesSize > 0))) {
+          while (errorCode == 0 && inFlight < entries && (retriesSize > 0 || next < count)) {
+            final int index;
+            if (retriesSize > 0) {
+              index = retries[retriesHead];
+              retriesHead = (retriesHead + 1) % count;
+              retriesSize--;
+            } else {
+              index = next++;
+            }
+
+            final ByteBuffer buffer = buffers[index];
+            pushRequest(
+                opcode,
+                fd,
+                offsets[index] + done[index],
+                unsafe.getLong(buffer, BUFFER_ADDRESS_OFFSET) + done[index],
+                buffer.limit() - done[index],
+                index);
+            inFlight++;
+            notSubmitted++;
+          }
+
+          notSubmitted -= enter(notSubmitted);
+
+          int head = unsafe.getInt(cqHead);
+          final int tail = unsafe.getIntVolatile(null, cqTail);
+          while (head != tail) {
+            final long cqe = cqes + (head & cqMask) * (long) CQE_SIZE;
+            final int index = (int) unsafe.getLong(cqe);
+            final int res = unsafe.getInt(cqe + 8);
+            head++;
+            inFlight--;
+
+            if (res < 0) {
+              if (-res == EINTR || -res == EAGAIN) {
+                retries[(retriesHead + retriesSize) % count] = index;
+                retriesSize++;
+              } else if (errorCode == 0) {
+                errorCode = -res;
+              }
+            } else if (res == 0 && opcode == IORING_OP_READ) {
+              eof = true;
+            } else {
+              done[index] += res;
+              if (done[index] < buffers[index].limit()) {
+                retries[(retriesHead + retriesSize) % count] = index;
+                retriesSize++;
+              }
+            }
+          }
+          unsafe.putOrderedInt(null, cqHead, head);
+        }
+      } catch (RuntimeException | Error e) {
+        // buffers of the batch can be reused once error is reported, so kernel should not access
+        // them anymore
+        broken = !drain(inFlight, notSubmitted);
+        throw e;
+      }
+
+      for (int i = 0; i < count; i++) {
+        buffers[i].position(done[i]);
+      }
+
+      if (errorCode != 0) {
+        final String operation = opcode == IORING_OP_READ ? "read" : "write";
+        throw new IOException("Error during " + operation + " operation, error code " + errorCode);
+      }
+      if (eof && throwOnEof) {
+        throw new EOFException("End of file is reached.");
+      }
+    }
+
+    private void pushRequest(
+        final byte opcode,
+        final int fd,
+        final long offset,
+        final long address,
+        final int length,
+        final int index) {
+      final int tail = unsafe.getInt(sqTail);
+      final int sqeIndex = tail & sqMask;
+      final long sqe = sqes + sqeIndex * (long) SQE_SIZE;
+
+      unsafe.setMemory(sqe, SQE_SIZE, (byte) 0);
+      unsafe.putByte(sqe, opcode);
+      unsafe.putInt(sqe + 4, fd);
+      unsafe.putLong(sqe + 8, offset);
+      unsafe.putLong(sqe + 16, address);
+      unsafe.putInt(sqe + 24, length);
+      unsafe.putLong(sqe + 32, index);
+
+      unsafe.putInt(sqArray + sqeIndex * 4L, sqeIndex);
+      unsafe.putOrderedInt(null, sqTail, tail + 1);
+    }
+
+    /**
+     * Submits requests and waits for completion of at least one of them.
+     *
+     * @return amount of submitted requests
+     */
+    private int enter(final int toSubmit) {
+      try {
+        return ONative.instance().ioUringEnter(ringFd, toSubmit, 1, IORING_ENTER_GETEVENTS);
+      } catch (LastErrorException e) {
+        final long errorCode = e.getErrorCode();
+        if (errorCode == EINTR || errorCode == EAGAIN || errorCode == EBUSY) {
+          Thread.yield();
+          return 0;
+        }
+        throw e;
+      }
+    }
+
+    /**
+     * Submits requests which are not submitted yet and waits for completion of all requests in
+     * flight, their results are ignored.
+     *
+     * @return <code>true</code> if all requests are completed and ring can be reused
+     */
+    private boolean drain(int inFlight, int notSubmitted) {
+      try {
+        while (inFlight > 0) {
+          notSubmitted -= enter(notSubmitted);
+
+          final int head = unsafe.getInt(cqHead);
+          final int tail = unsafe.getIntVolatile(null, cqTail);
+          inFlight -= tail - head;
+          unsafe.putOrderedInt(null, cqHead, tail);
+        }
+        return true;
+      } catch (RuntimeException e) {
+        OLogManager.instance().warnNoDb(this, "Can not complete requests of io_uring instance", e);
+        return false;
+      }
+    }
+
+    private boolean isBroken() {
+      return broken;
+    }
+
+    private void close() {
+      final ONative nativeLib = ONative.instance();
+      nativeLib.munmap(sqes, entries * (long) SQE_SIZE);
+      nativeLib.munmap(cqRing, cqRingSize);
+      nativeLib.munmap(sqRing, sqRingSize);
+      nativeLib.close(ringFd);
+    }
+  }
+}
@@ -18,6 +18,12 @@ public interface OFile extends OClosableItem {
 
   void read(long offset, ByteBuffer buffer, boolean throwOnEof) throws IOException;
 
+  /**
+   * Reads several regions of the file at once. Each buffer is filled from zero position till its
+   * limit.
+   */
+  void read(List<ORawPair<Long, ByteBuffer>> buffers, boolean throwOnEof) throws IOException;
+
   void write(long offset, ByteBuffer buffer) throws IOException;
 
   IOResult write(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException;
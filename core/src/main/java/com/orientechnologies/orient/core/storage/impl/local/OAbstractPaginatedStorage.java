@@ -100,6 +100,7 @@ import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OV1IndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeSingleValueIndexEngine;
+import com.orientechnologies.orient.core.index.engine.v1.ONormalizedKeyIndexEngine;
 import com.orientechnologies.orient.core.metadata.OMetadataDefault;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
@@ -132,6 +133,10 @@ import com.orientechnologies.orient.core.storage.cache.chm.PageKey;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
 import com.orientechnologies.orient.core.storage.cluster.OOfflineCluster;
 import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.cluster.column.OPropertyColumn;
+import com.orientechnologies.orient.core.storage.cluster.column.OPropertyColumnBatch;
+import com.orientechnologies.orient.core.storage.cluster.column.OPropertyColumnsManager;
+import com.orientechnologies.orient.core.storage.cluster.v2.OPaginatedClusterV2;
 import com.orientechnologies.orient.core.storage.config.OClusterBasedStorageConfiguration;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordSerializationContext;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OStorageTransaction;
@@ -199,6 +204,7 @@ import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -234,6 +240,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   private final OSimpleRWLockManager<ORID> lockManager;
   protected volatile OSBTreeCollectionManagerShared sbTreeCollectionManager;
+  private final OPropertyColumnsManager propertyColumns = new OPropertyColumnsManager(this);
 
   /** Lock is used to atomically update record versions. */
   private final OLockManager<ORID> recordVersionManager;
@@ -259,12 +266,20 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   private volatile boolean modificationLock;
   private volatile boolean readLock;
 
+  /** Whether commit of transaction waits till its changes are fsync-ed to WAL. */
+  private volatile boolean groupCommit;
+
   private final int id;
 
   private final Map<String, OBaseIndexEngine> indexEngineNameMap = new HashMap<>();
   private final List<OBaseIndexEngine> indexEngines = new ArrayList<>();
   private final AtomicOperationIdGen idGen = new AtomicOperationIdGen();
 
+  /** Guards allocation of pages which are restored from WAL by several threads. */
+  private final Object restoreAllocationLock = new Object();
+
+  private int walRestoreThreads = 1;
+
   private boolean wereDataRestoredAfterOpen;
   private UUID uuid;
   private volatile byte[] lastMetadata = null;
@@ -397,6 +412,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                       * 1024,
                   atomicOperationsTable);
 
+          walRestoreThreads =
+              contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_RESTORE_THREADS);
           recoverIfNeeded();
 
           atomicOperationsManager.executeInsideAtomicOperation(
@@ -431,6 +448,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           sbTreeCollectionManager.load();
 
           atomicOperationsManager.executeInsideAtomicOperation(null, this::openClusters);
+          propertyColumns.load(this::getPaginatedCluster);
           openIndexes();
 
           atomicOperationsManager.executeInsideAtomicOperation(
@@ -547,6 +565,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       modificationLock = true;
       readLock = true;
     }
+
+    groupCommit = contextConfiguration.getValueAsBoolean(OGlobalConfiguration.WAL_GROUP_COMMIT);
   }
 
   /** @inheritDoc */
@@ -1092,6 +1112,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                 return false;
               }
 
+              for (final OPropertyColumn column : propertyColumns.remove(clusterId)) {
+                column.delete(atomicOperation);
+              }
+
               ((OClusterBasedStorageConfiguration) configuration)
                   .dropCluster(atomicOperation, clusterId);
               sbTreeCollectionManager.deleteComponentByClusterId(atomicOperation, clusterId);
@@ -2288,6 +2312,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       final List<ORecordOperation> result = new ArrayList<>(8);
+      OLogSequenceNumber commitLSN = null;
       stateLock.readLock().lock();
       try {
 
@@ -2393,7 +2418,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             if (error != null) {
               rollback(transaction, error);
             } else {
-              endStorageTx(transaction, recordOperations);
+              commitLSN = endStorageTx(transaction, recordOperations);
             }
             this.transaction.set(null);
           }
@@ -2425,6 +2450,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         }
       }
 
+      // all locks are released, so other transactions are able to join the same commit group
+      waitTillCommitIsDurable(commitLSN);
+
       if (OLogManager.instance().isDebugEnabled()) {
         OLogManager.instance()
             .debug(
@@ -4584,14 +4612,14 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             new OInterruptedException("Fuzzy check point was interrupted"), e);
       }
 
-      if (status != STATUS.OPEN || status != STATUS.MIGRATION) {
+      if (status != STATUS.OPEN && status != STATUS.MIGRATION) {
         return;
       }
     }
 
     try {
 
-      if (status != STATUS.OPEN || status != STATUS.MIGRATION) {
+      if (status != STATUS.OPEN && status != STATUS.MIGRATION) {
         return;
       }
 
@@ -4870,14 +4898,37 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  private void endStorageTx(
+  private OLogSequenceNumber endStorageTx(
       final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
       throws IOException {
-    atomicOperationsManager.endAtomicOperation(null);
+    final OLogSequenceNumber lsn = atomicOperationsManager.endAtomicOperation(null);
     assert atomicOperationsManager.getCurrentOperation() == null;
 
     OTransactionAbstract.updateCacheFromEntries(txi.getDatabase(), recordOperations, true);
     txCommit.increment();
+
+    return lsn;
+  }
+
+  /**
+   * Waits till changes of committed transaction are fsync-ed to WAL if group commit is enabled.
+   * Concurrent commits are gathered by WAL into groups which are fsync-ed at once.
+   */
+  private void waitTillCommitIsDurable(final OLogSequenceNumber commitLSN) {
+    if (!groupCommit || commitLSN == null) {
+      return;
+    }
+
+    try {
+      writeAheadLog.flushTill(commitLSN).get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(
+          new OInterruptedException("Wait for durable commit of transaction was interrupted"), e);
+    } catch (final ExecutionException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during durable commit of transaction"), e.getCause());
+    }
   }
 
   private void startStorageTx(final OTransactionInternal clientTx) throws IOException {
@@ -4973,6 +5024,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     try {
       ppos = cluster.createRecord(content, recordVersion, recordType, allocated, atomicOperation);
       rid.setClusterPosition(ppos.clusterPosition);
+      propertyColumns.recordChanged(
+          atomicOperation, cluster.getId(), ppos.clusterPosition, recordType, content);
 
       final ORecordSerializationContext context = ORecordSerializationContext.getContext();
       if (context != null) {
@@ -5044,6 +5097,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       if (updateContent) {
         cluster.updateRecord(
             rid.getClusterPosition(), content, ppos.recordVersion, recordType, atomicOperation);
+        propertyColumns.recordChanged(
+            atomicOperation, cluster.getId(), rid.getClusterPosition(), recordType, content);
       }
 
       final ORecordSerializationContext context = ORecordSerializationContext.getContext();
@@ -5117,6 +5172,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       cluster.deleteRecord(atomicOperation, ppos.clusterPosition);
+      propertyColumns.recordDeleted(atomicOperation, cluster.getId(), ppos.clusterPosition);
 
       final ORecordSerializationContext context = ORecordSerializationContext.getContext();
       if (context != null) {
@@ -5357,6 +5413,16 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       case ENCRYPTION:
         throw new UnsupportedOperationException(
             "Encryption should be configured on storage level.");
+      case FILLFACTOR:
+        if (!(cluster instanceof OPaginatedClusterV2)) {
+          throw new UnsupportedOperationException(
+              "Fill factor is not supported by cluster '" + cluster.getName() + "'");
+        }
+
+        Objects.requireNonNull(stringValue);
+        ((OPaginatedClusterV2) cluster)
+            .setFillFactor(atomicOperation, Integer.parseInt(stringValue));
+        return true;
       default:
         throw new IllegalArgumentException(
             "Runtime change of attribute '" + attribute + "' is not supported");
@@ -5367,6 +5433,281 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return true;
   }
 
+  /**
+   * Moves records of the cluster closer to the beginning of the cluster file and removes empty
+   * pages from the end of the cluster. Records are moved by small batches, each batch is moved
+   * inside of the separate atomic operation, so cluster is available for other operations during
+   * compaction.
+   *
+   * @return amount of moved records, or -1 if cluster does not exist
+   */
+  public long compactCluster(final int clusterId) {
+    try {
+      checkBackupRunning();
+
+      final OCluster cluster;
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        if (clusterId < 0 || clusterId >= clusters.size()) {
+          return -1;
+        }
+
+        cluster = clusters.get(clusterId);
+        if (cluster == null) {
+          return -1;
+        }
+      } finally {
+        stateLock.readLock().unlock();
+      }
+
+      if (!(cluster instanceof OPaginatedClusterV2)) {
+        throw new UnsupportedOperationException(
+            "Compaction is not supported by cluster '" + cluster.getName() + "'");
+      }
+
+      final OPaginatedClusterV2 paginatedCluster = (OPaginatedClusterV2) cluster;
+
+      long moved = 0;
+      long lastPosition = -1;
+      while (true) {
+        final ORawPair<Long, Integer> batch;
+        stateLock.readLock().lock();
+        try {
+          checkOpennessAndMigration();
+          makeStorageDirty();
+
+          final long position = lastPosition;
+          batch =
+              atomicOperationsManager.calculateInsideAtomicOperation(
+                  null,
+                  atomicOperation -> {
+                    paginatedCluster.acquireAtomicExclusiveLock();
+                    return paginatedCluster.compact(atomicOperation, position);
+                  });
+        } finally {
+          stateLock.readLock().unlock();
+        }
+
+        if (batch == null) {
+          break;
+        }
+
+        lastPosition = batch.first;
+        moved += batch.second;
+      }
+
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null,
+            atomicOperation -> {
+              paginatedCluster.acquireAtomicExclusiveLock();
+              paginatedCluster.reclaimTailPages(atomicOperation);
+            });
+      } finally {
+        stateLock.readLock().unlock();
+      }
+
+      return moved;
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private OPaginatedCluster getPaginatedCluster(final int clusterId) {
+    if (clusterId < 0 || clusterId >= clusters.size()) {
+      return null;
+    }
+
+    final OCluster cluster = clusters.get(clusterId);
+    if (cluster instanceof OPaginatedCluster) {
+      return (OPaginatedCluster) cluster;
+    }
+
+    return null;
+  }
+
+  /**
+   * Creates column of the property for the cluster and fills it by the values of the records which
+   * are already stored in the cluster. Records are read by batches, each batch is processed inside
+   * of the separate atomic operation. Column is used by queries only once all records are
+   * processed.
+   */
+  public void addPropertyColumn(final int clusterId, final String property, final OType type) {
+    try {
+      checkBackupRunning();
+
+      final OPaginatedCluster cluster;
+      final OPropertyColumn column;
+
+      stateLock.writeLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        cluster = getPaginatedCluster(clusterId);
+        if (cluster == null) {
+          throw new OStorageException(
+              "Cluster " + clusterId + " does not exist or it does not support columns");
+        }
+
+        if (propertyColumns.get(clusterId, property) != null) {
+          return;
+        }
+
+        makeStorageDirty();
+
+        column =
+            atomicOperationsManager.calculateInsideAtomicOperation(
+                null,
+                atomicOperation ->
+                    propertyColumns.create(atomicOperation, cluster, property, type));
+        propertyColumns.add(column);
+      } finally {
+        stateLock.writeLock().unlock();
+      }
+
+      try {
+        fillPropertyColumn(cluster, column);
+      } catch (final RuntimeException | IOException e) {
+        dropPropertyColumn(clusterId, property);
+        throw e;
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private void fillPropertyColumn(final OPaginatedCluster cluster, final OPropertyColumn column)
+      throws IOException {
+    long lastPosition = -1;
+    while (true) {
+      final Long nextPosition;
+
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        final long position = lastPosition;
+        nextPosition =
+            atomicOperationsManager.calculateInsideAtomicOperation(
+                null,
+                atomicOperation -> {
+                  // changes of the records are blocked till batch is written into the column
+                  cluster.acquireAtomicExclusiveLock();
+
+                  final OClusterBrowsePage page = cluster.nextPage(position);
+                  if (page == null) {
+                    column.markFilled(atomicOperation);
+                    return null;
+                  }
+
+                  for (final OClusterBrowseEntry entry : page) {
+                    final ORawBuffer buffer = entry.getBuffer();
+                    if (buffer == null) {
+                      continue;
+                    }
+
+                    Object value = null;
+                    if (buffer.recordType == ODocument.RECORD_TYPE) {
+                      final ODocument document = new ODocument();
+                      ORecordInternal.fill(
+                          document,
+                          new ORecordId(cluster.getId(), entry.getClusterPosition()),
+                          buffer.version,
+                          buffer.buffer,
+                          false);
+                      value = document.rawField(column.getProperty());
+                    }
+
+                    column.put(atomicOperation, entry.getClusterPosition(), value);
+                  }
+
+                  return page.getLastPosition();
+                });
+      } finally {
+        stateLock.readLock().unlock();
+      }
+
+      if (nextPosition == null) {
+        return;
+      }
+      lastPosition = nextPosition;
+    }
+  }
+
+  public void dropPropertyColumn(final int clusterId, final String property) {
+    try {
+      checkBackupRunning();
+
+      stateLock.writeLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        final OPropertyColumn column = propertyColumns.remove(clusterId, property);
+        if (column == null) {
+          return;
+        }
+
+        makeStorageDirty();
+        atomicOperationsManager.executeInsideAtomicOperation(null, column::delete);
+      } finally {
+        stateLock.writeLock().unlock();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if all passed properties of the cluster have columns which can be
+   *     used by queries
+   */
+  public boolean hasPropertyColumns(final int clusterId, final Collection<String> properties) {
+    return propertyColumns.hasFilledColumns(clusterId, properties);
+  }
+
+  /**
+   * Reads values of the properties of the records of cluster covered by the single page of columns.
+   *
+   * @return values of properties, or <code>null</code> if all pages of columns are read
+   * @see OPropertyColumnsManager#read(int, String[], long)
+   */
+  public OPropertyColumnBatch readPropertyColumns(
+      final int clusterId, final String[] properties, final long page) {
+    try {
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        return propertyColumns.read(clusterId, properties, page);
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   private boolean dropClusterInternal(final OAtomicOperation atomicOperation, final int clusterId)
       throws IOException {
     final OCluster cluster = clusters.get(clusterId);
@@ -5430,6 +5771,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                           || engine instanceof OHashTableIndexEngine
                           || engine instanceof OCellBTreeSingleValueIndexEngine
                           || engine instanceof OCellBTreeMultiValueIndexEngine
+                          || engine instanceof ONormalizedKeyIndexEngine
                           || engine instanceof OAutoShardingIndexEngine)) {
                     engine.close();
                   }
@@ -5443,6 +5785,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                     || engine instanceof OHashTableIndexEngine
                     || engine instanceof OCellBTreeSingleValueIndexEngine
                     || engine instanceof OCellBTreeMultiValueIndexEngine
+                    || engine instanceof ONormalizedKeyIndexEngine
                     || engine instanceof OAutoShardingIndexEngine)) {
               // delete method is implemented only in non native indexes, so they do not use ODB
               // atomic operation
@@ -5456,6 +5799,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         // we close all files inside cache system so we only clear cluster metadata
         clusters.clear();
         clusterMap.clear();
+        propertyColumns.clear();
         indexEngines.clear();
         indexEngineNameMap.clear();
 
@@ -5790,10 +6134,52 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   @SuppressWarnings("UnusedReturnValue")
   protected OLogSequenceNumber restoreFrom(OWriteAheadLog writeAheadLog, OLogSequenceNumber lsn)
       throws IOException {
+    int restoreThreads = walRestoreThreads;
+    if (restoreThreads < 0) {
+      restoreThreads = Runtime.getRuntime().availableProcessors();
+    }
+
+    if (restoreThreads <= 1) {
+      return restoreFrom(writeAheadLog, lsn, null);
+    }
+
+    OLogManager.instance()
+        .infoNoDb(this, "Page changes are restored from WAL by %d threads", restoreThreads);
+
+    try (final OWALReplayExecutor replayExecutor =
+        new OWALReplayExecutor(name, restoreThreads, this::restorePageChanges)) {
+      restoreFrom(writeAheadLog, lsn, replayExecutor);
+
+      try {
+        replayExecutor.await();
+      } catch (final RuntimeException e) {
+        OLogManager.instance()
+            .errorNoDb(
+                this,
+                "Data restore was paused because of exception. The rest of changes will be rolled back.",
+                e);
+      }
+
+      // atomic units which follow the failed change of page are not restored completely
+      return replayExecutor.getRestoredLSN();
+    }
+  }
+
+  /**
+   * If executor of page changes is passed, returned LSN is the LSN of the last unit passed to it,
+   * changes of which may be not applied yet.
+   */
+  private OLogSequenceNumber restoreFrom(
+      final OWriteAheadLog writeAheadLog,
+      final OLogSequenceNumber lsn,
+      final OWALReplayExecutor replayExecutor)
+      throws IOException {
     final OModifiableBoolean atLeastOnePageUpdate = new OModifiableBoolean();
 
     long recordsProcessed = 0;
 
+    final int restoreBatchSize = OGlobalConfiguration.WAL_RESTORE_BATCH_SIZE.getValueAsInteger();
+
     final int reportBatchSize =
         OGlobalConfiguration.WAL_REPORT_AFTER_OPERATIONS_DURING_RESTORE.getValueAsInteger();
     final Map<Long, List<OWALRecord>> operationUnits = new HashMap<>(1024);
@@ -5803,7 +6189,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     OLogSequenceNumber lastUpdatedLSN = null;
 
     try {
-      List<WriteableWALRecord> records = writeAheadLog.read(lsn, 1_000);
+      List<WriteableWALRecord> records = writeAheadLog.read(lsn, restoreBatchSize);
 
       while (!records.isEmpty()) {
         for (final WriteableWALRecord walRecord : records) {
@@ -5816,10 +6202,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             // flushed to the disk
             if (atomicUnit != null) {
               atomicUnit.add(walRecord);
-              if (!restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate)) {
+              if (!restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, replayExecutor)) {
                 return lastUpdatedLSN;
               } else {
                 lastUpdatedLSN = walRecord.getLsn();
+                if (replayExecutor != null) {
+                  replayExecutor.unitRestored(lastUpdatedLSN);
+                }
               }
             }
             byte[] metadata = operationMetadata.remove(atomicUnitEndRecord.getOperationUnitId());
@@ -5871,6 +6260,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             final MetaDataRecord metaDataRecord = (MetaDataRecord) walRecord;
             this.lastMetadata = metaDataRecord.getMetadata();
             lastUpdatedLSN = walRecord.getLsn();
+            if (replayExecutor != null) {
+              replayExecutor.unitRestored(lastUpdatedLSN);
+            }
           } else {
             OLogManager.instance()
                 .warnNoDb(this, "Record %s will be skipped during data restore", walRecord);
@@ -5881,18 +6273,31 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           final long currentTime = System.currentTimeMillis();
           if (reportBatchSize > 0 && recordsProcessed % reportBatchSize == 0
               || currentTime - lastReportTime > WAL_RESTORE_REPORT_INTERVAL) {
-            OLogManager.instance()
-                .infoNoDb(
-                    this,
-                    "%d operations were processed, current LSN is %s last LSN is %s",
-                    recordsProcessed,
-                    lsn,
-                    writeAheadLog.end());
+            if (replayExecutor == null) {
+              OLogManager.instance()
+                  .infoNoDb(
+                      this,
+                      "%d operations were processed, current LSN is %s last LSN is %s",
+                      recordsProcessed,
+                      walRecord.getLsn(),
+                      writeAheadLog.end());
+            } else {
+              OLogManager.instance()
+                  .infoNoDb(
+                      this,
+                      "%d operations were processed, %d page changes were applied by %d threads,"
+                          + " current LSN is %s last LSN is %s",
+                      recordsProcessed,
+                      replayExecutor.getAppliedChanges(),
+                      replayExecutor.getThreads(),
+                      walRecord.getLsn(),
+                      writeAheadLog.end());
+            }
             lastReportTime = currentTime;
           }
         }
 
-        records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
+        records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), restoreBatchSize);
       }
     } catch (final OWALPageBrokenException e) {
       OLogManager.instance()
@@ -5914,6 +6319,18 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   protected final boolean restoreAtomicUnit(
       final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate)
       throws IOException {
+    return restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, null);
+  }
+
+  /**
+   * Restores changes of the atomic unit. If executor of page changes is passed, changes of pages
+   * are only passed to it and may be not applied yet once this method returns.
+   */
+  private boolean restoreAtomicUnit(
+      final List<OWALRecord> atomicUnit,
+      final OModifiableBoolean atLeastOnePageUpdate,
+      final OWALReplayExecutor replayExecutor)
+      throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
     final HashSet<PageKey> pages = new HashSet<>();
@@ -5941,6 +6358,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               integrityCheckPassed = false;
               break;
             } else {
+              // page may be changed by one of the previous atomic units which are not applied yet
+              if (replayExecutor != null) {
+                replayExecutor.await();
+              }
+
               final OCacheEntry cacheEntry =
                   readCache.loadForRead(
                       triple.first.getFileId(), triple.first.getPageIndex(), writeCache, true);
@@ -5975,6 +6397,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               + this.name
               + "Such storage can not be restored after crash.";
 
+      if (replayExecutor != null) {
+        replayExecutor.await();
+      }
+
       final ArrayList<ORawTriple<PageKey, OLogSequenceNumber, OLogSequenceNumber>> pageLSNs =
           atomicUnitEndRecord.getPageLSNs();
 
@@ -6011,6 +6437,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
 
     for (final OWALRecord walRecord : atomicUnit) {
+      // files are created and deleted only once all preceding changes of pages are applied
+      if (replayExecutor != null
+          && (walRecord instanceof OFileDeletedWALRecord
+              || walRecord instanceof OFileCreatedWALRecord)) {
+        replayExecutor.await();
+      }
+
       if (walRecord instanceof OFileDeletedWALRecord) {
         final OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
@@ -6047,28 +6480,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         }
 
-        final long pageIndex = updatePageRecord.getPageIndex();
         fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
 
-        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache, true);
-            }
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          final ODurablePage durablePage = new ODurablePage(cacheEntry);
-          if (durablePage.getLSN().compareTo(walRecord.getLsn()) < 0) {
-            durablePage.restoreChanges(updatePageRecord.getChanges());
-            durablePage.setLsn(updatePageRecord.getLsn());
-          }
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache, true);
+        if (replayExecutor == null) {
+          restorePageChanges(updatePageRecord, fileId);
+        } else {
+          replayExecutor.add(updatePageRecord, fileId);
         }
 
         atLeastOnePageUpdate.setValue(true);
@@ -6096,6 +6513,38 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return true;
   }
 
+  private void restorePageChanges(final OUpdatePageRecord updatePageRecord, final long fileId)
+      throws IOException {
+    final long pageIndex = updatePageRecord.getPageIndex();
+
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+    if (cacheEntry == null) {
+      // pages may be restored by several threads, so missing pages are allocated one by one
+      synchronized (restoreAllocationLock) {
+        cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+        if (cacheEntry == null) {
+          do {
+            if (cacheEntry != null) {
+              readCache.releaseFromWrite(cacheEntry, writeCache, true);
+            }
+
+            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+          } while (cacheEntry.getPageIndex() != pageIndex);
+        }
+      }
+    }
+
+    try {
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      if (durablePage.getLSN().compareTo(updatePageRecord.getLsn()) < 0) {
+        durablePage.restoreChanges(updatePageRecord.getChanges());
+        durablePage.setLsn(updatePageRecord.getLsn());
+      }
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
   @SuppressWarnings("unused")
   public void setStorageConfigurationUpdateListener(
       final OStorageConfigurationUpdateListener storageConfigurationUpdateListener) {
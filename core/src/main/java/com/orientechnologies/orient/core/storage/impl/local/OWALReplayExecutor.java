@@ -0,0 +1,245 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies page changes restored from WAL by several threads. Changes are partitioned by file and
+ * page, and changes of the same page are always applied by the same thread in the order in which
+ * they were added, so the order of changes inside of each page is preserved.
+ *
+ * <p>Changes of the atomic unit are added one by one and are passed to the threads once whole unit
+ * is added. Operations which are not page changes, like creation or deletion of files, should be
+ * executed only after {@link #await()} is called.
+ *
+ * <p>Once the first change fails, the changes which follow it are not applied. Data are restored
+ * only till the last atomic unit which changes were applied together with the changes of all the
+ * preceding units, see {@link #getRestoredLSN()}.
+ */
+final class OWALReplayExecutor implements AutoCloseable {
+  /** Amount of batches of page changes which may wait for execution in single partition. */
+  private static final int MAX_PENDING_BATCHES_PER_PARTITION = 64;
+
+  @FunctionalInterface
+  interface PageChangesRestore {
+    void restore(OUpdatePageRecord record, long fileId) throws IOException;
+  }
+
+  private final PageChangesRestore pageChangesRestore;
+
+  private final ExecutorService[] partitions;
+  private final Future<?>[] lastBatches;
+  private final List<PageChange>[] batches;
+
+  private final Semaphore pendingBatches;
+  private final AtomicReference<Throwable> error = new AtomicReference<>();
+  private final LongAdder appliedChanges = new LongAdder();
+
+  /** Units which changes were passed to the threads, in the order of their LSNs. */
+  private final ArrayDeque<AtomicUnit> units = new ArrayDeque<>();
+
+  private AtomicUnit currentUnit = new AtomicUnit();
+  private OLogSequenceNumber restoredLSN;
+  private boolean errorThrown;
+
+  @SuppressWarnings("unchecked")
+  OWALReplayExecutor(
+      final String storageName, final int threads, final PageChangesRestore pageChangesRestore) {
+    this.pageChangesRestore = pageChangesRestore;
+
+    partitions = new ExecutorService[threads];
+    lastBatches = new Future<?>[threads];
+    batches = new List[threads];
+
+    for (int i = 0; i < threads; i++) {
+      partitions[i] =
+          OThreadPoolExecutors.newSingleThreadPool(
+              "OrientDB WAL Replay (" + storageName + ") #" + i,
+              OStorageAbstract.storageThreadGroup);
+      batches[i] = new ArrayList<>();
+    }
+
+    pendingBatches = new Semaphore(threads * MAX_PENDING_BATCHES_PER_PARTITION);
+  }
+
+  /** Adds change of the page, change is applied once {@link #submit()} is called. */
+  void add(final OUpdatePageRecord record, final long fileId) {
+    batches[partition(fileId, record.getPageIndex())].add(new PageChange(record, fileId));
+  }
+
+  /**
+   * Passes all added changes to the threads. Data are restored till passed LSN once all of them are
+   * applied.
+   */
+  void unitRestored(final OLogSequenceNumber lsn) throws IOException {
+    submit();
+
+    currentUnit.lsn = lsn;
+    units.add(currentUnit);
+    currentUnit = new AtomicUnit();
+  }
+
+  /** Passes all added changes to the threads. */
+  void submit() throws IOException {
+    checkError();
+
+    for (int i = 0; i < batches.length; i++) {
+      final List<PageChange> batch = batches[i];
+      if (batch.isEmpty()) {
+        continue;
+      }
+
+      try {
+        pendingBatches.acquire();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(
+            new OInterruptedException("Restore of data from WAL was interrupted"), e);
+      }
+
+      final AtomicUnit unit = currentUnit;
+      unit.pendingBatches.incrementAndGet();
+      lastBatches[i] = partitions[i].submit(() -> applyBatch(batch, unit));
+      batches[i] = new ArrayList<>();
+    }
+  }
+
+  /**
+   * Passes all added changes to the threads and waits till all of them are applied. Failure of any
+   * of the changes is thrown once all the threads are idle.
+   */
+  void await() throws IOException {
+    submit();
+
+    for (int i = 0; i < lastBatches.length; i++) {
+      final Future<?> lastBatch = lastBatches[i];
+      if (lastBatch == null) {
+        continue;
+      }
+
+      try {
+        lastBatch.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(
+            new OInterruptedException("Restore of data from WAL was interrupted"), e);
+      } catch (final ExecutionException e) {
+        error.compareAndSet(null, e.getCause());
+      }
+
+      lastBatches[i] = null;
+    }
+
+    checkError();
+  }
+
+  /**
+   * @return LSN of the last atomic unit which changes were applied together with the changes of all
+   *     the preceding units, or null if there is no such unit
+   */
+  OLogSequenceNumber getRestoredLSN() {
+    AtomicUnit unit = units.peek();
+    while (unit != null && unit.pendingBatches.get() == 0) {
+      restoredLSN = unit.lsn;
+      units.poll();
+      unit = units.peek();
+    }
+
+    return restoredLSN;
+  }
+
+  /** @return amount of page changes which are already applied */
+  long getAppliedChanges() {
+    return appliedChanges.sum();
+  }
+
+  int getThreads() {
+    return partitions.length;
+  }
+
+  @Override
+  public void close() {
+    for (final ExecutorService partition : partitions) {
+      partition.shutdown();
+    }
+  }
+
+  private void applyBatch(final List<PageChange> batch, final AtomicUnit unit) {
+    try {
+      // changes which follow the failed one are not applied
+      if (error.get() != null) {
+        return;
+      }
+
+      for (final PageChange pageChange : batch) {
+        pageChangesRestore.restore(pageChange.record, pageChange.fileId);
+        appliedChanges.increment();
+      }
+
+      unit.pendingBatches.decrementAndGet();
+    } catch (final Throwable e) {
+      error.compareAndSet(null, e);
+    } finally {
+      pendingBatches.release();
+    }
+  }
+
+  /** Throws the failure of the first failed change, only once. */
+  private void checkError() throws IOException {
+    final Throwable e = error.get();
+    if (e == null || errorThrown) {
+      return;
+    }
+
+    errorThrown = true;
+    if (e instanceof IOException) {
+      throw new IOException("Error during restore of page changes", e);
+    }
+    if (e instanceof Error) {
+      throw (Error) e;
+    }
+
+    throw OException.wrapException(
+        new OStorageException("Error during restore of page changes"), e);
+  }
+
+  private int partition(final long fileId, final long pageIndex) {
+    long hash = fileId * 31 + pageIndex;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+
+    return (int) ((hash & Long.MAX_VALUE) % partitions.length);
+  }
+
+  private static final class AtomicUnit {
+    private final AtomicInteger pendingBatches = new AtomicInteger();
+    private OLogSequenceNumber lsn;
+  }
+
+  private static final class PageChange {
+    private final OUpdatePageRecord record;
+    private final long fileId;
+
+    private PageChange(final OUpdatePageRecord record, final long fileId) {
+      this.record = record;
+      this.fileId = fileId;
+    }
+  }
+}
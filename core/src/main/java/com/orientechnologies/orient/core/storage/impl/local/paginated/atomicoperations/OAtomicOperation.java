@@ -57,6 +57,9 @@ public interface OAtomicOperation {
 
   Iterable<String> lockedObjects();
 
+  /** Releases resources which are used to track changes, called once operation is completed. */
+  void deactivate();
+
   void addDeletedRecordPosition(final int clusterId, final int pageIndex, final int recordPosition);
 
   Set<Integer> getBookedRecordPositions(final int clusterId, final int pageIndex);
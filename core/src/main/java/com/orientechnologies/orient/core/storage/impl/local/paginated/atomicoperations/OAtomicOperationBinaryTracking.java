@@ -19,9 +19,11 @@
  */
 package com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations;
 
+import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.common.util.ORawTriple;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
@@ -63,6 +65,11 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
 
   private int componentOperationsCount;
 
+  /** Whether changes of pages are kept in direct memory of {@link #changesArena}. */
+  private final boolean offHeapChanges;
+
+  private OWALChangesArena changesArena;
+
   /**
    * Pointers to ridbags deleted during current transaction. We can not reuse pointers if we delete
    * ridbag and then create new one inside of the same transaction.
@@ -84,6 +91,9 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
 
     this.readCache = readCache;
     this.writeCache = writeCache;
+
+    this.offHeapChanges =
+        OGlobalConfiguration.STORAGE_ATOMIC_OPERATIONS_OFF_HEAP_CHANGES.getValueAsBoolean();
   }
 
   @Override
@@ -117,7 +127,7 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
           final OCacheEntry delegate =
               readCache.loadForRead(fileId, pageIndex, writeCache, verifyChecksum);
           if (delegate != null) {
-            pageChangesContainer = new OCacheEntryChanges(verifyChecksum, this);
+            pageChangesContainer = new OCacheEntryChanges(verifyChecksum, this, newPageChanges());
             changesContainer.pageChangesMap.put(pageIndex, pageChangesContainer);
             pageChangesContainer.delegate = delegate;
             return pageChangesContainer;
@@ -231,7 +241,7 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
     OCacheEntryChanges pageChangesContainer = changesContainer.pageChangesMap.get(filledUpTo);
     assert pageChangesContainer == null;
 
-    pageChangesContainer = new OCacheEntryChanges(false, this);
+    pageChangesContainer = new OCacheEntryChanges(false, this, newPageChanges());
     pageChangesContainer.isNew = true;
 
     changesContainer.pageChangesMap.put(filledUpTo, pageChangesContainer);
@@ -612,6 +622,27 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
     return lockedObjects;
   }
 
+  @Override
+  public void deactivate() {
+    // WAL records are serialized during logging, so memory of changes is not needed any more
+    if (changesArena != null) {
+      changesArena.release();
+      changesArena = null;
+    }
+  }
+
+  private OWALChanges newPageChanges() {
+    if (!offHeapChanges) {
+      return new OWALPageChangesPortion();
+    }
+
+    if (changesArena == null) {
+      changesArena = new OWALChangesArena(OByteBufferPool.instance(null));
+    }
+
+    return new OWALPageChangesOffHeap(changesArena);
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
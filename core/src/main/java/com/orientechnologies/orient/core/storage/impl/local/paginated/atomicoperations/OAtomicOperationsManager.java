@@ -300,8 +300,13 @@ public class OAtomicOperationsManager {
     return currentOperation.get();
   }
 
-  /** Ends the current atomic operation on this manager. */
-  public void endAtomicOperation(final Throwable error) throws IOException {
+  /**
+   * Ends the current atomic operation on this manager.
+   *
+   * @return LSN of the last WAL record of the committed operation, or <code>null</code> if
+   *     operation was rolled back
+   */
+  public OLogSequenceNumber endAtomicOperation(final Throwable error) throws IOException {
     final OAtomicOperation operation = currentOperation.get();
 
     if (operation == null) {
@@ -309,6 +314,7 @@ public class OAtomicOperationsManager {
       throw new ODatabaseException("There is no atomic operation active");
     }
 
+    OLogSequenceNumber lsn = null;
     try {
       storage.moveToErrorStateIfNeeded(error);
 
@@ -317,11 +323,8 @@ public class OAtomicOperationsManager {
       }
 
       try {
-        final OLogSequenceNumber lsn;
         if (!operation.isRollbackInProgress()) {
           lsn = operation.commitChanges(writeAheadLog);
-        } else {
-          lsn = null;
         }
 
         final long operationId = operation.getOperationUnitId();
@@ -343,13 +346,19 @@ public class OAtomicOperationsManager {
             lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
           }
         } finally {
-          currentOperation.set(null);
+          try {
+            operation.deactivate();
+          } finally {
+            currentOperation.set(null);
+          }
         }
       }
 
     } finally {
       atomicOperationsFreezer.endOperation();
     }
+
+    return lsn;
   }
 
   public void ensureThatComponentsUnlocked() {
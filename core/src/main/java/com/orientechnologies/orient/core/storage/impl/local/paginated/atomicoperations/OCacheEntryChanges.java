@@ -12,7 +12,7 @@ import java.io.IOException;
 public class OCacheEntryChanges implements OCacheEntry {
 
   protected OCacheEntry delegate;
-  protected final OWALChanges changes = new OWALPageChangesPortion();
+  protected final OWALChanges changes;
   private OLogSequenceNumber initialLSN;
   private final OAtomicOperation atomicOp;
 
@@ -24,8 +24,14 @@ public class OCacheEntryChanges implements OCacheEntry {
 
   @SuppressWarnings("WeakerAccess")
   public OCacheEntryChanges(final boolean verifyCheckSum, OAtomicOperation atomicOp) {
+    this(verifyCheckSum, atomicOp, new OWALPageChangesPortion());
+  }
+
+  OCacheEntryChanges(
+      final boolean verifyCheckSum, final OAtomicOperation atomicOp, final OWALChanges changes) {
     this.verifyCheckSum = verifyCheckSum;
     this.atomicOp = atomicOp;
+    this.changes = changes;
   }
 
   @Override
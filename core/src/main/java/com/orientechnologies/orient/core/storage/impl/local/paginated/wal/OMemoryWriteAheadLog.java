@@ -139,6 +139,16 @@ public class OMemoryWriteAheadLog extends OAbstractWriteAheadLog {
     return 0;
   }
 
+  @Override
+  public long size() {
+    return 0;
+  }
+
+  @Override
+  public long loggedBytes() {
+    return 0;
+  }
+
   @Override
   public OLogSequenceNumber begin(long segmentId) {
     throw new UnsupportedOperationException("Operation not supported for in memory storage.");
@@ -0,0 +1,114 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
+import com.orientechnologies.common.directmemory.OPointer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Direct memory which is used to keep changes of pages done inside of single atomic operation.
+ * Memory is taken from the {@link OByteBufferPool} by pages, and each page is split on portions of
+ * changes of the same size, which are allocated one after another. Portions are never released one
+ * by one, instead all memory is returned to the pool at once when atomic operation is completed.
+ *
+ * <p>Arena is not thread safe and is supposed to be used only by the thread which owns atomic
+ * operation.
+ *
+ * @see OWALPageChangesOffHeap
+ */
+public final class OWALChangesArena {
+  private final OByteBufferPool bufferPool;
+  private final int portionSize;
+
+  private final List<OPointer> pointers = new ArrayList<>();
+  private final List<ByteBuffer> buffers = new ArrayList<>();
+
+  private int portionsPerBuffer;
+  private int allocatedPortions;
+
+  private boolean released;
+
+  public OWALChangesArena(final OByteBufferPool bufferPool) {
+    this(bufferPool, OWALPageChangesPortion.PORTION_BYTES);
+  }
+
+  OWALChangesArena(final OByteBufferPool bufferPool, final int portionSize) {
+    this.bufferPool = bufferPool;
+    this.portionSize = portionSize;
+  }
+
+  /**
+   * Allocates new portion of memory, content of the portion is not initialized.
+   *
+   * @return handle of the portion which is used to access its content
+   */
+  int allocatePortion() {
+    checkNotReleased();
+
+    final int portion = allocatedPortions;
+    if (portionsPerBuffer == 0 || portion / portionsPerBuffer == buffers.size()) {
+      final OPointer pointer =
+          bufferPool.acquireDirect(false, Intention.ALLOCATE_ATOMIC_OPERATION_CHANGES);
+      pointers.add(pointer);
+
+      // buffer is duplicated so position and limit of it can be changed freely
+      final ByteBuffer buffer =
+          pointer.getNativeByteBuffer().duplicate().order(ByteOrder.nativeOrder());
+      buffers.add(buffer);
+
+      if (portionsPerBuffer == 0) {
+        portionsPerBuffer = buffer.capacity() / portionSize;
+        if (portionsPerBuffer == 0) {
+          throw new IllegalStateException(
+              "Size of pages of the pool should be at least " + portionSize + " bytes");
+        }
+      }
+    }
+
+    allocatedPortions++;
+    return portion;
+  }
+
+  /** @return buffer which contains portion with given handle */
+  ByteBuffer buffer(final int portion) {
+    checkNotReleased();
+    return buffers.get(portion / portionsPerBuffer);
+  }
+
+  /** @return position of the first byte of the portion inside of its buffer */
+  int offset(final int portion) {
+    return (portion % portionsPerBuffer) * portionSize;
+  }
+
+  /** @return amount of portions allocated in arena */
+  public int getAllocatedPortions() {
+    return allocatedPortions;
+  }
+
+  /**
+   * Returns all memory back to the pool. Changes which were allocated in the arena can not be used
+   * after this call.
+   */
+  public void release() {
+    if (released) {
+      return;
+    }
+
+    released = true;
+    buffers.clear();
+
+    for (final OPointer pointer : pointers) {
+      bufferPool.release(pointer);
+    }
+    pointers.clear();
+  }
+
+  private void checkNotReleased() {
+    if (released) {
+      throw new IllegalStateException("Memory of changes of atomic operation is already released");
+    }
+  }
+}
@@ -0,0 +1,559 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Changes of the page which are kept in direct memory of {@link OWALChangesArena} instead of Java
+ * heap. Page is split on portions and chunks in the same way as it is done in {@link
+ * OWALPageChangesPortion}, and changes are serialized in the same format, but content of changed
+ * portions is stored in the arena and changed chunks of each portion are tracked by bits of single
+ * <code>int</code> value. Primitive values are read and written directly from/to the memory of
+ * arena, so no temporary objects are created for them.
+ *
+ * <p>Memory of changes is released together with the arena, so changes can not be used after the
+ * atomic operation which owns the arena is completed.
+ */
+public final class OWALPageChangesOffHeap implements OWALChanges {
+  private static final int PAGE_SIZE =
+      OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024;
+
+  private static final int CHUNK_SIZE = OWALPageChangesPortion.CHUNK_SIZE;
+  private static final int PORTION_BYTES = OWALPageChangesPortion.PORTION_BYTES;
+
+  private static final ByteOrder NATIVE_ORDER = ByteOrder.nativeOrder();
+
+  /** Value is not changed, so it should be read from the page. */
+  private static final int NOT_CHANGED = -1;
+
+  /** Only part of the value is changed, so it should be read chunk by chunk. */
+  private static final int PARTIALLY_CHANGED = -2;
+
+  private final OWALChangesArena arena;
+  private final int portionsCount;
+
+  /** Handles of portions allocated in the arena, or -1 if portion is not changed. */
+  private int[] portions;
+
+  /** Bit masks of changed chunks of each portion. */
+  private int[] changedChunks;
+
+  public OWALPageChangesOffHeap(final OWALChangesArena arena) {
+    this(arena, PAGE_SIZE);
+  }
+
+  OWALPageChangesOffHeap(final OWALChangesArena arena, final int pageSize) {
+    if (pageSize % PORTION_BYTES != 0) {
+      throw new IllegalArgumentException("Page size should be a multiple of " + PORTION_BYTES);
+    }
+
+    this.arena = arena;
+    this.portionsCount = pageSize / PORTION_BYTES;
+  }
+
+  @Override
+  public void setLongValue(final ByteBuffer pointer, final long value, final int offset) {
+    final int portionIndex = offset / PORTION_BYTES;
+    final int portionOffset = offset - portionIndex * PORTION_BYTES;
+
+    if (portionOffset + OLongSerializer.LONG_SIZE <= PORTION_BYTES) {
+      final int portion =
+          changePortion(pointer, portionIndex, portionOffset, OLongSerializer.LONG_SIZE);
+      arena.buffer(portion).putLong(arena.offset(portion) + portionOffset, value);
+    } else {
+      final byte[] data = new byte[OLongSerializer.LONG_SIZE];
+      OLongSerializer.INSTANCE.serializeNative(value, data, 0);
+
+      updateData(pointer, offset, data);
+    }
+  }
+
+  @Override
+  public void setIntValue(final ByteBuffer pointer, final int value, final int offset) {
+    final int portionIndex = offset / PORTION_BYTES;
+    final int portionOffset = offset - portionIndex * PORTION_BYTES;
+
+    if (portionOffset + OIntegerSerializer.INT_SIZE <= PORTION_BYTES) {
+      final int portion =
+          changePortion(pointer, portionIndex, portionOffset, OIntegerSerializer.INT_SIZE);
+      arena.buffer(portion).putInt(arena.offset(portion) + portionOffset, value);
+    } else {
+      final byte[] data = new byte[OIntegerSerializer.INT_SIZE];
+      OIntegerSerializer.INSTANCE.serializeNative(value, data, 0);
+
+      updateData(pointer, offset, data);
+    }
+  }
+
+  public void setShortValue(final ByteBuffer pointer, final short value, final int offset) {
+    final int portionIndex = offset / PORTION_BYTES;
+    final int portionOffset = offset - portionIndex * PORTION_BYTES;
+
+    if (portionOffset + OShortSerializer.SHORT_SIZE <= PORTION_BYTES) {
+      final int portion =
+          changePortion(pointer, portionIndex, portionOffset, OShortSerializer.SHORT_SIZE);
+      arena.buffer(portion).putShort(arena.offset(portion) + portionOffset, value);
+    } else {
+      final byte[] data = new byte[OShortSerializer.SHORT_SIZE];
+      OShortSerializer.INSTANCE.serializeNative(value, data, 0);
+
+      updateData(pointer, offset, data);
+    }
+  }
+
+  @Override
+  public void setByteValue(final ByteBuffer pointer, final byte value, final int offset) {
+    final int portionIndex = offset / PORTION_BYTES;
+    final int portionOffset = offset - portionIndex * PORTION_BYTES;
+
+    final int portion =
+        changePortion(pointer, portionIndex, portionOffset, OByteSerializer.BYTE_SIZE);
+    arena.buffer(portion).put(arena.offset(portion) + portionOffset, value);
+  }
+
+  @Override
+  public void setBinaryValue(final ByteBuffer pointer, final byte[] value, final int offset) {
+    updateData(pointer, offset, value);
+  }
+
+  @Override
+  public void moveData(final ByteBuffer pointer, final int from, final int to, final int len) {
+    final byte[] buff = new byte[len];
+    readData(pointer, from, buff);
+    updateData(pointer, to, buff);
+  }
+
+  @Override
+  public long getLongValue(final ByteBuffer pointer, final int offset) {
+    final int portion = changedPortion(offset, OLongSerializer.LONG_SIZE);
+    if (portion >= 0) {
+      return arena.buffer(portion).getLong(arena.offset(portion) + offset % PORTION_BYTES);
+    }
+
+    if (portion == NOT_CHANGED) {
+      if (pointer == null) {
+        return 0;
+      }
+
+      final long value = pointer.getLong(offset);
+      return pointer.order() == NATIVE_ORDER ? value : Long.reverseBytes(value);
+    }
+
+    final byte[] data = new byte[OLongSerializer.LONG_SIZE];
+    readData(pointer, offset, data);
+
+    return OLongSerializer.INSTANCE.deserializeNative(data, 0);
+  }
+
+  @Override
+  public int getIntValue(final ByteBuffer pointer, final int offset) {
+    final int portion = changedPortion(offset, OIntegerSerializer.INT_SIZE);
+    if (portion >= 0) {
+      return arena.buffer(portion).getInt(arena.offset(portion) + offset % PORTION_BYTES);
+    }
+
+    if (portion == NOT_CHANGED) {
+      if (pointer == null) {
+        return 0;
+      }
+
+      final int value = pointer.getInt(offset);
+      return pointer.order() == NATIVE_ORDER ? value : Integer.reverseBytes(value);
+    }
+
+    final byte[] data = new byte[OIntegerSerializer.INT_SIZE];
+    readData(pointer, offset, data);
+
+    return OIntegerSerializer.INSTANCE.deserializeNative(data, 0);
+  }
+
+  @Override
+  public short getShortValue(final ByteBuffer pointer, final int offset) {
+    final int portion = changedPortion(offset, OShortSerializer.SHORT_SIZE);
+    if (portion >= 0) {
+      return arena.buffer(portion).getShort(arena.offset(portion) + offset % PORTION_BYTES);
+    }
+
+    if (portion == NOT_CHANGED) {
+      if (pointer == null) {
+        return 0;
+      }
+
+      final short value = pointer.getShort(offset);
+      return pointer.order() == NATIVE_ORDER ? value : Short.reverseBytes(value);
+    }
+
+    final byte[] data = new byte[OShortSerializer.SHORT_SIZE];
+    readData(pointer, offset, data);
+
+    return OShortSerializer.INSTANCE.deserializeNative(data, 0);
+  }
+
+  @Override
+  public byte getByteValue(final ByteBuffer pointer, final int offset) {
+    final int portion = changedPortion(offset, OByteSerializer.BYTE_SIZE);
+    if (portion >= 0) {
+      return arena.buffer(portion).get(arena.offset(portion) + offset % PORTION_BYTES);
+    }
+
+    if (pointer == null) {
+      return 0;
+    }
+
+    return pointer.get(offset);
+  }
+
+  @Override
+  public byte[] getBinaryValue(final ByteBuffer pointer, final int offset, final int len) {
+    final byte[] data = new byte[len];
+    readData(pointer, offset, data);
+
+    return data;
+  }
+
+  @Override
+  public void applyChanges(final ByteBuffer pointer) {
+    if (portions == null) {
+      return;
+    }
+
+    for (int i = 0; i < portionsCount; i++) {
+      final int portion = portions[i];
+      if (portion < 0) {
+        continue;
+      }
+
+      final ByteBuffer buffer = arena.buffer(portion);
+      final int bufferOffset = arena.offset(portion);
+
+      int chunks = changedChunks[i];
+      while (chunks != 0) {
+        // neighbour changed chunks are copied at once
+        final int first = Integer.numberOfTrailingZeros(chunks);
+        final int count = Integer.numberOfTrailingZeros(~(chunks >>> first));
+
+        buffer.limit(bufferOffset + (first + count) * CHUNK_SIZE);
+        buffer.position(bufferOffset + first * CHUNK_SIZE);
+
+        pointer.position(i * PORTION_BYTES + first * CHUNK_SIZE);
+        pointer.put(buffer);
+
+        buffer.limit(buffer.capacity());
+        chunks &= ~chunksMask(first, count);
+      }
+    }
+  }
+
+  @Override
+  public int serializedSize() {
+    int chunks = 0;
+
+    if (portions != null) {
+      for (int i = 0; i < portionsCount; i++) {
+        chunks += Integer.bitCount(changedChunks[i]);
+      }
+    }
+
+    return OShortSerializer.SHORT_SIZE + chunks * (2 * OByteSerializer.BYTE_SIZE + CHUNK_SIZE);
+  }
+
+  @Override
+  public int toStream(int offset, final byte[] stream) {
+    final int countPos = offset;
+    int count = 0;
+    offset += OShortSerializer.SHORT_SIZE;
+
+    if (portions != null) {
+      for (int i = 0; i < portionsCount; i++) {
+        final int portion = portions[i];
+        if (portion < 0) {
+          continue;
+        }
+
+        final ByteBuffer buffer = arena.buffer(portion);
+        final int bufferOffset = arena.offset(portion);
+
+        int chunks = changedChunks[i];
+        while (chunks != 0) {
+          final int j = Integer.numberOfTrailingZeros(chunks);
+
+          OByteSerializer.INSTANCE.serializeNative((byte) i, stream, offset);
+          offset += OByteSerializer.BYTE_SIZE;
+          OByteSerializer.INSTANCE.serializeNative((byte) j, stream, offset);
+          offset += OByteSerializer.BYTE_SIZE;
+
+          buffer.position(bufferOffset + j * CHUNK_SIZE);
+          buffer.get(stream, offset, CHUNK_SIZE);
+          offset += CHUNK_SIZE;
+
+          count++;
+          chunks &= chunks - 1;
+        }
+      }
+    }
+
+    OShortSerializer.INSTANCE.serializeNative((short) count, stream, countPos);
+    return offset;
+  }
+
+  @Override
+  public void toStream(final ByteBuffer byteBuffer) {
+    final int countPos = byteBuffer.position();
+    byteBuffer.position(countPos + OShortSerializer.SHORT_SIZE);
+    int count = 0;
+
+    if (portions != null) {
+      for (int i = 0; i < portionsCount; i++) {
+        final int portion = portions[i];
+        if (portion < 0) {
+          continue;
+        }
+
+        final ByteBuffer buffer = arena.buffer(portion);
+        final int bufferOffset = arena.offset(portion);
+
+        int chunks = changedChunks[i];
+        while (chunks != 0) {
+          final int j = Integer.numberOfTrailingZeros(chunks);
+
+          byteBuffer.put((byte) i);
+          byteBuffer.put((byte) j);
+
+          buffer.limit(bufferOffset + (j + 1) * CHUNK_SIZE);
+          buffer.position(bufferOffset + j * CHUNK_SIZE);
+          byteBuffer.put(buffer);
+          buffer.limit(buffer.capacity());
+
+          count++;
+          chunks &= chunks - 1;
+        }
+      }
+    }
+
+    byteBuffer.putShort(countPos, (short) count);
+  }
+
+  @Override
+  public int fromStream(int offset, final byte[] stream) {
+    final int chunksCount = OShortSerializer.INSTANCE.deserializeNative(stream, offset);
+    offset += OShortSerializer.SHORT_SIZE;
+
+    for (int c = 0; c < chunksCount; c++) {
+      final int i = OByteSerializer.INSTANCE.deserializeNative(stream, offset);
+      offset += OByteSerializer.BYTE_SIZE;
+      final int j = OByteSerializer.INSTANCE.deserializeNative(stream, offset);
+      offset += OByteSerializer.BYTE_SIZE;
+
+      final int portion = changePortion(null, i, j * CHUNK_SIZE, CHUNK_SIZE);
+      final ByteBuffer buffer = arena.buffer(portion);
+      buffer.position(arena.offset(portion) + j * CHUNK_SIZE);
+      buffer.put(stream, offset, CHUNK_SIZE);
+      offset += CHUNK_SIZE;
+    }
+
+    return offset;
+  }
+
+  @Override
+  public void fromStream(final ByteBuffer byteBuffer) {
+    final int chunksCount = byteBuffer.getShort();
+
+    for (int c = 0; c < chunksCount; c++) {
+      final int i = byteBuffer.get();
+      final int j = byteBuffer.get();
+
+      final int portion = changePortion(null, i, j * CHUNK_SIZE, CHUNK_SIZE);
+      final ByteBuffer buffer = arena.buffer(portion);
+      buffer.position(arena.offset(portion) + j * CHUNK_SIZE);
+
+      final int limit = byteBuffer.limit();
+      byteBuffer.limit(byteBuffer.position() + CHUNK_SIZE);
+      buffer.put(byteBuffer);
+      byteBuffer.limit(limit);
+    }
+  }
+
+  @Override
+  public boolean hasChanges() {
+    return portions != null;
+  }
+
+  /**
+   * Finds portion which contains changed value.
+   *
+   * @return handle of the portion if all bytes of the value are changed, {@link #NOT_CHANGED} if
+   *     none of them are changed, or {@link #PARTIALLY_CHANGED} otherwise
+   */
+  private int changedPortion(final int offset, final int length) {
+    if (portions == null) {
+      return NOT_CHANGED;
+    }
+
+    final int portionIndex = offset / PORTION_BYTES;
+    final int portionOffset = offset - portionIndex * PORTION_BYTES;
+
+    if (portionOffset + length > PORTION_BYTES) {
+      return portions[portionIndex] < 0 && portions[portionIndex + 1] < 0
+          ? NOT_CHANGED
+          : PARTIALLY_CHANGED;
+    }
+
+    final int portion = portions[portionIndex];
+    if (portion < 0) {
+      return NOT_CHANGED;
+    }
+
+    final int mask =
+        chunksMask(
+            portionOffset / CHUNK_SIZE,
+            (portionOffset + length - 1) / CHUNK_SIZE - portionOffset / CHUNK_SIZE + 1);
+    final int changed = changedChunks[portionIndex] & mask;
+    if (changed == mask) {
+      return portion;
+    }
+
+    return changed == 0 ? NOT_CHANGED : PARTIALLY_CHANGED;
+  }
+
+  /**
+   * Allocates portion in the arena if it is needed and copies original content of chunks which will
+   * be changed from the page.
+   *
+   * @return handle of the portion
+   */
+  private int changePortion(
+      final ByteBuffer pointer, final int portionIndex, final int portionOffset, final int length) {
+    assert portionIndex < portionsCount;
+    assert portionOffset + length <= PORTION_BYTES;
+
+    if (portions == null) {
+      portions = new int[portionsCount];
+      Arrays.fill(portions, -1);
+
+      changedChunks = new int[portionsCount];
+    }
+
+    int portion = portions[portionIndex];
+    if (portion < 0) {
+      portion = arena.allocatePortion();
+      portions[portionIndex] = portion;
+    }
+
+    final int firstChunk = portionOffset / CHUNK_SIZE;
+    final int mask =
+        chunksMask(firstChunk, (portionOffset + length - 1) / CHUNK_SIZE - firstChunk + 1);
+
+    int notChanged = mask & ~changedChunks[portionIndex];
+    if (notChanged != 0) {
+      final ByteBuffer buffer = arena.buffer(portion);
+      final int bufferOffset = arena.offset(portion);
+
+      while (notChanged != 0) {
+        final int chunk = Integer.numberOfTrailingZeros(notChanged);
+        copyChunk(
+            pointer,
+            portionIndex * PORTION_BYTES + chunk * CHUNK_SIZE,
+            buffer,
+            bufferOffset + chunk * CHUNK_SIZE);
+
+        notChanged &= notChanged - 1;
+      }
+
+      changedChunks[portionIndex] |= mask;
+    }
+
+    return portion;
+  }
+
+  private void updateData(final ByteBuffer pointer, final int offset, final byte[] data) {
+    int written = 0;
+
+    while (written < data.length) {
+      final int pageOffset = offset + written;
+      final int portionIndex = pageOffset / PORTION_BYTES;
+      final int portionOffset = pageOffset - portionIndex * PORTION_BYTES;
+      final int length = Math.min(PORTION_BYTES - portionOffset, data.length - written);
+
+      final int portion = changePortion(pointer, portionIndex, portionOffset, length);
+      final ByteBuffer buffer = arena.buffer(portion);
+      buffer.position(arena.offset(portion) + portionOffset);
+      buffer.put(data, written, length);
+
+      written += length;
+    }
+  }
+
+  private void readData(final ByteBuffer pointer, final int offset, final byte[] data) {
+    int read = 0;
+
+    while (read < data.length) {
+      final int pageOffset = offset + read;
+      final int portionIndex = pageOffset / PORTION_BYTES;
+      final int portionOffset = pageOffset - portionIndex * PORTION_BYTES;
+      final int portion = portions == null ? -1 : portions[portionIndex];
+
+      final int length;
+      if (portion < 0) {
+        length = Math.min(PORTION_BYTES - portionOffset, data.length - read);
+        readPage(pointer, pageOffset, data, read, length);
+      } else {
+        final int chunk = portionOffset / CHUNK_SIZE;
+        length = Math.min(CHUNK_SIZE - portionOffset % CHUNK_SIZE, data.length - read);
+
+        if ((changedChunks[portionIndex] & (1 << chunk)) != 0) {
+          final ByteBuffer buffer = arena.buffer(portion);
+          buffer.position(arena.offset(portion) + portionOffset);
+          buffer.get(data, read, length);
+        } else {
+          readPage(pointer, pageOffset, data, read, length);
+        }
+      }
+
+      read += length;
+    }
+  }
+
+  private static void readPage(
+      final ByteBuffer pointer,
+      final int pageOffset,
+      final byte[] data,
+      final int dataOffset,
+      final int length) {
+    // pointer can be null for new pages
+    if (pointer != null) {
+      pointer.position(pageOffset);
+      pointer.get(data, dataOffset, length);
+    }
+  }
+
+  private static void copyChunk(
+      final ByteBuffer pointer,
+      final int pageOffset,
+      final ByteBuffer buffer,
+      final int bufferOffset) {
+    // pointer can be null for new pages
+    if (pointer == null) {
+      for (int i = 0; i < CHUNK_SIZE; i += OLongSerializer.LONG_SIZE) {
+        buffer.putLong(bufferOffset + i, 0);
+      }
+      return;
+    }
+
+    final boolean sameOrder = pointer.order() == buffer.order();
+    for (int i = 0; i < CHUNK_SIZE; i += OLongSerializer.LONG_SIZE) {
+      final long value = pointer.getLong(pageOffset + i);
+      buffer.putLong(bufferOffset + i, sameOrder ? value : Long.reverseBytes(value));
+    }
+  }
+
+  /** @return mask which contains <code>count</code> bits starting from the <code>first</code> */
+  private static int chunksMask(final int first, final int count) {
+    return (int) (((1L << count) - 1) << first);
+  }
+}
@@ -16,8 +16,8 @@ public class OWALPageChangesPortion implements OWALChanges {
   private static final int PAGE_SIZE =
       OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024;
 
-  private static final int CHUNK_SIZE = 32;
-  private static final int PORTION_SIZE = 32;
+  static final int CHUNK_SIZE = 32;
+  static final int PORTION_SIZE = 32;
   static final int PORTION_BYTES = PORTION_SIZE * CHUNK_SIZE;
 
   private byte[][][] pageChunks;
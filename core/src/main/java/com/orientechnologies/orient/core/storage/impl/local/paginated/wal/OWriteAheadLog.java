@@ -27,6 +27,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -44,6 +45,18 @@ public interface OWriteAheadLog {
 
   void flush();
 
+  /**
+   * Makes records up to the given LSN durable. Implementations may group concurrent requests, so
+   * WAL is flushed and fsync-ed once for the whole group of callers.
+   *
+   * @param lsn LSN of the last record which should be durable
+   * @return future which is completed once all records up to the given LSN are fsync-ed
+   */
+  default CompletableFuture<Void> flushTill(final OLogSequenceNumber lsn) {
+    flush();
+    return CompletableFuture.completedFuture(null);
+  }
+
   OLogSequenceNumber logAtomicOperationStartRecord(
       final boolean isRollbackSupported, final long unitId, byte[] metadata);
 
@@ -121,6 +134,15 @@ public interface OWriteAheadLog {
 
   long activeSegment();
 
+  /** @return size of all segments of WAL in bytes */
+  long size();
+
+  /**
+   * @return amount of bytes which were logged since WAL was opened, unlike {@link #size()} this
+   *     value is not decreased when WAL is truncated
+   */
+  long loggedBytes();
+
   /**
    * Adds the event to fire when this write ahead log instances reaches the given LSN. The thread on
    * which the event will be fired is unspecified, the event may be even fired synchronously before
@@ -11,6 +11,7 @@ import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.thread.OThreadPoolExecutors;
 import com.orientechnologies.common.types.OModifiableLong;
 import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.EncryptionKeyAbsentException;
 import com.orientechnologies.orient.core.exception.OInvalidStorageEncryptionKeyException;
 import com.orientechnologies.orient.core.exception.OSecurityException;
@@ -89,6 +90,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
 
   private final AtomicLong segmentSize = new AtomicLong();
   private final AtomicLong logSize = new AtomicLong();
+  private final LongAdder loggedBytes = new LongAdder();
   private final AtomicLong queueSize = new AtomicLong();
 
   private final int maxCacheSize;
@@ -170,6 +172,8 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private final LongAdder threadsWaitingSum = new LongAdder();
   private final LongAdder threadsWaitingCount = new LongAdder();
 
+  private final WALGroupCommit groupCommit;
+
   private long reportTs = -1;
 
   public CASDiskWriteAheadLog(
@@ -192,6 +196,56 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       boolean printPerformanceStatistic,
       int statisticPrintInterval)
       throws IOException {
+    this(
+        storageName,
+        storagePath,
+        walPath,
+        maxPagesCacheSize,
+        bufferSize,
+        aesKey,
+        iv,
+        segmentsInterval,
+        maxSegmentSize,
+        commitDelay,
+        filterWALFiles,
+        locale,
+        walSizeHardLimit,
+        fsyncInterval,
+        keepSingleWALSegment,
+        callFsync,
+        printPerformanceStatistic,
+        statisticPrintInterval,
+        OGlobalConfiguration.WAL_GROUP_COMMIT_TARGET_LATENCY.getValueAsInteger(),
+        OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_SIZE.getValueAsInteger());
+  }
+
+  /**
+   * @param groupCommitTargetLatency target 99th percentile of latency of group commit (in
+   *     microseconds)
+   * @param groupCommitMaxSize maximum amount of commits in a single group
+   */
+  public CASDiskWriteAheadLog(
+      final String storageName,
+      final Path storagePath,
+      final Path walPath,
+      final int maxPagesCacheSize,
+      final int bufferSize,
+      byte[] aesKey,
+      byte[] iv,
+      long segmentsInterval,
+      final long maxSegmentSize,
+      final int commitDelay,
+      final boolean filterWALFiles,
+      final Locale locale,
+      final long walSizeHardLimit,
+      final int fsyncInterval,
+      boolean keepSingleWALSegment,
+      boolean callFsync,
+      boolean printPerformanceStatistic,
+      int statisticPrintInterval,
+      final int groupCommitTargetLatency,
+      final int groupCommitMaxSize)
+      throws IOException {
 
     if (aesKey != null && aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32) {
       throw new OInvalidStorageEncryptionKeyException(
@@ -214,6 +268,9 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     this.statisticPrintInterval = statisticPrintInterval;
 
     this.fsyncInterval = fsyncInterval;
+    this.groupCommit =
+        new WALGroupCommit(
+            this::flush, () -> flushedLSN, groupCommitTargetLatency * 1_000L, groupCommitMaxSize);
 
     walSizeLimit = walSizeHardLimit;
 
@@ -496,10 +553,16 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     return segmentSize.get();
   }
 
-  long size() {
+  @Override
+  public long size() {
     return logSize.get();
   }
 
+  @Override
+  public long loggedBytes() {
+    return loggedBytes.sum();
+  }
+
   private List<WriteableWALRecord> readFromDisk(final OLogSequenceNumber lsn, final int limit)
       throws IOException {
     final List<WriteableWALRecord> result = new ArrayList<>();
@@ -928,6 +991,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       final int diskSize = writeableRecord.getDiskSize();
       segSize = segmentSize.addAndGet(diskSize);
       size = logSize.addAndGet(diskSize);
+      loggedBytes.add(diskSize);
 
       if (segSize == diskSize) {
         segments.add(currentSegment);
@@ -1222,6 +1286,10 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     waitTillWriteWillBeFinished();
   }
 
+  public CompletableFuture<Void> flushTill(final OLogSequenceNumber lsn) {
+    return groupCommit.commit(lsn);
+  }
+
   public void close() throws IOException {
     close(true);
   }
@@ -2135,6 +2203,28 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
         CASDiskWriteAheadLog.this.threadsWaitingSum.add(-threadsWaitingSum);
         CASDiskWriteAheadLog.this.threadsWaitingCount.add(-threadsWaitingCount);
 
+        final long groups = groupCommit.fetchGroups();
+        final long commits = groupCommit.fetchCommits();
+        final long groupsSyncTime = groupCommit.fetchSyncTime();
+        final int biggestGroupSize = groupCommit.fetchBiggestGroupSize();
+
+        if (groups > 0) {
+          OLogManager.instance()
+              .infoNoDb(
+                  this,
+                  "WAL group commit stat:%s: %d commits in %d groups, avg. group size %d, "
+                      + "max. group size %d. Avg. group flush time %d us, group window %d us, "
+                      + "99th percentile of commit latency %d us.",
+                  storageName,
+                  commits,
+                  groups,
+                  commits / groups,
+                  biggestGroupSize,
+                  groupsSyncTime / groups / 1_000,
+                  groupCommit.getWindow() / 1_000,
+                  groupCommit.getLatencyPercentile99() / 1_000);
+        }
+
         reportTs = ts;
       }
     }
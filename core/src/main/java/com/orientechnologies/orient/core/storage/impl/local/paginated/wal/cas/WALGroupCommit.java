@@ -0,0 +1,247 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas;
+
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Group commit of WAL records. Threads which need their records to be durable enqueue commit
+ * requests, one of them becomes a leader, gathers requests of other threads during the group
+ * window, and then flushes and fsyncs WAL once for the whole group. The rest of the threads wait
+ * for completion of their futures.
+ *
+ * <p>Group window is adapted after every group to keep the 99th percentile of commit latency below
+ * the target latency. Window is shrunk if latency is above the target or if nobody joined the group
+ * during the window, and is grown otherwise.
+ */
+final class WALGroupCommit {
+  /** Amount of the last commit latencies used to calculate the 99th percentile of latency. */
+  private static final int LATENCY_SAMPLES = 128;
+
+  /** Maximum interval of sleep of the leader while it waits for the other members of the group. */
+  private static final long PARK_INTERVAL = 50_000;
+
+  private final Runnable sync;
+  private final Supplier<OLogSequenceNumber> flushedLSN;
+
+  private final long targetLatency;
+  private final long maxWindow;
+  private final long windowStep;
+  private final int maxGroupSize;
+
+  private final ConcurrentLinkedQueue<CommitRequest> requests = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingRequests = new AtomicInteger();
+  private final AtomicBoolean leaderElected = new AtomicBoolean();
+
+  // following fields are accessed only by the leader
+  private final long[] latencies = new long[LATENCY_SAMPLES];
+  private int latencyIndex;
+  private int latencyCount;
+
+  private volatile long window;
+  private volatile long latencyPercentile99;
+
+  private final LongAdder groups = new LongAdder();
+  private final LongAdder commits = new LongAdder();
+  private final LongAdder syncTime = new LongAdder();
+  private volatile int biggestGroupSize;
+
+  /**
+   * @param sync flushes and fsyncs all records which are logged in WAL
+   * @param flushedLSN LSN of the last record which is durable
+   * @param targetLatency target 99th percentile of commit latency in nanoseconds
+   * @param maxGroupSize maximum amount of commits in a single group
+   */
+  WALGroupCommit(
+      final Runnable sync,
+      final Supplier<OLogSequenceNumber> flushedLSN,
+      final long targetLatency,
+      final int maxGroupSize) {
+    this.sync = sync;
+    this.flushedLSN = flushedLSN;
+    this.targetLatency = targetLatency;
+    this.maxGroupSize = Math.max(1, maxGroupSize);
+
+    // the rest of the latency budget is left for fsync itself
+    this.maxWindow = targetLatency / 2;
+    this.windowStep = Math.max(1, targetLatency / 32);
+  }
+
+  /**
+   * Requests the records up to the given LSN to be durable. The calling thread may become the
+   * leader of the group, in such case group is flushed before this method returns.
+   *
+   * @return future which is completed once record with given LSN is fsync-ed
+   */
+  CompletableFuture<Void> commit(final OLogSequenceNumber lsn) {
+    final OLogSequenceNumber flushed = flushedLSN.get();
+    if (flushed != null && flushed.compareTo(lsn) >= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final CommitRequest request = new CommitRequest(lsn, System.nanoTime());
+    requests.offer(request);
+    pendingRequests.incrementAndGet();
+
+    lead();
+
+    return request.future;
+  }
+
+  private void lead() {
+    // request which is added after the leader checked the queue, is processed by the thread which
+    // added it, because leadership is released before the check
+    while (!requests.isEmpty() && leaderElected.compareAndSet(false, true)) {
+      try {
+        final List<CommitRequest> group = gatherGroup();
+        if (!group.isEmpty()) {
+          commitGroup(group);
+        }
+      } finally {
+        leaderElected.set(false);
+      }
+    }
+  }
+
+  private List<CommitRequest> gatherGroup() {
+    final long deadline = System.nanoTime() + window;
+
+    long now = System.nanoTime();
+    while (pendingRequests.get() < maxGroupSize && now < deadline) {
+      LockSupport.parkNanos(Math.min(deadline - now, PARK_INTERVAL));
+      now = System.nanoTime();
+    }
+
+    final List<CommitRequest> group = new ArrayList<>();
+    while (group.size() < maxGroupSize) {
+      final CommitRequest request = requests.poll();
+      if (request == null) {
+        break;
+      }
+
+      pendingRequests.decrementAndGet();
+      group.add(request);
+    }
+
+    return group;
+  }
+
+  private void commitGroup(final List<CommitRequest> group) {
+    OLogSequenceNumber maxLSN = null;
+    for (final CommitRequest request : group) {
+      if (maxLSN == null || maxLSN.compareTo(request.lsn) < 0) {
+        maxLSN = request.lsn;
+      }
+    }
+
+    final long syncStart = System.nanoTime();
+    final OLogSequenceNumber flushed = flushedLSN.get();
+    if (flushed == null || flushed.compareTo(maxLSN) < 0) {
+      try {
+        sync.run();
+      } catch (final RuntimeException e) {
+        // error is passed to the members of the group, so the rest of the queue is still processed
+        for (final CommitRequest request : group) {
+          request.future.completeExceptionally(e);
+        }
+
+        return;
+      } catch (final Error e) {
+        for (final CommitRequest request : group) {
+          request.future.completeExceptionally(e);
+        }
+
+        throw e;
+      }
+    }
+
+    final long end = System.nanoTime();
+    for (final CommitRequest request : group) {
+      request.future.complete(null);
+      addLatency(end - request.startTs);
+    }
+
+    groups.increment();
+    commits.add(group.size());
+    syncTime.add(end - syncStart);
+    if (group.size() > biggestGroupSize) {
+      biggestGroupSize = group.size();
+    }
+
+    adaptWindow(group.size());
+  }
+
+  private void addLatency(final long latency) {
+    latencies[latencyIndex] = latency;
+    latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+
+    if (latencyCount < LATENCY_SAMPLES) {
+      latencyCount++;
+    }
+  }
+
+  private void adaptWindow(final int groupSize) {
+    final long[] sortedLatencies = Arrays.copyOf(latencies, latencyCount);
+    Arrays.sort(sortedLatencies);
+
+    final long percentile99 = sortedLatencies[(sortedLatencies.length - 1) * 99 / 100];
+    latencyPercentile99 = percentile99;
+
+    if (percentile99 > targetLatency || groupSize == 1) {
+      window = window / 2;
+    } else {
+      window = Math.min(maxWindow, window + windowStep);
+    }
+  }
+
+  /** @return amount of groups committed since the last call of this method */
+  long fetchGroups() {
+    return groups.sumThenReset();
+  }
+
+  /** @return amount of commits since the last call of this method */
+  long fetchCommits() {
+    return commits.sumThenReset();
+  }
+
+  /** @return time spent on flush of groups since the last call of this method (in nanoseconds) */
+  long fetchSyncTime() {
+    return syncTime.sumThenReset();
+  }
+
+  /** @return size of the biggest group since the last call of this method */
+  int fetchBiggestGroupSize() {
+    final int size = biggestGroupSize;
+    biggestGroupSize = 0;
+    return size;
+  }
+
+  /** @return current interval during which leader gathers the group (in nanoseconds) */
+  long getWindow() {
+    return window;
+  }
+
+  /** @return 99th percentile of the latency of the last commits (in nanoseconds) */
+  long getLatencyPercentile99() {
+    return latencyPercentile99;
+  }
+
+  private static final class CommitRequest {
+    private final OLogSequenceNumber lsn;
+    private final long startTs;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private CommitRequest(final OLogSequenceNumber lsn, final long startTs) {
+      this.lsn = lsn;
+      this.startTs = startTs;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.comparator.OComparatorFactory;
+import com.orientechnologies.common.comparator.OUnsafeByteArrayComparator;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Key of the normalized key index engines: the bytes produced by {@link NormalizedKeyEncoder}. Keys
+ * are compared as unsigned byte strings, so the tree never deserializes the original values to
+ * compare them.
+ */
+public final class NormalizedKey implements Comparable<NormalizedKey> {
+  private static final Comparator<byte[]> UNSAFE_COMPARATOR;
+
+  static {
+    final Comparator<byte[]> comparator = OComparatorFactory.INSTANCE.getComparator(byte[].class);
+    // the safe byte array comparator compares the lengths first, it cannot be used here
+    UNSAFE_COMPARATOR = comparator == OUnsafeByteArrayComparator.INSTANCE ? comparator : null;
+  }
+
+  private final byte[] bytes;
+
+  public NormalizedKey(final byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  @Override
+  public int compareTo(final NormalizedKey other) {
+    if (UNSAFE_COMPARATOR != null) {
+      return UNSAFE_COMPARATOR.compare(bytes, other.bytes);
+    }
+
+    final byte[] otherBytes = other.bytes;
+    final int commonLen = Math.min(bytes.length, otherBytes.length);
+    for (int i = 0; i < commonLen; i++) {
+      final int diff = (bytes[i] & 0xFF) - (otherBytes[i] & 0xFF);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return Integer.compare(bytes.length, otherBytes.length);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    return Arrays.equals(bytes, ((NormalizedKey) o).bytes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(bytes);
+  }
+
+  @Override
+  public String toString() {
+    return "NormalizedKey{" + Arrays.toString(bytes) + '}';
+  }
+}
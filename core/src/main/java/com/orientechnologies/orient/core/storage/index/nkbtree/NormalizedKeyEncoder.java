@@ -0,0 +1,400 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Converts index keys to byte strings whose unsigned lexicographic order is the order of the keys,
+ * so that they can be compared with a plain byte comparison.
+ *
+ * <p>A key starts with <code>0x00</code> if it is <code>null</code> and with <code>0x01</code>
+ * otherwise, followed by its fields. Every field starts with <code>0x00</code> if it is <code>null
+ * </code> or with the id of its type plus one, followed by its value:
+ *
+ * <ul>
+ *   <li>numbers, dates and RIDs are written big endian with the sign bit flipped (floating point
+ *       numbers with all the bits flipped if negative);
+ *   <li>strings are written one character at a time in one to three bytes, followed by <code>0x00
+ *       </code>;
+ *   <li>binaries are written with <code>0x00</code> and <code>0x01</code> escaped as <code>0x01
+ *       0x01</code> and <code>0x01 0x02</code>, followed by <code>0x00</code>.
+ * </ul>
+ *
+ * The encoding of a key is never a prefix of the encoding of a different key with the same number
+ * of fields, so a partial composite key matches all the keys that start with its encoding. Keys are
+ * decoded without knowing their types, because every field carries its own type.
+ */
+public final class NormalizedKeyEncoder {
+  /** size of a RID appended to the key of the entries of multi-value indexes */
+  public static final int RID_SIZE = 12;
+
+  private static final byte NULL = 0;
+  private static final byte NOT_NULL = 1;
+  private static final byte TERMINATOR = 0;
+  private static final byte ESCAPE = 1;
+  private static final byte HIGH = (byte) 0xFF;
+
+  /** lower bound of all the keys that are not null */
+  public static final byte[] FIRST_NOT_NULL = {NOT_NULL};
+
+  private static final List<OType> SUPPORTED_TYPES =
+      Arrays.asList(
+          OType.BOOLEAN,
+          OType.BYTE,
+          OType.SHORT,
+          OType.INTEGER,
+          OType.LONG,
+          OType.FLOAT,
+          OType.DOUBLE,
+          OType.DATE,
+          OType.DATETIME,
+          OType.STRING,
+          OType.BINARY,
+          OType.LINK);
+
+  private NormalizedKeyEncoder() {}
+
+  /** @throws OIndexException if a type cannot be normalized */
+  public static void checkTypes(final OType[] types) {
+    if (types == null) {
+      return;
+    }
+    for (final OType type : types) {
+      if (type != null && !SUPPORTED_TYPES.contains(type)) {
+        throw new OIndexException("Type " + type + " is not supported by normalized key indexes");
+      }
+    }
+  }
+
+  /**
+   * @param key the key, a single value or an {@link OCompositeKey}; a composite key is truncated at
+   *     the first {@link OAlwaysLessKey} or {@link OAlwaysGreaterKey}, the range bounds are
+   *     calculated by the caller
+   * @param types the types of the indexed fields
+   */
+  public static byte[] encode(final Object key, final OType[] types) {
+    final Output out = new Output(16);
+    writeKey(out, key, types);
+    return out.toByteArray();
+  }
+
+  /** @return the encoding of the key followed by the RID, the key of a multi-value entry */
+  public static byte[] encode(final Object key, final ORID rid, final OType[] types) {
+    final Output out = new Output(16 + RID_SIZE);
+    writeKey(out, key, types);
+    writeRid(out, rid);
+    return out.toByteArray();
+  }
+
+  /** @return a key that is greater than all the keys that start with the prefix */
+  public static byte[] upperBound(final byte[] prefix) {
+    final byte[] result = Arrays.copyOf(prefix, prefix.length + 1);
+    result[prefix.length] = HIGH;
+    return result;
+  }
+
+  /**
+   * @param length the length of the encoded key, without the RID of multi-value entries
+   * @return null, a single value or an {@link OCompositeKey} if the key has more than one field
+   */
+  public static Object decode(final byte[] bytes, final int length) {
+    if (bytes[0] == NULL) {
+      return null;
+    }
+
+    final List<Object> fields = new ArrayList<>(2);
+    final int[] position = {1};
+    while (position[0] < length) {
+      fields.add(readField(bytes, position));
+    }
+    if (fields.size() == 1) {
+      return fields.get(0);
+    }
+    return new OCompositeKey(fields);
+  }
+
+  private static void writeKey(final Output out, final Object key, final OType[] types) {
+    if (key == null) {
+      out.write(NULL);
+      return;
+    }
+
+    out.write(NOT_NULL);
+    if (key instanceof OCompositeKey) {
+      final List<Object> keys = ((OCompositeKey) key).getKeys();
+      for (int i = 0; i < keys.size(); i++) {
+        final Object field = keys.get(i);
+        if (field instanceof OAlwaysLessKey || field instanceof OAlwaysGreaterKey) {
+          break;
+        }
+        writeField(out, field, type(types, i));
+      }
+    } else {
+      writeField(out, key, type(types, 0));
+    }
+  }
+
+  private static OType type(final OType[] types, final int index) {
+    return types != null && index < types.length ? types[index] : null;
+  }
+
+  private static void writeField(final Output out, Object value, OType type) {
+    if (value == null) {
+      out.write(NULL);
+      return;
+    }
+
+    if (type == OType.LINK || (type == null && value instanceof OIdentifiable)) {
+      if (!(value instanceof OIdentifiable)) {
+        throw new OIndexException("Value " + value + " cannot be used as a link in an index key");
+      }
+      out.write(tag(OType.LINK));
+      writeRid(out, ((OIdentifiable) value).getIdentity());
+      return;
+    }
+
+    if (type == null) {
+      type = OType.getTypeByValue(value);
+    } else {
+      value = OType.convert(value, type.getDefaultJavaType());
+    }
+    if (value == null || type == null || !SUPPORTED_TYPES.contains(type)) {
+      throw new OIndexException(
+          "Value " + value + " of type " + type + " is not supported by normalized key indexes");
+    }
+
+    out.write(tag(type));
+    switch (type) {
+      case BOOLEAN:
+        out.write((byte) ((Boolean) value ? 1 : 0));
+        break;
+      case BYTE:
+        out.write((byte) ((Byte) value ^ Byte.MIN_VALUE));
+        break;
+      case SHORT:
+        writeLong(out, (Short) value ^ Short.MIN_VALUE, 2);
+        break;
+      case INTEGER:
+        writeLong(out, (Integer) value ^ Integer.MIN_VALUE, 4);
+        break;
+      case LONG:
+        writeLong(out, (Long) value ^ Long.MIN_VALUE, 8);
+        break;
+      case FLOAT:
+        {
+          final int bits = Float.floatToIntBits((Float) value);
+          writeLong(out, bits ^ ((bits >> 31) | Integer.MIN_VALUE), 4);
+          break;
+        }
+      case DOUBLE:
+        {
+          final long bits = Double.doubleToLongBits((Double) value);
+          writeLong(out, bits ^ ((bits >> 63) | Long.MIN_VALUE), 8);
+          break;
+        }
+      case DATE:
+      case DATETIME:
+        writeLong(out, ((Date) value).getTime() ^ Long.MIN_VALUE, 8);
+        break;
+      case STRING:
+        writeString(out, (String) value);
+        break;
+      case BINARY:
+        writeBinary(out, (byte[]) value);
+        break;
+      default:
+        throw new IllegalStateException("Unexpected type " + type);
+    }
+  }
+
+  private static byte tag(final OType type) {
+    return (byte) (type.getId() + 1);
+  }
+
+  private static void writeRid(final Output out, final ORID rid) {
+    writeLong(out, rid.getClusterId() ^ Integer.MIN_VALUE, 4);
+    writeLong(out, rid.getClusterPosition() ^ Long.MIN_VALUE, 8);
+  }
+
+  private static void writeLong(final Output out, final long value, final int size) {
+    for (int i = size - 1; i >= 0; i--) {
+      out.write((byte) (value >>> (i * 8)));
+    }
+  }
+
+  /**
+   * characters below 0x7F take one byte (1-0x7F), the next 0x4000 ones two bytes (0x80-0xBF as
+   * first byte) and the others three bytes (0xC0 as first byte)
+   */
+  private static void writeString(final Output out, final String value) {
+    for (int i = 0; i < value.length(); i++) {
+      final int c = value.charAt(i);
+      if (c < 0x7F) {
+        out.write((byte) (c + 1));
+      } else if (c < 0x7F + 0x4000) {
+        final int v = c - 0x7F;
+        out.write((byte) (0x80 | (v >>> 8)));
+        out.write((byte) v);
+      } else {
+        final int v = c - (0x7F + 0x4000);
+        out.write((byte) 0xC0);
+        out.write((byte) (v >>> 8));
+        out.write((byte) v);
+      }
+    }
+    out.write(TERMINATOR);
+  }
+
+  private static void writeBinary(final Output out, final byte[] value) {
+    for (final byte b : value) {
+      if (b == TERMINATOR || b == ESCAPE) {
+        out.write(ESCAPE);
+        out.write((byte) (b + 1));
+      } else {
+        out.write(b);
+      }
+    }
+    out.write(TERMINATOR);
+  }
+
+  private static Object readField(final byte[] bytes, final int[] position) {
+    final byte tag = bytes[position[0]++];
+    if (tag == NULL) {
+      return null;
+    }
+
+    final OType type = OType.getById((byte) (tag - 1));
+    final int pos = position[0];
+    if (type == null) {
+      throw new OIndexException("Invalid normalized key, unknown type " + (tag - 1));
+    }
+    switch (type) {
+      case BOOLEAN:
+        position[0] += 1;
+        return bytes[pos] != 0;
+      case BYTE:
+        position[0] += 1;
+        return (byte) (bytes[pos] ^ Byte.MIN_VALUE);
+      case SHORT:
+        position[0] += 2;
+        return (short) (readLong(bytes, pos, 2) ^ Short.MIN_VALUE);
+      case INTEGER:
+        position[0] += 4;
+        return (int) readLong(bytes, pos, 4) ^ Integer.MIN_VALUE;
+      case LONG:
+        position[0] += 8;
+        return readLong(bytes, pos, 8) ^ Long.MIN_VALUE;
+      case FLOAT:
+        {
+          position[0] += 4;
+          final int bits = (int) readLong(bytes, pos, 4);
+          return Float.intBitsToFloat(bits < 0 ? bits ^ Integer.MIN_VALUE : ~bits);
+        }
+      case DOUBLE:
+        {
+          position[0] += 8;
+          final long bits = readLong(bytes, pos, 8);
+          return Double.longBitsToDouble(bits < 0 ? bits ^ Long.MIN_VALUE : ~bits);
+        }
+      case DATE:
+      case DATETIME:
+        position[0] += 8;
+        return new Date(readLong(bytes, pos, 8) ^ Long.MIN_VALUE);
+      case STRING:
+        return readString(bytes, position);
+      case BINARY:
+        return readBinary(bytes, position);
+      case LINK:
+        {
+          position[0] += RID_SIZE;
+          final int clusterId = (int) readLong(bytes, pos, 4) ^ Integer.MIN_VALUE;
+          final long clusterPosition = readLong(bytes, pos + 4, 8) ^ Long.MIN_VALUE;
+          return new ORecordId(clusterId, clusterPosition);
+        }
+      default:
+        throw new OIndexException("Invalid normalized key, unsupported type " + type);
+    }
+  }
+
+  private static long readLong(final byte[] bytes, final int offset, final int size) {
+    long result = 0;
+    for (int i = 0; i < size; i++) {
+      result = (result << 8) | (bytes[offset + i] & 0xFF);
+    }
+    // sign extension of the values shorter than a long
+    final int shift = 64 - size * 8;
+    return (result << shift) >> shift;
+  }
+
+  private static String readString(final byte[] bytes, final int[] position) {
+    final StringBuilder builder = new StringBuilder();
+    int pos = position[0];
+    while (true) {
+      final int b = bytes[pos++] & 0xFF;
+      if (b == TERMINATOR) {
+        break;
+      }
+      if (b < 0x80) {
+        builder.append((char) (b - 1));
+      } else if (b < 0xC0) {
+        final int v = ((b & 0x3F) << 8) | (bytes[pos++] & 0xFF);
+        builder.append((char) (v + 0x7F));
+      } else {
+        final int v = ((bytes[pos] & 0xFF) << 8) | (bytes[pos + 1] & 0xFF);
+        pos += 2;
+        builder.append((char) (v + 0x7F + 0x4000));
+      }
+    }
+    position[0] = pos;
+    return builder.toString();
+  }
+
+  private static byte[] readBinary(final byte[] bytes, final int[] position) {
+    final Output out = new Output(16);
+    int pos = position[0];
+    while (true) {
+      final byte b = bytes[pos++];
+      if (b == TERMINATOR) {
+        break;
+      }
+      if (b == ESCAPE) {
+        out.write((byte) (bytes[pos++] - 1));
+      } else {
+        out.write(b);
+      }
+    }
+    position[0] = pos;
+    return out.toByteArray();
+  }
+
+  /** not synchronized replacement of ByteArrayOutputStream */
+  private static final class Output {
+    private byte[] buffer;
+    private int size;
+
+    private Output(final int capacity) {
+      buffer = new byte[capacity];
+    }
+
+    private void write(final byte b) {
+      if (size == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length << 1);
+      }
+      buffer[size++] = b;
+    }
+
+    private byte[] toByteArray() {
+      return Arrays.copyOf(buffer, size);
+    }
+  }
+}
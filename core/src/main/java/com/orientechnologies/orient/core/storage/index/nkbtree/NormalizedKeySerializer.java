@@ -0,0 +1,105 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OBinaryTypeSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
+import java.nio.ByteBuffer;
+
+/** Serializes {@link NormalizedKey}s with the same format of {@link OBinaryTypeSerializer}. */
+public final class NormalizedKeySerializer implements OBinarySerializer<NormalizedKey> {
+  public static final int ID = 28;
+  public static final NormalizedKeySerializer INSTANCE = new NormalizedKeySerializer();
+
+  private static final OBinaryTypeSerializer BINARY = OBinaryTypeSerializer.INSTANCE;
+
+  @Override
+  public int getObjectSize(final NormalizedKey object, final Object... hints) {
+    return BINARY.getObjectSize(object.getBytes());
+  }
+
+  @Override
+  public int getObjectSize(final byte[] stream, final int startPosition) {
+    return BINARY.getObjectSize(stream, startPosition);
+  }
+
+  @Override
+  public void serialize(
+      final NormalizedKey object,
+      final byte[] stream,
+      final int startPosition,
+      final Object... hints) {
+    BINARY.serialize(object.getBytes(), stream, startPosition);
+  }
+
+  @Override
+  public NormalizedKey deserialize(final byte[] stream, final int startPosition) {
+    return new NormalizedKey(BINARY.deserialize(stream, startPosition));
+  }
+
+  @Override
+  public byte getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isFixedLength() {
+    return false;
+  }
+
+  @Override
+  public int getFixedLength() {
+    return 0;
+  }
+
+  @Override
+  public void serializeNativeObject(
+      final NormalizedKey object,
+      final byte[] stream,
+      final int startPosition,
+      final Object... hints) {
+    BINARY.serializeNativeObject(object.getBytes(), stream, startPosition);
+  }
+
+  @Override
+  public NormalizedKey deserializeNativeObject(final byte[] stream, final int startPosition) {
+    return new NormalizedKey(BINARY.deserializeNativeObject(stream, startPosition));
+  }
+
+  @Override
+  public int getObjectSizeNative(final byte[] stream, final int startPosition) {
+    return BINARY.getObjectSizeNative(stream, startPosition);
+  }
+
+  @Override
+  public NormalizedKey preprocess(final NormalizedKey value, final Object... hints) {
+    return value;
+  }
+
+  @Override
+  public void serializeInByteBufferObject(
+      final NormalizedKey object, final ByteBuffer buffer, final Object... hints) {
+    BINARY.serializeInByteBufferObject(object.getBytes(), buffer);
+  }
+
+  @Override
+  public NormalizedKey deserializeFromByteBufferObject(final ByteBuffer buffer) {
+    return new NormalizedKey(BINARY.deserializeFromByteBufferObject(buffer));
+  }
+
+  @Override
+  public int getObjectSizeInByteBuffer(final ByteBuffer buffer) {
+    return BINARY.getObjectSizeInByteBuffer(buffer);
+  }
+
+  @Override
+  public NormalizedKey deserializeFromByteBufferObject(
+      final ByteBuffer buffer, final OWALChanges walChanges, final int offset) {
+    return new NormalizedKey(BINARY.deserializeFromByteBufferObject(buffer, walChanges, offset));
+  }
+
+  @Override
+  public int getObjectSizeInByteBuffer(
+      final ByteBuffer buffer, final OWALChanges walChanges, final int offset) {
+    return BINARY.getObjectSizeInByteBuffer(buffer, walChanges, offset);
+  }
+}
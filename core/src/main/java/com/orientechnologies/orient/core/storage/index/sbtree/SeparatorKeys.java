@@ -0,0 +1,118 @@
+package com.orientechnologies.orient.core.storage.index.sbtree;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKey;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Suffix truncation of the keys of non-leaf buckets. When a leaf bucket is split, the key added to
+ * the parent bucket does not need to be the first key of the right bucket: any key that is greater
+ * than the last key of the left bucket and not greater than the first key of the right bucket
+ * separates them. The shortest of such keys is chosen, so that more keys fit in a non-leaf bucket.
+ *
+ * <p>Strings and normalized keys are cut after the first character (byte) that differs from the
+ * left key. In composite keys the first field that differs is cut in the same way and the following
+ * fields are replaced by nulls. Keys of other types are not changed.
+ *
+ * <p>The truncated key is serialized as any other key, so the format of the buckets is not changed
+ * and trees which contain full separator keys are read as before.
+ */
+public final class SeparatorKeys {
+  private SeparatorKeys() {}
+
+  /**
+   * @param left the last key of the left bucket
+   * @param right the first key of the right bucket, greater than <code>left</code>
+   * @return a key <code>k</code> so that <code>left &lt; k &lt;= right</code>
+   */
+  @SuppressWarnings("unchecked")
+  public static <K> K shortest(final K left, final K right) {
+    if (left instanceof String && right instanceof String) {
+      return (K) shortestString((String) left, (String) right);
+    }
+    if (left instanceof NormalizedKey && right instanceof NormalizedKey) {
+      return (K) shortestNormalizedKey((NormalizedKey) left, (NormalizedKey) right);
+    }
+    if (left instanceof OCompositeKey && right instanceof OCompositeKey) {
+      return (K) shortestCompositeKey((OCompositeKey) left, (OCompositeKey) right);
+    }
+    return right;
+  }
+
+  private static String shortestString(final String left, final String right) {
+    final int commonLen = Math.min(left.length(), right.length());
+    int prefix = 0;
+    while (prefix < commonLen && left.charAt(prefix) == right.charAt(prefix)) {
+      prefix++;
+    }
+
+    int end = prefix + 1;
+    if (end < right.length() && Character.isHighSurrogate(right.charAt(end - 1))) {
+      // do not split surrogate pairs, they could not be serialized
+      end++;
+    }
+    if (end >= right.length()) {
+      return right;
+    }
+    return right.substring(0, end);
+  }
+
+  private static NormalizedKey shortestNormalizedKey(
+      final NormalizedKey left, final NormalizedKey right) {
+    final byte[] leftBytes = left.getBytes();
+    final byte[] rightBytes = right.getBytes();
+    final int commonLen = Math.min(leftBytes.length, rightBytes.length);
+    int prefix = 0;
+    while (prefix < commonLen && leftBytes[prefix] == rightBytes[prefix]) {
+      prefix++;
+    }
+
+    if (prefix + 1 >= rightBytes.length) {
+      return right;
+    }
+    return new NormalizedKey(Arrays.copyOf(rightBytes, prefix + 1));
+  }
+
+  private static OCompositeKey shortestCompositeKey(
+      final OCompositeKey left, final OCompositeKey right) {
+    final List<Object> leftKeys = left.getKeys();
+    final List<Object> rightKeys = right.getKeys();
+    if (leftKeys.size() != rightKeys.size()) {
+      return right;
+    }
+
+    int diff = 0;
+    while (diff < rightKeys.size()
+        && ODefaultComparator.INSTANCE.compare(leftKeys.get(diff), rightKeys.get(diff)) == 0) {
+      diff++;
+    }
+    if (diff >= rightKeys.size()
+        || (diff == rightKeys.size() - 1 && !(rightKeys.get(diff) instanceof String))) {
+      // nothing to truncate
+      return right;
+    }
+
+    final OCompositeKey result = new OCompositeKey(rightKeys.size());
+    for (int i = 0; i < diff; i++) {
+      result.addKey(rightKeys.get(i));
+    }
+
+    final Object leftField = leftKeys.get(diff);
+    final Object rightField = rightKeys.get(diff);
+    if (rightField instanceof String && (leftField == null || leftField instanceof String)) {
+      // null is less than any string, even the empty one
+      result.addKey(
+          leftField == null ? "" : shortestString((String) leftField, (String) rightField));
+    } else {
+      result.addKey(rightField);
+    }
+
+    // the key is already greater than the left key, nulls make it not greater than the right one
+    for (int i = diff + 1; i < rightKeys.size(); i++) {
+      result.addKey(null);
+    }
+    return result;
+  }
+}
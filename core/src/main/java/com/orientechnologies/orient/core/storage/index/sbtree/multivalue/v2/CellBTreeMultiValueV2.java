@@ -44,6 +44,7 @@ import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import com.orientechnologies.orient.core.storage.index.sbtree.SeparatorKeys;
 import com.orientechnologies.orient.core.storage.index.sbtree.local.v2.OSBTreeV2;
 import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.OCellBTreeMultiValue;
 import java.io.IOException;
@@ -1263,8 +1264,22 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
     final int bucketSize = bucketToSplit.size();
 
     final int indexToSplit = bucketSize >>> 1;
-    final byte[] serializedSeparationKey =
-        bucketToSplit.getRawKey(indexToSplit, keySerializer, encryption);
+    final byte[] serializedSeparationKey;
+    if (splitLeaf) {
+      // the key of the parent bucket only has to separate the two leaves, it can be shorter
+      final K rightKey = bucketToSplit.getKey(indexToSplit, keySerializer, encryption);
+      final K separationKey =
+          SeparatorKeys.shortest(
+              bucketToSplit.getKey(indexToSplit - 1, keySerializer, encryption), rightKey);
+      if (separationKey == rightKey) {
+        serializedSeparationKey = bucketToSplit.getRawKey(indexToSplit, keySerializer, encryption);
+      } else {
+        serializedSeparationKey =
+            serializeKey(keySerializer.serializeNativeAsWhole(separationKey, (Object[]) keyTypes));
+      }
+    } else {
+      serializedSeparationKey = bucketToSplit.getRawKey(indexToSplit, keySerializer, encryption);
+    }
 
     final List<CellBTreeMultiValueV2Bucket.Entry> rightEntries = new ArrayList<>(indexToSplit);
 
@@ -1457,9 +1472,11 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
           resultPath,
           resultInsertionIndexes);
     } else if (splitLeaf
-        && keyToInsert.equals(
-            Optional.ofNullable(separationKey)
-                .orElseGet(() -> deserializeKey(serializedSeparationKey)))) {
+        && comparator.compare(
+                keyToInsert,
+                Optional.ofNullable(separationKey)
+                    .orElseGet(() -> deserializeKey(serializedSeparationKey)))
+            >= 0) {
       return addToTheRightNonRootBucket(
           keyIndex,
           true,
@@ -1620,7 +1637,8 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
     } else if (keyIndex > indexToSplit) {
       return addToTheRightRootBucket(
           keyIndex, splitLeaf, indexToSplit, rightBucketEntry, resultPath, itemPointers);
-    } else if (splitLeaf && keyToInsert.equals(deserializeKey(serializedSeparationKey))) {
+    } else if (splitLeaf
+        && comparator.compare(keyToInsert, deserializeKey(serializedSeparationKey)) >= 0) {
       return addToTheRightRootBucket(
           keyIndex, true, indexToSplit, rightBucketEntry, resultPath, itemPointers);
     } else {
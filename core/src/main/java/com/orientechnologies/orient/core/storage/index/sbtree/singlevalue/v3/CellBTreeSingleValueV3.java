@@ -41,6 +41,7 @@ import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import com.orientechnologies.orient.core.storage.index.sbtree.SeparatorKeys;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 import java.io.IOException;
 import java.util.*;
@@ -1413,7 +1414,16 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     final int bucketSize = bucketToSplit.size();
 
     final int indexToSplit = bucketSize >>> 1;
-    final K separationKey = bucketToSplit.getKey(indexToSplit, keySerializer);
+    final K separationKey;
+    if (splitLeaf) {
+      // the key of the parent bucket only has to separate the two leaves, it can be shorter
+      separationKey =
+          SeparatorKeys.shortest(
+              bucketToSplit.getKey(indexToSplit - 1, keySerializer),
+              bucketToSplit.getKey(indexToSplit, keySerializer));
+    } else {
+      separationKey = bucketToSplit.getKey(indexToSplit, keySerializer);
+    }
     final List<byte[]> rightEntries = new ArrayList<>(indexToSplit);
 
     final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
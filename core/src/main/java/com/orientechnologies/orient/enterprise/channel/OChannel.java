@@ -104,6 +104,15 @@ public abstract class OChannel extends OListenerManger<OChannelListener> {
     // timeout = iConfig.getValueAsLong(OGlobalConfiguration.NETWORK_REQUEST_TIMEOUT);
   }
 
+  /**
+   * @return the output stream of the socket, that can be written also when the channel of the
+   *     socket (if any) is in non-blocking mode
+   */
+  protected static OutputStream getOutputStream(final Socket iSocket) throws IOException {
+    if (iSocket.getChannel() != null) return new OSocketChannelOutputStream(iSocket.getChannel());
+    return iSocket.getOutputStream();
+  }
+
   public static String getLocalIpAddress(final boolean iFavoriteIp4) throws SocketException {
     String bestAddress = null;
     final Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
@@ -0,0 +1,65 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.enterprise.channel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Output stream of a socket channel that can be written in blocking and non-blocking mode.
+ *
+ * <p>The stream returned by {@link java.net.Socket#getOutputStream()} refuses to write when the
+ * channel is in non-blocking mode, which is the case when the channel waits for the next request on
+ * a selector, while other threads can still send messages (eg. push messages) on the same socket.
+ */
+public class OSocketChannelOutputStream extends OutputStream {
+  private static final long WRITE_RETRY_DELAY = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final SocketChannel channel;
+
+  public OSocketChannelOutputStream(final SocketChannel channel) {
+    this.channel = channel;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+    while (buffer.hasRemaining()) {
+      if (channel.write(buffer) == 0) {
+        // NON-BLOCKING MODE AND SOCKET BUFFER FULL: WAIT FOR THE CLIENT TO READ
+        LockSupport.parkNanos(WRITE_RETRY_DELAY);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.enterprise.channel.binary;
 import com.orientechnologies.common.exception.OInvalidBinaryChunkException;
 import com.orientechnologies.common.io.OIOException;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.id.ORID;
@@ -49,6 +50,9 @@ public abstract class OChannelBinary extends OChannel
   public DataOutputStream out;
   private int responseTimeout;
   private int networkTimeout;
+  private OCompression compression;
+  private OChannelCompressionStatistics sentCompressionStatistics;
+  private OChannelCompressionStatistics receivedCompressionStatistics;
 
   public OChannelBinary(final Socket iSocket, final OContextConfiguration iConfig)
       throws IOException {
@@ -434,6 +438,43 @@ public abstract class OChannelBinary extends OChannel
     super.close();
   }
 
+  /**
+   * Compresses the data sent and decompresses the data received from now on. The peer must switch
+   * at the same point of the stream, so this is called only when the handshake is completed and no
+   * other data is pending.
+   *
+   * @param threshold minimum size of the data flushed at once to compress it
+   */
+  public void enableCompression(final OCompression compression, final int threshold) {
+    this.compression = compression;
+    sentCompressionStatistics =
+        new OChannelCompressionStatistics(OChannelCompressionStatistics.SENT);
+    receivedCompressionStatistics =
+        new OChannelCompressionStatistics(OChannelCompressionStatistics.RECEIVED);
+    outStream =
+        new OChannelCompressedOutputStream(
+            outStream, compression, threshold, sentCompressionStatistics);
+    out = new DataOutputStream(outStream);
+    inStream =
+        new OChannelCompressedInputStream(inStream, compression, receivedCompressionStatistics);
+    in = new DataInputStream(inStream);
+  }
+
+  /** @return the compression negotiated on this channel, null if the data is not compressed */
+  public OCompression getCompression() {
+    return compression;
+  }
+
+  /** @return the statistics of the compressed data sent, null if the data is not compressed */
+  public OChannelCompressionStatistics getSentCompressionStatistics() {
+    return sentCompressionStatistics;
+  }
+
+  /** @return the statistics of the compressed data received, null if the data is not compressed */
+  public OChannelCompressionStatistics getReceivedCompressionStatistics() {
+    return receivedCompressionStatistics;
+  }
+
   public DataOutputStream getDataOutput() {
     return out;
   }
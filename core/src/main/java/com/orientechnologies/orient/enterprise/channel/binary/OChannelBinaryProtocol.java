@@ -120,6 +120,7 @@ public class OChannelBinaryProtocol {
   // CONSTANTS
   public static final short RECORD_NULL = -2;
   public static final short RECORD_RID = -3;
+  public static final short RECORD_STORAGE_FORMAT = -4;
 
   // FOR MORE INFO:
   // https://github.com/orientechnologies/orientdb/wiki/Network-Binary-Protocol#wiki-Compatibility
@@ -143,8 +144,12 @@ public class OChannelBinaryProtocol {
       36; // ABILITY TO CREATE DATABASE FROM INCREMENTAL BACKUP
   public static final int PROTOCOL_VERSION_37 = 37;
   public static final int PROTOCOL_VERSION_38 = 38;
+  public static final int PROTOCOL_VERSION_39 = 39; // MULTIPLEXED REQUESTS NEGOTIATED ON HANDSHAKE
+  public static final int PROTOCOL_VERSION_40 = 40; // STREAMED QUERY RESULTS WITH CLIENT CREDITS
+  public static final int PROTOCOL_VERSION_41 = 41; // RECORDS SENT IN THE STORAGE FORMAT
+  public static final int PROTOCOL_VERSION_42 = 42; // COMPRESSION NEGOTIATED ON HANDSHAKE
 
-  public static final int CURRENT_PROTOCOL_VERSION = PROTOCOL_VERSION_38;
+  public static final int CURRENT_PROTOCOL_VERSION = PROTOCOL_VERSION_42;
   public static final int OLDEST_SUPPORTED_PROTOCOL_VERSION = PROTOCOL_VERSION_26;
 
   // This are specific messages inside the subscribe message
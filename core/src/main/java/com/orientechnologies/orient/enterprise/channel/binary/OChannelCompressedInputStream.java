@@ -0,0 +1,110 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.enterprise.channel.binary;
+
+import com.orientechnologies.orient.core.compression.OCompression;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream of a binary channel that reads the frames written by {@link
+ * OChannelCompressedOutputStream}.
+ */
+public class OChannelCompressedInputStream extends InputStream {
+  private static final byte[] EMPTY = new byte[0];
+
+  private final DataInputStream in;
+  private final OCompression compression;
+  private final OChannelCompressionStatistics statistics;
+  private byte[] frame = EMPTY;
+  private int position;
+
+  public OChannelCompressedInputStream(
+      final InputStream in,
+      final OCompression compression,
+      final OChannelCompressionStatistics statistics) {
+    this.in = new DataInputStream(in);
+    this.compression = compression;
+    this.statistics = statistics;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!readFrame()) return -1;
+    return frame[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (len == 0) return 0;
+    if (!readFrame()) return -1;
+    final int chunk = Math.min(len, frame.length - position);
+    System.arraycopy(frame, position, b, off, chunk);
+    position += chunk;
+    return chunk;
+  }
+
+  /**
+   * @return the bytes left in the current frame or, at the end of the frame, the bytes received and
+   *     not read yet of the next frames, so callers can know if more data is pending
+   */
+  @Override
+  public int available() throws IOException {
+    final int left = frame.length - position;
+    return left > 0 ? left : in.available();
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /** @return false at the end of the stream */
+  private boolean readFrame() throws IOException {
+    while (position == frame.length) {
+      final int type = in.read();
+      if (type == -1) return false;
+
+      final int length = in.readInt();
+      if (length < 0 || length > OChannelCompressedOutputStream.MAX_FRAME_SIZE)
+        throw new IOException("Invalid size of network frame: " + length);
+
+      final byte[] data = new byte[length];
+      in.readFully(data);
+
+      if (type == OChannelCompressedOutputStream.FRAME_COMPRESSED) {
+        frame = compression.uncompress(data);
+        if (frame.length > OChannelCompressedOutputStream.MAX_FRAME_SIZE)
+          throw new IOException("Invalid size of uncompressed network frame: " + frame.length);
+      } else if (type == OChannelCompressedOutputStream.FRAME_STORED) {
+        frame = data;
+      } else {
+        throw new IOException("Invalid type of network frame: " + type);
+      }
+      position = 0;
+      statistics.update(
+          frame.length,
+          OChannelCompressedOutputStream.FRAME_HEADER_SIZE + length,
+          type == OChannelCompressedOutputStream.FRAME_COMPRESSED);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.enterprise.channel.binary;
+
+import com.orientechnologies.orient.core.compression.OCompression;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream of a binary channel that sends the data in frames, written on each flush or when
+ * {@link #MAX_FRAME_SIZE} bytes are buffered. Frames of at least threshold bytes are compressed,
+ * unless the compressed data is not smaller. Read by {@link OChannelCompressedInputStream}.
+ *
+ * <p>Each frame is made of a byte ({@link #FRAME_STORED} or {@link #FRAME_COMPRESSED}), the size of
+ * the data as int and the data. Compressed data contains the size of the original data, as produced
+ * by {@link OCompression#compress(byte[], int, int)}.
+ */
+public class OChannelCompressedOutputStream extends OutputStream {
+  public static final int MAX_FRAME_SIZE = 64 * 1024;
+  public static final byte FRAME_STORED = 0;
+  public static final byte FRAME_COMPRESSED = 1;
+  public static final int FRAME_HEADER_SIZE = 5;
+
+  private final DataOutputStream out;
+  private final OCompression compression;
+  private final int threshold;
+  private final OChannelCompressionStatistics statistics;
+  private final byte[] buffer = new byte[MAX_FRAME_SIZE];
+  private int count;
+
+  public OChannelCompressedOutputStream(
+      final OutputStream out,
+      final OCompression compression,
+      final int threshold,
+      final OChannelCompressionStatistics statistics) {
+    this.out = new DataOutputStream(out);
+    this.compression = compression;
+    this.threshold = threshold;
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    if (count == buffer.length) writeFrame();
+    buffer[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(final byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      if (count == buffer.length) writeFrame();
+      final int chunk = Math.min(len, buffer.length - count);
+      System.arraycopy(b, off, buffer, count, chunk);
+      count += chunk;
+      off += chunk;
+      len -= chunk;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writeFrame();
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      out.close();
+    }
+  }
+
+  private void writeFrame() throws IOException {
+    if (count == 0) return;
+
+    final byte[] compressed = count >= threshold ? compression.compress(buffer, 0, count) : null;
+    if (compressed != null && compressed.length < count) {
+      out.writeByte(FRAME_COMPRESSED);
+      out.writeInt(compressed.length);
+      out.write(compressed);
+      statistics.update(count, FRAME_HEADER_SIZE + compressed.length, true);
+    } else {
+      out.writeByte(FRAME_STORED);
+      out.writeInt(count);
+      out.write(buffer, 0, count);
+      statistics.update(count, FRAME_HEADER_SIZE + count, false);
+    }
+    count = 0;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.enterprise.channel.binary;
+
+import com.orientechnologies.common.profiler.OAbstractProfiler.OProfilerHookValue;
+import com.orientechnologies.common.profiler.OProfiler;
+import com.orientechnologies.common.profiler.OProfiler.METRIC_TYPE;
+import com.orientechnologies.orient.core.Orient;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of the compressed frames sent or received by binary channels, one instance for each
+ * direction of a channel. The statistics of all the channels are summed in {@link #SENT} and {@link
+ * #RECEIVED}.
+ */
+public class OChannelCompressionStatistics {
+  public static final OChannelCompressionStatistics SENT = new OChannelCompressionStatistics(null);
+  public static final OChannelCompressionStatistics RECEIVED =
+      new OChannelCompressionStatistics(null);
+
+  private final OChannelCompressionStatistics global;
+  private final AtomicLong frames = new AtomicLong();
+  private final AtomicLong compressedFrames = new AtomicLong();
+  private final AtomicLong bytes = new AtomicLong();
+  private final AtomicLong wireBytes = new AtomicLong();
+
+  static {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    final String metric = profiler.getProcessMetric("network.channel.binary.compression");
+    register(profiler, metric + ".sent", "sent to", SENT);
+    register(profiler, metric + ".received", "received from", RECEIVED);
+  }
+
+  private static void register(
+      final OProfiler profiler,
+      final String metric,
+      final String direction,
+      final OChannelCompressionStatistics statistics) {
+    profiler.registerHookValue(
+        metric + ".bytes",
+        "Bytes " + direction + " the compressed network channels, before compression",
+        METRIC_TYPE.SIZE,
+        new OProfilerHookValue() {
+          public Object getValue() {
+            return statistics.getBytes();
+          }
+        });
+    profiler.registerHookValue(
+        metric + ".wireBytes",
+        "Bytes " + direction + " the compressed network channels, after compression",
+        METRIC_TYPE.SIZE,
+        new OProfilerHookValue() {
+          public Object getValue() {
+            return statistics.getWireBytes();
+          }
+        });
+  }
+
+  /** @param global the statistics of all the channels for the same direction, or null */
+  public OChannelCompressionStatistics(final OChannelCompressionStatistics global) {
+    this.global = global;
+  }
+
+  /**
+   * @param frameBytes size of the data of the frame
+   * @param frameWireBytes size of the frame on the network, header included
+   * @param compressed true if the data has been compressed, false if it has been sent as is
+   */
+  public void update(final int frameBytes, final int frameWireBytes, final boolean compressed) {
+    frames.incrementAndGet();
+    if (compressed) compressedFrames.incrementAndGet();
+    bytes.addAndGet(frameBytes);
+    wireBytes.addAndGet(frameWireBytes);
+    if (global != null) global.update(frameBytes, frameWireBytes, compressed);
+  }
+
+  public long getFrames() {
+    return frames.get();
+  }
+
+  public long getCompressedFrames() {
+    return compressedFrames.get();
+  }
+
+  public long getBytes() {
+    return bytes.get();
+  }
+
+  public long getWireBytes() {
+    return wireBytes.get();
+  }
+
+  /** @return the size on the network divided by the size of the data, 1 if nothing was sent */
+  public double getRatio() {
+    final long total = bytes.get();
+    return total == 0 ? 1 : (double) wireBytes.get() / total;
+  }
+
+  @Override
+  public String toString() {
+    return "frames="
+        + getFrames()
+        + " compressedFrames="
+        + getCompressedFrames()
+        + " bytes="
+        + getBytes()
+        + " wireBytes="
+        + getWireBytes();
+  }
+}
@@ -31,10 +31,10 @@ public class OChannelTextServer extends OChannelText {
     super(iSocket, iConfiguration);
     if (socketBufferSize > 0) {
       inStream = new BufferedInputStream(socket.getInputStream(), socketBufferSize);
-      outStream = new BufferedOutputStream(socket.getOutputStream(), socketBufferSize);
+      outStream = new BufferedOutputStream(getOutputStream(socket), socketBufferSize);
     } else {
       inStream = new BufferedInputStream(socket.getInputStream());
-      outStream = new BufferedOutputStream(socket.getOutputStream());
+      outStream = new BufferedOutputStream(getOutputStream(socket));
     }
   }
 }
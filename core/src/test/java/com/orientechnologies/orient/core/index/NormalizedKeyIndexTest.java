@@ -0,0 +1,137 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NormalizedKeyIndexTest {
+
+  private OrientDB orientDB;
+  private ODatabaseDocumentInternal db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.execute(
+        " create database ? memory users (admin identified by 'adminpwd' role admin) ",
+        NormalizedKeyIndexTest.class.getSimpleName());
+    db =
+        (ODatabaseDocumentInternal)
+            orientDB.open(NormalizedKeyIndexTest.class.getSimpleName(), "admin", "adminpwd");
+
+    OClass clazz = db.createClass("Person");
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("age", OType.INTEGER);
+    db.command("create index Person.name_age on Person (name, age) UNIQUE ENGINE NKBTREE").close();
+    db.command("create index Person.name on Person (name) NOTUNIQUE ENGINE NKBTREE").close();
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = new ODocument("Person");
+      doc.field("name", "name" + (i % 10));
+      doc.field("age", i);
+      db.save(doc);
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(NormalizedKeyIndexTest.class.getSimpleName());
+    orientDB.close();
+  }
+
+  @Test
+  public void testAlgorithm() {
+    Assert.assertEquals("NKBTREE", getIndex("Person.name_age").getAlgorithm());
+    Assert.assertEquals("NKBTREE", getIndex("Person.name").getAlgorithm());
+  }
+
+  @Test
+  public void testGet() {
+    try (Stream<ORID> rids =
+        getIndex("Person.name_age").getInternal().getRids(new OCompositeKey("name3", 13))) {
+      Assert.assertEquals(1, rids.count());
+    }
+    try (Stream<ORID> rids = getIndex("Person.name").getInternal().getRids("name3")) {
+      Assert.assertEquals(10, rids.count());
+    }
+    try (Stream<ORID> rids = getIndex("Person.name").getInternal().getRids("name")) {
+      Assert.assertEquals(0, rids.count());
+    }
+  }
+
+  @Test
+  public void testQueries() {
+    Assert.assertEquals(1, count("select from Person where name = 'name3' and age = 13"));
+    Assert.assertEquals(10, count("select from Person where name = 'name3'"));
+    Assert.assertEquals(8, count("select from Person where name = 'name3' and age > 20"));
+    Assert.assertEquals(20, count("select from Person where name > 'name1' and name < 'name4'"));
+    Assert.assertEquals(30, count("select from Person where name >= 'name7'"));
+  }
+
+  @Test
+  public void testOrder() {
+    OIndex index = getIndex("Person.name_age");
+    Assert.assertEquals(100, index.getInternal().size());
+    try (Stream<ORawPair<Object, ORID>> stream = index.getInternal().stream()) {
+      Iterator<ORawPair<Object, ORID>> iterator = stream.iterator();
+      Object previous = null;
+      int count = 0;
+      while (iterator.hasNext()) {
+        Object key = iterator.next().first;
+        Assert.assertTrue(key instanceof OCompositeKey);
+        if (previous != null) {
+          Assert.assertTrue(ODefaultComparator.INSTANCE.compare(previous, key) < 0);
+        }
+        previous = key;
+        count++;
+      }
+      Assert.assertEquals(100, count);
+    }
+  }
+
+  @Test(expected = ORecordDuplicatedException.class)
+  public void testDuplicate() {
+    ODocument doc = new ODocument("Person");
+    doc.field("name", "name3");
+    doc.field("age", 13);
+    db.save(doc);
+  }
+
+  @Test
+  public void testDelete() {
+    db.command("delete from Person where age = 13").close();
+    Assert.assertEquals(0, count("select from Person where name = 'name3' and age = 13"));
+    Assert.assertEquals(99, getIndex("Person.name").getInternal().size());
+
+    ODocument doc = new ODocument("Person");
+    doc.field("name", "name3");
+    doc.field("age", 13);
+    db.save(doc);
+    Assert.assertEquals(1, count("select from Person where name = 'name3' and age = 13"));
+  }
+
+  private OIndex getIndex(String name) {
+    return db.getMetadata().getIndexManagerInternal().getIndex(db, name);
+  }
+
+  private long count(String query) {
+    try (OResultSet result = db.query(query)) {
+      return result.stream().count();
+    }
+  }
+}
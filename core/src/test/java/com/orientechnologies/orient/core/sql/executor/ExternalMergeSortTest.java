@@ -0,0 +1,87 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.storage.disk.OLocalPaginatedStorage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExternalMergeSortTest {
+
+  @Test
+  public void testRecordsAreReadFromRuns() {
+    OrientDB orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.execute("create database test memory users (admin identified by 'admin' role admin)");
+    try (ODatabaseSession db = orientDB.open("test", "admin", "admin")) {
+      db.createClass("Item");
+      ExternalMergeSort sorter =
+          new ExternalMergeSort(
+              Comparator.comparing(item -> (Integer) item.getProperty("val")),
+              (ODatabaseDocumentInternal) db);
+      try {
+        for (int i = 19; i >= 0; i--) {
+          OElement item = db.newElement("Item");
+          item.setProperty("val", i);
+          sorter.add(new OResultInternal(db.save(item)));
+          if (i % 5 == 0) {
+            sorter.spill();
+          }
+        }
+        Assert.assertEquals(4, sorter.getRunsCount());
+
+        // THE RUNS HOLD THE CONTENT OF THE RECORDS, THEY ARE NOT LOADED AGAIN
+        db.command("delete from Item").close();
+        Iterator<OResult> sorted = sorter.sorted();
+        for (int i = 0; i < 20; i++) {
+          Assert.assertTrue(sorted.hasNext());
+          OResult item = sorted.next();
+          Assert.assertTrue(item.isElement());
+          Assert.assertEquals("Item", item.getElement().get().getSchemaType().get().getName());
+          Assert.assertEquals(i, (int) item.getProperty("val"));
+        }
+        Assert.assertFalse(sorted.hasNext());
+      } finally {
+        sorter.close();
+      }
+    } finally {
+      orientDB.close();
+    }
+  }
+
+  @Test
+  public void testLeftoverRunsAreDeletedOnOpen() throws Exception {
+    String name = ExternalMergeSortTest.class.getSimpleName();
+    OrientDB orientDB = new OrientDB("embedded:./target/", OrientDBConfig.defaultConfig());
+    try {
+      if (orientDB.exists(name)) {
+        orientDB.drop(name);
+      }
+      orientDB.execute(
+          "create database " + name + " plocal users (admin identified by 'admin' role admin)");
+      Path run;
+      try (ODatabaseSession db = orientDB.open(name, "admin", "admin")) {
+        OLocalPaginatedStorage storage =
+            (OLocalPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+        run = storage.getStoragePath().resolve("orderby1" + ExternalMergeSort.RUN_FILE_EXTENSION);
+      }
+      orientDB.close();
+
+      // A RUN LEFT BY A CRASH
+      Files.write(run, new byte[] {1, 2, 3});
+      orientDB = new OrientDB("embedded:./target/", OrientDBConfig.defaultConfig());
+      orientDB.open(name, "admin", "admin").close();
+      Assert.assertFalse(Files.exists(run));
+
+      orientDB.drop(name);
+    } finally {
+      orientDB.close();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FetchFromClassColumnsStepTest extends TestUtilsFixture {
+
+  @Test
+  public void shouldAggregateValuesFromColumns() {
+    OClass clazz = createClassInstance();
+    OProperty property = clazz.createProperty("value", OType.INTEGER);
+    clazz.createProperty("name", OType.STRING);
+
+    long sum = 0;
+    for (int i = 0; i < 1000; i++) {
+      ODocument document = new ODocument(clazz.getName());
+      document.field("value", i);
+      document.field("name", "name" + i);
+      document.save();
+      sum += i;
+    }
+    new ODocument(clazz.getName()).save();
+
+    database.command("alter property " + clazz.getName() + ".value columnar true").close();
+    Assert.assertTrue(property.isColumnar());
+
+    String query = "select sum(value) as total, count(*) as cnt from " + clazz.getName();
+    try (OResultSet result = database.query(query)) {
+      Assert.assertTrue(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM COLUMNS"));
+      OResult item = result.next();
+      Assert.assertEquals(sum, ((Number) item.getProperty("total")).longValue());
+      Assert.assertEquals(1001, ((Number) item.getProperty("cnt")).longValue());
+      Assert.assertFalse(result.hasNext());
+    }
+
+    database
+        .command("update " + clazz.getName() + " set value = value + 1 where value < 10")
+        .close();
+    sum += 10;
+    database.command("delete from " + clazz.getName() + " where value = 500").close();
+    sum -= 500;
+    ODocument document = new ODocument(clazz.getName());
+    document.field("value", 7);
+    document.save();
+    sum += 7;
+
+    try (OResultSet result = database.query(query)) {
+      OResult item = result.next();
+      Assert.assertEquals(sum, ((Number) item.getProperty("total")).longValue());
+      Assert.assertEquals(1001, ((Number) item.getProperty("cnt")).longValue());
+    }
+
+    query = "select sum(value) as total, count(*) as cnt, name from " + clazz.getName();
+    try (OResultSet result = database.query(query)) {
+      Assert.assertFalse(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM COLUMNS"));
+    }
+
+    property.setColumnar(false);
+    query = "select sum(value) as total from " + clazz.getName();
+    try (OResultSet result = database.query(query)) {
+      Assert.assertFalse(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM COLUMNS"));
+      Assert.assertEquals(sum, ((Number) result.next().getProperty("total")).longValue());
+    }
+  }
+
+  @Test
+  public void shouldSkipTruncatedRecords() {
+    OClass clazz = createClassInstance();
+    OProperty property = clazz.createProperty("value", OType.INTEGER);
+
+    ODocument truncated = null;
+    long sum = 0;
+    for (int i = 0; i < 100; i++) {
+      ODocument document = new ODocument(clazz.getName());
+      document.field("value", i);
+      document.save();
+      sum += i;
+      if (i == 42) {
+        truncated = document;
+      }
+    }
+
+    property.setColumnar(true);
+
+    // THE RECORD IS DELETED BY THE STORAGE, OUTSIDE OF ANY TRANSACTION
+    database.command("truncate record " + truncated.getIdentity()).close();
+    sum -= 42;
+
+    String query = "select sum(value) as total, count(*) as cnt from " + clazz.getName();
+    try (OResultSet result = database.query(query)) {
+      Assert.assertTrue(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM COLUMNS"));
+      OResult item = result.next();
+      Assert.assertEquals(sum, ((Number) item.getProperty("total")).longValue());
+      Assert.assertEquals(99, ((Number) item.getProperty("cnt")).longValue());
+    }
+  }
+}
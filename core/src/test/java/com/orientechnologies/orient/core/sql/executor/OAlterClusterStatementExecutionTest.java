@@ -0,0 +1,64 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.OElement;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class OAlterClusterStatementExecutionTest {
+  static ODatabaseDocument db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OAlterClusterStatementExecutionTest");
+    db.create();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.close();
+  }
+
+  @Test
+  public void testCompact() {
+    String className = "testCompact";
+    OClass clazz = db.getMetadata().getSchema().createClass(className, 1, null);
+    String clusterName = db.getClusterNameById(clazz.getDefaultClusterId());
+
+    List<OElement> kept = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      OElement element = db.newElement(className);
+      element.setProperty("value", i);
+      element.setProperty("payload", new String(new char[500]).replace('\0', 'x'));
+      db.save(element);
+      if (i % 10 == 0) {
+        kept.add(element);
+      } else {
+        db.delete(element);
+      }
+    }
+
+    try (OResultSet result = db.command("alter cluster " + clusterName + " compact")) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      Assert.assertEquals(clusterName, item.getProperty("cluster"));
+      Assert.assertTrue((Long) item.getProperty("movedRecords") > 0);
+      Assert.assertFalse(result.hasNext());
+    }
+
+    db.getLocalCache().clear();
+    for (OElement element : kept) {
+      OElement loaded = db.load(element.getIdentity());
+      Assert.assertEquals((int) element.getProperty("value"), (int) loaded.getProperty("value"));
+    }
+    try (OResultSet result = db.query("select count(*) as count from " + className)) {
+      Assert.assertEquals(kept.size(), ((Number) result.next().getProperty("count")).intValue());
+    }
+  }
+}
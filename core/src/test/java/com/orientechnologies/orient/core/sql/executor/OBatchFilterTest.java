@@ -0,0 +1,94 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OBatchFilterTest extends TestUtilsFixture {
+
+  @Test
+  public void shouldReturnSameResultsAsRowByRowExecution() {
+    OClass clazz = createClassInstance();
+    for (int i = 0; i < 1000; i++) {
+      ODocument document = new ODocument(clazz.getName());
+      if (i % 7 != 0) {
+        document.field("intValue", i);
+      }
+      document.field("longValue", (long) i * 1000);
+      if (i % 10 == 0) {
+        document.field("doubleValue", "not a number");
+      } else {
+        document.field("doubleValue", i / 3.0);
+      }
+      document.field("name", "name" + (i % 5));
+      document.save();
+    }
+
+    String[] queries = {
+      "select from " + clazz.getName() + " where intValue > 500",
+      "select from " + clazz.getName() + " where intValue <= 10 or longValue >= 990000",
+      "select from " + clazz.getName() + " where not (intValue < 900) and name = 'name1'",
+      "select from " + clazz.getName() + " where doubleValue > 100.5 and intValue != 303",
+      "select from " + clazz.getName() + " where intValue > 500.5 and longValue <= 900000.0",
+      "select from " + clazz.getName() + " where longValue = 5000 or doubleValue = 'not a number'",
+      "select intValue, name from " + clazz.getName() + " where intValue < 20",
+      "select count(*) as cnt, sum(intValue) as total, min(doubleValue) as minimum, "
+          + "max(longValue) as maximum, count(intValue) as notNull from "
+          + clazz.getName()
+          + " where intValue >= 100",
+      "select sum(doubleValue) as total, avg(intValue) as average from "
+          + clazz.getName()
+          + " where longValue < 300000",
+      "select name, sum(intValue) as total from "
+          + clazz.getName()
+          + " where intValue > 10 group by name order by name"
+    };
+    for (String query : queries) {
+      List<OResult> batched = execute(query, true);
+      List<OResult> rowByRow = execute(query, false);
+      Assert.assertFalse(query, rowByRow.isEmpty());
+      Assert.assertEquals(query, rowByRow.size(), batched.size());
+      for (int i = 0; i < rowByRow.size(); i++) {
+        Assert.assertEquals(query, rowByRow.get(i).toJSON(), batched.get(i).toJSON());
+      }
+    }
+  }
+
+  @Test
+  public void shouldUseInputParameters() {
+    OClass clazz = createClassInstance();
+    for (int i = 0; i < 100; i++) {
+      ODocument document = new ODocument(clazz.getName());
+      document.field("value", i);
+      document.save();
+    }
+
+    List<OResult> result =
+        execute(
+            "select count(*) as cnt from " + clazz.getName() + " where value >= ? and value < ?",
+            true,
+            10,
+            20L);
+    Assert.assertEquals(10, ((Number) result.get(0).getProperty("cnt")).longValue());
+  }
+
+  private List<OResult> execute(String query, boolean batchExecution, Object... args) {
+    Object previous =
+        database
+            .getConfiguration()
+            .setValue(OGlobalConfiguration.QUERY_BATCH_EXECUTION, batchExecution);
+    try (OResultSet result = database.query(query, args)) {
+      List<OResult> results = new ArrayList<>();
+      while (result.hasNext()) {
+        results.add(result.next());
+      }
+      return results;
+    } finally {
+      database.getConfiguration().setValue(OGlobalConfiguration.QUERY_BATCH_EXECUTION, previous);
+    }
+  }
+}
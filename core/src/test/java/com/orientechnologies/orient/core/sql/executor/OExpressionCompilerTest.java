@@ -0,0 +1,88 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OExpressionCompilerTest extends TestUtilsFixture {
+
+  @Test
+  public void shouldReturnSameResultsAsInterpretedExecution() {
+    OClass clazz = createClassInstance();
+    for (int i = 0; i < 200; i++) {
+      ODocument document = new ODocument(clazz.getName());
+      if (i % 7 != 0) {
+        document.field("intValue", i);
+      }
+      document.field("longValue", (long) i * 1000);
+      if (i % 10 == 0) {
+        document.field("doubleValue", "not a number");
+      } else {
+        document.field("doubleValue", i / 3.0);
+      }
+      document.field("name", "Name" + (i % 5));
+      document.save();
+    }
+
+    String[] queries = {
+      "select from " + clazz.getName() + " where intValue > 10 * 2 and intValue < 40",
+      "select from " + clazz.getName() + " where intValue + 1 = 100 or longValue = 5000",
+      "select from " + clazz.getName() + " where doubleValue >= intValue and intValue < 60",
+      "select from " + clazz.getName() + " where not (intValue < 190) or name = 'Name1'",
+      "select from " + clazz.getName() + " where name.toLowerCase() = 'name2' and intValue < 50",
+      "select from " + clazz.getName() + " where intValue is null",
+      "select intValue * 2 as doubled, name, 'constant' as c from "
+          + clazz.getName()
+          + " where intValue < 20",
+      "select $current.name as currentName, longValue / 1000 as thousands from "
+          + clazz.getName()
+          + " where intValue < 10"
+    };
+    for (String query : queries) {
+      List<OResult> compiled = execute(query, true);
+      List<OResult> interpreted = execute(query, false);
+      Assert.assertFalse(query, interpreted.isEmpty());
+      Assert.assertEquals(query, interpreted.size(), compiled.size());
+      for (int i = 0; i < interpreted.size(); i++) {
+        Assert.assertEquals(query, interpreted.get(i).toJSON(), compiled.get(i).toJSON());
+      }
+    }
+  }
+
+  @Test
+  public void shouldUseCollateOfProperty() {
+    OClass clazz = createClassInstance();
+    clazz.createProperty("name", OType.STRING).setCollate("ci");
+    for (int i = 0; i < 10; i++) {
+      ODocument document = new ODocument(clazz.getName());
+      document.field("name", "Name" + i);
+      document.save();
+    }
+
+    Assert.assertEquals(
+        1, execute("select from " + clazz.getName() + " where name = 'NAME3'", true).size());
+  }
+
+  private List<OResult> execute(String query, boolean compiledExpressions) {
+    Object previous =
+        database
+            .getConfiguration()
+            .setValue(OGlobalConfiguration.QUERY_COMPILED_EXPRESSIONS, compiledExpressions);
+    try (OResultSet result = database.query(query)) {
+      List<OResult> results = new ArrayList<>();
+      while (result.hasNext()) {
+        results.add(result.next());
+      }
+      return results;
+    } finally {
+      database
+          .getConfiguration()
+          .setValue(OGlobalConfiguration.QUERY_COMPILED_EXPRESSIONS, previous);
+    }
+  }
+}
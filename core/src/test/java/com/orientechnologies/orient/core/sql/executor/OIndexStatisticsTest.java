@@ -0,0 +1,106 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OIndexStatisticsTest {
+
+  @Test
+  public void testStatisticsArePersisted() {
+    String name = OIndexStatisticsTest.class.getSimpleName();
+    OrientDB orientDB = new OrientDB("embedded:./target/", OrientDBConfig.defaultConfig());
+    try {
+      if (orientDB.exists(name)) {
+        orientDB.drop(name);
+      }
+      orientDB.execute(
+          "create database " + name + " plocal users (admin identified by 'admin' role admin)");
+      try (ODatabaseSession db = orientDB.open(name, "admin", "admin")) {
+        createItems(db, 100);
+        db.command("analyze class Item").close();
+      }
+      orientDB.close();
+
+      orientDB = new OrientDB("embedded:./target/", OrientDBConfig.defaultConfig());
+      try (ODatabaseSession db = orientDB.open(name, "admin", "admin")) {
+        OIndexStatistics statistics = getStatistics(db);
+        Assert.assertNotNull(statistics);
+        Assert.assertEquals(100, statistics.getEntries());
+        Assert.assertEquals(10, statistics.getDistinctFirstValues());
+        Assert.assertTrue(statistics.getBuckets() > 0);
+      }
+
+      orientDB.drop(name);
+    } finally {
+      orientDB.close();
+    }
+  }
+
+  @Test
+  public void testStatisticsAreRefreshedAfterChanges() throws Exception {
+    OrientDB orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.execute("create database test memory users (admin identified by 'admin' role admin)");
+    try (ODatabaseSession db = orientDB.open("test", "admin", "admin")) {
+      createItems(db, 100);
+      db.command("analyze class Item").close();
+      OIndexStatistics analyzed = getStatistics(db);
+      Assert.assertEquals(100, analyzed.getEntries());
+
+      // LESS THAN 20% OF THE ENTRIES
+      db.begin();
+      for (int i = 0; i < 10; i++) {
+        OElement item = db.newElement("Item");
+        item.setProperty("val", i % 10);
+        db.save(item);
+      }
+      db.commit();
+      Thread.sleep(200);
+      Assert.assertSame(analyzed, getStatistics(db));
+
+      db.begin();
+      for (int i = 0; i < 20; i++) {
+        OElement item = db.newElement("Item");
+        item.setProperty("val", 100 + i);
+        db.save(item);
+      }
+      db.commit();
+
+      long timeout = System.currentTimeMillis() + 10_000;
+      OIndexStatistics refreshed = getStatistics(db);
+      while (refreshed == analyzed) {
+        Assert.assertTrue(System.currentTimeMillis() < timeout);
+        Thread.sleep(10);
+        refreshed = getStatistics(db);
+      }
+      Assert.assertEquals(130, refreshed.getEntries());
+      Assert.assertEquals(30, refreshed.getDistinctFirstValues());
+    } finally {
+      orientDB.close();
+    }
+  }
+
+  private static void createItems(ODatabaseSession db, int count) {
+    OClass clazz = db.createClass("Item");
+    clazz.createProperty("val", OType.INTEGER);
+    clazz.createIndex("Item.val", OClass.INDEX_TYPE.NOTUNIQUE, "val");
+    for (int i = 0; i < count; i++) {
+      OElement item = db.newElement("Item");
+      item.setProperty("val", i % 10);
+      db.save(item);
+    }
+  }
+
+  private static OIndexStatistics getStatistics(ODatabaseSession db) {
+    ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    OIndex index = database.getMetadata().getIndexManagerInternal().getIndex(database, "Item.val");
+    return OQueryStats.get(database).getIndexStatistics(index);
+  }
+}
@@ -5,6 +5,7 @@ import static com.orientechnologies.orient.core.sql.executor.ExecutionPlanPrintU
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
@@ -13,6 +14,7 @@ import com.orientechnologies.orient.core.db.viewmanager.ViewCreationListener;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
@@ -28,11 +30,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import org.junit.AfterClass;
@@ -4073,8 +4077,10 @@ public class OSelectStatementExecutionTest {
   @Test
   public void testHeapLimitForOrderBy() {
     Long oldValue = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    Boolean oldSpill = OGlobalConfiguration.QUERY_ORDER_BY_SPILL_TO_DISK.getValueAsBoolean();
     try {
       OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(3);
+      OGlobalConfiguration.QUERY_ORDER_BY_SPILL_TO_DISK.setValue(false);
 
       String className = "testHeapLimitForOrderBy";
 
@@ -4094,6 +4100,78 @@ public class OSelectStatementExecutionTest {
       }
     } finally {
       OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
+      OGlobalConfiguration.QUERY_ORDER_BY_SPILL_TO_DISK.setValue(oldSpill);
+    }
+  }
+
+  @Test
+  public void testOrderBySpillToDisk() {
+    Long oldValue = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(7);
+
+      String className = "testOrderBySpillToDisk";
+      db.createClassIfNotExist(className);
+      for (int i = 0; i < 100; i++) {
+        db.command("INSERT INTO " + className + " set name = ?, val = ?", "n" + (i % 10), i)
+            .close();
+      }
+
+      try (OResultSet result = db.query("select from " + className + " ORDER BY name, val")) {
+        for (int i = 0; i < 100; i++) {
+          Assert.assertTrue(result.hasNext());
+          OResult item = result.next();
+          Assert.assertTrue(item.isElement());
+          Assert.assertEquals("n" + (i / 10), item.getProperty("name"));
+          Assert.assertEquals((i % 10) * 10 + i / 10, (int) item.getProperty("val"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+
+      try (OResultSet result =
+          db.query("select val, name from " + className + " ORDER BY val DESC")) {
+        for (int i = 99; i >= 0; i--) {
+          Assert.assertTrue(result.hasNext());
+          OResult item = result.next();
+          Assert.assertFalse(item.isElement());
+          Assert.assertEquals(i, (int) item.getProperty("val"));
+          Assert.assertEquals("n" + (i % 10), item.getProperty("name"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+
+      // top-N with a limit higher than the heap limit
+      try (OResultSet result =
+          db.query("select from " + className + " ORDER BY val DESC LIMIT 20")) {
+        for (int i = 99; i >= 80; i--) {
+          Assert.assertTrue(result.hasNext());
+          Assert.assertEquals(i, (int) result.next().getProperty("val"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
+    }
+  }
+
+  @Test
+  public void testOrderByTopNWithSkip() {
+    String className = "testOrderByTopNWithSkip";
+    db.createClassIfNotExist(className);
+    for (int i = 0; i < 50; i++) {
+      db.command("INSERT INTO " + className + " set name = ?, val = ?", "n" + (i % 5), i).close();
+    }
+
+    try (OResultSet result =
+        db.query("select from " + className + " ORDER BY name, val SKIP 3 LIMIT 5")) {
+      int[] expected = {15, 20, 25, 30, 35};
+      for (int val : expected) {
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertEquals("n0", item.getProperty("name"));
+        Assert.assertEquals(val, (int) item.getProperty("val"));
+      }
+      Assert.assertFalse(result.hasNext());
     }
   }
 
@@ -4551,4 +4629,376 @@ public class OSelectStatementExecutionTest {
       Assert.assertTrue(((String) item.getProperty("x")).contains("foo bar"));
     }
   }
+
+  @Test
+  public void testParallelClusterScan() {
+    String className = "testParallelClusterScan";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 3; i++) {
+      clazz.addCluster(className + "_extra" + i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i);
+      doc.setProperty("val", i % 10);
+      doc.save();
+    }
+
+    try (OResultSet result = db.query("select from " + className + " where val = 3 PARALLEL")) {
+      printExecutionPlan(result);
+      OInternalExecutionPlan plan = (OInternalExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertTrue(plan.getSteps().get(0) instanceof ParallelExecStep);
+      int count = 0;
+      while (result.hasNext()) {
+        OResult item = result.next();
+        Assert.assertEquals(3, (int) item.getProperty("val"));
+        count++;
+      }
+      Assert.assertEquals(100, count);
+    }
+
+    try (OResultSet result = db.query("select from " + className + " LIMIT 10 PARALLEL")) {
+      for (int i = 0; i < 10; i++) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertNotNull(result.next());
+      }
+      Assert.assertFalse(result.hasNext());
+    }
+
+    db.begin();
+    ODocument doc = db.newInstance(className);
+    doc.setProperty("val", 3);
+    doc.save();
+    try (OResultSet result = db.query("select from " + className + " where val = 3 PARALLEL")) {
+      Assert.assertEquals(101, result.stream().count());
+    }
+    db.rollback();
+  }
+
+  @Test
+  public void testParallelGroupBy() {
+    String className = "testParallelGroupBy";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 3; i++) {
+      clazz.addCluster(className + "_extra" + i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + (i % 4));
+      doc.setProperty("val", i);
+      doc.save();
+    }
+
+    try (OResultSet result =
+        db.query(
+            "select name, count(*) as c, sum(val) as s, max(val) as m, min(val) as mi from "
+                + className
+                + " group by name PARALLEL")) {
+      printExecutionPlan(result);
+      Assert.assertTrue(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("(MERGE PARTIAL)"));
+      Map<String, OResult> groups = new HashMap<>();
+      result.forEachRemaining(x -> groups.put(x.getProperty("name"), x));
+      Assert.assertEquals(4, groups.size());
+      for (int i = 0; i < 4; i++) {
+        OResult group = groups.get("name" + i);
+        Assert.assertEquals(250L, (long) group.getProperty("c"));
+        Assert.assertEquals(124500 + 250 * i, ((Number) group.getProperty("s")).intValue());
+        Assert.assertEquals(996 + i, (int) group.getProperty("m"));
+        Assert.assertEquals(i, (int) group.getProperty("mi"));
+      }
+    }
+
+    // AVG cannot be merged, the aggregation is calculated on the merged records
+    try (OResultSet result =
+        db.query("select avg(val) as a from " + className + " where val < 10 PARALLEL")) {
+      Assert.assertFalse(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("(MERGE PARTIAL)"));
+      Assert.assertEquals(4, ((Number) result.next().getProperty("a")).intValue());
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testParallelMinMaxMixedTypes() {
+    String className = "testParallelMinMaxMixedTypes";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 3; i++) {
+      clazz.addCluster(className + "_extra" + i);
+    }
+    // schemaless values, so the partial results of the clusters have different types
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "all");
+      if (i % 3 == 0) {
+        doc.setProperty("val", i);
+      } else if (i % 3 == 1) {
+        doc.setProperty("val", (long) i - 200);
+      } else {
+        doc.setProperty("val", i + 0.5);
+      }
+      doc.save();
+    }
+
+    try (OResultSet result =
+        db.query(
+            "select name, max(val) as m, min(val) as mi from "
+                + className
+                + " group by name PARALLEL")) {
+      Assert.assertTrue(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("(MERGE PARTIAL)"));
+      OResult group = result.next();
+      Assert.assertEquals(99.0, ((Number) group.getProperty("m")).doubleValue(), 0);
+      Assert.assertEquals(-199.0, ((Number) group.getProperty("mi")).doubleValue(), 0);
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testInSubQueryHashSemiJoin() {
+    String className = "testInSubQueryHashSemiJoin";
+    String refClassName = "testInSubQueryHashSemiJoinRef";
+    db.getMetadata().getSchema().createClass(className);
+    db.getMetadata().getSchema().createClass(refClassName);
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("val", i);
+      doc.save();
+    }
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(refClassName);
+      doc.setProperty("ref", i * 10);
+      doc.save();
+    }
+
+    try (OResultSet result =
+        db.query(
+            "select from "
+                + className
+                + " where val in (select ref from "
+                + refClassName
+                + ") and val < 50")) {
+      printExecutionPlan(result);
+      Assert.assertTrue(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("HASH SEMI-JOIN"));
+      Set<Integer> values = new HashSet<>();
+      result.forEachRemaining(x -> values.add(x.getProperty("val")));
+      Assert.assertEquals(5, values.size());
+      for (int i = 0; i < 5; i++) {
+        Assert.assertTrue(values.contains(i * 10));
+      }
+    }
+
+    // subquery returning records
+    try (OResultSet result =
+        db.query(
+            "select from "
+                + refClassName
+                + " where @rid in (select from "
+                + refClassName
+                + " where ref >= 50)")) {
+      Assert.assertEquals(5, result.stream().count());
+    }
+  }
+
+  @Test
+  public void testLetHashJoin() {
+    String className = "testLetHashJoin";
+    String ordersClassName = "testLetHashJoinOrder";
+    db.getMetadata().getSchema().createClass(className);
+    db.getMetadata().getSchema().createClass(ordersClassName);
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i);
+      doc.save();
+      for (int j = 0; j < i; j++) {
+        ODocument order = db.newInstance(ordersClassName);
+        order.setProperty("customer", "name" + i);
+        order.setProperty("amount", j);
+        order.save();
+      }
+    }
+
+    try (OResultSet result =
+        db.query(
+            "select name, $orders.size() as count from "
+                + className
+                + " let $orders = (select amount from "
+                + ordersClassName
+                + " where customer = $parent.$current.name and amount >= 0)")) {
+      printExecutionPlan(result);
+      Assert.assertTrue(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("LET (hash join)"));
+      int count = 0;
+      while (result.hasNext()) {
+        OResult item = result.next();
+        String name = item.getProperty("name");
+        Assert.assertEquals(
+            Integer.parseInt(name.substring("name".length())), (int) item.getProperty("count"));
+        count++;
+      }
+      Assert.assertEquals(10, count);
+    }
+
+    // LIMIT is applied to each record, the subquery cannot be executed once
+    try (OResultSet result =
+        db.query(
+            "select name, $orders.size() as count from "
+                + className
+                + " let $orders = (select from "
+                + ordersClassName
+                + " where customer = $parent.$current.name limit 1)")) {
+      Assert.assertFalse(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("LET (hash join)"));
+      Assert.assertEquals(10, result.stream().count());
+    }
+
+    // an indexed join key is looked up for each record instead of scanning the whole class
+    db.getMetadata()
+        .getSchema()
+        .getClass(ordersClassName)
+        .createProperty("customer", OType.STRING)
+        .createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    try (OResultSet result =
+        db.query(
+            "select name, $orders.size() as count from "
+                + className
+                + " let $orders = (select amount from "
+                + ordersClassName
+                + " where customer = $parent.$current.name)")) {
+      Assert.assertFalse(
+          result.getExecutionPlan().get().prettyPrint(0, 2).contains("LET (hash join)"));
+      while (result.hasNext()) {
+        OResult item = result.next();
+        String name = item.getProperty("name");
+        Assert.assertEquals(
+            Integer.parseInt(name.substring("name".length())), (int) item.getProperty("count"));
+      }
+    }
+  }
+
+  @Test
+  public void testInSubQueryHashSemiJoinMixedTypes() {
+    String className = "testInSubQueryHashSemiJoinMixedTypes";
+    String refClassName = "testInSubQueryHashSemiJoinMixedTypesRef";
+    db.getMetadata().getSchema().createClass(className);
+    db.getMetadata().getSchema().createClass(refClassName);
+    for (int i = 0; i < 20; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("intVal", i);
+      doc.setProperty("doubleVal", (double) i);
+      doc.save();
+    }
+    for (int i = 0; i < 5; i++) {
+      ODocument doc = db.newInstance(refClassName);
+      doc.setProperty("longRef", (long) i * 2);
+      doc.setProperty("floatRef", (float) i * 2);
+      doc.save();
+    }
+
+    // numbers are widened before the lookup: INTEGER matches LONG, DOUBLE matches FLOAT
+    String[][] joins = {{"intVal", "longRef"}, {"doubleVal", "floatRef"}};
+    for (String[] join : joins) {
+      try (OResultSet result =
+          db.query(
+              "select from "
+                  + className
+                  + " where "
+                  + join[0]
+                  + " in (select "
+                  + join[1]
+                  + " from "
+                  + refClassName
+                  + ")")) {
+        Assert.assertTrue(
+            result.getExecutionPlan().get().prettyPrint(0, 2).contains("HASH SEMI-JOIN"));
+        Set<Integer> values = new HashSet<>();
+        result.forEachRemaining(x -> values.add(x.getProperty("intVal")));
+        Assert.assertEquals(new HashSet<>(Arrays.asList(0, 2, 4, 6, 8)), values);
+      }
+    }
+  }
+
+  @Test
+  public void testAnalyzeClassIndexChoice() {
+    String className = "testAnalyzeClassIndexChoice";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("status", OType.STRING);
+    clazz.createProperty("code", OType.INTEGER);
+    clazz.createIndex(className + ".status", OClass.INDEX_TYPE.NOTUNIQUE, "status");
+    clazz.createIndex(className + ".code", OClass.INDEX_TYPE.NOTUNIQUE, "code");
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("status", i < 990 ? "common" : "rare" + i);
+      doc.setProperty("code", i / 2);
+      doc.save();
+    }
+
+    try (OResultSet result = db.command("analyze class " + className)) {
+      int count = 0;
+      while (result.hasNext()) {
+        OResult item = result.next();
+        Assert.assertEquals(1000L, (long) item.getProperty("entries"));
+        if (item.getProperty("indexName").equals(className + ".status")) {
+          Assert.assertEquals(11L, (long) item.getProperty("distinctKeys"));
+        }
+        count++;
+      }
+      Assert.assertEquals(2, count);
+    }
+
+    // the most frequent status is not selective, the code is
+    try (OResultSet result =
+        db.query("select from " + className + " where status = 'common' and code = 10")) {
+      printExecutionPlan(result);
+      Assert.assertTrue(
+          result
+              .getExecutionPlan()
+              .get()
+              .prettyPrint(0, 2)
+              .contains("FETCH FROM INDEX " + className + ".code"));
+      Assert.assertEquals(2, result.stream().count());
+    }
+
+    // a rare status is more selective than a range on most of the codes
+    try (OResultSet result =
+        db.query("select from " + className + " where status = 'rare995' and code < 400")) {
+      printExecutionPlan(result);
+      Assert.assertTrue(
+          result
+              .getExecutionPlan()
+              .get()
+              .prettyPrint(0, 2)
+              .contains("FETCH FROM INDEX " + className + ".status"));
+      Assert.assertEquals(0, result.stream().count());
+    }
+  }
+
+  @Test
+  public void testAnalyzeClassStatisticsDroppedWithIndex() {
+    String className = "testAnalyzeClassStatisticsDroppedWithIndex";
+    String indexName = className + ".code";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("code", OType.INTEGER);
+    clazz.createIndex(indexName, OClass.INDEX_TYPE.NOTUNIQUE, "code");
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("code", i);
+      doc.save();
+    }
+    db.command("analyze class " + className).close();
+    OQueryStats stats = OQueryStats.get((ODatabaseDocumentInternal) db);
+    OIndex index = clazz.getClassIndex(indexName);
+    Assert.assertNotNull(stats.getIndexStatistics(index));
+
+    // same name, same definition, but the keys of the old index are gone
+    db.command("drop index " + indexName).close();
+    clazz.createIndex(indexName, OClass.INDEX_TYPE.NOTUNIQUE, "code");
+    index = clazz.getClassIndex(indexName);
+    Assert.assertNull(stats.getIndexStatistics(index));
+
+    db.command("analyze class " + className).close();
+    index = clazz.getClassIndex(indexName);
+    Assert.assertNotNull(stats.getIndexStatistics(index));
+  }
 }
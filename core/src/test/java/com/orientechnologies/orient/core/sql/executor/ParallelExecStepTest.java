@@ -1,15 +1,39 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.sql.parser.OLimit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
 import org.junit.Test;
 
 /** Created by luigidellaquila on 26/07/16. */
 public class ParallelExecStepTest {
+  private static ODatabaseDocument db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:ParallelExecStepTest");
+    db.create();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.activateOnCurrentThread();
+    db.drop();
+  }
 
   @Test
   public void test() {
@@ -35,4 +59,246 @@ public class ParallelExecStepTest {
     plan.getSteps()
         .add(new FetchFromRidsStep(Collections.singleton(new ORecordId(12, 100)), ctx, false));
   }
+
+  @Test
+  public void testConcurrentExecution() {
+    OCommandContext ctx = context();
+    ParallelExecStep step = concurrentStep(ctx, 4, 250, null, -1);
+    try {
+      Assert.assertEquals(1000, count(step, ctx));
+    } finally {
+      step.close();
+    }
+  }
+
+  @Test
+  public void testWorkerErrorIsRethrown() {
+    OCommandContext ctx = context();
+    ParallelExecStep step =
+        concurrentStep(
+            ctx,
+            4,
+            250,
+            () -> {
+              throw new AssertionError("Broken sub-plan");
+            },
+            -1);
+    try {
+      count(step, ctx);
+      Assert.fail();
+    } catch (AssertionError e) {
+      Assert.assertEquals("Broken sub-plan", e.getMessage());
+    } finally {
+      step.close();
+    }
+  }
+
+  @Test
+  public void testTimeout() {
+    OCommandContext ctx = context();
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicBoolean blocked = new AtomicBoolean();
+    // ONE SUB-PLAN NEVER ENDS
+    ParallelExecStep step =
+        concurrentStep(
+            ctx,
+            2,
+            10,
+            () -> {
+              if (blocked.compareAndSet(false, true)) {
+                await(latch);
+              }
+            },
+            200);
+    long begin = System.currentTimeMillis();
+    try {
+      count(step, ctx);
+      Assert.fail();
+    } catch (OTimeoutException e) {
+      Assert.assertTrue(System.currentTimeMillis() - begin < 5_000);
+    } finally {
+      latch.countDown();
+      step.close();
+    }
+  }
+
+  @Test
+  public void testBusyWorkersDoNotStarveOtherQueries() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicInteger blocked = new AtomicInteger();
+    OCommandContext blockingCtx = context();
+    // MORE SUB-PLANS THAN WORKERS, ALL OF THEM BLOCKED UNTIL THE END OF THE TEST
+    ParallelExecStep blocking =
+        concurrentStep(
+            blockingCtx,
+            Runtime.getRuntime().availableProcessors() + 2,
+            10,
+            () -> {
+              blocked.incrementAndGet();
+              await(latch);
+            },
+            -1);
+    try {
+      // STARTS THE WORKERS WITHOUT CONSUMING THE RESULTS
+      blocking.syncPull(blockingCtx, 1);
+      long timeout = System.currentTimeMillis() + 10_000;
+      while (blocked.get() == 0) {
+        Assert.assertTrue(System.currentTimeMillis() < timeout);
+        Thread.sleep(10);
+      }
+
+      OCommandContext ctx = context();
+      ParallelExecStep step = concurrentStep(ctx, 4, 100, null, -1);
+      long begin = System.currentTimeMillis();
+      try {
+        Assert.assertEquals(400, count(step, ctx));
+      } finally {
+        step.close();
+      }
+      // NOT WAITING FOR THE BLOCKED WORKERS
+      Assert.assertTrue(System.currentTimeMillis() - begin < 5_000);
+    } finally {
+      latch.countDown();
+      db.activateOnCurrentThread();
+      blocking.close();
+    }
+  }
+
+  @Test
+  public void testLimitStopsWorkers() throws InterruptedException {
+    OCommandContext ctx = context();
+    AtomicInteger closed = new AtomicInteger();
+    // MORE RESULTS THAN THE QUEUE CAN HOLD, THE WORKERS WAIT FOR THE CONSUMER TO PULL THEM
+    ParallelExecStep step = concurrentStep(ctx, 4, 10_000, null, -1, closed);
+    LimitExecutionStep limit =
+        new LimitExecutionStep(
+            new OLimit(-1) {
+              @Override
+              public int getValue(OCommandContext ctx) {
+                return 10;
+              }
+            },
+            ctx,
+            false);
+    limit.setPrevious(step);
+    try {
+      OResultSet rs = limit.syncPull(ctx, 100);
+      for (int i = 0; i < 10; i++) {
+        rs.next();
+      }
+
+      // THE RESULT SET IS NOT CLOSED, THE WORKERS STOP ANYWAY
+      long timeout = System.currentTimeMillis() + 10_000;
+      while (closed.get() < 4) {
+        Assert.assertTrue(System.currentTimeMillis() < timeout);
+        Thread.sleep(10);
+      }
+    } finally {
+      db.activateOnCurrentThread();
+      limit.close();
+    }
+  }
+
+  private static OCommandContext context() {
+    db.activateOnCurrentThread();
+    OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(db);
+    return ctx;
+  }
+
+  private static ParallelExecStep concurrentStep(
+      OCommandContext ctx, int subPlans, int results, Runnable action, long timeoutMillis) {
+    return concurrentStep(ctx, subPlans, results, action, timeoutMillis, new AtomicInteger());
+  }
+
+  private static ParallelExecStep concurrentStep(
+      OCommandContext ctx,
+      int subPlans,
+      int results,
+      Runnable action,
+      long timeoutMillis,
+      AtomicInteger closed) {
+    List<OInternalExecutionPlan> plans = new ArrayList<>();
+    for (int i = 0; i < subPlans; i++) {
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new OTestStep(results, action, closed, ctx));
+      plans.add(plan);
+    }
+    return new ParallelExecStep(plans, ctx, true, timeoutMillis, false);
+  }
+
+  private static int count(ParallelExecStep step, OCommandContext ctx) {
+    int count = 0;
+    while (true) {
+      OResultSet rs = step.syncPull(ctx, 100);
+      if (!rs.hasNext()) {
+        return count;
+      }
+      while (rs.hasNext()) {
+        rs.next();
+        count++;
+      }
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      // BOUNDED, A STEP WAITING FOR IT ON THE CALLER THREAD WOULD HANG THE TEST OTHERWISE
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns the given number of results, after running an action on its first pull, and counts the
+   * steps closed.
+   */
+  private static class OTestStep extends AbstractExecutionStep {
+    private final int results;
+    private final Runnable action;
+    private final AtomicInteger closed;
+    private boolean started = false;
+    private int served = 0;
+
+    OTestStep(int results, Runnable action, AtomicInteger closed, OCommandContext ctx) {
+      super(ctx, false);
+      this.results = results;
+      this.action = action;
+      this.closed = closed;
+    }
+
+    @Override
+    public OResultSet syncPull(OCommandContext ctx, int nRecords) {
+      if (!started) {
+        started = true;
+        if (action != null) {
+          action.run();
+        }
+      }
+      OInternalResultSet result = new OInternalResultSet();
+      for (int i = 0; i < nRecords && served < results; i++) {
+        OResultInternal item = new OResultInternal();
+        item.setProperty("value", served++);
+        result.add(item);
+      }
+      return result;
+    }
+
+    @Override
+    public void close() {
+      closed.incrementAndGet();
+      super.close();
+    }
+
+    @Override
+    public boolean canBeCached() {
+      return true;
+    }
+
+    @Override
+    public OExecutionStep copy(OCommandContext ctx) {
+      return new OTestStep(results, action, closed, ctx);
+    }
+  }
 }
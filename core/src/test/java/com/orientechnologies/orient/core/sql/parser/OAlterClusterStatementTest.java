@@ -10,4 +10,14 @@ public class OAlterClusterStatementTest extends OParserTestAbstract {
     checkRightSyntax("alter cluster Foo name bar");
     checkRightSyntax("alter cluster Foo* name bar");
   }
+
+  @Test
+  public void testCompact() {
+    checkRightSyntax("ALTER CLUSTER Foo COMPACT");
+    checkRightSyntax("alter cluster Foo compact");
+    checkRightSyntax("alter cluster Foo* compact");
+    checkWrongSyntax("alter cluster Foo compact true");
+    // STILL AN IDENTIFIER
+    checkRightSyntax("select compact from Foo");
+  }
 }
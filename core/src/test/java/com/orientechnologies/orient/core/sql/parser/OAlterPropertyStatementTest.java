@@ -1,5 +1,6 @@
 package com.orientechnologies.orient.core.sql.parser;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 public class OAlterPropertyStatementTest extends OParserTestAbstract {
@@ -13,4 +14,14 @@ public class OAlterPropertyStatementTest extends OParserTestAbstract {
     checkRightSyntax("ALTER PROPERTY Foo.foo CUSTOM foo = bar()");
     checkRightSyntax("alter property Foo.foo custom foo = bar()");
   }
+
+  @Test
+  public void testColumnar() {
+    SimpleNode statement = checkRightSyntax("ALTER PROPERTY Foo.foo COLUMNAR TRUE");
+    Assert.assertEquals(Boolean.TRUE, ((OAlterPropertyStatement) statement).columnar);
+    statement = checkRightSyntax("alter property Foo.foo columnar false");
+    Assert.assertEquals(Boolean.FALSE, ((OAlterPropertyStatement) statement).columnar);
+    // STILL AN IDENTIFIER
+    checkRightSyntax("select columnar from Foo");
+  }
 }
@@ -0,0 +1,21 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Test;
+
+public class OAnalyzeClassStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("ANALYZE CLASS Foo");
+    checkRightSyntax("analyze class Foo");
+    checkRightSyntax("ANALYZE CLASS `Foo bar`");
+    checkWrongSyntax("ANALYZE CLASS");
+    checkWrongSyntax("ANALYZE Foo");
+    checkWrongSyntax("ANALYZE CLASS Foo bar");
+  }
+
+  @Test
+  public void testAnalyzeAsIdentifier() {
+    checkRightSyntax("SELECT analyze FROM Foo");
+  }
+}
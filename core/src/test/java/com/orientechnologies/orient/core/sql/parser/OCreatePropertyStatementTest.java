@@ -26,6 +26,12 @@ public class OCreatePropertyStatementTest extends OParserTestAbstract {
         "CREATE PROPERTY Foo.bar LINK Bar (MANDATORY true, READONLY false, NOTNULL true, MAX 5, MIN 3, DEFAULT 7) UNSAFE");
   }
 
+  @Test
+  public void testColumnar() {
+    checkRightSyntax("CREATE PROPERTY Foo.bar Integer (COLUMNAR)");
+    checkRightSyntax("create property Foo.bar Integer (mandatory, columnar true)");
+  }
+
   @Test
   public void testIfNotExists() {
     checkRightSyntax("CREATE PROPERTY Foo.bar if not exists STRING");
@@ -187,6 +187,40 @@ public class AsyncReadCacheTestIT {
     readCache.assertSize();
   }
 
+  @Test
+  public void testReadAheadOfSequentialPages() throws Exception {
+    final int pageSize = 4 * 1024;
+
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize, allocator, 256);
+    final long maxMemory = 64 * 1024 * 1024;
+
+    final AsyncReadCache readCache =
+        new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true, 16);
+    final OWriteCache writeCache = new MockedWriteCache(byteBufferPool, 1024);
+
+    for (int pageIndex = 0; pageIndex < 4; pageIndex++) {
+      final OCacheEntry cacheEntry = readCache.loadForRead(1, pageIndex, writeCache, true);
+      readCache.releaseFromRead(cacheEntry);
+    }
+
+    final long timeout = System.currentTimeMillis() + 10_000;
+    while (readCache.getUsedMemory() < 20L * pageSize && System.currentTimeMillis() < timeout) {
+      Thread.sleep(10);
+    }
+    // size of the cache is updated before entries are passed to the eviction policy
+    Thread.sleep(100);
+
+    // 4 pages are read explicitly and 16 pages which follow them are loaded in advance
+    Assert.assertEquals(20L * pageSize, readCache.getUsedMemory());
+    readCache.assertSize();
+    readCache.assertConsistency();
+
+    readCache.clear();
+    Assert.assertEquals(
+        0, allocator.getMemoryConsumption() - byteBufferPool.getPoolSize() * pageSize);
+  }
+
   private static final class PageWriter implements Callable<Void> {
     private final int fileLimit;
     private final int pageLimit;
@@ -338,9 +372,15 @@ public class AsyncReadCacheTestIT {
 
   private static final class MockedWriteCache implements OWriteCache {
     private final OByteBufferPool byteBufferPool;
+    private final long filledUpTo;
 
     MockedWriteCache(final OByteBufferPool byteBufferPool) {
+      this(byteBufferPool, 0);
+    }
+
+    MockedWriteCache(final OByteBufferPool byteBufferPool, final long filledUpTo) {
       this.byteBufferPool = byteBufferPool;
+      this.filledUpTo = filledUpTo;
     }
 
     @Override
@@ -433,7 +473,7 @@ public class AsyncReadCacheTestIT {
 
     @Override
     public long getFilledUpTo(final long fileId) {
-      return 0;
+      return filledUpTo;
     }
 
     @Override
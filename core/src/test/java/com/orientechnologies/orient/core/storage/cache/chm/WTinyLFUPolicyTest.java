@@ -664,6 +664,66 @@ public class WTinyLFUPolicyTest {
     clearPointers(wTinyLFU);
   }
 
+  @Test
+  public void testScanRing() {
+    ODirectMemoryAllocator memoryAllocator = new ODirectMemoryAllocator();
+    OByteBufferPool pool = new OByteBufferPool(1, memoryAllocator, 0);
+
+    ConcurrentHashMap<PageKey, OCacheEntry> data = new ConcurrentHashMap<>();
+    Admittor admittor = mock(Admittor.class);
+
+    AtomicInteger cacheSize = new AtomicInteger();
+    WTinyLFUPolicy wTinyLFU = new WTinyLFUPolicy(data, admittor, cacheSize);
+    wTinyLFU.setMaxSize(100);
+
+    final OCacheEntry[] cacheEntries = new OCacheEntry[25];
+    final OCachePointer[] cachePointers = new OCachePointer[25];
+
+    generateEntries(cacheEntries, cachePointers, pool);
+
+    // 20 pages of window are split between eden (15 pages) and scan ring (5 pages)
+    for (int i = 0; i < 15; i++) {
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      cacheSize.incrementAndGet();
+      wTinyLFU.onAdd(cacheEntries[i]);
+    }
+
+    for (int i = 15; i < 25; i++) {
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      cacheSize.incrementAndGet();
+      wTinyLFU.onScanAdd(cacheEntries[i]);
+    }
+
+    Assert.assertEquals(20, cacheSize.get());
+    for (int i = 15; i < 20; i++) {
+      Assert.assertTrue(cacheEntries[i].isDead());
+    }
+
+    Assert.assertArrayEquals(
+        new OCacheEntry[] {
+          cacheEntries[24], cacheEntries[23], cacheEntries[22], cacheEntries[21], cacheEntries[20]
+        },
+        toArray(wTinyLFU.scan()));
+    Assert.assertEquals(15, toArray(wTinyLFU.eden()).length);
+    Assert.assertFalse(wTinyLFU.probation().hasNext());
+    Assert.assertFalse(wTinyLFU.protection().hasNext());
+
+    // page of the scan ring accessed by regular operation is moved to eden
+    wTinyLFU.onAccess(cacheEntries[22]);
+
+    Assert.assertArrayEquals(
+        new OCacheEntry[] {cacheEntries[24], cacheEntries[23], cacheEntries[21], cacheEntries[20]},
+        toArray(wTinyLFU.scan()));
+    Assert.assertSame(cacheEntries[22], wTinyLFU.eden().next());
+    Assert.assertArrayEquals(new OCacheEntry[] {cacheEntries[0]}, toArray(wTinyLFU.probation()));
+
+    wTinyLFU.assertSize();
+    wTinyLFU.assertConsistency();
+
+    Assert.assertEquals(20, memoryAllocator.getMemoryConsumption());
+    clearPointers(wTinyLFU);
+  }
+
   private static OCacheEntry[] toArray(Iterator<OCacheEntry> iterator) {
     final List<OCacheEntry> entries = new ArrayList<>();
     while (iterator.hasNext()) {
@@ -691,6 +751,7 @@ public class WTinyLFUPolicyTest {
     clearQueue(policy.eden());
     clearQueue(policy.probation());
     clearQueue(policy.protection());
+    clearQueue(policy.scan());
   }
 
   private static void clearQueue(final Iterator<OCacheEntry> iterator) {
@@ -0,0 +1,85 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckpointPacerTest {
+  private static final long SECOND = 1_000_000_000L;
+  private static final long MB = 1024 * 1024;
+
+  @Test
+  public void testPagesAreFlushedProportionallyToWALGrowth() {
+    final CheckpointPacer pacer = new CheckpointPacer(-1, 1, 10_000);
+
+    Assert.assertEquals(1, pacer.pagesToFlush(0, 0, 100 * MB, 0, 9, 0, 1_000));
+
+    // 10% of lag is added to WAL, so 10% of dirty pages should be flushed
+    Assert.assertEquals(100, pacer.pagesToFlush(SECOND, 10 * MB, 100 * MB, 0, 9, 0, 1_000));
+    Assert.assertEquals(100 * MB, pacer.getLag());
+    Assert.assertEquals(9, pacer.getLagSegments());
+    Assert.assertFalse(pacer.isBehind());
+
+    // only half of WAL is not flushed, so lag is smaller and pace is faster
+    Assert.assertEquals(200, pacer.pagesToFlush(2 * SECOND, 20 * MB, 100 * MB, 0, 9, 5, 1_000));
+    Assert.assertEquals(50 * MB, pacer.getLag());
+    Assert.assertEquals(4, pacer.getLagSegments());
+  }
+
+  @Test
+  public void testFlushIsAcceleratedIfLagExceedsTarget() {
+    final CheckpointPacer pacer = new CheckpointPacer(50 * MB, 1, 10_000);
+
+    pacer.pagesToFlush(0, 0, 100 * MB, 0, 9, 0, 1_000);
+    Assert.assertEquals(200, pacer.pagesToFlush(SECOND, 10 * MB, 100 * MB, 0, 9, 0, 1_000));
+    Assert.assertTrue(pacer.isBehind());
+
+    Assert.assertEquals(100, pacer.pagesToFlush(2 * SECOND, 15 * MB, 100 * MB, 0, 9, 5, 1_000));
+    Assert.assertFalse(pacer.isBehind());
+  }
+
+  @Test
+  public void testMinimumPagesAreFlushedIfWALDoesNotGrow() {
+    final CheckpointPacer pacer = new CheckpointPacer(-1, 16, 10_000);
+
+    pacer.pagesToFlush(0, 0, 100 * MB, 0, 9, 0, 1_000);
+    Assert.assertEquals(16, pacer.pagesToFlush(SECOND, 0, 100 * MB, 0, 9, 0, 1_000));
+  }
+
+  @Test
+  public void testAmountOfPagesIsLimited() {
+    final CheckpointPacer pacer = new CheckpointPacer(MB, 1, 64);
+
+    pacer.pagesToFlush(0, 0, 100 * MB, 0, 9, 0, 1_000);
+    Assert.assertEquals(64, pacer.pagesToFlush(SECOND, 50 * MB, 100 * MB, 0, 9, 0, 1_000));
+  }
+
+  @Test
+  public void testActiveSegmentIsNotFlushed() {
+    final CheckpointPacer pacer = new CheckpointPacer(-1, 16, 10_000);
+
+    pacer.pagesToFlush(0, 0, 100 * MB, 0, 9, 9, 1_000);
+    Assert.assertEquals(0, pacer.pagesToFlush(SECOND, 10 * MB, 100 * MB, 0, 9, 9, 1_000));
+    Assert.assertEquals(0, pacer.getLagSegments());
+
+    Assert.assertEquals(0, pacer.pagesToFlush(2 * SECOND, 20 * MB, 100 * MB, 0, 9, -1, 0));
+    Assert.assertEquals(0, pacer.getLag());
+  }
+
+  @Test
+  public void testRatesAreAveraged() {
+    final CheckpointPacer pacer = new CheckpointPacer(-1, 1, 10_000);
+
+    pacer.pagesToFlush(0, 0, 100 * MB, 0, 9, 0, 1_000);
+    pacer.flushed(500);
+    pacer.pagesToFlush(SECOND, 10 * MB, 100 * MB, 0, 9, 0, 1_000);
+
+    Assert.assertEquals(2 * MB, pacer.getWALGrowthRate());
+    Assert.assertEquals(100, pacer.getFlushRate());
+
+    pacer.flushed(500);
+    pacer.pagesToFlush(2 * SECOND, 20 * MB, 100 * MB, 0, 9, 0, 1_000);
+
+    Assert.assertEquals((long) (2 * MB * 0.8 + 2 * MB), pacer.getWALGrowthRate());
+    Assert.assertEquals(180, pacer.getFlushRate());
+  }
+}
@@ -0,0 +1,185 @@
+package com.orientechnologies.orient.core.storage.cache.local.aoc;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.compression.impl.OHighZIPCompression;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class CompressedFileTest {
+  private static final int PAGE_SIZE = 8 * 1024;
+
+  private static Path buildDirectoryPath;
+
+  @BeforeClass
+  public static void beforeClass() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty()) buildDirectory = ".";
+
+    buildDirectoryPath = Paths.get(buildDirectory).resolve("compressedFileTest");
+  }
+
+  @Before
+  public void before() {
+    OFileUtils.deleteRecursively(buildDirectoryPath.toFile());
+    buildDirectoryPath.toFile().mkdirs();
+  }
+
+  @Test
+  public void testWriteReadAndReopen() throws Exception {
+    final Path path = buildDirectoryPath.resolve("file.pcl");
+    final Random random = new Random();
+
+    CompressedFile file = new CompressedFile(path, PAGE_SIZE, OHighZIPCompression.INSTANCE);
+    file.create();
+
+    final long position = file.allocateSpace(16 * PAGE_SIZE);
+    Assert.assertEquals(0, position);
+    Assert.assertEquals(16 * PAGE_SIZE, file.getFileSize());
+
+    final byte[][] pages = new byte[16][];
+    for (int i = 0; i < pages.length; i++) {
+      pages[i] = page(random);
+      file.write((long) i * PAGE_SIZE, ByteBuffer.wrap(pages[i]));
+    }
+
+    assertPages(file, pages);
+
+    file.synch();
+    Assert.assertTrue(Files.size(path) < pages.length * PAGE_SIZE);
+
+    file.close();
+
+    Assert.assertTrue(CompressedFile.isCompressed(path));
+
+    file = new CompressedFile(path, PAGE_SIZE, OHighZIPCompression.INSTANCE);
+    file.open();
+
+    Assert.assertEquals(16 * PAGE_SIZE, file.getFileSize());
+    assertPages(file, pages);
+
+    file.close();
+  }
+
+  @Test
+  public void testRestoreAfterCrash() throws Exception {
+    final Path path = buildDirectoryPath.resolve("file.pcl");
+    final Random random = new Random();
+
+    final CompressedFile file = new CompressedFile(path, PAGE_SIZE, OHighZIPCompression.INSTANCE);
+    file.create();
+    file.allocateSpace(8 * PAGE_SIZE);
+
+    final byte[][] pages = new byte[8][];
+    for (int n = 0; n < 3; n++) {
+      for (int i = 0; i < pages.length; i++) {
+        pages[i] = page(random);
+        file.write((long) i * PAGE_SIZE, ByteBuffer.wrap(pages[i]));
+      }
+    }
+
+    file.synch();
+
+    // copy of the file which is not closed, so map of pages is restored by scan of the file
+    final Path copy = buildDirectoryPath.resolve("copy.pcl");
+    Files.copy(path, copy);
+    file.close();
+
+    final CompressedFile restored =
+        new CompressedFile(copy, PAGE_SIZE, OHighZIPCompression.INSTANCE);
+    restored.open();
+
+    Assert.assertEquals(8 * PAGE_SIZE, restored.getFileSize());
+    assertPages(restored, pages);
+
+    restored.close();
+  }
+
+  @Test
+  public void testSpaceOfStalePagesIsReused() throws Exception {
+    final Path path = buildDirectoryPath.resolve("file.pcl");
+    final Random random = new Random();
+
+    final CompressedFile file = new CompressedFile(path, PAGE_SIZE, OHighZIPCompression.INSTANCE);
+    file.create();
+    file.allocateSpace(64 * PAGE_SIZE);
+
+    final byte[][] pages = new byte[64][];
+    for (int n = 0; n < 1000; n++) {
+      for (int i = 0; i < pages.length; i++) {
+        if (n == 0 || random.nextBoolean()) {
+          pages[i] = page(random);
+          file.write((long) i * PAGE_SIZE, ByteBuffer.wrap(pages[i]));
+        }
+      }
+
+      file.synch();
+    }
+
+    assertPages(file, pages);
+
+    // without reuse of space file would contain about 32000 versions of pages
+    final long segmentBytes = (long) CompressedFile.SEGMENT_SIZE * CompressedFile.UNIT_SIZE;
+    Assert.assertTrue(Files.size(path) <= 8 * segmentBytes);
+
+    file.close();
+  }
+
+  @Test
+  public void testShrink() throws Exception {
+    final Path path = buildDirectoryPath.resolve("file.pcl");
+    final Random random = new Random();
+
+    final CompressedFile file = new CompressedFile(path, PAGE_SIZE, OHighZIPCompression.INSTANCE);
+    file.create();
+    file.allocateSpace(4 * PAGE_SIZE);
+
+    for (int i = 0; i < 4; i++) {
+      file.write((long) i * PAGE_SIZE, ByteBuffer.wrap(page(random)));
+    }
+
+    file.shrink(0);
+    Assert.assertEquals(0, file.getFileSize());
+
+    Assert.assertEquals(0, file.allocateSpace(PAGE_SIZE));
+
+    try {
+      file.read(0, ByteBuffer.allocate(PAGE_SIZE), true);
+      Assert.fail();
+    } catch (final EOFException e) {
+      // page is allocated but was not written yet
+    }
+
+    final byte[] page = page(random);
+    file.write(0, ByteBuffer.wrap(page));
+    assertPages(file, new byte[][] {page});
+
+    file.close();
+  }
+
+  private static void assertPages(final CompressedFile file, final byte[][] pages)
+      throws Exception {
+    for (int i = 0; i < pages.length; i++) {
+      final ByteBuffer buffer = ByteBuffer.allocate(PAGE_SIZE);
+      file.read((long) i * PAGE_SIZE, buffer, true);
+      Assert.assertArrayEquals(pages[i], buffer.array());
+    }
+  }
+
+  /** @return page which is filled by random data only partially, so it can be compressed */
+  private static byte[] page(final Random random) {
+    final byte[] page = new byte[PAGE_SIZE];
+    final byte[] data = new byte[random.nextInt(PAGE_SIZE / 4) + 1];
+    random.nextBytes(data);
+    System.arraycopy(data, 0, page, random.nextInt(PAGE_SIZE - data.length), data.length);
+
+    return page;
+  }
+}
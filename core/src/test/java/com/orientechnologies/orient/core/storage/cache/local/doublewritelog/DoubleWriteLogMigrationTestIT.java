@@ -0,0 +1,212 @@
+package com.orientechnologies.orient.core.storage.cache.local.doublewritelog;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.io.OFileUtils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DoubleWriteLogMigrationTestIT {
+  private static final int PAGE_SIZE = 256;
+  private static final long MAX_SEG_SIZE = 1024 * 1024;
+
+  private static String buildDirectory;
+
+  @BeforeClass
+  public static void beforeClass() {
+    buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty()) buildDirectory = ".";
+
+    buildDirectory += File.separator + DoubleWriteLogMigrationTestIT.class.getSimpleName();
+  }
+
+  @Before
+  public void before() throws Exception {
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+    Files.createDirectories(Paths.get(buildDirectory));
+  }
+
+  @Test
+  public void testPagesOfSingleLogAreRestoredWithShards() throws Exception {
+    final Random random = new Random();
+    final Path storagePath = Paths.get(buildDirectory);
+    final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+
+    // storage crashes after the page is written to the log without shards
+    final DoubleWriteLogGL crashedLog = new DoubleWriteLogGL(MAX_SEG_SIZE);
+    crashedLog.open("test", storagePath, PAGE_SIZE);
+    try {
+      final byte[] data = randomData(random);
+      crashedLog.write(new ByteBuffer[] {wrap(data)}, new int[] {12}, new int[] {24});
+
+      final DoubleWriteLog doubleWriteLog = shardedLog(4);
+      doubleWriteLog.open("test", storagePath, PAGE_SIZE);
+      try {
+        doubleWriteLog.restoreModeOn();
+        assertPage(doubleWriteLog, bufferPool, 12, 24, data);
+        Assert.assertNull(doubleWriteLog.loadPage(12, 25, bufferPool));
+        doubleWriteLog.restoreModeOff();
+
+        Assert.assertTrue(countSegments(storagePath, DoubleWriteLogGL.EXTENSION) > 0);
+
+        doubleWriteLog.write(
+            new ByteBuffer[] {wrap(randomData(random))}, new int[] {12}, new int[] {25});
+        doubleWriteLog.truncate();
+
+        Assert.assertEquals(0, countSegments(storagePath, DoubleWriteLogGL.EXTENSION));
+      } finally {
+        doubleWriteLog.close();
+      }
+
+      Assert.assertEquals(0, countSegments(storagePath, DoubleWriteLogSharded.EXTENSION));
+    } finally {
+      crashedLog.close();
+      bufferPool.clear();
+    }
+  }
+
+  @Test
+  public void testPagesOfShardedLogAreRestoredWithoutShards() throws Exception {
+    final Random random = new Random();
+    final Path storagePath = Paths.get(buildDirectory);
+    final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+
+    final DoubleWriteLogSharded crashedLog = new DoubleWriteLogSharded(MAX_SEG_SIZE, 4);
+    crashedLog.open("test", storagePath, PAGE_SIZE);
+    try {
+      final byte[] data = randomData(random);
+      crashedLog.write(new ByteBuffer[] {wrap(data)}, new int[] {12}, new int[] {24});
+
+      final DoubleWriteLog doubleWriteLog = singleLog();
+      doubleWriteLog.open("test", storagePath, PAGE_SIZE);
+      try {
+        doubleWriteLog.restoreModeOn();
+        assertPage(doubleWriteLog, bufferPool, 12, 24, data);
+        doubleWriteLog.restoreModeOff();
+
+        doubleWriteLog.truncate();
+        Assert.assertEquals(0, countSegments(storagePath, DoubleWriteLogSharded.EXTENSION));
+      } finally {
+        doubleWriteLog.close();
+      }
+    } finally {
+      crashedLog.close();
+      bufferPool.clear();
+    }
+  }
+
+  @Test
+  public void testLatestCopyOfPageIsRestored() throws Exception {
+    final Random random = new Random();
+    final Path storagePath = Paths.get(buildDirectory);
+    final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+
+    final DoubleWriteLogGL olderLog = new DoubleWriteLogGL(MAX_SEG_SIZE);
+    final DoubleWriteLogSharded newerLog = new DoubleWriteLogSharded(MAX_SEG_SIZE, 2);
+    olderLog.open("test", storagePath, PAGE_SIZE);
+    newerLog.open("test", storagePath, PAGE_SIZE);
+    try {
+      final byte[] olderData = randomData(random);
+      final byte[] newerData = randomData(random);
+      olderLog.write(new ByteBuffer[] {wrap(olderData)}, new int[] {12}, new int[] {24});
+      newerLog.write(new ByteBuffer[] {wrap(newerData)}, new int[] {12}, new int[] {24});
+      setLastModified(storagePath, DoubleWriteLogGL.EXTENSION, 1_000);
+      setLastModified(storagePath, DoubleWriteLogSharded.EXTENSION, 2_000);
+
+      // the log without shards is the current one, but its copy of the page is older
+      final DoubleWriteLog doubleWriteLog = singleLog();
+      doubleWriteLog.open("test", storagePath, PAGE_SIZE);
+      try {
+        doubleWriteLog.restoreModeOn();
+        assertPage(doubleWriteLog, bufferPool, 12, 24, newerData);
+        doubleWriteLog.restoreModeOff();
+      } finally {
+        doubleWriteLog.close();
+      }
+    } finally {
+      olderLog.close();
+      newerLog.close();
+      bufferPool.clear();
+    }
+  }
+
+  private static DoubleWriteLog shardedLog(final int shards) {
+    return new DoubleWriteLogMigration(
+        new DoubleWriteLogSharded(MAX_SEG_SIZE, shards),
+        DoubleWriteLogSharded.EXTENSION,
+        new DoubleWriteLogGL(MAX_SEG_SIZE),
+        DoubleWriteLogGL.EXTENSION);
+  }
+
+  private static DoubleWriteLog singleLog() {
+    return new DoubleWriteLogMigration(
+        new DoubleWriteLogGL(MAX_SEG_SIZE),
+        DoubleWriteLogGL.EXTENSION,
+        new DoubleWriteLogSharded(MAX_SEG_SIZE, 1),
+        DoubleWriteLogSharded.EXTENSION);
+  }
+
+  private static long countSegments(final Path storagePath, final String extension)
+      throws Exception {
+    try (final Stream<Path> stream = Files.list(storagePath)) {
+      return stream.filter(path -> path.toString().endsWith(extension)).count();
+    }
+  }
+
+  private static void setLastModified(
+      final Path storagePath, final String extension, final long time) throws Exception {
+    try (final Stream<Path> stream = Files.list(storagePath)) {
+      final Iterator<Path> iterator =
+          stream.filter(path -> path.toString().endsWith(extension)).iterator();
+      while (iterator.hasNext()) {
+        Files.setLastModifiedTime(iterator.next(), FileTime.fromMillis(time));
+      }
+    }
+  }
+
+  private static byte[] randomData(final Random random) {
+    final byte[] data = new byte[PAGE_SIZE];
+    random.nextBytes(data);
+    return data;
+  }
+
+  private static ByteBuffer wrap(final byte[] data) {
+    final ByteBuffer buffer = ByteBuffer.allocate(data.length).order(ByteOrder.nativeOrder());
+    buffer.put(data);
+    buffer.rewind();
+    return buffer;
+  }
+
+  private static void assertPage(
+      final DoubleWriteLog doubleWriteLog,
+      final OByteBufferPool bufferPool,
+      final int fileId,
+      final int pageIndex,
+      final byte[] data)
+      throws Exception {
+    final OPointer pointer = doubleWriteLog.loadPage(fileId, pageIndex, bufferPool);
+    Assert.assertNotNull(pointer);
+
+    final ByteBuffer loadedBuffer = pointer.getNativeByteBuffer();
+    Assert.assertEquals(PAGE_SIZE, loadedBuffer.limit());
+
+    final byte[] loadedData = new byte[PAGE_SIZE];
+    loadedBuffer.rewind();
+    loadedBuffer.get(loadedData);
+
+    Assert.assertArrayEquals(data, loadedData);
+    bufferPool.release(pointer);
+  }
+}
@@ -0,0 +1,276 @@
+package com.orientechnologies.orient.core.storage.cache.local.doublewritelog;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.io.OFileUtils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DoubleWriteLogShardedTestIT {
+  private static final int PAGE_SIZE = 256;
+
+  private static String buildDirectory;
+
+  @BeforeClass
+  public static void beforeClass() {
+    buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty()) buildDirectory = ".";
+
+    buildDirectory += File.separator + DoubleWriteLogShardedTestIT.class.getSimpleName();
+  }
+
+  @Before
+  public void before() throws Exception {
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+    Files.createDirectories(Paths.get(buildDirectory));
+  }
+
+  @Test
+  public void testWriteSinglePage() throws Exception {
+    final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+    try {
+      final DoubleWriteLogSharded doubleWriteLog = new DoubleWriteLogSharded(2 * 4 * 1024, 4);
+
+      doubleWriteLog.open("test", Paths.get(buildDirectory), PAGE_SIZE);
+      try {
+        final byte[] data = randomData(new Random(), 1);
+        doubleWriteLog.write(new ByteBuffer[] {wrap(data)}, new int[] {12}, new int[] {24});
+        doubleWriteLog.truncate();
+
+        Assert.assertNull(doubleWriteLog.loadPage(12, 24, bufferPool));
+
+        doubleWriteLog.restoreModeOn();
+
+        assertPage(doubleWriteLog, bufferPool, 12, 24, data);
+        Assert.assertNull(doubleWriteLog.loadPage(12, 25, bufferPool));
+      } finally {
+        doubleWriteLog.close();
+      }
+    } finally {
+      bufferPool.clear();
+    }
+  }
+
+  @Test
+  public void testLatestCopyOfPageIsRestoredFromAnyShard() throws Exception {
+    final Random random = new Random();
+    final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+    try {
+      final DoubleWriteLogSharded doubleWriteLog = new DoubleWriteLogSharded(1024 * 1024, 4);
+
+      doubleWriteLog.open("test", Paths.get(buildDirectory), PAGE_SIZE);
+      try {
+        byte[] data = null;
+
+        // page is moved between shards because of different amount of chunks before it
+        for (int i = 0; i < 4; i++) {
+          final ByteBuffer[] buffers = new ByteBuffer[i + 1];
+          final int[] fileIds = new int[i + 1];
+          final int[] pageIndexes = new int[i + 1];
+
+          for (int n = 0; n < i; n++) {
+            buffers[n] = wrap(randomData(random, 1));
+            fileIds[n] = 1;
+            pageIndexes[n] = n;
+          }
+
+          data = randomData(random, 1);
+          buffers[i] = wrap(data);
+          fileIds[i] = 12;
+          pageIndexes[i] = 24;
+
+          doubleWriteLog.write(buffers, fileIds, pageIndexes);
+        }
+
+        doubleWriteLog.restoreModeOn();
+        assertPage(doubleWriteLog, bufferPool, 12, 24, data);
+      } finally {
+        doubleWriteLog.close();
+      }
+    } finally {
+      bufferPool.clear();
+    }
+  }
+
+  @Test
+  public void testRandomWrite() throws Exception {
+    final long seed = System.nanoTime();
+    System.out.println("testRandomWrite : seed " + seed);
+    final Random random = new Random(seed);
+
+    for (int n = 0; n < 10; n++) {
+      final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+      try {
+        final DoubleWriteLogSharded doubleWriteLog =
+            new DoubleWriteLogSharded(16 * 4 * 1024, random.nextInt(4) + 2);
+
+        doubleWriteLog.open("test", Paths.get(buildDirectory), PAGE_SIZE);
+        try {
+          final Map<Integer, byte[]> pages = new HashMap<>();
+
+          for (int w = 0; w < 100; w++) {
+            final int chunks = random.nextInt(10) + 1;
+
+            final ByteBuffer[] buffers = new ByteBuffer[chunks];
+            final int[] fileIds = new int[chunks];
+            final int[] pageIndexes = new int[chunks];
+
+            // chunks of the single write never overlap
+            int pageIndex = random.nextInt(100);
+            for (int i = 0; i < chunks; i++) {
+              final int chunkPages = random.nextInt(8) + 1;
+              final byte[] data = randomData(random, chunkPages);
+
+              buffers[i] = wrap(data);
+              fileIds[i] = 12;
+              pageIndexes[i] = pageIndex;
+
+              for (int p = 0; p < chunkPages; p++) {
+                final byte[] page = new byte[PAGE_SIZE];
+                System.arraycopy(data, p * PAGE_SIZE, page, 0, PAGE_SIZE);
+                pages.put(pageIndex + p, page);
+              }
+
+              pageIndex += chunkPages + random.nextInt(3);
+            }
+
+            doubleWriteLog.write(buffers, fileIds, pageIndexes);
+          }
+
+          doubleWriteLog.restoreModeOn();
+
+          for (final Map.Entry<Integer, byte[]> entry : pages.entrySet()) {
+            assertPage(doubleWriteLog, bufferPool, 12, entry.getKey(), entry.getValue());
+          }
+        } finally {
+          doubleWriteLog.close();
+        }
+      } finally {
+        bufferPool.clear();
+      }
+    }
+  }
+
+  @Test
+  public void testTornBatchIsSkipped() throws Exception {
+    final Random random = new Random();
+    final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+    try {
+      final DoubleWriteLogSharded doubleWriteLog = new DoubleWriteLogSharded(1024 * 1024, 2);
+
+      final Path storagePath = Paths.get(buildDirectory);
+      doubleWriteLog.open("test", storagePath, PAGE_SIZE);
+      try {
+        final byte[] data = randomData(random, 1);
+        doubleWriteLog.write(new ByteBuffer[] {wrap(data)}, new int[] {12}, new int[] {24});
+        doubleWriteLog.write(
+            new ByteBuffer[] {wrap(randomData(random, 1))}, new int[] {12}, new int[] {24});
+
+        // damage the end of the second batch
+        try (final FileChannel channel =
+            FileChannel.open(
+                storagePath.resolve("test_0_0" + DoubleWriteLogSharded.EXTENSION),
+                StandardOpenOption.WRITE)) {
+          channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}), channel.size() - 4);
+        }
+
+        doubleWriteLog.restoreModeOn();
+        assertPage(doubleWriteLog, bufferPool, 12, 24, data);
+      } finally {
+        doubleWriteLog.close();
+      }
+    } finally {
+      bufferPool.clear();
+    }
+  }
+
+  @Test
+  public void testTruncateRemovesSegmentsOfAllShards() throws Exception {
+    final Path storagePath = Paths.get(buildDirectory);
+    final DoubleWriteLogSharded doubleWriteLog = new DoubleWriteLogSharded(4 * 1024, 3);
+
+    doubleWriteLog.open("test", storagePath, PAGE_SIZE);
+    try {
+      final Random random = new Random();
+
+      boolean truncate = false;
+      for (int i = 0; i < 10; i++) {
+        truncate =
+            doubleWriteLog.write(
+                new ByteBuffer[] {
+                  wrap(randomData(random, 1)),
+                  wrap(randomData(random, 1)),
+                  wrap(randomData(random, 1))
+                },
+                new int[] {1, 2, 3},
+                new int[] {i, i, i});
+      }
+
+      Assert.assertTrue(truncate);
+      Assert.assertTrue(countSegments(storagePath) > 3);
+
+      doubleWriteLog.truncate();
+      Assert.assertEquals(3, countSegments(storagePath));
+    } finally {
+      doubleWriteLog.close();
+    }
+
+    Assert.assertEquals(0, countSegments(storagePath));
+  }
+
+  private static long countSegments(final Path storagePath) throws Exception {
+    try (final Stream<Path> stream = Files.list(storagePath)) {
+      return stream
+          .filter(path -> path.toString().endsWith(DoubleWriteLogSharded.EXTENSION))
+          .count();
+    }
+  }
+
+  private static byte[] randomData(final Random random, final int pages) {
+    final byte[] data = new byte[pages * PAGE_SIZE];
+    random.nextBytes(data);
+    return data;
+  }
+
+  private static ByteBuffer wrap(final byte[] data) {
+    final ByteBuffer buffer = ByteBuffer.allocate(data.length).order(ByteOrder.nativeOrder());
+    buffer.put(data);
+    buffer.rewind();
+    return buffer;
+  }
+
+  private static void assertPage(
+      final DoubleWriteLog doubleWriteLog,
+      final OByteBufferPool bufferPool,
+      final int fileId,
+      final int pageIndex,
+      final byte[] data)
+      throws Exception {
+    final OPointer pointer = doubleWriteLog.loadPage(fileId, pageIndex, bufferPool);
+    Assert.assertNotNull(pointer);
+
+    final ByteBuffer loadedBuffer = pointer.getNativeByteBuffer();
+    Assert.assertEquals(PAGE_SIZE, loadedBuffer.limit());
+
+    final byte[] loadedData = new byte[PAGE_SIZE];
+    loadedBuffer.rewind();
+    loadedBuffer.get(loadedData);
+
+    Assert.assertArrayEquals(data, loadedData);
+    bufferPool.release(pointer);
+  }
+}
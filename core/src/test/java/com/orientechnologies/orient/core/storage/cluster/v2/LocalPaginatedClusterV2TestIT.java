@@ -1,14 +1,24 @@
 package com.orientechnologies.orient.core.storage.cluster.v2;
 
 import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
 import com.orientechnologies.orient.core.storage.cluster.LocalPaginatedClusterAbstract;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 public class LocalPaginatedClusterV2TestIT extends LocalPaginatedClusterAbstract {
   @BeforeClass
@@ -37,4 +47,128 @@ public class LocalPaginatedClusterV2TestIT extends LocalPaginatedClusterAbstract
         .executeInsideAtomicOperation(
             null, atomicOperation -> paginatedCluster.create(atomicOperation));
   }
+
+  @Test
+  public void testFillFactor() throws IOException {
+    final OPaginatedClusterV2 cluster = (OPaginatedClusterV2) paginatedCluster;
+    final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+
+    try {
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null, atomicOperation -> cluster.setFillFactor(atomicOperation, 0));
+      Assert.fail();
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> cluster.setFillFactor(atomicOperation, 50));
+    try {
+      Assert.assertEquals(50, cluster.getFillFactor());
+
+      final byte[] record = new byte[1000];
+      new Random().nextBytes(record);
+
+      final Map<Long, Integer> pageRecords = new HashMap<>();
+      for (int i = 0; i < 200; i++) {
+        final OPhysicalPosition[] position = new OPhysicalPosition[1];
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null,
+            atomicOperation ->
+                position[0] = cluster.createRecord(record, 1, (byte) 1, null, atomicOperation));
+
+        pageRecords.merge(
+            cluster.readDebug(position[0].clusterPosition).pages.get(0).pageIndex, 1, Integer::sum);
+      }
+
+      // half of the page is reserved for the updates
+      for (final int records : pageRecords.values()) {
+        Assert.assertTrue(records * record.length <= OClusterPage.MAX_RECORD_SIZE / 2);
+      }
+    } finally {
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null, atomicOperation -> cluster.setFillFactor(atomicOperation, 100));
+    }
+  }
+
+  @Test
+  public void testCompaction() throws IOException {
+    final OPaginatedClusterV2 cluster = (OPaginatedClusterV2) paginatedCluster;
+    final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+
+    final long seed = System.nanoTime();
+    System.out.println("testCompaction seed : " + seed);
+    final Random random = new Random(seed);
+
+    final Map<Long, byte[]> records = new HashMap<>();
+    for (int i = 0; i < 2000; i++) {
+      final byte[] record = new byte[random.nextInt(1000) + 100];
+      random.nextBytes(record);
+
+      final OPhysicalPosition[] position = new OPhysicalPosition[1];
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation ->
+              position[0] = cluster.createRecord(record, 2, (byte) 1, null, atomicOperation));
+      records.put(position[0].clusterPosition, record);
+    }
+
+    // keep every tenth record, so most of the pages become sparse
+    long maxPage = 0;
+    for (final Long position : records.keySet().toArray(new Long[0])) {
+      if (position % 10 != 0) {
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null, atomicOperation -> cluster.deleteRecord(atomicOperation, position));
+        records.remove(position);
+      } else {
+        maxPage = Math.max(maxPage, cluster.readDebug(position).pages.get(0).pageIndex);
+      }
+    }
+
+    long moved = 0;
+    long lastPosition = -1;
+    while (true) {
+      final long position = lastPosition;
+      final ORawPair<Long, Integer> batch =
+          atomicOperationsManager.calculateInsideAtomicOperation(
+              null, atomicOperation -> cluster.compact(atomicOperation, position));
+      if (batch == null) {
+        break;
+      }
+
+      lastPosition = batch.first;
+      moved += batch.second;
+    }
+
+    Assert.assertTrue(moved > 0);
+
+    final int[] reclaimed = new int[1];
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> reclaimed[0] = cluster.reclaimTailPages(atomicOperation));
+    Assert.assertTrue(reclaimed[0] > 0);
+
+    long compactedMaxPage = 0;
+    for (final Map.Entry<Long, byte[]> entry : records.entrySet()) {
+      final ORawBuffer buffer = cluster.readRecord(entry.getKey(), false);
+      Assert.assertNotNull(buffer);
+      Assert.assertArrayEquals(entry.getValue(), buffer.buffer);
+      Assert.assertEquals(2, buffer.version);
+      Assert.assertEquals(1, buffer.recordType);
+
+      compactedMaxPage =
+          Math.max(compactedMaxPage, cluster.readDebug(entry.getKey()).pages.get(0).pageIndex);
+    }
+
+    Assert.assertTrue(compactedMaxPage < maxPage);
+    Assert.assertEquals(records.size(), cluster.getEntries());
+
+    // reclaimed pages are reused by new records
+    final byte[] record = new byte[100];
+    final OPhysicalPosition[] position = new OPhysicalPosition[1];
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            position[0] = cluster.createRecord(record, 1, (byte) 1, null, atomicOperation));
+    Assert.assertArrayEquals(record, cluster.readRecord(position[0].clusterPosition, false).buffer);
+  }
 }
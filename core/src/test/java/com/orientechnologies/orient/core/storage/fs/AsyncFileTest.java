@@ -2,7 +2,9 @@ package com.orientechnologies.orient.core.storage.fs;
 
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.util.ORawPair;
+import java.io.EOFException;
 import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Path;
@@ -11,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -270,6 +273,124 @@ public class AsyncFileTest {
     file.close();
   }
 
+  @Test
+  public void testReadSeveralChunks() throws Exception {
+    AsyncFile file = new AsyncFile(buildDirectoryPath, 1);
+    file.create();
+
+    assertBatchReadWrite(file);
+
+    file.close();
+  }
+
+  @Test
+  public void testIOUringReadWriteSeveralChunks() throws Exception {
+    final IOUring ioUring = IOUring.create(2, 4);
+    Assume.assumeNotNull(ioUring);
+    try {
+      AsyncFile file = new AsyncFile(buildDirectoryPath, 1, ioUring);
+      file.create();
+
+      assertBatchReadWrite(file);
+
+      file.close();
+      file.open();
+
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+      final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>();
+      buffers.add(new ORawPair<>(file.getFileSize() - 8, buffer));
+      try {
+        file.read(buffers, true);
+        Assert.fail();
+      } catch (EOFException e) {
+        Assert.assertEquals(8, buffer.position());
+      }
+
+      file.close();
+    } finally {
+      ioUring.close();
+    }
+  }
+
+  @Test
+  public void testIOUringErrorKeepsRingUsable() throws Exception {
+    final IOUring ioUring = IOUring.create(1, 4);
+    Assume.assumeNotNull(ioUring);
+    try {
+      final ByteBuffer[] buffers = new ByteBuffer[8];
+      final long[] offsets = new long[buffers.length];
+      for (int i = 0; i < buffers.length; i++) {
+        buffers[i] = ByteBuffer.allocateDirect(16);
+        offsets[i] = i * 16L;
+      }
+      try {
+        // all requests fail, the only ring is returned to the pool once they are completed
+        ioUring.read(-1, offsets, buffers, false);
+        Assert.fail();
+      } catch (IOException e) {
+        // expected
+      }
+
+      AsyncFile file = new AsyncFile(buildDirectoryPath, 1, ioUring);
+      file.create();
+
+      assertBatchReadWrite(file);
+
+      file.close();
+    } finally {
+      ioUring.close();
+    }
+  }
+
+  @Test
+  public void testClosedIOUringFallsBackToChannel() throws Exception {
+    final IOUring ioUring = IOUring.create(2, 4);
+    Assume.assumeNotNull(ioUring);
+    ioUring.close();
+    Assert.assertTrue(ioUring.isClosed());
+
+    AsyncFile file = new AsyncFile(buildDirectoryPath, 1, ioUring);
+    file.create();
+
+    assertBatchReadWrite(file);
+
+    file.close();
+  }
+
+  private static void assertBatchReadWrite(final AsyncFile file) throws Exception {
+    final Random random = new Random();
+    final List<byte[]> data = new ArrayList<>();
+    final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>();
+
+    for (int i = 0; i < 16; i++) {
+      final int size = (i + 1) * 1024;
+      final byte[] chunk = new byte[size];
+      random.nextBytes(chunk);
+      data.add(chunk);
+
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+      buffer.put(chunk);
+      buffers.add(new ORawPair<>(file.allocateSpace(size), buffer));
+    }
+
+    final IOResult result = file.write(buffers);
+    result.await();
+
+    final List<ORawPair<Long, ByteBuffer>> readBuffers = new ArrayList<>();
+    for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+      readBuffers.add(new ORawPair<>(pair.first, ByteBuffer.allocateDirect(pair.second.limit())));
+    }
+    file.read(readBuffers, true);
+
+    for (int i = 0; i < data.size(); i++) {
+      final ByteBuffer buffer = readBuffers.get(i).second;
+      final byte[] content = new byte[buffer.limit()];
+      buffer.rewind();
+      buffer.get(content);
+      Assert.assertArrayEquals(data.get(i), content);
+    }
+  }
+
   @Test
   public void testOpenClose() throws Exception {
     AsyncFile file = new AsyncFile(buildDirectoryPath, 1);
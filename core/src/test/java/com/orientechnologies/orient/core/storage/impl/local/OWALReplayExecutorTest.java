@@ -0,0 +1,150 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OWALReplayExecutorTest {
+  private static final int UNITS = 200;
+  private static final int FILES = 3;
+  private static final int PAGES = 10;
+
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() throws IOException {
+    final Map<String, List<Integer>> applied = new ConcurrentHashMap<>();
+
+    try (OWALReplayExecutor executor =
+        new OWALReplayExecutor(
+            "testChangesOfPageAreAppliedInOrder",
+            4,
+            (record, fileId) -> {
+              LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(10_000));
+              applied
+                  .computeIfAbsent(
+                      fileId + ":" + record.getPageIndex(),
+                      key -> Collections.synchronizedList(new ArrayList<>()))
+                  .add(record.getLsn().getPosition());
+            })) {
+      for (int i = 0; i < UNITS; i++) {
+        addUnit(executor, i);
+      }
+      executor.await();
+
+      Assert.assertEquals(UNITS * FILES, executor.getAppliedChanges());
+      Assert.assertEquals(lsn(UNITS - 1), executor.getRestoredLSN());
+    }
+
+    Assert.assertEquals(FILES * PAGES, applied.size());
+    for (final List<Integer> positions : applied.values()) {
+      for (int i = 1; i < positions.size(); i++) {
+        Assert.assertTrue(positions.get(i - 1) < positions.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void testUnitIsRestoredOnlyOnceItsChangesAreApplied() throws IOException {
+    try (OWALReplayExecutor executor =
+        new OWALReplayExecutor(
+            "testUnitIsRestoredOnlyOnceItsChangesAreApplied", 2, (record, fileId) -> {})) {
+      // changes of not complete unit, e.g. before creation of the file
+      executor.add(record(0, 0), 1);
+      executor.await();
+      Assert.assertEquals(1, executor.getAppliedChanges());
+      Assert.assertNull(executor.getRestoredLSN());
+
+      executor.add(record(0, 1), 2);
+      executor.unitRestored(lsn(0));
+      executor.await();
+      Assert.assertEquals(lsn(0), executor.getRestoredLSN());
+    }
+  }
+
+  @Test
+  public void testFailedChangeStopsRestore() throws IOException {
+    final int failedUnit = UNITS / 2;
+
+    OLogSequenceNumber restoredLSN = null;
+    try (OWALReplayExecutor executor =
+        new OWALReplayExecutor(
+            "testFailedChangeStopsRestore",
+            4,
+            (record, fileId) -> {
+              if (record.getLsn().getPosition() == failedUnit) {
+                throw new IllegalStateException("Broken page");
+              }
+            })) {
+      try {
+        for (int i = 0; i < UNITS; i++) {
+          addUnit(executor, i);
+        }
+        executor.await();
+        Assert.fail();
+      } catch (OStorageException e) {
+        // expected
+      }
+
+      restoredLSN = executor.getRestoredLSN();
+    }
+
+    // the failure is reported before the units which follow it are counted as restored
+    Assert.assertTrue(restoredLSN == null || restoredLSN.compareTo(lsn(failedUnit)) < 0);
+  }
+
+  @Test(expected = IOException.class)
+  public void testIOExceptionIsPropagated() throws IOException {
+    try (OWALReplayExecutor executor =
+        new OWALReplayExecutor(
+            "testIOExceptionIsPropagated",
+            2,
+            (record, fileId) -> {
+              throw new IOException("Disk is full");
+            })) {
+      addUnit(executor, 0);
+      executor.await();
+    }
+  }
+
+  @Test(expected = AssertionError.class)
+  public void testErrorIsPropagated() throws IOException {
+    try (OWALReplayExecutor executor =
+        new OWALReplayExecutor(
+            "testErrorIsPropagated",
+            2,
+            (record, fileId) -> {
+              throw new AssertionError("Invalid page");
+            })) {
+      addUnit(executor, 0);
+      executor.await();
+    }
+  }
+
+  /** Adds the unit which changes one page of each file. */
+  private static void addUnit(final OWALReplayExecutor executor, final int unit)
+      throws IOException {
+    for (int fileId = 0; fileId < FILES; fileId++) {
+      executor.add(record(unit % PAGES, unit), fileId);
+    }
+    executor.unitRestored(lsn(unit));
+  }
+
+  private static OUpdatePageRecord record(final long pageIndex, final int unit) {
+    final OUpdatePageRecord record = new OUpdatePageRecord(pageIndex, -1, unit, null);
+    record.setLsn(lsn(unit));
+    return record;
+  }
+
+  private static OLogSequenceNumber lsn(final int unit) {
+    return new OLogSequenceNumber(1, unit);
+  }
+}
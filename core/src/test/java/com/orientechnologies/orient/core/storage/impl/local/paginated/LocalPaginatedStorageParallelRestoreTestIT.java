@@ -0,0 +1,191 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Restores the same crashed storage from WAL sequentially and by several threads. The data files
+ * are the ones of the storage before the crash, so both records and creation and deletion of files
+ * are restored from WAL.
+ */
+public class LocalPaginatedStorageParallelRestoreTestIT {
+  private static final String DB_NAME = "restoreSource";
+
+  private File buildDir;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    buildDir =
+        new File(
+            System.getProperty("buildDirectory", ".")
+                + File.separator
+                + LocalPaginatedStorageParallelRestoreTestIT.class.getSimpleName());
+    OFileUtils.deleteRecursively(buildDir);
+
+    orientDB = new OrientDB("plocal:" + buildDir, OrientDBConfig.defaultConfig());
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    OFileUtils.deleteRecursively(buildDir);
+  }
+
+  @Test
+  public void testParallelRestoreIsTheSameAsSequential() throws Exception {
+    orientDB.execute(
+        "create database " + DB_NAME + " plocal users ( admin identified by 'admin' role admin)");
+    try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      session.createClass("Kept");
+      session.createClass("Dropped");
+      for (int i = 0; i < 100; i++) {
+        OElement element = session.newElement("Dropped");
+        element.setProperty("value", "dropped" + i);
+        session.save(element);
+      }
+    }
+    orientDB.close();
+
+    // data files before the crash, all the changes which follow are only in WAL
+    final File baseDir = new File(buildDir, "base");
+    OFileUtils.copyDirectory(new File(buildDir, DB_NAME), baseDir);
+
+    orientDB = new OrientDB("plocal:" + buildDir, OrientDBConfig.defaultConfig());
+    final Map<ORID, String> expectedKept;
+    final Map<ORID, String> expectedCreated;
+    try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      final Random random = new Random(42);
+      for (int i = 0; i < 2_000; i++) {
+        OElement element = session.newElement("Kept");
+        element.setProperty("value", randomString(random));
+        session.save(element);
+      }
+      final List<OElement> kept = new ArrayList<>();
+      for (OElement element : session.browseClass("Kept")) {
+        kept.add(element);
+      }
+      for (OElement element : kept) {
+        if (random.nextInt(4) == 0) {
+          element.delete();
+        } else if (random.nextBoolean()) {
+          element.setProperty("value", randomString(random));
+          element.save();
+        }
+      }
+      // deletion and creation of files
+      session.getMetadata().getSchema().dropClass("Dropped");
+      session.createClass("Created");
+      for (int i = 0; i < 500; i++) {
+        OElement element = session.newElement("Created");
+        element.setProperty("value", randomString(random));
+        session.save(element);
+      }
+
+      expectedKept = content(session, "Kept");
+      expectedCreated = content(session, "Created");
+
+      final OAbstractPaginatedStorage storage =
+          (OAbstractPaginatedStorage) ((ODatabaseInternal<?>) session).getStorage();
+      storage.getWALInstance().flush();
+
+      crash(baseDir, new File(buildDir, DB_NAME), "sequentialRestore");
+      crash(baseDir, new File(buildDir, DB_NAME), "parallelRestore");
+    }
+
+    assertRestored("sequentialRestore", 1, expectedKept, expectedCreated);
+    assertRestored("parallelRestore", 4, expectedKept, expectedCreated);
+  }
+
+  private void assertRestored(
+      final String name,
+      final int threads,
+      final Map<ORID, String> expectedKept,
+      final Map<ORID, String> expectedCreated) {
+    try (ODatabaseSession session =
+        orientDB.open(
+            name,
+            "admin",
+            "admin",
+            OrientDBConfig.builder()
+                .addConfig(OGlobalConfiguration.WAL_RESTORE_THREADS, threads)
+                .build())) {
+      Assert.assertTrue(
+          ((OAbstractPaginatedStorage) ((ODatabaseInternal<?>) session).getStorage())
+              .wereDataRestoredAfterOpen());
+
+      Assert.assertFalse(session.getMetadata().getSchema().existsClass("Dropped"));
+      Assert.assertEquals(expectedKept, content(session, "Kept"));
+      Assert.assertEquals(expectedCreated, content(session, "Created"));
+    }
+  }
+
+  /**
+   * Creates the storage with the data files taken before the crash and the WAL and the dirty flag
+   * of the storage which is still open.
+   */
+  private void crash(final File baseDir, final File openDir, final String name) throws IOException {
+    final File crashedDir = new File(buildDir, name);
+    OFileUtils.copyDirectory(baseDir, crashedDir);
+
+    final File[] baseFiles = crashedDir.listFiles();
+    Assert.assertNotNull(baseFiles);
+    for (File file : baseFiles) {
+      if (isWALFile(file)) {
+        Assert.assertTrue(file.delete());
+      }
+    }
+
+    final File[] openFiles = openDir.listFiles();
+    Assert.assertNotNull(openFiles);
+    for (File file : openFiles) {
+      if (isWALFile(file)) {
+        final String fileName = name + file.getName().substring(DB_NAME.length());
+        OFileUtils.copyFile(file, new File(crashedDir, fileName));
+      } else if (file.getName().startsWith("dirty.")) {
+        OFileUtils.copyFile(file, new File(crashedDir, file.getName()));
+      }
+    }
+  }
+
+  private static boolean isWALFile(final File file) {
+    return file.getName().endsWith(OWriteAheadLog.WAL_SEGMENT_EXTENSION)
+        || file.getName().endsWith(OWriteAheadLog.MASTER_RECORD_EXTENSION);
+  }
+
+  private static Map<ORID, String> content(final ODatabaseSession session, final String className) {
+    final Map<ORID, String> result = new HashMap<>();
+    for (OElement element : session.browseClass(className)) {
+      result.put(element.getIdentity(), element.getProperty("value"));
+    }
+    return result;
+  }
+
+  private static String randomString(final Random random) {
+    final StringBuilder builder = new StringBuilder();
+    final int length = 10 + random.nextInt(500);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(26)));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,127 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares allocation rate of changes of pages kept on heap and in direct memory. Each invocation
+ * imitates atomic operation which changes several pages, logs their changes and applies them to the
+ * pages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 3, time = 1)
+@Fork(1)
+public class OWALPageChangesBenchmark {
+  private static final int PAGE_SIZE = 64 * 1024;
+  private static final int PAGES = 16;
+  private static final int CHANGES = 512;
+
+  private OByteBufferPool bufferPool;
+
+  private ByteBuffer[] pages;
+  private ByteBuffer stream;
+  private int[] offsets;
+
+  public static void main(String[] args) throws RunnerException {
+    final Options opt =
+        new OptionsBuilder()
+            .include("OWALPageChangesBenchmark.*")
+            .addProfiler(GCProfiler.class)
+            .jvmArgs("-server", "-Xmx4G", "-Xms1G")
+            .build();
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    bufferPool = new OByteBufferPool(PAGE_SIZE);
+
+    pages = new ByteBuffer[PAGES];
+    for (int i = 0; i < PAGES; i++) {
+      pages[i] = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+    }
+
+    stream = ByteBuffer.allocateDirect(2 * PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+    final Random random = new Random(42);
+    offsets = new int[CHANGES];
+    for (int i = 0; i < CHANGES; i++) {
+      offsets[i] = random.nextInt(PAGE_SIZE - 8);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    bufferPool.clear();
+  }
+
+  @Benchmark
+  public long heapChanges() {
+    final OWALChanges[] changes = new OWALChanges[PAGES];
+    for (int i = 0; i < PAGES; i++) {
+      changes[i] = new OWALPageChangesPortion(PAGE_SIZE);
+    }
+
+    return updatePages(changes);
+  }
+
+  @Benchmark
+  public long offHeapChanges() {
+    final OWALChangesArena arena = new OWALChangesArena(bufferPool);
+    try {
+      final OWALChanges[] changes = new OWALChanges[PAGES];
+      for (int i = 0; i < PAGES; i++) {
+        changes[i] = new OWALPageChangesOffHeap(arena, PAGE_SIZE);
+      }
+
+      return updatePages(changes);
+    } finally {
+      arena.release();
+    }
+  }
+
+  private long updatePages(final OWALChanges[] changes) {
+    long sum = 0;
+
+    for (int i = 0; i < PAGES; i++) {
+      final OWALChanges pageChanges = changes[i];
+      final ByteBuffer page = pages[i];
+
+      for (final int offset : offsets) {
+        pageChanges.setIntValue(page, pageChanges.getIntValue(page, offset) + 1, offset);
+        pageChanges.setLongValue(page, pageChanges.getLongValue(page, offset) + 1, offset);
+      }
+
+      stream.clear();
+      pageChanges.toStream(stream);
+      sum += stream.position();
+
+      pageChanges.applyChanges(page);
+    }
+
+    return sum;
+  }
+}
@@ -0,0 +1,182 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OWALPageChangesOffHeapTest {
+  private static final int PAGE_SIZE = 4 * 1024;
+
+  private OWALChangesArena arena;
+
+  @Before
+  public void before() {
+    // several portions in single buffer and several buffers per page
+    arena = new OWALChangesArena(new OByteBufferPool(2 * OWALPageChangesPortion.PORTION_BYTES));
+  }
+
+  @After
+  public void after() {
+    arena.release();
+  }
+
+  @Test
+  public void testRandomChangesAreTheSameAsHeapChanges() {
+    final long seed = System.nanoTime();
+    System.out.println("testRandomChangesAreTheSameAsHeapChanges seed : " + seed);
+    final Random random = new Random(seed);
+
+    final byte[] data = new byte[PAGE_SIZE];
+    random.nextBytes(data);
+    final ByteBuffer pointer = ByteBuffer.wrap(data).order(ByteOrder.nativeOrder());
+
+    final OWALPageChangesPortion heapChanges = new OWALPageChangesPortion(PAGE_SIZE);
+    final OWALPageChangesOffHeap offHeapChanges = new OWALPageChangesOffHeap(arena, PAGE_SIZE);
+
+    for (int n = 0; n < 10_000; n++) {
+      final int offset = random.nextInt(PAGE_SIZE - 64);
+
+      switch (random.nextInt(6)) {
+        case 0:
+          final long longValue = random.nextLong();
+          heapChanges.setLongValue(pointer, longValue, offset);
+          offHeapChanges.setLongValue(pointer, longValue, offset);
+          break;
+        case 1:
+          final int intValue = random.nextInt();
+          heapChanges.setIntValue(pointer, intValue, offset);
+          offHeapChanges.setIntValue(pointer, intValue, offset);
+          break;
+        case 2:
+          final short shortValue = (short) random.nextInt();
+          heapChanges.setShortValue(pointer, shortValue, offset);
+          offHeapChanges.setShortValue(pointer, shortValue, offset);
+          break;
+        case 3:
+          final byte byteValue = (byte) random.nextInt();
+          heapChanges.setByteValue(pointer, byteValue, offset);
+          offHeapChanges.setByteValue(pointer, byteValue, offset);
+          break;
+        case 4:
+          final byte[] binaryValue = new byte[random.nextInt(64) + 1];
+          random.nextBytes(binaryValue);
+          heapChanges.setBinaryValue(pointer, binaryValue, offset);
+          offHeapChanges.setBinaryValue(pointer, binaryValue, offset);
+          break;
+        default:
+          final int to = random.nextInt(PAGE_SIZE - 64);
+          final int len = random.nextInt(64) + 1;
+          heapChanges.moveData(pointer, offset, to, len);
+          offHeapChanges.moveData(pointer, offset, to, len);
+      }
+
+      final int readOffset = random.nextInt(PAGE_SIZE - 64);
+      Assert.assertEquals(
+          heapChanges.getLongValue(pointer, readOffset),
+          offHeapChanges.getLongValue(pointer, readOffset));
+      Assert.assertEquals(
+          heapChanges.getIntValue(pointer, readOffset),
+          offHeapChanges.getIntValue(pointer, readOffset));
+      Assert.assertEquals(
+          heapChanges.getShortValue(pointer, readOffset),
+          offHeapChanges.getShortValue(pointer, readOffset));
+      Assert.assertEquals(
+          heapChanges.getByteValue(pointer, readOffset),
+          offHeapChanges.getByteValue(pointer, readOffset));
+      Assert.assertArrayEquals(
+          heapChanges.getBinaryValue(pointer, readOffset, 64),
+          offHeapChanges.getBinaryValue(pointer, readOffset, 64));
+    }
+
+    Assert.assertEquals(heapChanges.serializedSize(), offHeapChanges.serializedSize());
+
+    final byte[] heapStream = new byte[heapChanges.serializedSize()];
+    final byte[] offHeapStream = new byte[offHeapChanges.serializedSize()];
+    Assert.assertEquals(heapStream.length, heapChanges.toStream(0, heapStream));
+    Assert.assertEquals(offHeapStream.length, offHeapChanges.toStream(0, offHeapStream));
+    Assert.assertArrayEquals(heapStream, offHeapStream);
+
+    final ByteBuffer heapPage = ByteBuffer.wrap(data.clone()).order(ByteOrder.nativeOrder());
+    final ByteBuffer offHeapPage = ByteBuffer.wrap(data.clone()).order(ByteOrder.nativeOrder());
+    heapChanges.applyChanges(heapPage);
+    offHeapChanges.applyChanges(offHeapPage);
+    Assert.assertArrayEquals(heapPage.array(), offHeapPage.array());
+  }
+
+  @Test
+  public void testSerializationAndRestoreFromBuffer() {
+    final Random random = new Random();
+    final byte[] data = new byte[PAGE_SIZE];
+    random.nextBytes(data);
+    final ByteBuffer pointer = ByteBuffer.wrap(data).order(ByteOrder.nativeOrder());
+
+    final OWALPageChangesOffHeap changes = new OWALPageChangesOffHeap(arena, PAGE_SIZE);
+    changes.setLongValue(pointer, 42, 60);
+    changes.setIntValue(pointer, 24, 1020);
+    changes.setBinaryValue(pointer, new byte[100], 2000);
+
+    final ByteBuffer stream =
+        ByteBuffer.allocate(changes.serializedSize()).order(ByteOrder.nativeOrder());
+    changes.toStream(stream);
+    Assert.assertEquals(stream.capacity(), stream.position());
+
+    stream.flip();
+    final OWALPageChangesPortion heapChanges = new OWALPageChangesPortion(PAGE_SIZE);
+    heapChanges.fromStream(stream);
+
+    stream.rewind();
+    final OWALPageChangesOffHeap restoredChanges = new OWALPageChangesOffHeap(arena, PAGE_SIZE);
+    restoredChanges.fromStream(stream);
+
+    final ByteBuffer heapPage = ByteBuffer.wrap(data.clone()).order(ByteOrder.nativeOrder());
+    heapChanges.applyChanges(heapPage);
+
+    final ByteBuffer restoredPage = ByteBuffer.wrap(data.clone()).order(ByteOrder.nativeOrder());
+    restoredChanges.applyChanges(restoredPage);
+
+    changes.applyChanges(pointer);
+
+    Assert.assertEquals(42, pointer.getLong(60));
+    Assert.assertEquals(24, pointer.getInt(1020));
+    Assert.assertArrayEquals(data, heapPage.array());
+    Assert.assertArrayEquals(data, restoredPage.array());
+  }
+
+  @Test
+  public void testNewPage() {
+    final OWALPageChangesOffHeap changes = new OWALPageChangesOffHeap(arena, PAGE_SIZE);
+    Assert.assertFalse(changes.hasChanges());
+
+    changes.setIntValue(null, 42, 30);
+    Assert.assertTrue(changes.hasChanges());
+
+    Assert.assertEquals(42, changes.getIntValue(null, 30));
+    Assert.assertEquals(0, changes.getLongValue(null, 34));
+    Assert.assertEquals(0, changes.getLongValue(null, 2048));
+
+    final ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE).order(ByteOrder.nativeOrder());
+    changes.applyChanges(page);
+    Assert.assertEquals(42, page.getInt(30));
+  }
+
+  @Test
+  public void testChangesCanNotBeUsedAfterRelease() {
+    final OWALPageChangesOffHeap changes = new OWALPageChangesOffHeap(arena, PAGE_SIZE);
+    changes.setIntValue(null, 42, 30);
+    Assert.assertEquals(1, arena.getAllocatedPortions());
+
+    arena.release();
+
+    try {
+      changes.getIntValue(null, 30);
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      // memory of changes is returned to the pool
+    }
+  }
+}
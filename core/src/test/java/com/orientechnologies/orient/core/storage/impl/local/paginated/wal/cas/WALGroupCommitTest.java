@@ -0,0 +1,111 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas;
+
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WALGroupCommitTest {
+  @Test
+  public void testConcurrentCommitsAreGrouped() throws Exception {
+    final AtomicInteger logged = new AtomicInteger();
+    final AtomicReference<OLogSequenceNumber> flushed = new AtomicReference<>();
+    final AtomicInteger syncs = new AtomicInteger();
+
+    final WALGroupCommit groupCommit =
+        new WALGroupCommit(
+            () -> {
+              final int position = logged.get();
+              try {
+                Thread.sleep(1);
+              } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+
+              syncs.incrementAndGet();
+              flushed.set(new OLogSequenceNumber(1, position));
+            },
+            flushed::get,
+            TimeUnit.MILLISECONDS.toNanos(10),
+            64);
+
+    final int threads = 16;
+    final int commitsPerThread = 100;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final List<Future<Void>> futures = new ArrayList<>();
+    for (int n = 0; n < threads; n++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < commitsPerThread; i++) {
+                  final OLogSequenceNumber lsn =
+                      new OLogSequenceNumber(1, logged.incrementAndGet());
+                  groupCommit.commit(lsn).get();
+
+                  Assert.assertTrue(flushed.get().compareTo(lsn) >= 0);
+                }
+                return null;
+              }));
+    }
+
+    for (final Future<Void> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    Assert.assertEquals(threads * commitsPerThread, groupCommit.fetchCommits());
+
+    final long groups = groupCommit.fetchGroups();
+    Assert.assertTrue(groups > 0);
+    Assert.assertTrue(groups < threads * commitsPerThread);
+    Assert.assertTrue(syncs.get() <= groups);
+    Assert.assertTrue(groupCommit.fetchBiggestGroupSize() > 1);
+  }
+
+  @Test
+  public void testFlushedRecordIsNotSynced() throws Exception {
+    final AtomicInteger syncs = new AtomicInteger();
+    final WALGroupCommit groupCommit =
+        new WALGroupCommit(
+            syncs::incrementAndGet,
+            () -> new OLogSequenceNumber(2, 100),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            64);
+
+    final CompletableFuture<Void> future = groupCommit.commit(new OLogSequenceNumber(1, 200));
+    Assert.assertTrue(future.isDone());
+    future.get();
+
+    Assert.assertEquals(0, syncs.get());
+  }
+
+  @Test
+  public void testSyncErrorIsPassedToCommitters() throws Exception {
+    final WALGroupCommit groupCommit =
+        new WALGroupCommit(
+            () -> {
+              throw new IllegalStateException("fsync failed");
+            },
+            () -> null,
+            TimeUnit.MILLISECONDS.toNanos(10),
+            64);
+
+    final CompletableFuture<Void> future = groupCommit.commit(new OLogSequenceNumber(1, 200));
+    try {
+      future.get();
+      Assert.fail();
+    } catch (final ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NormalizedKeyEncoderTest {
+
+  @Test
+  public void testIntegerOrder() {
+    assertOrder(
+        new OType[] {OType.INTEGER},
+        Arrays.asList(Integer.MIN_VALUE, -100, -1, 0, 1, 100, Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testLongOrder() {
+    assertOrder(
+        new OType[] {OType.LONG}, Arrays.asList(Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testDoubleOrder() {
+    assertOrder(
+        new OType[] {OType.DOUBLE},
+        Arrays.asList(
+            Double.NEGATIVE_INFINITY, -1e10, -1.5, -0.0, 0.0, 1e-10, 2.5, Double.MAX_VALUE));
+  }
+
+  @Test
+  public void testFloatOrder() {
+    assertOrder(new OType[] {OType.FLOAT}, Arrays.asList(-3.5f, -1f, 0f, 0.25f, 7f));
+  }
+
+  @Test
+  public void testStringOrder() {
+    assertOrder(
+        new OType[] {OType.STRING},
+        Arrays.asList("", "a", "a\u0000", "a\u0001", "ab", "b", "\u007f", "Ѐ", "䄀", "￿"));
+  }
+
+  @Test
+  public void testBinaryOrder() {
+    assertOrder(
+        new OType[] {OType.BINARY},
+        Arrays.asList(
+            new byte[0],
+            new byte[] {0},
+            new byte[] {0, 0},
+            new byte[] {0, 1},
+            new byte[] {1},
+            new byte[] {2},
+            new byte[] {(byte) 0xFF}));
+  }
+
+  @Test
+  public void testCompositeOrder() {
+    final OType[] types = {OType.STRING, OType.INTEGER};
+    assertOrder(
+        types,
+        Arrays.asList(
+            new OCompositeKey(null, 1),
+            new OCompositeKey("a", null),
+            new OCompositeKey("a", -5),
+            new OCompositeKey("a", 5),
+            new OCompositeKey("ab", -5),
+            new OCompositeKey("b", 0)));
+  }
+
+  @Test
+  public void testRandomCompositeOrder() {
+    final OType[] types = {OType.LONG, OType.STRING, OType.DATETIME};
+    final Random random = new Random(42);
+    final List<Object> keys = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      final char[] chars = new char[random.nextInt(5)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = (char) random.nextInt(Character.MAX_VALUE + 1);
+      }
+      keys.add(
+          new OCompositeKey(
+              (long) random.nextInt(10), new String(chars), new Date(random.nextLong())));
+    }
+    keys.sort(ODefaultComparator.INSTANCE);
+    assertOrder(types, keys);
+  }
+
+  @Test
+  public void testRoundTrip() {
+    final OType[] types = {
+      OType.BOOLEAN,
+      OType.BYTE,
+      OType.SHORT,
+      OType.INTEGER,
+      OType.LONG,
+      OType.FLOAT,
+      OType.DOUBLE,
+      OType.DATETIME,
+      OType.STRING,
+      OType.LINK
+    };
+    final OCompositeKey key =
+        new OCompositeKey(
+            true,
+            (byte) -3,
+            (short) -300,
+            -70000,
+            1L << 40,
+            -1.5f,
+            Math.PI,
+            new Date(1234567890L),
+            "kéy 中",
+            new ORecordId(12, 345));
+    final byte[] bytes = NormalizedKeyEncoder.encode(key, types);
+    Assert.assertEquals(key, NormalizedKeyEncoder.decode(bytes, bytes.length));
+
+    final byte[] binary = {0, 1, 2, (byte) 0xFF};
+    final byte[] binaryBytes = NormalizedKeyEncoder.encode(binary, new OType[] {OType.BINARY});
+    Assert.assertArrayEquals(
+        binary, (byte[]) NormalizedKeyEncoder.decode(binaryBytes, binaryBytes.length));
+
+    final byte[] nullBytes = NormalizedKeyEncoder.encode(null, types);
+    Assert.assertNull(NormalizedKeyEncoder.decode(nullBytes, nullBytes.length));
+  }
+
+  @Test
+  public void testValuesAreConvertedToKeyTypes() {
+    final OType[] types = {OType.LONG};
+    Assert.assertArrayEquals(
+        NormalizedKeyEncoder.encode(5L, types), NormalizedKeyEncoder.encode(5, types));
+  }
+
+  @Test
+  public void testPartialKeyIsPrefix() {
+    final OType[] types = {OType.STRING, OType.INTEGER};
+    final byte[] partial = NormalizedKeyEncoder.encode(new OCompositeKey("a"), types);
+    final byte[] upper = NormalizedKeyEncoder.upperBound(partial);
+    for (Object second : Arrays.asList(null, Integer.MIN_VALUE, 0, Integer.MAX_VALUE)) {
+      final NormalizedKey key =
+          new NormalizedKey(NormalizedKeyEncoder.encode(new OCompositeKey("a", second), types));
+      Assert.assertTrue(new NormalizedKey(partial).compareTo(key) < 0);
+      Assert.assertTrue(new NormalizedKey(upper).compareTo(key) > 0);
+    }
+    final NormalizedKey next =
+        new NormalizedKey(NormalizedKeyEncoder.encode(new OCompositeKey("a\u0000", 0), types));
+    Assert.assertTrue(new NormalizedKey(upper).compareTo(next) < 0);
+  }
+
+  @Test(expected = OIndexException.class)
+  public void testUnsupportedType() {
+    NormalizedKeyEncoder.checkTypes(new OType[] {OType.STRING, OType.DECIMAL});
+  }
+
+  @Test(expected = OIndexException.class)
+  public void testUnsupportedValue() {
+    NormalizedKeyEncoder.encode(new BigDecimal("1.5"), null);
+  }
+
+  private static void assertOrder(final OType[] types, final List<?> sortedKeys) {
+    NormalizedKey previous = new NormalizedKey(NormalizedKeyEncoder.encode(null, types));
+    for (final Object key : sortedKeys) {
+      final NormalizedKey current = new NormalizedKey(NormalizedKeyEncoder.encode(key, types));
+      final int cmp = previous.compareTo(current);
+      Assert.assertTrue(key + " is not greater than the previous key", cmp < 0);
+      previous = current;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.orientechnologies.orient.core.storage.index.sbtree;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKey;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SeparatorKeysTest {
+
+  @Test
+  public void testString() {
+    Assert.assertEquals("abd", SeparatorKeys.shortest("abc", "abdefg"));
+    Assert.assertEquals("abcd", SeparatorKeys.shortest("abc", "abcdef"));
+    Assert.assertEquals("b", SeparatorKeys.shortest("a", "b"));
+    Assert.assertEquals("ab", SeparatorKeys.shortest("a", "ab"));
+  }
+
+  @Test
+  public void testStringDoesNotSplitSurrogatePairs() {
+    final String right = "a\uD83D\uDE00b";
+    final String separator = SeparatorKeys.shortest("a", right);
+    Assert.assertEquals("a\uD83D\uDE00", separator);
+  }
+
+  @Test
+  public void testNormalizedKey() {
+    final NormalizedKey separator =
+        SeparatorKeys.shortest(
+            new NormalizedKey(new byte[] {1, 2, 3, 4}), new NormalizedKey(new byte[] {1, 3, 0, 0}));
+    Assert.assertArrayEquals(new byte[] {1, 3}, separator.getBytes());
+  }
+
+  @Test
+  public void testCompositeKey() {
+    final OCompositeKey left = new OCompositeKey("alpha", "x", new ORecordId(1, 1));
+    final OCompositeKey right = new OCompositeKey("beta", "y", new ORecordId(1, 2));
+    Assert.assertEquals(new OCompositeKey("b", null, null), SeparatorKeys.shortest(left, right));
+
+    final OCompositeKey sameFirst = new OCompositeKey("alpha", "z", new ORecordId(1, 2));
+    Assert.assertEquals(
+        new OCompositeKey("alpha", "z", null), SeparatorKeys.shortest(left, sameFirst));
+
+    final OCompositeKey sameKey = new OCompositeKey("alpha", "x", new ORecordId(1, 2));
+    Assert.assertSame(sameKey, SeparatorKeys.shortest(left, sameKey));
+  }
+
+  @Test
+  public void testOtherTypesAreNotChanged() {
+    final Integer right = 10;
+    Assert.assertSame(right, SeparatorKeys.shortest(5, right));
+  }
+
+  @Test
+  public void testSeparatesRandomKeys() {
+    final Random random = new Random(17);
+    for (int i = 0; i < 10_000; i++) {
+      final OCompositeKey first =
+          new OCompositeKey(randomString(random), random.nextInt(3), randomString(random));
+      final OCompositeKey second =
+          new OCompositeKey(randomString(random), random.nextInt(3), randomString(random));
+      final int cmp = first.compareTo(second);
+      if (cmp == 0) {
+        continue;
+      }
+      final OCompositeKey left = cmp < 0 ? first : second;
+      final OCompositeKey right = cmp < 0 ? second : first;
+
+      final OCompositeKey separator = SeparatorKeys.shortest(left, right);
+      Assert.assertTrue(ODefaultComparator.INSTANCE.compare(left, separator) < 0);
+      Assert.assertTrue(ODefaultComparator.INSTANCE.compare(separator, right) <= 0);
+
+      final String leftString = (String) left.getKeys().get(0);
+      final String rightString = (String) right.getKeys().get(0);
+      if (leftString.compareTo(rightString) < 0) {
+        final String stringSeparator = SeparatorKeys.shortest(leftString, rightString);
+        Assert.assertTrue(leftString.compareTo(stringSeparator) < 0);
+        Assert.assertTrue(stringSeparator.compareTo(rightString) <= 0);
+      }
+    }
+  }
+
+  private static String randomString(final Random random) {
+    final char[] chars = new char[random.nextInt(6)];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(3));
+    }
+    return new String(chars);
+  }
+}
@@ -864,6 +864,42 @@ public class CellBTreeMultiValueV2TestIT {
     }
   }
 
+  @Test
+  public void testKeyPutBetweenSeparators() throws Exception {
+    final int keysCount = 100_000;
+    final String prefix = "a long prefix which is shared by all of the keys of the tree ";
+
+    // even keys are added first, then odd keys fall between the leaves split by separators
+    doInRollbackLoop(
+        0,
+        keysCount,
+        100,
+        (value, rollback, atomicOperation) -> {
+          final int val = 2 * (value % (keysCount / 2)) + (value < keysCount / 2 ? 0 : 1);
+          multiValueTree.put(
+              atomicOperation,
+              prefix + String.format("%06d", val),
+              new ORecordId(val % 32000, val));
+        });
+
+    for (int i = 0; i < keysCount; i++) {
+      final List<ORID> result;
+      try (Stream<ORID> stream = multiValueTree.get(prefix + String.format("%06d", i))) {
+        result = stream.collect(Collectors.toList());
+      }
+      Assert.assertEquals(1, result.size());
+      Assert.assertTrue(i + " key is absent", result.contains(new ORecordId(i % 32000, i)));
+    }
+
+    try (Stream<String> stream = multiValueTree.keyStream()) {
+      final Iterator<String> indexIterator = stream.iterator();
+      for (int i = 0; i < keysCount; i++) {
+        Assert.assertEquals(prefix + String.format("%06d", i), indexIterator.next());
+      }
+      Assert.assertFalse(indexIterator.hasNext());
+    }
+  }
+
   @Test
   public void testKeyPutRandomUniform() throws Exception {
     final NavigableMap<String, Integer> keys = new TreeMap<>();
@@ -0,0 +1,56 @@
+package com.orientechnologies.orient.enterprise.channel.binary;
+
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OChannelCompressedStreamTest {
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    OChannelCompressionStatistics sent = new OChannelCompressionStatistics(null);
+    ByteArrayOutputStream wire = new ByteArrayOutputStream();
+    DataOutputStream out =
+        new DataOutputStream(
+            new OChannelCompressedOutputStream(wire, OLZ4Compression.INSTANCE, 1024, sent));
+
+    // SMALLER THAN THE THRESHOLD: SENT AS IS
+    out.writeInt(42);
+    out.flush();
+    // TWO FULL FRAMES COMPRESSED, THE LAST 100 BYTES ARE SENT AS IS
+    byte[] large = new byte[OChannelCompressedOutputStream.MAX_FRAME_SIZE * 2 + 100];
+    for (int i = 0; i < large.length; i++) {
+      large[i] = (byte) (i % 7);
+    }
+    out.write(large);
+    out.flush();
+
+    Assert.assertEquals(4, sent.getFrames());
+    Assert.assertEquals(2, sent.getCompressedFrames());
+    Assert.assertEquals(4 + large.length, sent.getBytes());
+    Assert.assertEquals(wire.size(), sent.getWireBytes());
+    Assert.assertTrue(sent.getRatio() < 0.5);
+
+    OChannelCompressionStatistics received = new OChannelCompressionStatistics(null);
+    DataInputStream in =
+        new DataInputStream(
+            new OChannelCompressedInputStream(
+                new ByteArrayInputStream(wire.toByteArray()), OLZ4Compression.INSTANCE, received));
+    Assert.assertEquals(42, in.readInt());
+    byte[] read = new byte[large.length];
+    in.readFully(read);
+    Assert.assertTrue(Arrays.equals(large, read));
+    Assert.assertEquals(-1, in.read());
+
+    Assert.assertEquals(sent.getFrames(), received.getFrames());
+    Assert.assertEquals(sent.getCompressedFrames(), received.getCompressedFrames());
+    Assert.assertEquals(sent.getBytes(), received.getBytes());
+    Assert.assertEquals(sent.getWireBytes(), received.getWireBytes());
+  }
+}
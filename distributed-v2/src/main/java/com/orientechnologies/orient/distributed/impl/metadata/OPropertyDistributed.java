@@ -329,6 +329,28 @@ public class OPropertyDistributed extends OPropertyEmbedded {
     return this;
   }
 
+  public OPropertyImpl setColumnar(final boolean columnar) {
+    getDatabase().checkSecurity(ORule.ResourceGeneric.SCHEMA, ORole.PERMISSION_UPDATE);
+
+    acquireSchemaWriteLock();
+    try {
+      final ODatabaseDocumentInternal database = getDatabase();
+      if (isDistributedCommand()) {
+        final String cmd =
+            String.format("alter property %s columnar %s", getFullNameQuoted(), columnar);
+        owner.getOwner().sendCommand(database, cmd);
+        if (!isRunLocal(database)) {
+          setColumnarInternal(columnar);
+        }
+      } else setColumnarInternal(columnar);
+
+    } finally {
+      releaseSchemaWriteLock();
+    }
+
+    return this;
+  }
+
   public OPropertyImpl setReadonly(final boolean isReadonly) {
     getDatabase().checkSecurity(ORule.ResourceGeneric.SCHEMA, ORole.PERMISSION_UPDATE);
 
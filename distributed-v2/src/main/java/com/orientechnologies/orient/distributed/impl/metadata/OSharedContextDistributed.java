@@ -55,6 +55,7 @@ public class OSharedContextDistributed extends OSharedContextEmbedded {
     this.registerListener(executionPlanCache);
 
     queryStats = new OQueryStats();
+    this.registerListener(queryStats);
 
     distributedContext = new ODistributedContext(storage, orientDB);
   }
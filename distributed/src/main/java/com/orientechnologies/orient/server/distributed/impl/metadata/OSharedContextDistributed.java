@@ -63,6 +63,7 @@ public class OSharedContextDistributed extends OSharedContextEmbedded {
     this.registerListener(executionPlanCache);
 
     queryStats = new OQueryStats();
+    this.registerListener(queryStats);
     activeDistributedQueries = new HashMap<>();
     ((OAbstractPaginatedStorage) storage)
         .setStorageConfigurationUpdateListener(
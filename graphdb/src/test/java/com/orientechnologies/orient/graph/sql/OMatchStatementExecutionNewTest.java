@@ -2300,6 +2300,28 @@ public class OMatchStatementExecutionNewTest {
     }
   }
 
+  @Test
+  public void testHashJoinOnMatchedCondition() {
+    String query =
+        "MATCH {class:Person, as:a, where:(name = 'n1' or name = 'n2')},"
+            + " {class:Person, as:b, where:(name = $matched.a.name)}"
+            + " RETURN a.name as aName, b.name as bName";
+
+    try (OResultSet result = db.query(query)) {
+      printExecutionPlan(query, result);
+      Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("HASH JOIN"));
+      Set<String> names = new HashSet<>();
+      while (result.hasNext()) {
+        OResult item = result.next();
+        Assert.assertEquals(item.<String>getProperty("aName"), item.getProperty("bName"));
+        names.add(item.getProperty("aName"));
+      }
+      Assert.assertEquals(2, names.size());
+      Assert.assertTrue(names.contains("n1"));
+      Assert.assertTrue(names.contains("n2"));
+    }
+  }
+
   private long indexUsages(ODatabaseDocumentTx db) {
     final long oldIndexUsage;
     try {
@@ -305,7 +305,10 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
     } else {
       final ORecord record = connection.getDatabase().load(rid, fetchPlanString, ignoreCache);
       if (record != null) {
-        byte[] bytes = getRecordBytes(connection, record);
+        // DOCUMENTS ARE SENT AS READ FROM THE STORAGE TO THE CLIENTS THAT CAN DECODE THEM
+        final boolean storageFormat =
+            OMessageHelper.canWriteStorageFormat(connection.getData().protocolVersion, record);
+        byte[] bytes = storageFormat ? record.toStream() : getRecordBytes(connection, record);
         final Set<ORecord> recordsToSend = new HashSet<>();
         if (record != null) {
           if (fetchPlanString.length() > 0) {
@@ -329,7 +332,11 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
         }
         response =
             new OReadRecordResponse(
-                ORecordInternal.getRecordType(record), record.getVersion(), bytes, recordsToSend);
+                ORecordInternal.getRecordType(record),
+                record.getVersion(),
+                bytes,
+                recordsToSend,
+                storageFormat);
       } else {
         // No Record to send
         response = new OReadRecordResponse((byte) 0, 0, null, null);
@@ -1351,31 +1358,41 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
       }
     }
 
-    // copy the result-set to make sure that the execution is successful
-    Stream<OResult> stream = rs.stream();
-    if (database
-        .getActiveQueries()
-        .containsKey(((OLocalResultSetLifecycleDecorator) rs).getQueryId())) {
-      stream = stream.limit(request.getRecordsPerPage());
+    // copy the result-set to make sure that the execution is successful, also when the results are
+    // streamed: the channel is locked only to write them and an error is sent as an error response
+    OrientDBInternal orientDB = database.getSharedContext().getOrientDB();
+    List<OResultInternal> rsCopy;
+    boolean hasNext;
+    try {
+      orientDB.startCommand(Optional.empty());
+      Stream<OResult> stream = rs.stream();
+      if (database
+          .getActiveQueries()
+          .containsKey(((OLocalResultSetLifecycleDecorator) rs).getQueryId())) {
+        stream = stream.limit(request.getRecordsPerPage());
+      }
+      rsCopy = stream.map((r) -> (OResultInternal) r).collect(Collectors.toList());
+      hasNext = rs.hasNext();
+    } finally {
+      orientDB.endCommand();
     }
-    List<OResultInternal> rsCopy =
-        stream.map((r) -> (OResultInternal) r).collect(Collectors.toList());
-
-    boolean hasNext = rs.hasNext();
     boolean txChanges = false;
     if (database.getTransaction().isActive()) {
       txChanges = ((OTransactionOptimistic) database.getTransaction()).isChanged();
     }
     database.getSharedContext().unregisterListener(metadataListener);
 
-    return new OQueryResponse(
-        ((OLocalResultSetLifecycleDecorator) rs).getQueryId(),
-        txChanges,
-        rsCopy,
-        rs.getExecutionPlan(),
-        hasNext,
-        rs.getQueryStats(),
-        metadataListener.isUpdated());
+    OQueryResponse response =
+        new OQueryResponse(
+            ((OLocalResultSetLifecycleDecorator) rs).getQueryId(),
+            txChanges,
+            rsCopy,
+            rs.getExecutionPlan(),
+            hasNext,
+            rs.getQueryStats(),
+            metadataListener.isUpdated());
+    response.setStreamed(request.isStreamed());
+    return response;
   }
 
   @Override
@@ -1415,14 +1432,17 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
         i++;
       }
       boolean hasNext = rs.hasNext();
-      return new OQueryResponse(
-          rs.getQueryId(),
-          false,
-          rsCopy,
-          rs.getExecutionPlan(),
-          hasNext,
-          rs.getQueryStats(),
-          false);
+      OQueryResponse response =
+          new OQueryResponse(
+              rs.getQueryId(),
+              false,
+              rsCopy,
+              rs.getExecutionPlan(),
+              hasNext,
+              rs.getQueryStats(),
+              false);
+      response.setStreamed(request.isStreamed());
+      return response;
     } finally {
       orientDB.endCommand();
     }
@@ -28,6 +28,7 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.parser.OSystemVariableResolver;
 import com.orientechnologies.common.profiler.OAbstractProfiler.OProfilerHookValue;
 import com.orientechnologies.common.profiler.OProfiler.METRIC_TYPE;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
@@ -64,6 +65,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class OServer {
@@ -96,6 +99,8 @@ public class OServer {
   private OClientConnectionManager clientConnectionManager;
   private OHttpSessionManager httpSessionManager;
   private OPushManager pushManager;
+  private ExecutorService requestWorkers;
+  private ExecutorService networkWorkers;
   private ClassLoader extensionClassLoader;
   private OTokenHandler tokenHandler;
   private OrientDB context;
@@ -223,6 +228,19 @@ public class OServer {
     return pushManager;
   }
 
+  /** @return the pool of threads that execute the requests received on multiplexed connections */
+  public ExecutorService getRequestWorkers() {
+    return requestWorkers;
+  }
+
+  /**
+   * @return the bounded pool of threads that execute the requests of the connections served by
+   *     network event loops, it refuses new tasks when all its threads are busy
+   */
+  public ExecutorService getNetworkWorkers() {
+    return networkWorkers;
+  }
+
   public void saveConfiguration() throws IOException {
     serverCfg.saveConfiguration();
   }
@@ -334,6 +352,22 @@ public class OServer {
     clientConnectionManager = new OClientConnectionManager(this);
     httpSessionManager = new OHttpSessionManager(this);
     pushManager = new OPushManager();
+    requestWorkers =
+        OThreadPoolExecutors.newScalingThreadPool(
+            "OrientDB Request Worker",
+            getThreadGroup(),
+            0,
+            contextConfiguration.getValueAsInteger(
+                OGlobalConfiguration.NETWORK_BINARY_MULTIPLEXING_WORKERS),
+            0,
+            60,
+            TimeUnit.SECONDS);
+    networkWorkers =
+        OThreadPoolExecutors.newCachedThreadPool(
+            "OrientDB Network Worker",
+            getThreadGroup(),
+            contextConfiguration.getValueAsInteger(OGlobalConfiguration.NETWORK_EVENT_LOOP_WORKERS),
+            0);
     rejectRequests = false;
 
     if (contextConfiguration.getValueAsBoolean(
@@ -594,6 +628,8 @@ public class OServer {
 
         rejectRequests = true;
         pushManager.shutdown();
+        requestWorkers.shutdown();
+        networkWorkers.shutdown();
         clientConnectionManager.shutdown();
         httpSessionManager.shutdown();
 
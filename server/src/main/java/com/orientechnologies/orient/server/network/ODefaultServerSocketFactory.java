@@ -3,7 +3,9 @@ package com.orientechnologies.orient.server.network;
 import com.orientechnologies.orient.server.config.OServerParameterConfiguration;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.nio.channels.ServerSocketChannel;
 
 class ODefaultServerSocketFactory extends OServerSocketFactory {
 
@@ -29,6 +31,19 @@ class ODefaultServerSocketFactory extends OServerSocketFactory {
     return new ServerSocket(port, backlog, ifAddress);
   }
 
+  @Override
+  public ServerSocket createChannelServerSocket(int port, int backlog, InetAddress ifAddress)
+      throws IOException {
+    final ServerSocketChannel channel = ServerSocketChannel.open();
+    try {
+      channel.socket().bind(new InetSocketAddress(ifAddress, port), backlog);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    return channel.socket();
+  }
+
   @Override
   public void config(String name, OServerParameterConfiguration[] iParameters) {
     super.config(name, iParameters);
@@ -0,0 +1,259 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Serves the connections of a listener without a thread per connection.
+ *
+ * <p>Idle connections wait for their next request on a selector. When data is received on a
+ * connection, the connection is removed from the selector, its channel is switched back to blocking
+ * mode and the protocol executes the request on a worker of the server (see {@link
+ * com.orientechnologies.orient.server.OServer#getNetworkWorkers()}), then the connection is
+ * registered again. Protocols read and write their streams as they do on their own thread.
+ *
+ * <p>The pool of workers is bounded: when all the workers are busy, the connections with a pending
+ * request wait in this loop, in the order they became ready, and their data is left in the socket
+ * buffers.
+ */
+public class ONetworkEventLoop extends Thread {
+  private static final long IDLE_CHECK_INTERVAL = 1000;
+  private static final long ADMISSION_RETRY_INTERVAL = 10;
+
+  private static final class Connection {
+    private final ONetworkProtocol protocol;
+    private final SocketChannel channel;
+    private SelectionKey key;
+    private long lastActivity;
+
+    private Connection(final ONetworkProtocol protocol, final SocketChannel channel) {
+      this.protocol = protocol;
+      this.channel = channel;
+    }
+  }
+
+  private final Selector selector;
+  private final ExecutorService workers;
+  // CONNECTIONS TO REGISTER ON THE SELECTOR, FILLED BY THE LISTENER AND THE WORKERS
+  private final Queue<Connection> toRegister = new ConcurrentLinkedQueue<Connection>();
+  // IDLE CONNECTIONS AND CONNECTIONS WITH A REQUEST REFUSED BY THE WORKERS, ONLY FOR THIS THREAD
+  private final Set<Connection> registered = new HashSet<Connection>();
+  private final Queue<Connection> waiting = new ArrayDeque<Connection>();
+  private final Set<Connection> executing =
+      Collections.newSetFromMap(new ConcurrentHashMap<Connection, Boolean>());
+  private volatile boolean active = true;
+  private long lastIdleCheck = System.currentTimeMillis();
+
+  public ONetworkEventLoop(
+      final ThreadGroup group, final String name, final ExecutorService workers)
+      throws IOException {
+    super(group, name);
+    setDaemon(true);
+    this.selector = Selector.open();
+    this.workers = workers;
+  }
+
+  /** Starts serving a connection, the protocol must be already configured. */
+  public void register(final ONetworkProtocol protocol, final SocketChannel channel) {
+    if (!active) {
+      close(new Connection(protocol, channel));
+      return;
+    }
+    toRegister.add(new Connection(protocol, channel));
+    selector.wakeup();
+  }
+
+  public void shutdown() {
+    active = false;
+    selector.wakeup();
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (active) {
+        selector.select(waiting.isEmpty() ? IDLE_CHECK_INTERVAL : ADMISSION_RETRY_INTERVAL);
+        if (!active) break;
+
+        registerConnections();
+        admitWaiting();
+        for (Connection connection : takeReady()) {
+          if (waiting.isEmpty()) execute(connection);
+          else waiting.add(connection);
+        }
+
+        final long now = System.currentTimeMillis();
+        if (now - lastIdleCheck >= IDLE_CHECK_INTERVAL) {
+          lastIdleCheck = now;
+          closeIdleConnections(now);
+        }
+      }
+    } catch (IOException | ClosedSelectorException e) {
+      OLogManager.instance().error(this, "Error on network event loop, closing connections", e);
+    } finally {
+      closeAll();
+    }
+  }
+
+  private void registerConnections() {
+    Connection connection;
+    while ((connection = toRegister.poll()) != null) {
+      try {
+        connection.channel.configureBlocking(false);
+        connection.key = connection.channel.register(selector, SelectionKey.OP_READ, connection);
+        connection.lastActivity = System.currentTimeMillis();
+        registered.add(connection);
+      } catch (IOException e) {
+        OLogManager.instance().debug(this, "Error on registering connection %s", e, connection);
+        close(connection);
+      }
+    }
+  }
+
+  /**
+   * Removes the connections with data to read from the selector and switches them to blocking mode.
+   */
+  private List<Connection> takeReady() throws IOException {
+    final List<Connection> ready = new ArrayList<Connection>();
+    while (!selector.selectedKeys().isEmpty()) {
+      final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+      while (keys.hasNext()) {
+        final SelectionKey key = keys.next();
+        keys.remove();
+        key.cancel();
+        final Connection connection = (Connection) key.attachment();
+        registered.remove(connection);
+        ready.add(connection);
+      }
+      // DEREGISTER THE CANCELLED KEYS, A CHANNEL CANNOT BE BLOCKING WHILE IT IS REGISTERED
+      selector.selectNow();
+    }
+
+    final List<Connection> result = new ArrayList<Connection>(ready.size());
+    for (Connection connection : ready) {
+      try {
+        connection.channel.configureBlocking(true);
+        result.add(connection);
+      } catch (IOException e) {
+        OLogManager.instance().debug(this, "Error on switching connection %s", e, connection);
+        close(connection);
+      }
+    }
+    return result;
+  }
+
+  private void admitWaiting() {
+    Connection connection;
+    while ((connection = waiting.peek()) != null && submit(connection)) {
+      waiting.poll();
+    }
+  }
+
+  private void execute(final Connection connection) {
+    if (!submit(connection)) waiting.add(connection);
+  }
+
+  private boolean submit(final Connection connection) {
+    executing.add(connection);
+    try {
+      workers.execute(() -> executeRequests(connection));
+      return true;
+    } catch (RejectedExecutionException e) {
+      executing.remove(connection);
+      return false;
+    }
+  }
+
+  private void executeRequests(final Connection connection) {
+    boolean open = false;
+    try {
+      open = connection.protocol.executeRequests();
+    } catch (Throwable t) {
+      OLogManager.instance().debug(this, "Error on executing request of %s", t, connection);
+    } finally {
+      executing.remove(connection);
+      // AN INTERRUPTED WORKER WOULD CLOSE THE CHANNEL OF THE NEXT CONNECTION IT SERVES
+      Thread.interrupted();
+    }
+    if (open) register(connection.protocol, connection.channel);
+  }
+
+  /** Closes the idle connections expired, shut down or closed by another thread. */
+  private void closeIdleConnections(final long now) {
+    final Iterator<Connection> iterator = registered.iterator();
+    while (iterator.hasNext()) {
+      final Connection connection = iterator.next();
+      final int timeout = connection.protocol.getIdleTimeout();
+      final boolean expired = timeout > 0 && now - connection.lastActivity > timeout;
+      if (expired
+          || connection.protocol.isShutdownFlag()
+          || !connection.key.isValid()
+          || !connection.channel.isOpen()) {
+        iterator.remove();
+        connection.key.cancel();
+        if (expired && !connection.protocol.isShutdownFlag()) connection.protocol.onIdleTimeout();
+        close(connection);
+      }
+    }
+  }
+
+  private void closeAll() {
+    for (Connection connection : registered) close(connection);
+    registered.clear();
+    for (Connection connection : waiting) close(connection);
+    waiting.clear();
+    Connection connection;
+    while ((connection = toRegister.poll()) != null) close(connection);
+    for (Connection executingConnection : executing) executingConnection.protocol.sendShutdown();
+    try {
+      selector.close();
+    } catch (IOException e) {
+      OLogManager.instance().debug(this, "Error on closing selector", e);
+    }
+  }
+
+  private void close(final Connection connection) {
+    try {
+      connection.protocol.sendShutdown();
+      connection.protocol.shutdown();
+    } catch (Exception e) {
+      OLogManager.instance().debug(this, "Error on closing connection %s", e, connection);
+    }
+  }
+}
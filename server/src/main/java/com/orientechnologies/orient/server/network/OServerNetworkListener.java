@@ -57,6 +57,7 @@ public class OServerNetworkListener extends Thread {
   private OContextConfiguration configuration;
   private OServer server;
   private int protocolVersion = -1;
+  private ONetworkEventLoop eventLoop;
 
   public OServerNetworkListener(
       final OServer iServer,
@@ -85,11 +86,11 @@ public class OServerNetworkListener extends Thread {
       throw OException.wrapException(new ONetworkProtocolException(message), e);
     }
 
+    readParameters(iServer.getContextConfiguration(), iParameters);
+
     listen(iHostName, iHostPortRange, iProtocolName, iProtocol);
     protocolType = iProtocol;
 
-    readParameters(iServer.getContextConfiguration(), iParameters);
-
     if (iCommands != null) {
       for (int i = 0; i < iCommands.length; ++i) {
         if (iCommands[i].stateful)
@@ -188,6 +189,8 @@ public class OServerNetworkListener extends Thread {
   public void shutdown() {
     this.active = false;
 
+    if (eventLoop != null) eventLoop.shutdown();
+
     if (serverSocket != null)
       try {
         serverSocket.close();
@@ -199,6 +202,11 @@ public class OServerNetworkListener extends Thread {
     return active;
   }
 
+  /** @return the event loop serving the connections, or null if each connection has its thread */
+  public ONetworkEventLoop getEventLoop() {
+    return eventLoop;
+  }
+
   @Override
   public void run() {
     try {
@@ -255,6 +263,7 @@ public class OServerNetworkListener extends Thread {
       OLogManager.instance()
           .error(this, "error finding the protocol constructor with the server as parameter", e);
     } finally {
+      if (eventLoop != null) eventLoop.shutdown();
       try {
         if (serverSocket != null && !serverSocket.isClosed()) serverSocket.close();
       } catch (IOException ioe) {
@@ -353,9 +362,22 @@ public class OServerNetworkListener extends Thread {
     for (int port : getPorts(iHostPortRange)) {
       inboundAddr = new InetSocketAddress(iHostName, port);
       try {
-        serverSocket = socketFactory.createServerSocket(port, 0, InetAddress.getByName(iHostName));
+        serverSocket = null;
+        if (configuration.getValueAsBoolean(OGlobalConfiguration.NETWORK_EVENT_LOOP))
+          serverSocket =
+              socketFactory.createChannelServerSocket(port, 0, InetAddress.getByName(iHostName));
+        if (serverSocket == null)
+          serverSocket =
+              socketFactory.createServerSocket(port, 0, InetAddress.getByName(iHostName));
 
         if (serverSocket.isBound()) {
+          if (serverSocket.getChannel() != null)
+            eventLoop =
+                new ONetworkEventLoop(
+                    server.getThreadGroup(),
+                    "OrientDB " + protocolClass.getSimpleName() + " event loop at " + inboundAddr,
+                    server.getNetworkWorkers());
+
           OLogManager.instance()
               .info(
                   this,
@@ -369,8 +391,10 @@ public class OServerNetworkListener extends Thread {
                       + protocolVersion
                       + ", socket="
                       + socketFactory.getName()
+                      + (eventLoop != null ? ", event loop" : "")
                       + ")");
 
+          if (eventLoop != null) eventLoop.start();
           return;
         }
       } catch (BindException be) {
@@ -55,4 +55,15 @@ public abstract class OServerSocketFactory {
 
   public abstract ServerSocket createServerSocket(int port, int backlog, InetAddress ifAddress)
       throws IOException;
+
+  /**
+   * Creates a server socket whose accepted sockets have a {@link java.nio.channels.SocketChannel},
+   * so they can be served by a {@link ONetworkEventLoop}.
+   *
+   * @return the server socket, or null if the factory cannot create this kind of sockets (eg. SSL)
+   */
+  public ServerSocket createChannelServerSocket(int port, int backlog, InetAddress ifAddress)
+      throws IOException {
+    return null;
+  }
 }
@@ -25,6 +25,7 @@ import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.enterprise.channel.OChannel;
 import com.orientechnologies.orient.server.OClientConnection;
 import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.network.ONetworkEventLoop;
 import com.orientechnologies.orient.server.network.OServerNetworkListener;
 import java.io.IOException;
 import java.net.Socket;
@@ -44,6 +45,58 @@ public abstract class ONetworkProtocol extends OSoftThread {
       OContextConfiguration iConfiguration)
       throws IOException;
 
+  /**
+   * Starts serving the connection: on the event loop of the listener if it has one and the socket
+   * supports it, otherwise on the thread of the protocol.
+   */
+  protected void startServing(final OServerNetworkListener iListener, final Socket iSocket)
+      throws IOException {
+    final ONetworkEventLoop eventLoop = iListener != null ? iListener.getEventLoop() : null;
+    if (eventLoop != null && iSocket.getChannel() != null) {
+      startup();
+      eventLoop.register(this, iSocket.getChannel());
+    } else start();
+  }
+
+  /**
+   * Executes the requests of a connection served by an event loop, until no more data of the
+   * connection is buffered.
+   *
+   * @return false if the connection has been shut down
+   */
+  public boolean executeRequests() {
+    do {
+      executeStep();
+      if (isShutdownFlag()) {
+        shutdown();
+        return false;
+      }
+    } while (hasBufferedInput());
+    return true;
+  }
+
+  private boolean hasBufferedInput() {
+    final OChannel c = getChannel();
+    try {
+      return c != null && c.inStream != null && c.inStream.available() > 0;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return the time (in ms) after which an idle connection served by an event loop is closed, 0 to
+   *     keep it open
+   */
+  public int getIdleTimeout() {
+    return 0;
+  }
+
+  /** Called by the event loop before closing an idle connection. */
+  public void onIdleTimeout() {
+    sendShutdown();
+  }
+
   public abstract String getType();
 
   public abstract int getVersion();
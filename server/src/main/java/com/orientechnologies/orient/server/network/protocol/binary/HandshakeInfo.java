@@ -1,5 +1,6 @@
 package com.orientechnologies.orient.server.network.protocol.binary;
 
+import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkFactory;
 
@@ -12,6 +13,8 @@ public class HandshakeInfo {
   private byte encoding;
   private byte errorEncoding;
   private ORecordSerializer serializer;
+  private boolean multiplexed;
+  private OCompression compression;
 
   public HandshakeInfo(
       short protocolVersion,
@@ -62,4 +65,25 @@ public class HandshakeInfo {
   public byte getErrorEncoding() {
     return errorEncoding;
   }
+
+  /**
+   * @return true if the client sends requests tagged by id on this connection, that are executed
+   *     concurrently and answered in any order
+   */
+  public boolean isMultiplexed() {
+    return multiplexed;
+  }
+
+  public void setMultiplexed(boolean multiplexed) {
+    this.multiplexed = multiplexed;
+  }
+
+  /** @return the compression of the data sent on this connection, null if not compressed */
+  public OCompression getCompression() {
+    return compression;
+  }
+
+  public void setCompression(OCompression compression) {
+    this.compression = compression;
+  }
 }
@@ -42,6 +42,10 @@ public class ONetworkBinaryProtocolFactory {
       case 37:
         return ONetworkBinaryProtocolFactory::createRequest37;
       case 38:
+      case 39:
+      case 40:
+      case 41:
+      case 42:
         return ONetworkBinaryProtocolFactory::createRequest38;
       default:
         return ONetworkBinaryProtocolFactory::createRequest;
@@ -36,6 +36,9 @@ import com.orientechnologies.orient.client.remote.message.OBinaryPushResponse;
 import com.orientechnologies.orient.client.remote.message.OError37Response;
 import com.orientechnologies.orient.client.remote.message.OErrorResponse;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
@@ -44,6 +47,7 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCoreException;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.exception.OSecurityAccessException;
+import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.exception.OSerializationException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
@@ -84,7 +88,11 @@ import java.net.SocketException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.logging.Level;
 
@@ -94,13 +102,17 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   protected OChannelBinary channel;
   protected volatile int requestType;
   protected int clientTxId;
-  protected boolean okSent;
-  private boolean tokenConnection = true;
-  private long requests = 0;
+  protected int requestId;
+  // WRITTEN ALSO BY THE REQUEST WORKERS ON MULTIPLEXED CONNECTIONS
+  protected volatile boolean okSent;
+  private volatile boolean tokenConnection = true;
+  private final AtomicLong requests = new AtomicLong();
   private HandshakeInfo handshakeInfo;
   private volatile OBinaryPushResponse expectedPushResponse;
   private BlockingQueue<OBinaryPushResponse> pushResponse =
       new SynchronousQueue<OBinaryPushResponse>();
+  // LAST REQUEST QUEUED BY SESSION ON MULTIPLEXED CONNECTIONS
+  private final Map<Integer, CompletableFuture<Void>> sessionRequests = new ConcurrentHashMap<>();
 
   private Function<Integer, OBinaryRequest<? extends OBinaryResponse>> factory =
       ONetworkBinaryProtocolFactory.defaultProtocol();
@@ -147,7 +159,7 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
 
     OServerPluginHelper.invokeHandlerCallbackOnSocketAccepted(server, this);
 
-    start();
+    startServing(iListener, iSocket);
     setName(
         "OrientDB ("
             + iSocket.getLocalSocketAddress()
@@ -228,6 +240,9 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
         return;
       }
 
+      if (isMultiplexed()) {
+        requestId = channel.readInt();
+      }
       clientTxId = channel.readInt();
       // GET THE CONNECTION IF EXIST
       OClientConnection connection =
@@ -236,6 +251,8 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
         coordinatedRequest(connection, requestType, clientTxId);
       } else if (isDistributed(requestType)) {
         distributedRequest(connection, requestType, clientTxId);
+      } else if (isMultiplexed() && !isHandshaking(requestType)) {
+        multiplexedRequest(connection, requestType, requestId, clientTxId);
       } else sessionRequest(connection, requestType, clientTxId);
     } catch (IOException e) {
       // if an exception arrive to this point we need to kill the current socket.
@@ -259,11 +276,65 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     byte encoding = channel.readByte();
     byte errorEncoding = channel.readByte();
     OBinaryProtocolHelper.checkProtocolVersion(this, protocolVersion);
+    boolean multiplexed = false;
+    OCompression compression = null;
+    if (protocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_39) {
+      multiplexed =
+          channel.readByte() == 1
+              && server
+                  .getContextConfiguration()
+                  .getValueAsBoolean(OGlobalConfiguration.NETWORK_BINARY_MULTIPLEXING);
+      if (protocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_42) {
+        compression = acceptCompression(channel.readString());
+      }
+      // TELL THE CLIENT IF THE REQUESTS CAN BE MULTIPLEXED AND COMPRESSED ON THIS CONNECTION
+      channel.acquireWriteLock();
+      try {
+        channel.writeByte((byte) (multiplexed ? 1 : 0));
+        if (protocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_42) {
+          channel.writeString(compression != null ? compression.name() : "");
+        }
+        channel.flush();
+        if (compression != null) {
+          channel.enableCompression(
+              compression,
+              server
+                  .getContextConfiguration()
+                  .getValueAsInteger(OGlobalConfiguration.NETWORK_BINARY_COMPRESSION_THRESHOLD));
+        }
+      } finally {
+        channel.releaseWriteLock();
+      }
+    }
     this.handshakeInfo =
         new HandshakeInfo(protocolVersion, driverName, driverVersion, encoding, errorEncoding);
+    this.handshakeInfo.setMultiplexed(multiplexed);
+    this.handshakeInfo.setCompression(compression);
     this.factory = ONetworkBinaryProtocolFactory.matchProtocol(protocolVersion);
   }
 
+  /** @return the compression asked by the client, or null to send the data uncompressed */
+  private OCompression acceptCompression(final String name) {
+    if (name == null
+        || name.isEmpty()
+        || !server
+            .getContextConfiguration()
+            .getValueAsBoolean(OGlobalConfiguration.NETWORK_BINARY_COMPRESSION_ACCEPTED)) {
+      return null;
+    }
+    try {
+      final OCompression compression = OCompressionFactory.INSTANCE.getCompression(name, null);
+      return compression instanceof ONothingCompression ? null : compression;
+    } catch (OSecurityException e) {
+      OLogManager.instance().debug(this, "Compression '%s' asked by client not supported", e, name);
+      return null;
+    }
+  }
+
+  private boolean isMultiplexed() {
+    return handshakeInfo != null && handshakeInfo.isMultiplexed();
+  }
+
   public void setHandshakeInfo(HandshakeInfo handshakeInfo) {
     this.handshakeInfo = handshakeInfo;
   }
@@ -334,87 +405,7 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
           sendShutdown();
           return;
         }
-        if (connection == null && requestType == OChannelBinaryProtocol.REQUEST_DB_CLOSE) {
-          // Backward compatible with old clients
-          return;
-        }
-
-        OBinaryResponse response = null;
-        if (exception == null) {
-          try {
-            if (request.requireServerUser()) {
-              checkServerAccess(request.requiredServerRole(), connection);
-            }
-
-            if (connection == null) throw new ODatabaseException("Required session");
-
-            if (request.requireDatabaseSession()) {
-              if (connection.getDatabase() == null)
-                throw new ODatabaseException("Required database session");
-            }
-            response = request.execute(connection.getExecutor());
-          } catch (RuntimeException t) {
-            // This should be moved in the execution of the command that manipulate data
-            if (connection != null && connection.getDatabase() != null) {
-              final OSBTreeCollectionManager collectionManager =
-                  connection.getDatabase().getSbTreeCollectionManager();
-              if (collectionManager != null) collectionManager.clearChangedIds();
-            }
-            exception = t;
-          } catch (Throwable err) {
-            sendShutdown();
-            if (connection != null) {
-              connection.release();
-            }
-            throw err;
-          }
-        }
-        if (exception != null) {
-          // TODO: Replace this with build error response
-          try {
-            okSent = true;
-            sendError(connection, clientTxId, exception);
-          } catch (IOException e) {
-            OLogManager.instance()
-                .debug(
-                    this, "I/O Error on client clientId=%d reqType=%d", clientTxId, requestType, e);
-            sendShutdown();
-          } finally {
-            afterOperationRequest(connection);
-          }
-        } else {
-          try {
-            if (response != null) {
-              beginResponse();
-              try {
-                sendOk(connection, clientTxId);
-                response.write(
-                    channel,
-                    connection.getData().protocolVersion,
-                    connection.getData().getSerializer());
-              } finally {
-                endResponse();
-              }
-            }
-          } catch (OInvalidBinaryChunkException e) {
-            OLogManager.instance()
-                .warn(
-                    this, "I/O Error on client clientId=%d reqType=%d", clientTxId, requestType, e);
-            sendShutdown();
-          } catch (IOException e) {
-            OLogManager.instance()
-                .debug(
-                    this, "I/O Error on client clientId=%d reqType=%d", clientTxId, requestType, e);
-            sendShutdown();
-          } catch (Exception | Error e) {
-            OLogManager.instance().error(this, "Error while binary response serialization", e);
-            sendShutdown();
-            throw e;
-          } finally {
-            afterOperationRequest(connection);
-          }
-        }
-        if (connection != null) tokenConnection = Boolean.TRUE.equals(connection.getTokenBased());
+        executeRequest(connection, request, requestType, requestId, clientTxId, exception);
       } else {
         OLogManager.instance().error(this, "Request not supported. Code: " + requestType, null);
         handleConnectionError(
@@ -437,6 +428,185 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     }
   }
 
+  /**
+   * Executes a request read from the channel and sends the response, or the error raised on reading
+   * or executing it
+   */
+  private void executeRequest(
+      OClientConnection connection,
+      OBinaryRequest<? extends OBinaryResponse> request,
+      int requestType,
+      int requestId,
+      int clientTxId,
+      Exception exception) {
+    if (connection == null && requestType == OChannelBinaryProtocol.REQUEST_DB_CLOSE) {
+      // Backward compatible with old clients
+      return;
+    }
+
+    OBinaryResponse response = null;
+    if (exception == null) {
+      try {
+        if (request.requireServerUser()) {
+          checkServerAccess(request.requiredServerRole(), connection);
+        }
+
+        if (connection == null) throw new ODatabaseException("Required session");
+
+        if (request.requireDatabaseSession()) {
+          if (connection.getDatabase() == null)
+            throw new ODatabaseException("Required database session");
+        }
+        response = request.execute(connection.getExecutor());
+      } catch (RuntimeException t) {
+        // This should be moved in the execution of the command that manipulate data
+        if (connection != null && connection.getDatabase() != null) {
+          final OSBTreeCollectionManager collectionManager =
+              connection.getDatabase().getSbTreeCollectionManager();
+          if (collectionManager != null) collectionManager.clearChangedIds();
+        }
+        exception = t;
+      } catch (Throwable err) {
+        sendShutdown();
+        if (connection != null) {
+          connection.release();
+        }
+        throw err;
+      }
+    }
+    if (exception != null) {
+      // TODO: Replace this with build error response
+      try {
+        okSent = true;
+        sendError(connection, requestType, requestId, clientTxId, exception);
+      } catch (IOException e) {
+        OLogManager.instance()
+            .debug(this, "I/O Error on client clientId=%d reqType=%d", clientTxId, requestType, e);
+        sendShutdown();
+      } finally {
+        afterOperationRequest(connection, requestType);
+      }
+    } else {
+      try {
+        if (response != null) {
+          beginResponse();
+          try {
+            sendOk(connection, requestType, requestId, clientTxId);
+            response.write(
+                channel,
+                connection.getData().protocolVersion,
+                connection.getData().getSerializer());
+          } finally {
+            endResponse();
+          }
+        }
+      } catch (OInvalidBinaryChunkException e) {
+        OLogManager.instance()
+            .warn(this, "I/O Error on client clientId=%d reqType=%d", clientTxId, requestType, e);
+        sendShutdown();
+      } catch (IOException e) {
+        OLogManager.instance()
+            .debug(this, "I/O Error on client clientId=%d reqType=%d", clientTxId, requestType, e);
+        sendShutdown();
+      } catch (Exception | Error e) {
+        OLogManager.instance().error(this, "Error while binary response serialization", e);
+        sendShutdown();
+        throw e;
+      } finally {
+        afterOperationRequest(connection, requestType);
+      }
+    }
+    if (connection != null) tokenConnection = Boolean.TRUE.equals(connection.getTokenBased());
+  }
+
+  /**
+   * Reads a request received on a multiplexed connection and queues its execution on the request
+   * workers of the server. The requests of the same session are executed in the order they are
+   * received, the requests of different sessions are executed concurrently and answered in any
+   * order.
+   */
+  private void multiplexedRequest(
+      OClientConnection connection, int requestType, int requestId, int clientTxId)
+      throws IOException {
+    OBinaryRequest<? extends OBinaryResponse> request = factory.apply(requestType);
+    if (request == null) {
+      OLogManager.instance().error(this, "Request not supported. Code: " + requestType, null);
+      handleConnectionError(
+          connection, new ONetworkProtocolException("Request not supported. Code: " + requestType));
+      sendShutdown();
+      return;
+    }
+
+    byte[] tokenBytes = channel.readBytes();
+    try {
+      int protocolVersion = OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION;
+      ORecordSerializer serializer =
+          ORecordSerializerNetworkFactory.INSTANCE.forProtocol(protocolVersion);
+      if (connection != null) {
+        protocolVersion = connection.getData().protocolVersion;
+        serializer = connection.getData().getSerializer();
+      }
+      request.read(channel, protocolVersion, serializer);
+    } catch (IOException e) {
+      OLogManager.instance()
+          .debug(this, "I/O Error on client clientId=%d reqType=%d", clientTxId, requestType, e);
+      sendShutdown();
+      return;
+    } catch (Throwable e) {
+      OLogManager.instance().error(this, "Error reading request", e);
+      sendShutdown();
+      return;
+    }
+
+    Runnable task =
+        () -> {
+          long timer = Orient.instance().getProfiler().startChrono();
+          try {
+            OClientConnection requestConnection = connection;
+            Exception exception = null;
+            try {
+              requestConnection =
+                  onBeforeOperationalRequest(requestConnection, tokenBytes, requestType);
+              if (requestConnection != null) {
+                requestConnection.getData().commandInfo = request.getDescription();
+                requestConnection.setProtocol(this);
+              }
+            } catch (RuntimeException ex) {
+              exception = ex;
+            }
+            executeRequest(
+                requestConnection, request, requestType, requestId, clientTxId, exception);
+          } catch (Throwable t) {
+            OLogManager.instance()
+                .error(this, "Error executing request %d of session %d", t, requestId, clientTxId);
+          } finally {
+            Orient.instance()
+                .getProfiler()
+                .stopChrono(
+                    "server.network.requests",
+                    "Total received requests",
+                    timer,
+                    "server.network.requests");
+            OSerializationThreadLocal.INSTANCE.get().clear();
+          }
+        };
+
+    ExecutorService workers = server.getRequestWorkers();
+    CompletableFuture<Void> queued =
+        sessionRequests.compute(
+            clientTxId,
+            (session, previous) ->
+                previous == null
+                    ? CompletableFuture.runAsync(task, workers)
+                    : previous.handleAsync(
+                        (result, error) -> {
+                          task.run();
+                          return null;
+                        },
+                        workers));
+    queued.whenComplete((result, error) -> sessionRequests.remove(clientTxId, queued));
+  }
+
   private OClientConnection onBeforeHandshakeRequest(
       OClientConnection connection, byte[] tokenBytes) {
     try {
@@ -503,7 +673,7 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
             break;
         }
       } finally {
-        requests++;
+        requests.incrementAndGet();
         afterOperationRequest(connection);
       }
 
@@ -530,6 +700,11 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
 
   private OClientConnection onBeforeOperationalRequest(
       OClientConnection connection, byte[] tokenBytes) {
+    return onBeforeOperationalRequest(connection, tokenBytes, requestType);
+  }
+
+  private OClientConnection onBeforeOperationalRequest(
+      OClientConnection connection, byte[] tokenBytes, int requestType) {
     try {
       if (connection == null && requestType == OChannelBinaryProtocol.REQUEST_DB_CLOSE) return null;
 
@@ -590,7 +765,7 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   }
 
   private void waitDistribuedIsOnline(OClientConnection connection) {
-    if (requests == 0) {
+    if (requests.get() == 0) {
       final ODistributedServerManager manager = server.getDistributedManager();
       if (manager != null && connection.hasDatabase())
         try {
@@ -610,7 +785,11 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   }
 
   protected void afterOperationRequest(OClientConnection connection) {
-    requests++;
+    afterOperationRequest(connection, requestType);
+  }
+
+  protected void afterOperationRequest(OClientConnection connection, int requestType) {
+    requests.incrementAndGet();
     OServerPluginHelper.invokeHandlerCallbackOnAfterClientRequest(
         server, connection, (byte) requestType);
 
@@ -711,10 +890,23 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   protected void sendError(
       final OClientConnection connection, final int iClientTxId, final Throwable t)
       throws IOException {
+    sendError(connection, requestType, requestId, iClientTxId, t);
+  }
+
+  protected void sendError(
+      final OClientConnection connection,
+      final int requestType,
+      final int requestId,
+      final int iClientTxId,
+      final Throwable t)
+      throws IOException {
     channel.acquireWriteLock();
     try {
 
       channel.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_ERROR);
+      if (isMultiplexed()) {
+        channel.writeInt(requestId);
+      }
       channel.writeInt(iClientTxId);
       if (handshakeInfo != null) {
         byte[] renewedToken = null;
@@ -847,7 +1039,19 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   }
 
   protected void sendOk(OClientConnection connection, final int iClientTxId) throws IOException {
+    sendOk(connection, requestType, requestId, iClientTxId);
+  }
+
+  protected void sendOk(
+      OClientConnection connection,
+      final int requestType,
+      final int requestId,
+      final int iClientTxId)
+      throws IOException {
     channel.writeByte(OChannelBinaryProtocol.RESPONSE_STATUS_OK);
+    if (isMultiplexed()) {
+      channel.writeInt(requestId);
+    }
     channel.writeInt(iClientTxId);
     okSent = true;
     if (handshakeInfo != null) {
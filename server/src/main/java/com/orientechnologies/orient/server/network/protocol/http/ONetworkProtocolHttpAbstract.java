@@ -168,7 +168,7 @@ public abstract class ONetworkProtocolHttpAbstract extends ONetworkProtocol
 
     OServerPluginHelper.invokeHandlerCallbackOnSocketAccepted(server, this);
 
-    start();
+    startServing(iListener, iSocket);
   }
 
   public void service() throws ONetworkProtocolException, IOException {
@@ -920,6 +920,16 @@ public abstract class ONetworkProtocolHttpAbstract extends ONetworkProtocol
     sendShutdown();
   }
 
+  @Override
+  public int getIdleTimeout() {
+    return socketTimeout;
+  }
+
+  @Override
+  public void onIdleTimeout() {
+    timeout();
+  }
+
   protected void connectionError() {
     Orient.instance()
         .getProfiler()
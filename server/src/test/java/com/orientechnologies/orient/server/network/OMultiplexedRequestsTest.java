@@ -0,0 +1,91 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.AbstractRemoteTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OMultiplexedRequestsTest extends AbstractRemoteTest {
+  private static final int SESSIONS = 8;
+  private static final int RECORDS = 50;
+
+  @Test
+  public void testConcurrentSessions() throws Exception {
+    runSessions(name.getMethodName());
+  }
+
+  @Test
+  public void testServerNotMultiplexing() throws Exception {
+    final boolean multiplexing =
+        OGlobalConfiguration.NETWORK_BINARY_MULTIPLEXING.getValueAsBoolean();
+    OGlobalConfiguration.NETWORK_BINARY_MULTIPLEXING.setValue(false);
+    try {
+      runSessions(name.getMethodName());
+    } finally {
+      OGlobalConfiguration.NETWORK_BINARY_MULTIPLEXING.setValue(multiplexing);
+    }
+  }
+
+  private void runSessions(String dbName) throws Exception {
+    OrientDB orientDB =
+        new OrientDB(
+            "remote:localhost",
+            "root",
+            "root",
+            OrientDBConfig.builder()
+                .addConfig(OGlobalConfiguration.CLIENT_CHANNEL_MULTIPLEXING, true)
+                .build());
+    ExecutorService executor = Executors.newFixedThreadPool(SESSIONS);
+    try {
+      try (ODatabaseSession session = orientDB.open(dbName, "admin", "admin")) {
+        session.createClass("Item");
+      }
+
+      List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < SESSIONS; i++) {
+        final int owner = i;
+        futures.add(
+            executor.submit(
+                () -> {
+                  try (ODatabaseSession session = orientDB.open(dbName, "admin", "admin")) {
+                    for (int j = 0; j < RECORDS; j++) {
+                      OElement item = session.newElement("Item");
+                      item.setProperty("owner", owner);
+                      item.setProperty("value", j);
+                      session.save(item);
+
+                      // EACH SESSION MUST READ ITS OWN RESPONSES, WHATEVER THE ORDER THEY ARRIVE
+                      try (OResultSet rs =
+                          session.query(
+                              "select count(*) as count from Item where owner = ?", owner)) {
+                        Assert.assertEquals(j + 1L, (long) rs.next().getProperty("count"));
+                      }
+                    }
+                  }
+                  return null;
+                }));
+      }
+      for (Future<Void> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+
+      try (ODatabaseSession session = orientDB.open(dbName, "admin", "admin")) {
+        Assert.assertEquals(SESSIONS * RECORDS, session.countClass("Item"));
+      }
+    } finally {
+      executor.shutdownNow();
+      orientDB.close();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.AbstractRemoteTest;
+import com.orientechnologies.orient.server.OServerMain;
+import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
+import com.orientechnologies.orient.server.network.protocol.http.ONetworkProtocolHttpDb;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Serves the binary and the HTTP listeners of the server with event loops. */
+public class ONetworkEventLoopRemoteTest extends AbstractRemoteTest {
+  private static final int SOCKET_TIMEOUT = 2_000;
+
+  private boolean eventLoop;
+  private int socketTimeout;
+
+  @Before
+  @Override
+  public void setup() throws Exception {
+    eventLoop = OGlobalConfiguration.NETWORK_EVENT_LOOP.getValueAsBoolean();
+    socketTimeout = OGlobalConfiguration.NETWORK_SOCKET_TIMEOUT.getValueAsInteger();
+    OGlobalConfiguration.NETWORK_EVENT_LOOP.setValue(true);
+    OGlobalConfiguration.NETWORK_SOCKET_TIMEOUT.setValue(SOCKET_TIMEOUT);
+    super.setup();
+  }
+
+  @After
+  @Override
+  public void teardown() {
+    try {
+      super.teardown();
+    } finally {
+      OGlobalConfiguration.NETWORK_EVENT_LOOP.setValue(eventLoop);
+      OGlobalConfiguration.NETWORK_SOCKET_TIMEOUT.setValue(socketTimeout);
+    }
+  }
+
+  @Test
+  public void testBinaryRequests() {
+    Assert.assertNotNull(listener(ONetworkProtocolBinary.class).getEventLoop());
+
+    OrientDB orientDB =
+        new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    try {
+      try (ODatabaseSession session = orientDB.open(name.getMethodName(), "admin", "admin")) {
+        session.createClass("Item");
+        for (int i = 0; i < 100; i++) {
+          OElement item = session.newElement("Item");
+          item.setProperty("value", i);
+          session.save(item);
+        }
+      }
+      // A SECOND CONNECTION IS SERVED BY THE SAME LOOP
+      try (ODatabaseSession session = orientDB.open(name.getMethodName(), "admin", "admin");
+          OResultSet rs = session.query("select count(*) as count from Item")) {
+        Assert.assertEquals(100L, (long) rs.next().getProperty("count"));
+      }
+    } finally {
+      orientDB.close();
+    }
+  }
+
+  @Test
+  public void testHttpKeepAlive() throws IOException {
+    final OServerNetworkListener listener = listener(ONetworkProtocolHttpDb.class);
+    Assert.assertNotNull(listener.getEventLoop());
+
+    try (Socket socket = new Socket("127.0.0.1", listener.getInboundAddr().getPort())) {
+      socket.setSoTimeout(10_000);
+      final OutputStream out = socket.getOutputStream();
+      final DataInputStream in = new DataInputStream(socket.getInputStream());
+
+      // THE REQUESTS OF THE SAME CONNECTION ARE EXECUTED ONE AFTER THE OTHER
+      for (int i = 0; i < 3; i++) {
+        out.write(
+            "GET /server/version HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        Assert.assertTrue(readResponse(in).startsWith("HTTP/1.1 200"));
+      }
+
+      // THE IDLE CONNECTION IS CLOSED AFTER THE SOCKET TIMEOUT
+      final long start = System.currentTimeMillis();
+      Assert.assertEquals(-1, in.read());
+      Assert.assertTrue(System.currentTimeMillis() - start >= SOCKET_TIMEOUT / 2);
+    }
+  }
+
+  private static OServerNetworkListener listener(
+      final Class<? extends ONetworkProtocol> protocolClass) {
+    return OServerMain.server().getListenerByProtocol(protocolClass);
+  }
+
+  /** @return the headers of the response, its content is read and discarded */
+  private static String readResponse(final DataInputStream in) throws IOException {
+    final StringBuilder headers = new StringBuilder();
+    int contentLength = 0;
+    String line;
+    while (!(line = readLine(in)).isEmpty()) {
+      headers.append(line).append('\n');
+      if (line.toLowerCase().startsWith("content-length:"))
+        contentLength = Integer.parseInt(line.substring("content-length:".length()).trim());
+    }
+    in.readFully(new byte[contentLength]);
+    return headers.toString();
+  }
+
+  private static String readLine(final InputStream in) throws IOException {
+    final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = in.read()) != '\n') {
+      if (b == -1) throw new IOException("Connection closed");
+      if (b != '\r') line.write(b);
+    }
+    return new String(line.toByteArray(), StandardCharsets.US_ASCII);
+  }
+}
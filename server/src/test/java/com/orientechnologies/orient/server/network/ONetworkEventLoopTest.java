@@ -0,0 +1,249 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
+import com.orientechnologies.orient.client.binary.OBinaryRequestExecutor;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.enterprise.channel.OChannel;
+import com.orientechnologies.orient.enterprise.channel.OSocketChannelOutputStream;
+import com.orientechnologies.orient.server.OClientConnection;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Serves connections of a protocol that answers each request byte with the next byte, on a loop
+ * with a single worker.
+ */
+public class ONetworkEventLoopTest {
+  private ServerSocketChannel serverChannel;
+  private ExecutorService workers;
+  private ExecutorService executor;
+  private ONetworkEventLoop eventLoop;
+  private final List<Socket> clients = new ArrayList<>();
+  private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+  @Before
+  public void before() throws IOException {
+    serverChannel = ServerSocketChannel.open();
+    serverChannel.bind(new InetSocketAddress("127.0.0.1", 0));
+    // THE SAME KIND OF POOL OF THE SERVER: IT REFUSES THE REQUESTS WHEN ITS WORKER IS BUSY
+    workers =
+        OThreadPoolExecutors.newCachedThreadPool(
+            "ONetworkEventLoopTest worker", Thread.currentThread().getThreadGroup(), 1, 0);
+    executor = Executors.newCachedThreadPool();
+    eventLoop =
+        new ONetworkEventLoop(
+            Thread.currentThread().getThreadGroup(), "ONetworkEventLoopTest", workers);
+    eventLoop.start();
+  }
+
+  @After
+  public void after() throws Exception {
+    eventLoop.shutdown();
+    eventLoop.join(10_000);
+    for (Socket client : clients) client.close();
+    executor.shutdownNow();
+    workers.shutdownNow();
+    workers.awaitTermination(10, TimeUnit.SECONDS);
+    serverChannel.close();
+  }
+
+  @Test
+  public void testRequestsAreExecutedByWorkers() throws Exception {
+    final Socket client = connect(new OEchoProtocol("a", 0));
+
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(i + 1, request(client, i));
+    }
+    Assert.assertEquals(10, executed.size());
+  }
+
+  @Test
+  public void testSaturatedWorkersAdmitConnectionsInOrder() throws Exception {
+    final OEchoProtocol busy = new OEchoProtocol("a", 0);
+    busy.blocked = new CountDownLatch(1);
+    final Socket first = connect(busy);
+    final Socket[] next = {
+      connect(new OEchoProtocol("b", 0)),
+      connect(new OEchoProtocol("c", 0)),
+      connect(new OEchoProtocol("d", 0))
+    };
+
+    first.getOutputStream().write(0);
+    waitFor(() -> executed.size() == 1);
+
+    // THE ONLY WORKER IS BUSY: THE REQUESTS WAIT IN THE LOOP IN THE ORDER THEY ARE RECEIVED
+    for (Socket client : next) {
+      client.getOutputStream().write(0);
+      Thread.sleep(100);
+    }
+    Assert.assertEquals(Collections.singletonList("a"), executed);
+
+    busy.blocked.countDown();
+    Assert.assertEquals(1, first.getInputStream().read());
+    for (Socket client : next) {
+      Assert.assertEquals(1, client.getInputStream().read());
+    }
+    Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), executed);
+  }
+
+  @Test
+  public void testIdleConnectionIsClosed() throws Exception {
+    final OEchoProtocol protocol = new OEchoProtocol("a", 200);
+    final Socket client = connect(protocol);
+    final Socket active = connect(new OEchoProtocol("b", 0));
+
+    Assert.assertEquals(1, request(client, 0));
+    Assert.assertEquals(-1, client.getInputStream().read());
+    Assert.assertTrue(protocol.idleTimedOut);
+
+    // CONNECTIONS WITHOUT TIMEOUT ARE KEPT OPEN
+    Assert.assertEquals(1, request(active, 0));
+  }
+
+  @Test
+  public void testPushToIdleConnection() throws Exception {
+    final OEchoProtocol protocol = new OEchoProtocol("a", 0);
+    final Socket client = connect(protocol);
+    Assert.assertEquals(1, request(client, 0));
+    waitFor(() -> !protocol.channel.isBlocking());
+
+    // MORE THAN THE SOCKET BUFFERS, SO THAT SOME WRITES OF THE NON-BLOCKING CHANNEL ARE PARTIAL
+    final byte[] message = new byte[4 * 1024 * 1024];
+    for (int i = 0; i < message.length; i++) message[i] = (byte) i;
+    final Future<?> push =
+        executor.submit(
+            () -> {
+              final OutputStream out = new OSocketChannelOutputStream(protocol.channel);
+              out.write(message);
+              return null;
+            });
+
+    final byte[] received = new byte[message.length];
+    new DataInputStream(client.getInputStream()).readFully(received);
+    push.get(10, TimeUnit.SECONDS);
+    Assert.assertArrayEquals(message, received);
+
+    // THE CONNECTION IS STILL SERVED BY THE LOOP
+    Assert.assertEquals(2, request(client, 1));
+  }
+
+  private Socket connect(final OEchoProtocol protocol) throws IOException {
+    final Socket client = new Socket("127.0.0.1", serverChannel.socket().getLocalPort());
+    client.setSoTimeout(10_000);
+    clients.add(client);
+    protocol.channel = serverChannel.accept();
+    eventLoop.register(protocol, protocol.channel);
+    return client;
+  }
+
+  private static int request(final Socket client, final int request) throws IOException {
+    client.getOutputStream().write(request);
+    return client.getInputStream().read();
+  }
+
+  private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+    final long timeout = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean()) {
+      Assert.assertTrue(System.currentTimeMillis() < timeout);
+      Thread.sleep(10);
+    }
+  }
+
+  private class OEchoProtocol extends ONetworkProtocol {
+    private final String id;
+    private final int idleTimeout;
+    private volatile SocketChannel channel;
+    private volatile CountDownLatch blocked;
+    private volatile boolean idleTimedOut;
+
+    private OEchoProtocol(final String id, final int idleTimeout) {
+      super(Thread.currentThread().getThreadGroup(), "OEchoProtocol " + id);
+      this.id = id;
+      this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    protected void execute() throws Exception {
+      final ByteBuffer buffer = ByteBuffer.allocate(1);
+      if (channel.read(buffer) < 0) {
+        sendShutdown();
+        return;
+      }
+      executed.add(id);
+      if (blocked != null) blocked.await();
+
+      buffer.put(0, (byte) (buffer.get(0) + 1));
+      buffer.flip();
+      channel.write(buffer);
+    }
+
+    @Override
+    public void shutdown() {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // IGNORE IT
+      }
+    }
+
+    @Override
+    public int getIdleTimeout() {
+      return idleTimeout;
+    }
+
+    @Override
+    public void onIdleTimeout() {
+      idleTimedOut = true;
+      super.onIdleTimeout();
+    }
+
+    @Override
+    public void config(
+        final OServerNetworkListener iListener,
+        final OServer iServer,
+        final Socket iSocket,
+        final OContextConfiguration iConfiguration) {}
+
+    @Override
+    public String getType() {
+      return "echo";
+    }
+
+    @Override
+    public int getVersion() {
+      return 0;
+    }
+
+    @Override
+    public OChannel getChannel() {
+      return null;
+    }
+
+    @Override
+    public OBinaryRequestExecutor executor(final OClientConnection connection) {
+      return null;
+    }
+  }
+}
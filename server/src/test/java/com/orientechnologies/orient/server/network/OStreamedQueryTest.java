@@ -0,0 +1,109 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+import com.orientechnologies.orient.server.AbstractRemoteTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OStreamedQueryTest extends AbstractRemoteTest {
+  private static final int RECORDS = 100;
+
+  private OrientDB orientDB;
+  private ODatabaseSession session;
+  private int pageSize;
+  private boolean streaming;
+
+  @Before
+  public void before() {
+    pageSize = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.getValueAsInteger();
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.setValue(10);
+    streaming = OGlobalConfiguration.QUERY_REMOTE_RESULTSET_STREAMING.getValueAsBoolean();
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_STREAMING.setValue(true);
+    OSQLEngine.getInstance().registerFunction("failAt", new OSQLFunctionFailAt());
+
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    session = orientDB.open(name.getMethodName(), "admin", "admin");
+    // ONE CLUSTER: THE RESULTS ARE SCANNED IN INSERTION ORDER, WITHOUT COLLECTING THEM TO SORT
+    session.command("create class Item clusters 1").close();
+    for (int i = 0; i < RECORDS; i++) {
+      OElement item = session.newElement("Item");
+      item.setProperty("value", i);
+      session.save(item);
+    }
+  }
+
+  @After
+  public void after() {
+    session.close();
+    orientDB.close();
+    OSQLEngine.getInstance().unregisterFunction("failAt");
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_PAGE_SIZE.setValue(pageSize);
+    OGlobalConfiguration.QUERY_REMOTE_RESULTSET_STREAMING.setValue(streaming);
+  }
+
+  @Test
+  public void testAllPages() {
+    int count = 0;
+    try (OResultSet rs = session.query("select from Item")) {
+      while (rs.hasNext()) {
+        Assert.assertEquals(count, (int) rs.next().getProperty("value"));
+        count++;
+      }
+    }
+    Assert.assertEquals(RECORDS, count);
+  }
+
+  @Test
+  public void testErrorAfterFirstPage() {
+    int count = 0;
+    try (OResultSet rs = session.query("select from Item where failAt(value, 50)")) {
+      while (rs.hasNext()) {
+        rs.next();
+        count++;
+      }
+      Assert.fail();
+    } catch (OCommandExecutionException e) {
+      // THE ORIGINAL EXCEPTION IS SENT AS AN ERROR RESPONSE
+      Assert.assertTrue(e.getMessage().contains("failed at 50"));
+    }
+    // THE FIRST PAGES ARE RECEIVED BEFORE THE ERROR
+    Assert.assertTrue(count >= 10 && count < 50);
+  }
+
+  /** Fails when its first parameter is equal to the second one, true otherwise. */
+  private static class OSQLFunctionFailAt extends OSQLFunctionAbstract {
+    OSQLFunctionFailAt() {
+      super("failAt", 2, 2);
+    }
+
+    @Override
+    public Object execute(
+        Object iThis,
+        OIdentifiable iCurrentRecord,
+        Object iCurrentResult,
+        Object[] iParams,
+        OCommandContext iContext) {
+      if (iParams[0].equals(iParams[1])) {
+        throw new OCommandExecutionException("failed at " + iParams[1]);
+      }
+      return true;
+    }
+
+    @Override
+    public String getSyntax() {
+      return "failAt(<value>, <failing value>)";
+    }
+  }
+}